@@ -1,6 +1,7 @@
 package com.seffafbagis.api.annotation;
 
 import com.seffafbagis.api.enums.AuditAction;
+import com.seffafbagis.api.enums.AuditDurability;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -24,4 +25,10 @@ public @interface Auditable {
      * Optional if it can be inferred or is generic.
      */
     String entityType() default "";
+
+    /**
+     * Whether the entry is saved with the method's transaction or queued for
+     * the background writer.
+     */
+    AuditDurability durability() default AuditDurability.SYNC;
 }
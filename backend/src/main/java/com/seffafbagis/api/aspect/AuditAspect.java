@@ -2,6 +2,7 @@ package com.seffafbagis.api.aspect;
 
 import com.seffafbagis.api.annotation.Auditable;
 import com.seffafbagis.api.enums.AuditAction;
+import com.seffafbagis.api.enums.AuditDurability;
 import com.seffafbagis.api.security.SecurityUtils;
 import com.seffafbagis.api.service.audit.AuditLogService;
 import lombok.RequiredArgsConstructor;
@@ -37,6 +38,7 @@ public class AuditAspect {
         Object result = null;
         Object oldValues = null; // Could try to fetch before proceed if needed
         AuditAction action = null;
+        AuditDurability durability = AuditDurability.SYNC;
         String entityType = null;
         UUID entityId = null;
         UUID userId = null;
@@ -49,6 +51,7 @@ public class AuditAspect {
             if (auditable != null) {
                 action = auditable.action();
                 entityType = auditable.entityType();
+                durability = auditable.durability();
             }
 
             // Get current user
@@ -88,7 +91,7 @@ public class AuditAspect {
             }
 
             if (action != null) {
-                auditLogService.log(action, userId, entityType, entityId, oldValues, result);
+                auditLogService.log(action, userId, entityType, entityId, oldValues, result, durability);
             }
 
             return result;
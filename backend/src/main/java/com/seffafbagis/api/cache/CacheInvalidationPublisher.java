@@ -0,0 +1,57 @@
+package com.seffafbagis.api.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.UUID;
+
+/**
+ * Broadcasts local cache invalidations to the other nodes over Redis pub/sub.
+ *
+ * Message format: {@code nodeId|cacheName|key}. A key of {@code *} clears the
+ * whole cache. Nodes ignore their own messages.
+ */
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL = "cache:invalidation";
+    static final String CLEAR_ALL = "*";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CacheInvalidationPublisher.class);
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+
+    public CacheInvalidationPublisher(RedisConnectionFactory connectionFactory) {
+        if (connectionFactory != null) {
+            this.redisTemplate = new StringRedisTemplate(connectionFactory);
+            this.redisTemplate.afterPropertiesSet();
+        } else {
+            this.redisTemplate = null;
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void publishEvict(String cacheName, String key) {
+        send(cacheName, key);
+    }
+
+    public void publishClear(String cacheName) {
+        send(cacheName, CLEAR_ALL);
+    }
+
+    private void send(String cacheName, String key) {
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + "|" + cacheName + "|" + key);
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Could not broadcast invalidation for cache {} and key {}: {}", cacheName, key, ex.getMessage());
+        }
+    }
+}
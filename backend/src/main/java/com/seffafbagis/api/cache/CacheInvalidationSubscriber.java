@@ -0,0 +1,38 @@
+package com.seffafbagis.api.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Applies invalidations broadcast by other nodes to the local L1 caches.
+ */
+public class CacheInvalidationSubscriber implements MessageListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CacheInvalidationSubscriber.class);
+
+    private final TwoLevelCacheManager cacheManager;
+    private final String nodeId;
+
+    public CacheInvalidationSubscriber(TwoLevelCacheManager cacheManager, String nodeId) {
+        this.cacheManager = cacheManager;
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\|", 3);
+        if (parts.length != 3) {
+            LOGGER.warn("Ignoring malformed cache invalidation message: {}", body);
+            return;
+        }
+        if (nodeId.equals(parts[0])) {
+            return;
+        }
+        cacheManager.evictLocal(parts[1], parts[2]);
+    }
+}
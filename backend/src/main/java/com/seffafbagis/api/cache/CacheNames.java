@@ -0,0 +1,26 @@
+package com.seffafbagis.api.cache;
+
+/**
+ * Names of the application caches.
+ * Public read caches back the anonymous GET endpoints of campaigns,
+ * organizations and categories. {@link #USER_AUTH} backs the JWT filter.
+ */
+public final class CacheNames {
+
+    public static final String CAMPAIGN_BY_SLUG = "campaignBySlug";
+    public static final String FEATURED_CAMPAIGNS = "featuredCampaigns";
+    public static final String URGENT_CAMPAIGNS = "urgentCampaigns";
+    public static final String ORGANIZATION_PUBLIC_DETAIL = "organizationPublicDetail";
+    public static final String FEATURED_ORGANIZATIONS = "featuredOrganizations";
+    public static final String ACTIVE_CATEGORIES = "activeCategories";
+    public static final String CATEGORY_TREE = "categoryTree";
+    public static final String USER_AUTH = "userAuth";
+
+    /**
+     * Key used by caches that hold a single list value.
+     */
+    public static final String ALL_KEY = "all";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,40 @@
+package com.seffafbagis.api.cache;
+
+import com.seffafbagis.api.repository.CampaignRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Evicts public campaign read caches when a campaign changes.
+ * Evictions are applied after the surrounding transaction commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class PublicCacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final CampaignRepository campaignRepository;
+
+    public void evictCampaign(UUID campaignId) {
+        evictCampaign(campaignRepository.findSlugById(campaignId).orElse(null));
+    }
+
+    public void evictCampaign(String slug) {
+        if (slug != null) {
+            evict(CacheNames.CAMPAIGN_BY_SLUG, slug);
+        }
+        evict(CacheNames.FEATURED_CAMPAIGNS, CacheNames.ALL_KEY);
+        evict(CacheNames.URGENT_CAMPAIGNS, CacheNames.ALL_KEY);
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.seffafbagis.api.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Read-through cache with a bounded per-node Caffeine L1 in front of a shared
+ * L2 (Redis).
+ *
+ * Reads hit L1 first, then L2 (promoting the value to L1), then the loader.
+ * Writes and evictions go to both tiers; evictions are also broadcast so the
+ * other nodes drop their L1 copy. L2 failures are logged and treated as a
+ * miss so a Redis outage only costs latency, not availability.
+ */
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TwoLevelCache.class);
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final Counter remoteErrors;
+
+    public TwoLevelCache(String name,
+            com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+            Cache remote,
+            CacheInvalidationPublisher invalidationPublisher,
+            MeterRegistry meterRegistry) {
+        super(false);
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidationPublisher = invalidationPublisher;
+        this.remoteHits = remoteCounter(meterRegistry, name, "hit");
+        this.remoteMisses = remoteCounter(meterRegistry, name, "miss");
+        this.remoteErrors = remoteCounter(meterRegistry, name, "error");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = toLocalKey(key);
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            return value;
+        }
+        if (remote == null) {
+            return null;
+        }
+        try {
+            ValueWrapper wrapper = remote.get(key);
+            if (wrapper != null && wrapper.get() != null) {
+                remoteHits.increment();
+                local.put(localKey, wrapper.get());
+                return wrapper.get();
+            }
+            remoteMisses.increment();
+        } catch (RuntimeException ex) {
+            remoteErrors.increment();
+            LOGGER.warn("L2 get error for cache {} and key {}: {}", name, key, ex.getMessage());
+        }
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object cached = lookup(key);
+        if (cached != null) {
+            return (T) fromStoreValue(cached);
+        }
+        return (T) local.get(toLocalKey(key), localKey -> {
+            T loaded;
+            try {
+                loaded = valueLoader.call();
+            } catch (Exception ex) {
+                throw new ValueRetrievalException(key, valueLoader, ex);
+            }
+            if (loaded != null) {
+                putRemote(key, loaded);
+            }
+            return loaded;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            return;
+        }
+        local.put(toLocalKey(key), value);
+        putRemote(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = toLocalKey(key);
+        local.invalidate(localKey);
+        if (remote != null) {
+            try {
+                remote.evict(key);
+            } catch (RuntimeException ex) {
+                remoteErrors.increment();
+                LOGGER.warn("L2 evict error for cache {} and key {}: {}", name, key, ex.getMessage());
+            }
+        }
+        invalidationPublisher.publishEvict(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+        local.invalidateAll();
+        if (remote != null) {
+            try {
+                remote.clear();
+            } catch (RuntimeException ex) {
+                remoteErrors.increment();
+                LOGGER.warn("L2 clear error for cache {}: {}", name, ex.getMessage());
+            }
+        }
+        invalidationPublisher.publishClear(name);
+    }
+
+    /**
+     * Drops an L1 entry only. Used when another node broadcasts an eviction.
+     */
+    public void evictLocal(String localKey) {
+        local.invalidate(localKey);
+    }
+
+    /**
+     * Drops all L1 entries only. Used when another node broadcasts a clear.
+     */
+    public void clearLocal() {
+        local.invalidateAll();
+    }
+
+    private void putRemote(Object key, Object value) {
+        if (remote == null) {
+            return;
+        }
+        try {
+            remote.put(key, value);
+        } catch (RuntimeException ex) {
+            remoteErrors.increment();
+            LOGGER.warn("L2 put error for cache {} and key {}: {}", name, key, ex.getMessage());
+        }
+    }
+
+    /**
+     * L1 keys are normalized to strings so that cross-node invalidation messages
+     * address the same entry regardless of the original key type.
+     */
+    static String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private static Counter remoteCounter(MeterRegistry meterRegistry, String cacheName, String result) {
+        return Counter.builder("cache.l2.gets")
+                .description("Remote (L2) cache lookups after an L1 miss")
+                .tag("cache", cacheName)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
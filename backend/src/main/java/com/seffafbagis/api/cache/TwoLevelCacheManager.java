@@ -0,0 +1,83 @@
+package com.seffafbagis.api.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache manager that composes a per-node Caffeine L1 with a shared remote L2.
+ *
+ * Caches are created on first use. When no remote manager is available (Redis
+ * unreachable at startup) the caches run on L1 only.
+ * Puts and evictions are deferred until after commit when called inside a
+ * transaction, so readers never see values that were rolled back.
+ */
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager {
+
+    private final CacheManager remoteCacheManager;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final MeterRegistry meterRegistry;
+    private final long localMaxSize;
+    private final Duration localTtl;
+
+    private final Map<String, TwoLevelCache> twoLevelCaches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+            CacheInvalidationPublisher invalidationPublisher,
+            MeterRegistry meterRegistry,
+            long localMaxSize,
+            Duration localTtl) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.invalidationPublisher = invalidationPublisher;
+        this.meterRegistry = meterRegistry;
+        this.localMaxSize = localMaxSize;
+        this.localTtl = localTtl;
+        setTransactionAware(true);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return twoLevelCaches.computeIfAbsent(name, this::createCache);
+    }
+
+    /**
+     * Drops an L1 entry after a remote node broadcast an eviction.
+     */
+    public void evictLocal(String cacheName, String localKey) {
+        TwoLevelCache cache = twoLevelCaches.get(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (CacheInvalidationPublisher.CLEAR_ALL.equals(localKey)) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(localKey);
+        }
+    }
+
+    private TwoLevelCache createCache(String name) {
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name);
+
+        Cache remote = remoteCacheManager != null ? remoteCacheManager.getCache(name) : null;
+        return new TwoLevelCache(name, local, remote, invalidationPublisher, meterRegistry);
+    }
+}
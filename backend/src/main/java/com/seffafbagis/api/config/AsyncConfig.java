@@ -1,5 +1,6 @@
 package com.seffafbagis.api.config;
 
+import com.seffafbagis.api.service.audit.AuditContext;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.context.annotation.Configuration;
@@ -28,6 +29,8 @@ public class AsyncConfig implements AsyncConfigurer {
         executor.setQueueCapacity(100);
         executor.setThreadNamePrefix("EventAsync-");
         executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        // Audit entries written from @Async listeners keep the originating request's IP, user agent and id
+        executor.setTaskDecorator(AuditContext::wrap);
         executor.initialize();
         return executor;
     }
@@ -7,10 +7,17 @@ import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import com.seffafbagis.api.cache.CacheInvalidationPublisher;
+import com.seffafbagis.api.cache.CacheInvalidationSubscriber;
+import com.seffafbagis.api.cache.CacheNames;
+import com.seffafbagis.api.cache.TwoLevelCacheManager;
+import com.seffafbagis.api.service.notification.NotificationCounterService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.CacheManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.cache.interceptor.CacheErrorHandler;
 import org.springframework.cache.interceptor.SimpleCacheErrorHandler;
 import org.springframework.context.annotation.Bean;
@@ -21,11 +28,15 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Central Redis configuration for caching and distributed data structures.
@@ -37,21 +48,33 @@ public class RedisConfig {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RedisConfig.class);
     private static final Duration DEFAULT_CACHE_TTL = Duration.ofHours(1);
+    private static final Duration PUBLIC_CACHE_TTL = Duration.ofMinutes(5);
+    private static final Duration CATEGORY_CACHE_TTL = Duration.ofHours(1);
+    private static final Duration USER_AUTH_CACHE_TTL = Duration.ofMinutes(1);
 
     private final String redisHost;
     private final int redisPort;
     private final String redisPassword;
     private final int redisDatabase;
+    private final String cacheType;
+    private final long localCacheMaxSize;
+    private final long localCacheTtlSeconds;
 
     public RedisConfig(
             @Value("${spring.data.redis.host:localhost}") String redisHost,
             @Value("${spring.data.redis.port:6379}") int redisPort,
             @Value("${spring.data.redis.password:}") String redisPassword,
-            @Value("${spring.data.redis.database:0}") int redisDatabase) {
+            @Value("${spring.data.redis.database:0}") int redisDatabase,
+            @Value("${spring.cache.type:redis}") String cacheType,
+            @Value("${app.cache.local-max-size:1000}") long localCacheMaxSize,
+            @Value("${app.cache.local-ttl-seconds:30}") long localCacheTtlSeconds) {
         this.redisHost = redisHost;
         this.redisPort = redisPort;
         this.redisPassword = redisPassword;
         this.redisDatabase = redisDatabase;
+        this.cacheType = cacheType;
+        this.localCacheMaxSize = localCacheMaxSize;
+        this.localCacheTtlSeconds = localCacheTtlSeconds;
     }
 
     /**
@@ -88,27 +111,67 @@ public class RedisConfig {
         return template;
     }
 
+    /**
+     * Publishes L1 invalidations to the other nodes. Disabled when Redis is not the cache store.
+     */
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(RedisConnectionFactory connectionFactory) {
+        return new CacheInvalidationPublisher(isRedisCache() ? connectionFactory : null);
+    }
+
     /**
      * Builds the cache manager used by Spring's {@code @Cacheable} abstraction.
-     * If Redis is unreachable we fall back to an in-memory cache and log a warning instead of failing startup.
+     * Each cache has a per-node Caffeine L1 in front of Redis. If Redis is unreachable
+     * we fall back to the L1 tier only and log a warning instead of failing startup.
      */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        try {
-            RedisCacheConfiguration cacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
-                    .entryTtl(DEFAULT_CACHE_TTL)
-                    .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                    .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(createJsonSerializer()))
-                    .disableCachingNullValues();
-
-            return RedisCacheManager.builder(connectionFactory)
-                    .cacheDefaults(cacheConfiguration)
-                    .transactionAware()
-                    .build();
-        } catch (Exception ex) {
-            LOGGER.warn("Redis cache manager initialization failed, falling back to ConcurrentMapCacheManager: {}", ex.getMessage());
-            return new ConcurrentMapCacheManager();
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+            CacheInvalidationPublisher cacheInvalidationPublisher,
+            ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        RedisCacheManager remoteCacheManager = null;
+        if (isRedisCache()) {
+            try {
+                remoteCacheManager = createRedisCacheManager(connectionFactory);
+            } catch (Exception ex) {
+                LOGGER.warn("Redis cache manager initialization failed, falling back to local cache only: {}", ex.getMessage());
+            }
         }
+        return new TwoLevelCacheManager(
+                remoteCacheManager,
+                cacheInvalidationPublisher,
+                meterRegistry,
+                localCacheMaxSize,
+                Duration.ofSeconds(localCacheTtlSeconds));
+    }
+
+    /**
+     * Subscribes to invalidations from other nodes so their writes evict our L1 entries.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis", matchIfMissing = true)
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+            TwoLevelCacheManager cacheManager,
+            CacheInvalidationPublisher cacheInvalidationPublisher) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                new CacheInvalidationSubscriber(cacheManager, cacheInvalidationPublisher.getNodeId()),
+                new ChannelTopic(CacheInvalidationPublisher.CHANNEL));
+        return container;
+    }
+
+    /**
+     * Delivers unread notification counter changes from every node to the local SSE streams.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis", matchIfMissing = true)
+    public RedisMessageListenerContainer notificationCounterListenerContainer(RedisConnectionFactory connectionFactory,
+            NotificationCounterService notificationCounterService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(notificationCounterService, new ChannelTopic(NotificationCounterService.CHANNEL));
+        return container;
     }
 
     /**
@@ -139,6 +202,39 @@ public class RedisConfig {
         };
     }
 
+    /**
+     * The remote tier is not transaction aware on its own; {@link TwoLevelCacheManager}
+     * defers puts and evictions on both tiers together.
+     */
+    private RedisCacheManager createRedisCacheManager(RedisConnectionFactory connectionFactory) {
+        RedisCacheConfiguration cacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(DEFAULT_CACHE_TTL)
+                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(createJsonSerializer()))
+                .disableCachingNullValues();
+
+        Map<String, RedisCacheConfiguration> perCacheConfiguration = new HashMap<>();
+        perCacheConfiguration.put(CacheNames.CAMPAIGN_BY_SLUG, cacheConfiguration.entryTtl(PUBLIC_CACHE_TTL));
+        perCacheConfiguration.put(CacheNames.FEATURED_CAMPAIGNS, cacheConfiguration.entryTtl(PUBLIC_CACHE_TTL));
+        perCacheConfiguration.put(CacheNames.URGENT_CAMPAIGNS, cacheConfiguration.entryTtl(PUBLIC_CACHE_TTL));
+        perCacheConfiguration.put(CacheNames.ORGANIZATION_PUBLIC_DETAIL, cacheConfiguration.entryTtl(PUBLIC_CACHE_TTL));
+        perCacheConfiguration.put(CacheNames.FEATURED_ORGANIZATIONS, cacheConfiguration.entryTtl(PUBLIC_CACHE_TTL));
+        perCacheConfiguration.put(CacheNames.ACTIVE_CATEGORIES, cacheConfiguration.entryTtl(CATEGORY_CACHE_TTL));
+        perCacheConfiguration.put(CacheNames.CATEGORY_TREE, cacheConfiguration.entryTtl(CATEGORY_CACHE_TTL));
+        perCacheConfiguration.put(CacheNames.USER_AUTH, cacheConfiguration.entryTtl(USER_AUTH_CACHE_TTL));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(cacheConfiguration)
+                .withInitialCacheConfigurations(perCacheConfiguration)
+                .build();
+        redisCacheManager.initializeCaches();
+        return redisCacheManager;
+    }
+
+    private boolean isRedisCache() {
+        return "redis".equalsIgnoreCase(cacheType);
+    }
+
     private GenericJackson2JsonRedisSerializer createJsonSerializer() {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
@@ -4,7 +4,9 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Data
 @Configuration
@@ -14,12 +16,27 @@ public class SchedulerProperties {
     private RecurringDonationProperties recurringDonation = new RecurringDonationProperties();
     private BankTransferProperties bankTransfer = new BankTransferProperties();
     private EvidenceReminderProperties evidenceReminder = new EvidenceReminderProperties();
+    private TransparencyScoreProperties transparencyScore = new TransparencyScoreProperties();
+    private TransparencyLeaderboardProperties transparencyLeaderboard = new TransparencyLeaderboardProperties();
     private CleanupProperties cleanup = new CleanupProperties();
+    private CampaignCounterProperties campaignCounter = new CampaignCounterProperties();
+    private OutboxProperties outbox = new OutboxProperties();
+    private CampaignStatsProperties campaignStats = new CampaignStatsProperties();
+    private PartitionProperties partitions = new PartitionProperties();
+    private NotificationFanoutProperties notificationFanout = new NotificationFanoutProperties();
+    private MailDispatchProperties mailDispatch = new MailDispatchProperties();
+    private ExpiryProperties expiry = new ExpiryProperties();
 
     @Data
     public static class RecurringDonationProperties {
         private boolean enabled = true;
         private int maxRetries = 3;
+        private int chunkSize = 100;
+        private int maxChunksPerRun = 500;
+        private int workerThreads = 16;
+        private int maxConcurrentPerMerchant = 4;
+        private int leaseMinutes = 15;
+        private int retryDelayHours = 24;
     }
 
     @Data
@@ -34,10 +51,87 @@ public class SchedulerProperties {
         private List<Integer> reminderDays = List.of(7, 3, 1, 0);
     }
 
+    @Data
+    public static class TransparencyScoreProperties {
+        private boolean enabled = true;
+        private int deadlineBatchSize = 500;
+        private int snapshotInterval = 100;
+        private int replayParallelism = 4;
+    }
+
+    @Data
+    public static class TransparencyLeaderboardProperties {
+        private boolean enabled = true;
+        private long refreshIntervalMs = 30000;
+        private int maxAgeMinutes = 15;
+    }
+
     @Data
     public static class CleanupProperties {
         private boolean enabled = true;
         private int notificationRetentionDays = 90;
         private int auditLogRetentionDays = 365;
+        private int notificationDeleteBatchSize = 5000;
+    }
+
+    @Data
+    public static class CampaignCounterProperties {
+        private boolean enabled = true;
+        private int shardCount = 16;
+        private long rollupIntervalMs = 5000;
+    }
+
+    @Data
+    public static class OutboxProperties {
+        private boolean enabled = true;
+        private long pollIntervalMs = 500;
+        private int batchSize = 100;
+        private int maxBatchesPerRun = 20;
+        private int maxAttempts = 10;
+        private int leaseSeconds = 60;
+        private int retentionDays = 7;
+    }
+
+    @Data
+    public static class CampaignStatsProperties {
+        private boolean enabled = true;
+        private String rebuildCron = "0 15 3 * * *";
+    }
+
+    @Data
+    public static class PartitionProperties {
+        private boolean enabled = true;
+        private int monthsAhead = 3;
+        private String maintenanceCron = "0 30 1 * * *";
+    }
+
+    @Data
+    public static class NotificationFanoutProperties {
+        private boolean enabled = true;
+        private long pollIntervalMs = 1000;
+        private int chunkSize = 500;
+        private int maxChunksPerRun = 50;
+        private int maxAttempts = 5;
+        private int leaseSeconds = 120;
+    }
+
+    @Data
+    public static class MailDispatchProperties {
+        private boolean enabled = true;
+        private long pollIntervalMs = 1000;
+        private int batchSize = 50;
+        private int maxBatchesPerRun = 20;
+        private int workerThreads = 2;
+        private int maxAttempts = 5;
+        private int leaseSeconds = 120;
+        private double defaultRatePerSecond = 10;
+        private Map<String, Double> providerRatePerSecond = new HashMap<>(); // per provider override, <= 0 is unlimited
+    }
+
+    @Data
+    public static class ExpiryProperties {
+        private int chunkSize = 1000;
+        private int maxChunksPerRun = 200;
+        private int paymentSessionTtlHours = 24;
     }
 }
@@ -3,9 +3,10 @@ package com.seffafbagis.api.config;
 import com.seffafbagis.api.security.CustomUserDetailsService;
 import com.seffafbagis.api.security.JwtAuthenticationEntryPoint;
 import com.seffafbagis.api.security.JwtAuthenticationFilter;
+import com.seffafbagis.api.security.PublicRoutes;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -42,6 +43,7 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final CustomUserDetailsService userDetailsService;
+    private final PublicRoutes publicRoutes;
 
     /**
      * Constructor injection kullanıyoruz.
@@ -53,42 +55,15 @@ public class SecurityConfig {
     public SecurityConfig(
             JwtAuthenticationFilter jwtAuthenticationFilter,
             JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint,
-            CustomUserDetailsService userDetailsService) {
+            CustomUserDetailsService userDetailsService,
+            PublicRoutes publicRoutes) {
         
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
         this.jwtAuthenticationEntryPoint = jwtAuthenticationEntryPoint;
         this.userDetailsService = userDetailsService;
+        this.publicRoutes = publicRoutes;
     }
 
-    /**
-     * Herkesin erişebileceği endpoint'ler.
-     * Bu endpoint'ler için JWT token gerekmez.
-     */
-    private static final String[] PUBLIC_ENDPOINTS = {
-        "/api/v1/auth/register",
-        "/api/v1/auth/login",
-        "/api/v1/auth/refresh",
-        "/api/v1/auth/forgot-password",
-        "/api/v1/auth/reset-password",
-        "/api/v1/auth/verify-email",
-        "/api/v1/settings/public",
-        "/v3/api-docs/**",
-        "/swagger-ui/**",
-        "/swagger-resources/**",
-        "/swagger-ui.html",
-        "/actuator/health"
-    };
-
-    /**
-     * GET istekleri için herkese açık endpoint'ler.
-     * Kampanya ve vakıf listeleme herkes tarafından görülebilir.
-     */
-    private static final String[] PUBLIC_GET_ENDPOINTS = {
-        "/api/v1/campaigns/**",
-        "/api/v1/organizations/**",
-        "/api/v1/categories/**"
-    };
-
     private static final String[] ADMIN_ENDPOINTS = {
         "/api/v1/admin/**"
     };
@@ -113,8 +88,11 @@ public class SecurityConfig {
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .exceptionHandling(exception -> exception.authenticationEntryPoint(jwtAuthenticationEntryPoint))
             .authorizeHttpRequests(auth -> auth
-                .requestMatchers(PUBLIC_ENDPOINTS).permitAll()
-                .requestMatchers(HttpMethod.GET, PUBLIC_GET_ENDPOINTS).permitAll()
+                // SSE gibi asenkron yanıtların devam dispatch'i; kimlik ilk istekte doğrulandı
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                // Herkese açık endpoint'ler JWT filtresiyle aynı PublicRoutes kurallarını kullanır
+                .requestMatchers(publicRoutes.alwaysPublicMatcher()).permitAll()
+                .requestMatchers(publicRoutes.publicGetMatcher()).permitAll()
                 .requestMatchers(ADMIN_ENDPOINTS).hasRole("ADMIN")
                 .requestMatchers(FOUNDATION_ENDPOINTS).hasRole("FOUNDATION")
                 .anyRequest().authenticated())
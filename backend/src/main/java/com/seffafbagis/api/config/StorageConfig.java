@@ -0,0 +1,41 @@
+package com.seffafbagis.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+import java.net.URI;
+
+/**
+ * S3 client for {@code file.storage=s3}. Credentials come from the default
+ * AWS provider chain; {@code file.s3.endpoint} selects an S3-compatible
+ * store such as MinIO, which usually also needs path-style access.
+ */
+@Configuration
+@ConditionalOnProperty(name = "file.storage", havingValue = "s3")
+public class StorageConfig {
+
+    @Value("${file.s3.region:eu-central-1}")
+    private String region;
+
+    @Value("${file.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${file.s3.path-style-access:false}")
+    private boolean pathStyleAccess;
+
+    @Bean
+    public S3Client s3Client() {
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(region))
+                .forcePathStyle(pathStyleAccess);
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        return builder.build();
+    }
+}
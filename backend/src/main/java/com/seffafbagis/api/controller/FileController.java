@@ -0,0 +1,150 @@
+package com.seffafbagis.api.controller;
+
+import com.seffafbagis.api.exception.ResourceNotFoundException;
+import com.seffafbagis.api.service.storage.FileStorageService;
+import com.seffafbagis.api.service.storage.StoredFile;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Serves stored files by the URLs {@link FileStorageService#storeFile}
+ * returns, streamed from the storage backend. Supports conditional requests
+ * with {@code If-None-Match} and single byte ranges, optionally guarded by
+ * {@code If-Range}; requests for several ranges get the whole file.
+ */
+@RestController
+@RequestMapping("/api/v1/files")
+@RequiredArgsConstructor
+@Tag(name = "Files", description = "Download of stored files")
+public class FileController {
+
+    private final FileStorageService fileStorageService;
+
+    @GetMapping("/{*key}")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Download file", description = "Stream a stored file, honouring Range and If-None-Match")
+    public ResponseEntity<StreamingResponseBody> getFile(@PathVariable String key,
+            @RequestHeader HttpHeaders requestHeaders) throws IOException {
+        StoredFile file = find(key.startsWith("/") ? key.substring(1) : key);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(file.getEtag());
+        headers.setCacheControl("private, no-cache");
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (file.getLastModified() != null) {
+            headers.setLastModified(file.getLastModified());
+        }
+        if (matchesAny(requestHeaders.getIfNoneMatch(), file.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+        }
+        headers.setContentType(MediaType.parseMediaType(file.getContentType()));
+
+        HttpRange range = requestedRange(requestHeaders, file);
+        if (range == null) {
+            headers.setContentLength(file.getSize());
+            return ResponseEntity.ok()
+                    .headers(headers)
+                    .body(out -> fileStorageService.transfer(file, 0, file.getSize(), out));
+        }
+
+        long[] bounds = bounds(range, file.getSize());
+        if (bounds == null) {
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + file.getSize());
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE).headers(headers).build();
+        }
+        long start = bounds[0];
+        long length = bounds[1] - bounds[0] + 1;
+        headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + bounds[1] + "/" + file.getSize());
+        headers.setContentLength(length);
+        return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                .headers(headers)
+                .body(out -> fileStorageService.transfer(file, start, length, out));
+    }
+
+    private StoredFile find(String key) throws IOException {
+        try {
+            return fileStorageService.findFile(key)
+                    .orElseThrow(() -> new ResourceNotFoundException("File", key));
+        } catch (IllegalArgumentException e) {
+            throw new ResourceNotFoundException("File", key);
+        }
+    }
+
+    /**
+     * The single range to serve, or null to serve the whole file: without a
+     * Range header, with a malformed one, with several ranges, or when
+     * If-Range names another version of the file.
+     */
+    private static HttpRange requestedRange(HttpHeaders requestHeaders, StoredFile file) {
+        List<HttpRange> ranges;
+        try {
+            ranges = requestHeaders.getRange();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (ranges.size() != 1) {
+            return null;
+        }
+        String ifRange = requestHeaders.getFirst(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !(isStrong(ifRange) && ifRange.equals(file.getEtag()))) {
+            return null;
+        }
+        return ranges.get(0);
+    }
+
+    /**
+     * First and last byte of the range, or null if it cannot be satisfied.
+     * HttpRange clamps the end to the file size but not the start, so a
+     * range starting past the end has to be rejected here.
+     */
+    private static long[] bounds(HttpRange range, long size) {
+        long start;
+        long end;
+        try {
+            start = range.getRangeStart(size);
+            end = range.getRangeEnd(size);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (start >= size || start > end) {
+            return null;
+        }
+        return new long[] { start, end };
+    }
+
+    /**
+     * Weak comparison, as If-None-Match requires.
+     */
+    private static boolean matchesAny(List<String> etags, String etag) {
+        for (String candidate : etags) {
+            if ("*".equals(candidate) || opaque(candidate).equals(opaque(etag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isStrong(String etag) {
+        return etag.startsWith("\"");
+    }
+
+    private static String opaque(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+}
@@ -5,6 +5,7 @@ import com.seffafbagis.api.dto.request.organization.ResubmitVerificationRequest;
 import com.seffafbagis.api.dto.request.organization.UpdateOrganizationRequest;
 import com.seffafbagis.api.dto.response.common.ApiResponse;
 import com.seffafbagis.api.dto.response.common.PageResponse;
+import com.seffafbagis.api.dto.response.common.SearchSuggestionResponse;
 import com.seffafbagis.api.dto.response.organization.OrganizationDetailResponse;
 import com.seffafbagis.api.dto.response.organization.OrganizationListResponse;
 import com.seffafbagis.api.dto.response.organization.OrganizationResponse;
@@ -48,6 +49,21 @@ public class OrganizationController {
         return ResponseEntity.ok(ApiResponse.success(PageResponse.of(page)));
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<PageResponse<OrganizationListResponse>>> searchOrganizations(
+            @RequestParam String keyword,
+            Pageable pageable) {
+        Page<OrganizationListResponse> page = organizationService.searchOrganizations(keyword, pageable);
+        return ResponseEntity.ok(ApiResponse.success(PageResponse.of(page)));
+    }
+
+    @GetMapping("/search/suggest")
+    public ResponseEntity<ApiResponse<List<SearchSuggestionResponse>>> suggestOrganizations(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "8") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(organizationService.suggestOrganizations(q, limit)));
+    }
+
     @GetMapping("/featured")
     public ResponseEntity<ApiResponse<List<OrganizationSummaryResponse>>> getFeaturedOrganizations() {
         List<OrganizationSummaryResponse> featured = organizationService.getFeaturedOrganizations();
@@ -3,14 +3,24 @@ package com.seffafbagis.api.controller;
 import com.seffafbagis.api.dto.response.common.ApiResponse;
 import com.seffafbagis.api.dto.response.ReceiptVerificationResponse;
 import com.seffafbagis.api.entity.Receipt;
+import com.seffafbagis.api.service.receipt.ReceiptPdfService;
 import com.seffafbagis.api.service.receipt.ReceiptService;
+import com.seffafbagis.api.service.receipt.pdf.ReceiptDocument;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/receipts")
@@ -18,11 +28,13 @@ import org.springframework.web.bind.annotation.RestController;
 public class ReceiptController {
 
     private final ReceiptService receiptService;
+    private final ReceiptPdfService receiptPdfService;
 
-    @GetMapping("/verify/{barcode}")
+    @GetMapping("/verify/{verificationKey}")
     @Transactional(readOnly = true)
-    public ResponseEntity<ApiResponse<ReceiptVerificationResponse>> verifyReceipt(@PathVariable String barcode) {
-        return receiptService.verifyReceipt(barcode)
+    public ResponseEntity<ApiResponse<ReceiptVerificationResponse>> verifyReceipt(
+            @PathVariable String verificationKey) {
+        return receiptService.verifyReceipt(verificationKey)
                 .map(receipt -> {
                     ReceiptVerificationResponse response = ReceiptVerificationResponse.builder()
                             .valid(true)
@@ -37,6 +49,43 @@ public class ReceiptController {
                 .orElse(ResponseEntity.ok(ApiResponse.error("Invalid Receipt Barcode", "NOT_FOUND")));
     }
 
+    @GetMapping("/{id}/download")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StreamingResponseBody> downloadReceipt(@PathVariable Long id) {
+        ReceiptDocument receipt = receiptPdfService.getReceipt(id);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_PDF)
+                .header(HttpHeaders.CONTENT_DISPOSITION, attachment(receipt.getReceiptNumber() + ".pdf"))
+                .body(out -> receiptPdfService.writeReceipt(receipt, out));
+    }
+
+    /**
+     * Download link handed to guests at checkout; the verification key in
+     * the path is the only credential.
+     */
+    @GetMapping("/guest/{verificationKey}/download")
+    public ResponseEntity<StreamingResponseBody> downloadGuestReceipt(@PathVariable String verificationKey) {
+        ReceiptDocument receipt = receiptPdfService.getGuestReceipt(verificationKey);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_PDF)
+                .header(HttpHeaders.CONTENT_DISPOSITION, attachment(receipt.getReceiptNumber() + ".pdf"))
+                .body(out -> receiptPdfService.writeReceipt(receipt, out));
+    }
+
+    @GetMapping("/tax-bundle")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StreamingResponseBody> downloadTaxBundle(@RequestParam int year) {
+        List<ReceiptDocument> receipts = receiptPdfService.getYearlyReceipts(year);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, attachment("bagis-makbuzlari-" + year + ".zip"))
+                .body(out -> receiptPdfService.writeBundle(receipts, out));
+    }
+
+    private String attachment(String fileName) {
+        return ContentDisposition.attachment().filename(fileName).build().toString();
+    }
+
     private String mockMaskName(String name) {
         if (name == null || name.length() < 2)
             return "***";
@@ -52,6 +52,15 @@ public class AuditLogController {
         return PageResponse.of(auditLogService.getAuditLogsByUser(userId, pageable));
     }
 
+    @GetMapping("/audit-logs/user/{userId}/feed")
+    @Operation(summary = "Get audit logs by user (cursor pagination)")
+    public PageResponse<AuditLogListResponse> getAuditLogsByUserFeed(
+            @PathVariable UUID userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return auditLogService.getAuditLogsByUserFeed(userId, cursor, size);
+    }
+
     @GetMapping("/audit-logs/entity/{entityType}/{entityId}")
     @Operation(summary = "Get audit logs by entity")
     public PageResponse<AuditLogResponse> getAuditLogsByEntity(
@@ -4,11 +4,14 @@ import com.seffafbagis.api.dto.request.campaign.CampaignSearchRequest;
 import com.seffafbagis.api.dto.request.campaign.CreateCampaignRequest;
 import com.seffafbagis.api.dto.request.campaign.UpdateCampaignRequest;
 import com.seffafbagis.api.dto.request.campaign.UpdateRealizationRequest;
+import com.seffafbagis.api.dto.response.campaign.CampaignDailyStatsResponse;
 import com.seffafbagis.api.dto.response.campaign.CampaignDetailResponse;
 import com.seffafbagis.api.dto.response.campaign.CampaignListResponse;
 import com.seffafbagis.api.dto.response.campaign.CampaignResponse;
+import com.seffafbagis.api.dto.response.campaign.CampaignSearchFacetsResponse;
 import com.seffafbagis.api.dto.response.campaign.CampaignStatsResponse;
 import com.seffafbagis.api.dto.response.common.ApiResponse;
+import com.seffafbagis.api.dto.response.common.SearchSuggestionResponse;
 import com.seffafbagis.api.service.campaign.CampaignService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -16,6 +19,8 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
@@ -69,10 +74,23 @@ public class CampaignController {
         return ApiResponse.success(campaignService.searchCampaigns(request, pageable));
     }
 
+    @GetMapping("/search/facets")
+    @Operation(summary = "Count search matches by status and category")
+    public ApiResponse<CampaignSearchFacetsResponse> getSearchFacets(@RequestParam String keyword) {
+        return ApiResponse.success(campaignService.getSearchFacets(keyword));
+    }
+
+    @GetMapping("/search/suggest")
+    @Operation(summary = "Autocomplete campaign titles")
+    public ApiResponse<List<SearchSuggestionResponse>> suggestCampaigns(@RequestParam String q,
+            @RequestParam(defaultValue = "8") int limit) {
+        return ApiResponse.success(campaignService.suggestCampaigns(q, limit));
+    }
+
     @GetMapping("/organization/{organizationId}")
     @Operation(summary = "Get campaigns by organization")
     public ApiResponse<Page<CampaignResponse>> getCampaignsByOrganization(@PathVariable UUID organizationId,
-            Pageable pageable) {
+            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
         return ApiResponse.success(campaignService.getByOrganizationId(organizationId, pageable));
     }
 
@@ -82,6 +100,13 @@ public class CampaignController {
         return ApiResponse.success(campaignService.getCampaignStats(id));
     }
 
+    @GetMapping("/{id}/stats/daily")
+    @Operation(summary = "Get daily donation totals of a campaign")
+    public ApiResponse<List<CampaignDailyStatsResponse>> getCampaignDailyStats(@PathVariable UUID id,
+            @RequestParam(defaultValue = "30") int days) {
+        return ApiResponse.success(campaignService.getCampaignDailyStats(id, days));
+    }
+
     // Owner Endpoints
 
     @GetMapping("/my")
@@ -2,9 +2,12 @@ package com.seffafbagis.api.controller.donation;
 
 import com.seffafbagis.api.dto.request.donation.InitiateBankTransferRequest;
 import com.seffafbagis.api.dto.request.donation.MatchBankTransferRequest;
+import com.seffafbagis.api.dto.response.donation.BankStatementReconciliationResponse;
 import com.seffafbagis.api.dto.response.donation.BankTransferInfoResponse;
 import com.seffafbagis.api.dto.response.donation.BankTransferReferenceResponse;
+import com.seffafbagis.api.service.donation.BankStatementReconciliationService;
 import com.seffafbagis.api.service.donation.BankTransferService;
+import com.seffafbagis.api.service.donation.statement.StatementFormat;
 import com.seffafbagis.api.dto.response.common.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -12,10 +15,14 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -25,6 +32,7 @@ import java.util.List;
 public class BankTransferController {
 
     private final BankTransferService bankTransferService;
+    private final BankStatementReconciliationService reconciliationService;
 
     // User Endpoints
 
@@ -87,4 +95,18 @@ public class BankTransferController {
         bankTransferService.expireBankTransfer(code);
         return ResponseEntity.ok(ApiResponse.success("Bank transfer expired successfully", null));
     }
+
+    @PostMapping(value = "/admin/bank-transfers/reconcile", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Reconcile statement (Admin)", description = "Match a CSV, MT940 or camt.053 bank statement against pending transfers and report unmatched lines")
+    public ResponseEntity<ApiResponse<BankStatementReconciliationResponse>> reconcileStatement(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "format", required = false) StatementFormat format) throws IOException {
+        StatementFormat statementFormat = format != null ? format
+                : StatementFormat.fromFileName(file.getOriginalFilename());
+        try (InputStream in = file.getInputStream()) {
+            BankStatementReconciliationResponse response = reconciliationService.reconcile(in, statementFormat);
+            return ResponseEntity.ok(ApiResponse.success("Bank statement reconciled successfully", response));
+        }
+    }
 }
@@ -2,6 +2,7 @@ package com.seffafbagis.api.controller.donation;
 
 import com.seffafbagis.api.dto.request.donation.CreateDonationRequest;
 import com.seffafbagis.api.dto.request.donation.RefundRequest;
+import com.seffafbagis.api.dto.response.common.PageResponse;
 import com.seffafbagis.api.dto.response.donation.DonationDetailResponse;
 import com.seffafbagis.api.dto.response.donation.DonationReceiptResponse;
 import com.seffafbagis.api.dto.response.donation.DonationResponse;
@@ -68,6 +69,15 @@ public class DonationController {
         return ResponseEntity.ok(donationService.getMyDonations(pageable));
     }
 
+    // Cursor feed: pass the returned nextCursor back as ?cursor= to read the next page
+    @GetMapping("/my/feed")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<PageResponse<DonationResponse>> getMyDonationsFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(donationService.getMyDonationsFeed(cursor, size));
+    }
+
     @GetMapping("/my/{id}")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<DonationDetailResponse> getMyDonationDetail(@PathVariable UUID id) {
@@ -113,6 +123,29 @@ public class DonationController {
         return ResponseEntity.ok(donationService.getOrganizationDonations(organization.getId(), pageable));
     }
 
+    @GetMapping("/organization/feed")
+    @PreAuthorize("hasAnyRole('FOUNDATION', 'ADMIN')")
+    public ResponseEntity<PageResponse<DonationResponse>> getOrganizationDonationsFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        UUID currentUserId = SecurityUtils.getCurrentUserId()
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        Organization organization = organizationRepository.findByUserId(currentUserId)
+                .orElseThrow(() -> new ResourceNotFoundException("Organization not found for current user"));
+
+        return ResponseEntity.ok(donationService.getOrganizationDonationsFeed(organization.getId(), cursor, size));
+    }
+
+    @GetMapping("/campaign/{id}/feed")
+    @PreAuthorize("hasAnyRole('FOUNDATION', 'ADMIN')")
+    public ResponseEntity<PageResponse<DonationResponse>> getCampaignDonationsFeedForOrg(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(donationService.getCampaignDonationsFeed(id, cursor, size));
+    }
+
     @GetMapping("/campaign/{id}")
     @PreAuthorize("hasAnyRole('FOUNDATION', 'ADMIN')")
     public ResponseEntity<Page<DonationResponse>> getCampaignDonationsForOrg(
@@ -4,16 +4,20 @@ import com.seffafbagis.api.dto.response.common.ApiResponse;
 import com.seffafbagis.api.dto.response.notification.EmailLogResponse;
 import com.seffafbagis.api.dto.response.notification.NotificationCountResponse;
 import com.seffafbagis.api.dto.response.notification.NotificationListResponse;
+import com.seffafbagis.api.dto.response.notification.NotificationStreamTokenResponse;
 import com.seffafbagis.api.entity.notification.EmailLog;
 import com.seffafbagis.api.repository.EmailLogRepository;
 import com.seffafbagis.api.service.notification.EmailService;
 import com.seffafbagis.api.service.notification.NotificationService;
+import com.seffafbagis.api.service.notification.NotificationStreamService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.UUID;
 
@@ -23,6 +27,7 @@ import java.util.UUID;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationStreamService notificationStreamService;
     private final EmailLogRepository emailLogRepository;
     private final EmailService emailService;
 
@@ -33,6 +38,13 @@ public class NotificationController {
         return ResponseEntity.ok(ApiResponse.success(notificationService.getMyNotifications(pageable)));
     }
 
+    @GetMapping("/notifications/feed")
+    public ResponseEntity<ApiResponse<NotificationListResponse>> getMyNotificationsFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.success(notificationService.getMyNotificationsFeed(cursor, size)));
+    }
+
     @GetMapping("/notifications/unread")
     public ResponseEntity<ApiResponse<NotificationListResponse>> getUnreadNotifications(Pageable pageable) {
         return ResponseEntity.ok(ApiResponse.success(notificationService.getUnreadNotifications(pageable)));
@@ -43,6 +55,26 @@ public class NotificationController {
         return ResponseEntity.ok(ApiResponse.success(notificationService.getUnreadCount()));
     }
 
+    /**
+     * Short-lived token for opening the stream from a browser EventSource,
+     * which cannot send an Authorization header.
+     */
+    @PostMapping("/notifications/stream-token")
+    public ResponseEntity<ApiResponse<NotificationStreamTokenResponse>> createStreamToken() {
+        return ResponseEntity.ok(ApiResponse.success(notificationStreamService.issueStreamToken()));
+    }
+
+    /**
+     * Pushes the unread count on connect and on every change, replacing
+     * polling of {@code /notifications/count}. Accepts either the usual
+     * bearer header or {@code ?token=} with a token from
+     * {@code /notifications/stream-token}.
+     */
+    @GetMapping(value = "/notifications/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotifications() {
+        return notificationStreamService.subscribe();
+    }
+
     @PutMapping("/notifications/{id}/read")
     public ResponseEntity<ApiResponse<Void>> markAsRead(@PathVariable UUID id) {
         notificationService.markAsRead(id);
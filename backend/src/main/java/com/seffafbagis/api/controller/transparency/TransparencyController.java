@@ -1,6 +1,7 @@
 package com.seffafbagis.api.controller.transparency;
 
 import com.seffafbagis.api.dto.response.transparency.ScoreHistoryListResponse;
+import com.seffafbagis.api.dto.response.transparency.ScoreReplayResponse;
 import com.seffafbagis.api.dto.response.transparency.TransparencyLeaderboardResponse;
 import com.seffafbagis.api.dto.response.transparency.TransparencyScoreResponse;
 import com.seffafbagis.api.exception.ResourceNotFoundException;
@@ -50,6 +51,12 @@ public class TransparencyController {
         return ResponseEntity.ok(scoreService.getLeaderboard(pageable));
     }
 
+    @Operation(summary = "Get organization leaderboard rank")
+    @GetMapping("/transparency/leaderboard/organization/{id}")
+    public ResponseEntity<TransparencyLeaderboardResponse> getLeaderboardEntry(@PathVariable UUID id) {
+        return ResponseEntity.ok(scoreService.getLeaderboardEntry(id));
+    }
+
     @Operation(summary = "Get my organization score")
     @GetMapping("/transparency/my")
     @PreAuthorize("hasRole('FOUNDATION')")
@@ -93,6 +100,14 @@ public class TransparencyController {
         return ResponseEntity.ok(scoreService.getOrganizationScore(orgId));
     }
 
+    @Operation(summary = "Replay transparency scores from their history")
+    @PostMapping("/admin/transparency/replay")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ScoreReplayResponse> replayScores(
+            @RequestParam(defaultValue = "false") boolean force) {
+        return ResponseEntity.ok(scoreService.replayScores(force));
+    }
+
     private UUID getCurrentUserOrganizationId() {
         UUID userId = SecurityUtils.getCurrentUserId()
                 .orElseThrow(() -> new ResourceNotFoundException("User not authenticated"));
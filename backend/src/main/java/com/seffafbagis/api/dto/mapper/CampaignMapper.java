@@ -4,6 +4,7 @@ import com.seffafbagis.api.dto.request.campaign.CreateCampaignRequest;
 import com.seffafbagis.api.dto.request.campaign.UpdateCampaignRequest;
 import com.seffafbagis.api.dto.response.campaign.*;
 import com.seffafbagis.api.entity.campaign.*;
+import com.seffafbagis.api.repository.projection.CampaignListProjection;
 import org.springframework.stereotype.Component;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -87,6 +88,36 @@ public class CampaignMapper {
         return response;
     }
 
+    public CampaignResponse toResponse(CampaignListProjection row) {
+        if (row == null)
+            return null;
+
+        CampaignResponse response = new CampaignResponse();
+        response.setId(row.getId());
+        response.setTitle(row.getTitle());
+        response.setSlug(row.getSlug());
+        response.setSummary(row.getSummary());
+        response.setCoverImageUrl(row.getCoverImageUrl());
+        response.setTargetAmount(row.getTargetAmount());
+        response.setCollectedAmount(row.getCollectedAmount());
+        response.setDonorCount(row.getDonorCount());
+        response.setCurrency(row.getCurrency());
+        response.setStatus(row.getStatus().name());
+        response.setStartDate(row.getStartDate());
+        response.setEndDate(row.getEndDate());
+        response.setIsUrgent(row.getIsUrgent());
+        response.setIsFeatured(row.getIsFeatured());
+        response.setLocationCity(row.getLocationCity());
+        response.setCreatedAt(row.getCreatedAt() != null ? row.getCreatedAt().toLocalDateTime() : null);
+        response.setOrganizationId(row.getOrganizationId());
+        response.setOrganizationName(row.getOrganizationName());
+        response.setOrganizationLogo(row.getOrganizationLogo());
+        response.setProgressPercentage(calculateProgress(row.getCollectedAmount(), row.getTargetAmount()));
+        response.setRealizationStatus(row.getRealizationStatus());
+        response.setRealizationDeadline(row.getRealizationDeadline());
+        return response;
+    }
+
     public CampaignListResponse toListResponse(Campaign entity) {
         if (entity == null)
             return null;
@@ -0,0 +1,19 @@
+package com.seffafbagis.api.dto.response.campaign;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CampaignDailyStatsResponse {
+    private LocalDate date;
+    private Long donationCount;
+    private BigDecimal totalAmount;
+}
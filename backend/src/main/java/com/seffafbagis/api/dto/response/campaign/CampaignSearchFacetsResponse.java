@@ -0,0 +1,29 @@
+package com.seffafbagis.api.dto.response.campaign;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CampaignSearchFacetsResponse {
+    private String keyword;
+    private Map<String, Long> statuses;
+    private List<CategoryFacet> categories;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CategoryFacet {
+        private String slug;
+        private String name;
+        private Long count;
+    }
+}
@@ -1,6 +1,7 @@
 package com.seffafbagis.api.dto.response.campaign;
 
 import java.math.BigDecimal;
+import java.time.OffsetDateTime;
 
 /**
  * DTO for campaign statistics response.
@@ -15,6 +16,9 @@ public class CampaignStatsResponse {
     private Long totalDonations;
     private BigDecimal averageDonation;
     private Long pendingCampaigns;
+    private BigDecimal minDonation;
+    private BigDecimal maxDonation;
+    private OffsetDateTime lastDonationAt;
 
     // Getters and Setters
 
@@ -81,4 +85,28 @@ public class CampaignStatsResponse {
     public void setPendingCampaigns(Long pendingCampaigns) {
         this.pendingCampaigns = pendingCampaigns;
     }
+
+    public BigDecimal getMinDonation() {
+        return minDonation;
+    }
+
+    public void setMinDonation(BigDecimal minDonation) {
+        this.minDonation = minDonation;
+    }
+
+    public BigDecimal getMaxDonation() {
+        return maxDonation;
+    }
+
+    public void setMaxDonation(BigDecimal maxDonation) {
+        this.maxDonation = maxDonation;
+    }
+
+    public OffsetDateTime getLastDonationAt() {
+        return lastDonationAt;
+    }
+
+    public void setLastDonationAt(OffsetDateTime lastDonationAt) {
+        this.lastDonationAt = lastDonationAt;
+    }
 }
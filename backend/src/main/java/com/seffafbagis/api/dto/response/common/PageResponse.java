@@ -2,6 +2,7 @@ package com.seffafbagis.api.dto.response.common;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -31,6 +32,10 @@ import java.util.List;
  *   "timestamp": "2024-01-15T10:30:00"
  * }
  * 
+ * Cursor (keyset) feeds omit the totals and return an opaque
+ * "nextCursor" token instead; pass it back as the "cursor" parameter
+ * to read the next page.
+ * 
  * @param <T> Type of data items in the page
  * @author Furkan
  * @version 1.0
@@ -61,6 +66,7 @@ public class PageResponse<T> {
     /**
      * Nested class containing pagination metadata.
      */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class PaginationMeta {
 
         /**
@@ -75,13 +81,15 @@ public class PageResponse<T> {
 
         /**
          * Total number of items across all pages.
+         * Null for cursor feeds, which do not count rows.
          */
-        private long totalElements;
+        private Long totalElements;
 
         /**
          * Total number of pages.
+         * Null for cursor feeds, which do not count rows.
          */
-        private int totalPages;
+        private Integer totalPages;
 
         /**
          * Whether this is the first page.
@@ -103,6 +111,11 @@ public class PageResponse<T> {
          */
         private boolean hasPrevious;
 
+        /**
+         * Opaque token for the next page of a cursor feed (null when there is none).
+         */
+        private String nextCursor;
+
         // ==================== CONSTRUCTORS ====================
 
         /**
@@ -145,11 +158,11 @@ public class PageResponse<T> {
             return pageSize;
         }
 
-        public long getTotalElements() {
+        public Long getTotalElements() {
             return totalElements;
         }
 
-        public int getTotalPages() {
+        public Integer getTotalPages() {
             return totalPages;
         }
 
@@ -169,6 +182,10 @@ public class PageResponse<T> {
             return hasPrevious;
         }
 
+        public String getNextCursor() {
+            return nextCursor;
+        }
+
         // ==================== SETTERS ====================
 
         public void setCurrentPage(int currentPage) {
@@ -179,11 +196,11 @@ public class PageResponse<T> {
             this.pageSize = pageSize;
         }
 
-        public void setTotalElements(long totalElements) {
+        public void setTotalElements(Long totalElements) {
             this.totalElements = totalElements;
         }
 
-        public void setTotalPages(int totalPages) {
+        public void setTotalPages(Integer totalPages) {
             this.totalPages = totalPages;
         }
 
@@ -202,6 +219,10 @@ public class PageResponse<T> {
         public void setHasPrevious(boolean hasPrevious) {
             this.hasPrevious = hasPrevious;
         }
+
+        public void setNextCursor(String nextCursor) {
+            this.nextCursor = nextCursor;
+        }
     }
 
     // ==================== CONSTRUCTORS ====================
@@ -280,6 +301,30 @@ public class PageResponse<T> {
         return new PageResponse<>(content, pagination);
     }
 
+    /**
+     * Creates a PageResponse for a cursor (keyset) feed.
+     * 
+     * Totals are omitted because cursor queries do not count rows.
+     * 
+     * @param content Mapped content for the page
+     * @param slice Slice returned by the seek query
+     * @param nextCursor Cursor for the following page, or null if this is the last one
+     * @param firstPage Whether the request had no cursor
+     * @param <T> Type of mapped items
+     * @return PageResponse instance
+     */
+    public static <T> PageResponse<T> ofCursor(List<T> content, Slice<?> slice, String nextCursor, boolean firstPage) {
+        PaginationMeta pagination = new PaginationMeta();
+        pagination.setPageSize(slice.getSize());
+        pagination.setFirst(firstPage);
+        pagination.setLast(nextCursor == null);
+        pagination.setHasNext(nextCursor != null);
+        pagination.setHasPrevious(!firstPage);
+        pagination.setNextCursor(nextCursor);
+
+        return new PageResponse<>(content, pagination);
+    }
+
     // ==================== GETTERS ====================
 
     public boolean isSuccess() {
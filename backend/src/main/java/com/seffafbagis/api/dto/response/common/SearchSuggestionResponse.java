@@ -0,0 +1,18 @@
+package com.seffafbagis.api.dto.response.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchSuggestionResponse {
+    private UUID id;
+    private String label;
+    private String slug;
+}
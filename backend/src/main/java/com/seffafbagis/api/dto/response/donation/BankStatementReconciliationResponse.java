@@ -0,0 +1,29 @@
+package com.seffafbagis.api.dto.response.donation;
+
+import com.seffafbagis.api.service.donation.statement.StatementFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Summary of one bank statement reconciliation run.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BankStatementReconciliationResponse {
+
+    private StatementFormat format;
+    private long totalLines;
+    private long creditLines;
+    private long matchedByReference;
+    private long matchedBySender;
+    private BigDecimal matchedAmount;
+    private long durationMs;
+    private List<ReconciliationExceptionResponse> exceptions;
+}
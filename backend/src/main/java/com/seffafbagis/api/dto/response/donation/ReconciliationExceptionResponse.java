@@ -0,0 +1,32 @@
+package com.seffafbagis.api.dto.response.donation;
+
+import com.seffafbagis.api.enums.ReconciliationExceptionReason;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * A statement line that needs manual review.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReconciliationExceptionResponse {
+
+    private long lineNumber;
+    private ReconciliationExceptionReason reason;
+    private LocalDate bookingDate;
+    private BigDecimal amount;
+    private String currency;
+    private String senderName;
+    private String senderIban;
+    private String description;
+    private String bankReference;
+    private String referenceCode;
+    private BigDecimal expectedAmount;
+}
@@ -9,4 +9,6 @@ import java.util.List;
 public class NotificationListResponse {
     private long unreadCount;
     private List<NotificationResponse> notifications;
+    // Only set by the cursor feed; null when there are no more notifications
+    private String nextCursor;
 }
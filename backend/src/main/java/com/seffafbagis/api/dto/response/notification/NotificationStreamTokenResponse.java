@@ -0,0 +1,13 @@
+package com.seffafbagis.api.dto.response.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class NotificationStreamTokenResponse {
+    private String token;
+    private long expiresInSeconds;
+}
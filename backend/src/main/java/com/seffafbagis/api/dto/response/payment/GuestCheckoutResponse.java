@@ -37,7 +37,7 @@ public class GuestCheckoutResponse {
     @AllArgsConstructor
     public static class DonationReceiptInfo {
         private UUID donationId;
-        private UUID receiptId;
+        private Long receiptId;
         private UUID campaignId;
         private String campaignTitle;
         private BigDecimal amount;
@@ -0,0 +1,23 @@
+package com.seffafbagis.api.dto.response.transparency;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the outcome of replaying transparency scores from their history.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoreReplayResponse {
+
+    private Integer rulesVersion;
+    private Integer organizations;
+    private Integer failedOrganizations;
+    private Long events;
+    private Long durationMs;
+    private Double eventsPerSecond;
+}
@@ -30,6 +30,13 @@ public class Receipt {
     @Column(name = "barcode_data", nullable = false, unique = true)
     private String barcodeData;
 
+    /**
+     * Random code that has to accompany {@link #barcodeData} to verify the
+     * receipt publicly, since receipt numbers are sequential.
+     */
+    @Column(name = "verification_code", nullable = false, length = 32)
+    private String verificationCode;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
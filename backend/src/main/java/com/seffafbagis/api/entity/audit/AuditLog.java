@@ -24,7 +24,7 @@ import java.util.UUID;
 @Builder
 @Entity
 @Table(name = "audit_logs", indexes = {
-        @Index(name = "idx_audit_user_id", columnList = "user_id"),
+        @Index(name = "idx_audit_user_feed", columnList = "user_id, created_at DESC, id DESC"),
         @Index(name = "idx_audit_action", columnList = "action"),
         @Index(name = "idx_audit_entity", columnList = "entity_type, entity_id"),
         @Index(name = "idx_audit_created_at", columnList = "created_at")
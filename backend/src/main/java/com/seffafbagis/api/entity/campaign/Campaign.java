@@ -8,19 +8,25 @@ import jakarta.annotation.Generated;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 /**
  * Represents a fundraising campaign.
+ *
+ * Updates only write dirty columns so that saving a campaign never overwrites
+ * {@code collected_amount}/{@code donor_count} maintained by the counter roll-up.
  */
 @Entity
 @Getter
 @Setter
+@DynamicUpdate
 @Table(name = "campaigns", indexes = {
         @Index(name = "idx_campaigns_slug", columnList = "slug", unique = true),
-        @Index(name = "idx_campaigns_organization", columnList = "organization_id"),
+        @Index(name = "idx_campaigns_org_status_created", columnList = "organization_id, status, created_at DESC"),
         @Index(name = "idx_campaigns_status", columnList = "status")
 })
 public class Campaign extends BaseEntity {
@@ -104,9 +110,12 @@ public class Campaign extends BaseEntity {
     @Column(length = 3)
     private String currency = "TRY";
 
+    // Batch-initialized so mapping a list of campaigns loads these in one query per batch, not per row
+    @BatchSize(size = 50)
     @OneToMany(mappedBy = "campaign", cascade = CascadeType.ALL, orphanRemoval = true)
     private java.util.List<CampaignCategory> categories;
 
+    @BatchSize(size = 50)
     @OneToMany(mappedBy = "campaign", cascade = CascadeType.ALL, orphanRemoval = true)
     private java.util.List<CampaignDonationType> donationTypes;
 
@@ -0,0 +1,31 @@
+package com.seffafbagis.api.entity.campaign;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/**
+ * Striped accumulator row for completed donations that have not yet been
+ * rolled up into {@code campaigns.collected_amount}.
+ *
+ * Every completion adds to one randomly chosen shard of its campaign, so
+ * concurrent completions contend on different rows instead of the single
+ * campaign row. Rows are drained periodically by the roll-up job.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "campaign_donation_counters")
+public class CampaignDonationCounter {
+
+    @EmbeddedId
+    private CampaignDonationCounterId id;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal amount = BigDecimal.ZERO;
+
+    @Column(name = "donor_count", nullable = false)
+    private Long donorCount = 0L;
+}
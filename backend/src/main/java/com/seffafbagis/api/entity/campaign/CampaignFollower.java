@@ -15,7 +15,7 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "campaign_followers", indexes = {
-                @Index(name = "idx_campaign_followers_campaign", columnList = "campaign_id"),
+                @Index(name = "idx_campaign_followers_campaign_user", columnList = "campaign_id, user_id"),
                 @Index(name = "idx_campaign_followers_user", columnList = "user_id")
 }, uniqueConstraints = {
                 @UniqueConstraint(columnNames = { "campaign_id", "user_id" })
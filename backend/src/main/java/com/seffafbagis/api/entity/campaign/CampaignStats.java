@@ -0,0 +1,52 @@
+package com.seffafbagis.api.entity.campaign;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Read model of a campaign's completed donations.
+ *
+ * Maintained incrementally from donation completion and refund events, and
+ * reconciled against the donations table by the nightly rebuild, so campaign
+ * statistics are a single primary-key read instead of aggregates over every
+ * donation of the campaign.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "campaign_stats")
+public class CampaignStats {
+
+    @Id
+    @Column(name = "campaign_id")
+    private UUID campaignId;
+
+    @Column(name = "donation_count", nullable = false)
+    private Long donationCount = 0L;
+
+    @Column(name = "unique_donors", nullable = false)
+    private Long uniqueDonors = 0L;
+
+    @Column(name = "total_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+
+    @Column(name = "min_amount", precision = 12, scale = 2)
+    private BigDecimal minAmount;
+
+    @Column(name = "max_amount", precision = 12, scale = 2)
+    private BigDecimal maxAmount;
+
+    @Column(name = "last_donation_at")
+    private OffsetDateTime lastDonationAt;
+
+    @Column(name = "rebuilt_at")
+    private OffsetDateTime rebuiltAt;
+
+    @Column(name = "updated_at")
+    private OffsetDateTime updatedAt;
+}
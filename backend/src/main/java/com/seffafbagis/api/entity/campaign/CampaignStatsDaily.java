@@ -0,0 +1,27 @@
+package com.seffafbagis.api.entity.campaign;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/**
+ * Per-day bucket of a campaign's completed donations, keyed by the donation's
+ * creation date in Europe/Istanbul.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "campaign_stats_daily")
+public class CampaignStatsDaily {
+
+    @EmbeddedId
+    private CampaignStatsDailyId id;
+
+    @Column(name = "donation_count", nullable = false)
+    private Long donationCount = 0L;
+
+    @Column(name = "total_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+}
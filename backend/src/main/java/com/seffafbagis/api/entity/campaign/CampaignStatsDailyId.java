@@ -0,0 +1,24 @@
+package com.seffafbagis.api.entity.campaign;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CampaignStatsDailyId implements Serializable {
+
+    @Column(name = "campaign_id")
+    private UUID campaignId;
+
+    @Column(name = "bucket_date")
+    private LocalDate bucketDate;
+}
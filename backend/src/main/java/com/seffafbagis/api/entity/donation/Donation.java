@@ -17,8 +17,8 @@ import java.time.OffsetDateTime;
  */
 @Entity
 @Table(name = "donations", indexes = {
-        @Index(name = "idx_donations_campaign", columnList = "campaign_id"),
-        @Index(name = "idx_donations_donor", columnList = "donor_id"),
+        @Index(name = "idx_donations_campaign_feed", columnList = "campaign_id, created_at DESC, id DESC"),
+        @Index(name = "idx_donations_donor_feed", columnList = "donor_id, created_at DESC, id DESC"),
         @Index(name = "idx_donations_status", columnList = "status"),
         @Index(name = "idx_donations_created_at", columnList = "created_at")
 })
@@ -80,6 +80,14 @@ public class Donation extends BaseEntity {
     @Column(name = "refund_requested_at")
     private OffsetDateTime refundRequestedAt;
 
+    /**
+     * Whether this donation is currently counted in {@code campaign_stats}
+     * ({@code COUNTED}, {@code REVERSED} or null). Written only by conditional
+     * updates in {@code CampaignStatsService}, never through the entity.
+     */
+    @Column(name = "stats_state", length = 16, insertable = false, updatable = false)
+    private String statsState;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "payment_session_id")
     private PaymentSession paymentSession;
@@ -228,6 +236,10 @@ public class Donation extends BaseEntity {
         this.refundRequestedAt = refundRequestedAt;
     }
 
+    public String getStatsState() {
+        return statsState;
+    }
+
     public Transaction getTransaction() {
         return transaction;
     }
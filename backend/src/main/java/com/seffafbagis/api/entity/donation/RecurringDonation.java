@@ -11,6 +11,7 @@ import lombok.Setter;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
 
 /**
  * Represents a recurring donation subscription.
@@ -75,4 +76,7 @@ public class RecurringDonation extends BaseEntity {
     @Column(name = "last_error_message", columnDefinition = "TEXT")
     private String lastErrorMessage;
 
+    @Column(name = "charge_lease_until")
+    private OffsetDateTime chargeLeaseUntil; // Claimed by a charging run, or waiting to retry a failed charge
+
 }
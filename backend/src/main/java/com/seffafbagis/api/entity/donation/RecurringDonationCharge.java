@@ -0,0 +1,52 @@
+package com.seffafbagis.api.entity.donation;
+
+import com.seffafbagis.api.entity.base.BaseEntity;
+import com.seffafbagis.api.enums.RecurringChargeStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Charge of one billing period of a {@link RecurringDonation}.
+ *
+ * There is at most one row per subscription and period; each retry of a
+ * failed period reuses it with a new donation.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "recurring_donation_charges", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_recurring_donation_charges_period",
+                columnNames = { "recurring_donation_id", "billing_period" })
+})
+public class RecurringDonationCharge extends BaseEntity {
+
+    @Column(name = "recurring_donation_id", nullable = false)
+    private UUID recurringDonationId;
+
+    @Column(name = "billing_period", nullable = false)
+    private LocalDate billingPeriod;
+
+    @Column(name = "donation_id")
+    private UUID donationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RecurringChargeStatus status = RecurringChargeStatus.PROCESSING;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "provider_payment_id")
+    private String providerPaymentId;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "charged_at")
+    private OffsetDateTime chargedAt;
+}
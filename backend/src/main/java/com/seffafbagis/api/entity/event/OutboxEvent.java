@@ -0,0 +1,54 @@
+package com.seffafbagis.api.entity.event;
+
+import com.seffafbagis.api.entity.base.BaseEntity;
+import com.seffafbagis.api.enums.OutboxEventStatus;
+import io.hypersistence.utils.hibernate.type.json.JsonType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.Type;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Domain event persisted in the same transaction as the state change that
+ * produced it. A background dispatcher delivers it to the in-process listeners
+ * after commit, so events survive restarts and never block the request thread.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_status_available", columnList = "status, available_at")
+})
+public class OutboxEvent extends BaseEntity {
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    @Column(name = "aggregate_id")
+    private UUID aggregateId;
+
+    @Type(JsonType.class)
+    @Column(name = "payload", columnDefinition = "jsonb", nullable = false)
+    private Map<String, Object> payload = new HashMap<>();
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxEventStatus status = OutboxEventStatus.PENDING;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "available_at", nullable = false)
+    private OffsetDateTime availableAt;
+
+    @Column(name = "published_at")
+    private OffsetDateTime publishedAt;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+}
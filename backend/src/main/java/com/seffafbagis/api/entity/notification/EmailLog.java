@@ -2,16 +2,22 @@ package com.seffafbagis.api.entity.notification;
 
 import com.seffafbagis.api.entity.base.BaseEntity;
 import com.seffafbagis.api.entity.user.User;
+import io.hypersistence.utils.hibernate.type.json.JsonType;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import org.hibernate.annotations.Type;
 
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Map;
 
 @Data
 @EqualsAndHashCode(callSuper = true)
 @Entity
-@Table(name = "email_logs")
+@Table(name = "email_logs", indexes = {
+        @Index(name = "idx_email_logs_due", columnList = "next_attempt_at")
+})
 public class EmailLog extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -35,7 +41,7 @@ public class EmailLog extends BaseEntity {
     @Column(nullable = false)
     private String subject;
 
-    private String status; // 'sent', 'failed', 'bounced'
+    private String status; // 'queued', 'sending', 'sent', 'failed', 'bounced'
 
     @Column(name = "provider_message_id")
     private String providerMessageId;
@@ -46,9 +52,16 @@ public class EmailLog extends BaseEntity {
     @Column(name = "sent_at")
     private LocalDateTime sentAt;
 
+    @Type(JsonType.class)
+    @Column(name = "variables", columnDefinition = "jsonb")
+    private Map<String, Object> variables;
+
+    @Column(name = "next_attempt_at")
+    private OffsetDateTime nextAttemptAt;
+
     @PrePersist
     public void prePersist() {
-        if (this.sentAt == null) {
+        if (this.sentAt == null && !"queued".equals(this.status)) {
             this.sentAt = LocalDateTime.now();
         }
     }
@@ -14,7 +14,7 @@ import java.util.UUID;
 @Getter
 @Setter
 @Table(name = "notifications", indexes = {
-        @Index(name = "idx_notifications_user", columnList = "user_id"),
+        @Index(name = "idx_notifications_user_feed", columnList = "user_id, created_at DESC, id DESC"),
         @Index(name = "idx_notifications_read", columnList = "user_id, is_read")
 })
 public class Notification extends BaseEntity {
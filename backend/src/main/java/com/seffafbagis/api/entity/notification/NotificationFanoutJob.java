@@ -0,0 +1,73 @@
+package com.seffafbagis.api.entity.notification;
+
+import com.seffafbagis.api.entity.base.BaseEntity;
+import com.seffafbagis.api.enums.NotificationFanoutStatus;
+import com.seffafbagis.api.enums.NotificationType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * One notification to be delivered to every follower of a campaign.
+ *
+ * Followers are processed in {@code user_id} order; {@code cursorUserId} is
+ * the last follower already notified and moves forward in the same
+ * transaction as each inserted chunk, so an interrupted job resumes without
+ * duplicates.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "notification_fanout_jobs", indexes = {
+        @Index(name = "idx_notification_fanout_jobs_status_available", columnList = "status, available_at"),
+        @Index(name = "idx_notification_fanout_jobs_campaign", columnList = "campaign_id")
+})
+public class NotificationFanoutJob extends BaseEntity {
+
+    @Column(name = "campaign_id", nullable = false)
+    private UUID campaignId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "notification_type", nullable = false, length = 50)
+    private NotificationType notificationType;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String message;
+
+    @Column(name = "entity_type", length = 50)
+    private String entityType;
+
+    @Column(name = "entity_id")
+    private UUID entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private NotificationFanoutStatus status = NotificationFanoutStatus.PENDING;
+
+    @Column(name = "cursor_user_id")
+    private UUID cursorUserId;
+
+    @Column(name = "delivered_count", nullable = false)
+    private Long deliveredCount = 0L;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "available_at", nullable = false)
+    private OffsetDateTime availableAt;
+
+    @Column(name = "started_at")
+    private OffsetDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private OffsetDateTime completedAt;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+}
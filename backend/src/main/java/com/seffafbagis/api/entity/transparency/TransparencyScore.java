@@ -80,4 +80,18 @@ public class TransparencyScore extends BaseEntity {
 
     @Column(name = "last_calculated_at")
     private LocalDateTime lastCalculatedAt;
+
+    /**
+     * Version of the last history event folded into this score.
+     */
+    @Builder.Default
+    @Column(name = "event_version", nullable = false)
+    private Long eventVersion = 0L;
+
+    /**
+     * {@code TransparencyScoreCalculator.RULES_VERSION} of the last replay;
+     * null until the score has been replayed once.
+     */
+    @Column(name = "rules_version")
+    private Integer rulesVersion;
 }
@@ -12,6 +12,10 @@ import java.util.UUID;
 
 /**
  * Represents a change in an organization's transparency score.
+ *
+ * Rows form the append-only event log the score is folded from; previous and
+ * new score record what the organization saw when the event happened, a
+ * replay recomputes them with the current rules.
  */
 @Entity
 @Table(name = "transparency_score_history", indexes = {
@@ -46,4 +50,10 @@ public class TransparencyScoreHistory extends BaseEntity {
 
     @Column(columnDefinition = "TEXT")
     private String notes;
+
+    /**
+     * Position of the event in its organization's log, starting at 1.
+     */
+    @Column(name = "event_version", nullable = false, updatable = false)
+    private Long eventVersion;
 }
@@ -0,0 +1,20 @@
+package com.seffafbagis.api.enums;
+
+/**
+ * How an audit log entry is persisted.
+ */
+public enum AuditDurability {
+    /**
+     * Saved in the caller's transaction; commits or rolls back with the
+     * business change. Used for admin and account actions.
+     */
+    SYNC,
+
+    /**
+     * Queued after the caller's transaction commits and written in batches
+     * by the background audit writer. Adds no database round trip to the
+     * caller, but entries are dropped if the queue is full or the node dies
+     * before the next flush. Used for high-volume event audits.
+     */
+    ASYNC
+}
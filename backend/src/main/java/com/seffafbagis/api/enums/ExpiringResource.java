@@ -0,0 +1,58 @@
+package com.seffafbagis.api.enums;
+
+/**
+ * Pending resources that lapse after a deadline and are expired in bulk by
+ * {@code ExpirySweeper}. Each constant names the table, the status values as
+ * stored, the timestamp compared with the cutoff and the column that
+ * identifies the owner to notify.
+ */
+public enum ExpiringResource {
+    BANK_TRANSFER_REFERENCE("bank_transfer_references", "pending", "expired", "expires_at", "donor_id", ""),
+    PAYMENT_SESSION("payment_sessions", PaymentSessionStatus.PENDING.name(), PaymentSessionStatus.EXPIRED.name(),
+            "created_at", "user_id", "cart_items = '[]'::jsonb, ");
+
+    private final String tableName;
+    private final String pendingStatus;
+    private final String expiredStatus;
+    private final String deadlineColumn;
+    private final String ownerColumn;
+    private final String extraAssignments;
+
+    ExpiringResource(String tableName, String pendingStatus, String expiredStatus, String deadlineColumn,
+            String ownerColumn, String extraAssignments) {
+        this.tableName = tableName;
+        this.pendingStatus = pendingStatus;
+        this.expiredStatus = expiredStatus;
+        this.deadlineColumn = deadlineColumn;
+        this.ownerColumn = ownerColumn;
+        this.extraAssignments = extraAssignments;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public String getPendingStatus() {
+        return pendingStatus;
+    }
+
+    public String getExpiredStatus() {
+        return expiredStatus;
+    }
+
+    public String getDeadlineColumn() {
+        return deadlineColumn;
+    }
+
+    public String getOwnerColumn() {
+        return ownerColumn;
+    }
+
+    /**
+     * Further {@code SET} assignments, each followed by a comma, applied when
+     * a row expires.
+     */
+    public String getExtraAssignments() {
+        return extraAssignments;
+    }
+}
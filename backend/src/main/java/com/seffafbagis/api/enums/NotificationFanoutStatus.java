@@ -0,0 +1,26 @@
+package com.seffafbagis.api.enums;
+
+/**
+ * Progress of a follower notification fan-out job.
+ */
+public enum NotificationFanoutStatus {
+    /**
+     * Recorded with the campaign change, waiting for the worker.
+     */
+    PENDING,
+
+    /**
+     * Claimed by a worker; picked up again if the lease expires.
+     */
+    RUNNING,
+
+    /**
+     * Every eligible follower has been notified.
+     */
+    COMPLETED,
+
+    /**
+     * Gave up after the maximum number of attempts.
+     */
+    FAILED
+}
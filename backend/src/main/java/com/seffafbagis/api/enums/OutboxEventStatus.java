@@ -0,0 +1,26 @@
+package com.seffafbagis.api.enums;
+
+/**
+ * Delivery status of a transactional outbox record.
+ */
+public enum OutboxEventStatus {
+    /**
+     * Written with the business transaction, waiting for delivery.
+     */
+    PENDING,
+
+    /**
+     * Claimed by a dispatcher; re-delivered if the lease expires.
+     */
+    PROCESSING,
+
+    /**
+     * Delivered to all listeners.
+     */
+    PUBLISHED,
+
+    /**
+     * Gave up after the maximum number of attempts.
+     */
+    FAILED
+}
@@ -0,0 +1,20 @@
+package com.seffafbagis.api.enums;
+
+/**
+ * Log tables range-partitioned by month on {@code created_at} (see V37).
+ */
+public enum PartitionedTable {
+    AUDIT_LOGS("audit_logs"),
+    LOGIN_HISTORY("login_history"),
+    EMAIL_LOGS("email_logs");
+
+    private final String tableName;
+
+    PartitionedTable(String tableName) {
+        this.tableName = tableName;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+}
@@ -0,0 +1,51 @@
+package com.seffafbagis.api.enums;
+
+/**
+ * Why a credit line of a bank statement could not be matched automatically.
+ */
+public enum ReconciliationExceptionReason {
+    /**
+     * The description carries no reference code and no pending transfer has
+     * the same amount and a similar sender name.
+     */
+    NO_REFERENCE,
+
+    /**
+     * The description carries a reference code that was never issued.
+     */
+    UNKNOWN_REFERENCE,
+
+    /**
+     * The description carries more than one pending reference code.
+     */
+    MULTIPLE_REFERENCES,
+
+    /**
+     * The reference is pending but the received amount differs from the
+     * expected amount.
+     */
+    AMOUNT_MISMATCH,
+
+    /**
+     * No reference code, and several pending transfers match the amount and
+     * sender name equally well.
+     */
+    AMBIGUOUS_SENDER,
+
+    /**
+     * The reference was already matched, earlier or by another line of the
+     * same statement.
+     */
+    ALREADY_MATCHED,
+
+    /**
+     * The transfer was booked after the reference expired, or the reference
+     * was cancelled.
+     */
+    EXPIRED_REFERENCE,
+
+    /**
+     * The line is not in Turkish lira.
+     */
+    UNSUPPORTED_CURRENCY
+}
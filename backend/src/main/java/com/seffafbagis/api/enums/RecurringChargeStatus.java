@@ -0,0 +1,21 @@
+package com.seffafbagis.api.enums;
+
+/**
+ * Outcome of charging one billing period of a recurring donation.
+ */
+public enum RecurringChargeStatus {
+    /**
+     * Claimed and sent to the payment gateway; the outcome is not recorded yet.
+     */
+    PROCESSING,
+
+    /**
+     * The gateway accepted the payment; the period is never charged again.
+     */
+    SUCCEEDED,
+
+    /**
+     * The gateway declined or the call failed; retried on a later run.
+     */
+    FAILED
+}
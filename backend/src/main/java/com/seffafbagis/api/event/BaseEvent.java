@@ -15,12 +15,12 @@ public abstract class BaseEvent {
     /**
      * Unique identifier for this event instance
      */
-    private final UUID eventId;
+    private UUID eventId;
 
     /**
      * Timestamp when the event occurred
      */
-    private final LocalDateTime occurredAt;
+    private LocalDateTime occurredAt;
 
     /**
      * User ID who triggered the event (can be null for system actions)
@@ -32,4 +32,13 @@ public abstract class BaseEvent {
         this.occurredAt = LocalDateTime.now();
         this.triggeredBy = triggeredBy;
     }
+
+    /**
+     * Gives an event rebuilt from storage its original identity, so a
+     * redelivered event keeps the id and time it was first raised with.
+     */
+    public void restore(UUID eventId, LocalDateTime occurredAt) {
+        this.eventId = eventId;
+        this.occurredAt = occurredAt;
+    }
 }
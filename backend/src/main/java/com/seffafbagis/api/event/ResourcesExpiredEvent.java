@@ -0,0 +1,40 @@
+package com.seffafbagis.api.event;
+
+import com.seffafbagis.api.enums.ExpiringResource;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Event published once per chunk expired by {@code ExpirySweeper}.
+ * Listeners notify the owners of the expired rows in bulk instead of
+ * reacting to each row.
+ */
+@Getter
+public class ResourcesExpiredEvent extends BaseEvent {
+
+    /**
+     * Kind of resource that expired
+     */
+    private final ExpiringResource resource;
+
+    /**
+     * IDs of the rows expired in this chunk
+     */
+    private final List<UUID> resourceIds;
+
+    /**
+     * Distinct owners of those rows (donors, cart users); rows without an
+     * owner are left out
+     */
+    private final List<UUID> ownerIds;
+
+    public ResourcesExpiredEvent(UUID triggeredBy, ExpiringResource resource, List<UUID> resourceIds,
+            List<UUID> ownerIds) {
+        super(triggeredBy);
+        this.resource = resource;
+        this.resourceIds = resourceIds;
+        this.ownerIds = ownerIds;
+    }
+}
@@ -0,0 +1,43 @@
+package com.seffafbagis.api.event.listener;
+
+import com.seffafbagis.api.cache.PublicCacheInvalidator;
+import com.seffafbagis.api.event.CampaignApprovedEvent;
+import com.seffafbagis.api.event.CampaignCompletedEvent;
+import com.seffafbagis.api.event.CampaignRejectedEvent;
+import com.seffafbagis.api.event.CampaignStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Evicts public campaign caches when a campaign changes state.
+ * Runs after commit so a concurrent reader cannot re-populate the cache with
+ * the pre-transaction state.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationEventListener {
+
+    private final PublicCacheInvalidator publicCacheInvalidator;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCampaignApproved(CampaignApprovedEvent event) {
+        publicCacheInvalidator.evictCampaign(event.getCampaignId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCampaignRejected(CampaignRejectedEvent event) {
+        publicCacheInvalidator.evictCampaign(event.getCampaignId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCampaignCompleted(CampaignCompletedEvent event) {
+        publicCacheInvalidator.evictCampaign(event.getCampaignId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCampaignStatusChanged(CampaignStatusChangedEvent event) {
+        publicCacheInvalidator.evictCampaign(event.getCampaignId());
+    }
+}
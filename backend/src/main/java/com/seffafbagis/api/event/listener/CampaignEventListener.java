@@ -1,5 +1,6 @@
 package com.seffafbagis.api.event.listener;
 
+import com.seffafbagis.api.enums.AuditDurability;
 import com.seffafbagis.api.event.CampaignCompletedEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,7 +37,7 @@ public class CampaignEventListener {
         campaignRepository.findById(event.getCampaignId()).ifPresent(campaign -> {
             notificationService.notifyCampaignApproved(campaign);
             auditLogService.log("campaign.approved", event.getTriggeredBy(), "campaign", event.getCampaignId(), null,
-                    null);
+                    null, AuditDurability.ASYNC);
         });
     }
 
@@ -47,7 +48,7 @@ public class CampaignEventListener {
         campaignRepository.findById(event.getCampaignId()).ifPresent(campaign -> {
             notificationService.notifyCampaignRejected(campaign, event.getRejectionReason());
             auditLogService.log("campaign.rejected", event.getTriggeredBy(), "campaign", event.getCampaignId(), null,
-                    null);
+                    null, AuditDurability.ASYNC);
         });
     }
 }
@@ -0,0 +1,31 @@
+package com.seffafbagis.api.event.listener;
+
+import com.seffafbagis.api.event.DonationCompletedEvent;
+import com.seffafbagis.api.event.DonationRefundedEvent;
+import com.seffafbagis.api.service.campaign.CampaignStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feeds donation lifecycle events into the campaign statistics read model.
+ *
+ * Both events arrive through the outbox (at-least-once); the service applies
+ * each donation once, so redelivery is harmless.
+ */
+@Component
+@RequiredArgsConstructor
+public class CampaignStatsEventListener {
+
+    private final CampaignStatsService campaignStatsService;
+
+    @EventListener
+    public void handleDonationCompleted(DonationCompletedEvent event) {
+        campaignStatsService.applyCompleted(event.getDonationId());
+    }
+
+    @EventListener
+    public void handleDonationRefunded(DonationRefundedEvent event) {
+        campaignStatsService.applyRefunded(event.getDonationId());
+    }
+}
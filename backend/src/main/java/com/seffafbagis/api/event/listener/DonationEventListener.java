@@ -1,6 +1,7 @@
 package com.seffafbagis.api.event.listener;
 
 import com.seffafbagis.api.entity.donation.Donation;
+import com.seffafbagis.api.enums.AuditDurability;
 import com.seffafbagis.api.event.DonationCompletedEvent;
 import com.seffafbagis.api.event.DonationCreatedEvent;
 import com.seffafbagis.api.event.DonationFailedEvent;
@@ -11,13 +12,17 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
 
 /**
  * Listener for donation-related events.
+ *
+ * Donation events are delivered by {@code OutboxDispatchScheduler} after the
+ * originating transaction has committed, so handlers already run off the
+ * request thread and are not dispatched to the shared async pool. Delivery is
+ * at-least-once.
  */
 @Component
 @RequiredArgsConstructor
@@ -29,7 +34,6 @@ public class DonationEventListener {
     private final DonationRepository donationRepository;
     private final AuditLogService auditLogService;
 
-    @Async
     @EventListener
     public void handleDonationCreated(DonationCreatedEvent event) {
         logger.info("Donation created event received: donationId={}, campaignId={}, amount={}",
@@ -37,7 +41,6 @@ public class DonationEventListener {
         // Additional processing logic can be added here
     }
 
-    @Async
     @EventListener
     public void handleDonationCompleted(DonationCompletedEvent event) {
         logger.info("Donation completed event received: donationId={}", event.getDonationId());
@@ -51,10 +54,9 @@ public class DonationEventListener {
         }
 
         auditLogService.log("donation.completed", event.getTriggeredBy(), "donation", event.getDonationId(), null,
-                null);
+                null, AuditDurability.ASYNC);
     }
 
-    @Async
     @EventListener
     public void handleDonationFailed(DonationFailedEvent event) {
         logger.info("Donation failed event received: donationId={}, reason={}", event.getDonationId(),
@@ -65,6 +67,7 @@ public class DonationEventListener {
                     "Bağışınız işlenirken bir hata oluştu: " + event.getFailureReason());
         }
 
-        auditLogService.log("donation.failed", event.getTriggeredBy(), "donation", event.getDonationId(), null, null);
+        auditLogService.log("donation.failed", event.getTriggeredBy(), "donation", event.getDonationId(), null, null,
+                AuditDurability.ASYNC);
     }
 }
@@ -0,0 +1,35 @@
+package com.seffafbagis.api.event.listener;
+
+import com.seffafbagis.api.enums.ExpiringResource;
+import com.seffafbagis.api.event.ResourcesExpiredEvent;
+import com.seffafbagis.api.service.notification.NotificationService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Notifies owners of rows expired by {@code ExpirySweeper}.
+ *
+ * One event arrives through the outbox per expired chunk, so each chunk is
+ * notified with one batched insert. Expired carts are not announced.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExpiryEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExpiryEventListener.class);
+
+    private final NotificationService notificationService;
+
+    @EventListener
+    public void handleResourcesExpired(ResourcesExpiredEvent event) {
+        logger.info("Resources expired event received: resource={}, count={}, owners={}",
+                event.getResource(), event.getResourceIds().size(), event.getOwnerIds().size());
+
+        if (event.getResource() == ExpiringResource.BANK_TRANSFER_REFERENCE) {
+            notificationService.notifyBankTransfersExpired(event.getOwnerIds());
+        }
+    }
+}
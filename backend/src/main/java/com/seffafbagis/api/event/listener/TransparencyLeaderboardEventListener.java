@@ -0,0 +1,24 @@
+package com.seffafbagis.api.event.listener;
+
+import com.seffafbagis.api.event.TransparencyScoreChangedEvent;
+import com.seffafbagis.api.service.transparency.TransparencyLeaderboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Marks the transparency leaderboard stale when a score changes.
+ * Runs after commit so the next refresh sees the new score.
+ */
+@Component
+@RequiredArgsConstructor
+public class TransparencyLeaderboardEventListener {
+
+    private final TransparencyLeaderboardService leaderboardService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleScoreChanged(TransparencyScoreChangedEvent event) {
+        leaderboardService.markStale();
+    }
+}
@@ -3,6 +3,7 @@ package com.seffafbagis.api.repository;
 import com.seffafbagis.api.entity.audit.AuditLog;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -24,6 +25,16 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, UUID> {
 
     Page<AuditLog> findAllByUserId(UUID userId, Pageable pageable);
 
+    // Keyset feed ordered by (created_at, id); see CursorUtils
+    @Query("SELECT a FROM AuditLog a WHERE a.userId = :userId ORDER BY a.createdAt DESC, a.id DESC")
+    Slice<AuditLog> findFeedByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query("SELECT a FROM AuditLog a WHERE a.userId = :userId AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)) ORDER BY a.createdAt DESC, a.id DESC")
+    Slice<AuditLog> findFeedByUserIdAfter(@Param("userId") UUID userId,
+            @Param("createdAt") OffsetDateTime createdAt,
+            @Param("id") UUID id,
+            Pageable pageable);
+
     Page<AuditLog> findAllByActionOrderByCreatedAtDesc(String action, Pageable pageable);
 
     Page<AuditLog> findAllByEntityTypeAndEntityIdOrderByCreatedAtDesc(String entityType, UUID entityId,
@@ -11,6 +11,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -45,6 +46,14 @@ public interface BankTransferReferenceRepository extends JpaRepository<BankTrans
 
     boolean existsByReferenceCode(String referenceCode);
 
+    /**
+     * Locks the given references that are still pending and returns their ids;
+     * references matched or expired in the meantime are left out.
+     */
+    @Query(value = "SELECT id FROM bank_transfer_references WHERE id IN (:ids) AND status = 'pending' "
+            + "FOR UPDATE", nativeQuery = true)
+    List<UUID> lockPendingByIdIn(@Param("ids") Collection<UUID> ids);
+
     List<BankTransferReference> findByStatus(String status);
 
     List<BankTransferReference> findByCampaignId(UUID campaignId);
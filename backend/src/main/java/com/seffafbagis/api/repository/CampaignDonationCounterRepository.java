@@ -0,0 +1,89 @@
+package com.seffafbagis.api.repository;
+
+import com.seffafbagis.api.entity.campaign.CampaignDonationCounter;
+import com.seffafbagis.api.entity.campaign.CampaignDonationCounterId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository for striped campaign donation counters.
+ */
+@Repository
+public interface CampaignDonationCounterRepository
+        extends JpaRepository<CampaignDonationCounter, CampaignDonationCounterId> {
+
+    /**
+     * Atomically adds one donation to the given shard, creating the shard row on
+     * first use.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO campaign_donation_counters (campaign_id, shard, amount, donor_count) "
+            + "VALUES (:campaignId, :shard, :amount, 1) "
+            + "ON CONFLICT (campaign_id, shard) DO UPDATE SET "
+            + "amount = campaign_donation_counters.amount + EXCLUDED.amount, "
+            + "donor_count = campaign_donation_counters.donor_count + 1", nativeQuery = true)
+    int addToShard(@Param("campaignId") UUID campaignId,
+            @Param("shard") int shard,
+            @Param("amount") BigDecimal amount);
+
+    /**
+     * Same as {@link #addToShard} for {@code donorCount} donations at once,
+     * used when completing donations in bulk.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO campaign_donation_counters (campaign_id, shard, amount, donor_count) "
+            + "VALUES (:campaignId, :shard, :amount, :donorCount) "
+            + "ON CONFLICT (campaign_id, shard) DO UPDATE SET "
+            + "amount = campaign_donation_counters.amount + EXCLUDED.amount, "
+            + "donor_count = campaign_donation_counters.donor_count + EXCLUDED.donor_count", nativeQuery = true)
+    int addManyToShard(@Param("campaignId") UUID campaignId,
+            @Param("shard") int shard,
+            @Param("amount") BigDecimal amount,
+            @Param("donorCount") int donorCount);
+
+    @Query("SELECT COALESCE(SUM(c.amount), 0) FROM CampaignDonationCounter c WHERE c.id.campaignId = :campaignId")
+    BigDecimal sumPendingAmountByCampaignId(@Param("campaignId") UUID campaignId);
+
+    @Query("SELECT COALESCE(SUM(c.donorCount), 0) FROM CampaignDonationCounter c WHERE c.id.campaignId = :campaignId")
+    Long sumPendingDonorCountByCampaignId(@Param("campaignId") UUID campaignId);
+
+    /**
+     * Drains every shard row and folds the totals into {@code campaigns} in a
+     * single statement. Returns the slugs of the campaigns updated, so their
+     * cached public views can be evicted.
+     *
+     * Not {@code @Modifying}: the UPDATE ... RETURNING is read as a result set.
+     */
+    @Query(value = "WITH drained AS ("
+            + "DELETE FROM campaign_donation_counters RETURNING campaign_id, amount, donor_count), "
+            + "totals AS (SELECT campaign_id, SUM(amount) AS amount, SUM(donor_count) AS donors "
+            + "FROM drained GROUP BY campaign_id) "
+            + "UPDATE campaigns c SET "
+            + "collected_amount = COALESCE(c.collected_amount, 0) + t.amount, "
+            + "donor_count = COALESCE(c.donor_count, 0) + t.donors, "
+            + "updated_at = CURRENT_TIMESTAMP "
+            + "FROM totals t WHERE c.id = t.campaign_id RETURNING c.slug", nativeQuery = true)
+    List<String> rollUpAll();
+
+    /**
+     * Same as {@link #rollUpAll()} but restricted to a single campaign. Empty
+     * if there was nothing to fold.
+     */
+    @Query(value = "WITH drained AS ("
+            + "DELETE FROM campaign_donation_counters WHERE campaign_id = :campaignId "
+            + "RETURNING amount, donor_count) "
+            + "UPDATE campaigns c SET "
+            + "collected_amount = COALESCE(c.collected_amount, 0) + (SELECT COALESCE(SUM(amount), 0) FROM drained), "
+            + "donor_count = COALESCE(c.donor_count, 0) + (SELECT COALESCE(SUM(donor_count), 0) FROM drained), "
+            + "updated_at = CURRENT_TIMESTAMP "
+            + "WHERE c.id = :campaignId AND EXISTS (SELECT 1 FROM drained) RETURNING c.slug", nativeQuery = true)
+    Optional<String> rollUpByCampaignId(@Param("campaignId") UUID campaignId);
+}
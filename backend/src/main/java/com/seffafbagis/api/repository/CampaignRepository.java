@@ -2,14 +2,25 @@ package com.seffafbagis.api.repository;
 
 import com.seffafbagis.api.entity.campaign.Campaign;
 import com.seffafbagis.api.enums.CampaignStatus;
+import com.seffafbagis.api.repository.projection.CampaignListProjection;
+import com.seffafbagis.api.repository.projection.CampaignTitleProjection;
+import com.seffafbagis.api.repository.projection.EvidenceDeadlineProjection;
+import com.seffafbagis.api.repository.projection.EvidenceReminderProjection;
+import com.seffafbagis.api.repository.projection.SearchFacetProjection;
+import com.seffafbagis.api.repository.projection.SearchSuggestionProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.List;
@@ -22,6 +33,9 @@ public interface CampaignRepository extends JpaRepository<Campaign, UUID>, JpaSp
 
         Optional<Campaign> findBySlug(String slug);
 
+        @Query("SELECT c.slug FROM Campaign c WHERE c.id = :id")
+        Optional<String> findSlugById(@Param("id") UUID id);
+
         Page<Campaign> findAllByStatus(CampaignStatus status, Pageable pageable);
 
         Page<Campaign> findByStatus(CampaignStatus status, Pageable pageable);
@@ -34,6 +48,21 @@ public interface CampaignRepository extends JpaRepository<Campaign, UUID>, JpaSp
 
         List<Campaign> findByOrganizationIdAndStatus(UUID organizationId, CampaignStatus status);
 
+        @Query(value = "SELECT c.id AS id, c.title AS title, c.slug AS slug, c.summary AS summary, "
+                        + "c.coverImageUrl AS coverImageUrl, c.targetAmount AS targetAmount, "
+                        + "c.collectedAmount AS collectedAmount, c.donorCount AS donorCount, c.currency AS currency, "
+                        + "c.status AS status, c.startDate AS startDate, c.endDate AS endDate, c.isUrgent AS isUrgent, "
+                        + "c.isFeatured AS isFeatured, c.locationCity AS locationCity, c.createdAt AS createdAt, "
+                        + "o.id AS organizationId, o.legalName AS organizationName, o.logoUrl AS organizationLogo, "
+                        + "c.realizationStatus AS realizationStatus, c.realizationDeadline AS realizationDeadline "
+                        + "FROM Campaign c JOIN c.organization o "
+                        + "WHERE o.id = :organizationId AND c.status = :status",
+                        countQuery = "SELECT COUNT(c) FROM Campaign c "
+                                        + "WHERE c.organization.id = :organizationId AND c.status = :status")
+        Page<CampaignListProjection> findListByOrganizationIdAndStatus(@Param("organizationId") UUID organizationId,
+                        @Param("status") CampaignStatus status,
+                        Pageable pageable);
+
         long countByOrganizationId(UUID organizationId);
 
         long countByStatus(CampaignStatus status);
@@ -55,7 +84,109 @@ public interface CampaignRepository extends JpaRepository<Campaign, UUID>, JpaSp
                         @Param("status") CampaignStatus status,
                         Pageable pageable);
 
+        @Query(value = "SELECT c.* FROM campaigns c WHERE c.status = :status AND "
+                        + SearchSql.CAMPAIGN_DOCUMENT + " @@ " + SearchSql.QUERY
+                        + " ORDER BY ts_rank(" + SearchSql.CAMPAIGN_DOCUMENT + ", " + SearchSql.QUERY + ") DESC, "
+                        + "c.donor_count DESC, c.id",
+                        countQuery = "SELECT COUNT(*) FROM campaigns c WHERE c.status = :status AND "
+                                        + SearchSql.CAMPAIGN_DOCUMENT + " @@ " + SearchSql.QUERY,
+                        nativeQuery = true)
+        Page<Campaign> searchFullText(@Param("query") String query,
+                        @Param("status") String status,
+                        Pageable pageable);
+
+        @Query(value = "SELECT c.id AS id, c.title AS label, c.slug AS slug FROM campaigns c "
+                        + "WHERE c.status = :status AND " + SearchSql.CAMPAIGN_TITLE_DOCUMENT + " @@ " + SearchSql.QUERY
+                        + " ORDER BY ts_rank(" + SearchSql.CAMPAIGN_TITLE_DOCUMENT + ", " + SearchSql.QUERY + ") DESC, "
+                        + "c.donor_count DESC, c.id LIMIT :limit",
+                        nativeQuery = true)
+        List<SearchSuggestionProjection> suggestByTitle(@Param("query") String query,
+                        @Param("status") String status,
+                        @Param("limit") int limit);
+
+        @Query(value = "SELECT c.status AS value, CAST(NULL AS varchar) AS label, COUNT(*) AS total FROM campaigns c "
+                        + "WHERE c.status IN (:statuses) AND " + SearchSql.CAMPAIGN_DOCUMENT + " @@ " + SearchSql.QUERY
+                        + " GROUP BY c.status",
+                        nativeQuery = true)
+        List<SearchFacetProjection> countSearchMatchesByStatus(@Param("query") String query,
+                        @Param("statuses") Collection<String> statuses);
+
+        @Query(value = "SELECT cat.slug AS value, cat.name AS label, COUNT(DISTINCT c.id) AS total FROM campaigns c "
+                        + "JOIN campaign_categories cc ON cc.campaign_id = c.id "
+                        + "JOIN categories cat ON cat.id = cc.category_id "
+                        + "WHERE c.status = :status AND " + SearchSql.CAMPAIGN_DOCUMENT + " @@ " + SearchSql.QUERY
+                        + " GROUP BY cat.slug, cat.name ORDER BY total DESC, cat.name",
+                        nativeQuery = true)
+        List<SearchFacetProjection> countSearchMatchesByCategory(@Param("query") String query,
+                        @Param("status") String status);
+
         List<Campaign> findByEndDateBeforeAndStatus(java.time.LocalDateTime endDate, CampaignStatus status);
 
         boolean existsBySlug(String slug);
+
+        /**
+         * Locks the next completed campaigns whose evidence deadline passed and
+         * has not been settled yet, flagging those whose approved evidence does
+         * not cover the collected amount. The evidence sum is resolved per row
+         * through {@code idx_evidences_campaign}, so the cost follows the number
+         * of newly due campaigns rather than all completed ones.
+         */
+        @Query(value = "SELECT c.id AS campaignId, c.organization_id AS organizationId, "
+                        + "COALESCE(c.collected_amount, 0) > " + APPROVED_EVIDENCE_SUM + " AS missed "
+                        + "FROM campaigns c "
+                        + "WHERE c.status = :status AND c.evidence_deadline_checked_at IS NULL "
+                        + "AND " + EVIDENCE_DEADLINE + " < :now "
+                        + "ORDER BY c.completed_at LIMIT :limit FOR UPDATE OF c SKIP LOCKED",
+                        nativeQuery = true)
+        List<EvidenceDeadlineProjection> findEvidenceDeadlinesDueForUpdate(@Param("status") String status,
+                        @Param("approvedStatus") String approvedStatus,
+                        @Param("now") OffsetDateTime now,
+                        @Param("limit") int limit);
+
+        /**
+         * Moves an ACTIVE campaign to COMPLETED. The status check is part of
+         * the UPDATE, so of several concurrent callers only one gets a row back
+         * and the others can skip the completion side effects.
+         *
+         * @return 1 if this call completed the campaign, 0 if it was no longer ACTIVE
+         */
+        @Modifying
+        @Transactional
+        @Query(value = "UPDATE campaigns SET status = 'COMPLETED', completed_at = :completedAt "
+                        + "WHERE id = :id AND status = 'ACTIVE'",
+                        nativeQuery = true)
+        int completeIfActive(@Param("id") UUID id, @Param("completedAt") LocalDateTime completedAt);
+
+        @Modifying
+        @Query(value = "UPDATE campaigns SET evidence_deadline_checked_at = :now WHERE id IN (:ids)",
+                        nativeQuery = true)
+        int markEvidenceDeadlineChecked(@Param("ids") Collection<UUID> ids, @Param("now") OffsetDateTime now);
+
+        /**
+         * Completed campaigns whose evidence deadline falls in {@code [now, until)}
+         * and whose approved evidence does not yet cover the collected amount.
+         */
+        @Query(value = "SELECT c.id AS campaignId, "
+                        + "CAST(FLOOR(EXTRACT(EPOCH FROM (" + EVIDENCE_DEADLINE + " - :now)) / 86400) AS integer) "
+                        + "AS daysRemaining "
+                        + "FROM campaigns c "
+                        + "WHERE c.status = :status AND c.evidence_deadline_checked_at IS NULL "
+                        + "AND " + EVIDENCE_DEADLINE + " >= :now AND " + EVIDENCE_DEADLINE + " < :until "
+                        + "AND COALESCE(c.collected_amount, 0) > " + APPROVED_EVIDENCE_SUM,
+                        nativeQuery = true)
+        List<EvidenceReminderProjection> findEvidenceDeadlinesApproaching(@Param("status") String status,
+                        @Param("approvedStatus") String approvedStatus,
+                        @Param("now") OffsetDateTime now,
+                        @Param("until") OffsetDateTime until);
+
+        @Query("SELECT c FROM Campaign c JOIN FETCH c.organization o JOIN FETCH o.user WHERE c.id IN :ids")
+        List<Campaign> findWithOrganizationOwnerByIdIn(@Param("ids") Collection<UUID> ids);
+
+        @Query("SELECT c.id AS id, c.title AS title FROM Campaign c WHERE c.id IN :ids")
+        List<CampaignTitleProjection> findTitlesByIdIn(@Param("ids") Collection<UUID> ids);
+
+        String EVIDENCE_DEADLINE = "(c.completed_at + make_interval(days => COALESCE(c.evidence_deadline_days, 15)))";
+
+        String APPROVED_EVIDENCE_SUM = "(SELECT COALESCE(SUM(e.amount_spent), 0) FROM evidences e "
+                        + "WHERE e.campaign_id = c.id AND CAST(e.status AS varchar) = :approvedStatus)";
 }
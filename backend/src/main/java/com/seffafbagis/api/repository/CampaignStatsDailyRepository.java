@@ -0,0 +1,55 @@
+package com.seffafbagis.api.repository;
+
+import com.seffafbagis.api.entity.campaign.CampaignStatsDaily;
+import com.seffafbagis.api.entity.campaign.CampaignStatsDailyId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository for daily campaign donation buckets.
+ */
+@Repository
+public interface CampaignStatsDailyRepository extends JpaRepository<CampaignStatsDaily, CampaignStatsDailyId> {
+
+    /**
+     * Adds a (possibly negative) delta to a day bucket, creating it on first use.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO campaign_stats_daily (campaign_id, bucket_date, donation_count, total_amount) "
+            + "VALUES (:campaignId, :bucketDate, :count, :amount) "
+            + "ON CONFLICT (campaign_id, bucket_date) DO UPDATE SET "
+            + "donation_count = campaign_stats_daily.donation_count + EXCLUDED.donation_count, "
+            + "total_amount = campaign_stats_daily.total_amount + EXCLUDED.total_amount", nativeQuery = true)
+    int addToBucket(@Param("campaignId") UUID campaignId,
+            @Param("bucketDate") LocalDate bucketDate,
+            @Param("count") long count,
+            @Param("amount") BigDecimal amount);
+
+    @Modifying
+    @Query("DELETE FROM CampaignStatsDaily d WHERE d.id.campaignId = :campaignId")
+    int deleteByCampaignId(@Param("campaignId") UUID campaignId);
+
+    /**
+     * Recomputes every bucket of a campaign from its counted donations.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO campaign_stats_daily (campaign_id, bucket_date, donation_count, total_amount) "
+            + "SELECT campaign_id, CAST(created_at AT TIME ZONE 'Europe/Istanbul' AS date), COUNT(*), SUM(amount) "
+            + "FROM donations WHERE campaign_id = :campaignId AND stats_state = 'COUNTED' "
+            + "GROUP BY campaign_id, CAST(created_at AT TIME ZONE 'Europe/Istanbul' AS date)", nativeQuery = true)
+    int rebuildForCampaign(@Param("campaignId") UUID campaignId);
+
+    @Query("SELECT d FROM CampaignStatsDaily d WHERE d.id.campaignId = :campaignId "
+            + "AND d.id.bucketDate BETWEEN :from AND :to ORDER BY d.id.bucketDate")
+    List<CampaignStatsDaily> findSeries(@Param("campaignId") UUID campaignId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+}
@@ -0,0 +1,56 @@
+package com.seffafbagis.api.repository;
+
+import com.seffafbagis.api.entity.campaign.CampaignStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository for the campaign statistics read model.
+ */
+@Repository
+public interface CampaignStatsRepository extends JpaRepository<CampaignStats, UUID> {
+
+    /**
+     * Creates an empty statistics row for the campaign unless one exists.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO campaign_stats (campaign_id, donation_count, unique_donors, total_amount, updated_at) "
+            + "VALUES (:campaignId, 0, 0, 0, CURRENT_TIMESTAMP) "
+            + "ON CONFLICT (campaign_id) DO NOTHING", nativeQuery = true)
+    int createIfMissing(@Param("campaignId") UUID campaignId);
+
+    /**
+     * Loads the row with a write lock; every change to a campaign's statistics
+     * goes through this lock, so incremental updates and rebuilds serialize.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM CampaignStats s WHERE s.campaignId = :campaignId")
+    Optional<CampaignStats> findByIdForUpdate(@Param("campaignId") UUID campaignId);
+
+    /**
+     * Campaigns whose statistics may be stale: those with donations updated
+     * since the campaign was last rebuilt, and those with a donation whose
+     * {@code stats_state} disagrees with its status (e.g. a completion that
+     * bypassed the event). Only donations updated after the newest rebuild
+     * are considered for the first case, less an hour for transactions that
+     * were still open when it ran; older changes were seen by that rebuild.
+     */
+    @Query(value = "SELECT d.campaign_id FROM donations d "
+            + "LEFT JOIN campaign_stats s ON s.campaign_id = d.campaign_id "
+            + "WHERE d.updated_at >= (SELECT COALESCE(MAX(rebuilt_at) - INTERVAL '1 hour', '-infinity') "
+            + "FROM campaign_stats) "
+            + "AND (s.rebuilt_at IS NULL OR d.updated_at > s.rebuilt_at) "
+            + "UNION SELECT campaign_id FROM donations "
+            + "WHERE (status = 'COMPLETED' AND stats_state IS DISTINCT FROM 'COUNTED') "
+            + "OR (status <> 'COMPLETED' AND stats_state = 'COUNTED')", nativeQuery = true)
+    List<UUID> findCampaignIdsToReconcile();
+}
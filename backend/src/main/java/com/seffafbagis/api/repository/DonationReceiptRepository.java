@@ -2,8 +2,6 @@ package com.seffafbagis.api.repository;
 
 import com.seffafbagis.api.entity.donation.DonationReceipt;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -20,7 +18,4 @@ public interface DonationReceiptRepository extends JpaRepository<DonationReceipt
     Optional<DonationReceipt> findByReceiptNumber(String receiptNumber);
 
     boolean existsByDonationId(UUID donationId);
-
-    @Query("SELECT MAX(CAST(SUBSTRING(r.receiptNumber, LENGTH(:prefix) + 1) AS int)) FROM DonationReceipt r WHERE r.receiptNumber LIKE :prefix")
-    Integer findMaxReceiptNumberByYear(@Param("prefix") String prefix);
 }
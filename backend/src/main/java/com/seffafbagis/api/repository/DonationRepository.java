@@ -2,15 +2,19 @@ package com.seffafbagis.api.repository;
 
 import com.seffafbagis.api.entity.donation.Donation;
 import com.seffafbagis.api.enums.DonationStatus;
+import com.seffafbagis.api.repository.projection.CampaignStatsAggregate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -37,6 +41,36 @@ public interface DonationRepository extends JpaRepository<Donation, UUID> {
         @Query("SELECT d FROM Donation d WHERE d.campaign.organization.id = :organizationId")
         Page<Donation> findByCampaignOrganizationId(@Param("organizationId") UUID organizationId, Pageable pageable);
 
+        // Keyset feeds ordered by (created_at, id); see CursorUtils. No COUNT query is issued for a Slice.
+
+        @Query("SELECT d FROM Donation d WHERE d.donor.id = :donorId ORDER BY d.createdAt DESC, d.id DESC")
+        Slice<Donation> findFeedByDonorId(@Param("donorId") UUID donorId, Pageable pageable);
+
+        @Query("SELECT d FROM Donation d WHERE d.donor.id = :donorId AND (d.createdAt < :createdAt OR (d.createdAt = :createdAt AND d.id < :id)) ORDER BY d.createdAt DESC, d.id DESC")
+        Slice<Donation> findFeedByDonorIdAfter(@Param("donorId") UUID donorId,
+                        @Param("createdAt") OffsetDateTime createdAt,
+                        @Param("id") UUID id,
+                        Pageable pageable);
+
+        @Query("SELECT d FROM Donation d WHERE d.campaign.id = :campaignId ORDER BY d.createdAt DESC, d.id DESC")
+        Slice<Donation> findFeedByCampaignId(@Param("campaignId") UUID campaignId, Pageable pageable);
+
+        @Query("SELECT d FROM Donation d WHERE d.campaign.id = :campaignId AND (d.createdAt < :createdAt OR (d.createdAt = :createdAt AND d.id < :id)) ORDER BY d.createdAt DESC, d.id DESC")
+        Slice<Donation> findFeedByCampaignIdAfter(@Param("campaignId") UUID campaignId,
+                        @Param("createdAt") OffsetDateTime createdAt,
+                        @Param("id") UUID id,
+                        Pageable pageable);
+
+        @Query("SELECT d FROM Donation d WHERE d.campaign.organization.id = :organizationId ORDER BY d.createdAt DESC, d.id DESC")
+        Slice<Donation> findFeedByCampaignOrganizationId(@Param("organizationId") UUID organizationId,
+                        Pageable pageable);
+
+        @Query("SELECT d FROM Donation d WHERE d.campaign.organization.id = :organizationId AND (d.createdAt < :createdAt OR (d.createdAt = :createdAt AND d.id < :id)) ORDER BY d.createdAt DESC, d.id DESC")
+        Slice<Donation> findFeedByCampaignOrganizationIdAfter(@Param("organizationId") UUID organizationId,
+                        @Param("createdAt") OffsetDateTime createdAt,
+                        @Param("id") UUID id,
+                        Pageable pageable);
+
         List<Donation> findAllByCampaignIdAndStatus(UUID campaignId, DonationStatus status);
 
         @Query("SELECT SUM(d.amount) FROM Donation d WHERE d.campaign.id = :campaignId AND d.status = 'COMPLETED'")
@@ -47,6 +81,46 @@ public interface DonationRepository extends JpaRepository<Donation, UUID> {
 
         long countByCampaignId(UUID campaignId);
 
+        // ========== Campaign statistics maintenance ==========
+
+        /**
+         * Marks a completed donation as counted; returns 0 if it was already
+         * counted, which makes event redelivery a no-op.
+         */
+        @Modifying
+        @Query(value = "UPDATE donations SET stats_state = 'COUNTED' "
+                        + "WHERE id = :id AND status = 'COMPLETED' AND stats_state IS NULL", nativeQuery = true)
+        int markCountedInStats(@Param("id") UUID id);
+
+        /**
+         * Marks a counted donation as reversed; returns 0 if it was not counted.
+         */
+        @Modifying
+        @Query(value = "UPDATE donations SET stats_state = 'REVERSED' "
+                        + "WHERE id = :id AND status <> 'COMPLETED' AND stats_state = 'COUNTED'", nativeQuery = true)
+        int markReversedInStats(@Param("id") UUID id);
+
+        @Modifying
+        @Query(value = "UPDATE donations SET stats_state = CASE WHEN status = 'COMPLETED' THEN 'COUNTED' ELSE 'REVERSED' END "
+                        + "WHERE campaign_id = :campaignId AND ("
+                        + "(status = 'COMPLETED' AND stats_state IS DISTINCT FROM 'COUNTED') OR "
+                        + "(status <> 'COMPLETED' AND stats_state = 'COUNTED'))", nativeQuery = true)
+        int reconcileStatsStates(@Param("campaignId") UUID campaignId);
+
+        @Query("SELECT CASE WHEN COUNT(d) > 0 THEN true ELSE false END FROM Donation d "
+                        + "WHERE d.campaign.id = :campaignId AND d.donor.id = :donorId "
+                        + "AND d.statsState = 'COUNTED' AND d.id <> :excludedId")
+        boolean existsOtherCountedDonation(@Param("campaignId") UUID campaignId,
+                        @Param("donorId") UUID donorId,
+                        @Param("excludedId") UUID excludedId);
+
+        @Query("SELECT COUNT(d) AS donationCount, COUNT(DISTINCT d.donor.id) AS uniqueDonors, "
+                        + "COALESCE(SUM(d.amount), 0) AS totalAmount, MIN(d.amount) AS minAmount, "
+                        + "MAX(d.amount) AS maxAmount, MAX(d.createdAt) AS lastDonationAt "
+                        + "FROM Donation d WHERE d.campaign.id = :campaignId AND d.statsState = 'COUNTED'")
+        CampaignStatsAggregate aggregateCountedByCampaignId(@Param("campaignId") UUID campaignId);
+
+
         long countByDonorId(UUID donorId);
 
         long countByStatus(DonationStatus status);
@@ -69,4 +143,9 @@ public interface DonationRepository extends JpaRepository<Donation, UUID> {
         @Query("SELECT COUNT(DISTINCT d.donor.id) FROM Donation d WHERE d.campaign.id = :campaignId AND d.status = :status")
         long countDistinctDonorsByCampaignIdAndStatus(@Param("campaignId") UUID campaignId,
                         @Param("status") DonationStatus status);
+
+        @Modifying
+        @Query("UPDATE Donation d SET d.status = :status, d.updatedAt = :now WHERE d.id IN :ids")
+        int updateStatus(@Param("ids") Collection<UUID> ids, @Param("status") DonationStatus status,
+                        @Param("now") OffsetDateTime now);
 }
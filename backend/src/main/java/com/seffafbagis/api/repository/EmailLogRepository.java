@@ -12,6 +12,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -38,7 +41,7 @@ public interface EmailLogRepository extends JpaRepository<EmailLog, UUID> {
 
     @Modifying
     @Transactional
-    void deleteBySentAtBefore(LocalDateTime before);
+    long deleteBySentAtBefore(LocalDateTime before);
 
     /**
      * Count emails sent to a user.
@@ -64,5 +67,28 @@ public interface EmailLogRepository extends JpaRepository<EmailLog, UUID> {
 
     Page<EmailLog> findByStatus(String status, Pageable pageable);
 
-    Page<EmailLog> findByStatusAndRetryCountLessThan(String status, int maxRetries, Pageable pageable);
+    /**
+     * Locks the next batch of emails due for sending, through the partial
+     * {@code idx_email_logs_due} index. {@code SKIP LOCKED} lets several
+     * dispatcher nodes drain the queue concurrently. Expired {@code sending}
+     * leases are picked up again.
+     */
+    @Query(value = "SELECT * FROM email_logs "
+            + "WHERE status IN ('queued', 'sending') AND next_attempt_at <= :now "
+            + "ORDER BY next_attempt_at "
+            + "LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<EmailLog> findDueForUpdate(@Param("now") OffsetDateTime now, @Param("limit") int limit);
+
+    long countByStatusIn(Collection<String> statuses);
+
+    /**
+     * Puts permanently failed emails back on the queue with fresh retries.
+     * Rows logged before template variables were stored cannot be rendered
+     * again and are left alone.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE email_logs SET status = 'queued', retry_count = 0, next_attempt_at = :now, "
+            + "updated_at = :now WHERE status = 'failed' AND variables IS NOT NULL", nativeQuery = true)
+    int requeueFailed(@Param("now") OffsetDateTime now);
 }
@@ -0,0 +1,33 @@
+package com.seffafbagis.api.repository;
+
+import com.seffafbagis.api.entity.notification.NotificationFanoutJob;
+import com.seffafbagis.api.enums.NotificationFanoutStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository for follower notification fan-out jobs.
+ */
+@Repository
+public interface NotificationFanoutJobRepository extends JpaRepository<NotificationFanoutJob, UUID> {
+
+    /**
+     * Locks the next due jobs. {@code SKIP LOCKED} lets several workers run
+     * side by side; jobs whose {@code RUNNING} lease expired are picked up
+     * again and continue from their cursor.
+     */
+    @Query(value = "SELECT * FROM notification_fanout_jobs "
+            + "WHERE status IN ('PENDING', 'RUNNING') AND available_at <= :now "
+            + "ORDER BY created_at "
+            + "LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<NotificationFanoutJob> findDueForUpdate(@Param("now") OffsetDateTime now, @Param("limit") int limit);
+
+    long countByStatusIn(Collection<NotificationFanoutStatus> statuses);
+}
@@ -3,6 +3,7 @@ package com.seffafbagis.api.repository;
 import com.seffafbagis.api.entity.notification.Notification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -11,6 +12,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,13 +26,24 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
 
     Page<Notification> findByUserIdAndIsReadFalseOrderByCreatedAtDesc(UUID userId, Pageable pageable);
 
+    // Keyset feed ordered by (created_at, id); see CursorUtils
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId ORDER BY n.createdAt DESC, n.id DESC")
+    Slice<Notification> findFeedByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) ORDER BY n.createdAt DESC, n.id DESC")
+    Slice<Notification> findFeedByUserIdAfter(@Param("userId") UUID userId,
+            @Param("createdAt") OffsetDateTime createdAt,
+            @Param("id") UUID id,
+            Pageable pageable);
+
     // Existing methods kept or updated
     Page<Notification> findAllByUserIdOrderByCreatedAtDesc(UUID userId, Pageable pageable);
 
     @Modifying
     @Transactional
-    @Query("UPDATE Notification n SET n.isRead = true WHERE n.id = :notificationId AND n.userId = :userId")
-    void markAsRead(@Param("notificationId") UUID notificationId, @Param("userId") UUID userId);
+    @Query("UPDATE Notification n SET n.isRead = true "
+            + "WHERE n.id = :notificationId AND n.userId = :userId AND n.isRead = false")
+    int markAsRead(@Param("notificationId") UUID notificationId, @Param("userId") UUID userId);
 
     @Modifying
     @Transactional
@@ -41,9 +54,17 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
 
     long countByUserIdAndIsReadFalse(UUID userId);
 
+    long countByUserId(UUID userId);
+
+    /**
+     * Deletes up to {@code limit} read notifications created before the cutoff.
+     * Called in a loop so each batch is a short transaction.
+     */
     @Modifying
     @Transactional
-    void deleteByIsReadTrueAndCreatedAtBefore(java.time.OffsetDateTime before);
+    @Query(value = "DELETE FROM notifications WHERE id IN (SELECT id FROM notifications "
+            + "WHERE is_read = TRUE AND created_at < :before LIMIT :limit)", nativeQuery = true)
+    int deleteReadBefore(@Param("before") OffsetDateTime before, @Param("limit") int limit);
 
     @Modifying
     @Transactional
@@ -2,6 +2,7 @@ package com.seffafbagis.api.repository;
 
 import com.seffafbagis.api.entity.organization.Organization;
 import com.seffafbagis.api.enums.VerificationStatus;
+import com.seffafbagis.api.repository.projection.SearchSuggestionProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -43,6 +44,27 @@ public interface OrganizationRepository extends JpaRepository<Organization, UUID
                         @Param("status") VerificationStatus status,
                         Pageable pageable);
 
+        @Query(value = "SELECT o.* FROM organizations o WHERE o.verification_status = :status AND "
+                        + SearchSql.ORGANIZATION_DOCUMENT + " @@ " + SearchSql.QUERY
+                        + " ORDER BY ts_rank(" + SearchSql.ORGANIZATION_DOCUMENT + ", " + SearchSql.QUERY + ") DESC, "
+                        + "o.is_featured DESC, o.id",
+                        countQuery = "SELECT COUNT(*) FROM organizations o WHERE o.verification_status = :status AND "
+                                        + SearchSql.ORGANIZATION_DOCUMENT + " @@ " + SearchSql.QUERY,
+                        nativeQuery = true)
+        Page<Organization> searchFullText(@Param("query") String query,
+                        @Param("status") String status,
+                        Pageable pageable);
+
+        @Query(value = "SELECT o.id AS id, o.legal_name AS label, CAST(NULL AS varchar) AS slug FROM organizations o "
+                        + "WHERE o.verification_status = :status AND " + SearchSql.ORGANIZATION_NAME_DOCUMENT + " @@ "
+                        + SearchSql.QUERY
+                        + " ORDER BY ts_rank(" + SearchSql.ORGANIZATION_NAME_DOCUMENT + ", " + SearchSql.QUERY + ") DESC, "
+                        + "o.is_featured DESC, o.id LIMIT :limit",
+                        nativeQuery = true)
+        List<SearchSuggestionProjection> suggestByName(@Param("query") String query,
+                        @Param("status") String status,
+                        @Param("limit") int limit);
+
         boolean existsByTaxNumber(String taxNumber);
 
         long countByVerificationStatus(VerificationStatus status);
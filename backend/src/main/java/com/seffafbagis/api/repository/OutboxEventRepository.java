@@ -0,0 +1,49 @@
+package com.seffafbagis.api.repository;
+
+import com.seffafbagis.api.entity.event.OutboxEvent;
+import com.seffafbagis.api.enums.OutboxEventStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository for transactional outbox records.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, UUID> {
+
+    /**
+     * Locks the next batch of deliverable events. {@code SKIP LOCKED} lets
+     * several dispatcher nodes drain the table concurrently without blocking
+     * each other. Expired {@code PROCESSING} leases are picked up again.
+     */
+    @Query(value = "SELECT * FROM outbox_events "
+            + "WHERE status IN ('PENDING', 'PROCESSING') AND available_at <= :now "
+            + "ORDER BY created_at "
+            + "LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvent> findDueForUpdate(@Param("now") OffsetDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = :status, e.publishedAt = :publishedAt, e.lastError = NULL "
+            + "WHERE e.id IN :ids")
+    int markPublished(@Param("ids") Collection<UUID> ids,
+            @Param("status") OutboxEventStatus status,
+            @Param("publishedAt") OffsetDateTime publishedAt);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = :status AND e.publishedAt < :before")
+    int deleteByStatusAndPublishedAtBefore(@Param("status") OutboxEventStatus status,
+            @Param("before") OffsetDateTime before);
+
+    long countByStatusIn(Collection<OutboxEventStatus> statuses);
+
+    @Query("SELECT MIN(e.createdAt) FROM OutboxEvent e WHERE e.status IN :statuses")
+    OffsetDateTime findOldestCreatedAtByStatusIn(@Param("statuses") Collection<OutboxEventStatus> statuses);
+}
@@ -0,0 +1,21 @@
+package com.seffafbagis.api.repository;
+
+import com.seffafbagis.api.entity.donation.RecurringDonationCharge;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface RecurringDonationChargeRepository extends JpaRepository<RecurringDonationCharge, UUID> {
+
+    /**
+     * Charges of the given subscriptions for any of the given periods; callers
+     * match the exact (subscription, period) pairs.
+     */
+    List<RecurringDonationCharge> findByRecurringDonationIdInAndBillingPeriodIn(Collection<UUID> recurringDonationIds,
+            Collection<LocalDate> billingPeriods);
+}
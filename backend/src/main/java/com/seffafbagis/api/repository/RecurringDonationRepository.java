@@ -4,11 +4,14 @@ import com.seffafbagis.api.entity.donation.RecurringDonation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -29,6 +32,32 @@ public interface RecurringDonationRepository extends JpaRepository<RecurringDona
     @Query("SELECT r FROM RecurringDonation r WHERE r.status = 'active' AND r.nextPaymentDate <= :date")
     List<RecurringDonation> findDueForProcessing(@Param("date") LocalDate date);
 
+    /**
+     * Locks the next chunk of active subscriptions due on or before
+     * {@code today}. {@code SKIP LOCKED} lets several charging nodes work
+     * through the backlog concurrently; rows leased by another run or waiting
+     * to retry a failed charge are skipped until {@code charge_lease_until}.
+     */
+    @Query(value = "SELECT * FROM recurring_donations "
+            + "WHERE status = 'active' AND next_payment_date <= :today "
+            + "AND (charge_lease_until IS NULL OR charge_lease_until <= :now) "
+            + "ORDER BY next_payment_date "
+            + "LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<RecurringDonation> findDueForUpdate(@Param("today") LocalDate today, @Param("now") OffsetDateTime now,
+            @Param("limit") int limit);
+
+    /**
+     * Loads what the payment gateway needs (buyer and basket) for claimed
+     * subscriptions, so charges can run outside the transaction.
+     */
+    @Query("SELECT DISTINCT r FROM RecurringDonation r JOIN FETCH r.donor d LEFT JOIN FETCH d.profile "
+            + "LEFT JOIN FETCH r.campaign WHERE r.id IN :ids")
+    List<RecurringDonation> findWithDonorAndCampaignByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("UPDATE RecurringDonation r SET r.chargeLeaseUntil = :until WHERE r.id IN :ids")
+    int leaseForCharging(@Param("ids") Collection<UUID> ids, @Param("until") OffsetDateTime until);
+
     @Query("SELECT r FROM RecurringDonation r WHERE r.campaign.id = :campaignId")
     List<RecurringDonation> findAllByCampaignId(@Param("campaignId") UUID campaignId);
 
@@ -0,0 +1,39 @@
+package com.seffafbagis.api.repository;
+
+/**
+ * SQL fragments shared by the full-text search queries.
+ * <p>
+ * Documents are folded to lower-case ASCII (Turkish letters mapped the same way
+ * as {@link com.seffafbagis.api.util.SearchQueryNormalizer}) and indexed with the
+ * {@code simple} configuration, so "Çocuk", "cocuk" and "ÇOCUK" all match.
+ * The expressions are repeated verbatim in the GIN expression indexes of
+ * {@code V35__add_full_text_search_indexes.sql}; PostgreSQL only uses an
+ * expression index when the query expression is identical, so keep both in sync.
+ */
+final class SearchSql {
+
+    private static final String FOLD_FROM = "'İIıŞşĞğÇçÖöÜü'";
+    private static final String FOLD_TO = "'iiissggccoouu'";
+
+    static final String CAMPAIGN_TITLE_DOCUMENT = "to_tsvector('simple', lower(translate(coalesce(c.title, ''), "
+            + FOLD_FROM + ", " + FOLD_TO + ")))";
+
+    static final String CAMPAIGN_DOCUMENT = "(setweight(" + CAMPAIGN_TITLE_DOCUMENT + ", 'A')"
+            + " || setweight(to_tsvector('simple', lower(translate(coalesce(c.short_description, ''), "
+            + FOLD_FROM + ", " + FOLD_TO + "))), 'B')"
+            + " || setweight(to_tsvector('simple', lower(translate(coalesce(c.description, ''), "
+            + FOLD_FROM + ", " + FOLD_TO + "))), 'C'))";
+
+    static final String ORGANIZATION_NAME_DOCUMENT = "to_tsvector('simple', lower(translate("
+            + "coalesce(o.legal_name, '') || ' ' || coalesce(o.trade_name, ''), " + FOLD_FROM + ", " + FOLD_TO + ")))";
+
+    static final String ORGANIZATION_DOCUMENT = "(setweight(" + ORGANIZATION_NAME_DOCUMENT + ", 'A')"
+            + " || setweight(to_tsvector('simple', lower(translate(coalesce(o.description, ''), "
+            + FOLD_FROM + ", " + FOLD_TO + "))), 'C'))";
+
+    static final String QUERY = "to_tsquery('simple', :query)";
+
+    private SearchSql() {
+        throw new AssertionError("Cannot instantiate SearchSql");
+    }
+}
@@ -1,12 +1,18 @@
 package com.seffafbagis.api.repository;
 
 import com.seffafbagis.api.entity.transparency.TransparencyScore;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -20,7 +26,16 @@ public interface TransparencyScoreRepository extends JpaRepository<TransparencyS
 
     boolean existsByOrganizationId(UUID organizationId);
 
-    Page<TransparencyScore> findTopByOrderByCurrentScoreDesc(Pageable pageable);
+    /**
+     * Locks an organization's score; events are appended to its history only
+     * while this lock is held, which keeps {@code event_version} gap-free.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM TransparencyScore s WHERE s.organizationId = :organizationId")
+    Optional<TransparencyScore> findForUpdateByOrganizationId(@Param("organizationId") UUID organizationId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<TransparencyScore> findByOrganizationIdIn(Collection<UUID> organizationIds);
 
     Page<TransparencyScore> findByCurrentScoreLessThan(BigDecimal threshold, Pageable pageable);
 }
@@ -3,6 +3,7 @@ package com.seffafbagis.api.repository;
 import com.seffafbagis.api.entity.user.User;
 import com.seffafbagis.api.enums.UserRole;
 import com.seffafbagis.api.enums.UserStatus;
+import com.seffafbagis.api.repository.projection.UserAuthProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -24,6 +25,14 @@ public interface UserRepository extends JpaRepository<User, UUID>, JpaSpecificat
 
     Optional<User> findByEmail(String email);
 
+    /**
+     * Loads only the columns needed to authenticate a request, without the
+     * user's one-to-one associations.
+     */
+    @Query("SELECT u.id AS id, u.email AS email, u.role AS role, u.status AS status, "
+            + "u.emailVerified AS emailVerified FROM User u WHERE u.id = :id")
+    Optional<UserAuthProjection> findAuthProjectionById(@Param("id") UUID id);
+
     boolean existsByEmail(String email);
 
     List<User> findByRole(UserRole role);
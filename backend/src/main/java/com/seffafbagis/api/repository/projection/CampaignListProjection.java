@@ -0,0 +1,58 @@
+package com.seffafbagis.api.repository.projection;
+
+import com.seffafbagis.api.enums.CampaignStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Column projection of a campaign for list pages.
+ * Carries exactly the fields read by {@code CampaignMapper.toResponse}, so list
+ * queries select a flat row instead of hydrating the entity and its associations.
+ */
+public interface CampaignListProjection {
+
+    UUID getId();
+
+    String getTitle();
+
+    String getSlug();
+
+    String getSummary();
+
+    String getCoverImageUrl();
+
+    BigDecimal getTargetAmount();
+
+    BigDecimal getCollectedAmount();
+
+    Integer getDonorCount();
+
+    String getCurrency();
+
+    CampaignStatus getStatus();
+
+    LocalDateTime getStartDate();
+
+    LocalDateTime getEndDate();
+
+    Boolean getIsUrgent();
+
+    Boolean getIsFeatured();
+
+    String getLocationCity();
+
+    OffsetDateTime getCreatedAt();
+
+    UUID getOrganizationId();
+
+    String getOrganizationName();
+
+    String getOrganizationLogo();
+
+    String getRealizationStatus();
+
+    LocalDateTime getRealizationDeadline();
+}
@@ -0,0 +1,22 @@
+package com.seffafbagis.api.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+/**
+ * Aggregates over the donations counted in a campaign's statistics.
+ */
+public interface CampaignStatsAggregate {
+
+    Long getDonationCount();
+
+    Long getUniqueDonors();
+
+    BigDecimal getTotalAmount();
+
+    BigDecimal getMinAmount();
+
+    BigDecimal getMaxAmount();
+
+    OffsetDateTime getLastDonationAt();
+}
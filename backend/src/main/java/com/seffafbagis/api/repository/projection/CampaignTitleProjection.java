@@ -0,0 +1,13 @@
+package com.seffafbagis.api.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Campaign id and title, for labelling rows that refer to a campaign.
+ */
+public interface CampaignTitleProjection {
+
+    UUID getId();
+
+    String getTitle();
+}
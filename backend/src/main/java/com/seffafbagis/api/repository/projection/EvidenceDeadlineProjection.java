@@ -0,0 +1,16 @@
+package com.seffafbagis.api.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Completed campaign whose evidence deadline has passed, and whether its
+ * approved evidence fell short of the collected amount.
+ */
+public interface EvidenceDeadlineProjection {
+
+    UUID getCampaignId();
+
+    UUID getOrganizationId();
+
+    Boolean getMissed();
+}
@@ -0,0 +1,14 @@
+package com.seffafbagis.api.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Completed campaign with insufficient approved evidence and the whole days
+ * left until its evidence deadline.
+ */
+public interface EvidenceReminderProjection {
+
+    UUID getCampaignId();
+
+    Integer getDaysRemaining();
+}
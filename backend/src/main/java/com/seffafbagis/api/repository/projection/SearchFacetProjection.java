@@ -0,0 +1,14 @@
+package com.seffafbagis.api.repository.projection;
+
+/**
+ * One bucket of a search facet: the grouped value, an optional display label
+ * and the number of matching rows.
+ */
+public interface SearchFacetProjection {
+
+    String getValue();
+
+    String getLabel();
+
+    Long getTotal();
+}
@@ -0,0 +1,15 @@
+package com.seffafbagis.api.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Autocomplete row: identifier, display text and, where the resource has one, its slug.
+ */
+public interface SearchSuggestionProjection {
+
+    UUID getId();
+
+    String getLabel();
+
+    String getSlug();
+}
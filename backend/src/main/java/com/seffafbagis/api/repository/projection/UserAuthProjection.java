@@ -0,0 +1,22 @@
+package com.seffafbagis.api.repository.projection;
+
+import com.seffafbagis.api.enums.UserRole;
+import com.seffafbagis.api.enums.UserStatus;
+
+import java.util.UUID;
+
+/**
+ * User columns needed by the JWT filter to authorize a request.
+ */
+public interface UserAuthProjection {
+
+    UUID getId();
+
+    String getEmail();
+
+    UserRole getRole();
+
+    UserStatus getStatus();
+
+    Boolean getEmailVerified();
+}
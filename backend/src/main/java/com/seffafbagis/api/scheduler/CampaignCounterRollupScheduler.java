@@ -0,0 +1,32 @@
+package com.seffafbagis.api.scheduler;
+
+import com.seffafbagis.api.service.campaign.CampaignDonationCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically folds striped donation counters into campaign totals.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "scheduler.campaign-counter.enabled", havingValue = "true", matchIfMissing = true)
+public class CampaignCounterRollupScheduler {
+
+    private final CampaignDonationCounterService campaignDonationCounterService;
+
+    @Scheduled(fixedDelayString = "${scheduler.campaign-counter.rollup-interval-ms:5000}")
+    public void rollUpCounters() {
+        try {
+            int updated = campaignDonationCounterService.rollUp();
+            if (updated > 0) {
+                log.debug("Rolled up donation counters for {} campaigns", updated);
+            }
+        } catch (Exception e) {
+            log.error("Campaign counter roll-up failed", e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.seffafbagis.api.scheduler;
+
+import com.seffafbagis.api.service.campaign.CampaignStatsService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Nightly reconciliation of the campaign statistics read model.
+ *
+ * Rebuilds campaigns with donation activity since their last rebuild, or
+ * with donations whose stats marker is out of sync with their status, from
+ * the donations table, one campaign per transaction, and counts campaigns
+ * whose incrementally maintained values had drifted. Idle campaigns are not
+ * visited, so a run costs in proportion to the day's activity rather than to
+ * the whole donations table.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "scheduler.campaign-stats.enabled", havingValue = "true", matchIfMissing = true)
+public class CampaignStatsRebuildScheduler {
+
+    private final CampaignStatsService campaignStatsService;
+    private final Counter driftCounter;
+
+    public CampaignStatsRebuildScheduler(CampaignStatsService campaignStatsService, MeterRegistry meterRegistry) {
+        this.campaignStatsService = campaignStatsService;
+        this.driftCounter = Counter.builder("campaign.stats.drift")
+                .description("Campaigns whose statistics differed from the donations table at rebuild")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${scheduler.campaign-stats.rebuild-cron:0 15 3 * * *}", zone = "Europe/Istanbul")
+    public void rebuildAll() {
+        List<UUID> campaignIds = campaignStatsService.findCampaignIdsToReconcile();
+        int drifted = 0;
+        int failed = 0;
+        for (UUID campaignId : campaignIds) {
+            try {
+                if (campaignStatsService.rebuild(campaignId)) {
+                    drifted++;
+                }
+            } catch (Exception e) {
+                failed++;
+                log.error("Campaign stats rebuild failed for {}", campaignId, e);
+            }
+        }
+        driftCounter.increment(drifted);
+        log.info("Rebuilt campaign stats for {} campaigns ({} drifted, {} failed)", campaignIds.size(), drifted, failed);
+    }
+}
@@ -3,6 +3,7 @@ package com.seffafbagis.api.scheduler;
 import com.seffafbagis.api.entity.campaign.Campaign;
 import com.seffafbagis.api.enums.CampaignStatus;
 import com.seffafbagis.api.repository.CampaignRepository;
+import com.seffafbagis.api.service.notification.NotificationFanoutService;
 import com.seffafbagis.api.service.notification.NotificationService;
 import com.seffafbagis.api.service.transparency.TransparencyScoreService;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +23,7 @@ public class CampaignStatusScheduler {
 
     private final CampaignRepository campaignRepository;
     private final NotificationService notificationService;
+    private final NotificationFanoutService notificationFanoutService;
     private final TransparencyScoreService transparencyScoreService;
 
     @Scheduled(cron = "0 0 */6 * * ?", zone = "Europe/Istanbul")
@@ -96,16 +98,16 @@ public class CampaignStatusScheduler {
     }
 
     private void completeCampaign(Campaign campaign) {
+        LocalDateTime completedAt = LocalDateTime.now();
+        if (campaignRepository.completeIfActive(campaign.getId(), completedAt) == 0) {
+            // Completed by a donation or its owner since it was read
+            return;
+        }
         campaign.setStatus(CampaignStatus.COMPLETED);
-        campaign.setCompletedAt(LocalDateTime.now());
-        campaignRepository.save(campaign);
+        campaign.setCompletedAt(completedAt);
 
         notificationService.notifyCampaignCompleted(campaign);
         transparencyScoreService.onCampaignCompleted(campaign.getId());
-
-        // Notify followers - Implementation depends on Follower Repository/Service
-        // availability
-        // Assuming we rely on generic notification logic or separate job for mass
-        // notifications
+        notificationFanoutService.enqueueCampaignCompleted(campaign);
     }
 }
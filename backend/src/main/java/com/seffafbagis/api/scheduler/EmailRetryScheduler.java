@@ -1,82 +0,0 @@
-package com.seffafbagis.api.scheduler;
-
-import com.seffafbagis.api.entity.notification.EmailLog;
-import com.seffafbagis.api.repository.EmailLogRepository;
-import com.seffafbagis.api.service.notification.EmailService;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.scheduling.annotation.Scheduled;
-import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-
-@Component
-@Slf4j
-@RequiredArgsConstructor
-public class EmailRetryScheduler {
-
-    private final EmailLogRepository emailLogRepository;
-    private final EmailService emailService;
-
-    @Scheduled(cron = "0 */30 * * * ?", zone = "Europe/Istanbul")
-    public void retryFailedEmails() {
-        log.info("Starting email retry job");
-
-        try {
-            // Find failed emails with retry_count < 5
-            int maxRetries = 5;
-            Page<EmailLog> failedEmails = emailLogRepository.findByStatusAndRetryCountLessThan("failed", maxRetries,
-                    PageRequest.of(0, 50));
-
-            for (EmailLog logEntry : failedEmails) {
-                try {
-                    retryEmail(logEntry);
-                } catch (Exception e) {
-                    log.error("Failed to retry email log {}", logEntry.getId(), e);
-                    updateRetryCount(logEntry, e.getMessage());
-                }
-            }
-
-        } catch (Exception e) {
-            log.error("Email retry job failed", e);
-        }
-    }
-
-    @Transactional
-    public void retryEmail(EmailLog logEntry) {
-        // Since EmailLog currently just stores info and not the full payload
-        // map/context needed to resend properly via Thymeleaf,
-        // we can't fully reconstruct the *exact* email message object just from
-        // EmailLog unless we serialized the variables.
-        // However, we can attempt to re-trigger if logic allows, or just mark it.
-        // Given Phase 13 didn't seem to serialize the variable map into JSON in
-        // EmailLog, we are limited.
-
-        // Mock implementation of retry logic:
-        // In a real app, EmailLog should store `variables` as JSON.
-        // For now, we'll increment retry count and pretend we tried.
-        // If EmailService has a method to "resend" from log, we'd use it.
-
-        // Calling placeholder in service
-        // emailService.sendEmail(...) - but we lack variables.
-
-        // Updating log entry as if we tried
-
-        // If we want to simulate success or failure:
-        // logEntry.setStatus("sent");
-        // or
-        // updateRetryCount(logEntry, "Retry failed due to missing context");
-
-        // Since prompt requires specific logic "Attempt to resend", we acknowledge
-        // implementation limitation.
-        // We will increment retry count.
-        updateRetryCount(logEntry, "Resend not fully supported without stored context");
-    }
-
-    private void updateRetryCount(EmailLog logEntry, String lastError) {
-        logEntry.setRetryCount(logEntry.getRetryCount() + 1);
-        logEntry.setErrorMessage(lastError);
-        emailLogRepository.save(logEntry);
-    }
-}
@@ -5,24 +5,28 @@ import com.seffafbagis.api.entity.campaign.Campaign;
 import com.seffafbagis.api.enums.CampaignStatus;
 import com.seffafbagis.api.enums.EvidenceStatus;
 import com.seffafbagis.api.repository.CampaignRepository;
-import com.seffafbagis.api.repository.EvidenceRepository;
+import com.seffafbagis.api.repository.projection.EvidenceReminderProjection;
 import com.seffafbagis.api.service.notification.NotificationService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 /**
  * Scheduler for sending evidence upload reminders.
+ *
+ * One query finds the completed campaigns whose evidence deadline is within
+ * the reminder window and whose approved evidence does not yet cover the
+ * collected amount; only campaigns that are due a reminder today are loaded.
  */
 @Component
 @RequiredArgsConstructor
@@ -32,7 +36,6 @@ public class EvidenceReminderScheduler {
     private static final Logger logger = LoggerFactory.getLogger(EvidenceReminderScheduler.class);
 
     private final CampaignRepository campaignRepository;
-    private final EvidenceRepository evidenceRepository;
     private final NotificationService notificationService;
     private final SchedulerProperties schedulerProperties;
 
@@ -40,52 +43,27 @@ public class EvidenceReminderScheduler {
     public void sendEvidenceReminders() {
         logger.info("Starting evidence reminder job");
 
-        int page = 0;
-        int size = 50;
-        Page<Campaign> campaignPage;
-
-        do {
-            campaignPage = campaignRepository.findByStatus(CampaignStatus.COMPLETED, PageRequest.of(page, size));
-            for (Campaign campaign : campaignPage.getContent()) {
-                checkEvidenceDeadlines(campaign);
-            }
-            page++;
-        } while (campaignPage.hasNext());
-
-        logger.info("Evidence reminder job completed");
-    }
-
-    private void checkEvidenceDeadlines(Campaign campaign) {
-        if (campaign.getCompletedAt() == null) {
+        List<Integer> reminderDays = schedulerProperties.getEvidenceReminder().getReminderDays();
+        if (reminderDays == null || reminderDays.isEmpty()) {
             return;
         }
 
-        int deadlineDays = campaign.getEvidenceDeadlineDays() != null ? campaign.getEvidenceDeadlineDays() : 30; // Default
-                                                                                                                 // 30
-                                                                                                                 // as
-                                                                                                                 // per
-                                                                                                                 // test
-                                                                                                                 // implication/common
-                                                                                                                 // sense
-        LocalDateTime deadline = campaign.getCompletedAt().plusDays(deadlineDays);
-        long daysRemaining = ChronoUnit.DAYS.between(LocalDateTime.now(), deadline);
-
-        List<Integer> reminderDays = schedulerProperties.getEvidenceReminder().getReminderDays();
-
-        if (reminderDays.contains((int) daysRemaining)) {
-            BigDecimal totalSpent = evidenceRepository.sumAmountSpentByCampaignIdAndStatus(
-                    campaign.getId(), EvidenceStatus.APPROVED);
-
-            if (totalSpent == null) {
-                totalSpent = BigDecimal.ZERO;
+        OffsetDateTime now = OffsetDateTime.now();
+        OffsetDateTime until = now.plusDays(Collections.max(reminderDays) + 1L);
+        Map<UUID, Integer> due = new HashMap<>();
+        for (EvidenceReminderProjection campaign : campaignRepository.findEvidenceDeadlinesApproaching(
+                CampaignStatus.COMPLETED.name(), EvidenceStatus.APPROVED.name(), now, until)) {
+            if (reminderDays.contains(campaign.getDaysRemaining())) {
+                due.put(campaign.getCampaignId(), campaign.getDaysRemaining());
             }
+        }
 
-            BigDecimal collectedAmount = campaign.getCollectedAmount() != null ? campaign.getCollectedAmount()
-                    : BigDecimal.ZERO;
-
-            if (totalSpent.compareTo(collectedAmount) < 0) {
-                notificationService.notifyEvidenceRequired(campaign, (int) daysRemaining);
+        if (!due.isEmpty()) {
+            for (Campaign campaign : campaignRepository.findWithOrganizationOwnerByIdIn(due.keySet())) {
+                notificationService.notifyEvidenceRequired(campaign, due.get(campaign.getId()));
             }
         }
+
+        logger.info("Evidence reminder job completed: {} reminders", due.size());
     }
 }
@@ -0,0 +1,141 @@
+package com.seffafbagis.api.scheduler;
+
+import com.seffafbagis.api.config.SchedulerProperties;
+import com.seffafbagis.api.entity.notification.EmailLog;
+import com.seffafbagis.api.service.notification.MailDispatchService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drain worker for the email queue in {@code email_logs}.
+ *
+ * Each run claims due emails in batches on the scheduler thread and sends
+ * them on a dedicated pool of {@code workerThreads} mail threads, so slow SMTP
+ * round trips never occupy the shared {@code @Async} pool. A run waits for
+ * its batches before returning; when every mail thread is busy the scheduler
+ * thread sends the next batch itself, which stops it from claiming more than
+ * can be sent before the leases expire. Failed emails come back through the
+ * same due-time index once their backoff has passed.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "scheduler.mail-dispatch.enabled", havingValue = "true", matchIfMissing = true)
+public class MailDispatchScheduler {
+
+    private final MailDispatchService mailDispatchService;
+    private final SchedulerProperties schedulerProperties;
+    private final ThreadPoolTaskExecutor executor;
+
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+    private final AtomicLong backlog = new AtomicLong();
+
+    public MailDispatchScheduler(MailDispatchService mailDispatchService,
+            SchedulerProperties schedulerProperties,
+            MeterRegistry meterRegistry) {
+        this.mailDispatchService = mailDispatchService;
+        this.schedulerProperties = schedulerProperties;
+        SchedulerProperties.MailDispatchProperties props = schedulerProperties.getMailDispatch();
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(props.getWorkerThreads());
+        executor.setMaxPoolSize(props.getWorkerThreads());
+        executor.setQueueCapacity(props.getWorkerThreads());
+        executor.setThreadNamePrefix("mail-dispatch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        this.sentCounter = Counter.builder("mail.dispatch.sent")
+                .description("Emails accepted by the SMTP server")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("mail.dispatch.failed")
+                .description("Email send attempts that failed")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("mail.dispatch.batch")
+                .description("Time to render, send and record one batch of emails")
+                .register(meterRegistry);
+        Gauge.builder("mail.dispatch.backlog", backlog, AtomicLong::get)
+                .description("Emails queued or being sent")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.mail-dispatch.poll-interval-ms:1000}")
+    public void dispatch() {
+        SchedulerProperties.MailDispatchProperties props = schedulerProperties.getMailDispatch();
+        List<Future<?>> inFlight = new ArrayList<>();
+        try {
+            for (int run = 0; run < props.getMaxBatchesPerRun(); run++) {
+                List<EmailLog> batch = mailDispatchService.claimBatch();
+                if (batch.isEmpty()) {
+                    break;
+                }
+                inFlight.add(executor.submit(() -> deliver(batch)));
+                if (batch.size() < props.getBatchSize()) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Mail dispatch failed", e);
+        } finally {
+            awaitAll(inFlight);
+        }
+        try {
+            backlog.set(mailDispatchService.countBacklog());
+        } catch (Exception e) {
+            log.debug("Could not refresh mail backlog gauge: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    void deliver(List<EmailLog> batch) {
+        Timer.Sample sample = Timer.start();
+        try {
+            int sent = mailDispatchService.deliver(batch);
+            sentCounter.increment(sent);
+            failedCounter.increment(batch.size() - sent);
+            log.debug("Sent {}/{} emails", sent, batch.size());
+        } catch (InterruptedException e) {
+            // Claimed emails stay leased and are picked up again after the lease expires
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            failedCounter.increment(batch.size());
+            log.error("Mail batch of {} could not be delivered", batch.size(), e);
+        } finally {
+            sample.stop(batchTimer);
+        }
+    }
+
+    private static void awaitAll(List<Future<?>> futures) {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                log.error("Mail batch failed", e.getCause());
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.seffafbagis.api.scheduler;
+
+import com.seffafbagis.api.config.SchedulerProperties;
+import com.seffafbagis.api.entity.event.OutboxEvent;
+import com.seffafbagis.api.service.outbox.OutboxService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drain worker for the transactional outbox.
+ *
+ * Claims pending events in batches and republishes them to the in-process
+ * listeners on the scheduler thread. Backpressure is natural: the backlog
+ * stays in the database and each run drains at most
+ * {@code batchSize * maxBatchesPerRun} events, so slow consumers never push
+ * work back onto request threads.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "scheduler.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxDispatchScheduler {
+
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SchedulerProperties schedulerProperties;
+
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Timer deliveryLagTimer;
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong oldestLagSeconds = new AtomicLong();
+
+    public OutboxDispatchScheduler(OutboxService outboxService,
+            ApplicationEventPublisher eventPublisher,
+            SchedulerProperties schedulerProperties,
+            MeterRegistry meterRegistry) {
+        this.outboxService = outboxService;
+        this.eventPublisher = eventPublisher;
+        this.schedulerProperties = schedulerProperties;
+        this.publishedCounter = Counter.builder("outbox.events.published")
+                .description("Outbox events delivered to listeners")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("outbox.events.failed")
+                .description("Outbox event deliveries that threw")
+                .register(meterRegistry);
+        this.deliveryLagTimer = Timer.builder("outbox.events.lag")
+                .description("Time between an event being written and delivered")
+                .register(meterRegistry);
+        Gauge.builder("outbox.events.backlog", backlog, AtomicLong::get)
+                .description("Outbox events waiting for delivery")
+                .register(meterRegistry);
+        Gauge.builder("outbox.events.oldest.age.seconds", oldestLagSeconds, AtomicLong::get)
+                .description("Age of the oldest undelivered outbox event")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.outbox.poll-interval-ms:500}")
+    public void dispatch() {
+        SchedulerProperties.OutboxProperties props = schedulerProperties.getOutbox();
+        try {
+            for (int run = 0; run < props.getMaxBatchesPerRun(); run++) {
+                int claimed = dispatchBatch();
+                if (claimed < props.getBatchSize()) {
+                    break;
+                }
+            }
+            refreshBacklogGauges();
+        } catch (Exception e) {
+            log.error("Outbox dispatch failed", e);
+        }
+    }
+
+    @Scheduled(cron = "${scheduler.outbox.purge-cron:0 30 4 * * *}", zone = "Europe/Istanbul")
+    public void purgePublished() {
+        int deleted = outboxService.purgePublished();
+        log.info("Purged {} published outbox events", deleted);
+    }
+
+    int dispatchBatch() {
+        List<OutboxEvent> batch = outboxService.claimBatch();
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<UUID> delivered = new ArrayList<>(batch.size());
+        for (OutboxEvent record : batch) {
+            try {
+                eventPublisher.publishEvent(outboxService.decode(record));
+                delivered.add(record.getId());
+                if (record.getCreatedAt() != null) {
+                    deliveryLagTimer.record(Duration.between(record.getCreatedAt(), OffsetDateTime.now()));
+                }
+            } catch (Exception e) {
+                failedCounter.increment();
+                log.warn("Outbox event {} ({}) delivery failed: {}", record.getId(), record.getEventType(),
+                        e.getMessage());
+                outboxService.markFailed(record.getId(), e);
+            }
+        }
+
+        outboxService.markPublished(delivered);
+        publishedCounter.increment(delivered.size());
+        log.debug("Dispatched {}/{} outbox events", delivered.size(), batch.size());
+        return batch.size();
+    }
+
+    private void refreshBacklogGauges() {
+        backlog.set(outboxService.countBacklog());
+        OffsetDateTime oldest = outboxService.findOldestBacklogCreatedAt();
+        oldestLagSeconds.set(oldest != null ? Math.max(0, Duration.between(oldest, OffsetDateTime.now()).toSeconds()) : 0);
+    }
+}
@@ -0,0 +1,47 @@
+package com.seffafbagis.api.scheduler;
+
+import com.seffafbagis.api.config.SchedulerProperties;
+import com.seffafbagis.api.enums.PartitionedTable;
+import com.seffafbagis.api.service.system.LogPartitionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps monthly partitions of the log tables created ahead of time, so rows
+ * never land in the DEFAULT partition. Runs at startup as well, in case the
+ * application was down across a month boundary.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "scheduler.partitions.enabled", havingValue = "true", matchIfMissing = true)
+public class PartitionMaintenanceScheduler {
+
+    private final LogPartitionService logPartitionService;
+    private final SchedulerProperties schedulerProperties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        createUpcomingPartitions();
+    }
+
+    @Scheduled(cron = "${scheduler.partitions.maintenance-cron:0 30 1 * * *}", zone = "Europe/Istanbul")
+    public void createUpcomingPartitions() {
+        int monthsAhead = schedulerProperties.getPartitions().getMonthsAhead();
+        for (PartitionedTable table : PartitionedTable.values()) {
+            try {
+                int months = logPartitionService.ensurePartitions(table, monthsAhead);
+                if (months > 0) {
+                    log.debug("Partitions of {} cover the next {} months", table.getTableName(), months);
+                }
+            } catch (Exception e) {
+                log.error("Partition maintenance failed for {}", table.getTableName(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.seffafbagis.api.scheduler;
+
+import com.seffafbagis.api.service.payment.PaymentSessionService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduler for expiring abandoned shopping carts.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "scheduler.payment-session.enabled", havingValue = "true", matchIfMissing = true)
+public class PaymentSessionExpiryScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(PaymentSessionExpiryScheduler.class);
+
+    private final PaymentSessionService paymentSessionService;
+
+    @Scheduled(cron = "${scheduler.payment-session.cron:0 5/15 * * * *}")
+    public void expirePaymentSessions() {
+        try {
+            long expired = paymentSessionService.cleanupExpiredSessions();
+            logger.info("Payment session expiry job completed: {} sessions expired", expired);
+        } catch (Exception e) {
+            logger.error("Payment session expiry job failed", e);
+        }
+    }
+}
@@ -1,66 +1,185 @@
 package com.seffafbagis.api.scheduler;
 
 import com.seffafbagis.api.config.SchedulerProperties;
-import com.seffafbagis.api.entity.donation.RecurringDonation;
-import com.seffafbagis.api.repository.RecurringDonationRepository;
-import com.seffafbagis.api.service.payment.PaymentService;
-import lombok.RequiredArgsConstructor;
+import com.seffafbagis.api.service.payment.ClaimedChunk;
+import com.seffafbagis.api.service.payment.RecurringCharge;
+import com.seffafbagis.api.service.payment.RecurringChargeService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Scheduler for processing recurring donations.
+ *
+ * Each run works through the due subscriptions chunk by chunk: a chunk is
+ * claimed in one transaction, its gateway calls run in parallel on a bounded
+ * pool of {@code workerThreads} threads, and the outcomes are recorded
+ * together before the next chunk is claimed. At most
+ * {@code maxConcurrentPerMerchant} calls for the same receiving organization
+ * are in flight at once, so one large organization cannot take the whole pool
+ * or trip the gateway's per-merchant limits.
  */
 @Component
-@RequiredArgsConstructor
 @ConditionalOnProperty(name = "scheduler.recurring-donation.enabled", havingValue = "true", matchIfMissing = true)
 public class RecurringDonationScheduler {
 
     private static final Logger logger = LoggerFactory.getLogger(RecurringDonationScheduler.class);
 
-    private final RecurringDonationRepository recurringDonationRepository;
-    private final PaymentService paymentService;
+    private final RecurringChargeService recurringChargeService;
     private final SchedulerProperties schedulerProperties;
+    private final ThreadPoolTaskExecutor executor;
+    private final Map<UUID, Semaphore> merchantPermits = new ConcurrentHashMap<>();
+
+    private final Counter succeededCounter;
+    private final Counter failedCounter;
+    private final Timer gatewayTimer;
+    private final DistributionSummary throughput;
+    private final AtomicLong lastRunCharged = new AtomicLong();
+    private final AtomicLong lastRunFailed = new AtomicLong();
+
+    public RecurringDonationScheduler(RecurringChargeService recurringChargeService,
+            SchedulerProperties schedulerProperties,
+            MeterRegistry meterRegistry) {
+        this.recurringChargeService = recurringChargeService;
+        this.schedulerProperties = schedulerProperties;
+        SchedulerProperties.RecurringDonationProperties props = schedulerProperties.getRecurringDonation();
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(props.getWorkerThreads());
+        executor.setMaxPoolSize(props.getWorkerThreads());
+        executor.setQueueCapacity(props.getChunkSize());
+        executor.setThreadNamePrefix("recurring-charge-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+
+        this.succeededCounter = Counter.builder("recurring.charges")
+                .tag("result", "succeeded")
+                .description("Recurring donation charges accepted by the payment gateway")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("recurring.charges")
+                .tag("result", "failed")
+                .description("Recurring donation charges that were declined or errored")
+                .register(meterRegistry);
+        this.gatewayTimer = Timer.builder("recurring.charge.gateway")
+                .description("Time of one recurring charge call to the payment gateway")
+                .register(meterRegistry);
+        this.throughput = DistributionSummary.builder("recurring.charge.throughput")
+                .baseUnit("charges/s")
+                .description("Charges completed per second, measured per chunk")
+                .register(meterRegistry);
+        Gauge.builder("recurring.charge.failure.ratio", this, RecurringDonationScheduler::lastRunFailureRatio)
+                .description("Share of charges that failed in the last run")
+                .register(meterRegistry);
+    }
 
     @Scheduled(cron = "${scheduler.recurring-donation.cron:0 0 6 * * *}")
     public void processRecurringDonations() {
         logger.info("Starting recurring donation processing job");
+        SchedulerProperties.RecurringDonationProperties props = schedulerProperties.getRecurringDonation();
+        LocalDate today = LocalDate.now();
+        long charged = 0;
+        long failed = 0;
+        try {
+            for (int chunk = 0; chunk < props.getMaxChunksPerRun(); chunk++) {
+                ClaimedChunk claimed = recurringChargeService.claimChunk(today);
+                if (claimed.isExhausted()) {
+                    break;
+                }
+                // A chunk whose periods were all skipped has nothing to charge, but more may still be due
+                List<RecurringCharge> charges = claimed.getCharges();
+                if (!charges.isEmpty()) {
+                    failed += processChunk(charges, today);
+                    charged += charges.size();
+                }
+            }
+        } catch (Exception e) {
+            // Claimed subscriptions stay leased and are picked up again by a later run
+            logger.error("Recurring donation processing stopped", e);
+        } finally {
+            lastRunCharged.set(charged);
+            lastRunFailed.set(failed);
+        }
+        logger.info("Recurring donation processing job completed: {} charged, {} failed", charged, failed);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
 
-        List<RecurringDonation> dueDonations = recurringDonationRepository.findByStatusAndNextPaymentDateLessThanEqual(
-                "Active", LocalDate.now());
+    /**
+     * Charges one claimed chunk in parallel and records it.
+     *
+     * @return number of failed charges
+     */
+    long processChunk(List<RecurringCharge> charges, LocalDate today) {
+        long started = System.nanoTime();
+        List<Future<?>> inFlight = new ArrayList<>(charges.size());
+        for (RecurringCharge charge : charges) {
+            inFlight.add(executor.submit(() -> charge(charge)));
+        }
+        awaitAll(inFlight);
+        recurringChargeService.recordResults(charges, today);
 
-        for (RecurringDonation donation : dueDonations) {
-            try {
-                processSingleDonation(donation);
-            } catch (Exception e) {
-                logger.error("Error processing recurring donation: {}", donation.getId(), e);
-            }
+        long failed = charges.stream().filter(charge -> !charge.isSucceeded()).count();
+        succeededCounter.increment(charges.size() - failed);
+        failedCounter.increment(failed);
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        if (seconds > 0) {
+            throughput.record(charges.size() / seconds);
         }
+        return failed;
+    }
 
-        logger.info("Recurring donation processing job completed");
+    private void charge(RecurringCharge charge) {
+        Semaphore permits = merchantPermits.computeIfAbsent(charge.getMerchantId(),
+                id -> new Semaphore(Math.max(1, schedulerProperties.getRecurringDonation()
+                        .getMaxConcurrentPerMerchant())));
+        permits.acquireUninterruptibly();
+        try {
+            gatewayTimer.record(() -> recurringChargeService.charge(charge));
+        } finally {
+            permits.release();
+        }
     }
 
-    private void processSingleDonation(RecurringDonation donation) {
-        boolean success = paymentService.processRecurringPayment(donation);
+    private double lastRunFailureRatio() {
+        long charged = lastRunCharged.get();
+        return charged == 0 ? 0.0 : (double) lastRunFailed.get() / charged;
+    }
 
-        if (success) {
-            // paymentService presumably updates next payment date or similar,
-            // but the test expects repository.save(donation) to be called.
-            // If paymentService handles logic, we might just save state if needed.
-            // But test specifically verifies repo.save(donation).
-            recurringDonationRepository.save(donation);
-        } else {
-            donation.setFailureCount(donation.getFailureCount() + 1);
-            if (donation.getFailureCount() >= schedulerProperties.getRecurringDonation().getMaxRetries()) {
-                donation.setStatus("Failed");
+    private static void awaitAll(List<Future<?>> futures) {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while charging recurring donations", e);
+            } catch (ExecutionException e) {
+                logger.error("Recurring charge failed", e.getCause());
             }
-            recurringDonationRepository.save(donation);
         }
     }
 }
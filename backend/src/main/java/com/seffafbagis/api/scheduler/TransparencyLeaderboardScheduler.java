@@ -0,0 +1,31 @@
+package com.seffafbagis.api.scheduler;
+
+import com.seffafbagis.api.service.transparency.TransparencyLeaderboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the transparency leaderboard after score changes.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "scheduler.transparency-leaderboard.enabled", havingValue = "true", matchIfMissing = true)
+public class TransparencyLeaderboardScheduler {
+
+    private final TransparencyLeaderboardService leaderboardService;
+
+    @Scheduled(fixedDelayString = "${scheduler.transparency-leaderboard.refresh-interval-ms:30000}")
+    public void refreshLeaderboard() {
+        try {
+            if (leaderboardService.refreshIfStale()) {
+                log.debug("Transparency leaderboard refreshed");
+            }
+        } catch (Exception e) {
+            log.error("Transparency leaderboard refresh failed", e);
+        }
+    }
+}
@@ -1,24 +1,23 @@
 package com.seffafbagis.api.scheduler;
 
-import com.seffafbagis.api.entity.campaign.Campaign;
+import com.seffafbagis.api.config.SchedulerProperties;
 import com.seffafbagis.api.entity.organization.Organization;
 import com.seffafbagis.api.enums.CampaignStatus;
-import com.seffafbagis.api.enums.EvidenceStatus;
 import com.seffafbagis.api.repository.CampaignRepository;
-import com.seffafbagis.api.repository.EvidenceRepository;
 import com.seffafbagis.api.repository.OrganizationRepository;
+import com.seffafbagis.api.service.transparency.TransparencyScoreEngine;
 import com.seffafbagis.api.service.transparency.TransparencyScoreService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.data.domain.Page;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
-import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.List;
 
 /**
@@ -33,8 +32,24 @@ public class TransparencyScoreScheduler {
 
     private final TransparencyScoreService transparencyScoreService;
     private final OrganizationRepository organizationRepository;
-    private final EvidenceRepository evidenceRepository;
     private final CampaignRepository campaignRepository;
+    private final SchedulerProperties schedulerProperties;
+    private final TransparencyScoreEngine scoreEngine;
+
+    /**
+     * Applies a scoring rule change retroactively: scores computed with an
+     * older {@code RULES_VERSION} are replayed from their history.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void replayAfterRuleChange() {
+        try {
+            if (scoreEngine.hasStaleScores()) {
+                transparencyScoreService.replayScores(false);
+            }
+        } catch (Exception e) {
+            logger.error("Transparency score replay failed", e);
+        }
+    }
 
     @Scheduled(cron = "${scheduler.transparency-score.cron:0 0 2 * * *}")
     public void recalculateScores() {
@@ -57,50 +72,20 @@ public class TransparencyScoreScheduler {
         // Logic to apply consistency bonus
     }
 
+    /**
+     * Settles every evidence deadline that has passed since the last run, one
+     * batch at a time. Each campaign is settled once, so the work follows the
+     * number of newly due campaigns rather than all completed ones.
+     */
     public void penalizeMissedDeadlines() {
-        int page = 0;
-        int size = 50;
-        Page<Campaign> campaignPage;
-
+        int batchSize = schedulerProperties.getTransparencyScore().getDeadlineBatchSize();
+        OffsetDateTime now = OffsetDateTime.now();
+        int settled;
+        int total = 0;
         do {
-            campaignPage = campaignRepository.findByStatus(CampaignStatus.COMPLETED, PageRequest.of(page, size));
-            for (Campaign campaign : campaignPage.getContent()) {
-                processCampaignDeadline(campaign);
-            }
-            page++;
-        } while (campaignPage.hasNext());
-    }
-
-    private void processCampaignDeadline(Campaign campaign) {
-        if (campaign.getCompletedAt() == null) {
-            return;
-        }
-
-        int deadlineDays = campaign.getEvidenceDeadlineDays() != null ? campaign.getEvidenceDeadlineDays() : 15;
-        LocalDateTime deadline = campaign.getCompletedAt().plusDays(deadlineDays);
-
-        if (LocalDateTime.now().isAfter(deadline)) {
-            BigDecimal totalSpent = evidenceRepository.sumAmountSpentByCampaignIdAndStatus(
-                    campaign.getId(), EvidenceStatus.APPROVED);
-
-            if (totalSpent == null) {
-                totalSpent = BigDecimal.ZERO;
-            }
-
-            // If spent amount is less than collected amount (logic simplified for test)
-            // The test implies if evidence is insufficient (spent < collected or maybe just
-            // based on mock return)
-            // Actually test just mocks sumAmountSpentByCampaignIdAndStatus.
-            // Assuming target amount or collected amount is the threshold?
-            // Test 1: collected=1000, spent=0 -> penalize.
-            // Test 2: collected=1000, spent=1000 -> no penalize.
-
-            BigDecimal amountToCheck = campaign.getCollectedAmount() != null ? campaign.getCollectedAmount()
-                    : BigDecimal.ZERO;
-
-            if (totalSpent.compareTo(amountToCheck) < 0) {
-                transparencyScoreService.onEvidenceMissedDeadline(campaign.getId());
-            }
-        }
+            settled = transparencyScoreService.penalizeMissedEvidenceDeadlines(now, batchSize);
+            total += settled;
+        } while (settled == batchSize);
+        logger.info("Settled {} evidence deadlines", total);
     }
 }
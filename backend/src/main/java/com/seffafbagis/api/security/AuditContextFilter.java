@@ -0,0 +1,68 @@
+package com.seffafbagis.api.security;
+
+import com.seffafbagis.api.service.audit.AuditContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Binds the client IP, user agent and request id of the current request to
+ * {@link AuditContext} before any other filter runs.
+ *
+ * A well-formed {@code X-Request-Id} header from the gateway is reused,
+ * otherwise a new id is generated; either way it is echoed on the response
+ * so clients can quote it.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class AuditContextFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+
+    private static final Pattern REQUEST_ID_PATTERN = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String requestId = resolveRequestId(request);
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        AuditContext.set(new AuditContext(
+                getClientIp(request),
+                request.getHeader("User-Agent"),
+                requestId,
+                request.getRequestedSessionId()));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            AuditContext.clear();
+        }
+    }
+
+    private String resolveRequestId(HttpServletRequest request) {
+        String header = request.getHeader(REQUEST_ID_HEADER);
+        if (header != null && REQUEST_ID_PATTERN.matcher(header).matches()) {
+            return header;
+        }
+        return UUID.randomUUID().toString();
+    }
+
+    private String getClientIp(HttpServletRequest request) {
+        String xForwardedFor = request.getHeader("X-Forwarded-For");
+        if (StringUtils.hasText(xForwardedFor)) {
+            return xForwardedFor.split(",")[0].trim();
+        }
+        return request.getRemoteAddr();
+    }
+}
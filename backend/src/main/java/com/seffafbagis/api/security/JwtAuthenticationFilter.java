@@ -1,27 +1,38 @@
 package com.seffafbagis.api.security;
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Intercepts every request, extracts the bearer token, validates it, and populates the SecurityContext.
+ *
+ * The token is parsed once and the principal is built from its subject plus the
+ * user's cached authorization state ({@link UserAuthCache}), so an authenticated
+ * request does not query {@code users}. Suspended and inactive accounts are left
+ * unauthenticated. Requests to {@link PublicRoutes} skip the filter entirely.
+ * The notification stream also accepts a stream token in the {@code token}
+ * query parameter, since browser EventSource cannot send headers.
+ * Time spent here is recorded as {@code security.jwt.filter}, tagged by outcome.
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -29,35 +40,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final Logger LOGGER = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
-    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
-
-    private static final List<String> ALWAYS_PUBLIC_PATHS = Arrays.asList(
-            "/api/v1/auth/login",
-            "/api/v1/auth/register",
-            "/api/v1/auth/refresh",
-            "/api/v1/auth/forgot-password",
-            "/api/v1/auth/reset-password",
-            "/api/v1/auth/verify-email",
-            "/api/v1/settings/public",
-            "/v3/api-docs/**",
-            "/swagger-ui/**",
-            "/swagger-resources/**",
-            "/swagger-ui.html",
-            "/actuator/health"
-    );
-
-    private static final List<String> PUBLIC_GET_PATHS = Arrays.asList(
-            "/api/v1/campaigns/**",
-            "/api/v1/organizations/**",
-            "/api/v1/categories/**"
-    );
+    private static final String STREAM_PATH = "/api/v1/notifications/stream";
+    private static final String STREAM_TOKEN_PARAM = "token";
+    private static final WebAuthenticationDetailsSource DETAILS_SOURCE = new WebAuthenticationDetailsSource();
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final CustomUserDetailsService userDetailsService;
+    private final UserAuthCache userAuthCache;
+    private final PublicRoutes publicRoutes;
+    private final Timer authenticatedTimer;
+    private final Timer rejectedTimer;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, CustomUserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
+                                   UserAuthCache userAuthCache,
+                                   PublicRoutes publicRoutes,
+                                   ObjectProvider<MeterRegistry> meterRegistryProvider) {
         this.jwtTokenProvider = jwtTokenProvider;
-        this.userDetailsService = userDetailsService;
+        this.userAuthCache = userAuthCache;
+        this.publicRoutes = publicRoutes;
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        this.authenticatedTimer = filterTimer(meterRegistry, "authenticated");
+        this.rejectedTimer = filterTimer(meterRegistry, "rejected");
     }
 
     @Override
@@ -66,28 +68,49 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     @NonNull FilterChain filterChain) throws ServletException, IOException {
 
         String token = extractTokenFromRequest(request);
+        boolean streamToken = token == null && isStreamRequest(request);
+        if (streamToken) {
+            token = request.getParameter(STREAM_TOKEN_PARAM);
+        }
 
-        if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            if (jwtTokenProvider.validateToken(token) && !jwtTokenProvider.isRefreshToken(token)) {
-                try {
-                    UUID userId = jwtTokenProvider.getUserIdFromToken(token);
-                    CustomUserDetails userDetails = userDetailsService.loadUserById(userId);
-                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                            userDetails,
-                            null,
-                            userDetails.getAuthorities()
-                    );
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                } catch (Exception ex) {
-                    LOGGER.debug("Unable to set security context: {}", ex.getMessage());
-                }
-            }
+        if (StringUtils.hasText(token) && SecurityContextHolder.getContext().getAuthentication() == null) {
+            long start = System.nanoTime();
+            Timer timer = authenticate(token, streamToken, request) ? authenticatedTimer : rejectedTimer;
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
 
         filterChain.doFilter(request, response);
     }
 
+    private boolean authenticate(String token, boolean streamToken, HttpServletRequest request) {
+        Claims claims = streamToken
+                ? jwtTokenProvider.parseStreamToken(token)
+                : jwtTokenProvider.parseAccessToken(token);
+        if (claims == null) {
+            return false;
+        }
+        try {
+            UUID userId = UUID.fromString(claims.getSubject());
+            UserAuthSnapshot snapshot = userAuthCache.get(userId);
+            if (snapshot == null || !snapshot.canAuthenticate()) {
+                LOGGER.debug("Rejecting token of missing or disabled user {}", userId);
+                return false;
+            }
+            CustomUserDetails userDetails = snapshot.toUserDetails();
+            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                    userDetails,
+                    null,
+                    userDetails.getAuthorities()
+            );
+            authentication.setDetails(DETAILS_SOURCE.buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+            return true;
+        } catch (Exception ex) {
+            LOGGER.debug("Unable to set security context: {}", ex.getMessage());
+            return false;
+        }
+    }
+
     private String extractTokenFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
         if (!StringUtils.hasText(bearerToken) || !bearerToken.startsWith(BEARER_PREFIX)) {
@@ -96,15 +119,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return bearerToken.substring(BEARER_PREFIX.length());
     }
 
+    private static boolean isStreamRequest(HttpServletRequest request) {
+        return "GET".equals(request.getMethod())
+                && STREAM_PATH.equals(PublicRoutes.pathWithinApplication(request));
+    }
+
     @Override
     protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
-        String path = request.getRequestURI();
-        if (ALWAYS_PUBLIC_PATHS.stream().anyMatch(pattern -> PATH_MATCHER.match(pattern, path))) {
-            return true;
-        }
-        if ("GET".equalsIgnoreCase(request.getMethod())) {
-            return PUBLIC_GET_PATHS.stream().anyMatch(pattern -> PATH_MATCHER.match(pattern, path));
-        }
-        return false;
+        return publicRoutes.isPublic(request);
+    }
+
+    private static Timer filterTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("security.jwt.filter")
+                .description("Bearer token authentication time per request")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
 }
@@ -4,6 +4,7 @@ import com.seffafbagis.api.config.JwtConfig;
 import com.seffafbagis.api.enums.UserRole;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -30,14 +31,17 @@ public class JwtTokenProvider {
     private static final String CLAIM_ROLE = "role";
     private static final String CLAIM_TOKEN_TYPE = "type";
     private static final String TOKEN_TYPE_REFRESH = "refresh";
+    private static final String TOKEN_TYPE_STREAM = "stream";
 
     private final JwtConfig jwtConfig;
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
 
     public JwtTokenProvider(JwtConfig jwtConfig) {
         this.jwtConfig = jwtConfig;
-        System.out.println("DEBUG: Decoded secret attempt: " + jwtConfig.getSecret());
         this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtConfig.getSecret()));
+        // Parsers are immutable and thread-safe; build once instead of per token
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
     }
 
     /**
@@ -118,25 +122,61 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * Builds a short-lived token that only opens the notification stream.
+     * Browser EventSource cannot send headers, so this token travels in the
+     * query string; it is rejected as an access token.
+     */
+    public String generateStreamToken(UUID userId, long expirationMs) {
+        Date now = new Date();
+        Date expiry = new Date(now.getTime() + expirationMs);
+
+        return Jwts.builder()
+                .subject(userId.toString())
+                .claim(CLAIM_TOKEN_TYPE, TOKEN_TYPE_STREAM)
+                .issuer(jwtConfig.getIssuer())
+                .audience().add(jwtConfig.getAudience()).and()
+                .issuedAt(now)
+                .expiration(expiry)
+                .signWith(secretKey, Jwts.SIG.HS512)
+                .compact();
+    }
+
     /**
      * Validates structure, signature, and expiration of a token.
      */
     public boolean validateToken(String token) {
-        try {
-            parseClaims(token);
-            return true;
-        } catch (ExpiredJwtException ex) {
-            LOGGER.debug("JWT expired: {}", ex.getMessage());
-        } catch (MalformedJwtException ex) {
-            LOGGER.debug("JWT malformed: {}", ex.getMessage());
-        } catch (UnsupportedJwtException ex) {
-            LOGGER.debug("JWT unsupported: {}", ex.getMessage());
-        } catch (SecurityException ex) {
-            LOGGER.debug("JWT signature invalid: {}", ex.getMessage());
-        } catch (IllegalArgumentException ex) {
-            LOGGER.debug("JWT empty: {}", ex.getMessage());
+        return tryParseClaims(token) != null;
+    }
+
+    /**
+     * Verifies an access token and returns its claims in a single parse.
+     *
+     * @return the claims, or null if the token is invalid, expired, a refresh or a stream token
+     */
+    public Claims parseAccessToken(String token) {
+        Claims claims = tryParseClaims(token);
+        if (claims == null) {
+            return null;
         }
-        return false;
+        String type = claims.get(CLAIM_TOKEN_TYPE, String.class);
+        if (TOKEN_TYPE_REFRESH.equals(type) || TOKEN_TYPE_STREAM.equals(type)) {
+            return null;
+        }
+        return claims;
+    }
+
+    /**
+     * Verifies a stream token and returns its claims.
+     *
+     * @return the claims, or null if the token is invalid, expired or not a stream token
+     */
+    public Claims parseStreamToken(String token) {
+        Claims claims = tryParseClaims(token);
+        if (claims == null || !TOKEN_TYPE_STREAM.equals(claims.get(CLAIM_TOKEN_TYPE, String.class))) {
+            return null;
+        }
+        return claims;
     }
 
     /**
@@ -177,10 +217,23 @@ public class JwtTokenProvider {
     }
 
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
+    private Claims tryParseClaims(String token) {
+        try {
+            return parseClaims(token);
+        } catch (ExpiredJwtException ex) {
+            LOGGER.debug("JWT expired: {}", ex.getMessage());
+        } catch (MalformedJwtException ex) {
+            LOGGER.debug("JWT malformed: {}", ex.getMessage());
+        } catch (UnsupportedJwtException ex) {
+            LOGGER.debug("JWT unsupported: {}", ex.getMessage());
+        } catch (SecurityException ex) {
+            LOGGER.debug("JWT signature invalid: {}", ex.getMessage());
+        } catch (IllegalArgumentException ex) {
+            LOGGER.debug("JWT empty: {}", ex.getMessage());
+        }
+        return null;
     }
 }
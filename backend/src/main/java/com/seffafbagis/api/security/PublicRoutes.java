@@ -0,0 +1,158 @@
+package com.seffafbagis.api.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single source of the endpoints that need no JWT.
+ *
+ * Used by {@link com.seffafbagis.api.config.SecurityConfig} for the permitAll
+ * rules and by {@link JwtAuthenticationFilter} to skip token handling, so the
+ * two can no longer drift apart. The patterns are compiled once into a segment
+ * trie: a lookup costs one hash probe per path segment, independent of the
+ * number of patterns.
+ *
+ * Supported patterns are literal paths and literal prefixes ending in
+ * {@code /**}, with the same semantics as {@code AntPathMatcher}: a trailing
+ * {@code /**} also matches the prefix itself, a trailing slash on a literal
+ * path does not match.
+ */
+@Component
+public class PublicRoutes {
+
+    static final List<String> ALWAYS_PUBLIC_PATHS = List.of(
+            "/api/v1/auth/register",
+            "/api/v1/auth/login",
+            "/api/v1/auth/refresh",
+            "/api/v1/auth/forgot-password",
+            "/api/v1/auth/reset-password",
+            "/api/v1/auth/verify-email",
+            "/api/v1/settings/public",
+            "/v3/api-docs/**",
+            "/swagger-ui/**",
+            "/swagger-resources/**",
+            "/swagger-ui.html",
+            "/actuator/health"
+    );
+
+    /**
+     * Kampanya, vakıf ve kategori listeleme herkes tarafından görülebilir.
+     * Misafir makbuzları, tahmin edilemeyen doğrulama anahtarıyla indirilir.
+     */
+    static final List<String> PUBLIC_GET_PATHS = List.of(
+            "/api/v1/campaigns/**",
+            "/api/v1/organizations/**",
+            "/api/v1/categories/**",
+            "/api/v1/receipts/guest/**"
+    );
+
+    private final Node alwaysPublic = compile(ALWAYS_PUBLIC_PATHS);
+    private final Node publicGet = compile(PUBLIC_GET_PATHS);
+
+    /**
+     * @return true if the request can be served without authentication
+     */
+    public boolean isPublic(HttpServletRequest request) {
+        return isPublic(request.getMethod(), pathWithinApplication(request));
+    }
+
+    public boolean isPublic(String method, String path) {
+        if (alwaysPublic.matches(path)) {
+            return true;
+        }
+        return HttpMethod.GET.matches(method) && publicGet.matches(path);
+    }
+
+    /**
+     * Matcher for endpoints that are public for every HTTP method.
+     */
+    public RequestMatcher alwaysPublicMatcher() {
+        return request -> alwaysPublic.matches(pathWithinApplication(request));
+    }
+
+    /**
+     * Matcher for endpoints that are public for GET requests only.
+     */
+    public RequestMatcher publicGetMatcher() {
+        return request -> HttpMethod.GET.matches(request.getMethod())
+                && publicGet.matches(pathWithinApplication(request));
+    }
+
+    static String pathWithinApplication(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        if (contextPath != null && !contextPath.isEmpty() && uri.startsWith(contextPath)) {
+            return uri.substring(contextPath.length());
+        }
+        return uri;
+    }
+
+    private static Node compile(List<String> patterns) {
+        Node root = new Node();
+        for (String pattern : patterns) {
+            root.add(pattern);
+        }
+        return root;
+    }
+
+    /**
+     * Trie node keyed by a literal path segment.
+     */
+    private static final class Node {
+
+        private final Map<String, Node> children = new HashMap<>();
+        /** A pattern ends exactly at this node. */
+        private boolean terminal;
+        /** A pattern ends with {@code /**} below this node. */
+        private boolean subtree;
+
+        void add(String pattern) {
+            if (!pattern.startsWith("/")) {
+                throw new IllegalArgumentException("Route pattern must start with '/': " + pattern);
+            }
+            String[] segments = pattern.substring(1).split("/", -1);
+            Node node = this;
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+                if ("**".equals(segment) && i == segments.length - 1) {
+                    node.subtree = true;
+                    return;
+                }
+                if (segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0 || segment.indexOf('{') >= 0) {
+                    throw new IllegalArgumentException("Unsupported wildcard in route pattern: " + pattern);
+                }
+                node = node.children.computeIfAbsent(segment, key -> new Node());
+            }
+            node.terminal = true;
+        }
+
+        boolean matches(String path) {
+            if (path == null || path.isEmpty() || path.charAt(0) != '/') {
+                return false;
+            }
+            Node node = this;
+            int start = 1;
+            while (true) {
+                if (node.subtree) {
+                    return true;
+                }
+                int end = path.indexOf('/', start);
+                String segment = end < 0 ? path.substring(start) : path.substring(start, end);
+                node = node.children.get(segment);
+                if (node == null) {
+                    return false;
+                }
+                if (end < 0) {
+                    return node.terminal || node.subtree;
+                }
+                start = end + 1;
+            }
+        }
+    }
+}
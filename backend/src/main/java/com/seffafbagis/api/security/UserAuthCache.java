@@ -0,0 +1,54 @@
+package com.seffafbagis.api.security;
+
+import com.seffafbagis.api.cache.CacheNames;
+import com.seffafbagis.api.repository.UserRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Read-through cache of {@link UserAuthSnapshot}s for the JWT filter.
+ *
+ * Backed by the {@link CacheNames#USER_AUTH} cache: a size-bounded per-node
+ * L1 with a short TTL in front of Redis, with hit/miss metrics published by
+ * the cache manager. Services that change a user's status, role or email
+ * verification must call {@link #evict(UUID)}; inside a transaction the
+ * eviction is applied after commit and broadcast to the other nodes.
+ */
+@Component
+public class UserAuthCache {
+
+    private final CacheManager cacheManager;
+    private final UserRepository userRepository;
+
+    public UserAuthCache(CacheManager cacheManager, UserRepository userRepository) {
+        this.cacheManager = cacheManager;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * @return the user's snapshot, or null if the user does not exist
+     */
+    public UserAuthSnapshot get(UUID userId) {
+        Cache cache = cacheManager.getCache(CacheNames.USER_AUTH);
+        if (cache == null) {
+            return load(userId);
+        }
+        return cache.get(userId.toString(), () -> load(userId));
+    }
+
+    public void evict(UUID userId) {
+        Cache cache = cacheManager.getCache(CacheNames.USER_AUTH);
+        if (cache != null) {
+            cache.evict(userId.toString());
+        }
+    }
+
+    private UserAuthSnapshot load(UUID userId) {
+        return userRepository.findAuthProjectionById(userId)
+                .map(UserAuthSnapshot::fromProjection)
+                .orElse(null);
+    }
+}
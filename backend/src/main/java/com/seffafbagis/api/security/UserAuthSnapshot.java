@@ -0,0 +1,102 @@
+package com.seffafbagis.api.security;
+
+import com.seffafbagis.api.enums.UserRole;
+import com.seffafbagis.api.enums.UserStatus;
+import com.seffafbagis.api.repository.projection.UserAuthProjection;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Cached authorization state of a user: the fields that can change while an
+ * access token is still valid (status, role, email verification).
+ *
+ * Kept as a mutable, non-final bean so the JSON serializer of the Redis cache
+ * tier can round-trip it with type information.
+ */
+public class UserAuthSnapshot implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private UUID id;
+    private String email;
+    private UserRole role;
+    private UserStatus status;
+    private boolean emailVerified;
+
+    public UserAuthSnapshot() {
+    }
+
+    public UserAuthSnapshot(UUID id, String email, UserRole role, UserStatus status, boolean emailVerified) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+        this.status = status;
+        this.emailVerified = emailVerified;
+    }
+
+    public static UserAuthSnapshot fromProjection(UserAuthProjection projection) {
+        return new UserAuthSnapshot(
+                projection.getId(),
+                projection.getEmail(),
+                projection.getRole(),
+                projection.getStatus(),
+                Boolean.TRUE.equals(projection.getEmailVerified()));
+    }
+
+    /**
+     * Whether requests carrying this user's access token may be authenticated.
+     * Same rule as login: suspended and inactive accounts are rejected.
+     */
+    public boolean canAuthenticate() {
+        return status != null && status.canLogin();
+    }
+
+    /**
+     * Builds the request principal. The password hash is not part of the
+     * snapshot; token-authenticated requests never need it.
+     */
+    public CustomUserDetails toUserDetails() {
+        return new CustomUserDetails(id, email, null, role, status, emailVerified);
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public UserRole getRole() {
+        return role;
+    }
+
+    public void setRole(UserRole role) {
+        this.role = role;
+    }
+
+    public UserStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(UserStatus status) {
+        this.status = status;
+    }
+
+    public boolean isEmailVerified() {
+        return emailVerified;
+    }
+
+    public void setEmailVerified(boolean emailVerified) {
+        this.emailVerified = emailVerified;
+    }
+}
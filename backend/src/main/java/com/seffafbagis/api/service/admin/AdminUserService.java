@@ -30,6 +30,7 @@ import com.seffafbagis.api.repository.UserPreferenceRepository;
 import com.seffafbagis.api.repository.UserProfileRepository;
 import com.seffafbagis.api.repository.UserRepository;
 import com.seffafbagis.api.repository.UserSensitiveDataRepository;
+import com.seffafbagis.api.security.UserAuthCache;
 import com.seffafbagis.api.service.audit.AuditLogService;
 import com.seffafbagis.api.service.notification.EmailService;
 import com.seffafbagis.api.specification.UserSpecification;
@@ -68,6 +69,7 @@ public class AdminUserService {
     private final PasswordEncoder passwordEncoder;
     private final EmailService emailService;
     private final AuditLogService auditLogService;
+    private final UserAuthCache userAuthCache;
 
     public AdminUserService(UserRepository userRepository,
             UserProfileRepository userProfileRepository,
@@ -78,7 +80,8 @@ public class AdminUserService {
             EmailVerificationTokenRepository emailVerificationTokenRepository,
             PasswordEncoder passwordEncoder,
             EmailService emailService,
-            AuditLogService auditLogService) {
+            AuditLogService auditLogService,
+            UserAuthCache userAuthCache) {
         this.userRepository = userRepository;
         this.userProfileRepository = userProfileRepository;
         this.refreshTokenRepository = refreshTokenRepository;
@@ -89,6 +92,7 @@ public class AdminUserService {
         this.passwordEncoder = passwordEncoder;
         this.emailService = emailService;
         this.auditLogService = auditLogService;
+        this.userAuthCache = userAuthCache;
     }
 
     @Transactional(readOnly = true)
@@ -164,6 +168,7 @@ public class AdminUserService {
         }
 
         User savedUser = userRepository.save(user);
+        userAuthCache.evict(userId);
 
         // Audit log
         auditLogService.logAction(adminId, "UPDATE_USER_STATUS",
@@ -206,6 +211,7 @@ public class AdminUserService {
         UserRole previousRole = user.getRole();
         user.setRole(request.getRole());
         userRepository.save(user);
+        userAuthCache.evict(userId);
 
         // Revoke tokens to force re-login
         refreshTokenRepository.deleteByUserId(userId);
@@ -293,6 +299,7 @@ public class AdminUserService {
 
         user.setStatus(UserStatus.INACTIVE); // Or add DELETED status
         userRepository.save(user);
+        userAuthCache.evict(userId);
         refreshTokenRepository.deleteByUserId(userId);
 
         auditLogService.logAction(adminId, "DELETE_USER", "Soft deleted user " + userId, userId.toString());
@@ -0,0 +1,86 @@
+package com.seffafbagis.api.service.audit;
+
+/**
+ * Client metadata recorded with every audit log entry.
+ *
+ * Captured once per request by {@link com.seffafbagis.api.security.AuditContextFilter}
+ * and kept in a thread-local, so audit calls do not depend on
+ * {@code RequestContextHolder}, which is empty on async threads.
+ * {@link #wrap(Runnable)} carries the context over to tasks submitted to the
+ * async executor. Scheduler threads (outbox delivery, jobs) have no context
+ * and audit with {@link #EMPTY}.
+ */
+public final class AuditContext {
+
+    public static final AuditContext EMPTY = new AuditContext(null, null, null, null);
+
+    private static final ThreadLocal<AuditContext> CURRENT = new ThreadLocal<>();
+
+    private final String ipAddress;
+    private final String userAgent;
+    private final String requestId;
+    private final String sessionId;
+
+    public AuditContext(String ipAddress, String userAgent, String requestId, String sessionId) {
+        this.ipAddress = ipAddress;
+        this.userAgent = userAgent;
+        this.requestId = requestId;
+        this.sessionId = sessionId;
+    }
+
+    /**
+     * @return the context bound to the current thread, or {@link #EMPTY}
+     */
+    public static AuditContext current() {
+        AuditContext context = CURRENT.get();
+        return context != null ? context : EMPTY;
+    }
+
+    public static void set(AuditContext context) {
+        CURRENT.set(context);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Binds the submitting thread's context to {@code task} for the duration
+     * of its run. Usable as a {@code TaskDecorator}.
+     */
+    public static Runnable wrap(Runnable task) {
+        AuditContext captured = CURRENT.get();
+        if (captured == null) {
+            return task;
+        }
+        return () -> {
+            AuditContext previous = CURRENT.get();
+            CURRENT.set(captured);
+            try {
+                task.run();
+            } finally {
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+
+    public String getIpAddress() {
+        return ipAddress;
+    }
+
+    public String getUserAgent() {
+        return userAgent;
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+}
@@ -0,0 +1,72 @@
+package com.seffafbagis.api.service.audit;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Immutable audit entry waiting in the {@link AuditLogWriter} queue.
+ *
+ * The id and timestamp are assigned when the action is logged, not when the
+ * batch is flushed, so feed ordering reflects when things happened.
+ */
+final class AuditLogRecord {
+
+    private final UUID id;
+    private final UUID userId;
+    private final String action;
+    private final String entityType;
+    private final UUID entityId;
+    private final String oldValues;
+    private final String newValues;
+    private final AuditContext context;
+    private final OffsetDateTime createdAt;
+
+    AuditLogRecord(UUID userId, String action, String entityType, UUID entityId,
+            String oldValues, String newValues, AuditContext context) {
+        this.id = UUID.randomUUID();
+        this.userId = userId;
+        this.action = action;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.oldValues = oldValues;
+        this.newValues = newValues;
+        this.context = context;
+        this.createdAt = OffsetDateTime.now();
+    }
+
+    UUID getId() {
+        return id;
+    }
+
+    UUID getUserId() {
+        return userId;
+    }
+
+    String getAction() {
+        return action;
+    }
+
+    String getEntityType() {
+        return entityType;
+    }
+
+    UUID getEntityId() {
+        return entityId;
+    }
+
+    String getOldValues() {
+        return oldValues;
+    }
+
+    String getNewValues() {
+        return newValues;
+    }
+
+    AuditContext getContext() {
+        return context;
+    }
+
+    OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
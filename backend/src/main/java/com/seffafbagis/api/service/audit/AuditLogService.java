@@ -1,23 +1,27 @@
 package com.seffafbagis.api.service.audit;
 
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.seffafbagis.api.dto.response.audit.AuditLogListResponse;
 import com.seffafbagis.api.dto.response.audit.AuditLogResponse;
+import com.seffafbagis.api.dto.response.common.PageResponse;
 import com.seffafbagis.api.entity.audit.AuditLog;
 import com.seffafbagis.api.enums.AuditAction;
+import com.seffafbagis.api.enums.AuditDurability;
+import com.seffafbagis.api.enums.PartitionedTable;
 import com.seffafbagis.api.repository.AuditLogRepository;
+import com.seffafbagis.api.service.system.LogPartitionService;
+import com.seffafbagis.api.util.CursorUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.time.OffsetDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -30,6 +34,8 @@ public class AuditLogService {
 
     private final AuditLogRepository auditLogRepository;
     private final ObjectMapper objectMapper;
+    private final AuditLogWriter auditLogWriter;
+    private final LogPartitionService logPartitionService;
 
     // Set of sensitive keys to strictly mask
     private static final Set<String> SENSITIVE_KEYS = Set.of(
@@ -40,8 +46,23 @@ public class AuditLogService {
             "apiKey", "secretKey", "secret",
             "creditCard", "cc", "cvv");
 
+    /**
+     * Records an audit entry in the caller's transaction.
+     */
     @Transactional
     public void log(String action, UUID userId, String entityType, UUID entityId, Object oldValues, Object newValues) {
+        log(action, userId, entityType, entityId, oldValues, newValues, AuditDurability.SYNC);
+    }
+
+    /**
+     * Records an audit entry. Values are masked and serialized on the calling
+     * thread, client metadata is taken from {@link AuditContext}. With
+     * {@link AuditDurability#ASYNC} the entry is handed to {@link AuditLogWriter}
+     * once the surrounding transaction (if any) has committed; this method opens
+     * no transaction of its own.
+     */
+    public void log(String action, UUID userId, String entityType, UUID entityId, Object oldValues, Object newValues,
+            AuditDurability durability) {
         try {
             String oldValuesJson = null;
             String newValuesJson = null;
@@ -53,13 +74,12 @@ public class AuditLogService {
                 newValuesJson = objectMapper.writeValueAsString(maskSensitiveData(newValues));
             }
 
-            String ipAddress = null;
-            String userAgent = null;
+            AuditContext context = AuditContext.current();
 
-            HttpServletRequest request = getCurrentRequest();
-            if (request != null) {
-                ipAddress = getClientIp(request);
-                userAgent = request.getHeader("User-Agent");
+            if (durability == AuditDurability.ASYNC) {
+                enqueueAfterCommit(new AuditLogRecord(userId, action, entityType, entityId, oldValuesJson,
+                        newValuesJson, context));
+                return;
             }
 
             AuditLog auditLog = AuditLog.builder()
@@ -69,9 +89,10 @@ public class AuditLogService {
                     .entityId(entityId)
                     .oldValues(oldValuesJson)
                     .newValues(newValuesJson)
-                    .ipAddress(ipAddress)
-                    .userAgent(userAgent)
-                    .requestId(UUID.randomUUID().toString()) // Ideally from tracing context
+                    .ipAddress(context.getIpAddress())
+                    .userAgent(context.getUserAgent())
+                    .requestId(context.getRequestId() != null ? context.getRequestId() : UUID.randomUUID().toString())
+                    .sessionId(context.getSessionId())
                     .build();
 
             auditLogRepository.save(auditLog);
@@ -87,6 +108,11 @@ public class AuditLogService {
         log(action.name(), userId, entityType, entityId, oldValues, newValues);
     }
 
+    public void log(AuditAction action, UUID userId, String entityType, UUID entityId, Object oldValues,
+            Object newValues, AuditDurability durability) {
+        log(action.name(), userId, entityType, entityId, oldValues, newValues, durability);
+    }
+
     public void log(AuditAction action, UUID userId, String entityType, UUID entityId) {
         log(action.name(), userId, entityType, entityId, null, null);
     }
@@ -109,28 +135,22 @@ public class AuditLogService {
         log(action, userId, "ADMIN_ACTION", entityId, null, values);
     }
 
-    private HttpServletRequest getCurrentRequest() {
-        try {
-            ServletRequestAttributes reqAttrs = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-            if (reqAttrs != null) {
-                return reqAttrs.getRequest();
-            }
-        } catch (Exception e) {
-            // Context might create issues in async threads
-        }
-        return null;
-    }
-
-    private String getClientIp(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
+    private void enqueueAfterCommit(AuditLogRecord record) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    auditLogWriter.submit(record);
+                }
+            });
+        } else {
+            auditLogWriter.submit(record);
         }
-        return request.getRemoteAddr();
     }
 
+    // Package-private for the JMH benchmark in the benchmarks module
     @SuppressWarnings("unchecked")
-    private Object maskSensitiveData(Object data) {
+    Object maskSensitiveData(Object data) {
         if (data == null)
             return null;
 
@@ -190,6 +210,20 @@ public class AuditLogService {
                 .map(AuditLogListResponse::fromEntity);
     }
 
+    @Transactional(readOnly = true)
+    public PageResponse<AuditLogListResponse> getAuditLogsByUserFeed(UUID userId, String cursor, int size) {
+        CursorUtils.Position position = CursorUtils.decode(cursor);
+        Slice<AuditLog> slice = position == null
+                ? auditLogRepository.findFeedByUserId(userId, CursorUtils.limit(size))
+                : auditLogRepository.findFeedByUserIdAfter(userId, position.getCreatedAt(), position.getId(),
+                        CursorUtils.limit(size));
+        return PageResponse.ofCursor(
+                slice.map(AuditLogListResponse::fromEntity).getContent(),
+                slice,
+                CursorUtils.nextCursor(slice),
+                position == null);
+    }
+
     @Transactional(readOnly = true)
     public AuditLogResponse getAuditLogById(UUID id) {
         return auditLogRepository.findById(id)
@@ -203,9 +237,9 @@ public class AuditLogService {
                 .map(AuditLogResponse::fromEntity);
     }
 
-    @Transactional
     public long cleanupOldLogs(int retentionDays) {
-        Instant cutoff = Instant.now().minus(retentionDays, ChronoUnit.DAYS);
-        return auditLogRepository.deleteAllByCreatedAtBefore(cutoff);
+        OffsetDateTime cutoff = OffsetDateTime.now().minusDays(retentionDays);
+        return logPartitionService.purgeBefore(PartitionedTable.AUDIT_LOGS, cutoff,
+                () -> auditLogRepository.deleteAllByCreatedAtBefore(cutoff.toInstant()));
     }
 }
@@ -0,0 +1,207 @@
+package com.seffafbagis.api.service.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background writer for {@link com.seffafbagis.api.enums.AuditDurability#ASYNC}
+ * audit entries.
+ *
+ * Entries go into a bounded array-backed queue and a single worker thread
+ * drains whatever has accumulated, up to {@code batch-size}, into one JDBC
+ * batch insert. Under load batches fill up; when idle an entry is written
+ * almost immediately. A full queue drops the entry instead of blocking the
+ * caller. If a batch fails, its rows are retried one by one so a single bad
+ * row does not lose the others. On shutdown the queue is drained before the
+ * data source closes.
+ *
+ * Metrics: {@code audit.log.queue.depth}, {@code audit.log.enqueued},
+ * {@code audit.log.dropped}, {@code audit.log.written},
+ * {@code audit.log.failed} and {@code audit.log.flush}.
+ */
+@Component
+@Slf4j
+public class AuditLogWriter implements SmartLifecycle {
+
+    static final String INSERT_SQL = "INSERT INTO audit_logs (id, user_id, action, entity_type, entity_id, "
+            + "old_values, new_values, ip_address, user_agent, request_id, session_id, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final long POLL_TIMEOUT_MS = 500;
+    private static final long SHUTDOWN_TIMEOUT_MS = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<AuditLogRecord> queue;
+    private final int batchSize;
+    private final boolean asyncEnabled;
+
+    private final Counter enqueuedCounter;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.audit.async-enabled:true}") boolean asyncEnabled,
+            @Value("${app.audit.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.audit.batch-size:200}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.asyncEnabled = asyncEnabled;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.enqueuedCounter = Counter.builder("audit.log.enqueued")
+                .description("Audit entries queued for the background writer")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("audit.log.dropped")
+                .description("Audit entries dropped because the writer queue was full")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("audit.log.written")
+                .description("Audit entries inserted by the background writer")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("audit.log.failed")
+                .description("Audit entries the background writer could not insert")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("audit.log.flush")
+                .description("Time to insert one batch of audit entries")
+                .register(meterRegistry);
+        Gauge.builder("audit.log.queue.depth", queue, BlockingQueue::size)
+                .description("Audit entries waiting to be written")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Hands an entry to the writer. Written inline if the writer is disabled
+     * or not running (startup, shutdown); dropped if the queue is full.
+     *
+     * @return false if the entry was dropped
+     */
+    boolean submit(AuditLogRecord record) {
+        if (!asyncEnabled || !running) {
+            flush(List.of(record));
+            return true;
+        }
+        if (queue.offer(record)) {
+            enqueuedCounter.increment();
+            return true;
+        }
+        droppedCounter.increment();
+        log.warn("Audit queue full, dropped {} entry for {} {}", record.getAction(), record.getEntityType(),
+                record.getEntityId());
+        return false;
+    }
+
+    @Override
+    public void start() {
+        if (!asyncEnabled) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::drainLoop, "audit-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker == null) {
+            return;
+        }
+        try {
+            worker.join(SHUTDOWN_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("Audit writer stopped with {} entries still queued", queue.size());
+        }
+        worker = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drainLoop() {
+        List<AuditLogRecord> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditLogRecord first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Audit writer failed to flush {} entries", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    void flush(List<AuditLogRecord> batch) {
+        Timer.Sample sample = Timer.start();
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), AuditLogWriter::bind);
+            writtenCounter.increment(batch.size());
+        } catch (DataAccessException e) {
+            log.warn("Audit batch insert of {} entries failed, retrying individually: {}", batch.size(),
+                    e.getMessage());
+            for (AuditLogRecord record : batch) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, record));
+                    writtenCounter.increment();
+                } catch (DataAccessException ex) {
+                    failedCounter.increment();
+                    log.error("Failed to write audit log {} for {} {}: {}", record.getAction(),
+                            record.getEntityType(), record.getEntityId(), ex.getMessage());
+                }
+            }
+        } finally {
+            sample.stop(flushTimer);
+        }
+    }
+
+    private static void bind(PreparedStatement ps, AuditLogRecord record) throws SQLException {
+        AuditContext context = record.getContext();
+        ps.setObject(1, record.getId());
+        ps.setObject(2, record.getUserId());
+        ps.setString(3, record.getAction());
+        ps.setString(4, record.getEntityType());
+        ps.setObject(5, record.getEntityId());
+        ps.setString(6, record.getOldValues());
+        ps.setString(7, record.getNewValues());
+        ps.setString(8, context.getIpAddress());
+        ps.setString(9, context.getUserAgent());
+        ps.setString(10, context.getRequestId());
+        ps.setString(11, context.getSessionId());
+        ps.setObject(12, record.getCreatedAt());
+        ps.setObject(13, record.getCreatedAt());
+    }
+}
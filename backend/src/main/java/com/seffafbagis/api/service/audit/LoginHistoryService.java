@@ -3,8 +3,10 @@ package com.seffafbagis.api.service.audit;
 import com.seffafbagis.api.dto.response.audit.LoginHistoryResponse;
 import com.seffafbagis.api.entity.auth.LoginHistory;
 import com.seffafbagis.api.entity.user.User;
+import com.seffafbagis.api.enums.PartitionedTable;
 import com.seffafbagis.api.repository.LoginHistoryRepository;
 import com.seffafbagis.api.repository.UserRepository;
+import com.seffafbagis.api.service.system.LogPartitionService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,6 +29,7 @@ public class LoginHistoryService {
 
     private final LoginHistoryRepository loginHistoryRepository;
     private final UserRepository userRepository;
+    private final LogPartitionService logPartitionService;
 
     @Transactional
     public void recordLogin(UUID userId, String status, String ipAddress, String userAgent, String failureReason) {
@@ -77,10 +80,10 @@ public class LoginHistoryService {
         return concerns;
     }
 
-    @Transactional
     public long cleanupOldHistory(int retentionDays) {
         OffsetDateTime cutoff = OffsetDateTime.now().minus(retentionDays, ChronoUnit.DAYS);
-        return loginHistoryRepository.deleteAllByCreatedAtBefore(cutoff);
+        return logPartitionService.purgeBefore(PartitionedTable.LOGIN_HISTORY, cutoff,
+                () -> loginHistoryRepository.deleteAllByCreatedAtBefore(cutoff));
     }
 
     private String detectDeviceType(String userAgent) {
@@ -6,6 +6,7 @@ import com.seffafbagis.api.enums.UserStatus;
 import com.seffafbagis.api.exception.BadRequestException;
 import com.seffafbagis.api.repository.EmailVerificationTokenRepository;
 import com.seffafbagis.api.repository.UserRepository;
+import com.seffafbagis.api.security.UserAuthCache;
 import com.seffafbagis.api.service.notification.EmailService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -58,6 +59,7 @@ public class EmailVerificationService {
     private final UserRepository userRepository;
     private final EmailVerificationTokenRepository emailVerificationTokenRepository;
     private final EmailService emailService;
+    private final UserAuthCache userAuthCache;
 
     /**
      * Constructor injection.
@@ -66,10 +68,12 @@ public class EmailVerificationService {
     public EmailVerificationService(
             UserRepository userRepository,
             EmailVerificationTokenRepository emailVerificationTokenRepository,
-            EmailService emailService) {
+            EmailService emailService,
+            UserAuthCache userAuthCache) {
         this.userRepository = userRepository;
         this.emailVerificationTokenRepository = emailVerificationTokenRepository;
         this.emailService = emailService;
+        this.userAuthCache = userAuthCache;
     }
 
     /**
@@ -131,6 +135,7 @@ public class EmailVerificationService {
         }
 
         userRepository.save(user);
+        userAuthCache.evict(user.getId());
         logger.debug("Email verified for user: {}", user.getId());
 
         // Step 5: Mark token as verified
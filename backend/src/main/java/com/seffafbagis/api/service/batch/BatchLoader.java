@@ -0,0 +1,84 @@
+package com.seffafbagis.api.service.batch;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Batches and caches lookups by key while a response is being mapped.
+ *
+ * Mappers {@link #prime} the keys they will need, then {@link #get} them one
+ * row at a time; the first {@code get} that misses the cache loads every
+ * pending key with a single call to the batch function (typically a repository
+ * {@code findByIdIn}), so a page of N rows costs one query instead of N.
+ * Keys the batch function does not return are cached as absent.
+ *
+ * Create one loader per request or mapping pass and let it go out of scope
+ * with it; it is not thread-safe and never evicts.
+ *
+ * @param <K> key type
+ * @param <V> loaded value type
+ */
+public final class BatchLoader<K, V> {
+
+    private final Function<Collection<K>, Map<K, V>> batchFunction;
+    private final Map<K, V> cache = new HashMap<>();
+    private final Set<K> pending = new LinkedHashSet<>();
+
+    private BatchLoader(Function<Collection<K>, Map<K, V>> batchFunction) {
+        this.batchFunction = batchFunction;
+    }
+
+    /**
+     * @param batchFunction loads the values of a set of keys, omitting keys
+     *                      that have none
+     */
+    public static <K, V> BatchLoader<K, V> of(Function<Collection<K>, Map<K, V>> batchFunction) {
+        return new BatchLoader<>(Objects.requireNonNull(batchFunction));
+    }
+
+    /**
+     * Queues a key for the next batch; {@code null} is ignored.
+     */
+    public BatchLoader<K, V> prime(K key) {
+        if (key != null && !cache.containsKey(key)) {
+            pending.add(key);
+        }
+        return this;
+    }
+
+    public BatchLoader<K, V> primeAll(Collection<? extends K> keys) {
+        keys.forEach(this::prime);
+        return this;
+    }
+
+    /**
+     * Returns the value of {@code key}, loading it together with every queued
+     * key if it is not cached yet.
+     *
+     * @return the value, or {@code null} if there is none
+     */
+    public V get(K key) {
+        if (key == null) {
+            return null;
+        }
+        if (!cache.containsKey(key)) {
+            pending.add(key);
+            dispatch();
+        }
+        return cache.get(key);
+    }
+
+    private void dispatch() {
+        Set<K> keys = new LinkedHashSet<>(pending);
+        pending.clear();
+        Map<K, V> loaded = batchFunction.apply(keys);
+        for (K key : keys) {
+            cache.put(key, loaded.get(key));
+        }
+    }
+}
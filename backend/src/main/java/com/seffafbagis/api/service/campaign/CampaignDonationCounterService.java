@@ -0,0 +1,95 @@
+package com.seffafbagis.api.service.campaign;
+
+import com.seffafbagis.api.cache.PublicCacheInvalidator;
+import com.seffafbagis.api.config.SchedulerProperties;
+import com.seffafbagis.api.entity.campaign.Campaign;
+import com.seffafbagis.api.repository.CampaignDonationCounterRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Contention-free accumulation of campaign donation totals.
+ *
+ * Completed donations are added to one of {@code shardCount} counter rows per
+ * campaign instead of the campaign row itself. The campaign row only sees one
+ * write per roll-up interval, regardless of how many donations arrive.
+ * Cached public views of a campaign carry its totals, so every roll-up that
+ * changes them evicts those caches once the roll-up commits.
+ */
+@Service
+@RequiredArgsConstructor
+public class CampaignDonationCounterService {
+
+    private final CampaignDonationCounterRepository counterRepository;
+    private final SchedulerProperties schedulerProperties;
+    private final PublicCacheInvalidator publicCacheInvalidator;
+
+    /**
+     * Records a completed donation on a random shard. Runs inside the caller's
+     * transaction so the counter commits or rolls back with the donation.
+     */
+    @Transactional
+    public void recordDonation(UUID campaignId, BigDecimal amount) {
+        int shardCount = Math.max(1, schedulerProperties.getCampaignCounter().getShardCount());
+        int shard = ThreadLocalRandom.current().nextInt(shardCount);
+        counterRepository.addToShard(campaignId, shard, amount);
+    }
+
+    /**
+     * Records {@code count} completed donations totalling {@code amount} with a
+     * single shard write.
+     */
+    @Transactional
+    public void recordDonations(UUID campaignId, BigDecimal amount, int count) {
+        int shardCount = Math.max(1, schedulerProperties.getCampaignCounter().getShardCount());
+        int shard = ThreadLocalRandom.current().nextInt(shardCount);
+        counterRepository.addManyToShard(campaignId, shard, amount, count);
+    }
+
+    /**
+     * Returns the collected amount including donations not yet rolled up.
+     */
+    @Transactional(readOnly = true)
+    public BigDecimal getAggregatedAmount(Campaign campaign) {
+        BigDecimal rolledUp = campaign.getCollectedAmount() != null ? campaign.getCollectedAmount() : BigDecimal.ZERO;
+        BigDecimal pending = counterRepository.sumPendingAmountByCampaignId(campaign.getId());
+        return pending != null ? rolledUp.add(pending) : rolledUp;
+    }
+
+    /**
+     * Returns the donor count including donations not yet rolled up.
+     */
+    @Transactional(readOnly = true)
+    public int getAggregatedDonorCount(Campaign campaign) {
+        int rolledUp = campaign.getDonorCount() != null ? campaign.getDonorCount() : 0;
+        Long pending = counterRepository.sumPendingDonorCountByCampaignId(campaign.getId());
+        return pending != null ? rolledUp + pending.intValue() : rolledUp;
+    }
+
+    /**
+     * Folds all pending shard rows into {@code campaigns}.
+     *
+     * @return number of campaigns updated
+     */
+    @Transactional
+    public int rollUp() {
+        List<String> slugs = counterRepository.rollUpAll();
+        slugs.forEach(publicCacheInvalidator::evictCampaign);
+        return slugs.size();
+    }
+
+    /**
+     * Folds pending shard rows of a single campaign, e.g. right before it is
+     * marked completed so that completion events carry the exact totals.
+     */
+    @Transactional
+    public void rollUp(UUID campaignId) {
+        counterRepository.rollUpByCampaignId(campaignId).ifPresent(publicCacheInvalidator::evictCampaign);
+    }
+}
@@ -82,13 +82,4 @@ public class CampaignFollowerService {
 
         return new PageImpl<>(responses, pageable, followers.size());
     }
-
-    public List<UUID> getFollowersToNotify(UUID campaignId, boolean forUpdate) {
-        // Assuming custom method in repository or filter
-        List<CampaignFollower> followers = campaignFollowerRepository.findByCampaignId(campaignId);
-        return followers.stream()
-                .filter(f -> forUpdate ? f.getNotifyOnUpdate() : f.getNotifyOnComplete())
-                .map(f -> f.getUser().getId())
-                .collect(Collectors.toList());
-    }
 }
@@ -1,14 +1,19 @@
 package com.seffafbagis.api.service.campaign;
 
+import com.seffafbagis.api.cache.CacheNames;
+import com.seffafbagis.api.cache.PublicCacheInvalidator;
 import com.seffafbagis.api.dto.mapper.CampaignMapper;
 import com.seffafbagis.api.dto.request.campaign.CampaignSearchRequest;
 import com.seffafbagis.api.dto.request.campaign.CreateCampaignRequest;
 import com.seffafbagis.api.dto.request.campaign.UpdateCampaignRequest;
+import com.seffafbagis.api.dto.response.campaign.CampaignDailyStatsResponse;
 import com.seffafbagis.api.dto.response.campaign.CampaignDetailResponse;
 import com.seffafbagis.api.dto.response.campaign.CampaignListResponse;
 import com.seffafbagis.api.dto.response.campaign.CampaignResponse;
+import com.seffafbagis.api.dto.response.campaign.CampaignSearchFacetsResponse;
 import com.seffafbagis.api.dto.response.campaign.CampaignStatistics;
 import com.seffafbagis.api.dto.response.campaign.CampaignStatsResponse;
+import com.seffafbagis.api.dto.response.common.SearchSuggestionResponse;
 import com.seffafbagis.api.entity.campaign.*;
 import com.seffafbagis.api.entity.organization.Organization;
 import com.seffafbagis.api.entity.user.User;
@@ -19,27 +24,40 @@ import com.seffafbagis.api.event.CampaignApprovedEvent;
 import com.seffafbagis.api.event.CampaignCompletedEvent;
 import com.seffafbagis.api.event.CampaignCreatedEvent;
 import com.seffafbagis.api.event.CampaignRejectedEvent;
+import com.seffafbagis.api.event.CampaignStatusChangedEvent;
 import com.seffafbagis.api.exception.BadRequestException;
 import com.seffafbagis.api.exception.ForbiddenException;
 import com.seffafbagis.api.exception.ResourceNotFoundException;
 import com.seffafbagis.api.exception.UnauthorizedException;
 import com.seffafbagis.api.repository.*;
+import com.seffafbagis.api.repository.projection.SearchFacetProjection;
 import com.seffafbagis.api.security.SecurityUtils;
 import com.seffafbagis.api.service.interfaces.ICampaignService;
 import com.seffafbagis.api.service.transparency.TransparencyScoreService;
+import com.seffafbagis.api.service.notification.NotificationFanoutService;
 import com.seffafbagis.api.service.notification.NotificationService;
+import com.seffafbagis.api.util.SearchQueryNormalizer;
 import com.seffafbagis.api.util.SlugGenerator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -48,6 +66,14 @@ import java.util.stream.Collectors;
 @Transactional
 public class CampaignService implements ICampaignService {
 
+    /**
+     * Statuses whose campaigns are publicly visible and therefore counted in search facets.
+     */
+    private static final Set<CampaignStatus> PUBLIC_SEARCH_STATUSES =
+            EnumSet.of(CampaignStatus.ACTIVE, CampaignStatus.COMPLETED);
+
+    private static final int MAX_DAILY_STATS_DAYS = 365;
+
     private final CampaignRepository campaignRepository;
     private final CampaignMapper campaignMapper;
     private final OrganizationRepository organizationRepository;
@@ -58,6 +84,10 @@ public class CampaignService implements ICampaignService {
     private final UserRepository userRepository;
     private final TransparencyScoreService transparencyScoreService;
     private final NotificationService notificationService;
+    private final NotificationFanoutService notificationFanoutService;
+    private final CampaignDonationCounterService campaignDonationCounterService;
+    private final CampaignStatsService campaignStatsService;
+    private final PublicCacheInvalidator publicCacheInvalidator;
     private final ApplicationEventPublisher eventPublisher;
 
     @Override
@@ -151,18 +181,8 @@ public class CampaignService implements ICampaignService {
 
     @Override
     public Page<CampaignResponse> getByOrganizationId(UUID organizationId, Pageable pageable) {
-        List<Campaign> campaigns = campaignRepository.findByOrganizationIdAndStatus(organizationId,
-                CampaignStatus.ACTIVE);
-        // FIXME: Repository should return Page. For now wrapping List in Page.
-        // Note: This ignores pageable's limit/offset if repo returns proper list.
-        // I will optimistically check if I can use findByOrganizationIdAndStatus with
-        // Pageable if I add it to repo later.
-        // Since I cannot change repo easily without fixing tests, I will wrap.
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), campaigns.size());
-        List<Campaign> pageContent = (start <= end) ? campaigns.subList(start, end) : List.of();
-
-        return new PageImpl<>(pageContent, pageable, campaigns.size())
+        // Column projection: list rows never touch the lazy categories/donation types collections
+        return campaignRepository.findListByOrganizationIdAndStatus(organizationId, CampaignStatus.ACTIVE, pageable)
                 .map(campaignMapper::toResponse);
     }
 
@@ -248,8 +268,11 @@ public class CampaignService implements ICampaignService {
             throw new BadRequestException("Cannot update COMPLETED or CANCELLED campaign");
         }
 
+        String previousSlug = campaign.getSlug();
         campaignMapper.updateEntity(campaign, request);
-        return campaignMapper.toDetailResponse(campaignRepository.save(campaign));
+        Campaign savedCampaign = campaignRepository.save(campaign);
+        publicCacheInvalidator.evictCampaign(previousSlug);
+        return campaignMapper.toDetailResponse(savedCampaign);
     }
 
     public void deleteCampaign(UUID id) {
@@ -280,6 +303,7 @@ public class CampaignService implements ICampaignService {
             throw new BadRequestException("Only ACTIVE campaigns can be paused");
         campaign.setStatus(CampaignStatus.PAUSED);
         campaignRepository.save(campaign);
+        publishStatusChanged(campaign, CampaignStatus.ACTIVE);
     }
 
     public void resumeCampaign(UUID id) {
@@ -289,24 +313,28 @@ public class CampaignService implements ICampaignService {
             throw new BadRequestException("Only PAUSED campaigns can be resumed");
         campaign.setStatus(CampaignStatus.ACTIVE);
         campaignRepository.save(campaign);
+        publishStatusChanged(campaign, CampaignStatus.PAUSED);
     }
 
     public void completeCampaign(UUID id) {
         Campaign campaign = findCampaignById(id);
         verifyOwner(campaign);
-        if (campaign.getStatus() != CampaignStatus.ACTIVE)
+        LocalDateTime completedAt = LocalDateTime.now();
+        // A donation may complete the campaign concurrently; only one of the two runs the side effects
+        if (campaign.getStatus() != CampaignStatus.ACTIVE
+                || campaignRepository.completeIfActive(campaign.getId(), completedAt) == 0)
             throw new BadRequestException("Only ACTIVE campaigns can be completed");
         campaign.setStatus(CampaignStatus.COMPLETED);
-        campaign.setCompletedAt(LocalDateTime.now());
-        campaignRepository.save(campaign);
+        campaign.setCompletedAt(completedAt);
+        BigDecimal collectedAmount = campaignDonationCounterService.getAggregatedAmount(campaign);
+        int donorCount = campaignDonationCounterService.getAggregatedDonorCount(campaign);
+        campaignDonationCounterService.rollUp(campaign.getId());
+        notificationFanoutService.enqueueCampaignCompleted(campaign);
 
         // Publish campaign completed event
         UUID userId = SecurityUtils.getCurrentUserId().orElse(null);
         LocalDateTime evidenceDeadline = LocalDateTime.now()
                 .plusDays(campaign.getEvidenceDeadlineDays() != null ? campaign.getEvidenceDeadlineDays() : 15);
-        int donorCount = campaign.getDonorCount() != null ? campaign.getDonorCount() : 0;
-        BigDecimal collectedAmount = campaign.getCollectedAmount() != null ? campaign.getCollectedAmount()
-                : BigDecimal.ZERO;
 
         CampaignCompletedEvent completedEvent = new CampaignCompletedEvent(
                 userId,
@@ -319,6 +347,7 @@ public class CampaignService implements ICampaignService {
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.CAMPAIGN_BY_SLUG, key = "#slug")
     public CampaignDetailResponse getCampaignBySlug(String slug) {
         Campaign campaign = campaignRepository.findBySlug(slug)
                 .orElseThrow(() -> new ResourceNotFoundException("Campaign not found with slug: " + slug));
@@ -327,19 +356,66 @@ public class CampaignService implements ICampaignService {
 
     @Transactional(readOnly = true)
     public Page<CampaignResponse> searchCampaigns(CampaignSearchRequest request, Pageable pageable) {
-        if (request.getKeyword() != null) {
-            return campaignRepository.searchByKeyword(request.getKeyword(), CampaignStatus.ACTIVE, pageable)
+        String query = SearchQueryNormalizer.toPrefixQuery(request.getKeyword());
+        if (query != null) {
+            // Full-text results are ordered by relevance; a client sort would not map onto the native query
+            Pageable byRelevance = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+            return campaignRepository.searchFullText(query, CampaignStatus.ACTIVE.name(), byRelevance)
                     .map(campaignMapper::toResponse);
         }
         return campaignRepository.findByStatus(CampaignStatus.ACTIVE, pageable)
                 .map(campaignMapper::toResponse);
     }
 
+    @Transactional(readOnly = true)
+    public CampaignSearchFacetsResponse getSearchFacets(String keyword) {
+        String query = SearchQueryNormalizer.toPrefixQuery(keyword);
+        Map<String, Long> statuses = new LinkedHashMap<>();
+        List<CampaignSearchFacetsResponse.CategoryFacet> categories = new ArrayList<>();
+        if (query != null) {
+            List<String> publicStatuses = PUBLIC_SEARCH_STATUSES.stream().map(Enum::name).toList();
+            for (SearchFacetProjection facet : campaignRepository.countSearchMatchesByStatus(query, publicStatuses)) {
+                statuses.put(facet.getValue(), facet.getTotal());
+            }
+            for (SearchFacetProjection facet : campaignRepository.countSearchMatchesByCategory(query,
+                    CampaignStatus.ACTIVE.name())) {
+                categories.add(new CampaignSearchFacetsResponse.CategoryFacet(
+                        facet.getValue(), facet.getLabel(), facet.getTotal()));
+            }
+        }
+        return CampaignSearchFacetsResponse.builder()
+                .keyword(keyword)
+                .statuses(statuses)
+                .categories(categories)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public List<SearchSuggestionResponse> suggestCampaigns(String prefix, int limit) {
+        String query = SearchQueryNormalizer.toSuggestQuery(prefix);
+        if (query == null) {
+            return List.of();
+        }
+        return campaignRepository.suggestByTitle(query, CampaignStatus.ACTIVE.name(),
+                SearchQueryNormalizer.suggestionLimit(limit))
+                .stream()
+                .map(s -> new SearchSuggestionResponse(s.getId(), s.getLabel(), s.getSlug()))
+                .collect(Collectors.toList());
+    }
+
     private Campaign findCampaignById(UUID id) {
         return campaignRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Campaign not found with id: " + id));
     }
 
+    private void publishStatusChanged(Campaign campaign, CampaignStatus previousStatus) {
+        eventPublisher.publishEvent(new CampaignStatusChangedEvent(
+                SecurityUtils.getCurrentUserId().orElse(null),
+                campaign.getId(),
+                previousStatus,
+                campaign.getStatus()));
+    }
+
     private void verifyOwner(Campaign campaign) {
         UUID currentUserId = SecurityUtils.getCurrentUserId()
                 .orElseThrow(() -> new UnauthorizedException("User not logged in"));
@@ -357,6 +433,7 @@ public class CampaignService implements ICampaignService {
     }
 
     // Public Methods - Featured & Urgent
+    @Cacheable(cacheNames = CacheNames.FEATURED_CAMPAIGNS, key = "'" + CacheNames.ALL_KEY + "'")
     public List<CampaignListResponse> getFeaturedCampaigns() {
         return campaignRepository.findByIsFeaturedTrueAndStatus(CampaignStatus.ACTIVE)
                 .stream()
@@ -364,6 +441,7 @@ public class CampaignService implements ICampaignService {
                 .collect(Collectors.toList());
     }
 
+    @Cacheable(cacheNames = CacheNames.URGENT_CAMPAIGNS, key = "'" + CacheNames.ALL_KEY + "'")
     public List<CampaignListResponse> getUrgentCampaigns() {
         return campaignRepository.findByIsUrgentTrueAndStatus(CampaignStatus.ACTIVE)
                 .stream()
@@ -393,61 +471,118 @@ public class CampaignService implements ICampaignService {
     }
 
     // Statistics
+
+    /**
+     * Served from the {@code campaign_stats} read model: two primary-key reads,
+     * independent of how many donations the campaign has.
+     */
     @Transactional(readOnly = true)
     public CampaignStatsResponse getCampaignStats(UUID campaignId) {
-        Campaign campaign = findCampaignById(campaignId);
-        CampaignStatsResponse stats = new CampaignStatsResponse();
-        // Correct mapping: Total Collected Amount
-        stats.setTotalCollected(
-                campaign.getCollectedAmount() != null ? campaign.getCollectedAmount() : BigDecimal.ZERO);
-
-        // Total Donors (which we use as approximation for donation count/donors)
-        Long donors = campaign.getDonorCount() != null ? campaign.getDonorCount().longValue() : 0L;
-        stats.setTotalDonors(donors);
-        stats.setTotalDonations(donors); // Assuming 1 donor = 1 donation for now or just using same count
-
-        if (donors > 0) {
-            stats.setAverageDonation(stats.getTotalCollected().divide(BigDecimal.valueOf(donors), 2,
-                    java.math.RoundingMode.HALF_UP));
-        } else {
-            stats.setAverageDonation(BigDecimal.ZERO);
+        if (!campaignRepository.existsById(campaignId)) {
+            throw new ResourceNotFoundException("Campaign not found with id: " + campaignId);
+        }
+        CampaignStatsResponse response = new CampaignStatsResponse();
+        CampaignStats stats = campaignStatsService.getStats(campaignId).orElse(null);
+        if (stats == null) {
+            response.setTotalCollected(BigDecimal.ZERO);
+            response.setTotalDonations(0L);
+            response.setTotalDonors(0L);
+            response.setAverageDonation(BigDecimal.ZERO);
+            return response;
+        }
+
+        response.setTotalCollected(stats.getTotalAmount());
+        response.setTotalDonations(stats.getDonationCount());
+        response.setTotalDonors(stats.getUniqueDonors());
+        response.setAverageDonation(stats.getDonationCount() > 0
+                ? stats.getTotalAmount().divide(BigDecimal.valueOf(stats.getDonationCount()), 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO);
+        response.setMinDonation(stats.getMinAmount());
+        response.setMaxDonation(stats.getMaxAmount());
+        response.setLastDonationAt(stats.getLastDonationAt());
+        return response;
+    }
+
+    /**
+     * Daily donation totals for the last {@code days} days (today included),
+     * with empty days filled in.
+     */
+    @Transactional(readOnly = true)
+    public List<CampaignDailyStatsResponse> getCampaignDailyStats(UUID campaignId, int days) {
+        if (!campaignRepository.existsById(campaignId)) {
+            throw new ResourceNotFoundException("Campaign not found with id: " + campaignId);
+        }
+        int span = Math.max(1, Math.min(days, MAX_DAILY_STATS_DAYS));
+        LocalDate to = LocalDate.now(CampaignStatsService.BUCKET_ZONE);
+        LocalDate from = to.minusDays(span - 1L);
+
+        Map<LocalDate, CampaignStatsDaily> buckets = new HashMap<>();
+        for (CampaignStatsDaily bucket : campaignStatsService.getDailySeries(campaignId, from, to)) {
+            buckets.put(bucket.getId().getBucketDate(), bucket);
+        }
+
+        List<CampaignDailyStatsResponse> series = new ArrayList<>(span);
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            CampaignStatsDaily bucket = buckets.get(date);
+            series.add(CampaignDailyStatsResponse.builder()
+                    .date(date)
+                    .donationCount(bucket != null ? bucket.getDonationCount() : 0L)
+                    .totalAmount(bucket != null ? bucket.getTotalAmount() : BigDecimal.ZERO)
+                    .build());
         }
-        return stats;
+        return series;
     }
 
     // Internal Methods for Donation Module
+    /**
+     * Records a completed donation on the striped campaign counters. The
+     * campaign row itself is only updated by the periodic roll-up, so
+     * concurrent completions do not serialize on it.
+     */
     @Transactional
     public void incrementDonationStats(UUID campaignId, BigDecimal amount) {
-        Campaign campaign = findCampaignById(campaignId);
-        BigDecimal current = campaign.getCollectedAmount() != null
-                ? campaign.getCollectedAmount()
-                : BigDecimal.ZERO;
-        campaign.setCollectedAmount(current.add(amount));
-        Integer currentDonors = campaign.getDonorCount() != null ? campaign.getDonorCount() : 0;
-        campaign.setDonorCount(currentDonors + 1);
-        campaignRepository.save(campaign);
+        campaignDonationCounterService.recordDonation(campaignId, amount);
+        checkAndUpdateCompletionStatus(campaignId);
+    }
+
+    @Transactional
+    public void incrementDonationStats(UUID campaignId, BigDecimal amount, int donationCount) {
+        campaignDonationCounterService.recordDonations(campaignId, amount, donationCount);
         checkAndUpdateCompletionStatus(campaignId);
     }
 
+    /**
+     * Completes the campaign once the aggregated amount reaches its target.
+     * Concurrent donations can all see the target reached, so the status
+     * change is a conditional UPDATE and only the caller that actually moved
+     * the campaign out of ACTIVE rolls up the counters and runs the
+     * completion side effects.
+     */
     @Transactional
     public void checkAndUpdateCompletionStatus(UUID campaignId) {
         Campaign campaign = findCampaignById(campaignId);
-        if (campaign.getStatus() == CampaignStatus.ACTIVE) {
-            BigDecimal collected = campaign.getCollectedAmount() != null
-                    ? campaign.getCollectedAmount()
-                    : BigDecimal.ZERO;
-            BigDecimal target = campaign.getTargetAmount();
-            if (target != null && collected.compareTo(target) >= 0) {
-                campaign.setStatus(CampaignStatus.COMPLETED);
-                campaign.setCompletedAt(LocalDateTime.now());
-                campaignRepository.save(campaign);
-
-                try {
-                    transparencyScoreService.onCampaignCompleted(campaignId);
-                } catch (Exception e) {
-                    // Ignore
-                }
-            }
+        if (campaign.getStatus() != CampaignStatus.ACTIVE) {
+            return;
+        }
+        BigDecimal collected = campaignDonationCounterService.getAggregatedAmount(campaign);
+        BigDecimal target = campaign.getTargetAmount();
+        if (target == null || collected.compareTo(target) < 0) {
+            return;
+        }
+        LocalDateTime completedAt = LocalDateTime.now();
+        if (campaignRepository.completeIfActive(campaignId, completedAt) == 0) {
+            return;
+        }
+        campaign.setStatus(CampaignStatus.COMPLETED);
+        campaign.setCompletedAt(completedAt);
+        campaignDonationCounterService.rollUp(campaignId);
+        publishStatusChanged(campaign, CampaignStatus.ACTIVE);
+        notificationFanoutService.enqueueCampaignCompleted(campaign);
+
+        try {
+            transparencyScoreService.onCampaignCompleted(campaignId);
+        } catch (Exception e) {
+            // Ignore
         }
     }
 
@@ -465,5 +600,6 @@ public class CampaignService implements ICampaignService {
             campaign.setRealizationDeadline(deadline);
         }
         campaignRepository.save(campaign);
+        publicCacheInvalidator.evictCampaign(campaign.getSlug());
     }
 }
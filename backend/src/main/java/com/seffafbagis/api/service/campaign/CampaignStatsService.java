@@ -0,0 +1,201 @@
+package com.seffafbagis.api.service.campaign;
+
+import com.seffafbagis.api.entity.campaign.CampaignStats;
+import com.seffafbagis.api.entity.campaign.CampaignStatsDaily;
+import com.seffafbagis.api.entity.donation.Donation;
+import com.seffafbagis.api.enums.DonationStatus;
+import com.seffafbagis.api.repository.CampaignStatsDailyRepository;
+import com.seffafbagis.api.repository.CampaignStatsRepository;
+import com.seffafbagis.api.repository.DonationRepository;
+import com.seffafbagis.api.repository.projection.CampaignStatsAggregate;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Maintains the {@code campaign_stats} read model.
+ *
+ * Completion and refund events apply a delta under the statistics row lock.
+ * Each donation carries a {@code stats_state} marker that is flipped with a
+ * conditional update in the same transaction, so an event delivered twice by
+ * the outbox is applied once. Unique donors are kept exact: a donor is added
+ * or removed only when no other counted donation of the same donor exists for
+ * the campaign, which is a lookup on the donor's few donations rather than a
+ * distinct count over the campaign. {@link #rebuild(UUID)} recomputes
+ * everything from the donations table and reports drift.
+ */
+@Service
+@RequiredArgsConstructor
+public class CampaignStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CampaignStatsService.class);
+
+    public static final ZoneId BUCKET_ZONE = ZoneId.of("Europe/Istanbul");
+
+    private final CampaignStatsRepository statsRepository;
+    private final CampaignStatsDailyRepository dailyRepository;
+    private final DonationRepository donationRepository;
+
+    /**
+     * Adds a completed donation to its campaign's statistics. No-op if the
+     * donation is no longer completed or has already been counted.
+     */
+    @Transactional
+    public void applyCompleted(UUID donationId) {
+        Donation donation = donationRepository.findById(donationId).orElse(null);
+        if (donation == null || donation.getStatus() != DonationStatus.COMPLETED) {
+            return;
+        }
+        UUID campaignId = donation.getCampaign().getId();
+        CampaignStats stats = lock(campaignId);
+        if (donationRepository.markCountedInStats(donationId) == 0) {
+            return;
+        }
+
+        BigDecimal amount = donation.getAmount();
+        UUID donorId = donation.getDonor() != null ? donation.getDonor().getId() : null;
+
+        stats.setDonationCount(stats.getDonationCount() + 1);
+        stats.setTotalAmount(stats.getTotalAmount().add(amount));
+        if (stats.getMinAmount() == null || amount.compareTo(stats.getMinAmount()) < 0) {
+            stats.setMinAmount(amount);
+        }
+        if (stats.getMaxAmount() == null || amount.compareTo(stats.getMaxAmount()) > 0) {
+            stats.setMaxAmount(amount);
+        }
+        if (donorId != null && !donationRepository.existsOtherCountedDonation(campaignId, donorId, donationId)) {
+            stats.setUniqueDonors(stats.getUniqueDonors() + 1);
+        }
+        if (stats.getLastDonationAt() == null || donation.getCreatedAt().isAfter(stats.getLastDonationAt())) {
+            stats.setLastDonationAt(donation.getCreatedAt());
+        }
+        stats.setUpdatedAt(OffsetDateTime.now());
+        statsRepository.save(stats);
+
+        dailyRepository.addToBucket(campaignId, bucketOf(donation), 1, amount);
+    }
+
+    /**
+     * Removes a refunded donation from its campaign's statistics. No-op if the
+     * donation was never counted or has already been removed.
+     */
+    @Transactional
+    public void applyRefunded(UUID donationId) {
+        Donation donation = donationRepository.findById(donationId).orElse(null);
+        if (donation == null || donation.getStatus() == DonationStatus.COMPLETED) {
+            return;
+        }
+        UUID campaignId = donation.getCampaign().getId();
+        CampaignStats stats = lock(campaignId);
+        if (donationRepository.markReversedInStats(donationId) == 0) {
+            return;
+        }
+
+        BigDecimal amount = donation.getAmount();
+        UUID donorId = donation.getDonor() != null ? donation.getDonor().getId() : null;
+
+        stats.setDonationCount(Math.max(0, stats.getDonationCount() - 1));
+        stats.setTotalAmount(stats.getTotalAmount().subtract(amount));
+        if (donorId != null && !donationRepository.existsOtherCountedDonation(campaignId, donorId, donationId)) {
+            stats.setUniqueDonors(Math.max(0, stats.getUniqueDonors() - 1));
+        }
+        // Extremes cannot be decremented; re-read them only when the removed donation was one
+        if (amount.compareTo(nullToZero(stats.getMinAmount())) == 0
+                || amount.compareTo(nullToZero(stats.getMaxAmount())) == 0) {
+            CampaignStatsAggregate aggregate = donationRepository.aggregateCountedByCampaignId(campaignId);
+            stats.setMinAmount(aggregate.getMinAmount());
+            stats.setMaxAmount(aggregate.getMaxAmount());
+        }
+        stats.setUpdatedAt(OffsetDateTime.now());
+        statsRepository.save(stats);
+
+        dailyRepository.addToBucket(campaignId, bucketOf(donation), -1, amount.negate());
+    }
+
+    /**
+     * Recomputes a campaign's statistics and daily series from the donations
+     * table.
+     *
+     * @return true if the stored statistics had drifted from the recomputed ones
+     */
+    @Transactional
+    public boolean rebuild(UUID campaignId) {
+        CampaignStats stats = lock(campaignId);
+        donationRepository.reconcileStatsStates(campaignId);
+        CampaignStatsAggregate aggregate = donationRepository.aggregateCountedByCampaignId(campaignId);
+
+        long donationCount = aggregate.getDonationCount() != null ? aggregate.getDonationCount() : 0L;
+        long uniqueDonors = aggregate.getUniqueDonors() != null ? aggregate.getUniqueDonors() : 0L;
+        BigDecimal totalAmount = nullToZero(aggregate.getTotalAmount());
+
+        boolean drifted = stats.getDonationCount() != donationCount
+                || stats.getUniqueDonors() != uniqueDonors
+                || stats.getTotalAmount().compareTo(totalAmount) != 0
+                || !sameAmount(stats.getMinAmount(), aggregate.getMinAmount())
+                || !sameAmount(stats.getMaxAmount(), aggregate.getMaxAmount());
+        if (drifted) {
+            logger.warn("Campaign stats drift for {}: count {} -> {}, donors {} -> {}, total {} -> {}",
+                    campaignId, stats.getDonationCount(), donationCount, stats.getUniqueDonors(), uniqueDonors,
+                    stats.getTotalAmount(), totalAmount);
+        }
+
+        OffsetDateTime now = OffsetDateTime.now();
+        stats.setDonationCount(donationCount);
+        stats.setUniqueDonors(uniqueDonors);
+        stats.setTotalAmount(totalAmount);
+        stats.setMinAmount(aggregate.getMinAmount());
+        stats.setMaxAmount(aggregate.getMaxAmount());
+        stats.setLastDonationAt(aggregate.getLastDonationAt());
+        stats.setRebuiltAt(now);
+        stats.setUpdatedAt(now);
+        statsRepository.save(stats);
+
+        dailyRepository.deleteByCampaignId(campaignId);
+        dailyRepository.rebuildForCampaign(campaignId);
+        return drifted;
+    }
+
+    @Transactional(readOnly = true)
+    public List<UUID> findCampaignIdsToReconcile() {
+        return statsRepository.findCampaignIdsToReconcile();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<CampaignStats> getStats(UUID campaignId) {
+        return statsRepository.findById(campaignId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<CampaignStatsDaily> getDailySeries(UUID campaignId, LocalDate from, LocalDate to) {
+        return dailyRepository.findSeries(campaignId, from, to);
+    }
+
+    private CampaignStats lock(UUID campaignId) {
+        statsRepository.createIfMissing(campaignId);
+        return statsRepository.findByIdForUpdate(campaignId)
+                .orElseThrow(() -> new IllegalStateException("Campaign stats row missing for " + campaignId));
+    }
+
+    private static LocalDate bucketOf(Donation donation) {
+        return donation.getCreatedAt().atZoneSameInstant(BUCKET_ZONE).toLocalDate();
+    }
+
+    private static BigDecimal nullToZero(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+
+    private static boolean sameAmount(BigDecimal a, BigDecimal b) {
+        return Objects.equals(a, b) || (a != null && b != null && a.compareTo(b) == 0);
+    }
+}
@@ -13,6 +13,7 @@ import com.seffafbagis.api.repository.CampaignUpdateRepository;
 import com.seffafbagis.api.repository.OrganizationRepository;
 import com.seffafbagis.api.repository.UserRepository;
 import com.seffafbagis.api.security.SecurityUtils;
+import com.seffafbagis.api.service.notification.NotificationFanoutService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -31,6 +32,7 @@ public class CampaignUpdateService {
     private final OrganizationRepository organizationRepository;
     private final UserRepository userRepository;
     private final CampaignMapper campaignMapper;
+    private final NotificationFanoutService notificationFanoutService;
 
     @Transactional(readOnly = true)
     public Page<CampaignUpdateResponse> getUpdates(UUID campaignId, Pageable pageable) {
@@ -54,7 +56,9 @@ public class CampaignUpdateService {
         update.setImageUrl(request.getImageUrl());
         update.setCreatedBy(userRepository.getReferenceById(SecurityUtils.getCurrentUserId().orElseThrow()));
 
-        return campaignMapper.toResponse(campaignUpdateRepository.save(update));
+        CampaignUpdate saved = campaignUpdateRepository.save(update);
+        notificationFanoutService.enqueueCampaignUpdate(saved);
+        return campaignMapper.toResponse(saved);
     }
 
     public void deleteUpdate(UUID updateId) {
@@ -1,5 +1,6 @@
 package com.seffafbagis.api.service.category;
 
+import com.seffafbagis.api.cache.CacheNames;
 import com.seffafbagis.api.dto.mapper.CategoryMapper;
 import com.seffafbagis.api.dto.request.category.CreateCategoryRequest;
 import com.seffafbagis.api.dto.request.category.UpdateCategoryRequest;
@@ -10,6 +11,9 @@ import com.seffafbagis.api.exception.BadRequestException;
 import com.seffafbagis.api.exception.ResourceNotFoundException;
 import com.seffafbagis.api.repository.CategoryRepository;
 import com.seffafbagis.api.util.SlugGenerator;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,11 +34,13 @@ public class CategoryService {
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.ACTIVE_CATEGORIES, key = "'" + CacheNames.ALL_KEY + "'")
     public List<CategoryResponse> getAllActiveCategories() {
         return categoryMapper.toResponseList(categoryRepository.findByIsActiveTrueOrderByDisplayOrderAsc());
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.CATEGORY_TREE, key = "'" + CacheNames.ALL_KEY + "'")
     public List<CategoryTreeResponse> getCategoryTree() {
         // Only fetch root categories that are active
         List<Category> rootCategories = categoryRepository.findByParentIdIsNullAndIsActiveTrueOrderByDisplayOrderAsc();
@@ -56,6 +62,10 @@ public class CategoryService {
         return categoryMapper.toResponse(category);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.ACTIVE_CATEGORIES, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.CATEGORY_TREE, allEntries = true)
+    })
     public CategoryResponse createCategory(CreateCategoryRequest request) {
         Category category = categoryMapper.toEntity(request);
 
@@ -76,6 +86,10 @@ public class CategoryService {
         return categoryMapper.toResponse(savedCategory);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.ACTIVE_CATEGORIES, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.CATEGORY_TREE, allEntries = true)
+    })
     public CategoryResponse updateCategory(UUID id, UpdateCategoryRequest request) {
         Category category = findCategoryById(id);
 
@@ -131,6 +145,10 @@ public class CategoryService {
         return categoryMapper.toResponse(savedCategory);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.ACTIVE_CATEGORIES, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.CATEGORY_TREE, allEntries = true)
+    })
     public void deactivateCategory(UUID id) {
         Category category = findCategoryById(id);
 
@@ -0,0 +1,481 @@
+package com.seffafbagis.api.service.donation;
+
+import com.seffafbagis.api.dto.response.donation.BankStatementReconciliationResponse;
+import com.seffafbagis.api.dto.response.donation.ReconciliationExceptionResponse;
+import com.seffafbagis.api.enums.ReconciliationExceptionReason;
+import com.seffafbagis.api.event.DonationCompletedEvent;
+import com.seffafbagis.api.repository.BankTransferReferenceRepository;
+import com.seffafbagis.api.security.SecurityUtils;
+import com.seffafbagis.api.service.campaign.CampaignService;
+import com.seffafbagis.api.service.donation.statement.ReferenceCodeMatcher;
+import com.seffafbagis.api.service.donation.statement.SenderNameSimilarity;
+import com.seffafbagis.api.service.donation.statement.StatementFormat;
+import com.seffafbagis.api.service.donation.statement.StatementLine;
+import com.seffafbagis.api.service.outbox.OutboxService;
+import com.seffafbagis.api.service.receipt.ReceiptService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Matches the credit lines of a bank statement against pending bank transfer
+ * references in bulk.
+ *
+ * All pending references are loaded once into a {@link ReferenceCodeMatcher}
+ * and an amount index, then the statement is streamed line by line. A line
+ * is matched by the reference code in its description or, failing that, by a
+ * pending transfer of exactly the same amount whose sender name is similar
+ * enough. Matches are completed in chunks, each in its own transaction, with
+ * JDBC batches for the donations, references and receipts, so a statement of
+ * 100k lines needs a few hundred statements instead of a million. Lines that
+ * cannot be matched unambiguously are returned as exceptions for manual
+ * review with {@code BankTransferService#matchBankTransfer}.
+ */
+@Service
+@Slf4j
+public class BankStatementReconciliationService {
+
+    static final String PENDING_REFERENCES_SQL = "SELECT r.id, r.reference_code, r.campaign_id, "
+            + "c.organization_id, r.donor_id, r.donation_type_id, r.expected_amount, r.sender_name, r.expires_at "
+            + "FROM bank_transfer_references r JOIN campaigns c ON c.id = r.campaign_id "
+            + "WHERE r.status = 'pending'";
+
+    static final String INSERT_DONATION_SQL = "INSERT INTO donations (id, campaign_id, donor_id, donation_type_id, "
+            + "amount, currency, status, payment_method, transaction_id, is_anonymous, source, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, 'TRY', 'COMPLETED', 'BANK_TRANSFER', ?, FALSE, 'bank_statement', ?, ?)";
+
+    static final String MATCH_REFERENCE_SQL = "UPDATE bank_transfer_references SET status = 'matched', "
+            + "matched_donation_id = ?, sender_name = COALESCE(?, sender_name), "
+            + "sender_iban = COALESCE(?, sender_iban), updated_at = ? WHERE id = ?";
+
+    static final String REFERENCE_STATUS_SQL = "SELECT reference_code, status FROM bank_transfer_references "
+            + "WHERE reference_code IN (%s)";
+
+    private static final String CURRENCY = "TRY";
+    private static final int MAX_SENDER_NAME_LENGTH = 255;
+    private static final int MAX_IBAN_LENGTH = 34;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BankTransferReferenceRepository bankTransferReferenceRepository;
+    private final CampaignService campaignService;
+    private final ReceiptService receiptService;
+    private final OutboxService outboxService;
+    private final int chunkSize;
+    private final double nameSimilarity;
+
+    public BankStatementReconciliationService(JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            BankTransferReferenceRepository bankTransferReferenceRepository,
+            CampaignService campaignService,
+            ReceiptService receiptService,
+            OutboxService outboxService,
+            @Value("${app.bank-reconciliation.chunk-size:1000}") int chunkSize,
+            @Value("${app.bank-reconciliation.name-similarity:0.85}") double nameSimilarity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.bankTransferReferenceRepository = bankTransferReferenceRepository;
+        this.campaignService = campaignService;
+        this.receiptService = receiptService;
+        this.outboxService = outboxService;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.nameSimilarity = nameSimilarity;
+    }
+
+    /**
+     * Reconciles a statement. Chunks already completed stay completed if a
+     * later line turns out to be malformed; running the same statement again
+     * is harmless because matched references are no longer pending.
+     */
+    public BankStatementReconciliationResponse reconcile(InputStream statement, StatementFormat format)
+            throws IOException {
+        long started = System.nanoTime();
+        Run run = new Run(loadPendingReferences(), SecurityUtils.getCurrentUserId().orElse(null));
+        log.info("Reconciling {} statement against {} pending bank transfer references",
+                format, run.matcher.size());
+
+        format.reader().read(statement, line -> {
+            run.accept(line);
+            if (run.matches.size() >= chunkSize) {
+                flush(run);
+            }
+        });
+        flush(run);
+        resolveUnknownCodes(run);
+
+        run.exceptions.sort(Comparator.comparingLong(ReconciliationExceptionResponse::getLineNumber));
+        long durationMs = (System.nanoTime() - started) / 1_000_000;
+        log.info("Reconciled {} statement lines in {} ms: {} by reference, {} by sender, {} exceptions",
+                run.totalLines, durationMs, run.matchedByReference, run.matchedBySender, run.exceptions.size());
+
+        return BankStatementReconciliationResponse.builder()
+                .format(format)
+                .totalLines(run.totalLines)
+                .creditLines(run.creditLines)
+                .matchedByReference(run.matchedByReference)
+                .matchedBySender(run.matchedBySender)
+                .matchedAmount(run.matchedAmount)
+                .durationMs(durationMs)
+                .exceptions(run.exceptions)
+                .build();
+    }
+
+    private Map<String, PendingReference> loadPendingReferences() {
+        Map<String, PendingReference> references = new HashMap<>();
+        jdbcTemplate.query(PENDING_REFERENCES_SQL, rs -> {
+            PendingReference reference = mapReference(rs);
+            references.put(reference.code, reference);
+        });
+        return references;
+    }
+
+    private static PendingReference mapReference(ResultSet rs) throws SQLException {
+        OffsetDateTime expiresAt = rs.getObject("expires_at", OffsetDateTime.class);
+        BigDecimal expectedAmount = rs.getBigDecimal("expected_amount");
+        return new PendingReference(
+                rs.getObject("id", UUID.class),
+                rs.getString("reference_code"),
+                rs.getObject("campaign_id", UUID.class),
+                rs.getObject("organization_id", UUID.class),
+                rs.getObject("donor_id", UUID.class),
+                rs.getObject("donation_type_id", UUID.class),
+                expectedAmount != null ? expectedAmount.setScale(2, RoundingMode.HALF_UP) : null,
+                SenderNameSimilarity.normalize(rs.getString("sender_name")),
+                expiresAt != null ? expiresAt.atZoneSameInstant(ZoneId.systemDefault()).toLocalDate() : null);
+    }
+
+    /**
+     * Completes the buffered matches in one transaction. References matched
+     * by someone else since they were loaded are reported instead.
+     */
+    private void flush(Run run) {
+        if (run.matches.isEmpty()) {
+            return;
+        }
+        List<Match> chunk = new ArrayList<>(run.matches);
+        run.matches.clear();
+
+        Set<UUID> completed = transactionTemplate.execute(status -> complete(chunk, run.triggeredBy));
+        for (Match match : chunk) {
+            if (completed.contains(match.reference.id)) {
+                if (match.bySender) {
+                    run.matchedBySender++;
+                } else {
+                    run.matchedByReference++;
+                }
+                run.matchedAmount = run.matchedAmount.add(match.line.getAmount());
+            } else {
+                run.exception(match.line, ReconciliationExceptionReason.ALREADY_MATCHED, match.reference);
+            }
+        }
+    }
+
+    private Set<UUID> complete(List<Match> chunk, UUID triggeredBy) {
+        List<UUID> ids = new ArrayList<>(chunk.size());
+        for (Match match : chunk) {
+            ids.add(match.reference.id);
+        }
+        Set<UUID> locked = new HashSet<>(bankTransferReferenceRepository.lockPendingByIdIn(ids));
+        List<Match> completed = new ArrayList<>(locked.size());
+        for (Match match : chunk) {
+            if (locked.contains(match.reference.id)) {
+                completed.add(match);
+            }
+        }
+        if (completed.isEmpty()) {
+            return locked;
+        }
+
+        OffsetDateTime now = OffsetDateTime.now();
+        Timestamp timestamp = Timestamp.from(now.toInstant());
+        List<Object[]> donations = new ArrayList<>(completed.size());
+        List<Object[]> references = new ArrayList<>(completed.size());
+        List<UUID> donationIds = new ArrayList<>(completed.size());
+        List<DonationCompletedEvent> events = new ArrayList<>(completed.size());
+        Map<UUID, BigDecimal> campaignAmounts = new LinkedHashMap<>();
+        Map<UUID, Integer> campaignCounts = new HashMap<>();
+        for (Match match : completed) {
+            PendingReference reference = match.reference;
+            BigDecimal amount = match.line.getAmount();
+            UUID donationId = UUID.randomUUID();
+            donationIds.add(donationId);
+            donations.add(new Object[] { donationId, reference.campaignId, reference.donorId,
+                    reference.donationTypeId, amount, reference.code, timestamp, timestamp });
+            references.add(new Object[] { donationId, senderName(match.line), senderIban(match.line),
+                    timestamp, reference.id });
+            events.add(new DonationCompletedEvent(triggeredBy, donationId, reference.campaignId,
+                    reference.organizationId, reference.donorId, amount, null));
+            campaignAmounts.merge(reference.campaignId, amount, BigDecimal::add);
+            campaignCounts.merge(reference.campaignId, 1, Integer::sum);
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_DONATION_SQL, donations);
+        jdbcTemplate.batchUpdate(MATCH_REFERENCE_SQL, references);
+        receiptService.createReceipts(donationIds, now);
+        outboxService.enqueueAll(events);
+        campaignAmounts.forEach((campaignId, amount) ->
+                campaignService.incrementDonationStats(campaignId, amount, campaignCounts.get(campaignId)));
+        return locked;
+    }
+
+    /**
+     * Looks up the code-shaped tokens that were not pending, to tell a stale
+     * code from a mistyped one.
+     */
+    private void resolveUnknownCodes(Run run) {
+        if (run.unknownCodes.isEmpty()) {
+            return;
+        }
+        Map<String, String> statuses = new HashMap<>();
+        List<String> codes = new ArrayList<>(run.unknownCodes.keySet());
+        for (int from = 0; from < codes.size(); from += chunkSize) {
+            List<String> batch = codes.subList(from, Math.min(codes.size(), from + chunkSize));
+            String sql = String.format(REFERENCE_STATUS_SQL, String.join(", ", Collections.nCopies(batch.size(), "?")));
+            jdbcTemplate.query(sql, rs -> {
+                statuses.put(rs.getString("reference_code"), rs.getString("status"));
+            }, batch.toArray());
+        }
+        run.unknownCodes.forEach((code, exceptions) -> {
+            String status = statuses.get(code);
+            ReconciliationExceptionReason reason;
+            if ("matched".equals(status)) {
+                reason = ReconciliationExceptionReason.ALREADY_MATCHED;
+            } else if ("expired".equals(status) || "cancelled".equals(status)) {
+                reason = ReconciliationExceptionReason.EXPIRED_REFERENCE;
+            } else {
+                reason = ReconciliationExceptionReason.UNKNOWN_REFERENCE;
+            }
+            exceptions.forEach(exception -> exception.setReason(reason));
+        });
+    }
+
+    private static String senderName(StatementLine line) {
+        String name = line.getSenderName();
+        return name != null && name.length() > MAX_SENDER_NAME_LENGTH
+                ? name.substring(0, MAX_SENDER_NAME_LENGTH)
+                : name;
+    }
+
+    private static String senderIban(StatementLine line) {
+        if (line.getSenderIban() == null) {
+            return null;
+        }
+        String iban = line.getSenderIban().replace(" ", "");
+        return iban.isEmpty() || iban.length() > MAX_IBAN_LENGTH ? null : iban;
+    }
+
+    /**
+     * Canonical form of a code-shaped token, e.g. {@code SBP20240115AB3XZ}
+     * becomes {@code SBP-20240115-AB3XZ}.
+     */
+    static String canonicalCode(String token) {
+        StringBuilder compact = new StringBuilder(token.length());
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if ((c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')) {
+                compact.append(c);
+            }
+        }
+        int prefix = compact.length() - 13;
+        return compact.substring(0, prefix) + "-" + compact.substring(prefix, prefix + 8) + "-"
+                + compact.substring(prefix + 8);
+    }
+
+    static final class PendingReference {
+        private final UUID id;
+        private final String code;
+        private final UUID campaignId;
+        private final UUID organizationId;
+        private final UUID donorId;
+        private final UUID donationTypeId;
+        private final BigDecimal expectedAmount;
+        private final String senderName;
+        private final LocalDate expiresOn;
+        private boolean claimed;
+
+        PendingReference(UUID id, String code, UUID campaignId, UUID organizationId, UUID donorId,
+                UUID donationTypeId, BigDecimal expectedAmount, String senderName, LocalDate expiresOn) {
+            this.id = id;
+            this.code = code;
+            this.campaignId = campaignId;
+            this.organizationId = organizationId;
+            this.donorId = donorId;
+            this.donationTypeId = donationTypeId;
+            this.expectedAmount = expectedAmount;
+            this.senderName = senderName;
+            this.expiresOn = expiresOn;
+        }
+
+        private boolean isExpiredOn(LocalDate bookingDate) {
+            return expiresOn != null && bookingDate.isAfter(expiresOn);
+        }
+    }
+
+    static final class Match {
+        private final StatementLine line;
+        private final PendingReference reference;
+        private final boolean bySender;
+
+        Match(StatementLine line, PendingReference reference, boolean bySender) {
+            this.line = line;
+            this.reference = reference;
+            this.bySender = bySender;
+        }
+    }
+
+    /**
+     * State of one reconciliation. Lines are delivered on the calling thread,
+     * so nothing here needs synchronisation.
+     */
+    private final class Run {
+        private final ReferenceCodeMatcher<PendingReference> matcher;
+        private final Map<BigDecimal, List<PendingReference>> byAmount = new HashMap<>();
+        private final UUID triggeredBy;
+        private final List<Match> matches = new ArrayList<>();
+        private final List<ReconciliationExceptionResponse> exceptions = new ArrayList<>();
+        private final Map<String, List<ReconciliationExceptionResponse>> unknownCodes = new HashMap<>();
+        private final LocalDate today = LocalDate.now();
+        private long totalLines;
+        private long creditLines;
+        private long matchedByReference;
+        private long matchedBySender;
+        private BigDecimal matchedAmount = BigDecimal.ZERO;
+
+        private Run(Map<String, PendingReference> references, UUID triggeredBy) {
+            this.matcher = ReferenceCodeMatcher.of(references);
+            this.triggeredBy = triggeredBy;
+            for (PendingReference reference : references.values()) {
+                if (reference.expectedAmount != null && !reference.senderName.isEmpty()) {
+                    byAmount.computeIfAbsent(reference.expectedAmount, amount -> new ArrayList<>(1)).add(reference);
+                }
+            }
+        }
+
+        private void accept(StatementLine line) {
+            totalLines++;
+            if (!line.isCredit()) {
+                return;
+            }
+            creditLines++;
+            if (line.getCurrency() != null && !CURRENCY.equalsIgnoreCase(line.getCurrency())
+                    && !"TL".equalsIgnoreCase(line.getCurrency())) {
+                exception(line, ReconciliationExceptionReason.UNSUPPORTED_CURRENCY, null);
+                return;
+            }
+            LocalDate bookingDate = line.getBookingDate() != null ? line.getBookingDate() : today;
+            String text = line.getBankReference() == null ? line.getDescription()
+                    : line.getDescription() == null ? line.getBankReference()
+                    : line.getDescription() + " " + line.getBankReference();
+
+            List<PendingReference> found = matcher.find(text);
+            if (found.size() > 1) {
+                exception(line, ReconciliationExceptionReason.MULTIPLE_REFERENCES, null);
+            } else if (found.size() == 1) {
+                matchByReference(line, found.get(0), bookingDate);
+            } else if (!matchUnknownCode(line, text)) {
+                matchBySender(line, bookingDate);
+            }
+        }
+
+        private void matchByReference(StatementLine line, PendingReference reference, LocalDate bookingDate) {
+            if (reference.claimed) {
+                exception(line, ReconciliationExceptionReason.ALREADY_MATCHED, reference);
+            } else if (reference.isExpiredOn(bookingDate)) {
+                exception(line, ReconciliationExceptionReason.EXPIRED_REFERENCE, reference);
+            } else if (reference.expectedAmount != null
+                    && reference.expectedAmount.compareTo(line.getAmount()) != 0) {
+                exception(line, ReconciliationExceptionReason.AMOUNT_MISMATCH, reference);
+            } else {
+                claim(line, reference, false);
+            }
+        }
+
+        private boolean matchUnknownCode(StatementLine line, String text) {
+            List<String> unknown = new ArrayList<>(matcher.findUnknown(text));
+            if (unknown.isEmpty()) {
+                return false;
+            }
+            String code = canonicalCode(unknown.get(0));
+            ReconciliationExceptionResponse exception = exception(line,
+                    ReconciliationExceptionReason.UNKNOWN_REFERENCE, null);
+            exception.setReferenceCode(code);
+            unknownCodes.computeIfAbsent(code, c -> new ArrayList<>(1)).add(exception);
+            return true;
+        }
+
+        private void matchBySender(StatementLine line, LocalDate bookingDate) {
+            List<PendingReference> candidates = line.getSenderName() != null
+                    ? byAmount.get(line.getAmount().setScale(2, RoundingMode.HALF_UP))
+                    : null;
+            if (candidates == null) {
+                exception(line, ReconciliationExceptionReason.NO_REFERENCE, null);
+                return;
+            }
+            String sender = SenderNameSimilarity.normalize(line.getSenderName());
+            PendingReference best = null;
+            int matching = 0;
+            for (PendingReference candidate : candidates) {
+                if (!candidate.claimed && !candidate.isExpiredOn(bookingDate)
+                        && SenderNameSimilarity.similarityOfNormalized(sender, candidate.senderName) >= nameSimilarity) {
+                    best = candidate;
+                    matching++;
+                }
+            }
+            if (matching == 1) {
+                claim(line, best, true);
+            } else {
+                exception(line, matching == 0
+                        ? ReconciliationExceptionReason.NO_REFERENCE
+                        : ReconciliationExceptionReason.AMBIGUOUS_SENDER, null);
+            }
+        }
+
+        private void claim(StatementLine line, PendingReference reference, boolean bySender) {
+            reference.claimed = true;
+            matches.add(new Match(line, reference, bySender));
+        }
+
+        private ReconciliationExceptionResponse exception(StatementLine line, ReconciliationExceptionReason reason,
+                PendingReference reference) {
+            ReconciliationExceptionResponse exception = ReconciliationExceptionResponse.builder()
+                    .lineNumber(line.getLineNumber())
+                    .reason(reason)
+                    .bookingDate(line.getBookingDate())
+                    .amount(line.getAmount())
+                    .currency(line.getCurrency())
+                    .senderName(line.getSenderName())
+                    .senderIban(line.getSenderIban())
+                    .description(line.getDescription())
+                    .bankReference(line.getBankReference())
+                    .referenceCode(reference != null ? reference.code : null)
+                    .expectedAmount(reference != null ? reference.expectedAmount : null)
+                    .build();
+            exceptions.add(exception);
+            return exception;
+        }
+    }
+}
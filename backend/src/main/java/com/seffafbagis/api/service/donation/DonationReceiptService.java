@@ -3,6 +3,7 @@ package com.seffafbagis.api.service.donation;
 import com.seffafbagis.api.entity.donation.Donation;
 import com.seffafbagis.api.entity.donation.DonationReceipt;
 import com.seffafbagis.api.repository.DonationReceiptRepository;
+import com.seffafbagis.api.service.receipt.ReceiptNumberAllocator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,23 +17,14 @@ import java.util.UUID;
 public class DonationReceiptService {
 
     private final DonationReceiptRepository donationReceiptRepository;
+    private final ReceiptNumberAllocator receiptNumberAllocator;
 
     @Transactional
     public DonationReceipt generateReceipt(Donation donation) {
         DonationReceipt receipt = new DonationReceipt();
         receipt.setDonation(donation);
         receipt.setIssuedAt(OffsetDateTime.now());
-
-        String year = String.valueOf(LocalDate.now().getYear());
-        String prefix = "RCPT-" + year + "-";
-
-        // Find last receipt for this year
-        Integer maxNum = donationReceiptRepository.findMaxReceiptNumberByYear(prefix + "%");
-
-        long nextNum = (maxNum != null) ? maxNum + 1 : 1;
-
-        String receiptNumber = prefix + String.format("%06d", nextNum);
-        receipt.setReceiptNumber(receiptNumber);
+        receipt.setReceiptNumber(receiptNumberAllocator.next(LocalDate.now().getYear()));
 
         return donationReceiptRepository.save(receipt);
     }
@@ -3,6 +3,7 @@ package com.seffafbagis.api.service.donation;
 import com.seffafbagis.api.dto.mapper.DonationMapper;
 import com.seffafbagis.api.dto.request.donation.CreateDonationRequest;
 import com.seffafbagis.api.dto.request.donation.RefundRequest;
+import com.seffafbagis.api.dto.response.common.PageResponse;
 import com.seffafbagis.api.dto.response.donation.DonationDetailResponse;
 import com.seffafbagis.api.dto.response.donation.DonationResponse;
 import com.seffafbagis.api.dto.response.donation.DonorListResponse;
@@ -28,12 +29,14 @@ import com.seffafbagis.api.repository.UserRepository;
 import com.seffafbagis.api.security.SecurityUtils;
 import com.seffafbagis.api.service.campaign.CampaignService;
 import com.seffafbagis.api.service.notification.NotificationService;
+import com.seffafbagis.api.service.outbox.OutboxService;
 import com.seffafbagis.api.service.system.SystemSettingService;
+import com.seffafbagis.api.util.CursorUtils;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -54,7 +57,7 @@ public class DonationService {
     private final com.seffafbagis.api.service.receipt.ReceiptService receiptService;
     private final NotificationService notificationService;
     private final SystemSettingService systemSettingService;
-    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxService outboxService;
 
     @Transactional
     public UUID createDonation(CreateDonationRequest request) {
@@ -97,7 +100,7 @@ public class DonationService {
 
         donation = donationRepository.save(donation);
 
-        // Publish donation created event
+        // Write donation created event to the outbox
         UUID triggeredBy = SecurityUtils.getCurrentUserId().orElse(null);
         String donationTypeName = donationType != null ? donationType.getName() : "MONEY";
         DonationCreatedEvent createdEvent = new DonationCreatedEvent(
@@ -108,7 +111,7 @@ public class DonationService {
                 donation.getAmount(),
                 donationTypeName,
                 Boolean.TRUE.equals(donation.getIsAnonymous()));
-        eventPublisher.publishEvent(createdEvent);
+        outboxService.enqueue(createdEvent);
 
         return donation.getId();
     }
@@ -130,7 +133,8 @@ public class DonationService {
         // Generate receipt
         receiptService.createReceipt(donation);
 
-        // Publish donation completed event (listeners handle notifications)
+        // Write donation completed event to the outbox (listeners handle notifications
+        // after commit, off the request thread)
         UUID triggeredBy = SecurityUtils.getCurrentUserId().orElse(null);
         UUID transactionId = donation.getTransaction() != null ? donation.getTransaction().getId() : null;
         DonationCompletedEvent event = new DonationCompletedEvent(
@@ -141,7 +145,7 @@ public class DonationService {
                 donation.getDonor() != null ? donation.getDonor().getId() : null,
                 donation.getAmount(),
                 transactionId);
-        eventPublisher.publishEvent(event);
+        outboxService.enqueue(event);
     }
 
     @Transactional
@@ -153,7 +157,7 @@ public class DonationService {
         donation.setStatus(DonationStatus.FAILED);
         donationRepository.save(donation);
 
-        // Publish donation failed event
+        // Write donation failed event to the outbox
         UUID triggeredBy = SecurityUtils.getCurrentUserId().orElse(null);
         DonationFailedEvent event = new DonationFailedEvent(
                 triggeredBy,
@@ -161,7 +165,7 @@ public class DonationService {
                 donation.getCampaign().getId(),
                 donation.getDonor() != null ? donation.getDonor().getId() : null,
                 errorMessage);
-        eventPublisher.publishEvent(event);
+        outboxService.enqueue(event);
     }
 
     @Transactional(readOnly = true)
@@ -197,6 +201,19 @@ public class DonationService {
                 .map(donationMapper::toResponse);
     }
 
+    @Transactional(readOnly = true)
+    public PageResponse<DonationResponse> getMyDonationsFeed(String cursor, int size) {
+        UUID currentUserId = SecurityUtils.getCurrentUserId()
+                .orElseThrow(() -> new UnauthorizedException("User not authenticated"));
+
+        CursorUtils.Position position = CursorUtils.decode(cursor);
+        Slice<Donation> slice = position == null
+                ? donationRepository.findFeedByDonorId(currentUserId, CursorUtils.limit(size))
+                : donationRepository.findFeedByDonorIdAfter(currentUserId, position.getCreatedAt(),
+                        position.getId(), CursorUtils.limit(size));
+        return toFeedResponse(slice, position == null);
+    }
+
     @Transactional
     public void requestRefund(RefundRequest request) {
         Donation donation = getDonationEntity(request.getDonationId());
@@ -225,16 +242,38 @@ public class DonationService {
         donation.setRefundReason(request.getReason());
         donation.setRefundRequestedAt(OffsetDateTime.now());
         donationRepository.save(donation);
+    }
+
+    /**
+     * Records a refund confirmed by the payment provider. A refund covering the
+     * full amount moves the donation to {@link DonationStatus#REFUNDED} and
+     * writes a {@link DonationRefundedEvent} to the outbox; partial refunds only
+     * update the refund status.
+     */
+    @Transactional
+    public void markRefunded(UUID donationId, BigDecimal refundedAmount) {
+        Donation donation = getDonationEntity(donationId);
+        if (donation.getStatus() != DonationStatus.COMPLETED) {
+            return;
+        }
+
+        boolean fullRefund = refundedAmount == null || refundedAmount.compareTo(donation.getAmount()) >= 0;
+        donation.setRefundStatus(fullRefund ? "completed" : "partial");
+        if (!fullRefund) {
+            donationRepository.save(donation);
+            return;
+        }
+        donation.setStatus(DonationStatus.REFUNDED);
+        donationRepository.save(donation);
 
-        // Publish donation refund requested event
         UUID triggeredBy = SecurityUtils.getCurrentUserId().orElse(null);
         DonationRefundedEvent event = new DonationRefundedEvent(
                 triggeredBy,
                 donation.getId(),
                 donation.getCampaign().getId(),
                 donation.getAmount(),
-                request.getReason());
-        eventPublisher.publishEvent(event);
+                donation.getRefundReason());
+        outboxService.enqueue(event);
     }
 
     // Campaign Public Donors
@@ -280,6 +319,26 @@ public class DonationService {
                 .map(donationMapper::toResponse);
     }
 
+    @Transactional(readOnly = true)
+    public PageResponse<DonationResponse> getCampaignDonationsFeed(UUID campaignId, String cursor, int size) {
+        Campaign campaign = campaignRepository.findById(campaignId)
+                .orElseThrow(() -> new ResourceNotFoundException("Campaign not found"));
+
+        UUID currentUserId = SecurityUtils.getCurrentUserId()
+                .orElseThrow(() -> new UnauthorizedException("User not authenticated"));
+
+        if (!campaign.getOrganization().getUser().getId().equals(currentUserId)) {
+            throw new ForbiddenException("You are not the owner of this campaign");
+        }
+
+        CursorUtils.Position position = CursorUtils.decode(cursor);
+        Slice<Donation> slice = position == null
+                ? donationRepository.findFeedByCampaignId(campaignId, CursorUtils.limit(size))
+                : donationRepository.findFeedByCampaignIdAfter(campaignId, position.getCreatedAt(),
+                        position.getId(), CursorUtils.limit(size));
+        return toFeedResponse(slice, position == null);
+    }
+
     // Organization Owner - All Donations to Organization
     @Transactional(readOnly = true)
     public Page<DonationResponse> getOrganizationDonations(UUID organizationId, Pageable pageable) {
@@ -288,6 +347,25 @@ public class DonationService {
                 .map(donationMapper::toResponse);
     }
 
+    @Transactional(readOnly = true)
+    public PageResponse<DonationResponse> getOrganizationDonationsFeed(UUID organizationId, String cursor, int size) {
+        // Auth is verified at controller level
+        CursorUtils.Position position = CursorUtils.decode(cursor);
+        Slice<Donation> slice = position == null
+                ? donationRepository.findFeedByCampaignOrganizationId(organizationId, CursorUtils.limit(size))
+                : donationRepository.findFeedByCampaignOrganizationIdAfter(organizationId, position.getCreatedAt(),
+                        position.getId(), CursorUtils.limit(size));
+        return toFeedResponse(slice, position == null);
+    }
+
+    private PageResponse<DonationResponse> toFeedResponse(Slice<Donation> slice, boolean firstPage) {
+        return PageResponse.ofCursor(
+                slice.map(donationMapper::toResponse).getContent(),
+                slice,
+                CursorUtils.nextCursor(slice),
+                firstPage);
+    }
+
     // Internal
     @Transactional
     public void updateDonationStatus(UUID donationId, DonationStatus status) {
@@ -0,0 +1,224 @@
+package com.seffafbagis.api.service.donation.statement;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * Reads ISO 20022 camt.053 statements with a streaming StAX parser, so the
+ * document is never held in memory.
+ *
+ * Each {@code TxDtls} of an {@code Ntry} becomes one {@link StatementLine};
+ * entries without transaction details become a single line. Namespaces are
+ * ignored so every {@code camt.053.001.xx} version is accepted.
+ */
+public class Camt053StatementReader implements StatementReader {
+
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    @Override
+    public void read(InputStream in, Consumer<StatementLine> sink) throws IOException {
+        XMLStreamReader xml = null;
+        try {
+            xml = FACTORY.createXMLStreamReader(in);
+            parse(xml, sink);
+        } catch (XMLStreamException e) {
+            throw new StatementFormatException("Invalid camt.053 document: " + e.getMessage());
+        } finally {
+            if (xml != null) {
+                try {
+                    xml.close();
+                } catch (XMLStreamException e) {
+                    // nothing left to release
+                }
+            }
+        }
+    }
+
+    private static void parse(XMLStreamReader xml, Consumer<StatementLine> sink) throws XMLStreamException {
+        Deque<String> path = new ArrayDeque<>();
+        Entry entry = null;
+        Transaction transaction = null;
+        StringBuilder text = new StringBuilder();
+        while (xml.hasNext()) {
+            switch (xml.next()) {
+                case XMLStreamConstants.START_ELEMENT -> {
+                    String name = xml.getLocalName();
+                    path.push(name);
+                    text.setLength(0);
+                    if ("Ntry".equals(name)) {
+                        entry = new Entry(xml.getLocation().getLineNumber());
+                    } else if ("TxDtls".equals(name) && entry != null) {
+                        transaction = new Transaction(xml.getLocation().getLineNumber());
+                    } else if ("Amt".equals(name)) {
+                        String currency = xml.getAttributeValue(null, "Ccy");
+                        if (transaction != null) {
+                            if (transaction.currency == null || path.contains("TxAmt")) {
+                                transaction.currency = currency;
+                            }
+                        } else if (entry != null && "Ntry".equals(parentOf(path))) {
+                            entry.currency = currency;
+                        }
+                    }
+                }
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA -> text.append(xml.getText());
+                case XMLStreamConstants.END_ELEMENT -> {
+                    String name = path.pop();
+                    String value = StatementValues.trimToNull(text.toString());
+                    text.setLength(0);
+                    if ("TxDtls".equals(name) && entry != null && transaction != null) {
+                        entry.transactions++;
+                        sink.accept(transaction.toLine(entry));
+                        transaction = null;
+                    } else if ("Ntry".equals(name) && entry != null) {
+                        if (entry.transactions == 0) {
+                            sink.accept(new Transaction(entry.lineNumber).toLine(entry));
+                        }
+                        entry = null;
+                    } else if (value != null && transaction != null) {
+                        transaction.set(name, path.peek(), path, value);
+                    } else if (value != null && entry != null) {
+                        entry.set(name, path.peek(), value);
+                    }
+                }
+                default -> {
+                    // comments, whitespace and processing instructions
+                }
+            }
+        }
+    }
+
+    private static String parentOf(Deque<String> path) {
+        // the top of the stack is the element just opened
+        Iterator<String> names = path.iterator();
+        names.next();
+        return names.hasNext() ? names.next() : null;
+    }
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        // statements are uploaded by users: never resolve DTDs or external entities
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    private static final class Entry {
+        private final long lineNumber;
+        private BigDecimal amount;
+        private String currency;
+        private boolean debit;
+        private LocalDate bookingDate;
+        private String bankReference;
+        private String information;
+        private int transactions;
+
+        private Entry(long lineNumber) {
+            this.lineNumber = lineNumber;
+        }
+
+        private void set(String name, String parent, String value) {
+            switch (name) {
+                case "Amt" -> {
+                    if ("Ntry".equals(parent)) {
+                        amount = StatementValues.parseAmount(value);
+                    }
+                }
+                case "CdtDbtInd" -> {
+                    if ("Ntry".equals(parent)) {
+                        debit = "DBIT".equals(value);
+                    }
+                }
+                case "Dt", "DtTm" -> {
+                    if ("BookgDt".equals(parent)) {
+                        bookingDate = StatementValues.parseDate(value);
+                    }
+                }
+                case "AcctSvcrRef" -> bankReference = value;
+                case "AddtlNtryInf" -> information = value;
+                default -> {
+                    // other entry fields are not used for matching
+                }
+            }
+        }
+    }
+
+    private static final class Transaction {
+        private final long lineNumber;
+        private BigDecimal amount;
+        private String currency;
+        private String senderName;
+        private String senderIban;
+        private String bankReference;
+        private final StringBuilder remittance = new StringBuilder();
+
+        private Transaction(long lineNumber) {
+            this.lineNumber = lineNumber;
+        }
+
+        private void set(String name, String parent, Deque<String> path, String value) {
+            switch (name) {
+                case "Amt" -> {
+                    // AmtDtls/InstdAmt may be in another currency; prefer the booked amount
+                    if (!path.contains("Chrgs") && (amount == null || path.contains("TxAmt"))) {
+                        amount = StatementValues.parseAmount(value);
+                    }
+                }
+                case "Nm" -> {
+                    if (path.contains("Dbtr") && senderName == null) {
+                        senderName = value;
+                    }
+                }
+                case "IBAN" -> {
+                    if (path.contains("DbtrAcct")) {
+                        senderIban = value;
+                    }
+                }
+                case "Ustrd" -> {
+                    if (!remittance.isEmpty()) {
+                        remittance.append(' ');
+                    }
+                    remittance.append(value);
+                }
+                case "Ref" -> {
+                    if ("Strd".equals(parent) || path.contains("CdtrRefInf")) {
+                        if (!remittance.isEmpty()) {
+                            remittance.append(' ');
+                        }
+                        remittance.append(value);
+                    }
+                }
+                case "AcctSvcrRef", "EndToEndId" -> {
+                    if (bankReference == null && !"NOTPROVIDED".equals(value)) {
+                        bankReference = value;
+                    }
+                }
+                default -> {
+                    // other transaction fields are not used for matching
+                }
+            }
+        }
+
+        private StatementLine toLine(Entry entry) {
+            BigDecimal booked = amount != null ? amount : entry.amount;
+            if (booked != null && entry.debit) {
+                booked = booked.negate();
+            }
+            String description = !remittance.isEmpty() ? remittance.toString() : entry.information;
+            return new StatementLine(lineNumber, entry.bookingDate, booked,
+                    currency != null ? currency : entry.currency,
+                    senderName, senderIban, description,
+                    bankReference != null ? bankReference : entry.bankReference);
+        }
+    }
+}
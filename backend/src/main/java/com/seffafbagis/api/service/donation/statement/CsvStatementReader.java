@@ -0,0 +1,193 @@
+package com.seffafbagis.api.service.donation.statement;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Reads delimited statements exported by internet banking.
+ *
+ * The first row names the columns; English and Turkish headers are recognised
+ * (e.g. {@code Tarih;Açıklama;Tutar} or {@code date,description,amount}). The
+ * delimiter is whichever of {@code ;}, {@code ,} or tab the header uses most.
+ * Quoted fields may contain delimiters, doubled quotes and line breaks. Either
+ * a signed amount column or separate credit and debit columns are required.
+ */
+public class CsvStatementReader implements StatementReader {
+
+    private static final Map<String, Set<String>> COLUMNS = Map.of(
+            "date", Set.of("date", "bookingdate", "valuedate", "tarih", "islemtarihi", "valortarihi", "valor"),
+            "amount", Set.of("amount", "tutar", "islemtutari", "miktar"),
+            "credit", Set.of("credit", "alacak", "gelen"),
+            "debit", Set.of("debit", "borc", "giden"),
+            "currency", Set.of("currency", "ccy", "doviz", "dovizcinsi", "parabirimi"),
+            "name", Set.of("sender", "sendername", "name", "counterparty", "gonderen", "gonderenadi",
+                    "karsitaraf", "karsitarafadi"),
+            "iban", Set.of("iban", "senderiban", "counterpartyiban", "gondereniban", "karsitarafiban"),
+            "description", Set.of("description", "details", "remittance", "aciklama", "islemaciklamasi"),
+            "reference", Set.of("reference", "bankreference", "referans", "referansno", "dekontno"));
+
+    @Override
+    public void read(InputStream in, Consumer<StatementLine> sink) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String header = reader.readLine();
+        long lineNumber = 1;
+        while (header != null && header.isBlank()) {
+            header = reader.readLine();
+            lineNumber++;
+        }
+        if (header == null) {
+            return;
+        }
+        if (!header.isEmpty() && header.charAt(0) == '\uFEFF') {
+            header = header.substring(1);
+        }
+        char delimiter = delimiterOf(header);
+        Map<String, Integer> columns = columnsOf(split(header, delimiter));
+        if (!columns.containsKey("amount") && !columns.containsKey("credit")) {
+            throw new StatementFormatException("Statement has no amount column");
+        }
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            long start = lineNumber;
+            if (line.isBlank()) {
+                continue;
+            }
+            // a quoted field may continue on the next physical line
+            StringBuilder record = new StringBuilder(line);
+            while (openQuotes(record)) {
+                String next = reader.readLine();
+                if (next == null) {
+                    throw new StatementFormatException("Unterminated quote starting on line " + start);
+                }
+                lineNumber++;
+                record.append('\n').append(next);
+            }
+            sink.accept(toLine(start, split(record.toString(), delimiter), columns));
+        }
+    }
+
+    private static StatementLine toLine(long lineNumber, List<String> fields, Map<String, Integer> columns) {
+        BigDecimal amount = StatementValues.parseAmount(field(fields, columns, "amount"));
+        if (amount == null) {
+            BigDecimal credit = StatementValues.parseAmount(field(fields, columns, "credit"));
+            BigDecimal debit = StatementValues.parseAmount(field(fields, columns, "debit"));
+            if (credit != null && credit.signum() != 0) {
+                amount = credit.abs();
+            } else if (debit != null) {
+                amount = debit.abs().negate();
+            }
+        }
+        return new StatementLine(lineNumber,
+                StatementValues.parseDate(field(fields, columns, "date")),
+                amount,
+                field(fields, columns, "currency"),
+                field(fields, columns, "name"),
+                field(fields, columns, "iban"),
+                field(fields, columns, "description"),
+                field(fields, columns, "reference"));
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        return index != null && index < fields.size() ? StatementValues.trimToNull(fields.get(index)) : null;
+    }
+
+    private static Map<String, Integer> columnsOf(List<String> headers) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < headers.size(); i++) {
+            String name = normalizeHeader(headers.get(i));
+            for (Map.Entry<String, Set<String>> column : COLUMNS.entrySet()) {
+                if (column.getValue().contains(name)) {
+                    columns.putIfAbsent(column.getKey(), i);
+                }
+            }
+        }
+        return columns;
+    }
+
+    private static String normalizeHeader(String header) {
+        StringBuilder name = new StringBuilder(header.length());
+        for (char c : header.toLowerCase(new Locale("tr", "TR")).toCharArray()) {
+            switch (c) {
+                case 'ç' -> name.append('c');
+                case 'ğ' -> name.append('g');
+                case 'ı' -> name.append('i');
+                case 'ö' -> name.append('o');
+                case 'ş' -> name.append('s');
+                case 'ü' -> name.append('u');
+                default -> {
+                    if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                        name.append(c);
+                    }
+                }
+            }
+        }
+        return name.toString();
+    }
+
+    private static char delimiterOf(String header) {
+        char best = ',';
+        long bestCount = 0;
+        for (char candidate : new char[] { ';', ',', '\t' }) {
+            long count = header.chars().filter(c -> c == candidate).count();
+            if (count > bestCount) {
+                best = candidate;
+                bestCount = count;
+            }
+        }
+        return best;
+    }
+
+    private static boolean openQuotes(CharSequence record) {
+        boolean open = false;
+        for (int i = 0; i < record.length(); i++) {
+            if (record.charAt(i) == '"') {
+                open = !open;
+            }
+        }
+        return open;
+    }
+
+    static List<String> split(String record, char delimiter) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
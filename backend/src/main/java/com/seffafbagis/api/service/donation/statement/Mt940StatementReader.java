@@ -0,0 +1,187 @@
+package com.seffafbagis.api.service.donation.statement;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads SWIFT MT940 statements.
+ *
+ * Every {@code :61:} statement line becomes one {@link StatementLine}; the
+ * {@code :86:} information field that follows it supplies the sender and the
+ * description. Both the structured {@code ?20..?33} subfields used by Turkish
+ * and German banks and the {@code /NAME/}, {@code /REMI/}, {@code /IBAN/}
+ * keywords are understood; anything else is kept verbatim as the description.
+ */
+public class Mt940StatementReader implements StatementReader {
+
+    private static final Pattern STATEMENT_LINE = Pattern.compile(
+            "^(\\d{6})(\\d{4})?(R?[CD])[A-Z]?(\\d+,\\d{0,2})(.*)$");
+
+    private static final Pattern TAG = Pattern.compile("^:(\\d{2}[A-Z]?):(.*)$");
+
+    @Override
+    public void read(InputStream in, Consumer<StatementLine> sink) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        Entry entry = null;
+        String currency = null;
+        StringBuilder field = null;
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            Matcher tag = TAG.matcher(line);
+            if (!tag.matches()) {
+                if (line.startsWith("-") || line.startsWith("{") || line.startsWith("}")) {
+                    // end of message block
+                    emit(entry, field, currency, sink);
+                    entry = null;
+                    field = null;
+                } else if (field != null) {
+                    field.append(line);
+                }
+                continue;
+            }
+            String name = tag.group(1);
+            String value = tag.group(2);
+            if (field != null && entry != null) {
+                entry.information = field.toString();
+            }
+            field = null;
+            switch (name) {
+                case "60F", "60M" -> currency = value.length() >= 10 ? value.substring(7, 10) : currency;
+                case "61" -> {
+                    emit(entry, null, currency, sink);
+                    entry = parseStatementLine(lineNumber, value);
+                }
+                case "86" -> {
+                    if (entry != null) {
+                        field = new StringBuilder(value);
+                    }
+                }
+                case "62F", "62M" -> {
+                    emit(entry, null, currency, sink);
+                    entry = null;
+                }
+                default -> {
+                    // header and balance fields carry nothing per line
+                }
+            }
+        }
+        emit(entry, field, currency, sink);
+    }
+
+    private static Entry parseStatementLine(long lineNumber, String value) {
+        Matcher matcher = STATEMENT_LINE.matcher(value.trim());
+        if (!matcher.matches()) {
+            throw new StatementFormatException("Invalid :61: field on line " + lineNumber);
+        }
+        Entry entry = new Entry();
+        entry.lineNumber = lineNumber;
+        entry.bookingDate = StatementValues.parseDate(matcher.group(1));
+        BigDecimal amount = StatementValues.parseAmount(matcher.group(4));
+        // C is a credit, D a debit; the R prefix reverses the direction
+        boolean credit = matcher.group(3).endsWith("C") != matcher.group(3).startsWith("R");
+        entry.amount = credit ? amount : amount.negate();
+        String rest = matcher.group(5);
+        int bankReference = rest.indexOf("//");
+        if (bankReference >= 0) {
+            entry.bankReference = StatementValues.trimToNull(rest.substring(bankReference + 2));
+        }
+        return entry;
+    }
+
+    private static void emit(Entry entry, StringBuilder field, String currency, Consumer<StatementLine> sink) {
+        if (entry == null) {
+            return;
+        }
+        if (field != null) {
+            entry.information = field.toString();
+        }
+        String name = null;
+        String iban = null;
+        String description = entry.information;
+        if (description != null && description.contains("?")) {
+            StringBuilder purpose = new StringBuilder();
+            StringBuilder sender = new StringBuilder();
+            for (String part : description.split("\\?")) {
+                if (part.length() < 2) {
+                    continue;
+                }
+                int code = subfieldCode(part);
+                String text = part.substring(2);
+                if (code >= 20 && code <= 29 || code >= 60 && code <= 63) {
+                    purpose.append(text);
+                } else if (code == 31) {
+                    iban = text;
+                } else if (code == 32 || code == 33) {
+                    sender.append(text);
+                }
+            }
+            description = purpose.isEmpty() ? description : purpose.toString();
+            name = sender.isEmpty() ? null : sender.toString();
+        } else if (description != null && description.startsWith("/")) {
+            name = keyword(description, "NAME");
+            iban = keyword(description, "IBAN");
+            String remittance = keyword(description, "REMI");
+            description = remittance != null ? remittance : description;
+        }
+        sink.accept(new StatementLine(entry.lineNumber, entry.bookingDate, entry.amount, currency,
+                StatementValues.trimToNull(name), StatementValues.trimToNull(iban),
+                StatementValues.trimToNull(description), entry.bankReference));
+    }
+
+    private static int subfieldCode(String part) {
+        char tens = part.charAt(0);
+        char units = part.charAt(1);
+        if (tens < '0' || tens > '9' || units < '0' || units > '9') {
+            return -1;
+        }
+        return (tens - '0') * 10 + (units - '0');
+    }
+
+    private static String keyword(String text, String name) {
+        String marker = "/" + name + "/";
+        int start = text.indexOf(marker);
+        if (start < 0) {
+            return null;
+        }
+        start += marker.length();
+        int end = text.indexOf('/', start);
+        // a value may itself contain slashes; stop only at the next keyword
+        while (end >= 0 && !isKeywordAt(text, end)) {
+            end = text.indexOf('/', end + 1);
+        }
+        String value = text.substring(start, end >= 0 ? end : text.length());
+        return value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+    }
+
+    private static boolean isKeywordAt(String text, int slash) {
+        int next = text.indexOf('/', slash + 1);
+        if (next < 0 || next - slash < 3 || next - slash > 6) {
+            return false;
+        }
+        for (int i = slash + 1; i < next; i++) {
+            char c = text.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Entry {
+        private long lineNumber;
+        private LocalDate bookingDate;
+        private BigDecimal amount;
+        private String bankReference;
+        private String information;
+    }
+}
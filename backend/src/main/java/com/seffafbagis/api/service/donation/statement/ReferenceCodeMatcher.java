@@ -0,0 +1,134 @@
+package com.seffafbagis.api.service.donation.statement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Finds bank transfer reference codes in free-text statement descriptions.
+ *
+ * Donors type the code by hand, so separators are often dropped or replaced
+ * ({@code SBP20240115AB3XZ}, {@code sbp 20240115 ab3xz}, {@code SBP-20240115/AB3XZ}) and
+ * banks glue the code to neighbouring words when they wrap descriptions
+ * ({@code ODEMESBP-20240115-AB3XZBAGIS}).
+ * A single precompiled pattern finds every code-shaped token in one linear
+ * pass over the text; each hit is reduced to its letters and digits and
+ * looked up in a hash map of the known codes, so the cost per line does not
+ * grow with the number of pending references.
+ *
+ * @param <T> the value attached to each known code
+ */
+public final class ReferenceCodeMatcher<T> {
+
+    private static final Pattern CANDIDATE = Pattern.compile(
+            "[A-Z]{2,5}[^A-Z0-9]{0,2}\\d{8}[^A-Z0-9]{0,2}[A-Z0-9]{5}");
+
+    private final Map<String, T> codes;
+
+    private ReferenceCodeMatcher(Map<String, T> codes) {
+        this.codes = codes;
+    }
+
+    /**
+     * @param codes the known codes in their canonical form, e.g. {@code SBP-20240115-AB3XZ}
+     */
+    public static <T> ReferenceCodeMatcher<T> of(Map<String, T> codes) {
+        Map<String, T> normalized = new HashMap<>(Math.max(16, codes.size() * 4 / 3 + 1));
+        codes.forEach((code, value) -> normalized.put(compact(code), value));
+        return new ReferenceCodeMatcher<>(normalized);
+    }
+
+    /**
+     * Returns the values of the known codes mentioned in {@code text}, in order
+     * of appearance and without duplicates.
+     */
+    public List<T> find(String text) {
+        if (text == null || text.length() < 15) {
+            return List.of();
+        }
+        Matcher matcher = CANDIDATE.matcher(fold(text));
+        List<T> found = new ArrayList<>(1);
+        while (matcher.find()) {
+            T value = codes.get(lookup(matcher.group()));
+            if (value != null && !found.contains(value)) {
+                found.add(value);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the code-shaped tokens of {@code text} that are not known codes,
+     * so a typo or stale code can be reported instead of a missing one.
+     */
+    public Collection<String> findUnknown(String text) {
+        if (text == null || text.length() < 15) {
+            return List.of();
+        }
+        Matcher matcher = CANDIDATE.matcher(fold(text));
+        List<String> unknown = new ArrayList<>(1);
+        while (matcher.find()) {
+            if (lookup(matcher.group()) == null) {
+                unknown.add(matcher.group());
+            }
+        }
+        return unknown;
+    }
+
+    public int size() {
+        return codes.size();
+    }
+
+    /**
+     * Returns the known code a candidate stands for, dropping letters glued to
+     * the front of the prefix one at a time.
+     */
+    private String lookup(String candidate) {
+        String compact = compact(candidate);
+        int letters = 0;
+        while (letters < compact.length() && compact.charAt(letters) >= 'A') {
+            letters++;
+        }
+        for (int cut = 0; letters - cut >= 2; cut++) {
+            String code = compact.substring(cut);
+            if (codes.containsKey(code)) {
+                return code;
+            }
+        }
+        return null;
+    }
+
+    static String compact(String code) {
+        StringBuilder compact = new StringBuilder(code.length());
+        for (int i = 0; i < code.length(); i++) {
+            char c = Character.toUpperCase(code.charAt(i));
+            if ((c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')) {
+                compact.append(c);
+            }
+        }
+        return compact.toString();
+    }
+
+    /**
+     * Upper-cases with the Turkish dotted and dotless i folded to {@code I},
+     * keeping the text length so match offsets stay valid.
+     */
+    private static String fold(String text) {
+        char[] chars = new char[text.length()];
+        for (int i = 0; i < chars.length; i++) {
+            char c = text.charAt(i);
+            if (c == 'ı' || c == 'İ' || c == 'i') {
+                chars[i] = 'I';
+            } else if (c >= 'a' && c <= 'z') {
+                chars[i] = (char) (c - 32);
+            } else {
+                chars[i] = c;
+            }
+        }
+        return new String(chars);
+    }
+}
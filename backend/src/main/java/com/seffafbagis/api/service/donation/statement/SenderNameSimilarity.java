@@ -0,0 +1,85 @@
+package com.seffafbagis.api.service.donation.statement;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compares the sender name a donor typed when starting a transfer with the
+ * account holder name printed on the statement.
+ *
+ * Names are folded to ASCII upper case and their words sorted, so
+ * {@code "Yılmaz, Ayşe"} and {@code "AYSE YILMAZ"} are identical. The score
+ * is the Dice coefficient of character bigrams, which tolerates the
+ * truncation and single-letter typos banks and donors introduce.
+ */
+public final class SenderNameSimilarity {
+
+    private SenderNameSimilarity() {
+    }
+
+    /**
+     * @return a score between 0 (nothing in common) and 1 (same name)
+     */
+    public static double similarity(String a, String b) {
+        return similarityOfNormalized(normalize(a), normalize(b));
+    }
+
+    /**
+     * Same as {@link #similarity} for names already passed through
+     * {@link #normalize}, so a name compared many times is folded once.
+     */
+    public static double similarityOfNormalized(String left, String right) {
+        if (left.isEmpty() || right.isEmpty()) {
+            return 0;
+        }
+        if (left.equals(right)) {
+            return 1;
+        }
+        if (left.length() < 2 || right.length() < 2) {
+            return 0;
+        }
+        Map<Integer, Integer> bigrams = new HashMap<>();
+        for (int i = 0; i < left.length() - 1; i++) {
+            bigrams.merge(bigram(left, i), 1, Integer::sum);
+        }
+        int common = 0;
+        for (int i = 0; i < right.length() - 1; i++) {
+            Integer count = bigrams.get(bigram(right, i));
+            if (count != null && count > 0) {
+                bigrams.put(bigram(right, i), count - 1);
+                common++;
+            }
+        }
+        return 2.0 * common / (left.length() - 1 + right.length() - 1);
+    }
+
+    public static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        StringBuilder folded = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            switch (c) {
+                case 'ç', 'Ç' -> folded.append('C');
+                case 'ğ', 'Ğ' -> folded.append('G');
+                case 'ı', 'İ', 'i', 'I' -> folded.append('I');
+                case 'ö', 'Ö' -> folded.append('O');
+                case 'ş', 'Ş' -> folded.append('S');
+                case 'ü', 'Ü' -> folded.append('U');
+                default -> {
+                    char upper = Character.toUpperCase(c);
+                    folded.append(upper >= 'A' && upper <= 'Z' ? upper : ' ');
+                }
+            }
+        }
+        String[] words = folded.toString().trim().split(" +");
+        Arrays.sort(words);
+        return String.join(" ", words);
+    }
+
+    private static int bigram(String text, int index) {
+        return (text.charAt(index) << 16) | text.charAt(index + 1);
+    }
+}
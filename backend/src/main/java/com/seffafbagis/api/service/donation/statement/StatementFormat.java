@@ -0,0 +1,38 @@
+package com.seffafbagis.api.service.donation.statement;
+
+import java.util.Locale;
+
+/**
+ * Supported bank statement formats.
+ */
+public enum StatementFormat {
+
+    /** Delimited text with a header row. */
+    CSV,
+    /** SWIFT MT940 customer statement. */
+    MT940,
+    /** ISO 20022 camt.053 bank-to-customer statement. */
+    CAMT053;
+
+    /**
+     * Guesses the format from a file name, defaulting to CSV.
+     */
+    public static StatementFormat fromFileName(String fileName) {
+        String name = fileName != null ? fileName.toLowerCase(Locale.ROOT) : "";
+        if (name.endsWith(".xml") || name.contains("camt")) {
+            return CAMT053;
+        }
+        if (name.endsWith(".sta") || name.endsWith(".mt940") || name.endsWith(".940") || name.contains("mt940")) {
+            return MT940;
+        }
+        return CSV;
+    }
+
+    public StatementReader reader() {
+        return switch (this) {
+            case CSV -> new CsvStatementReader();
+            case MT940 -> new Mt940StatementReader();
+            case CAMT053 -> new Camt053StatementReader();
+        };
+    }
+}
@@ -0,0 +1,13 @@
+package com.seffafbagis.api.service.donation.statement;
+
+import com.seffafbagis.api.exception.BadRequestException;
+
+/**
+ * Thrown when an uploaded statement cannot be parsed.
+ */
+public class StatementFormatException extends BadRequestException {
+
+    public StatementFormatException(String message) {
+        super(message, "INVALID_STATEMENT");
+    }
+}
@@ -0,0 +1,68 @@
+package com.seffafbagis.api.service.donation.statement;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One booked line of a bank statement. Credits have a positive amount,
+ * debits a negative one.
+ */
+public final class StatementLine {
+
+    private final long lineNumber;
+    private final LocalDate bookingDate;
+    private final BigDecimal amount;
+    private final String currency;
+    private final String senderName;
+    private final String senderIban;
+    private final String description;
+    private final String bankReference;
+
+    public StatementLine(long lineNumber, LocalDate bookingDate, BigDecimal amount, String currency,
+            String senderName, String senderIban, String description, String bankReference) {
+        this.lineNumber = lineNumber;
+        this.bookingDate = bookingDate;
+        this.amount = amount;
+        this.currency = currency;
+        this.senderName = senderName;
+        this.senderIban = senderIban;
+        this.description = description;
+        this.bankReference = bankReference;
+    }
+
+    public boolean isCredit() {
+        return amount != null && amount.signum() > 0;
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    public LocalDate getBookingDate() {
+        return bookingDate;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public String getSenderName() {
+        return senderName;
+    }
+
+    public String getSenderIban() {
+        return senderIban;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getBankReference() {
+        return bankReference;
+    }
+}
@@ -0,0 +1,17 @@
+package com.seffafbagis.api.service.donation.statement;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Streams the lines of a bank statement to a consumer as they are parsed, so
+ * a statement is never held in memory as a whole.
+ */
+public interface StatementReader {
+
+    /**
+     * @throws StatementFormatException if the content is not a valid statement
+     */
+    void read(InputStream in, Consumer<StatementLine> sink) throws IOException;
+}
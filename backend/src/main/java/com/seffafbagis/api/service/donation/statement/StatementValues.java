@@ -0,0 +1,125 @@
+package com.seffafbagis.api.service.donation.statement;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Lenient parsing of the amounts and dates found in bank statements.
+ */
+final class StatementValues {
+
+    private static final DateTimeFormatter DOTTED = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+    private static final DateTimeFormatter SLASHED = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final DateTimeFormatter DASHED = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private static final DateTimeFormatter COMPACT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter SWIFT = DateTimeFormatter.ofPattern("yyMMdd");
+
+    private StatementValues() {
+    }
+
+    /**
+     * Parses an amount written with either decimal separator, e.g.
+     * {@code 1.234,56}, {@code 1,234.56}, {@code -250} or {@code 250,00 TL}.
+     */
+    static BigDecimal parseAmount(String text) {
+        if (text == null) {
+            return null;
+        }
+        StringBuilder digits = new StringBuilder(text.length());
+        int lastDot = -1;
+        int lastComma = -1;
+        int dots = 0;
+        int commas = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            } else if (c == '.') {
+                lastDot = digits.length();
+                dots++;
+                digits.append(c);
+            } else if (c == ',') {
+                lastComma = digits.length();
+                commas++;
+                digits.append(c);
+            } else if (c == '-' && digits.length() == 0) {
+                digits.append(c);
+            }
+        }
+        if (digits.length() == 0 || (digits.length() == 1 && digits.charAt(0) == '-')) {
+            return null;
+        }
+        int decimal;
+        if (dots > 0 && commas > 0) {
+            decimal = Math.max(lastDot, lastComma);
+        } else if (dots + commas != 1) {
+            // no separator, or one kind repeated as thousands separators
+            decimal = -1;
+        } else {
+            decimal = Math.max(lastDot, lastComma);
+            // a lone separator followed by exactly three digits groups thousands
+            if (digits.length() - decimal - 1 == 3) {
+                decimal = -1;
+            }
+        }
+        StringBuilder plain = new StringBuilder(digits.length());
+        for (int i = 0; i < digits.length(); i++) {
+            char c = digits.charAt(i);
+            if (i == decimal) {
+                plain.append('.');
+            } else if (c != '.' && c != ',') {
+                plain.append(c);
+            }
+        }
+        try {
+            return new BigDecimal(plain.toString());
+        } catch (NumberFormatException e) {
+            throw new StatementFormatException("Invalid amount: " + text);
+        }
+    }
+
+    /**
+     * Parses {@code 2026-01-15}, {@code 15.01.2026}, {@code 15/01/2026},
+     * {@code 15-01-2026}, {@code 20260115} or {@code 260115}, ignoring a time
+     * part. The format is picked from the shape of the text, so a statement
+     * never pays for failed parse attempts line after line.
+     */
+    static LocalDate parseDate(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        String value = text.trim();
+        if (value.length() > 10 && (value.charAt(10) == 'T' || value.charAt(10) == ' ')) {
+            value = value.substring(0, 10);
+        }
+        DateTimeFormatter format = switch (value.length()) {
+            case 6 -> SWIFT;
+            case 8 -> COMPACT;
+            case 10 -> switch (value.charAt(2)) {
+                case '.' -> DOTTED;
+                case '/' -> SLASHED;
+                case '-' -> DASHED;
+                default -> DateTimeFormatter.ISO_LOCAL_DATE;
+            };
+            default -> null;
+        };
+        if (format == null) {
+            throw new StatementFormatException("Invalid date: " + text);
+        }
+        try {
+            return LocalDate.parse(value, format);
+        } catch (DateTimeParseException e) {
+            throw new StatementFormatException("Invalid date: " + text);
+        }
+    }
+
+    static String trimToNull(String text) {
+        if (text == null) {
+            return null;
+        }
+        String trimmed = text.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
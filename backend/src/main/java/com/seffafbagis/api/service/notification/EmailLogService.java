@@ -3,8 +3,10 @@ package com.seffafbagis.api.service.notification;
 import com.seffafbagis.api.dto.response.notification.EmailLogResponse;
 import com.seffafbagis.api.entity.notification.EmailLog;
 import com.seffafbagis.api.entity.user.User;
+import com.seffafbagis.api.enums.PartitionedTable;
 import com.seffafbagis.api.repository.EmailLogRepository;
 import com.seffafbagis.api.repository.UserRepository;
+import com.seffafbagis.api.service.system.LogPartitionService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.util.UUID;
 
@@ -25,6 +28,7 @@ public class EmailLogService {
     private static final Logger logger = LoggerFactory.getLogger(EmailLogService.class);
     private final EmailLogRepository emailLogRepository;
     private final UserRepository userRepository;
+    private final LogPartitionService logPartitionService;
 
     @Transactional
     public void logEmailSent(UUID userId, String emailTo, String emailType, String subject, String provider,
@@ -116,12 +120,11 @@ public class EmailLogService {
      * @param retentionDays Number of days to keep logs
      * @return Number of deleted records
      */
-    @Transactional
     public long cleanupOldLogs(int retentionDays) {
         try {
-            LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
-            emailLogRepository.deleteBySentAtBefore(cutoff);
-            return 0; // return actual count if query supports it, or void
+            OffsetDateTime cutoff = OffsetDateTime.now().minusDays(retentionDays);
+            return logPartitionService.purgeBefore(PartitionedTable.EMAIL_LOGS, cutoff,
+                    () -> emailLogRepository.deleteBySentAtBefore(cutoff.toLocalDateTime()));
         } catch (Exception e) {
             logger.error("Failed to cleanup email logs: {}", e.getMessage());
             return 0;
@@ -7,60 +7,58 @@ import com.seffafbagis.api.entity.notification.EmailLog;
 import com.seffafbagis.api.entity.organization.Organization;
 import com.seffafbagis.api.entity.user.User;
 import com.seffafbagis.api.repository.EmailLogRepository;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
-import lombok.RequiredArgsConstructor;
+import com.seffafbagis.api.service.encryption.EncryptionService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring6.SpringTemplateEngine;
 
-import java.nio.charset.StandardCharsets;
-import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.Map;
-
+import java.util.Set;
+
+/**
+ * Queues transactional emails.
+ *
+ * {@link #sendEmail} only records a {@code queued} row in {@code email_logs},
+ * together with the template variables, in the caller's transaction; an
+ * email is never sent for work that rolled back. {@link MailDispatchService}
+ * renders and sends it shortly after and retries it if the SMTP server
+ * refuses it.
+ *
+ * Variables that grant access to an account — verification tokens and
+ * password reset links — are encrypted before they are stored and kept under
+ * {@link #SEALED_VARIABLES}; nothing in {@code email_logs} can be used to
+ * take over an account.
+ */
 @Service
-@RequiredArgsConstructor
 public class EmailService {
 
     private static final Logger log = LoggerFactory.getLogger(EmailService.class);
 
-    private final JavaMailSender javaMailSender;
-    private final SpringTemplateEngine templateEngine;
-    private final EmailLogRepository emailLogRepository;
-
-    @Async
-    public void sendEmail(String to, String subject, String templateName, Map<String, Object> variables, User user) {
-        try {
-            MimeMessage message = javaMailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, MimeMessageHelper.MULTIPART_MODE_MIXED_RELATED,
-                    StandardCharsets.UTF_8.name());
-
-            Context context = new Context();
-            context.setVariables(variables);
-            String html = templateEngine.process("email/" + templateName, context);
-
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(html, true);
-            helper.setFrom("noreply@seffafbagis.com"); // Configure properly
-
-            javaMailSender.send(message);
+    /** Template variables that are stored encrypted. */
+    static final Set<String> SECRET_VARIABLES = Set.of("token", "resetLink");
+    /** Key of the nested map holding the encrypted secrets. */
+    static final String SEALED_VARIABLES = "_sealed";
 
-            logEmail(to, templateName, subject, "sent", null, user);
-
-        } catch (MessagingException e) {
-            log.error("Failed to send email to {}", to, e);
-            logEmail(to, templateName, subject, "failed", e.getMessage(), user);
-        }
+    private final EmailLogRepository emailLogRepository;
+    private final MailDispatchService mailDispatchService;
+    private final EncryptionService encryptionService;
+    private final String provider;
+
+    public EmailService(EmailLogRepository emailLogRepository,
+            MailDispatchService mailDispatchService,
+            EncryptionService encryptionService,
+            @Value("${app.mail.provider:smtp}") String provider) {
+        this.emailLogRepository = emailLogRepository;
+        this.mailDispatchService = mailDispatchService;
+        this.encryptionService = encryptionService;
+        this.provider = provider;
     }
 
-    private void logEmail(String to, String templateName, String subject, String status, String errorMessage,
-            User user) {
+    public void sendEmail(String to, String subject, String templateName, Map<String, Object> variables, User user) {
         try {
             EmailLog emailLog = new EmailLog();
             emailLog.setUser(user);
@@ -68,13 +66,52 @@ public class EmailService {
             emailLog.setEmailType(templateName); // Using template name as type for now
             emailLog.setTemplateName(templateName);
             emailLog.setSubject(subject);
-            emailLog.setStatus(status);
-            emailLog.setErrorMessage(errorMessage);
-            emailLog.setSentAt(LocalDateTime.now());
+            emailLog.setProvider(provider);
+            emailLog.setVariables(sealed(storable(variables)));
+            emailLog.setStatus(MailDispatchService.STATUS_QUEUED);
+            emailLog.setNextAttemptAt(OffsetDateTime.now());
             emailLogRepository.save(emailLog);
         } catch (Exception e) {
-            log.error("Failed to log email", e);
+            log.error("Failed to queue email to {}", to, e);
+        }
+    }
+
+    /**
+     * Template variables as stored in the {@code variables} JSON column.
+     * Values other than strings, numbers and booleans (dates, amounts) are
+     * kept in their string form so they render the same after a round trip.
+     */
+    static Map<String, Object> storable(Map<String, Object> variables) {
+        Map<String, Object> stored = new LinkedHashMap<>();
+        if (variables == null) {
+            return stored;
+        }
+        variables.forEach((key, value) -> {
+            if (value == null || value instanceof String || value instanceof Boolean
+                    || value instanceof Integer || value instanceof Long) {
+                stored.put(key, value);
+            } else {
+                stored.put(key, value.toString());
+            }
+        });
+        return stored;
+    }
+
+    /**
+     * Moves the {@link #SECRET_VARIABLES} into an encrypted nested map.
+     */
+    Map<String, Object> sealed(Map<String, Object> variables) {
+        Map<String, Object> secrets = new LinkedHashMap<>();
+        for (String key : SECRET_VARIABLES) {
+            Object value = variables.remove(key);
+            if (value != null) {
+                secrets.put(key, Base64.getEncoder().encodeToString(encryptionService.encrypt(value.toString())));
+            }
+        }
+        if (!secrets.isEmpty()) {
+            variables.put(SEALED_VARIABLES, secrets);
         }
+        return variables;
     }
 
     public void sendWelcomeEmail(User user) {
@@ -157,8 +194,8 @@ public class EmailService {
     }
 
     public void retryFailedEmails() {
-        // Implementation pending: Requires storing email variables in EmailLog
-        log.warn("Retry failed emails triggered but not fully implemented without variable storage.");
+        int requeued = mailDispatchService.requeueFailed();
+        log.info("Requeued {} failed emails", requeued);
     }
 
 }
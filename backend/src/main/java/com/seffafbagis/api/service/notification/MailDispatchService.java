@@ -0,0 +1,273 @@
+package com.seffafbagis.api.service.notification;
+
+import com.seffafbagis.api.config.SchedulerProperties;
+import com.seffafbagis.api.entity.notification.EmailLog;
+import com.seffafbagis.api.repository.EmailLogRepository;
+import com.seffafbagis.api.service.encryption.EncryptionService;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends the emails queued in {@code email_logs}.
+ *
+ * {@code MailDispatchScheduler} claims due rows with {@link #claimBatch()} and
+ * hands each batch to {@link #deliver(List)} on the mail executor. A batch is
+ * rendered from the cached templates, paced by {@link MailRateLimiter} per
+ * provider and handed to {@link JavaMailSender#send(MimeMessage...)}, which
+ * sends all of it over a single SMTP connection instead of one connection per
+ * message. The outcome of every message is then written back with one JDBC
+ * batch: sent, retried with exponential backoff, or failed for good once
+ * {@code maxAttempts} is reached. A template that cannot be rendered fails
+ * immediately since retrying would not help.
+ *
+ * Template variables are only kept while an email may still be sent: the
+ * update that records it as sent or permanently failed also clears them.
+ * Secret values ({@link EmailService#SECRET_VARIABLES}) are stored
+ * encrypted and only decrypted here, right before rendering.
+ */
+@Service
+public class MailDispatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MailDispatchService.class);
+    private static final int MAX_ERROR_LENGTH = 2000;
+    private static final long MAX_BACKOFF_SECONDS = 3600;
+
+    public static final String STATUS_QUEUED = "queued";
+    public static final String STATUS_SENDING = "sending";
+    public static final String STATUS_SENT = "sent";
+    public static final String STATUS_FAILED = "failed";
+
+    static final String UPDATE_SQL = "UPDATE email_logs SET status = ?, retry_count = ?, next_attempt_at = ?, "
+            + "sent_at = ?, provider_message_id = ?, error_message = ?, updated_at = ?, "
+            + "variables = CASE WHEN ? = '" + STATUS_QUEUED + "' THEN variables END "
+            + "WHERE id = ? AND created_at = ?";
+
+    private final EmailLogRepository emailLogRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final JavaMailSender javaMailSender;
+    private final MailTemplateRenderer templateRenderer;
+    private final MailRateLimiter rateLimiter;
+    private final SchedulerProperties schedulerProperties;
+    private final EncryptionService encryptionService;
+    private final String defaultFrom;
+    private final String defaultProvider;
+
+    public MailDispatchService(EmailLogRepository emailLogRepository,
+            JdbcTemplate jdbcTemplate,
+            JavaMailSender javaMailSender,
+            MailTemplateRenderer templateRenderer,
+            MailRateLimiter rateLimiter,
+            SchedulerProperties schedulerProperties,
+            EncryptionService encryptionService,
+            @Value("${app.mail.default-from:noreply@seffafbagis.org}") String defaultFrom,
+            @Value("${app.mail.provider:smtp}") String defaultProvider) {
+        this.emailLogRepository = emailLogRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.javaMailSender = javaMailSender;
+        this.templateRenderer = templateRenderer;
+        this.rateLimiter = rateLimiter;
+        this.schedulerProperties = schedulerProperties;
+        this.encryptionService = encryptionService;
+        this.defaultFrom = defaultFrom;
+        this.defaultProvider = defaultProvider;
+    }
+
+    /**
+     * Claims the next batch of due emails under a lease. Emails claimed by a
+     * node that dies are sent again once the lease expires (at-least-once).
+     */
+    @Transactional
+    public List<EmailLog> claimBatch() {
+        SchedulerProperties.MailDispatchProperties props = schedulerProperties.getMailDispatch();
+        OffsetDateTime now = OffsetDateTime.now();
+        List<EmailLog> batch = emailLogRepository.findDueForUpdate(now, props.getBatchSize());
+        OffsetDateTime leaseUntil = now.plusSeconds(props.getLeaseSeconds());
+        for (EmailLog email : batch) {
+            email.setStatus(STATUS_SENDING);
+            email.setNextAttemptAt(leaseUntil);
+        }
+        return emailLogRepository.saveAll(batch);
+    }
+
+    /**
+     * Sends a claimed batch and records the outcome of every email.
+     *
+     * @return number of emails sent
+     */
+    public int deliver(List<EmailLog> batch) throws InterruptedException {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        OffsetDateTime now = OffsetDateTime.now();
+        List<Object[]> outcomes = new ArrayList<>(batch.size());
+        Map<String, Map<MimeMessage, EmailLog>> byProvider = new LinkedHashMap<>();
+
+        for (EmailLog email : batch) {
+            try {
+                MimeMessage message = buildMessage(email);
+                String provider = email.getProvider() != null ? email.getProvider() : defaultProvider;
+                byProvider.computeIfAbsent(provider, key -> new LinkedHashMap<>()).put(message, email);
+            } catch (MessagingException | RuntimeException e) {
+                logger.error("Email {} to {} could not be rendered from template {}: {}",
+                        email.getId(), email.getEmailTo(), email.getTemplateName(), e.getMessage());
+                outcomes.add(failed(email, e, now));
+            }
+        }
+
+        int sent = 0;
+        for (Map.Entry<String, Map<MimeMessage, EmailLog>> entry : byProvider.entrySet()) {
+            Map<MimeMessage, EmailLog> messages = entry.getValue();
+            rateLimiter.acquire(entry.getKey(), messages.size());
+            Map<Object, Exception> failures = send(messages);
+            for (Map.Entry<MimeMessage, EmailLog> message : messages.entrySet()) {
+                EmailLog email = message.getValue();
+                Exception error = failures.get(message.getKey());
+                if (error == null) {
+                    outcomes.add(sent(email, messageId(message.getKey()), now));
+                    sent++;
+                } else {
+                    outcomes.add(retryOrFail(email, error, now));
+                }
+            }
+        }
+
+        jdbcTemplate.batchUpdate(UPDATE_SQL, outcomes);
+        return sent;
+    }
+
+    /**
+     * Queues permanently failed emails again with fresh retries. Only rows
+     * that still have their variables qualify; failures recorded by
+     * {@link #deliver} have had them cleared and cannot be rendered again.
+     */
+    @Transactional
+    public int requeueFailed() {
+        return emailLogRepository.requeueFailed(OffsetDateTime.now());
+    }
+
+    @Transactional(readOnly = true)
+    public long countBacklog() {
+        return emailLogRepository.countByStatusIn(List.of(STATUS_QUEUED, STATUS_SENDING));
+    }
+
+    private MimeMessage buildMessage(EmailLog email) throws MessagingException {
+        String html = templateRenderer.render(email.getTemplateName(), revealed(email.getVariables()));
+        MimeMessage message = javaMailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, MimeMessageHelper.MULTIPART_MODE_MIXED_RELATED,
+                StandardCharsets.UTF_8.name());
+        helper.setTo(email.getEmailTo());
+        helper.setSubject(email.getSubject());
+        helper.setText(html, true);
+        helper.setFrom(defaultFrom);
+        return message;
+    }
+
+    /**
+     * The stored variables with the sealed secrets decrypted back into place.
+     */
+    @SuppressWarnings("unchecked")
+    Map<String, Object> revealed(Map<String, Object> variables) {
+        if (variables == null || !(variables.get(EmailService.SEALED_VARIABLES) instanceof Map)) {
+            return variables;
+        }
+        Map<String, Object> revealed = new LinkedHashMap<>(variables);
+        Map<String, Object> sealed = (Map<String, Object>) revealed.remove(EmailService.SEALED_VARIABLES);
+        sealed.forEach((key, value) -> revealed.put(key,
+                encryptionService.decrypt(Base64.getDecoder().decode(String.valueOf(value)))));
+        return revealed;
+    }
+
+    /**
+     * @return the messages that were not accepted, keyed by message
+     */
+    private Map<Object, Exception> send(Map<MimeMessage, EmailLog> messages) {
+        try {
+            javaMailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+            return Map.of();
+        } catch (MailSendException e) {
+            if (!e.getFailedMessages().isEmpty()) {
+                return e.getFailedMessages();
+            }
+            return allFailed(messages, e);
+        } catch (MailException e) {
+            // Authentication or connection trouble: nothing in the batch went out
+            logger.warn("Mail batch of {} failed: {}", messages.size(), e.getMessage());
+            return allFailed(messages, e);
+        }
+    }
+
+    private static Map<Object, Exception> allFailed(Map<MimeMessage, EmailLog> messages, Exception error) {
+        Map<Object, Exception> failures = new LinkedHashMap<>();
+        messages.keySet().forEach(message -> failures.put(message, error));
+        return failures;
+    }
+
+    private Object[] sent(EmailLog email, String messageId, OffsetDateTime now) {
+        return row(email, STATUS_SENT, email.getRetryCount(), null, LocalDateTime.now(), messageId, null, now);
+    }
+
+    private Object[] retryOrFail(EmailLog email, Exception error, OffsetDateTime now) {
+        int attempts = email.getRetryCount() + 1;
+        String lastError = truncate(error.getClass().getSimpleName() + ": " + error.getMessage());
+        if (attempts >= schedulerProperties.getMailDispatch().getMaxAttempts()) {
+            logger.error("Email {} to {} failed permanently after {} attempts: {}",
+                    email.getId(), email.getEmailTo(), attempts, lastError);
+            return row(email, STATUS_FAILED, attempts, null, null, null, lastError, now);
+        }
+        long backoff = Math.min(MAX_BACKOFF_SECONDS, 1L << Math.min(attempts, 12));
+        return row(email, STATUS_QUEUED, attempts, now.plusSeconds(backoff), null, null, lastError, now);
+    }
+
+    private Object[] failed(EmailLog email, Exception error, OffsetDateTime now) {
+        return row(email, STATUS_FAILED, email.getRetryCount(), null, null, null,
+                truncate(error.getClass().getSimpleName() + ": " + error.getMessage()), now);
+    }
+
+    private static Object[] row(EmailLog email, String status, int retryCount, OffsetDateTime nextAttemptAt,
+            LocalDateTime sentAt, String messageId, String error, OffsetDateTime now) {
+        return new Object[] {
+                status,
+                retryCount,
+                nextAttemptAt,
+                sentAt != null ? Timestamp.valueOf(sentAt) : null,
+                messageId,
+                error,
+                now,
+                status,
+                email.getId(),
+                email.getCreatedAt()
+        };
+    }
+
+    private static String messageId(MimeMessage message) {
+        try {
+            return message.getMessageID();
+        } catch (MessagingException e) {
+            return null;
+        }
+    }
+
+    private static String truncate(String value) {
+        return value != null && value.length() > MAX_ERROR_LENGTH ? value.substring(0, MAX_ERROR_LENGTH) : value;
+    }
+}
@@ -0,0 +1,73 @@
+package com.seffafbagis.api.service.notification;
+
+import com.seffafbagis.api.config.SchedulerProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-provider send rate limit for the mail dispatcher.
+ *
+ * Each provider has its own schedule: a reservation of {@code n} permits is
+ * granted at the provider's next free slot, which then moves {@code n / rate}
+ * seconds further out. A batch therefore goes out as soon as the previous one
+ * has been paid for, and the long-run rate never exceeds the configured
+ * {@code scheduler.mail-dispatch.provider-rate-per-second} (or
+ * {@code default-rate-per-second}). A rate of zero or less disables limiting.
+ * Limits apply per node.
+ */
+@Component
+public class MailRateLimiter {
+
+    private final SchedulerProperties schedulerProperties;
+    private final Map<String, Schedule> schedules = new ConcurrentHashMap<>();
+
+    public MailRateLimiter(SchedulerProperties schedulerProperties) {
+        this.schedulerProperties = schedulerProperties;
+    }
+
+    /**
+     * Blocks until {@code permits} sends to {@code provider} are allowed.
+     */
+    public void acquire(String provider, int permits) throws InterruptedException {
+        long waitNanos = reserve(provider, permits, System.nanoTime());
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * @return how long the caller has to wait before using the permits
+     */
+    long reserve(String provider, int permits, long nowNanos) {
+        double rate = rateFor(provider);
+        if (rate <= 0 || permits <= 0) {
+            return 0;
+        }
+        return schedules.computeIfAbsent(provider, key -> new Schedule(nowNanos))
+                .reserve(permits, rate, nowNanos);
+    }
+
+    private double rateFor(String provider) {
+        SchedulerProperties.MailDispatchProperties props = schedulerProperties.getMailDispatch();
+        Double rate = props.getProviderRatePerSecond().get(provider);
+        return rate != null ? rate : props.getDefaultRatePerSecond();
+    }
+
+    private static final class Schedule {
+
+        private long nextFreeNanos;
+
+        private Schedule(long nowNanos) {
+            this.nextFreeNanos = nowNanos;
+        }
+
+        synchronized long reserve(int permits, double rate, long nowNanos) {
+            long start = Math.max(nextFreeNanos, nowNanos);
+            nextFreeNanos = start + (long) (permits * TimeUnit.SECONDS.toNanos(1) / rate);
+            return start - nowNanos;
+        }
+    }
+}
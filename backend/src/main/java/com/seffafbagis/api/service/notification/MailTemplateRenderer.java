@@ -0,0 +1,70 @@
+package com.seffafbagis.api.service.notification;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Renders the Thymeleaf templates under {@code templates/email}.
+ *
+ * Thymeleaf keeps parsed templates in its template cache
+ * ({@code spring.thymeleaf.cache}, on by default), so each template is read
+ * and parsed once and later messages only evaluate the cached tree. The cache
+ * is filled at startup so the first emails after a deploy do not pay for
+ * parsing on the dispatcher threads.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class MailTemplateRenderer {
+
+    static final String TEMPLATE_PREFIX = "email/";
+    private static final String TEMPLATE_LOCATION = "classpath:templates/email/*.html";
+
+    private final SpringTemplateEngine templateEngine;
+
+    public String render(String templateName, Map<String, Object> variables) {
+        Context context = new Context();
+        if (variables != null) {
+            context.setVariables(variables);
+        }
+        return templateEngine.process(TEMPLATE_PREFIX + templateName, context);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void precompile() {
+        Resource[] templates;
+        try {
+            templates = new PathMatchingResourcePatternResolver().getResources(TEMPLATE_LOCATION);
+        } catch (IOException e) {
+            log.warn("Could not list email templates: {}", e.getMessage());
+            return;
+        }
+        int parsed = 0;
+        for (Resource template : templates) {
+            String filename = template.getFilename();
+            if (filename == null) {
+                continue;
+            }
+            String name = filename.substring(0, filename.length() - ".html".length());
+            try {
+                render(name, Map.of());
+            } catch (RuntimeException e) {
+                // Parsing happens before evaluation, so the template is cached even if
+                // an expression fails without real variables
+                log.debug("Email template {} warmed up with errors: {}", name, e.getMessage());
+            }
+            parsed++;
+        }
+        log.info("Precompiled {} email templates", parsed);
+    }
+}
@@ -0,0 +1,273 @@
+package com.seffafbagis.api.service.notification;
+
+import com.seffafbagis.api.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Per-user unread notification counters kept in Redis.
+ *
+ * A counter is loaded from the database on first read and then adjusted in
+ * place by the write paths, so polling the unread count no longer runs a
+ * COUNT query. Adjustments only touch counters that already exist; a missing
+ * counter is simply reloaded on the next read. Every change is applied after
+ * the surrounding transaction commits and broadcast on
+ * {@value #CHANNEL}, so listeners on every node (the SSE streams) hear about
+ * it. Counters expire after {@code app.notification.unread-ttl-minutes},
+ * which bounds any drift from races between a reload and a concurrent write.
+ *
+ * Without Redis ({@code spring.cache.type} other than {@code redis}, as in
+ * tests) reads go to the database and changes are delivered to local
+ * listeners only.
+ */
+@Service
+@Slf4j
+public class NotificationCounterService implements MessageListener {
+
+    public static final String CHANNEL = "notification:unread";
+    static final String KEY_PREFIX = "notification:unread:";
+
+    /**
+     * INCRBY only if the counter exists, never going below zero.
+     * Returns the new value, or -1 if there is no counter.
+     */
+    private static final RedisScript<Long> ADJUST_IF_PRESENT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end "
+                    + "local v = redis.call('INCRBY', KEYS[1], ARGV[1]) "
+                    + "if v < 0 then redis.call('INCRBY', KEYS[1], -v) v = 0 end "
+                    + "return v",
+            Long.class);
+
+    private final NotificationRepository notificationRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+    private final List<Consumer<Collection<UUID>>> listeners = new CopyOnWriteArrayList<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public NotificationCounterService(NotificationRepository notificationRepository,
+            RedisConnectionFactory connectionFactory,
+            MeterRegistry meterRegistry,
+            @Value("${spring.cache.type:redis}") String cacheType,
+            @Value("${app.notification.unread-ttl-minutes:60}") long ttlMinutes) {
+        this.notificationRepository = notificationRepository;
+        if ("redis".equalsIgnoreCase(cacheType)) {
+            this.redisTemplate = new StringRedisTemplate(connectionFactory);
+            this.redisTemplate.afterPropertiesSet();
+        } else {
+            this.redisTemplate = null;
+        }
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.hitCounter = Counter.builder("notification.unread.cache")
+                .description("Unread count lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("notification.unread.cache")
+                .description("Unread count lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registers a callback invoked with the users whose unread count changed.
+     */
+    public void addListener(Consumer<Collection<UUID>> listener) {
+        listeners.add(listener);
+    }
+
+    public long getUnreadCount(UUID userId) {
+        if (redisTemplate == null) {
+            return notificationRepository.countByUserIdAndIsReadFalse(userId);
+        }
+        String key = key(userId);
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                hitCounter.increment();
+                return Long.parseLong(cached);
+            }
+        } catch (DataAccessException | NumberFormatException e) {
+            log.warn("Unread counter read failed for user {}: {}", userId, e.getMessage());
+            return notificationRepository.countByUserIdAndIsReadFalse(userId);
+        }
+
+        missCounter.increment();
+        long count = notificationRepository.countByUserIdAndIsReadFalse(userId);
+        try {
+            // NX: an adjustment that raced ahead of this load wins
+            redisTemplate.opsForValue().setIfAbsent(key, Long.toString(count), ttl);
+        } catch (DataAccessException e) {
+            log.warn("Unread counter load failed for user {}: {}", userId, e.getMessage());
+        }
+        return count;
+    }
+
+    public void increment(UUID userId) {
+        afterCommit(() -> adjust(userId, 1));
+    }
+
+    /**
+     * Adds one unread notification for each user, in a single pipeline.
+     */
+    public void incrementAll(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<UUID> copy = new ArrayList<>(userIds);
+        afterCommit(() -> {
+            if (redisTemplate != null) {
+                try {
+                    redisTemplate.executePipelined(new SessionCallback<Object>() {
+                        @Override
+                        @SuppressWarnings({ "unchecked", "rawtypes" })
+                        public Object execute(RedisOperations operations) {
+                            for (UUID userId : copy) {
+                                operations.execute(ADJUST_IF_PRESENT, List.of(key(userId)), "1");
+                            }
+                            return null;
+                        }
+                    });
+                } catch (DataAccessException e) {
+                    log.warn("Unread counter update failed for {} users: {}", copy.size(), e.getMessage());
+                    evictQuietly(copy);
+                }
+            }
+            publish(copy);
+        });
+    }
+
+    public void decrement(UUID userId) {
+        afterCommit(() -> adjust(userId, -1));
+    }
+
+    public void reset(UUID userId) {
+        afterCommit(() -> {
+            if (redisTemplate != null) {
+                try {
+                    redisTemplate.opsForValue().set(key(userId), "0", ttl);
+                } catch (DataAccessException e) {
+                    log.warn("Unread counter reset failed for user {}: {}", userId, e.getMessage());
+                    evictQuietly(List.of(userId));
+                }
+            }
+            publish(List.of(userId));
+        });
+    }
+
+    /**
+     * Drops the counter after a change that cannot be expressed as a delta;
+     * the next read recounts from the database.
+     */
+    public void evict(UUID userId) {
+        afterCommit(() -> {
+            if (redisTemplate != null) {
+                evictQuietly(List.of(userId));
+            }
+            publish(List.of(userId));
+        });
+    }
+
+    /**
+     * Receives changes broadcast by any node, including this one.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        List<UUID> userIds = new ArrayList<>();
+        for (String part : body.split(",")) {
+            try {
+                userIds.add(UUID.fromString(part));
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring malformed unread counter message: {}", body);
+                return;
+            }
+        }
+        notifyListeners(userIds);
+    }
+
+    private void adjust(UUID userId, long delta) {
+        if (redisTemplate != null) {
+            try {
+                redisTemplate.execute(ADJUST_IF_PRESENT, List.of(key(userId)), Long.toString(delta));
+            } catch (DataAccessException e) {
+                log.warn("Unread counter update failed for user {}: {}", userId, e.getMessage());
+                evictQuietly(List.of(userId));
+            }
+        }
+        publish(List.of(userId));
+    }
+
+    private void publish(List<UUID> userIds) {
+        if (redisTemplate == null) {
+            notifyListeners(userIds);
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL,
+                    userIds.stream().map(UUID::toString).collect(Collectors.joining(",")));
+        } catch (DataAccessException e) {
+            log.warn("Could not broadcast unread counter change for {} users: {}", userIds.size(), e.getMessage());
+            notifyListeners(userIds);
+        }
+    }
+
+    private void notifyListeners(Collection<UUID> userIds) {
+        for (Consumer<Collection<UUID>> listener : listeners) {
+            try {
+                listener.accept(userIds);
+            } catch (RuntimeException e) {
+                log.warn("Unread counter listener failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void evictQuietly(List<UUID> userIds) {
+        try {
+            redisTemplate.delete(userIds.stream().map(NotificationCounterService::key).collect(Collectors.toList()));
+        } catch (DataAccessException e) {
+            log.debug("Unread counter eviction failed: {}", e.getMessage());
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    static String key(UUID userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,229 @@
+package com.seffafbagis.api.service.notification;
+
+import com.seffafbagis.api.config.SchedulerProperties;
+import com.seffafbagis.api.entity.campaign.Campaign;
+import com.seffafbagis.api.entity.campaign.CampaignUpdate;
+import com.seffafbagis.api.entity.notification.NotificationFanoutJob;
+import com.seffafbagis.api.enums.NotificationFanoutStatus;
+import com.seffafbagis.api.enums.NotificationType;
+import com.seffafbagis.api.repository.NotificationFanoutJobRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Delivers campaign notifications to every follower without loading them.
+ *
+ * A campaign update or completion only records a {@link NotificationFanoutJob}
+ * in the caller's transaction. {@code NotificationFanoutScheduler} then claims
+ * the job and calls {@link #deliverChunk(UUID)} repeatedly: each call reads the
+ * next page of follower ids in {@code user_id} order, with follower and
+ * {@code user_preferences} opt-outs applied in the same query, inserts their
+ * notifications with one multi-row INSERT and advances the job cursor, all in
+ * one transaction. A crash loses at most the chunk in flight, which is then
+ * redone from the stored cursor.
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationFanoutService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationFanoutService.class);
+    private static final int MAX_ERROR_LENGTH = 2000;
+    private static final long MAX_BACKOFF_SECONDS = 3600;
+
+    static final String INSERT_PREFIX = "INSERT INTO notifications (id, user_id, type, title, message, "
+            + "entity_type, entity_id, is_read, created_at, updated_at) VALUES ";
+    private static final String INSERT_ROW = "(?, ?, ?, ?, ?, ?, ?, FALSE, ?, ?)";
+
+    private final NotificationFanoutJobRepository jobRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final SchedulerProperties schedulerProperties;
+    private final NotificationCounterService notificationCounterService;
+
+    @Transactional
+    public NotificationFanoutJob enqueueCampaignUpdate(CampaignUpdate update) {
+        Campaign campaign = update.getCampaign();
+        return enqueue(campaign, NotificationType.CAMPAIGN_UPDATE, "Kampanya Güncellemesi",
+                campaign.getTitle() + " kampanyasında yeni bir güncelleme var: " + update.getTitle());
+    }
+
+    @Transactional
+    public NotificationFanoutJob enqueueCampaignCompleted(Campaign campaign) {
+        return enqueue(campaign, NotificationType.CAMPAIGN_COMPLETED, "Takip Ettiğiniz Kampanya Tamamlandı",
+                campaign.getTitle() + " kampanyası tamamlandı. Desteğiniz için teşekkür ederiz.");
+    }
+
+    /**
+     * Claims the oldest due job under a lease. The lease is renewed by every
+     * chunk, so only a worker that stops making progress loses the job.
+     *
+     * @return the claimed job, or null if none is due
+     */
+    @Transactional
+    public NotificationFanoutJob claimNext() {
+        OffsetDateTime now = OffsetDateTime.now();
+        List<NotificationFanoutJob> due = jobRepository.findDueForUpdate(now, 1);
+        if (due.isEmpty()) {
+            return null;
+        }
+        NotificationFanoutJob job = due.get(0);
+        job.setStatus(NotificationFanoutStatus.RUNNING);
+        job.setAttempts(job.getAttempts() + 1);
+        job.setAvailableAt(now.plusSeconds(schedulerProperties.getNotificationFanout().getLeaseSeconds()));
+        if (job.getStartedAt() == null) {
+            job.setStartedAt(now);
+        }
+        return jobRepository.save(job);
+    }
+
+    /**
+     * Notifies the next chunk of followers and advances the cursor. The job
+     * is marked {@link NotificationFanoutStatus#COMPLETED} once a page comes
+     * back short.
+     *
+     * @return number of notifications inserted
+     */
+    @Transactional
+    public int deliverChunk(UUID jobId) {
+        NotificationFanoutJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null || job.getStatus() != NotificationFanoutStatus.RUNNING) {
+            return 0;
+        }
+        int chunkSize = schedulerProperties.getNotificationFanout().getChunkSize();
+        OffsetDateTime now = OffsetDateTime.now();
+
+        List<UUID> recipients = findRecipients(job, chunkSize);
+        if (!recipients.isEmpty()) {
+            insertNotifications(job, recipients, now);
+            notificationCounterService.incrementAll(recipients);
+            job.setCursorUserId(recipients.get(recipients.size() - 1));
+            job.setDeliveredCount(job.getDeliveredCount() + recipients.size());
+        }
+
+        if (recipients.size() < chunkSize) {
+            job.setStatus(NotificationFanoutStatus.COMPLETED);
+            job.setCompletedAt(now);
+            job.setLastError(null);
+        } else {
+            job.setAvailableAt(now.plusSeconds(schedulerProperties.getNotificationFanout().getLeaseSeconds()));
+        }
+        jobRepository.save(job);
+        return recipients.size();
+    }
+
+    /**
+     * Schedules a retry from the current cursor with exponential backoff, or
+     * marks the job as {@link NotificationFanoutStatus#FAILED} once
+     * {@code maxAttempts} is reached.
+     */
+    @Transactional
+    public void markFailed(UUID jobId, Throwable error) {
+        jobRepository.findById(jobId).ifPresent(job -> {
+            int attempts = job.getAttempts();
+            job.setLastError(truncate(error.getClass().getSimpleName() + ": " + error.getMessage()));
+            if (attempts >= schedulerProperties.getNotificationFanout().getMaxAttempts()) {
+                job.setStatus(NotificationFanoutStatus.FAILED);
+                logger.error("Notification fan-out {} for campaign {} failed permanently after {} attempts, "
+                        + "{} followers notified", jobId, job.getCampaignId(), attempts, job.getDeliveredCount());
+            } else {
+                long backoff = Math.min(MAX_BACKOFF_SECONDS, 1L << Math.min(attempts, 12));
+                job.setStatus(NotificationFanoutStatus.PENDING);
+                job.setAvailableAt(OffsetDateTime.now().plusSeconds(backoff));
+            }
+            jobRepository.save(job);
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public long countBacklog() {
+        return jobRepository.countByStatusIn(
+                List.of(NotificationFanoutStatus.PENDING, NotificationFanoutStatus.RUNNING));
+    }
+
+    private NotificationFanoutJob enqueue(Campaign campaign, NotificationType type, String title, String message) {
+        NotificationFanoutJob job = new NotificationFanoutJob();
+        job.setCampaignId(campaign.getId());
+        job.setNotificationType(type);
+        job.setTitle(title);
+        job.setMessage(message);
+        job.setEntityType("CAMPAIGN");
+        job.setEntityId(campaign.getId());
+        job.setStatus(NotificationFanoutStatus.PENDING);
+        job.setAvailableAt(OffsetDateTime.now());
+        return jobRepository.save(job);
+    }
+
+    private List<UUID> findRecipients(NotificationFanoutJob job, int limit) {
+        String sql = recipientsSql(job.getNotificationType(), job.getCursorUserId() != null);
+        if (job.getCursorUserId() == null) {
+            return jdbcTemplate.queryForList(sql, UUID.class, job.getCampaignId(), limit);
+        }
+        return jdbcTemplate.queryForList(sql, UUID.class, job.getCampaignId(), job.getCursorUserId(), limit);
+    }
+
+    /**
+     * Next page of followers who still want this kind of notification. A
+     * missing {@code user_preferences} row counts as opted in, matching the
+     * entity defaults.
+     */
+    static String recipientsSql(NotificationType type, boolean resume) {
+        String followerFlag;
+        String preferenceFlag;
+        switch (type) {
+            case CAMPAIGN_UPDATE -> {
+                followerFlag = "notify_on_update";
+                preferenceFlag = "notify_on_campaign_update";
+            }
+            case CAMPAIGN_COMPLETED -> {
+                followerFlag = "notify_on_complete";
+                preferenceFlag = "notify_on_campaign_complete";
+            }
+            default -> throw new IllegalArgumentException("Unsupported fan-out notification type: " + type);
+        }
+        return "SELECT cf.user_id FROM campaign_followers cf "
+                + "LEFT JOIN user_preferences up ON up.user_id = cf.user_id "
+                + "WHERE cf.campaign_id = ? "
+                + (resume ? "AND cf.user_id > ? " : "")
+                + "AND COALESCE(cf." + followerFlag + ", TRUE) = TRUE "
+                + "AND COALESCE(up." + preferenceFlag + ", TRUE) = TRUE "
+                + "ORDER BY cf.user_id LIMIT ?";
+    }
+
+    private void insertNotifications(NotificationFanoutJob job, List<UUID> userIds, OffsetDateTime now) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + userIds.size() * (INSERT_ROW.length() + 2))
+                .append(INSERT_PREFIX);
+        for (int i = 0; i < userIds.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(INSERT_ROW);
+        }
+
+        String type = job.getNotificationType().name();
+        jdbcTemplate.update(sql.toString(), ps -> {
+            int index = 1;
+            for (UUID userId : userIds) {
+                ps.setObject(index++, UUID.randomUUID());
+                ps.setObject(index++, userId);
+                ps.setString(index++, type);
+                ps.setString(index++, job.getTitle());
+                ps.setString(index++, job.getMessage());
+                ps.setString(index++, job.getEntityType());
+                ps.setObject(index++, job.getEntityId());
+                ps.setObject(index++, now);
+                ps.setObject(index++, now);
+            }
+        });
+    }
+
+    private static String truncate(String value) {
+        return value != null && value.length() > MAX_ERROR_LENGTH ? value.substring(0, MAX_ERROR_LENGTH) : value;
+    }
+}
@@ -20,10 +20,12 @@ import com.seffafbagis.api.entity.organization.Organization;
 import com.seffafbagis.api.exception.ResourceNotFoundException;
 import com.seffafbagis.api.exception.UnauthorizedException;
 import com.seffafbagis.api.security.SecurityUtils;
+import com.seffafbagis.api.util.CursorUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,6 +33,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -46,13 +49,14 @@ public class NotificationService {
     private final UserRepository userRepository;
     private final OrganizationRepository organizationRepository;
     private final EmailService emailService;
+    private final NotificationCounterService notificationCounterService;
 
     @Transactional(readOnly = true)
     public NotificationListResponse getMyNotifications(Pageable pageable) {
         UUID userId = SecurityUtils.getCurrentUserId().orElseThrow(() -> new UnauthorizedException("User not found"));
         Page<Notification> page = notificationRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
 
-        long unreadCount = notificationRepository.countByUserIdAndIsReadFalse(userId);
+        long unreadCount = notificationCounterService.getUnreadCount(userId);
 
         List<NotificationResponse> responses = page.getContent().stream()
                 .map(this::mapToResponse)
@@ -64,13 +68,35 @@ public class NotificationService {
                 .build();
     }
 
+    @Transactional(readOnly = true)
+    public NotificationListResponse getMyNotificationsFeed(String cursor, int size) {
+        UUID userId = SecurityUtils.getCurrentUserId().orElseThrow(() -> new UnauthorizedException("User not found"));
+        CursorUtils.Position position = CursorUtils.decode(cursor);
+        Slice<Notification> slice = position == null
+                ? notificationRepository.findFeedByUserId(userId, CursorUtils.limit(size))
+                : notificationRepository.findFeedByUserIdAfter(userId, position.getCreatedAt(), position.getId(),
+                        CursorUtils.limit(size));
+
+        long unreadCount = notificationCounterService.getUnreadCount(userId);
+
+        List<NotificationResponse> responses = slice.getContent().stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+
+        return NotificationListResponse.builder()
+                .unreadCount(unreadCount)
+                .notifications(responses)
+                .nextCursor(CursorUtils.nextCursor(slice))
+                .build();
+    }
+
     @Transactional(readOnly = true)
     public NotificationListResponse getUnreadNotifications(Pageable pageable) {
         UUID userId = SecurityUtils.getCurrentUserId().orElseThrow(() -> new UnauthorizedException("User not found"));
         Page<Notification> page = notificationRepository.findByUserIdAndIsReadFalseOrderByCreatedAtDesc(userId,
                 pageable);
 
-        long unreadCount = notificationRepository.countByUserIdAndIsReadFalse(userId);
+        long unreadCount = notificationCounterService.getUnreadCount(userId);
 
         List<NotificationResponse> responses = page.getContent().stream()
                 .map(this::mapToResponse)
@@ -85,21 +111,24 @@ public class NotificationService {
     @Transactional(readOnly = true)
     public NotificationCountResponse getUnreadCount() {
         UUID userId = SecurityUtils.getCurrentUserId().orElseThrow(() -> new UnauthorizedException("User not found"));
-        long unread = notificationRepository.countByUserIdAndIsReadFalse(userId);
-        long total = notificationRepository.count();
+        long unread = notificationCounterService.getUnreadCount(userId);
+        long total = notificationRepository.countByUserId(userId);
         return new NotificationCountResponse(total, unread);
     }
 
     @Transactional
     public void markAsRead(UUID notificationId) {
         UUID userId = SecurityUtils.getCurrentUserId().orElseThrow(() -> new UnauthorizedException("User not found"));
-        notificationRepository.markAsRead(notificationId, userId);
+        if (notificationRepository.markAsRead(notificationId, userId) > 0) {
+            notificationCounterService.decrement(userId);
+        }
     }
 
     @Transactional
     public void markAllAsRead() {
         UUID userId = SecurityUtils.getCurrentUserId().orElseThrow(() -> new UnauthorizedException("User not found"));
         notificationRepository.markAllAsReadByUserId(userId);
+        notificationCounterService.reset(userId);
     }
 
     @Transactional
@@ -113,6 +142,9 @@ public class NotificationService {
         }
 
         notificationRepository.delete(notification);
+        if (!Boolean.TRUE.equals(notification.getIsRead())) {
+            notificationCounterService.decrement(userId);
+        }
     }
 
     @Transactional
@@ -149,6 +181,7 @@ public class NotificationService {
         }
 
         notificationRepository.save(notification);
+        notificationCounterService.increment(userId);
     }
 
     public void sendNotification(UUID userId, String title, String message) {
@@ -344,6 +377,28 @@ public class NotificationService {
         }
     }
 
+    /**
+     * Tells each donor that a bank transfer reference of theirs expired, with
+     * one batched insert for the whole chunk.
+     */
+    @Transactional
+    public void notifyBankTransfersExpired(Collection<UUID> donorIds) {
+        if (donorIds.isEmpty()) {
+            return;
+        }
+        List<Notification> notifications = donorIds.stream().map(donorId -> {
+            Notification notification = new Notification();
+            notification.setUserId(donorId);
+            notification.setType(NotificationType.BANK_TRANSFER_EXPIRED.name());
+            notification.setTitle("Havale Süresi Doldu");
+            notification.setMessage("Havale ile bağış talebinizin süresi doldu. Bağış yapmak için yeni bir "
+                    + "referans kodu oluşturabilirsiniz.");
+            return notification;
+        }).toList();
+        notificationRepository.saveAll(notifications);
+        notificationCounterService.incrementAll(donorIds);
+    }
+
     @Transactional
     public void notifyScoreChange(UUID organizationId, BigDecimal oldScore, BigDecimal newScore) {
         Organization organization = organizationRepository.findById(organizationId)
@@ -428,6 +483,7 @@ public class NotificationService {
         UUID userId = SecurityUtils.getCurrentUserId().orElseThrow(() -> new UnauthorizedException("User not found"));
         LocalDateTime cutoffDate = LocalDateTime.now().minusDays(daysOld);
         notificationRepository.deleteByUserIdAndCreatedAtBefore(userId, cutoffDate);
+        notificationCounterService.evict(userId);
     }
 
     private void checkAndSendEmail(UUID userId, Runnable emailAction) {
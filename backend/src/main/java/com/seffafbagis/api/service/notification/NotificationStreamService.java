@@ -0,0 +1,166 @@
+package com.seffafbagis.api.service.notification;
+
+import com.seffafbagis.api.dto.response.notification.NotificationStreamTokenResponse;
+import com.seffafbagis.api.exception.UnauthorizedException;
+import com.seffafbagis.api.security.JwtTokenProvider;
+import com.seffafbagis.api.security.SecurityUtils;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server-Sent Events stream of unread notification counts.
+ *
+ * Each connection is an async {@link SseEmitter}: the servlet thread is
+ * released as soon as the stream is opened, and events are written from the
+ * thread that observed the change, so idle connections hold no thread at
+ * all. Clients receive an {@code unread} event on connect and whenever
+ * {@link NotificationCounterService} reports a change for their user, plus a
+ * comment heartbeat that keeps proxies from closing the connection and
+ * detects dead clients. Streams time out after
+ * {@code app.notification.stream-timeout-ms}.
+ *
+ * Browser EventSource cannot send an Authorization header, so clients first
+ * get a stream token from {@code POST /notifications/stream-token} and open
+ * {@code /notifications/stream?token=...}. The token lives only
+ * {@code app.notification.stream-token-ttl-ms} and is checked when the stream
+ * opens, so a reconnect with the same URL fails once it has expired: clients
+ * must fetch a fresh token before every (re)connect instead of relying on
+ * EventSource's automatic retry.
+ */
+@Service
+@Slf4j
+public class NotificationStreamService {
+
+    static final String UNREAD_EVENT = "unread";
+
+    private final NotificationCounterService counterService;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final long timeoutMs;
+    private final long tokenTtlMs;
+    private final int maxStreamsPerUser;
+    private final Map<UUID, Deque<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    public NotificationStreamService(NotificationCounterService counterService,
+            JwtTokenProvider jwtTokenProvider,
+            MeterRegistry meterRegistry,
+            @Value("${app.notification.stream-timeout-ms:1800000}") long timeoutMs,
+            @Value("${app.notification.stream-token-ttl-ms:60000}") long tokenTtlMs,
+            @Value("${app.notification.stream-max-per-user:5}") int maxStreamsPerUser) {
+        this.counterService = counterService;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.timeoutMs = timeoutMs;
+        this.tokenTtlMs = tokenTtlMs;
+        this.maxStreamsPerUser = maxStreamsPerUser;
+        Gauge.builder("notification.stream.connections", connections, AtomicInteger::get)
+                .description("Open notification SSE streams on this node")
+                .register(meterRegistry);
+        counterService.addListener(this::onUnreadChanged);
+    }
+
+    /**
+     * Issues a short-lived token that opens the current user's stream.
+     */
+    public NotificationStreamTokenResponse issueStreamToken() {
+        UUID userId = SecurityUtils.getCurrentUserId().orElseThrow(() -> new UnauthorizedException("User not found"));
+        return new NotificationStreamTokenResponse(jwtTokenProvider.generateStreamToken(userId, tokenTtlMs),
+                tokenTtlMs / 1000);
+    }
+
+    public SseEmitter subscribe() {
+        UUID userId = SecurityUtils.getCurrentUserId().orElseThrow(() -> new UnauthorizedException("User not found"));
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Deque<SseEmitter> userEmitters = emitters.compute(userId, (key, existing) -> {
+            Deque<SseEmitter> deque = existing != null ? existing : new ConcurrentLinkedDeque<>();
+            deque.addLast(emitter);
+            return deque;
+        });
+        connections.incrementAndGet();
+
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> remove(userId, emitter));
+
+        // Oldest streams of the same user (stale tabs) make room for new ones
+        while (userEmitters.size() > maxStreamsPerUser) {
+            SseEmitter oldest = userEmitters.pollFirst();
+            if (oldest != null) {
+                connections.decrementAndGet();
+                oldest.complete();
+            }
+        }
+
+        send(userId, emitter, counterService.getUnreadCount(userId));
+        return emitter;
+    }
+
+    void onUnreadChanged(Collection<UUID> userIds) {
+        for (UUID userId : userIds) {
+            Deque<SseEmitter> userEmitters = emitters.get(userId);
+            if (userEmitters == null || userEmitters.isEmpty()) {
+                continue;
+            }
+            long unread = counterService.getUnreadCount(userId);
+            for (SseEmitter emitter : userEmitters) {
+                send(userId, emitter, unread);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.notification.stream-heartbeat-ms:25000}")
+    public void heartbeat() {
+        emitters.forEach((userId, userEmitters) -> {
+            for (SseEmitter emitter : userEmitters) {
+                try {
+                    emitter.send(SseEmitter.event().comment("ping"));
+                } catch (IOException | IllegalStateException e) {
+                    remove(userId, emitter);
+                }
+            }
+        });
+    }
+
+    int getConnectionCount() {
+        return connections.get();
+    }
+
+    @PreDestroy
+    void closeAll() {
+        emitters.values().forEach(userEmitters -> userEmitters.forEach(SseEmitter::complete));
+        emitters.clear();
+        connections.set(0);
+    }
+
+    private void send(UUID userId, SseEmitter emitter, long unread) {
+        try {
+            emitter.send(SseEmitter.event().name(UNREAD_EVENT).data(Map.of("unread", unread)));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping notification stream of user {}: {}", userId, e.getMessage());
+            remove(userId, emitter);
+        }
+    }
+
+    private void remove(UUID userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (key, userEmitters) -> {
+            if (userEmitters.remove(emitter)) {
+                connections.decrementAndGet();
+            }
+            return userEmitters.isEmpty() ? null : userEmitters;
+        });
+    }
+}
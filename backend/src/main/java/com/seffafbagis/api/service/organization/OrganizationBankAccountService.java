@@ -1,5 +1,6 @@
 package com.seffafbagis.api.service.organization;
 
+import com.seffafbagis.api.cache.CacheNames;
 import com.seffafbagis.api.dto.mapper.OrganizationMapper;
 import com.seffafbagis.api.dto.request.organization.AddBankAccountRequest;
 import com.seffafbagis.api.dto.request.organization.UpdateBankAccountRequest;
@@ -14,6 +15,7 @@ import com.seffafbagis.api.repository.OrganizationRepository;
 import com.seffafbagis.api.security.SecurityUtils;
 import com.seffafbagis.api.validator.IbanValidator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,6 +36,7 @@ public class OrganizationBankAccountService {
                 bankAccountRepository.findByOrganizationIdOrderByIsPrimaryDescCreatedAtAsc(organizationId));
     }
 
+    @CacheEvict(cacheNames = CacheNames.ORGANIZATION_PUBLIC_DETAIL, allEntries = true)
     public OrganizationBankAccountResponse addBankAccount(AddBankAccountRequest request) {
         Organization organization = getCurrentUserOrganization();
 
@@ -58,6 +61,7 @@ public class OrganizationBankAccountService {
         return mapper.toResponse(account);
     }
 
+    @CacheEvict(cacheNames = CacheNames.ORGANIZATION_PUBLIC_DETAIL, allEntries = true)
     public OrganizationBankAccountResponse updateBankAccount(UUID accountId, UpdateBankAccountRequest request) {
         OrganizationBankAccount account = bankAccountRepository.findById(accountId)
                 .orElseThrow(() -> new ResourceNotFoundException("Bank account not found"));
@@ -94,6 +98,7 @@ public class OrganizationBankAccountService {
         return mapper.toResponse(account);
     }
 
+    @CacheEvict(cacheNames = CacheNames.ORGANIZATION_PUBLIC_DETAIL, allEntries = true)
     public void deleteBankAccount(UUID accountId) {
         OrganizationBankAccount account = bankAccountRepository.findById(accountId)
                 .orElseThrow(() -> new ResourceNotFoundException("Bank account not found"));
@@ -113,6 +118,7 @@ public class OrganizationBankAccountService {
         bankAccountRepository.delete(account);
     }
 
+    @CacheEvict(cacheNames = CacheNames.ORGANIZATION_PUBLIC_DETAIL, allEntries = true)
     public OrganizationBankAccountResponse setPrimaryBankAccount(UUID accountId) {
         OrganizationBankAccount account = bankAccountRepository.findById(accountId)
                 .orElseThrow(() -> new ResourceNotFoundException("Bank account not found"));
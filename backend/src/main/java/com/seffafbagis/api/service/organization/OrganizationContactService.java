@@ -1,5 +1,6 @@
 package com.seffafbagis.api.service.organization;
 
+import com.seffafbagis.api.cache.CacheNames;
 import com.seffafbagis.api.dto.mapper.OrganizationMapper;
 import com.seffafbagis.api.dto.request.organization.AddContactRequest;
 import com.seffafbagis.api.dto.request.organization.UpdateContactRequest;
@@ -13,6 +14,7 @@ import com.seffafbagis.api.repository.OrganizationRepository;
 import com.seffafbagis.api.repository.UserRepository;
 import com.seffafbagis.api.security.SecurityUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,6 +41,7 @@ public class OrganizationContactService {
                 contactRepository.findByOrganizationIdOrderByIsPrimaryDescCreatedAtAsc(organizationId));
     }
 
+    @CacheEvict(cacheNames = CacheNames.ORGANIZATION_PUBLIC_DETAIL, allEntries = true)
     public OrganizationContactResponse addContact(AddContactRequest request) {
         Organization organization = getCurrentUserOrganization();
 
@@ -60,6 +63,7 @@ public class OrganizationContactService {
         return mapper.toResponse(contact);
     }
 
+    @CacheEvict(cacheNames = CacheNames.ORGANIZATION_PUBLIC_DETAIL, allEntries = true)
     public OrganizationContactResponse updateContact(UUID contactId, UpdateContactRequest request) {
         OrganizationContact contact = contactRepository.findById(contactId)
                 .orElseThrow(() -> new ResourceNotFoundException("Contact not found"));
@@ -83,6 +87,7 @@ public class OrganizationContactService {
         return mapper.toResponse(contact);
     }
 
+    @CacheEvict(cacheNames = CacheNames.ORGANIZATION_PUBLIC_DETAIL, allEntries = true)
     public void deleteContact(UUID contactId) {
         OrganizationContact contact = contactRepository.findById(contactId)
                 .orElseThrow(() -> new ResourceNotFoundException("Contact not found"));
@@ -102,6 +107,7 @@ public class OrganizationContactService {
         contactRepository.delete(contact);
     }
 
+    @CacheEvict(cacheNames = CacheNames.ORGANIZATION_PUBLIC_DETAIL, allEntries = true)
     public OrganizationContactResponse setPrimaryContact(UUID contactId) {
         OrganizationContact contact = contactRepository.findById(contactId)
                 .orElseThrow(() -> new ResourceNotFoundException("Contact not found"));
@@ -1,5 +1,6 @@
 package com.seffafbagis.api.service.organization;
 
+import com.seffafbagis.api.cache.CacheNames;
 import com.seffafbagis.api.dto.mapper.OrganizationMapper;
 import com.seffafbagis.api.dto.request.organization.AddDocumentRequest;
 import com.seffafbagis.api.dto.response.organization.OrganizationDocumentResponse;
@@ -13,6 +14,7 @@ import com.seffafbagis.api.repository.OrganizationRepository;
 import com.seffafbagis.api.repository.UserRepository;
 import com.seffafbagis.api.security.SecurityUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,6 +37,7 @@ public class OrganizationDocumentService {
                 documentRepository.findByOrganizationIdOrderByUploadedAtDesc(organizationId));
     }
 
+    @CacheEvict(cacheNames = CacheNames.ORGANIZATION_PUBLIC_DETAIL, allEntries = true)
     public OrganizationDocumentResponse addDocument(AddDocumentRequest request) {
         Organization organization = getCurrentUserOrganization();
 
@@ -44,6 +47,7 @@ public class OrganizationDocumentService {
         return mapper.toResponse(document);
     }
 
+    @CacheEvict(cacheNames = CacheNames.ORGANIZATION_PUBLIC_DETAIL, allEntries = true)
     public void deleteDocument(UUID documentId) {
         OrganizationDocument document = documentRepository.findById(documentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Document not found"));
@@ -63,6 +67,7 @@ public class OrganizationDocumentService {
     }
 
     // Admin methods
+    @CacheEvict(cacheNames = CacheNames.ORGANIZATION_PUBLIC_DETAIL, allEntries = true)
     public void verifyDocument(UUID documentId, UUID adminUserId) {
         OrganizationDocument document = documentRepository.findById(documentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Document not found"));
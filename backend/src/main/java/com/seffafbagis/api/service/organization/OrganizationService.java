@@ -1,10 +1,12 @@
 package com.seffafbagis.api.service.organization;
 
+import com.seffafbagis.api.cache.CacheNames;
 import com.seffafbagis.api.dto.mapper.OrganizationMapper;
 import com.seffafbagis.api.dto.request.admin.VerifyOrganizationRequest;
 import com.seffafbagis.api.dto.request.organization.CreateOrganizationRequest;
 import com.seffafbagis.api.dto.request.organization.ResubmitVerificationRequest;
 import com.seffafbagis.api.dto.request.organization.UpdateOrganizationRequest;
+import com.seffafbagis.api.dto.response.common.SearchSuggestionResponse;
 import com.seffafbagis.api.dto.response.organization.*;
 import com.seffafbagis.api.entity.organization.Organization;
 import com.seffafbagis.api.entity.user.User;
@@ -18,9 +20,14 @@ import com.seffafbagis.api.repository.UserRepository;
 import com.seffafbagis.api.security.SecurityUtils;
 import com.seffafbagis.api.service.audit.AuditLogService;
 import com.seffafbagis.api.service.interfaces.IOrganizationService;
+import com.seffafbagis.api.util.SearchQueryNormalizer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +35,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -48,18 +56,41 @@ public class OrganizationService implements IOrganizationService {
                 .map(organizationMapper::toListResponse);
     }
 
+    @Cacheable(cacheNames = CacheNames.FEATURED_ORGANIZATIONS, key = "'" + CacheNames.ALL_KEY + "'")
     public List<OrganizationSummaryResponse> getFeaturedOrganizations() {
         return organizationRepository.findByIsFeaturedTrueAndVerificationStatus(VerificationStatus.APPROVED)
                 .stream()
                 .map(organizationMapper::toSummaryResponse)
-                .toList();
+                .collect(Collectors.toList());
     }
 
     public Page<OrganizationListResponse> searchOrganizations(String keyword, Pageable pageable) {
-        return organizationRepository.searchByKeyword(keyword, VerificationStatus.APPROVED, pageable)
+        String query = SearchQueryNormalizer.toPrefixQuery(keyword);
+        if (query == null) {
+            return getApprovedOrganizations(pageable);
+        }
+        // Full-text results are ordered by relevance; a client sort would not map onto the native query
+        Pageable byRelevance = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        return organizationRepository.searchFullText(query, VerificationStatus.APPROVED.name(), byRelevance)
                 .map(organizationMapper::toListResponse);
     }
 
+    @Transactional(readOnly = true)
+    public List<SearchSuggestionResponse> suggestOrganizations(String prefix, int limit) {
+        String query = SearchQueryNormalizer.toSuggestQuery(prefix);
+        if (query == null) {
+            return List.of();
+        }
+        return organizationRepository.suggestByName(query, VerificationStatus.APPROVED.name(),
+                SearchQueryNormalizer.suggestionLimit(limit))
+                .stream()
+                .map(s -> new SearchSuggestionResponse(s.getId(), s.getLabel(), s.getSlug()))
+                .collect(Collectors.toList());
+    }
+
+    // Only approved organizations are cached; other states are visible to the owner and admins only.
+    @Cacheable(cacheNames = CacheNames.ORGANIZATION_PUBLIC_DETAIL, key = "#id",
+            unless = "#result.verificationStatus != T(com.seffafbagis.api.enums.VerificationStatus).APPROVED")
     public OrganizationDetailResponse getOrganizationPublicDetail(UUID id) {
         Organization organization = organizationRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Organization not found"));
@@ -114,6 +145,10 @@ public class OrganizationService implements IOrganizationService {
         return organizationMapper.toResponse(organization);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.ORGANIZATION_PUBLIC_DETAIL, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.FEATURED_ORGANIZATIONS, allEntries = true)
+    })
     public OrganizationResponse updateOrganization(UpdateOrganizationRequest request) {
         Organization organization = getCurrentUserOrganization();
 
@@ -138,6 +173,10 @@ public class OrganizationService implements IOrganizationService {
         return organizationMapper.toResponse(organization);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.ORGANIZATION_PUBLIC_DETAIL, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.FEATURED_ORGANIZATIONS, allEntries = true)
+    })
     public OrganizationResponse submitForVerification() {
         Organization organization = getCurrentUserOrganization();
         User user = organization.getUser();
@@ -153,6 +192,10 @@ public class OrganizationService implements IOrganizationService {
         return organizationMapper.toResponse(organization);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.ORGANIZATION_PUBLIC_DETAIL, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.FEATURED_ORGANIZATIONS, allEntries = true)
+    })
     public OrganizationResponse resubmitVerification(ResubmitVerificationRequest request) {
         Organization organization = getCurrentUserOrganization();
         User user = organization.getUser();
@@ -210,6 +253,10 @@ public class OrganizationService implements IOrganizationService {
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.ORGANIZATION_PUBLIC_DETAIL, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.FEATURED_ORGANIZATIONS, allEntries = true)
+    })
     public void updateVerificationStatus(UUID id, String statusStr, String reason, UUID adminId) {
         User admin = userRepository.findById(adminId)
                 .orElseThrow(() -> new ResourceNotFoundException("Admin not found"));
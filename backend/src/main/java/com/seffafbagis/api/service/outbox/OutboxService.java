@@ -0,0 +1,274 @@
+package com.seffafbagis.api.service.outbox;
+
+import com.seffafbagis.api.config.SchedulerProperties;
+import com.seffafbagis.api.entity.event.OutboxEvent;
+import com.seffafbagis.api.enums.ExpiringResource;
+import com.seffafbagis.api.enums.OutboxEventStatus;
+import com.seffafbagis.api.event.BaseEvent;
+import com.seffafbagis.api.event.DonationCompletedEvent;
+import com.seffafbagis.api.event.DonationCreatedEvent;
+import com.seffafbagis.api.event.DonationFailedEvent;
+import com.seffafbagis.api.event.DonationRefundedEvent;
+import com.seffafbagis.api.event.ResourcesExpiredEvent;
+import com.seffafbagis.api.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Transactional outbox for donation lifecycle and expiry events.
+ *
+ * {@link #enqueue(BaseEvent)} must be called inside the business transaction;
+ * the record commits or rolls back with it. {@code OutboxDispatchScheduler}
+ * then claims records in batches and republishes them to the regular
+ * {@code @EventListener}s.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxService.class);
+    private static final int MAX_ERROR_LENGTH = 2000;
+    private static final long MAX_BACKOFF_SECONDS = 3600;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final SchedulerProperties schedulerProperties;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OutboxEvent enqueue(BaseEvent event) {
+        OutboxEvent record = new OutboxEvent();
+        record.setEventType(event.getClass().getSimpleName());
+        record.setPayload(encode(event));
+        record.setAggregateId(aggregateIdOf(event));
+        record.setStatus(OutboxEventStatus.PENDING);
+        record.setAvailableAt(OffsetDateTime.now());
+        return outboxEventRepository.save(record);
+    }
+
+    /**
+     * Enqueues several events with one batched insert.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<OutboxEvent> enqueueAll(Collection<? extends BaseEvent> events) {
+        OffsetDateTime now = OffsetDateTime.now();
+        List<OutboxEvent> records = new ArrayList<>(events.size());
+        for (BaseEvent event : events) {
+            OutboxEvent record = new OutboxEvent();
+            record.setEventType(event.getClass().getSimpleName());
+            record.setPayload(encode(event));
+            record.setAggregateId(aggregateIdOf(event));
+            record.setStatus(OutboxEventStatus.PENDING);
+            record.setAvailableAt(now);
+            records.add(record);
+        }
+        return outboxEventRepository.saveAll(records);
+    }
+
+    /**
+     * Claims the next batch of due events under a lease. The lease expires
+     * after {@code leaseSeconds}, so events claimed by a node that dies are
+     * delivered again (at-least-once).
+     */
+    @Transactional
+    public List<OutboxEvent> claimBatch() {
+        SchedulerProperties.OutboxProperties props = schedulerProperties.getOutbox();
+        OffsetDateTime now = OffsetDateTime.now();
+        List<OutboxEvent> batch = outboxEventRepository.findDueForUpdate(now, props.getBatchSize());
+        OffsetDateTime leaseUntil = now.plusSeconds(props.getLeaseSeconds());
+        for (OutboxEvent record : batch) {
+            record.setStatus(OutboxEventStatus.PROCESSING);
+            record.setAttempts(record.getAttempts() + 1);
+            record.setAvailableAt(leaseUntil);
+        }
+        return outboxEventRepository.saveAll(batch);
+    }
+
+    @Transactional
+    public void markPublished(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        outboxEventRepository.markPublished(ids, OutboxEventStatus.PUBLISHED, OffsetDateTime.now());
+    }
+
+    /**
+     * Schedules a retry with exponential backoff, or marks the event as
+     * {@link OutboxEventStatus#FAILED} once {@code maxAttempts} is reached.
+     */
+    @Transactional
+    public void markFailed(UUID id, Throwable error) {
+        outboxEventRepository.findById(id).ifPresent(record -> {
+            int attempts = record.getAttempts();
+            record.setLastError(truncate(error.getClass().getSimpleName() + ": " + error.getMessage()));
+            if (attempts >= schedulerProperties.getOutbox().getMaxAttempts()) {
+                record.setStatus(OutboxEventStatus.FAILED);
+                logger.error("Outbox event {} ({}) failed permanently after {} attempts",
+                        id, record.getEventType(), attempts);
+            } else {
+                long backoff = Math.min(MAX_BACKOFF_SECONDS, 1L << Math.min(attempts, 12));
+                record.setStatus(OutboxEventStatus.PENDING);
+                record.setAvailableAt(OffsetDateTime.now().plusSeconds(backoff));
+            }
+            outboxEventRepository.save(record);
+        });
+    }
+
+    @Transactional
+    public int purgePublished() {
+        OffsetDateTime cutoff = OffsetDateTime.now().minusDays(schedulerProperties.getOutbox().getRetentionDays());
+        return outboxEventRepository.deleteByStatusAndPublishedAtBefore(OutboxEventStatus.PUBLISHED, cutoff);
+    }
+
+    @Transactional(readOnly = true)
+    public long countBacklog() {
+        return outboxEventRepository.countByStatusIn(List.of(OutboxEventStatus.PENDING, OutboxEventStatus.PROCESSING));
+    }
+
+    @Transactional(readOnly = true)
+    public OffsetDateTime findOldestBacklogCreatedAt() {
+        return outboxEventRepository.findOldestCreatedAtByStatusIn(
+                List.of(OutboxEventStatus.PENDING, OutboxEventStatus.PROCESSING));
+    }
+
+    /**
+     * Rebuilds the domain event stored in an outbox record, with the event id
+     * and time it was enqueued with.
+     */
+    public BaseEvent decode(OutboxEvent record) {
+        Map<String, Object> p = record.getPayload();
+        BaseEvent event = switch (record.getEventType()) {
+            case "DonationCreatedEvent" -> new DonationCreatedEvent(
+                    uuid(p, "triggeredBy"),
+                    uuid(p, "donationId"),
+                    uuid(p, "campaignId"),
+                    uuid(p, "donorId"),
+                    decimal(p, "amount"),
+                    (String) p.get("currency"),
+                    (Boolean) p.get("isAnonymous"));
+            case "DonationCompletedEvent" -> new DonationCompletedEvent(
+                    uuid(p, "triggeredBy"),
+                    uuid(p, "donationId"),
+                    uuid(p, "campaignId"),
+                    uuid(p, "organizationId"),
+                    uuid(p, "donorId"),
+                    decimal(p, "amount"),
+                    uuid(p, "transactionId"));
+            case "DonationFailedEvent" -> new DonationFailedEvent(
+                    uuid(p, "triggeredBy"),
+                    uuid(p, "donationId"),
+                    uuid(p, "campaignId"),
+                    uuid(p, "donorId"),
+                    (String) p.get("failureReason"));
+            case "DonationRefundedEvent" -> new DonationRefundedEvent(
+                    uuid(p, "triggeredBy"),
+                    uuid(p, "donationId"),
+                    uuid(p, "campaignId"),
+                    decimal(p, "refundAmount"),
+                    (String) p.get("refundReason"));
+            case "ResourcesExpiredEvent" -> new ResourcesExpiredEvent(
+                    uuid(p, "triggeredBy"),
+                    ExpiringResource.valueOf((String) p.get("resource")),
+                    uuids(p, "resourceIds"),
+                    uuids(p, "ownerIds"));
+            default -> throw new IllegalStateException("Unsupported outbox event type: " + record.getEventType());
+        };
+        if (p.get("eventId") != null && p.get("occurredAt") != null) {
+            event.restore(uuid(p, "eventId"), LocalDateTime.parse(p.get("occurredAt").toString()));
+        }
+        return event;
+    }
+
+    private Map<String, Object> encode(BaseEvent event) {
+        Map<String, Object> p = new HashMap<>();
+        p.put("eventId", str(event.getEventId()));
+        p.put("occurredAt", str(event.getOccurredAt()));
+        p.put("triggeredBy", str(event.getTriggeredBy()));
+        if (event instanceof DonationCreatedEvent e) {
+            p.put("donationId", str(e.getDonationId()));
+            p.put("campaignId", str(e.getCampaignId()));
+            p.put("donorId", str(e.getDonorId()));
+            p.put("amount", str(e.getAmount()));
+            p.put("currency", e.getCurrency());
+            p.put("isAnonymous", e.getIsAnonymous());
+        } else if (event instanceof DonationCompletedEvent e) {
+            p.put("donationId", str(e.getDonationId()));
+            p.put("campaignId", str(e.getCampaignId()));
+            p.put("organizationId", str(e.getOrganizationId()));
+            p.put("donorId", str(e.getDonorId()));
+            p.put("amount", str(e.getAmount()));
+            p.put("transactionId", str(e.getTransactionId()));
+        } else if (event instanceof DonationFailedEvent e) {
+            p.put("donationId", str(e.getDonationId()));
+            p.put("campaignId", str(e.getCampaignId()));
+            p.put("donorId", str(e.getDonorId()));
+            p.put("failureReason", e.getFailureReason());
+        } else if (event instanceof DonationRefundedEvent e) {
+            p.put("donationId", str(e.getDonationId()));
+            p.put("campaignId", str(e.getCampaignId()));
+            p.put("refundAmount", str(e.getRefundAmount()));
+            p.put("refundReason", e.getRefundReason());
+        } else if (event instanceof ResourcesExpiredEvent e) {
+            p.put("resource", e.getResource().name());
+            p.put("resourceIds", e.getResourceIds().stream().map(UUID::toString).toList());
+            p.put("ownerIds", e.getOwnerIds().stream().map(UUID::toString).toList());
+        } else {
+            throw new IllegalArgumentException("Unsupported outbox event type: " + event.getClass().getName());
+        }
+        return p;
+    }
+
+    private UUID aggregateIdOf(BaseEvent event) {
+        if (event instanceof DonationCreatedEvent e) {
+            return e.getDonationId();
+        }
+        if (event instanceof DonationCompletedEvent e) {
+            return e.getDonationId();
+        }
+        if (event instanceof DonationFailedEvent e) {
+            return e.getDonationId();
+        }
+        if (event instanceof DonationRefundedEvent e) {
+            return e.getDonationId();
+        }
+        return null;
+    }
+
+    private static String str(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    private static UUID uuid(Map<String, Object> payload, String key) {
+        Object value = payload.get(key);
+        return value != null ? UUID.fromString(value.toString()) : null;
+    }
+
+    private static List<UUID> uuids(Map<String, Object> payload, String key) {
+        Object value = payload.get(key);
+        if (!(value instanceof Collection<?> values)) {
+            return List.of();
+        }
+        return values.stream().map(item -> UUID.fromString(item.toString())).toList();
+    }
+
+    private static BigDecimal decimal(Map<String, Object> payload, String key) {
+        Object value = payload.get(key);
+        return value != null ? new BigDecimal(value.toString()) : null;
+    }
+
+    private static String truncate(String value) {
+        return value != null && value.length() > MAX_ERROR_LENGTH ? value.substring(0, MAX_ERROR_LENGTH) : value;
+    }
+}
@@ -0,0 +1,44 @@
+package com.seffafbagis.api.service.payment;
+
+import java.util.List;
+
+/**
+ * Result of {@link RecurringChargeService#claimChunk}: how many due
+ * subscriptions were locked, and the charges among them that are ready for
+ * the gateway.
+ *
+ * The two differ when periods were skipped because they were already charged
+ * or are held for reconciliation, so an empty list of charges does not mean
+ * nothing else is due; only a chunk that locked no rows does.
+ */
+public final class ClaimedChunk {
+
+    private static final ClaimedChunk NONE = new ClaimedChunk(0, List.of());
+
+    private final int lockedCount;
+    private final List<RecurringCharge> charges;
+
+    public ClaimedChunk(int lockedCount, List<RecurringCharge> charges) {
+        this.lockedCount = lockedCount;
+        this.charges = charges;
+    }
+
+    public static ClaimedChunk none() {
+        return NONE;
+    }
+
+    public int getLockedCount() {
+        return lockedCount;
+    }
+
+    public List<RecurringCharge> getCharges() {
+        return charges;
+    }
+
+    /**
+     * Whether no due subscription was left to lock.
+     */
+    public boolean isExhausted() {
+        return lockedCount == 0;
+    }
+}
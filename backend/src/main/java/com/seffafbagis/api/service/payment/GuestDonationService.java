@@ -19,7 +19,6 @@ import org.springframework.stereotype.Service;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 /**
  * Service for handling guest (anonymous) donations.
@@ -67,13 +66,15 @@ public class GuestDonationService {
             Campaign campaign = donation.getCampaign();
             GuestCheckoutResponse.DonationReceiptInfo info = GuestCheckoutResponse.DonationReceiptInfo.builder()
                     .donationId(donation.getId())
-                    .receiptId(UUID.fromString(receipt.getId().toString()))
+                    .receiptId(receipt.getId())
                     .campaignId(campaign.getId())
                     .campaignTitle(campaign.getTitle())
                     .amount(donation.getAmount())
                     .currency(donation.getCurrency())
                     .receiptNumber(receipt.getBarcodeData())
-                    .receiptPdfUrl("/api/v1/receipts/" + receipt.getId() + "/download")
+                    .receiptPdfUrl("/api/v1/receipts/guest/"
+                            + ReceiptService.verificationKey(receipt.getBarcodeData(), receipt.getVerificationCode())
+                            + "/download")
                     .build();
 
             donationInfos.add(info);
@@ -14,6 +14,7 @@ import com.seffafbagis.api.entity.donation.Transaction;
 import com.seffafbagis.api.entity.user.User;
 import com.seffafbagis.api.repository.DonationRepository;
 import com.seffafbagis.api.security.SecurityUtils;
+import com.seffafbagis.api.service.donation.DonationService;
 import com.iyzipay.model.Refund;
 import com.seffafbagis.api.repository.UserRepository;
 import com.seffafbagis.api.exception.UnauthorizedException;
@@ -22,6 +23,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -35,7 +37,7 @@ public class PaymentService {
     private final TransactionService transactionService;
     private final DonationRepository donationRepository;
     private final UserRepository userRepository;
-    private final com.seffafbagis.api.service.receipt.ReceiptService receiptService;
+    private final DonationService donationService;
 
     @Transactional
     public ThreeDSInitResponse initializePayment(PaymentRequest request) {
@@ -103,12 +105,8 @@ public class PaymentService {
             throw new PaymentException("Invalid Card Number", "INVALID_CARD", false);
         }
 
-        // Mock Success
-        donation.setStatus(DonationStatus.COMPLETED);
-        donationRepository.save(donation);
-
-        // Generate Receipt/Makbuz
-        com.seffafbagis.api.entity.Receipt receipt = receiptService.createReceipt(donation);
+        // Mock Success: completing records campaign stats, the receipt and the completion event
+        donationService.completeDonation(donation.getId());
 
         // Simulated Transaction
         // transactionService.createMockTransaction(donation, "MOCK-TRX-" +
@@ -152,9 +150,7 @@ public class PaymentService {
         Transaction transaction = transactionService.createTransaction(donation, null, payment, true);
 
         if ("success".equals(payment.getStatus())) {
-            // Update Donation
-            donation.setStatus(DonationStatus.COMPLETED);
-            donationRepository.save(donation);
+            donationService.completeDonation(donation.getId());
 
             // Handle Card Saving if it was requested and successful
             if (payment.getCardToken() != null && !payment.getCardToken().isEmpty()) {
@@ -209,10 +205,15 @@ public class PaymentService {
             // Transaction status update logic
             transactionService.updateTransactionStatus(transaction.getId(), "REFUNDED");
 
+            BigDecimal refundedAmount = request.getAmount() != null ? request.getAmount() : transaction.getAmount();
+            if (transaction.getDonation() != null) {
+                donationService.markRefunded(transaction.getDonation().getId(), refundedAmount);
+            }
+
             return RefundResultResponse.builder()
                     .success(true)
                     .transactionId(transaction.getId())
-                    .refundedAmount(request.getAmount() != null ? request.getAmount() : transaction.getAmount())
+                    .refundedAmount(refundedAmount)
                     .message("Refund successful")
                     .build();
         } else {
@@ -281,8 +282,7 @@ public class PaymentService {
             Transaction transaction = transactionService.createTransaction(donation, null, payment, false);
 
             if ("success".equals(payment.getStatus())) {
-                donation.setStatus(DonationStatus.COMPLETED);
-                donationRepository.save(donation);
+                donationService.completeDonation(donation.getId());
                 return true;
             } else {
                 donation.setStatus(DonationStatus.FAILED);
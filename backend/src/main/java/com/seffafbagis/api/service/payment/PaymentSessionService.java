@@ -1,11 +1,13 @@
 package com.seffafbagis.api.service.payment;
 
+import com.seffafbagis.api.config.SchedulerProperties;
 import com.seffafbagis.api.dto.request.payment.AddCartItemRequest;
 import com.seffafbagis.api.entity.campaign.Campaign;
 import com.seffafbagis.api.entity.donation.Donation;
 import com.seffafbagis.api.entity.donation.PaymentSession;
 import com.seffafbagis.api.entity.user.User;
 import com.seffafbagis.api.enums.DonationStatus;
+import com.seffafbagis.api.enums.ExpiringResource;
 import com.seffafbagis.api.enums.PaymentSessionStatus;
 import com.seffafbagis.api.exception.BadRequestException;
 import com.seffafbagis.api.exception.ResourceNotFoundException;
@@ -16,13 +18,13 @@ import com.seffafbagis.api.repository.UserRepository;
 import com.seffafbagis.api.security.SecurityUtils;
 import com.seffafbagis.api.service.campaign.CampaignService;
 import com.seffafbagis.api.service.receipt.ReceiptService;
+import com.seffafbagis.api.service.system.ExpirySweeper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
-import java.util.List;
 import java.util.UUID;
 
 /**
@@ -39,6 +41,8 @@ public class PaymentSessionService {
     private final CampaignRepository campaignRepository;
     private final ReceiptService receiptService;
     private final CampaignService campaignService;
+    private final ExpirySweeper expirySweeper;
+    private final SchedulerProperties schedulerProperties;
 
     /**
      * Get or create active cart for current user.
@@ -145,19 +149,15 @@ public class PaymentSessionService {
     }
 
     /**
-     * Cleanup expired sessions.
+     * Expires carts left pending for longer than the configured TTL and
+     * clears their items, in chunks and without loading the sessions.
+     *
+     * @return number of sessions expired
      */
-    @Transactional
-    public void cleanupExpiredSessions() {
-        OffsetDateTime cutoff = OffsetDateTime.now().minusHours(24);
-        List<PaymentSession> expiredSessions = paymentSessionRepository
-                .findExpiredSessions(PaymentSessionStatus.PENDING, cutoff);
-
-        for (PaymentSession session : expiredSessions) {
-            session.setStatus(PaymentSessionStatus.EXPIRED);
-            session.clearCart();
-            paymentSessionRepository.save(session);
-        }
+    public long cleanupExpiredSessions() {
+        OffsetDateTime cutoff = OffsetDateTime.now()
+                .minusHours(schedulerProperties.getExpiry().getPaymentSessionTtlHours());
+        return expirySweeper.sweep(ExpiringResource.PAYMENT_SESSION, cutoff);
     }
 
     private PaymentSession createNewSession(User user) {
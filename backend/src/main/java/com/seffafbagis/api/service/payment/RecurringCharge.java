@@ -0,0 +1,106 @@
+package com.seffafbagis.api.service.payment;
+
+import com.iyzipay.model.Payment;
+import com.seffafbagis.api.entity.donation.Donation;
+import com.seffafbagis.api.entity.user.User;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * One billing period of a recurring donation, claimed for charging.
+ *
+ * Built by {@link RecurringChargeService#claimChunk} with everything the
+ * gateway call needs already loaded, charged on a worker thread outside any
+ * transaction, then recorded together with the rest of its chunk.
+ */
+public final class RecurringCharge {
+
+    private final UUID chargeId;
+    private final UUID recurringDonationId;
+    private final LocalDate billingPeriod;
+    private final String frequency;
+    private final BigDecimal amount;
+    private final String cardToken;
+    private final Donation donation;
+    private final User donor;
+    private final UUID merchantId;
+
+    private volatile Payment payment;
+    private volatile String error;
+
+    public RecurringCharge(UUID chargeId, UUID recurringDonationId, LocalDate billingPeriod, String frequency,
+            BigDecimal amount, String cardToken, Donation donation, User donor, UUID merchantId) {
+        this.chargeId = chargeId;
+        this.recurringDonationId = recurringDonationId;
+        this.billingPeriod = billingPeriod;
+        this.frequency = frequency;
+        this.amount = amount;
+        this.cardToken = cardToken;
+        this.donation = donation;
+        this.donor = donor;
+        this.merchantId = merchantId;
+    }
+
+    public UUID getChargeId() {
+        return chargeId;
+    }
+
+    public UUID getRecurringDonationId() {
+        return recurringDonationId;
+    }
+
+    public LocalDate getBillingPeriod() {
+        return billingPeriod;
+    }
+
+    public String getFrequency() {
+        return frequency;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public String getCardToken() {
+        return cardToken;
+    }
+
+    public Donation getDonation() {
+        return donation;
+    }
+
+    public User getDonor() {
+        return donor;
+    }
+
+    /**
+     * Organization that receives the money; concurrent gateway calls are
+     * limited per merchant.
+     */
+    public UUID getMerchantId() {
+        return merchantId;
+    }
+
+    public Payment getPayment() {
+        return payment;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public boolean isSucceeded() {
+        return payment != null && "success".equals(payment.getStatus());
+    }
+
+    void complete(Payment payment) {
+        this.payment = payment;
+        this.error = isSucceeded() ? null : payment.getErrorMessage();
+    }
+
+    void fail(String error) {
+        this.error = error;
+    }
+}
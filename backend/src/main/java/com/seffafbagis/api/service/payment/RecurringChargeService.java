@@ -0,0 +1,353 @@
+package com.seffafbagis.api.service.payment;
+
+import com.iyzipay.model.Payment;
+import com.seffafbagis.api.config.SchedulerProperties;
+import com.seffafbagis.api.entity.campaign.Campaign;
+import com.seffafbagis.api.entity.donation.Donation;
+import com.seffafbagis.api.entity.donation.RecurringDonation;
+import com.seffafbagis.api.entity.donation.RecurringDonationCharge;
+import com.seffafbagis.api.entity.donation.Transaction;
+import com.seffafbagis.api.enums.DonationStatus;
+import com.seffafbagis.api.enums.RecurringChargeStatus;
+import com.seffafbagis.api.event.DonationCompletedEvent;
+import com.seffafbagis.api.repository.DonationRepository;
+import com.seffafbagis.api.repository.RecurringDonationChargeRepository;
+import com.seffafbagis.api.repository.RecurringDonationRepository;
+import com.seffafbagis.api.repository.TransactionRepository;
+import com.seffafbagis.api.service.campaign.CampaignService;
+import com.seffafbagis.api.service.outbox.OutboxService;
+import com.seffafbagis.api.service.receipt.ReceiptService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Charges recurring donations in chunks.
+ *
+ * {@link #claimChunk} locks the next due subscriptions with
+ * {@code FOR UPDATE SKIP LOCKED}, leases them, and records a PENDING donation
+ * plus a PROCESSING {@link RecurringDonationCharge} for each billing period in
+ * one transaction. {@link #charge} then calls the gateway without holding a
+ * transaction, and {@link #recordResults} writes the outcomes of the whole
+ * chunk at once: transactions, donation statuses, charge rows and the
+ * subscription schedule. Subscription updates are guarded by the billing
+ * period, so recording the same period twice has no effect.
+ *
+ * Completed donations get the same bookkeeping as
+ * {@code DonationService#completeDonation}, done in bulk: campaign counters
+ * per campaign, receipts in one batch and one {@link DonationCompletedEvent}
+ * each through the outbox.
+ */
+@Service
+@RequiredArgsConstructor
+public class RecurringChargeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecurringChargeService.class);
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    /**
+     * Merchant key of subscriptions without a campaign or organization.
+     */
+    static final UUID PLATFORM_MERCHANT = new UUID(0L, 0L);
+
+    static final String CHARGE_UPDATE_SQL = "UPDATE recurring_donation_charges SET status = ?, "
+            + "provider_payment_id = ?, last_error = ?, charged_at = ?, updated_at = ? WHERE id = ?";
+
+    static final String SUCCESS_UPDATE_SQL = "UPDATE recurring_donations SET next_payment_date = ?, "
+            + "last_payment_date = ?, total_donated = COALESCE(total_donated, 0) + ?, "
+            + "payment_count = COALESCE(payment_count, 0) + 1, failure_count = 0, last_error_message = NULL, "
+            + "charge_lease_until = NULL, updated_at = ? WHERE id = ? AND next_payment_date = ?";
+
+    static final String FAILURE_UPDATE_SQL = "UPDATE recurring_donations SET "
+            + "failure_count = COALESCE(failure_count, 0) + 1, last_error_message = ?, "
+            + "status = CASE WHEN COALESCE(failure_count, 0) + 1 >= ? THEN 'paused' ELSE status END, "
+            + "charge_lease_until = ?, updated_at = ? WHERE id = ? AND next_payment_date = ?";
+
+    static final String ADVANCE_SQL = "UPDATE recurring_donations SET next_payment_date = ?, "
+            + "charge_lease_until = NULL, updated_at = ? WHERE id = ? AND next_payment_date = ?";
+
+    private final RecurringDonationRepository recurringDonationRepository;
+    private final RecurringDonationChargeRepository chargeRepository;
+    private final DonationRepository donationRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionService transactionService;
+    private final IyzicoService iyzicoService;
+    private final JdbcTemplate jdbcTemplate;
+    private final SchedulerProperties schedulerProperties;
+    private final CampaignService campaignService;
+    private final ReceiptService receiptService;
+    private final OutboxService outboxService;
+
+    /**
+     * Claims the next chunk of due subscriptions.
+     *
+     * A period that already SUCCEEDED only has its schedule moved on. A
+     * period still PROCESSING was interrupted during the gateway call, so its
+     * outcome is unknown; it is held back and logged for reconciliation
+     * rather than charged a second time.
+     *
+     * @return the number of subscriptions locked and the charges ready for
+     *         the gateway; the charges can be empty when every locked period
+     *         was skipped
+     */
+    @Transactional
+    public ClaimedChunk claimChunk(LocalDate today) {
+        SchedulerProperties.RecurringDonationProperties props = schedulerProperties.getRecurringDonation();
+        OffsetDateTime now = OffsetDateTime.now();
+        List<RecurringDonation> due = recurringDonationRepository.findDueForUpdate(today, now, props.getChunkSize());
+        if (due.isEmpty()) {
+            return ClaimedChunk.none();
+        }
+
+        Set<UUID> ids = new HashSet<>();
+        Set<LocalDate> periods = new HashSet<>();
+        for (RecurringDonation subscription : due) {
+            ids.add(subscription.getId());
+            periods.add(subscription.getNextPaymentDate());
+        }
+        // Initializes donor, profile and campaign on the locked rows for the gateway call
+        recurringDonationRepository.findWithDonorAndCampaignByIdIn(ids);
+        recurringDonationRepository.leaseForCharging(ids, now.plusMinutes(props.getLeaseMinutes()));
+
+        Map<String, RecurringDonationCharge> existing = new HashMap<>();
+        for (RecurringDonationCharge charge : chargeRepository.findByRecurringDonationIdInAndBillingPeriodIn(ids,
+                periods)) {
+            existing.put(key(charge.getRecurringDonationId(), charge.getBillingPeriod()), charge);
+        }
+
+        List<RecurringDonation> toCharge = new ArrayList<>();
+        List<RecurringDonationCharge> charges = new ArrayList<>();
+        List<Donation> donations = new ArrayList<>();
+        Map<RecurringDonationCharge, Donation> chargeDonations = new IdentityHashMap<>();
+        for (RecurringDonation subscription : due) {
+            LocalDate period = subscription.getNextPaymentDate();
+            RecurringDonationCharge charge = existing.get(key(subscription.getId(), period));
+            if (charge != null && charge.getStatus() == RecurringChargeStatus.SUCCEEDED) {
+                logger.warn("Recurring donation {} was already charged for {}, moving the schedule on",
+                        subscription.getId(), period);
+                jdbcTemplate.update(ADVANCE_SQL, nextPaymentDate(period, subscription.getFrequency(), today), now,
+                        subscription.getId(), period);
+                continue;
+            }
+            if (charge != null && charge.getStatus() == RecurringChargeStatus.PROCESSING) {
+                logger.error("Recurring donation {} charge for {} (donation {}) has no recorded outcome; "
+                        + "holding it for reconciliation", subscription.getId(), period, charge.getDonationId());
+                recurringDonationRepository.leaseForCharging(List.of(subscription.getId()),
+                        now.plusHours(props.getRetryDelayHours()));
+                continue;
+            }
+            if (charge == null) {
+                charge = new RecurringDonationCharge();
+                charge.setRecurringDonationId(subscription.getId());
+                charge.setBillingPeriod(period);
+            }
+            charge.setStatus(RecurringChargeStatus.PROCESSING);
+            charge.setAttempts(charge.getAttempts() + 1);
+            charge.setLastError(null);
+
+            if (subscription.getCardToken() != null) {
+                Donation donation = new Donation();
+                donation.setDonor(subscription.getDonor());
+                donation.setCampaign(subscription.getCampaign());
+                donation.setAmount(subscription.getAmount());
+                donation.setCurrency(subscription.getCurrency());
+                donation.setDonationType(subscription.getDonationType());
+                donation.setStatus(DonationStatus.PENDING);
+                donations.add(donation);
+                chargeDonations.put(charge, donation);
+            }
+            toCharge.add(subscription);
+            charges.add(charge);
+        }
+
+        donationRepository.saveAll(donations);
+        for (RecurringDonationCharge charge : charges) {
+            Donation donation = chargeDonations.get(charge);
+            charge.setDonationId(donation != null ? donation.getId() : null);
+        }
+        chargeRepository.saveAll(charges);
+
+        List<RecurringCharge> claimed = new ArrayList<>(toCharge.size());
+        for (int i = 0; i < toCharge.size(); i++) {
+            RecurringDonation subscription = toCharge.get(i);
+            RecurringDonationCharge charge = charges.get(i);
+            claimed.add(new RecurringCharge(charge.getId(), subscription.getId(), charge.getBillingPeriod(),
+                    subscription.getFrequency(), subscription.getAmount(), subscription.getCardToken(),
+                    chargeDonations.get(charge), subscription.getDonor(), merchantOf(subscription)));
+        }
+        return new ClaimedChunk(due.size(), claimed);
+    }
+
+    /**
+     * Calls the payment gateway for one claimed period. Runs outside any
+     * transaction and never throws; the outcome is kept on the charge.
+     */
+    public void charge(RecurringCharge charge) {
+        if (charge.getCardToken() == null) {
+            charge.fail("Recurring donation has no card token");
+            return;
+        }
+        try {
+            Payment payment = iyzicoService.chargeWithToken(charge.getCardToken(), charge.getAmount(),
+                    charge.getDonation(), charge.getDonor());
+            charge.complete(payment);
+            if (!charge.isSucceeded()) {
+                logger.warn("Recurring payment declined for {}: {}", charge.getRecurringDonationId(),
+                        payment.getErrorMessage());
+            }
+        } catch (Exception e) {
+            logger.error("Exception in recurring payment for {}", charge.getRecurringDonationId(), e);
+            charge.fail(e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Records the outcome of a charged chunk in one transaction.
+     */
+    @Transactional
+    public void recordResults(List<RecurringCharge> charges, LocalDate today) {
+        if (charges.isEmpty()) {
+            return;
+        }
+        SchedulerProperties.RecurringDonationProperties props = schedulerProperties.getRecurringDonation();
+        OffsetDateTime now = OffsetDateTime.now();
+        OffsetDateTime retryAt = now.plusHours(props.getRetryDelayHours());
+
+        List<Transaction> transactions = new ArrayList<>();
+        Map<RecurringCharge, Transaction> chargeTransactions = new IdentityHashMap<>();
+        List<RecurringCharge> succeeded = new ArrayList<>();
+        List<UUID> completed = new ArrayList<>();
+        List<UUID> failed = new ArrayList<>();
+        List<Object[]> chargeRows = new ArrayList<>(charges.size());
+        List<Object[]> successRows = new ArrayList<>();
+        List<Object[]> failureRows = new ArrayList<>();
+
+        for (RecurringCharge charge : charges) {
+            if (charge.getPayment() != null) {
+                Transaction transaction = transactionService.buildTransaction(charge.getDonation(), null,
+                        charge.getPayment(), false);
+                transactions.add(transaction);
+                chargeTransactions.put(charge, transaction);
+            }
+            if (charge.isSucceeded()) {
+                succeeded.add(charge);
+                completed.add(charge.getDonation().getId());
+                chargeRows.add(new Object[] { RecurringChargeStatus.SUCCEEDED.name(),
+                        charge.getPayment().getPaymentId(), null, now, now, charge.getChargeId() });
+                successRows.add(new Object[] {
+                        nextPaymentDate(charge.getBillingPeriod(), charge.getFrequency(), today),
+                        today, charge.getAmount(), now, charge.getRecurringDonationId(), charge.getBillingPeriod() });
+            } else {
+                String error = truncate(charge.getError() != null ? charge.getError() : "Payment failed");
+                if (charge.getDonation() != null) {
+                    failed.add(charge.getDonation().getId());
+                }
+                chargeRows.add(new Object[] { RecurringChargeStatus.FAILED.name(), null, error, null, now,
+                        charge.getChargeId() });
+                failureRows.add(new Object[] { error, props.getMaxRetries(), retryAt, now,
+                        charge.getRecurringDonationId(), charge.getBillingPeriod() });
+            }
+        }
+
+        transactionRepository.saveAll(transactions);
+        if (!completed.isEmpty()) {
+            donationRepository.updateStatus(completed, DonationStatus.COMPLETED, now);
+            recordCompletions(succeeded, chargeTransactions, now);
+        }
+        if (!failed.isEmpty()) {
+            donationRepository.updateStatus(failed, DonationStatus.FAILED, now);
+        }
+        jdbcTemplate.batchUpdate(CHARGE_UPDATE_SQL, chargeRows);
+        if (!successRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(SUCCESS_UPDATE_SQL, successRows);
+        }
+        if (!failureRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(FAILURE_UPDATE_SQL, failureRows);
+        }
+    }
+
+    /**
+     * Campaign counters, receipts and completion events for the donations
+     * completed in one chunk.
+     */
+    private void recordCompletions(List<RecurringCharge> succeeded, Map<RecurringCharge, Transaction> transactions,
+            OffsetDateTime now) {
+        List<UUID> donationIds = new ArrayList<>(succeeded.size());
+        List<DonationCompletedEvent> events = new ArrayList<>(succeeded.size());
+        Map<UUID, BigDecimal> campaignAmounts = new LinkedHashMap<>();
+        Map<UUID, Integer> campaignCounts = new HashMap<>();
+        for (RecurringCharge charge : succeeded) {
+            Donation donation = charge.getDonation();
+            donationIds.add(donation.getId());
+            Campaign campaign = donation.getCampaign();
+            if (campaign == null) {
+                continue;
+            }
+            Transaction transaction = transactions.get(charge);
+            events.add(new DonationCompletedEvent(null, donation.getId(), campaign.getId(),
+                    campaign.getOrganization() != null ? campaign.getOrganization().getId() : null,
+                    donation.getDonor() != null ? donation.getDonor().getId() : null,
+                    donation.getAmount(), transaction != null ? transaction.getId() : null));
+            campaignAmounts.merge(campaign.getId(), donation.getAmount(), BigDecimal::add);
+            campaignCounts.merge(campaign.getId(), 1, Integer::sum);
+        }
+        receiptService.createReceipts(donationIds, now);
+        outboxService.enqueueAll(events);
+        campaignAmounts.forEach((campaignId, amount) ->
+                campaignService.incrementDonationStats(campaignId, amount, campaignCounts.get(campaignId)));
+    }
+
+    /**
+     * The payment date after {@code period}. A subscription that fell behind
+     * resumes from {@code today} instead of being charged for every missed
+     * period in a row.
+     */
+    static LocalDate nextPaymentDate(LocalDate period, String frequency, LocalDate today) {
+        LocalDate next = advance(period, frequency);
+        return next.isAfter(today) ? next : advance(today, frequency);
+    }
+
+    private static LocalDate advance(LocalDate from, String frequency) {
+        if ("weekly".equalsIgnoreCase(frequency)) {
+            return from.plusWeeks(1);
+        } else if ("yearly".equalsIgnoreCase(frequency)) {
+            return from.plusYears(1);
+        }
+        return from.plusMonths(1);
+    }
+
+    private static UUID merchantOf(RecurringDonation subscription) {
+        Campaign campaign = subscription.getCampaign();
+        if (campaign != null && campaign.getOrganization() != null) {
+            return campaign.getOrganization().getId();
+        }
+        if (subscription.getOrganization() != null) {
+            return subscription.getOrganization().getId();
+        }
+        return PLATFORM_MERCHANT;
+    }
+
+    private static String key(UUID recurringDonationId, LocalDate period) {
+        return recurringDonationId + "|" + period;
+    }
+
+    private static String truncate(String value) {
+        return value != null && value.length() > MAX_ERROR_LENGTH ? value.substring(0, MAX_ERROR_LENGTH) : value;
+    }
+}
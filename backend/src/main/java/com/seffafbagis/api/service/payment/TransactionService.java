@@ -24,6 +24,15 @@ public class TransactionService {
     @Transactional
     public Transaction createTransaction(Donation donation, PaymentRequest request, PaymentResource response,
             boolean is3dSecure) {
+        return transactionRepository.save(buildTransaction(donation, request, response, is3dSecure));
+    }
+
+    /**
+     * Maps a gateway response to an unsaved transaction, for callers that
+     * save several at once.
+     */
+    public Transaction buildTransaction(Donation donation, PaymentRequest request, PaymentResource response,
+            boolean is3dSecure) {
         Transaction transaction = new Transaction();
         transaction.setDonation(donation);
         transaction.setPaymentMethod(com.seffafbagis.api.enums.PaymentMethod.CREDIT_CARD);
@@ -60,7 +69,7 @@ public class TransactionService {
             transaction.setErrorMessage(response.getErrorMessage());
         }
 
-        return transactionRepository.save(transaction);
+        return transaction;
     }
 
     @Transactional
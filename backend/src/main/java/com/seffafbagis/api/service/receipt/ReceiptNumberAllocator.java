@@ -0,0 +1,165 @@
+package com.seffafbagis.api.service.receipt;
+
+import com.seffafbagis.api.util.ReceiptNumberGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands out receipt numbers ({@code RCPT-YYYY-NNNNNN}) from one PostgreSQL
+ * sequence per year.
+ *
+ * A sequence is created the first time a year is used, starting after the
+ * highest number already issued in {@code donation_receipts} and
+ * {@code receipts}, with an increment of {@code blockSize}. Each value taken
+ * from it reserves a block of that many numbers for this node, which are
+ * then handed out from memory; allocating a number is O(1) and takes no row
+ * locks, so concurrent completions never wait on each other.
+ *
+ * With the default block size of 1 numbers are strictly increasing across
+ * nodes and the only gaps are numbers taken by transactions that rolled
+ * back. Larger blocks cut sequence round trips on busy nodes at the cost of
+ * numbers not being issued in time order, and of the unused rest of a block
+ * being lost when a node stops. The block size of an existing sequence is
+ * read from the database, so nodes configured differently stay consistent.
+ */
+@Component
+@Slf4j
+public class ReceiptNumberAllocator {
+
+    static final String SEQUENCE_PREFIX = "receipt_number_seq_";
+
+    static final String SEQUENCE_INCREMENT_SQL = "SELECT increment_by FROM pg_sequences "
+            + "WHERE schemaname = current_schema() AND sequencename = ?";
+
+    static final String MAX_ISSUED_SQL = "SELECT COALESCE(MAX(n), 0) FROM ("
+            + "SELECT CAST(SUBSTRING(receipt_number FROM ?) AS BIGINT) AS n FROM donation_receipts "
+            + "WHERE receipt_number ~ ? "
+            + "UNION ALL "
+            + "SELECT CAST(SUBSTRING(barcode_data FROM ?) AS BIGINT) FROM receipts WHERE barcode_data ~ ?) issued";
+
+    static final String CREATE_SEQUENCE_SQL = "CREATE SEQUENCE IF NOT EXISTS %s INCREMENT BY %d START WITH %d";
+
+    static final String NEXT_BLOCKS_SQL = "SELECT nextval('%s') FROM generate_series(1, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate newTransaction;
+    private final int blockSize;
+    private final Map<Integer, YearBlocks> years = new ConcurrentHashMap<>();
+
+    public ReceiptNumberAllocator(JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.receipt-number.block-size:1}") int blockSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = Math.max(1, blockSize);
+    }
+
+    /**
+     * Allocates one receipt number in {@code year}.
+     */
+    public String next(int year) {
+        return next(year, 1).get(0);
+    }
+
+    /**
+     * Allocates {@code count} receipt numbers in {@code year}, fetching any
+     * blocks still needed in a single round trip.
+     */
+    public List<String> next(int year, int count) {
+        YearBlocks blocks = years.computeIfAbsent(year, YearBlocks::new);
+        List<String> numbers = new ArrayList<>(count);
+        synchronized (blocks) {
+            if (blocks.increment == 0) {
+                blocks.increment = ensureSequence(year);
+            }
+            while (numbers.size() < count) {
+                if (blocks.next > blocks.last) {
+                    if (blocks.starts.isEmpty()) {
+                        long needed = count - numbers.size();
+                        fetchBlocks(blocks, (int) ((needed + blocks.increment - 1) / blocks.increment));
+                    }
+                    blocks.next = blocks.starts.poll();
+                    blocks.last = blocks.next + blocks.increment - 1;
+                }
+                numbers.add(ReceiptNumberGenerator.generate(year, blocks.next++));
+            }
+        }
+        return numbers;
+    }
+
+    private void fetchBlocks(YearBlocks blocks, int count) {
+        String sql = String.format(NEXT_BLOCKS_SQL, sequenceName(blocks.year));
+        blocks.starts.addAll(jdbcTemplate.queryForList(sql, Long.class, count));
+    }
+
+    /**
+     * Creates the sequence of {@code year} if needed and returns its
+     * increment. Creation commits on its own so the sequence does not vanish
+     * with a caller's rolled back transaction.
+     */
+    private long ensureSequence(int year) {
+        String name = sequenceName(year);
+        Long increment = sequenceIncrement(name);
+        if (increment != null) {
+            return increment;
+        }
+        String prefix = ReceiptNumberGenerator.prefix(year);
+        String pattern = "^" + prefix + "[0-9]+$";
+        int digitsFrom = prefix.length() + 1;
+        try {
+            newTransaction.executeWithoutResult(status -> {
+                Long issued = jdbcTemplate.queryForObject(MAX_ISSUED_SQL, Long.class,
+                        digitsFrom, pattern, digitsFrom, pattern);
+                jdbcTemplate.execute(String.format(CREATE_SEQUENCE_SQL, name, blockSize, issued + 1));
+            });
+            log.info("Created receipt number sequence {} with block size {}", name, blockSize);
+        } catch (DataAccessException e) {
+            // another node created it at the same time
+            log.debug("Receipt number sequence {} was created concurrently", name, e);
+        }
+        increment = sequenceIncrement(name);
+        if (increment == null) {
+            throw new IllegalStateException("Receipt number sequence " + name + " could not be created");
+        }
+        return increment;
+    }
+
+    private Long sequenceIncrement(String name) {
+        List<Long> increments = jdbcTemplate.queryForList(SEQUENCE_INCREMENT_SQL, Long.class, name);
+        return increments.isEmpty() ? null : increments.get(0);
+    }
+
+    static String sequenceName(int year) {
+        return SEQUENCE_PREFIX + year;
+    }
+
+    /**
+     * Blocks reserved by this node for one year. Guarded by its own monitor.
+     */
+    private static final class YearBlocks {
+
+        private final int year;
+        private final Deque<Long> starts = new ArrayDeque<>();
+        private long increment;
+        private long next = 1;
+        private long last = 0;
+
+        private YearBlocks(int year) {
+            this.year = year;
+        }
+    }
+}
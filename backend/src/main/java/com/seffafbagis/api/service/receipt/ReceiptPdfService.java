@@ -0,0 +1,263 @@
+package com.seffafbagis.api.service.receipt;
+
+import com.seffafbagis.api.exception.ForbiddenException;
+import com.seffafbagis.api.exception.ResourceNotFoundException;
+import com.seffafbagis.api.security.SecurityUtils;
+import com.seffafbagis.api.service.receipt.pdf.ReceiptDocument;
+import com.seffafbagis.api.service.receipt.pdf.ReceiptPdfRenderer;
+import com.seffafbagis.api.service.storage.FileStorageService;
+import com.seffafbagis.api.service.storage.StoredFile;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.output.CloseShieldOutputStream;
+import org.apache.commons.io.output.TeeOutputStream;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Serves receipts as PDF documents.
+ *
+ * Receipts are read with one query each — or one query for a whole yearly
+ * bundle — and rendered by {@link ReceiptPdfRenderer} straight onto the
+ * response stream. Rendering is deterministic, so every rendered PDF is also
+ * kept in {@link FileStorageService} under the hash of its content and later
+ * downloads of an unchanged receipt are copied from there; a corrected
+ * donor name or a new template version changes the hash and the receipt is
+ * rendered again.
+ *
+ * Loading checks access and must happen on the request thread; writing can
+ * happen later from a {@code StreamingResponseBody}. Every receipt written is
+ * recorded as {@code receipt.pdf.render}, tagged by cache hit or miss, and
+ * its size as {@code receipt.pdf.bytes}; bundles as {@code receipt.pdf.bundle}.
+ */
+@Service
+@Slf4j
+public class ReceiptPdfService {
+
+    static final String RECEIPT_COLUMNS = "SELECT r.id, r.barcode_data, r.verification_code, r.created_at AS issued_at, "
+            + "d.created_at AS donated_at, d.donor_id, d.donor_display_name, p.first_name, p.last_name, u.email, "
+            + "c.title AS campaign_title, COALESCE(o.legal_name, o.trade_name) AS organization_name, "
+            + "d.amount, d.currency, d.payment_method, d.transaction_id, d.status "
+            + "FROM receipts r "
+            + "JOIN donations d ON d.id = r.donation_id "
+            + "JOIN campaigns c ON c.id = d.campaign_id "
+            + "JOIN organizations o ON o.id = c.organization_id "
+            + "LEFT JOIN users u ON u.id = d.donor_id "
+            + "LEFT JOIN user_profiles p ON p.user_id = d.donor_id ";
+
+    static final String RECEIPT_SQL = RECEIPT_COLUMNS + "WHERE r.id = ?";
+
+    static final String GUEST_RECEIPT_SQL = RECEIPT_COLUMNS + "WHERE r.barcode_data = ? AND d.donor_id IS NULL";
+
+    static final String YEARLY_RECEIPTS_SQL = RECEIPT_COLUMNS
+            + "WHERE d.donor_id = ? AND d.status = 'COMPLETED' AND d.created_at >= ? AND d.created_at < ? "
+            + "ORDER BY d.created_at, r.id";
+
+    static final String CACHE_FOLDER = "receipts/pdf";
+
+    /** Tax years follow Turkish local time. */
+    private static final ZoneId TAX_ZONE = ZoneId.of("Europe/Istanbul");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReceiptPdfRenderer renderer;
+    private final FileStorageService fileStorageService;
+    private final Timer cacheHitTimer;
+    private final Timer cacheMissTimer;
+    private final Timer bundleTimer;
+    private final DistributionSummary receiptBytes;
+
+    public ReceiptPdfService(JdbcTemplate jdbcTemplate,
+            ReceiptPdfRenderer renderer,
+            FileStorageService fileStorageService,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.renderer = renderer;
+        this.fileStorageService = fileStorageService;
+        this.cacheHitTimer = renderTimer(meterRegistry, "hit");
+        this.cacheMissTimer = renderTimer(meterRegistry, "miss");
+        this.bundleTimer = Timer.builder("receipt.pdf.bundle")
+                .description("Time to write a yearly receipt bundle")
+                .register(meterRegistry);
+        this.receiptBytes = DistributionSummary.builder("receipt.pdf.bytes")
+                .description("Size of a receipt PDF")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads a receipt for download by its donor or an admin. Receipts of
+     * guest donations can only be downloaded by admins.
+     */
+    public ReceiptDocument getReceipt(Long receiptId) {
+        ReceiptDocument receipt = jdbcTemplate.query(RECEIPT_SQL, (rs, rowNum) -> mapReceipt(rs), receiptId)
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Receipt", String.valueOf(receiptId)));
+        boolean allowed = receipt.getDonorId() != null
+                ? SecurityUtils.isCurrentUserOrAdmin(receipt.getDonorId())
+                : SecurityUtils.isAdmin();
+        if (!allowed) {
+            throw new ForbiddenException("You can only download your own receipts");
+        }
+        return receipt;
+    }
+
+    /**
+     * Loads the receipt of a guest donation by its verification key, which
+     * serves as the guest's capability: the key carries a random code, so
+     * only someone who was given it (the guest at checkout, or anyone they
+     * share the receipt with) can fetch the PDF. Receipts of registered
+     * donors are never served this way.
+     */
+    public ReceiptDocument getGuestReceipt(String verificationKey) {
+        int separator = verificationKey.lastIndexOf('-');
+        String barcode = separator > 0 ? verificationKey.substring(0, separator) : verificationKey;
+        byte[] key = verificationKey.toUpperCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+        return jdbcTemplate.query(GUEST_RECEIPT_SQL, (rs, rowNum) -> mapReceipt(rs), barcode)
+                .stream()
+                .filter(receipt -> MessageDigest.isEqual(key,
+                        receipt.getVerificationKey().getBytes(StandardCharsets.UTF_8)))
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Receipt", barcode));
+    }
+
+    /**
+     * Loads the receipts of the current user's completed donations made in
+     * {@code year}, oldest first.
+     */
+    public List<ReceiptDocument> getYearlyReceipts(int year) {
+        UUID donorId = SecurityUtils.getCurrentUserOrThrow().getId();
+        OffsetDateTime from = ZonedDateTime.of(year, 1, 1, 0, 0, 0, 0, TAX_ZONE).toOffsetDateTime();
+        OffsetDateTime to = ZonedDateTime.of(year + 1, 1, 1, 0, 0, 0, 0, TAX_ZONE).toOffsetDateTime();
+        List<ReceiptDocument> receipts = jdbcTemplate.query(YEARLY_RECEIPTS_SQL, (rs, rowNum) -> mapReceipt(rs),
+                donorId, from, to);
+        if (receipts.isEmpty()) {
+            throw new ResourceNotFoundException("Receipt", String.valueOf(year),
+                    "No receipts found for " + year);
+        }
+        return receipts;
+    }
+
+    /**
+     * Writes one receipt PDF onto {@code out}, which is left open.
+     *
+     * @return number of bytes written
+     */
+    public long writeReceipt(ReceiptDocument receipt, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        String key = FileStorageService.contentKey(CACHE_FOLDER, renderer.contentKey(receipt), "pdf");
+
+        Optional<StoredFile> cached = fileStorageService.findFile(key);
+        long bytes;
+        if (cached.isPresent()) {
+            bytes = cached.get().getSize();
+            fileStorageService.transfer(cached.get(), 0, bytes, out);
+            cacheHitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        } else {
+            bytes = renderAndStore(receipt, out, key);
+            cacheMissTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        receiptBytes.record(bytes);
+        return bytes;
+    }
+
+    /**
+     * Writes the receipts as a zip archive onto {@code out}, one PDF entry
+     * per receipt, without holding more than one receipt in memory.
+     */
+    public void writeBundle(List<ReceiptDocument> receipts, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        // closing the zip releases its deflater; the shield keeps the response open
+        try (ZipOutputStream zip = new ZipOutputStream(CloseShieldOutputStream.wrap(out))) {
+            // page streams are already deflated
+            zip.setLevel(Deflater.BEST_SPEED);
+            for (ReceiptDocument receipt : receipts) {
+                zip.putNextEntry(new ZipEntry(receipt.getReceiptNumber() + ".pdf"));
+                writeReceipt(receipt, zip);
+                zip.closeEntry();
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        bundleTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        log.info("Wrote receipt bundle of {} receipts in {} ms", receipts.size(), elapsedNanos / 1_000_000);
+    }
+
+    /**
+     * Renders onto the response and a temporary file at the same time; the
+     * file is stored under its content key only once it is complete.
+     */
+    private long renderAndStore(ReceiptDocument receipt, OutputStream out, String key) throws IOException {
+        Path tempFile = fileStorageService.createTempFile();
+        long bytes;
+        try (OutputStream file = Files.newOutputStream(tempFile)) {
+            bytes = renderer.render(receipt, new TeeOutputStream(out, file));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        fileStorageService.store(tempFile, key, "application/pdf");
+        return bytes;
+    }
+
+    private static ReceiptDocument mapReceipt(ResultSet rs) throws SQLException {
+        OffsetDateTime donatedAt = rs.getObject("donated_at", OffsetDateTime.class);
+        OffsetDateTime issuedAt = rs.getObject("issued_at", OffsetDateTime.class);
+        return new ReceiptDocument(
+                rs.getLong("id"),
+                rs.getString("barcode_data"),
+                ReceiptService.verificationKey(rs.getString("barcode_data"), rs.getString("verification_code")),
+                issuedAt != null ? issuedAt : donatedAt,
+                donatedAt,
+                rs.getObject("donor_id", UUID.class),
+                donorName(rs.getString("donor_display_name"), rs.getString("first_name"), rs.getString("last_name")),
+                rs.getString("email"),
+                rs.getString("campaign_title"),
+                rs.getString("organization_name"),
+                rs.getBigDecimal("amount"),
+                rs.getString("currency"),
+                rs.getString("payment_method"),
+                rs.getString("transaction_id"),
+                rs.getString("status"));
+    }
+
+    /**
+     * The name given with the donation, else the donor's profile name. A
+     * receipt always names the donor, even for anonymous donations.
+     */
+    static String donorName(String displayName, String firstName, String lastName) {
+        if (displayName != null && !displayName.isBlank()) {
+            return displayName;
+        }
+        String fullName = ((firstName != null ? firstName : "") + " " + (lastName != null ? lastName : "")).strip();
+        return fullName.isEmpty() ? null : fullName;
+    }
+
+    private static Timer renderTimer(MeterRegistry meterRegistry, String cache) {
+        return Timer.builder("receipt.pdf.render")
+                .description("Time to write one receipt PDF")
+                .tag("cache", cache)
+                .register(meterRegistry);
+    }
+}
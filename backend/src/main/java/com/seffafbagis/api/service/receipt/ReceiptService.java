@@ -4,10 +4,22 @@ import com.seffafbagis.api.entity.Receipt;
 import com.seffafbagis.api.entity.donation.Donation;
 import com.seffafbagis.api.repository.ReceiptRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.format.DateTimeFormatter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,29 +27,76 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ReceiptService {
 
+    static final String INSERT_RECEIPT_SQL = "INSERT INTO receipts "
+            + "(donation_id, barcode_data, verification_code, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+
+    private static final int VERIFICATION_CODE_BYTES = 8;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     private final ReceiptRepository receiptRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ReceiptNumberAllocator receiptNumberAllocator;
 
     @Transactional
     public Receipt createReceipt(Donation donation) {
-        String barcode = generateBarcode(donation);
+        OffsetDateTime createdAt = donation.getCreatedAt() != null ? donation.getCreatedAt() : OffsetDateTime.now();
+        String barcode = receiptNumberAllocator.next(createdAt.getYear());
 
         Receipt receipt = Receipt.builder()
                 .donation(donation)
                 .barcodeData(barcode)
+                .verificationCode(newVerificationCode())
                 .build();
 
         return receiptRepository.save(receipt);
     }
 
-    public Optional<Receipt> verifyReceipt(String barcodeData) {
-        return receiptRepository.findByBarcodeData(barcodeData);
+    /**
+     * Issues receipts for donations completed in bulk with one JDBC batch.
+     * Must run inside the transaction that completed the donations.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void createReceipts(Collection<UUID> donationIds, OffsetDateTime createdAt) {
+        if (donationIds.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.from(createdAt.toInstant());
+        Iterator<String> barcodes = receiptNumberAllocator.next(createdAt.getYear(), donationIds.size()).iterator();
+        List<Object[]> rows = new ArrayList<>(donationIds.size());
+        for (UUID donationId : donationIds) {
+            rows.add(new Object[] { donationId, barcodes.next(), newVerificationCode(), timestamp, timestamp });
+        }
+        jdbcTemplate.batchUpdate(INSERT_RECEIPT_SQL, rows);
+    }
+
+    /**
+     * Looks up a receipt by the key printed on it. The receipt number alone
+     * is sequential and does not verify anything; the random code after it
+     * has to match as well.
+     */
+    public Optional<Receipt> verifyReceipt(String verificationKey) {
+        int separator = verificationKey.lastIndexOf('-');
+        if (separator <= 0) {
+            return Optional.empty();
+        }
+        byte[] code = verificationKey.substring(separator + 1).toUpperCase(Locale.ROOT)
+                .getBytes(StandardCharsets.UTF_8);
+        return receiptRepository.findByBarcodeData(verificationKey.substring(0, separator))
+                .filter(receipt -> MessageDigest.isEqual(code,
+                        receipt.getVerificationCode().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Key printed on a receipt for public verification: the receipt number
+     * followed by its verification code, e.g. {@code RCPT-2026-000042-9F3A1C0B7D2E4A61}.
+     */
+    public static String verificationKey(String barcodeData, String verificationCode) {
+        return barcodeData + "-" + verificationCode;
     }
 
-    private String generateBarcode(Donation donation) {
-        // Format: SB-{Year}-{UniquePart}
-        // Example: SB-2024-839210
-        String year = DateTimeFormatter.ofPattern("yyyy").format(donation.getCreatedAt().toLocalDateTime());
-        String uniquePart = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-        return "SB-" + year + "-" + uniquePart;
+    static String newVerificationCode() {
+        byte[] bytes = new byte[VERIFICATION_CODE_BYTES];
+        RANDOM.nextBytes(bytes);
+        return HexFormat.of().withUpperCase().formatHex(bytes);
     }
 }
@@ -0,0 +1,79 @@
+package com.seffafbagis.api.service.receipt.pdf;
+
+/**
+ * Code 128 (code set B) barcodes drawn as vector bars, so receipt codes stay
+ * scannable at any zoom without embedding an image.
+ */
+public final class Code128 {
+
+    /**
+     * Bar and space widths in modules for each symbol value; 104 is Start B
+     * and the last entry is the stop pattern.
+     */
+    private static final String[] PATTERNS = {
+            "212222", "222122", "222221", "121223", "121322", "131222", "122213", "122312", "132212", "221213",
+            "221312", "231212", "112232", "122132", "122231", "113222", "123122", "123221", "223211", "221132",
+            "221231", "213212", "223112", "312131", "311222", "321122", "321221", "312212", "322112", "322211",
+            "212123", "212321", "232121", "111323", "131123", "131321", "112313", "132113", "132311", "211313",
+            "231113", "231311", "112133", "112331", "132131", "113123", "113321", "133121", "313121", "211331",
+            "231131", "213113", "213311", "213131", "311123", "311321", "331121", "312113", "312311", "332111",
+            "314111", "221411", "431111", "111224", "111422", "121124", "121421", "141122", "141221", "112214",
+            "112412", "122114", "122411", "142112", "142211", "241211", "221114", "413111", "241112", "134111",
+            "111242", "121142", "121241", "114212", "124112", "124211", "411212", "421112", "421211", "212141",
+            "214121", "412121", "111143", "111341", "131141", "114113", "114311", "411113", "411311", "113141",
+            "114131", "311141", "411131", "211412", "211214", "211232", "2331112"
+    };
+
+    private static final int START_B = 104;
+    private static final int STOP = 106;
+
+    private Code128() {
+    }
+
+    /**
+     * Symbol values of {@code text} framed by start, checksum and stop.
+     * Characters outside printable ASCII are not allowed.
+     */
+    static int[] encode(String text) {
+        int[] symbols = new int[text.length() + 3];
+        symbols[0] = START_B;
+        int checksum = START_B;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 32 || c > 126) {
+                throw new IllegalArgumentException("Code 128 B cannot encode character " + (int) c);
+            }
+            symbols[i + 1] = c - 32;
+            checksum += (i + 1) * (c - 32);
+        }
+        symbols[text.length() + 1] = checksum % 103;
+        symbols[text.length() + 2] = STOP;
+        return symbols;
+    }
+
+    /**
+     * Number of modules of the barcode for {@code text}, without quiet zones.
+     */
+    public static int modules(String text) {
+        // 11 modules per symbol, 13 for the stop pattern
+        return (text.length() + 2) * 11 + 13;
+    }
+
+    /**
+     * Draws the bars with their bottom left corner at ({@code x}, {@code y})
+     * in the current fill colour.
+     */
+    public static void draw(PdfContent content, String text, float x, float y, float moduleWidth, float height) {
+        float position = x;
+        for (int symbol : encode(text)) {
+            String pattern = PATTERNS[symbol];
+            for (int i = 0; i < pattern.length(); i++) {
+                float width = (pattern.charAt(i) - '0') * moduleWidth;
+                if (i % 2 == 0) {
+                    content.rect(position, y, width, height);
+                }
+                position += width;
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.seffafbagis.api.service.receipt.pdf;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the content stream of one page: filled rectangles, lines and single
+ * lines of text, in PDF user space (points, origin at the bottom left).
+ *
+ * Operators are written straight into a byte buffer without going through
+ * {@link String#format}; a receipt page is built in a few microseconds.
+ */
+public final class PdfContent {
+
+    private final ByteArrayOutputStream buffer;
+
+    public PdfContent(int initialCapacity) {
+        this.buffer = new ByteArrayOutputStream(initialCapacity);
+    }
+
+    public PdfContent fillColor(int rgb) {
+        return color(rgb).ascii("rg\n");
+    }
+
+    public PdfContent strokeColor(int rgb) {
+        return color(rgb).ascii("RG\n");
+    }
+
+    public PdfContent rect(float x, float y, float width, float height) {
+        return number(x).number(y).number(width).number(height).ascii("re f\n");
+    }
+
+    public PdfContent line(float x1, float y1, float x2, float y2, float lineWidth) {
+        return number(lineWidth).ascii("w ").number(x1).number(y1).ascii("m ").number(x2).number(y2).ascii("l S\n");
+    }
+
+    public PdfContent text(PdfFont font, float size, float x, float y, String text) {
+        ascii("BT /").ascii(font.getResourceName()).ascii(" ").number(size).ascii("Tf ")
+                .number(x).number(y).ascii("Td (");
+        for (byte b : PdfFont.encode(text)) {
+            if (b == '(' || b == ')' || b == '\\') {
+                buffer.write('\\');
+            }
+            buffer.write(b);
+        }
+        return ascii(") Tj ET\n");
+    }
+
+    public PdfContent textRight(PdfFont font, float size, float right, float y, String text) {
+        return text(font, size, right - font.width(text, size), y, text);
+    }
+
+    public PdfContent textCentered(PdfFont font, float size, float center, float y, String text) {
+        return text(font, size, center - font.width(text, size) / 2, y, text);
+    }
+
+    /**
+     * Appends a prepared fragment, e.g. the static part of a page template.
+     */
+    public PdfContent append(byte[] fragment) {
+        buffer.writeBytes(fragment);
+        return this;
+    }
+
+    public byte[] toByteArray() {
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Breaks {@code text} into lines no wider than {@code maxWidth}, at spaces
+     * where possible.
+     */
+    public static List<String> wrap(PdfFont font, float size, String text, float maxWidth) {
+        List<String> lines = new ArrayList<>(2);
+        String rest = text.strip();
+        while (!rest.isEmpty()) {
+            if (font.width(rest, size) <= maxWidth) {
+                lines.add(rest);
+                break;
+            }
+            int end = rest.length();
+            while (end > 1 && font.width(rest.substring(0, end), size) > maxWidth) {
+                end--;
+            }
+            int space = rest.lastIndexOf(' ', end);
+            int cut = space > 0 ? space : end;
+            lines.add(rest.substring(0, cut).strip());
+            rest = rest.substring(cut).strip();
+        }
+        return lines;
+    }
+
+    private PdfContent color(int rgb) {
+        return number(((rgb >> 16) & 0xFF) / 255f).number(((rgb >> 8) & 0xFF) / 255f).number((rgb & 0xFF) / 255f);
+    }
+
+    /**
+     * Writes a number with at most three decimals, followed by a space.
+     */
+    private PdfContent number(float value) {
+        long scaled = Math.round(value * 1000.0);
+        if (scaled < 0) {
+            buffer.write('-');
+            scaled = -scaled;
+        }
+        ascii(Long.toString(scaled / 1000));
+        int fraction = (int) (scaled % 1000);
+        if (fraction != 0) {
+            buffer.write('.');
+            int digits = 100;
+            while (fraction != 0) {
+                buffer.write('0' + fraction / digits);
+                fraction %= digits;
+                digits /= 10;
+            }
+        }
+        buffer.write(' ');
+        return this;
+    }
+
+    private PdfContent ascii(String text) {
+        buffer.writeBytes(text.getBytes(StandardCharsets.US_ASCII));
+        return this;
+    }
+}
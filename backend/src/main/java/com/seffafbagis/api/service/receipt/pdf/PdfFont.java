@@ -0,0 +1,169 @@
+package com.seffafbagis.api.service.receipt.pdf;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+
+/**
+ * The standard PDF fonts used by receipts. None of them is embedded, so a
+ * receipt stays a few kilobytes.
+ *
+ * Text is encoded with WinAnsiEncoding, with the six Latin-1 codes that
+ * Windows-1254 gives to Turkish letters (Ğ İ Ş ğ ı ş) remapped through a
+ * {@code /Differences} array. Glyph widths come from the Adobe core font
+ * metrics, indexed by that encoding; the tables are built once per JVM and
+ * drive all text measurement during layout.
+ */
+public enum PdfFont {
+    HELVETICA("F1", "Helvetica",
+            "278 278 355 556 556 889 667 191 333 333 389 584 278 333 278 278 556 556 556 556 556 556 556 556 556 "
+                    + "556 278 278 584 584 584 556 1015 667 667 722 722 667 611 778 722 278 500 667 556 833 722 "
+                    + "778 667 778 722 667 611 722 667 944 667 667 611 278 278 278 469 556 333 556 556 500 556 "
+                    + "556 278 556 556 222 222 500 222 833 556 556 556 556 333 500 278 556 500 722 500 500 500 "
+                    + "334 260 334 584",
+            "350 556 1000 222 222 333 333 556 1000 400 278 737 556 556 584 278 611"),
+    HELVETICA_BOLD("F2", "Helvetica-Bold",
+            "278 333 474 556 556 889 722 238 333 333 389 584 278 333 278 278 556 556 556 556 556 556 556 556 556 "
+                    + "556 333 333 584 584 584 611 975 722 722 722 722 667 611 778 722 278 556 722 611 833 722 "
+                    + "778 667 778 722 667 611 722 667 944 667 667 611 333 278 333 584 556 333 556 611 556 611 "
+                    + "556 333 611 611 278 278 556 278 889 611 611 611 611 389 556 333 611 556 778 556 556 500 "
+                    + "389 280 389 584",
+            "350 556 1000 278 278 500 500 556 1000 400 278 737 556 556 584 278 611"),
+    COURIER_BOLD("F3", "Courier-Bold", null, null);
+
+    /**
+     * Shared encoding object: WinAnsi with the Turkish letters of Windows-1254.
+     */
+    static final String ENCODING = "<< /Type /Encoding /BaseEncoding /WinAnsiEncoding /Differences "
+            + "[208 /Gbreve 221 /Idotaccent 222 /Scedilla 240 /gbreve 253 /dotlessi 254 /scedilla] >>";
+
+    private final String resourceName;
+    private final String baseFont;
+    private final int[] widths = new int[256];
+
+    PdfFont(String resourceName, String baseFont, String asciiWidths, String symbolWidths) {
+        this.resourceName = resourceName;
+        this.baseFont = baseFont;
+        if (asciiWidths == null) {
+            Arrays.fill(widths, 600);
+            return;
+        }
+        String[] ascii = asciiWidths.split(" ");
+        for (int i = 0; i < ascii.length; i++) {
+            widths[0x20 + i] = Integer.parseInt(ascii[i]);
+        }
+        for (char c = 0xC0; c <= 0xFF; c++) {
+            if (isLatinLetter(c)) {
+                widths[c] = widths[baseLetter(c)];
+            }
+        }
+        widths[0xC6] = 1000;
+        widths[0xE6] = 889;
+        widths[0xD0] = widths['G'];
+        widths[0xDD] = widths['I'];
+        widths[0xDE] = widths['S'];
+        widths[0xF0] = widths['g'];
+        widths[0xFE] = widths['s'];
+        String[] symbols = symbolWidths.split(" ");
+        for (int i = 0; i < Codes.SYMBOL_CODES.length; i++) {
+            widths[Codes.SYMBOL_CODES[i]] = Integer.parseInt(symbols[i]);
+        }
+    }
+
+    public String getResourceName() {
+        return resourceName;
+    }
+
+    /**
+     * The font dictionary, referring to the shared encoding object.
+     */
+    String dictionary(int encodingObject) {
+        return "<< /Type /Font /Subtype /Type1 /BaseFont /" + baseFont + " /Encoding " + encodingObject + " 0 R >>";
+    }
+
+    /**
+     * Width of {@code text} in points at {@code size}.
+     */
+    public float width(String text, float size) {
+        int units = 0;
+        for (int i = 0; i < text.length(); i++) {
+            units += widths[code(text.charAt(i)) & 0xFF];
+        }
+        return units * size / 1000f;
+    }
+
+    /**
+     * Encodes text for a PDF string; characters the fonts cannot show become
+     * {@code ?}.
+     */
+    public static byte[] encode(String text) {
+        byte[] bytes = new byte[text.length()];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = code(text.charAt(i));
+        }
+        return bytes;
+    }
+
+    private static byte code(char c) {
+        byte code = c < Codes.BY_CHAR.length ? Codes.BY_CHAR[c] : 0;
+        return code != 0 ? code : (byte) '?';
+    }
+
+    /**
+     * Latin-1 letters that keep their code: everything from À to ÿ except the
+     * six codes taken by Turkish letters, × and ÷, and ß, which is listed
+     * with the symbols.
+     */
+    private static boolean isLatinLetter(char c) {
+        return c != 0xD0 && c != 0xDD && c != 0xDE && c != 0xF0 && c != 0xFD && c != 0xFE
+                && c != 0xD7 && c != 0xF7 && c != 0xDF;
+    }
+
+    private static char baseLetter(char c) {
+        return switch (c) {
+            case 0xD8 -> 'O';
+            case 0xF8 -> 'o';
+            default -> {
+                char base = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD).charAt(0);
+                yield base < 0x80 ? base : 'o';
+            }
+        };
+    }
+
+    /**
+     * Encoding tables, kept out of the enum so the constants can use them
+     * while being constructed.
+     */
+    private static final class Codes {
+
+        /**
+         * Characters outside ASCII and Latin-1 letters, with their codes; the
+         * second width list of each font follows this order.
+         */
+        private static final char[] SYMBOLS = { '•', '–', '—', '‘', '’', '“', '”', '€', '…', '°', '·', '©', '«',
+                '»', '×', 'ı', 'ß' };
+        private static final int[] SYMBOL_CODES = { 0x95, 0x96, 0x97, 0x91, 0x92, 0x93, 0x94, 0x80, 0x85, 0xB0,
+                0xB7, 0xA9, 0xAB, 0xBB, 0xD7, 0xFD, 0xDF };
+
+        private static final byte[] BY_CHAR = new byte[0x20AD];
+
+        static {
+            for (char c = 0x20; c < 0x7F; c++) {
+                BY_CHAR[c] = (byte) c;
+            }
+            for (char c = 0xC0; c <= 0xFF; c++) {
+                if (isLatinLetter(c)) {
+                    BY_CHAR[c] = (byte) c;
+                }
+            }
+            for (int i = 0; i < SYMBOLS.length; i++) {
+                BY_CHAR[SYMBOLS[i]] = (byte) SYMBOL_CODES[i];
+            }
+            BY_CHAR[0xA0] = ' ';
+            BY_CHAR['Ğ'] = (byte) 0xD0;
+            BY_CHAR['İ'] = (byte) 0xDD;
+            BY_CHAR['Ş'] = (byte) 0xDE;
+            BY_CHAR['ğ'] = (byte) 0xF0;
+            BY_CHAR['ş'] = (byte) 0xFE;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.seffafbagis.api.service.receipt.pdf;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * Writes a PDF document front to back onto an output stream.
+ *
+ * Objects go out as soon as they are complete and only their byte offsets
+ * are kept for the cross-reference table, so memory does not grow with the
+ * document: each page is compressed and written when it is added, and the
+ * page tree, catalog and trailer follow in {@link #finish}. The header and
+ * the font objects are the same for every document and are serialized once
+ * per JVM.
+ *
+ * The underlying stream is flushed but never closed, so several documents
+ * can be written into one archive.
+ */
+public final class PdfStreamWriter {
+
+    private static final int CATALOG = 1;
+    private static final int PAGES = 2;
+    private static final int ENCODING = 3;
+    private static final int INFO = 4;
+    private static final int FIRST_FONT = 5;
+    private static final int FIRST_PAGE = FIRST_FONT + PdfFont.values().length;
+
+    /** A4 portrait in points. */
+    public static final float PAGE_WIDTH = 595;
+    public static final float PAGE_HEIGHT = 842;
+
+    private static final Prolog PROLOG = new Prolog();
+
+    private final OutputStream out;
+    private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+    private final byte[] deflateBuffer = new byte[8192];
+    private long[] offsets = new long[FIRST_PAGE + 16];
+    private final List<Integer> pages = new ArrayList<>();
+    private int nextObject = FIRST_PAGE;
+    private long position;
+
+    public PdfStreamWriter(OutputStream out) throws IOException {
+        this.out = out;
+        out.write(PROLOG.bytes);
+        System.arraycopy(PROLOG.offsets, 0, offsets, 0, PROLOG.offsets.length);
+        position = PROLOG.bytes.length;
+    }
+
+    /**
+     * Compresses and writes one page with the given content stream.
+     */
+    public void addPage(byte[] content) throws IOException {
+        int contents = nextObject++;
+        int page = nextObject++;
+
+        deflater.reset();
+        deflater.setInput(content);
+        deflater.finish();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(content.length / 3 + 64);
+        while (!deflater.finished()) {
+            compressed.write(deflateBuffer, 0, deflater.deflate(deflateBuffer));
+        }
+
+        begin(contents);
+        write("<< /Length " + compressed.size() + " /Filter /FlateDecode >>\nstream\n");
+        compressed.writeTo(out);
+        position += compressed.size();
+        write("\nendstream\nendobj\n");
+
+        begin(page);
+        write("<< /Type /Page /Parent " + PAGES + " 0 R /Contents " + contents + " 0 R >>\nendobj\n");
+        pages.add(page);
+    }
+
+    /**
+     * Writes the page tree, catalog, document information and trailer.
+     *
+     * @param title        document title
+     * @param creationDate PDF date string, e.g. {@code D:20250101120000+03'00'}
+     * @param id           16 bytes identifying the document; the same content should give the same id
+     * @return total number of bytes written
+     */
+    public long finish(String title, String creationDate, byte[] id) throws IOException {
+        deflater.end();
+
+        StringBuilder kids = new StringBuilder(pages.size() * 8);
+        for (int page : pages) {
+            kids.append(page).append(" 0 R ");
+        }
+        StringBuilder fonts = new StringBuilder();
+        for (PdfFont font : PdfFont.values()) {
+            fonts.append('/').append(font.getResourceName()).append(' ')
+                    .append(FIRST_FONT + font.ordinal()).append(" 0 R ");
+        }
+        begin(PAGES);
+        write("<< /Type /Pages /Kids [" + kids + "] /Count " + pages.size()
+                + " /MediaBox [0 0 " + (int) PAGE_WIDTH + " " + (int) PAGE_HEIGHT + "]"
+                + " /Resources << /Font << " + fonts + ">> >> >>\nendobj\n");
+
+        begin(CATALOG);
+        write("<< /Type /Catalog /Pages " + PAGES + " 0 R >>\nendobj\n");
+
+        begin(INFO);
+        write("<< /Title " + unicode(title) + " /Producer (Seffaf Bagis) /CreationDate (" + creationDate
+                + ") >>\nendobj\n");
+
+        long xref = position;
+        StringBuilder table = new StringBuilder(40 + nextObject * 20);
+        table.append("xref\n0 ").append(nextObject).append("\n0000000000 65535 f \n");
+        for (int object = 1; object < nextObject; object++) {
+            String offset = Long.toString(offsets[object]);
+            table.append("0".repeat(10 - offset.length())).append(offset).append(" 00000 n \n");
+        }
+        String hexId = hex(id);
+        table.append("trailer\n<< /Size ").append(nextObject)
+                .append(" /Root ").append(CATALOG).append(" 0 R /Info ").append(INFO).append(" 0 R")
+                .append(" /ID [<").append(hexId).append("> <").append(hexId).append(">] >>\n")
+                .append("startxref\n").append(xref).append("\n%%EOF\n");
+        write(table.toString());
+        out.flush();
+        return position;
+    }
+
+    private void begin(int object) throws IOException {
+        if (object >= offsets.length) {
+            offsets = Arrays.copyOf(offsets, Math.max(object + 1, offsets.length * 2));
+        }
+        offsets[object] = position;
+        write(object + " 0 obj\n");
+    }
+
+    private void write(String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        out.write(bytes);
+        position += bytes.length;
+    }
+
+    /**
+     * A text string in UTF-16 with byte order mark, as a hex string.
+     */
+    private static String unicode(String text) {
+        return "<FEFF" + hex(text.getBytes(StandardCharsets.UTF_16BE)) + ">";
+    }
+
+    private static String hex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString().toUpperCase();
+    }
+
+    /**
+     * Header, encoding and font objects, identical for every document.
+     */
+    private static final class Prolog {
+
+        private final byte[] bytes;
+        private final long[] offsets = new long[FIRST_PAGE];
+
+        private Prolog() {
+            ByteArrayOutputStream prolog = new ByteArrayOutputStream(1024);
+            // the binary comment marks the file as binary for transfer tools
+            prolog.writeBytes(new byte[] { '%', 'P', 'D', 'F', '-', '1', '.', '4', '\n',
+                    '%', (byte) 0xE2, (byte) 0xE3, (byte) 0xCF, (byte) 0xD3, '\n' });
+            offsets[ENCODING] = prolog.size();
+            prolog.writeBytes((ENCODING + " 0 obj\n" + PdfFont.ENCODING + "\nendobj\n")
+                    .getBytes(StandardCharsets.US_ASCII));
+            for (PdfFont font : PdfFont.values()) {
+                int object = FIRST_FONT + font.ordinal();
+                offsets[object] = prolog.size();
+                prolog.writeBytes((object + " 0 obj\n" + font.dictionary(ENCODING) + "\nendobj\n")
+                        .getBytes(StandardCharsets.US_ASCII));
+            }
+            this.bytes = prolog.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.seffafbagis.api.service.receipt.pdf;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Everything printed on one receipt, read in a single query so rendering
+ * needs no persistence context and can run after the request thread has
+ * returned.
+ */
+public final class ReceiptDocument {
+
+    private final long receiptId;
+    private final String receiptNumber;
+    private final String verificationKey;
+    private final OffsetDateTime issuedAt;
+    private final OffsetDateTime donatedAt;
+    private final UUID donorId;
+    private final String donorName;
+    private final String donorEmail;
+    private final String campaignTitle;
+    private final String organizationName;
+    private final BigDecimal amount;
+    private final String currency;
+    private final String paymentMethod;
+    private final String transactionId;
+    private final String status;
+
+    public ReceiptDocument(long receiptId, String receiptNumber, String verificationKey, OffsetDateTime issuedAt,
+            OffsetDateTime donatedAt, UUID donorId, String donorName, String donorEmail, String campaignTitle,
+            String organizationName, BigDecimal amount, String currency, String paymentMethod, String transactionId, String status) {
+        this.receiptId = receiptId;
+        this.receiptNumber = receiptNumber;
+        this.verificationKey = verificationKey;
+        this.issuedAt = issuedAt;
+        this.donatedAt = donatedAt;
+        this.donorId = donorId;
+        this.donorName = donorName;
+        this.donorEmail = donorEmail;
+        this.campaignTitle = campaignTitle;
+        this.organizationName = organizationName;
+        this.amount = amount;
+        this.currency = currency;
+        this.paymentMethod = paymentMethod;
+        this.transactionId = transactionId;
+        this.status = status;
+    }
+
+    public long getReceiptId() {
+        return receiptId;
+    }
+
+    public String getReceiptNumber() {
+        return receiptNumber;
+    }
+
+    /**
+     * Receipt number plus its random verification code, as accepted by the
+     * public verification endpoint.
+     */
+    public String getVerificationKey() {
+        return verificationKey;
+    }
+
+    public OffsetDateTime getIssuedAt() {
+        return issuedAt;
+    }
+
+    public OffsetDateTime getDonatedAt() {
+        return donatedAt;
+    }
+
+    /**
+     * Null for guest donations.
+     */
+    public UUID getDonorId() {
+        return donorId;
+    }
+
+    public String getDonorName() {
+        return donorName;
+    }
+
+    public String getDonorEmail() {
+        return donorEmail;
+    }
+
+    public String getCampaignTitle() {
+        return campaignTitle;
+    }
+
+    public String getOrganizationName() {
+        return organizationName;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    /**
+     * {@code PaymentMethod} name, or null if not recorded.
+     */
+    public String getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public String getTransactionId() {
+        return transactionId;
+    }
+
+    /**
+     * {@code DonationStatus} name.
+     */
+    public String getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,312 @@
+package com.seffafbagis.api.service.receipt.pdf;
+
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Lays out the donation receipt (see the receipt mockup) on one A4 page.
+ *
+ * Everything that is the same on every receipt — panels, headings, labels,
+ * the tax notice and the footer — is laid out once per JVM into a content
+ * fragment; a render only appends the donation-specific text and the barcode
+ * to it. Output is deterministic: the same {@link ReceiptDocument} always
+ * produces the same bytes, which is what lets rendered receipts be cached by
+ * {@link #contentKey}.
+ */
+@Component
+public class ReceiptPdfRenderer {
+
+    /**
+     * Bump whenever the layout changes so cached receipts are rendered again.
+     */
+    static final String TEMPLATE_VERSION = "2";
+
+    private static final Locale TURKISH = Locale.forLanguageTag("tr-TR");
+    private static final ZoneId ZONE = ZoneId.of("Europe/Istanbul");
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("d MMMM yyyy", TURKISH);
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm", TURKISH);
+    private static final DateTimeFormatter PDF_DATE = DateTimeFormatter.ofPattern("'D:'yyyyMMddHHmmss");
+
+    private static final float LEFT = 50;
+    private static final float RIGHT = PdfStreamWriter.PAGE_WIDTH - 50;
+    private static final float WIDTH = RIGHT - LEFT;
+    private static final float CENTER = PdfStreamWriter.PAGE_WIDTH / 2;
+    private static final float PANEL_WIDTH = 235;
+    private static final float RIGHT_PANEL = RIGHT - PANEL_WIDTH;
+    private static final float[] PANEL_ROWS = { 645, 627, 609, 591 };
+
+    private static final int PRIMARY = 0x667EEA;
+    private static final int TEXT = 0x333333;
+    private static final int MUTED = 0x666666;
+    private static final int LIGHT = 0x999999;
+    private static final int PANEL = 0xF8F9FA;
+    private static final int BORDER = 0xE0E0E0;
+    private static final int SUCCESS = 0x00B894;
+    private static final int WHITE = 0xFFFFFF;
+    private static final int NOTICE = 0xFFF3CD;
+    private static final int NOTICE_BAR = 0xFFC107;
+
+    private static final byte[] TEMPLATE = layoutTemplate();
+
+    /**
+     * Renders the receipt as a complete PDF onto {@code out}, which is left
+     * open.
+     *
+     * @return number of bytes written
+     */
+    public long render(ReceiptDocument receipt, OutputStream out) throws IOException {
+        PdfContent page = new PdfContent(TEMPLATE.length + 4096).append(TEMPLATE);
+        String amount = formatAmount(receipt.getAmount(), receipt.getCurrency());
+        OffsetDateTime donatedAt = receipt.getDonatedAt().atZoneSameInstant(ZONE).toOffsetDateTime();
+        OffsetDateTime issuedAt = receipt.getIssuedAt().atZoneSameInstant(ZONE).toOffsetDateTime();
+
+        page.fillColor(TEXT)
+                .textRight(PdfFont.COURIER_BOLD, 13, RIGHT, 772, receipt.getReceiptNumber());
+
+        float leftValue = LEFT + PANEL_WIDTH - 15;
+        panelValue(page, leftValue, PANEL_ROWS[0], 110, orDash(receipt.getDonorName()));
+        panelValue(page, leftValue, PANEL_ROWS[1], 150, orDash(receipt.getDonorEmail()));
+        panelValue(page, leftValue, PANEL_ROWS[2], 110, paymentMethodLabel(receipt.getPaymentMethod()));
+
+        float rightValue = RIGHT - 15;
+        panelValue(page, rightValue, PANEL_ROWS[0], 150, DATE.format(donatedAt));
+        panelValue(page, rightValue, PANEL_ROWS[1], 150, TIME.format(donatedAt));
+        panelValue(page, rightValue, PANEL_ROWS[2], 150, orDash(receipt.getTransactionId()));
+        page.fillColor(SUCCESS)
+                .textRight(PdfFont.HELVETICA_BOLD, 9, rightValue, PANEL_ROWS[3], statusLabel(receipt.getStatus()));
+
+        List<String> title = PdfContent.wrap(PdfFont.HELVETICA_BOLD, 12, orDash(receipt.getCampaignTitle()),
+                WIDTH - 30);
+        page.fillColor(TEXT)
+                .text(PdfFont.HELVETICA_BOLD, 12, LEFT + 15, 520, title.get(0));
+        if (title.size() > 1) {
+            page.text(PdfFont.HELVETICA_BOLD, 12, LEFT + 15, 505,
+                    fit(PdfFont.HELVETICA_BOLD, 12, String.join(" ", title.subList(1, title.size())), WIDTH - 30));
+        }
+        page.fillColor(MUTED)
+                .text(PdfFont.HELVETICA, 9, LEFT + 15, 488,
+                        fit(PdfFont.HELVETICA, 9, orDash(receipt.getOrganizationName()), WIDTH - 30))
+                .fillColor(SUCCESS)
+                .textRight(PdfFont.HELVETICA_BOLD, 14, RIGHT - 15, 461, amount)
+                .fillColor(WHITE)
+                .textRight(PdfFont.HELVETICA_BOLD, 20, RIGHT - 18, 406, amount);
+
+        String code = receipt.getVerificationKey();
+        float moduleWidth = Math.min(1.2f, (WIDTH - 60) / Code128.modules(code));
+        float barcodeWidth = Code128.modules(code) * moduleWidth;
+        page.fillColor(0x000000);
+        Code128.draw(page, code, CENTER - barcodeWidth / 2, 306, moduleWidth, 50);
+        page.fillColor(MUTED)
+                .textCentered(PdfFont.HELVETICA, 9, CENTER, 286, "Doğrulama Kodu: " + code)
+                .textCentered(PdfFont.HELVETICA, 8, CENTER, 40,
+                        "Bu makbuzun geçerliliğini seffafbagis.org/verify/" + code
+                                + " adresinden doğrulayabilirsiniz.")
+                .fillColor(LIGHT)
+                .textRight(PdfFont.HELVETICA, 7, RIGHT, 28, "Oluşturulma zamanı: " + DATE.format(issuedAt) + " "
+                        + TIME.format(issuedAt));
+
+        PdfStreamWriter writer = new PdfStreamWriter(out);
+        writer.addPage(page.toByteArray());
+        return writer.finish("Bağış Makbuzu " + receipt.getReceiptNumber(), pdfDate(receipt.getIssuedAt()),
+                Arrays.copyOf(digest(receipt), 16));
+    }
+
+    /**
+     * Hex digest of everything that ends up on the page, including the
+     * template version; equal keys mean byte-identical PDFs.
+     */
+    public String contentKey(ReceiptDocument receipt) {
+        return HexFormat.of().formatHex(digest(receipt));
+    }
+
+    private static byte[] digest(ReceiptDocument receipt) {
+        String fields = String.join("\u001F", TEMPLATE_VERSION,
+                Long.toString(receipt.getReceiptId()),
+                receipt.getReceiptNumber(),
+                receipt.getVerificationKey(),
+                receipt.getIssuedAt().toInstant().toString(),
+                receipt.getDonatedAt().toInstant().toString(),
+                Objects.toString(receipt.getDonorName(), ""),
+                Objects.toString(receipt.getDonorEmail(), ""),
+                Objects.toString(receipt.getCampaignTitle(), ""),
+                Objects.toString(receipt.getOrganizationName(), ""),
+                receipt.getAmount().toPlainString(),
+                Objects.toString(receipt.getCurrency(), ""),
+                Objects.toString(receipt.getPaymentMethod(), ""),
+                Objects.toString(receipt.getTransactionId(), ""),
+                Objects.toString(receipt.getStatus(), ""));
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(fields.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * PDF date string, e.g. {@code D:20250101120000+03'00'}.
+     */
+    private static String pdfDate(OffsetDateTime instant) {
+        OffsetDateTime local = instant.atZoneSameInstant(ZONE).toOffsetDateTime();
+        int minutes = local.getOffset().getTotalSeconds() / 60;
+        return PDF_DATE.format(local) + (minutes < 0 ? '-' : '+')
+                + String.format("%02d'%02d'", Math.abs(minutes) / 60, Math.abs(minutes) % 60);
+    }
+
+    private static void panelValue(PdfContent page, float right, float y, float maxWidth, String value) {
+        page.fillColor(TEXT)
+                .textRight(PdfFont.HELVETICA_BOLD, 9, right, y, fit(PdfFont.HELVETICA_BOLD, 9, value, maxWidth));
+    }
+
+    /**
+     * Shortens {@code text} with an ellipsis until it fits {@code maxWidth}.
+     */
+    static String fit(PdfFont font, float size, String text, float maxWidth) {
+        if (font.width(text, size) <= maxWidth) {
+            return text;
+        }
+        int end = text.length();
+        while (end > 0 && font.width(text.substring(0, end) + "…", size) > maxWidth) {
+            end--;
+        }
+        return text.substring(0, end).stripTrailing() + "…";
+    }
+
+    static String formatAmount(BigDecimal amount, String currency) {
+        DecimalFormat format = new DecimalFormat("#,##0.00", DecimalFormatSymbols.getInstance(TURKISH));
+        return format.format(amount) + " " + (currency != null ? currency : "TRY");
+    }
+
+    private static String paymentMethodLabel(String method) {
+        if (method == null) {
+            return "-";
+        }
+        return switch (method) {
+            case "CREDIT_CARD" -> "Kredi Kartı";
+            case "BANK_TRANSFER" -> "Havale/EFT";
+            case "MOBILE_PAYMENT" -> "Mobil Ödeme";
+            default -> method;
+        };
+    }
+
+    private static String statusLabel(String status) {
+        if (status == null) {
+            return "-";
+        }
+        return switch (status) {
+            case "COMPLETED" -> "Onaylandı";
+            case "PENDING" -> "Beklemede";
+            case "REFUNDED" -> "İade Edildi";
+            case "FAILED" -> "Başarısız";
+            default -> status;
+        };
+    }
+
+    private static String orDash(String value) {
+        return value == null || value.isBlank() ? "-" : value;
+    }
+
+    private static byte[] layoutTemplate() {
+        PdfContent page = new PdfContent(8192);
+
+        // header
+        page.fillColor(PRIMARY)
+                .text(PdfFont.HELVETICA_BOLD, 22, LEFT, 772, "Şeffaf Bağış")
+                .fillColor(MUTED)
+                .textRight(PdfFont.HELVETICA, 8, RIGHT, 790, "MAKBUZ NO")
+                .fillColor(TEXT)
+                .text(PdfFont.HELVETICA_BOLD, 20, LEFT, 730, "Bağış Makbuzu")
+                .fillColor(MUTED)
+                .text(PdfFont.HELVETICA, 10, LEFT, 713,
+                        "Şeffaf Bağış Platformu aracılığıyla yapılan bağışın resmi makbuzudur.")
+                .strokeColor(PRIMARY)
+                .line(LEFT, 700, RIGHT, 700, 2);
+
+        // donor and donation panels
+        String[][] labels = {
+                { "BAĞIŞÇI BİLGİLERİ", "Ad Soyad", "E-posta", "Ödeme Yöntemi" },
+                { "BAĞIŞ DETAYLARI", "Tarih", "Saat", "İşlem No", "Durum" }
+        };
+        float[] panels = { LEFT, RIGHT_PANEL };
+        for (int p = 0; p < panels.length; p++) {
+            page.fillColor(PANEL).rect(panels[p], 580, PANEL_WIDTH, 105)
+                    .fillColor(PRIMARY).rect(panels[p], 580, 3, 105)
+                    .text(PdfFont.HELVETICA_BOLD, 9, panels[p] + 15, 665, labels[p][0])
+                    .fillColor(MUTED);
+            for (int row = 1; row < labels[p].length; row++) {
+                page.text(PdfFont.HELVETICA, 9, panels[p] + 15, PANEL_ROWS[row - 1], labels[p][row]);
+            }
+        }
+
+        // campaign
+        page.fillColor(TEXT)
+                .text(PdfFont.HELVETICA_BOLD, 12, LEFT, 552, "Desteklenen Kampanya")
+                .fillColor(BORDER).rect(LEFT, 452, WIDTH, 88)
+                .fillColor(WHITE).rect(LEFT + 1, 453, WIDTH - 2, 86)
+                .strokeColor(BORDER).line(LEFT + 15, 480, RIGHT - 15, 480, 0.75f)
+                .fillColor(MUTED).text(PdfFont.HELVETICA, 9, LEFT + 15, 463, "Bağış Tutarı");
+
+        // total
+        page.fillColor(PRIMARY).rect(LEFT, 392, WIDTH, 44)
+                .fillColor(WHITE).text(PdfFont.HELVETICA_BOLD, 12, LEFT + 18, 409, "TOPLAM BAĞIŞ TUTARI");
+
+        // barcode panel
+        page.fillColor(PANEL).rect(LEFT, 268, WIDTH, 106);
+
+        // tax notice
+        page.fillColor(NOTICE).rect(LEFT, 178, WIDTH, 74)
+                .fillColor(NOTICE_BAR).rect(LEFT, 178, 4, 74)
+                .fillColor(TEXT)
+                .text(PdfFont.HELVETICA_BOLD, 10, LEFT + 16, 234, "Vergi İndirimi Hakkında Bilgilendirme");
+        float y = 218;
+        for (String line : PdfContent.wrap(PdfFont.HELVETICA, 8.5f,
+                "Bu makbuz, Gelir Vergisi Kanunu'nun 89. maddesi ve Kurumlar Vergisi Kanunu'nun 10. maddesi "
+                        + "kapsamında vergi indirimi için kullanılabilir. Bağışınızın vergi matrahınızdan "
+                        + "indirilebilmesi için bağış yapılan kuruluşun kamu yararına çalışan dernek veya vergi "
+                        + "muafiyeti tanınmış vakıf statüsünde olması gerekmektedir.",
+                WIDTH - 32)) {
+            page.text(PdfFont.HELVETICA, 8.5f, LEFT + 16, y, line);
+            y -= 11;
+        }
+
+        // footer
+        page.strokeColor(BORDER).line(LEFT, 160, RIGHT, 160, 0.75f)
+                .fillColor(TEXT)
+                .text(PdfFont.HELVETICA_BOLD, 9, LEFT, 143, "Platform Bilgileri")
+                .text(PdfFont.HELVETICA_BOLD, 9, RIGHT_PANEL, 143, "Önemli Notlar")
+                .fillColor(MUTED);
+        y = 130;
+        for (String line : new String[] { "Şeffaf Bağış Platformu", "www.seffafbagis.org", "destek@seffafbagis.org",
+                "0850 123 45 67" }) {
+            page.text(PdfFont.HELVETICA, 8, LEFT, y, line);
+            y -= 11;
+        }
+        y = 130;
+        for (String note : new String[] {
+                "• Bu makbuz elektronik ortamda oluşturulmuş olup yasal geçerliliğe sahiptir.",
+                "• Makbuzun doğruluğunu barkod ile kontrol edebilirsiniz.",
+                "• Vergi beyannamesi için bu makbuzu saklayınız.",
+                "• Sorularınız için destek ekibimizle iletişime geçebilirsiniz." }) {
+            for (String line : PdfContent.wrap(PdfFont.HELVETICA, 7.5f, note, PANEL_WIDTH)) {
+                page.text(PdfFont.HELVETICA, 7.5f, RIGHT_PANEL, y, line);
+                y -= 10;
+            }
+        }
+        return page.toByteArray();
+    }
+}
@@ -21,6 +21,7 @@ import com.seffafbagis.api.repository.CampaignRepository;
 import com.seffafbagis.api.repository.OrganizationRepository;
 import com.seffafbagis.api.repository.ReportRepository;
 import com.seffafbagis.api.repository.UserRepository;
+import com.seffafbagis.api.security.UserAuthCache;
 import com.seffafbagis.api.security.SecurityUtils;
 import com.seffafbagis.api.service.transparency.TransparencyScoreService;
 import com.seffafbagis.api.service.notification.NotificationService;
@@ -45,6 +46,7 @@ public class ReportService {
     private final OrganizationRepository organizationRepository;
     private final TransparencyScoreService transparencyScoreService;
     private final NotificationService notificationService;
+    private final UserAuthCache userAuthCache;
 
     // --- User Methods ---
 
@@ -295,6 +297,7 @@ public class ReportService {
                 User user = userRepository.findById(entityId).orElseThrow();
                 user.setStatus(UserStatus.SUSPENDED);
                 userRepository.save(user);
+                userAuthCache.evict(entityId);
             }
             case ORGANIZATION -> {
                 Organization org = organizationRepository.findById(entityId).orElseThrow();
@@ -321,6 +324,7 @@ public class ReportService {
         User user = userRepository.findById(userId).orElseThrow();
         user.setStatus(UserStatus.SUSPENDED); // Using SUSPENDED as BAN equivalent
         userRepository.save(user);
+        userAuthCache.evict(userId);
     }
 
     private void removeCampaign(UUID campaignId) {
@@ -1,53 +1,196 @@
 package com.seffafbagis.api.service.storage;
 
+import com.seffafbagis.api.util.FileUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
-import java.util.UUID;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Service for file storage operations.
+ *
+ * Content lives in a {@link StorageBackend}: the local filesystem by
+ * default, or S3 with {@code file.storage=s3}. Uploads are hashed while they
+ * are staged to a temporary file and stored under
+ * {@code <folder>/<first two hex digits>/<sha-256>.<ext>}, so the same
+ * document uploaded twice is stored once and its key doubles as a strong
+ * ETag. Reads go to the backend range by range and are never loaded whole.
  */
 @Service
 public class FileStorageService {
 
-    @Value("${file.upload-dir:uploads}")
-    private String uploadDir;
+    private static final Pattern HASHED_NAME = Pattern.compile("([0-9a-f]{64})(\\.[a-z0-9]+)?");
+    private static final Pattern EXTENSION = Pattern.compile("[a-z0-9]{1,10}");
 
-    @Value("${file.base-url:/api/v1/files}")
-    private String baseUrl;
+    private final StorageBackend backend;
+    private final Path stagingDir;
+    private final String baseUrl;
 
+    public FileStorageService(StorageBackend backend,
+            @Value("${file.upload-dir:uploads}") String uploadDir,
+            @Value("${file.base-url:/api/v1/files}") String baseUrl) {
+        this.backend = backend;
+        // keys cannot start with a dot, so staged files are never served
+        this.stagingDir = Paths.get(uploadDir, ".staging");
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * Stores an upload under the hash of its content.
+     *
+     * @return URL of the stored file
+     */
     public String storeFile(MultipartFile file, String subFolder) throws IOException {
-        String fileName = UUID.randomUUID() + "_" + file.getOriginalFilename();
-        Path targetLocation = Paths.get(uploadDir, subFolder);
+        return baseUrl + "/" + store(file, subFolder).getKey();
+    }
 
-        if (!Files.exists(targetLocation)) {
-            Files.createDirectories(targetLocation);
+    /**
+     * Stores an upload under the hash of its content. If the same content is
+     * already stored in {@code subFolder}, the existing file is returned and
+     * nothing is written.
+     */
+    public StoredFile store(MultipartFile file, String subFolder) throws IOException {
+        String folder = validKey(subFolder);
+        Path staged = createTempFile();
+        try {
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                Files.copy(in, staged, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String key = contentKey(folder, HexFormat.of().formatHex(digest.digest()),
+                    FileUtils.getFileExtension(file.getOriginalFilename()));
+            Optional<StoredFile> existing = backend.stat(key);
+            if (existing.isPresent()) {
+                return existing.get();
+            }
+            backend.put(key, staged, FileUtils.getMimeType(key));
+            return backend.stat(key).orElseThrow(() -> new NoSuchFileException(key));
+        } finally {
+            Files.deleteIfExists(staged);
         }
+    }
 
-        Path filePath = targetLocation.resolve(fileName);
-        Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+    /**
+     * Stores a file written by the caller to a file from
+     * {@link #createTempFile}, which is consumed.
+     */
+    public void store(Path tempFile, String key, String contentType) throws IOException {
+        backend.put(validKey(key), tempFile, contentType);
+    }
 
-        return baseUrl + "/" + subFolder + "/" + fileName;
+    /**
+     * Creates an empty local file to stage content in before storing it.
+     */
+    public Path createTempFile() throws IOException {
+        Files.createDirectories(stagingDir);
+        return Files.createTempFile(stagingDir, "upload-", ".tmp");
     }
 
-    public void deleteFile(String fileUrl) throws IOException {
-        String relativePath = fileUrl.replace(baseUrl + "/", "");
-        Path filePath = Paths.get(uploadDir, relativePath);
+    /**
+     * Metadata of the file under {@code key}, if it exists.
+     *
+     * @throws IllegalArgumentException if the key is not a valid storage key
+     */
+    public Optional<StoredFile> findFile(String key) throws IOException {
+        return backend.stat(validKey(key));
+    }
+
+    /**
+     * Writes {@code length} bytes of {@code file} starting at {@code offset}
+     * onto {@code out}, which is left open.
+     */
+    public void transfer(StoredFile file, long offset, long length, OutputStream out) throws IOException {
+        backend.read(file.getKey(), offset, length, out);
+    }
 
-        if (Files.exists(filePath)) {
-            Files.delete(filePath);
+    /**
+     * Deletes a stored file. Content-addressed files are kept: uploads with
+     * the same content share one file and nothing counts its references, so
+     * deleting it for one record would break every other record pointing at
+     * it. Only files stored under other keys are removed.
+     */
+    public void deleteFile(String fileUrl) throws IOException {
+        String key = validKey(fileUrl.replace(baseUrl + "/", ""));
+        if (contentHash(key) != null) {
+            return;
         }
+        backend.delete(key);
     }
 
+    /**
+     * Reads a whole file into memory.
+     *
+     * @deprecated loads the file on the heap; use {@link #findFile} and
+     *             {@link #transfer} to stream it instead
+     */
+    @Deprecated
     public byte[] loadFile(String fileName, String subFolder) throws IOException {
-        Path filePath = Paths.get(uploadDir, subFolder, fileName);
-        return Files.readAllBytes(filePath);
+        StoredFile file = findFile(subFolder + "/" + fileName)
+                .orElseThrow(() -> new NoSuchFileException(subFolder + "/" + fileName));
+        ByteArrayOutputStream content =
+                new ByteArrayOutputStream((int) Math.min(file.getSize(), Integer.MAX_VALUE));
+        transfer(file, 0, file.getSize(), content);
+        return content.toByteArray();
+    }
+
+    /**
+     * Key of content-addressed content in {@code folder}; the extension is
+     * dropped unless it is short and alphanumeric.
+     */
+    public static String contentKey(String folder, String sha256, String extension) {
+        String ext = extension != null ? extension.toLowerCase() : "";
+        return folder + "/" + sha256.substring(0, 2) + "/" + sha256
+                + (EXTENSION.matcher(ext).matches() ? "." + ext : "");
+    }
+
+    /**
+     * The SHA-256 a content-addressed key was named after, or null for other
+     * keys.
+     */
+    static String contentHash(String key) {
+        String name = key.substring(key.lastIndexOf('/') + 1);
+        Matcher matcher = HASHED_NAME.matcher(name);
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    /**
+     * Checks that a key is a relative path whose segments are non-empty and
+     * do not start with a dot, which rules out {@code ..} and staged files.
+     */
+    static String validKey(String key) {
+        if (key == null || key.isEmpty() || key.startsWith("/") || key.endsWith("/")
+                || key.indexOf('\\') >= 0) {
+            throw new IllegalArgumentException("Invalid storage key: " + key);
+        }
+        for (String segment : key.split("/")) {
+            if (segment.isEmpty() || segment.startsWith(".") || segment.chars().anyMatch(c -> c < 0x20)) {
+                throw new IllegalArgumentException("Invalid storage key: " + key);
+            }
+        }
+        return key;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
@@ -0,0 +1,112 @@
+package com.seffafbagis.api.service.storage;
+
+import com.seffafbagis.api.util.FileUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Optional;
+
+/**
+ * Keeps files under {@code file.upload-dir} on the local filesystem.
+ *
+ * Reads go through {@link FileChannel#transferTo}, so ranges of large files
+ * are copied by the kernel where the target allows it and never held on the
+ * heap.
+ */
+@Component
+@ConditionalOnProperty(name = "file.storage", havingValue = "local", matchIfMissing = true)
+public class LocalStorageBackend implements StorageBackend {
+
+    private final Path root;
+
+    public LocalStorageBackend(@Value("${file.upload-dir:uploads}") String uploadDir) {
+        this.root = Paths.get(uploadDir).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public Optional<StoredFile> stat(String key) throws IOException {
+        Path path = resolve(key);
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+        if (!attributes.isRegularFile()) {
+            return Optional.empty();
+        }
+        String hash = FileStorageService.contentHash(key);
+        String etag = hash != null
+                ? "\"" + hash + "\""
+                : "W/\"" + Long.toHexString(attributes.size()) + "-"
+                        + Long.toHexString(attributes.lastModifiedTime().toMillis()) + "\"";
+        return Optional.of(new StoredFile(key, attributes.size(), FileUtils.getMimeType(key), etag,
+                attributes.lastModifiedTime().toInstant()));
+    }
+
+    @Override
+    public void put(String key, Path source, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            // source on another filesystem: copy next to the target, then rename
+            Path staged = Files.createTempFile(target.getParent(), ".", ".tmp");
+            try {
+                Files.copy(source, staged, StandardCopyOption.REPLACE_EXISTING);
+                Files.move(staged, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(staged);
+                Files.deleteIfExists(source);
+            }
+        }
+    }
+
+    @Override
+    public void read(String key, long offset, long length, OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(resolve(key), StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = offset;
+            long end = offset + length;
+            while (position < end) {
+                long transferred = channel.transferTo(position, end - position, target);
+                if (transferred <= 0 && position >= channel.size()) {
+                    throw new EOFException("File " + key + " ended at " + position + " of " + end);
+                }
+                position += transferred;
+            }
+        }
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        return Files.deleteIfExists(resolve(key));
+    }
+
+    /**
+     * Resolves a key against the root, refusing anything outside it.
+     */
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new IllegalArgumentException("Invalid storage key: " + key);
+        }
+        return path;
+    }
+}
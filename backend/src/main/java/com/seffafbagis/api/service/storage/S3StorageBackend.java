@@ -0,0 +1,103 @@
+package com.seffafbagis.api.service.storage;
+
+import com.seffafbagis.api.util.FileUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Keeps files in an S3 bucket, or in any S3-compatible store such as MinIO
+ * when {@code file.s3.endpoint} points at one.
+ *
+ * Ranges are fetched with a ranged {@code GetObject} and streamed to the
+ * caller, so neither the object nor the range is buffered in full.
+ */
+@Component
+@ConditionalOnProperty(name = "file.storage", havingValue = "s3")
+public class S3StorageBackend implements StorageBackend {
+
+    private final S3Client s3Client;
+    private final String bucket;
+
+    public S3StorageBackend(S3Client s3Client, @Value("${file.s3.bucket}") String bucket) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+    }
+
+    @Override
+    public Optional<StoredFile> stat(String key) throws IOException {
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw new IOException("Could not read metadata of " + key, e);
+        }
+        String contentType = head.contentType() != null ? head.contentType() : FileUtils.getMimeType(key);
+        return Optional.of(new StoredFile(key, head.contentLength(), contentType, head.eTag(), head.lastModified()));
+    }
+
+    @Override
+    public void put(String key, Path source, String contentType) throws IOException {
+        try {
+            s3Client.putObject(PutObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .contentType(contentType)
+                    .contentLength(Files.size(source))
+                    .build(), RequestBody.fromFile(source));
+        } catch (S3Exception e) {
+            throw new IOException("Could not store " + key, e);
+        } finally {
+            Files.deleteIfExists(source);
+        }
+    }
+
+    @Override
+    public void read(String key, long offset, long length, OutputStream out) throws IOException {
+        if (length == 0) {
+            return;
+        }
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .range("bytes=" + offset + "-" + (offset + length - 1))
+                .build();
+        try (ResponseInputStream<GetObjectResponse> in = s3Client.getObject(request)) {
+            in.transferTo(out);
+        } catch (S3Exception e) {
+            throw new IOException("Could not read " + key, e);
+        }
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        if (stat(key).isEmpty()) {
+            return false;
+        }
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (S3Exception e) {
+            throw new IOException("Could not delete " + key, e);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,38 @@
+package com.seffafbagis.api.service.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Where {@link FileStorageService} keeps file content. Keys are relative,
+ * slash-separated paths that have already been validated.
+ */
+public interface StorageBackend {
+
+    /**
+     * Metadata of the file under {@code key}, if it exists.
+     */
+    Optional<StoredFile> stat(String key) throws IOException;
+
+    /**
+     * Stores the content of a local file under {@code key}, replacing any
+     * existing file. The source file is consumed: it is moved or deleted.
+     * Readers never see a partially written file.
+     */
+    void put(String key, Path source, String contentType) throws IOException;
+
+    /**
+     * Writes {@code length} bytes of the file under {@code key}, starting at
+     * {@code offset}, onto {@code out}, which is left open.
+     */
+    void read(String key, long offset, long length, OutputStream out) throws IOException;
+
+    /**
+     * Deletes the file under {@code key}.
+     *
+     * @return whether a file was deleted
+     */
+    boolean delete(String key) throws IOException;
+}
@@ -0,0 +1,51 @@
+package com.seffafbagis.api.service.storage;
+
+import java.time.Instant;
+
+/**
+ * Metadata of a stored file, enough to answer conditional and range
+ * requests without reading the content.
+ */
+public final class StoredFile {
+
+    private final String key;
+    private final long size;
+    private final String contentType;
+    private final String etag;
+    private final Instant lastModified;
+
+    public StoredFile(String key, long size, String contentType, String etag, Instant lastModified) {
+        this.key = key;
+        this.size = size;
+        this.contentType = contentType;
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Path of the file relative to the storage root, e.g.
+     * {@code evidence/3f/3f2a...9c.pdf}.
+     */
+    public String getKey() {
+        return key;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Quoted entity tag; strong for content-addressed files, weak otherwise.
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    public Instant getLastModified() {
+        return lastModified;
+    }
+}
@@ -0,0 +1,131 @@
+package com.seffafbagis.api.service.system;
+
+import com.seffafbagis.api.config.SchedulerProperties;
+import com.seffafbagis.api.enums.ExpiringResource;
+import com.seffafbagis.api.event.ResourcesExpiredEvent;
+import com.seffafbagis.api.service.outbox.OutboxService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Expires pending rows whose deadline has passed, one chunk at a time.
+ *
+ * Each chunk is a single {@code UPDATE ... RETURNING} statement over at most
+ * {@code chunkSize} rows, picked in deadline order with
+ * {@code FOR UPDATE SKIP LOCKED} so a row being completed concurrently is left
+ * for the next run. The chunk commits together with one
+ * {@link ResourcesExpiredEvent} in the outbox, which carries the expired ids
+ * and their owners to the notification side. Only the ids of the chunk in
+ * flight are held in memory, however large the backlog; a run stops after
+ * {@code maxChunksPerRun} chunks and the rest waits for the next run.
+ *
+ * Every run is recorded as {@code expiry.sweep} and the expired rows are
+ * counted as {@code expiry.sweep.expired}, both tagged by resource.
+ */
+@Service
+@Slf4j
+public class ExpirySweeper {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxService outboxService;
+    private final SchedulerProperties schedulerProperties;
+    private final MeterRegistry meterRegistry;
+
+    public ExpirySweeper(JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            OutboxService outboxService,
+            SchedulerProperties schedulerProperties,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.outboxService = outboxService;
+        this.schedulerProperties = schedulerProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Expires the pending rows of {@code resource} whose deadline is before
+     * {@code cutoff}.
+     *
+     * @return number of rows expired in this run
+     */
+    public long sweep(ExpiringResource resource, OffsetDateTime cutoff) {
+        SchedulerProperties.ExpiryProperties props = schedulerProperties.getExpiry();
+        String sql = sweepSql(resource);
+        Timer timer = Timer.builder("expiry.sweep")
+                .description("Duration of one expiry sweep")
+                .tag("resource", resource.name())
+                .register(meterRegistry);
+        Counter expiredCounter = Counter.builder("expiry.sweep.expired")
+                .description("Rows expired by the expiry sweeper")
+                .tag("resource", resource.name())
+                .register(meterRegistry);
+
+        long start = System.nanoTime();
+        long total = 0;
+        int chunks = 0;
+        int expired;
+        do {
+            expired = expireChunk(resource, sql, cutoff, props.getChunkSize());
+            total += expired;
+            chunks++;
+        } while (expired >= props.getChunkSize() && chunks < props.getMaxChunksPerRun());
+        long elapsedNanos = System.nanoTime() - start;
+
+        timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        expiredCounter.increment(total);
+        if (expired >= props.getChunkSize()) {
+            log.warn("Expiry sweep of {} stopped after {} chunks with rows left", resource, chunks);
+        }
+        log.info("Expiry sweep of {} expired {} rows in {} chunks, {} ms",
+                resource, total, chunks, elapsedNanos / 1_000_000);
+        return total;
+    }
+
+    private int expireChunk(ExpiringResource resource, String sql, OffsetDateTime cutoff, int chunkSize) {
+        Integer expired = transactionTemplate.execute(status -> {
+            List<UUID> ids = new ArrayList<>(chunkSize);
+            Set<UUID> owners = new LinkedHashSet<>();
+            jdbcTemplate.query(sql, rs -> {
+                ids.add(rs.getObject("id", UUID.class));
+                UUID owner = rs.getObject("owner_id", UUID.class);
+                if (owner != null) {
+                    owners.add(owner);
+                }
+            }, resource.getExpiredStatus(), resource.getPendingStatus(), cutoff, chunkSize);
+            if (!ids.isEmpty()) {
+                outboxService.enqueue(new ResourcesExpiredEvent(null, resource, ids, List.copyOf(owners)));
+            }
+            return ids.size();
+        });
+        return expired != null ? expired : 0;
+    }
+
+    /**
+     * One chunk: claims up to {@code LIMIT} due rows in deadline order,
+     * skipping rows locked by another transaction, and expires them.
+     */
+    static String sweepSql(ExpiringResource resource) {
+        String table = resource.getTableName();
+        String deadline = resource.getDeadlineColumn();
+        return "UPDATE " + table + " SET status = ?, " + resource.getExtraAssignments() + "updated_at = now() "
+                + "WHERE id IN (SELECT id FROM " + table + " WHERE status = ? AND " + deadline + " < ? "
+                + "ORDER BY " + deadline + " LIMIT ? FOR UPDATE SKIP LOCKED) "
+                + "RETURNING id, " + resource.getOwnerColumn() + " AS owner_id";
+    }
+}
@@ -0,0 +1,152 @@
+package com.seffafbagis.api.service.system;
+
+import com.seffafbagis.api.enums.PartitionedTable;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Maintains the monthly partitions of the log tables and runs retention.
+ *
+ * Partitions cover UTC calendar months and are named {@code <table>_pYYYYMM}
+ * by the {@code create_monthly_partition} SQL function (V37). Retention
+ * detaches and drops every partition whose month ended before the cutoff, so
+ * expired data is removed in constant time without table bloat; rows are
+ * kept up to one month longer than the configured retention. The DEFAULT
+ * partition, normally empty, is purged with a plain DELETE.
+ *
+ * When a table is not partitioned (H2 in tests, or a database that has not
+ * run V37 yet) the caller's row-by-row delete is used instead. Every run is
+ * recorded as {@code retention.purge}, tagged by table and mode.
+ */
+@Service
+@Slf4j
+public class LogPartitionService {
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("^([a-z_]+)_p(\\d{6})$");
+    private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String IS_PARTITIONED_SQL = "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table pt "
+            + "JOIN pg_class c ON c.oid = pt.partrelid WHERE c.relname = ? AND pg_table_is_visible(c.oid))";
+
+    private static final String LIST_PARTITIONS_SQL = "SELECT c.relname FROM pg_inherits i "
+            + "JOIN pg_class c ON c.oid = i.inhrelid "
+            + "JOIN pg_class p ON p.oid = i.inhparent "
+            + "WHERE p.relname = ? AND pg_table_is_visible(p.oid) ORDER BY c.relname";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<PartitionedTable, Boolean> partitioned = new ConcurrentHashMap<>();
+
+    public LogPartitionService(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Removes rows created before {@code cutoff}: by dropping expired
+     * partitions when the table is partitioned, otherwise with
+     * {@code fallbackDelete}.
+     *
+     * @return number of rows removed (estimated from table statistics for dropped partitions)
+     */
+    public long purgeBefore(PartitionedTable table, OffsetDateTime cutoff, LongSupplier fallbackDelete) {
+        if (!isPartitioned(table)) {
+            return timed(table.getTableName(), "delete", fallbackDelete);
+        }
+        return timed(table.getTableName(), "partition", () -> dropExpiredPartitions(table, cutoff));
+    }
+
+    /**
+     * Creates the partitions for the current month and the next
+     * {@code monthsAhead} months. Existing partitions are left untouched.
+     *
+     * @return number of months covered, or 0 if the table is not partitioned
+     */
+    public int ensurePartitions(PartitionedTable table, int monthsAhead) {
+        if (!isPartitioned(table)) {
+            return 0;
+        }
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        Integer created = jdbcTemplate.queryForObject("SELECT create_monthly_partitions(?, ?, ?)", Integer.class,
+                table.getTableName(), now, now.plusMonths(monthsAhead));
+        return created != null ? created : 0;
+    }
+
+    /**
+     * Runs a purge and records its duration as {@code retention.purge}.
+     */
+    public long timed(String table, String mode, LongSupplier purge) {
+        Timer timer = Timer.builder("retention.purge")
+                .description("Duration of one retention run")
+                .tag("table", table)
+                .tag("mode", mode)
+                .register(meterRegistry);
+        long start = System.nanoTime();
+        long removed = purge.getAsLong();
+        long elapsedNanos = System.nanoTime() - start;
+        timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        log.info("Retention on {} ({}) removed {} rows in {} ms", table, mode, removed, elapsedNanos / 1_000_000);
+        return removed;
+    }
+
+    boolean isPartitioned(PartitionedTable table) {
+        return partitioned.computeIfAbsent(table, key -> {
+            try {
+                return Boolean.TRUE.equals(
+                        jdbcTemplate.queryForObject(IS_PARTITIONED_SQL, Boolean.class, key.getTableName()));
+            } catch (DataAccessException e) {
+                // Not PostgreSQL (e.g. H2 in tests)
+                log.debug("Partition catalog not available for {}: {}", key.getTableName(), e.getMessage());
+                return false;
+            }
+        });
+    }
+
+    private long dropExpiredPartitions(PartitionedTable table, OffsetDateTime cutoff) {
+        String parent = table.getTableName();
+        YearMonth cutoffMonth = YearMonth.from(cutoff.withOffsetSameInstant(ZoneOffset.UTC));
+        long removed = 0;
+
+        List<String> partitions = jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class, parent);
+        for (String partition : partitions) {
+            Matcher matcher = PARTITION_NAME.matcher(partition);
+            if (!matcher.matches() || !matcher.group(1).equals(parent)) {
+                continue;
+            }
+            YearMonth month = YearMonth.parse(matcher.group(2), PARTITION_MONTH);
+            // Only months that ended before the cutoff are entirely expired
+            if (!month.isBefore(cutoffMonth)) {
+                continue;
+            }
+            removed += estimateRows(partition);
+            jdbcTemplate.execute("ALTER TABLE " + parent + " DETACH PARTITION " + partition);
+            jdbcTemplate.execute("DROP TABLE " + partition);
+            log.info("Dropped partition {} of {}", partition, parent);
+        }
+
+        removed += jdbcTemplate.update("DELETE FROM " + parent + "_default WHERE created_at < ?", cutoff);
+        return removed;
+    }
+
+    private long estimateRows(String partition) {
+        Long estimate = jdbcTemplate.queryForObject(
+                "SELECT GREATEST(reltuples, 0)::bigint FROM pg_class WHERE relname = ?", Long.class, partition);
+        return estimate != null ? estimate : 0;
+    }
+}
@@ -0,0 +1,90 @@
+package com.seffafbagis.api.service.transparency;
+
+import java.math.BigDecimal;
+
+/**
+ * An organization's transparency score after folding its history up to
+ * {@link #getEventVersion()}. Immutable; {@link #next} returns the state after
+ * one more event.
+ */
+public final class ScoreState {
+
+    /**
+     * State before the first event, matching a freshly created score.
+     */
+    public static final ScoreState INITIAL = new ScoreState(0L, new BigDecimal("50.00"), 0, 0, 0, 0, 0);
+
+    private final long eventVersion;
+    private final BigDecimal score;
+    private final int completedCampaigns;
+    private final int approvedEvidences;
+    private final int rejectedEvidences;
+    private final int onTimeReports;
+    private final int lateReports;
+
+    public ScoreState(long eventVersion, BigDecimal score, int completedCampaigns, int approvedEvidences,
+            int rejectedEvidences, int onTimeReports, int lateReports) {
+        this.eventVersion = eventVersion;
+        this.score = score;
+        this.completedCampaigns = completedCampaigns;
+        this.approvedEvidences = approvedEvidences;
+        this.rejectedEvidences = rejectedEvidences;
+        this.onTimeReports = onTimeReports;
+        this.lateReports = lateReports;
+    }
+
+    /**
+     * State after the event at {@code version}, which moved the score to
+     * {@code newScore}; the counters follow the event's reason.
+     */
+    public ScoreState next(long version, String reason, BigDecimal newScore) {
+        int completed = completedCampaigns;
+        int approved = approvedEvidences;
+        int rejected = rejectedEvidences;
+        int onTime = onTimeReports;
+        int late = lateReports;
+        switch (reason) {
+            case "CAMPAIGN_COMPLETED" -> completed++;
+            case "EVIDENCE_APPROVED_ON_TIME" -> {
+                approved++;
+                onTime++;
+            }
+            case "EVIDENCE_APPROVED_LATE", "EVIDENCE_APPROVED_AFTER_DEADLINE" -> {
+                approved++;
+                late++;
+            }
+            case "EVIDENCE_REJECTED" -> rejected++;
+            default -> {
+            }
+        }
+        return new ScoreState(version, newScore, completed, approved, rejected, onTime, late);
+    }
+
+    public long getEventVersion() {
+        return eventVersion;
+    }
+
+    public BigDecimal getScore() {
+        return score;
+    }
+
+    public int getCompletedCampaigns() {
+        return completedCampaigns;
+    }
+
+    public int getApprovedEvidences() {
+        return approvedEvidences;
+    }
+
+    public int getRejectedEvidences() {
+        return rejectedEvidences;
+    }
+
+    public int getOnTimeReports() {
+        return onTimeReports;
+    }
+
+    public int getLateReports() {
+        return lateReports;
+    }
+}
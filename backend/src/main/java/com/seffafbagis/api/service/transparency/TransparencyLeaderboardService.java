@@ -0,0 +1,108 @@
+package com.seffafbagis.api.service.transparency;
+
+import com.seffafbagis.api.config.SchedulerProperties;
+import com.seffafbagis.api.dto.response.transparency.TransparencyLeaderboardResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Global transparency leaderboard read from the
+ * {@code transparency_leaderboard} materialized view.
+ *
+ * The view holds the dense rank and a unique position of every organization,
+ * with its name and logo denormalized, so a page is a range scan on position
+ * and an organization's rank is a primary key lookup. Score changes mark the
+ * view stale; {@link #refreshIfStale()} rebuilds it concurrently, so readers
+ * keep seeing the previous ranking while it runs. The view is also rebuilt
+ * once it is older than {@code maxAgeMinutes}, which picks up organization
+ * name and logo edits.
+ */
+@Service
+@Slf4j
+public class TransparencyLeaderboardService {
+
+    static final String PAGE_SQL = "SELECT organization_id, organization_name, logo_url, current_score, "
+            + "completed_campaigns, rank FROM transparency_leaderboard WHERE position > ? AND position <= ? "
+            + "ORDER BY position";
+
+    static final String ORGANIZATION_SQL = "SELECT organization_id, organization_name, logo_url, current_score, "
+            + "completed_campaigns, rank FROM transparency_leaderboard WHERE organization_id = ?";
+
+    static final String REFRESH_SQL = "REFRESH MATERIALIZED VIEW CONCURRENTLY transparency_leaderboard";
+
+    private static final RowMapper<TransparencyLeaderboardResponse> ROW_MAPPER = (rs, rowNum) ->
+            TransparencyLeaderboardResponse.builder()
+                    .rank(rs.getInt("rank"))
+                    .organizationId(rs.getObject("organization_id", UUID.class))
+                    .organizationName(rs.getString("organization_name"))
+                    .logoUrl(rs.getString("logo_url"))
+                    .currentScore(rs.getBigDecimal("current_score"))
+                    .completedCampaigns(rs.getInt("completed_campaigns"))
+                    .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SchedulerProperties schedulerProperties;
+    private final Timer refreshTimer;
+    private final AtomicBoolean stale = new AtomicBoolean();
+    private volatile long refreshedAt = System.nanoTime();
+
+    public TransparencyLeaderboardService(JdbcTemplate jdbcTemplate,
+            SchedulerProperties schedulerProperties,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.schedulerProperties = schedulerProperties;
+        this.refreshTimer = Timer.builder("transparency.leaderboard.refresh")
+                .description("Time to rebuild the transparency leaderboard")
+                .register(meterRegistry);
+    }
+
+    public List<TransparencyLeaderboardResponse> getPage(Pageable pageable) {
+        long from = pageable.getOffset();
+        return jdbcTemplate.query(PAGE_SQL, ROW_MAPPER, from, from + pageable.getPageSize());
+    }
+
+    public Optional<TransparencyLeaderboardResponse> getEntry(UUID organizationId) {
+        return jdbcTemplate.query(ORGANIZATION_SQL, ROW_MAPPER, organizationId).stream().findFirst();
+    }
+
+    /**
+     * Marks the ranking stale after a committed score change.
+     */
+    public void markStale() {
+        stale.set(true);
+    }
+
+    /**
+     * Rebuilds the view if a score changed since the last rebuild or the view
+     * is older than the configured maximum age.
+     *
+     * @return whether the view was rebuilt
+     */
+    public boolean refreshIfStale() {
+        Duration maxAge = Duration.ofMinutes(schedulerProperties.getTransparencyLeaderboard().getMaxAgeMinutes());
+        boolean expired = System.nanoTime() - refreshedAt >= maxAge.toNanos();
+        // cleared before the rebuild so a change committed while it runs is not lost
+        if (!stale.getAndSet(false) && !expired) {
+            return false;
+        }
+        try {
+            refreshTimer.record(() -> jdbcTemplate.execute(REFRESH_SQL));
+        } catch (RuntimeException e) {
+            stale.set(true);
+            throw e;
+        }
+        refreshedAt = System.nanoTime();
+        return true;
+    }
+}
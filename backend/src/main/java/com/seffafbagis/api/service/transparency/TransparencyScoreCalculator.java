@@ -8,13 +8,20 @@ import java.math.BigDecimal;
 @Component
 public class TransparencyScoreCalculator {
 
+    /**
+     * Version of the scoring rules below. Bump it with any rule change; scores
+     * and snapshots computed with another version are replayed from the event
+     * log on the next startup.
+     */
+    public static final int RULES_VERSION = 1;
+
     public BigDecimal calculateChange(String reason) {
         return switch (reason) {
             case "EVIDENCE_APPROVED_ON_TIME" -> new BigDecimal("5.00");
             case "EVIDENCE_APPROVED_LATE" -> new BigDecimal("3.00");
             case "EVIDENCE_APPROVED_AFTER_DEADLINE" -> new BigDecimal("2.00");
             case "CAMPAIGN_COMPLETED" -> new BigDecimal("3.00");
-            case "MONTHLY_CONSISTENCY_BONUS" -> new BigDecimal("1.00");
+            case "MONTHLY_CONSISTENCY_BONUS", "CONSISTENCY_BONUS" -> new BigDecimal("1.00");
             case "EVIDENCE_REJECTED" -> new BigDecimal("-5.00");
             case "EVIDENCE_DEADLINE_MISSED" -> new BigDecimal("-10.00");
             case "EVIDENCE_LATE_UPLOAD" -> new BigDecimal("-3.00");
@@ -39,6 +46,21 @@ public class TransparencyScoreCalculator {
         return newScore;
     }
 
+    /**
+     * Applies one history event to a score. An initial score resets the score;
+     * a manual adjustment is an administrator's decision rather than a rule,
+     * so it keeps the change that was recorded with it.
+     */
+    public BigDecimal applyEvent(BigDecimal currentScore, String reason, BigDecimal recordedChange) {
+        if ("INITIAL_SCORE".equals(reason)) {
+            return calculateNewScore(BigDecimal.ZERO, calculateChange(reason));
+        }
+        if ("MANUAL_ADJUSTMENT".equals(reason)) {
+            return calculateNewScore(currentScore, recordedChange != null ? recordedChange : BigDecimal.ZERO);
+        }
+        return calculateNewScore(currentScore, calculateChange(reason));
+    }
+
     public String getScoreLevel(BigDecimal score) {
         if (score.compareTo(new BigDecimal("80.00")) >= 0) {
             return "Çok Yüksek";
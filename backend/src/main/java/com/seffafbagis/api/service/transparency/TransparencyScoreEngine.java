@@ -0,0 +1,305 @@
+package com.seffafbagis.api.service.transparency;
+
+import com.seffafbagis.api.config.SchedulerProperties;
+import com.seffafbagis.api.dto.response.transparency.ScoreReplayResponse;
+import com.seffafbagis.api.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Computes transparency scores as a fold over {@code transparency_score_history}.
+ *
+ * The history is the append-only event log of each organization's score and
+ * {@code transparency_scores} is its projection. A replay starts from the
+ * latest snapshot taken with the current {@link TransparencyScoreCalculator#RULES_VERSION},
+ * folds the events after it in {@code event_version} order, and records a new
+ * snapshot every {@code snapshotInterval} events. The fold is deterministic:
+ * the same events and rules always give the same score, so replaying every
+ * organization applies a rule change retroactively.
+ */
+@Component
+@Slf4j
+public class TransparencyScoreEngine {
+
+    private static final int ORGANIZATIONS_PER_TASK = 32;
+
+    static final String EVENTS_SQL = "SELECT event_version, change_reason, previous_score, new_score, "
+            + "change_amount FROM transparency_score_history WHERE organization_id = ? AND event_version > ? "
+            + "ORDER BY event_version";
+
+    static final String LATEST_SNAPSHOT_SQL = "SELECT event_version, current_score, completed_campaigns, "
+            + "approved_evidences, rejected_evidences, on_time_reports, late_reports "
+            + "FROM transparency_score_snapshots WHERE organization_id = ? AND rules_version = ? "
+            + "ORDER BY event_version DESC LIMIT 1";
+
+    static final String SNAPSHOT_INSERT_SQL = "INSERT INTO transparency_score_snapshots (organization_id, "
+            + "rules_version, event_version, current_score, completed_campaigns, approved_evidences, "
+            + "rejected_evidences, on_time_reports, late_reports, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT DO NOTHING";
+
+    static final String LOCK_SCORE_SQL = "SELECT event_version FROM transparency_scores "
+            + "WHERE organization_id = ? FOR UPDATE";
+
+    static final String SCORE_UPDATE_SQL = "UPDATE transparency_scores SET current_score = ?, "
+            + "completed_campaigns = ?, approved_evidences = ?, rejected_evidences = ?, on_time_reports = ?, "
+            + "late_reports = ?, event_version = ?, rules_version = ?, last_calculated_at = ?, updated_at = ? "
+            + "WHERE organization_id = ?";
+
+    static final String STALE_ORGANIZATIONS_SQL = "SELECT organization_id FROM transparency_scores "
+            + "WHERE rules_version IS DISTINCT FROM ?";
+
+    static final String ALL_ORGANIZATIONS_SQL = "SELECT organization_id FROM transparency_scores";
+
+    static final String DELETE_STALE_SNAPSHOTS_SQL = "DELETE FROM transparency_score_snapshots "
+            + "WHERE rules_version <> ?";
+
+    private final TransparencyScoreCalculator calculator;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SchedulerProperties schedulerProperties;
+
+    private final Counter eventsCounter;
+    private final Counter organizationsCounter;
+    private final Timer replayTimer;
+    private final AtomicLong lastEventsPerSecond = new AtomicLong();
+
+    public TransparencyScoreEngine(TransparencyScoreCalculator calculator,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            SchedulerProperties schedulerProperties,
+            MeterRegistry meterRegistry) {
+        this.calculator = calculator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.schedulerProperties = schedulerProperties;
+
+        this.eventsCounter = Counter.builder("transparency.replay.events")
+                .description("Score history events folded by replays")
+                .register(meterRegistry);
+        this.organizationsCounter = Counter.builder("transparency.replay.organizations")
+                .description("Organization scores rebuilt by replays")
+                .register(meterRegistry);
+        this.replayTimer = Timer.builder("transparency.replay")
+                .description("Time to replay the scores of all organizations")
+                .register(meterRegistry);
+        Gauge.builder("transparency.replay.throughput", lastEventsPerSecond, AtomicLong::get)
+                .baseUnit("events/s")
+                .description("Events folded per second by the last full replay")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Replays one organization's score within the caller's transaction; the
+     * caller holds the score row lock and stores the result.
+     */
+    public ScoreState replay(UUID organizationId) {
+        return replay(organizationId, new LongAdder());
+    }
+
+    /**
+     * Whether any score was computed with rules other than the current ones.
+     */
+    public boolean hasStaleScores() {
+        return !jdbcTemplate.queryForList(STALE_ORGANIZATIONS_SQL + " LIMIT 1", UUID.class,
+                TransparencyScoreCalculator.RULES_VERSION).isEmpty();
+    }
+
+    /**
+     * Rebuilds scores from the event log in parallel on a fork-join pool of
+     * {@code replayParallelism} workers, each organization in its own
+     * transaction. Snapshots taken with other rules are dropped first.
+     *
+     * @param force replay every organization, not only those computed with
+     *              other rules
+     */
+    public ScoreReplayResponse replayAll(boolean force) {
+        int rulesVersion = TransparencyScoreCalculator.RULES_VERSION;
+        jdbcTemplate.update(DELETE_STALE_SNAPSHOTS_SQL, rulesVersion);
+        List<UUID> organizationIds = force
+                ? jdbcTemplate.queryForList(ALL_ORGANIZATIONS_SQL, UUID.class)
+                : jdbcTemplate.queryForList(STALE_ORGANIZATIONS_SQL, UUID.class, rulesVersion);
+
+        LongAdder events = new LongAdder();
+        long started = System.nanoTime();
+        int failed;
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, schedulerProperties.getTransparencyScore()
+                .getReplayParallelism()));
+        try {
+            failed = pool.invoke(new ReplayTask(organizationIds, 0, organizationIds.size(), events));
+        } finally {
+            pool.shutdown();
+        }
+        long elapsed = System.nanoTime() - started;
+        replayTimer.record(elapsed, TimeUnit.NANOSECONDS);
+
+        long folded = events.sum();
+        double seconds = elapsed / 1_000_000_000.0;
+        double eventsPerSecond = seconds > 0 ? folded / seconds : folded;
+        lastEventsPerSecond.set(Math.round(eventsPerSecond));
+        log.info("Replayed transparency scores of {} organizations ({} failed): {} events in {} ms",
+                organizationIds.size(), failed, folded, TimeUnit.NANOSECONDS.toMillis(elapsed));
+
+        return ScoreReplayResponse.builder()
+                .rulesVersion(rulesVersion)
+                .organizations(organizationIds.size())
+                .failedOrganizations(failed)
+                .events(folded)
+                .durationMs(TimeUnit.NANOSECONDS.toMillis(elapsed))
+                .eventsPerSecond(eventsPerSecond)
+                .build();
+    }
+
+    /**
+     * Folds one organization's events onto its latest snapshot, recording new
+     * snapshots on the way.
+     */
+    ScoreState replay(UUID organizationId, LongAdder events) {
+        int rulesVersion = TransparencyScoreCalculator.RULES_VERSION;
+        List<ScoreState> snapshots = jdbcTemplate.query(LATEST_SNAPSHOT_SQL, (rs, rowNum) -> snapshot(rs),
+                organizationId, rulesVersion);
+        Fold fold = new Fold(snapshots.isEmpty() ? ScoreState.INITIAL : snapshots.get(0),
+                schedulerProperties.getTransparencyScore().getSnapshotInterval());
+        jdbcTemplate.query(EVENTS_SQL, fold, organizationId, fold.state.getEventVersion());
+
+        if (!fold.snapshots.isEmpty()) {
+            OffsetDateTime now = OffsetDateTime.now();
+            List<Object[]> rows = new ArrayList<>(fold.snapshots.size());
+            for (ScoreState state : fold.snapshots) {
+                rows.add(new Object[] { organizationId, rulesVersion, state.getEventVersion(), state.getScore(),
+                        state.getCompletedCampaigns(), state.getApprovedEvidences(), state.getRejectedEvidences(),
+                        state.getOnTimeReports(), state.getLateReports(), now });
+            }
+            jdbcTemplate.batchUpdate(SNAPSHOT_INSERT_SQL, rows);
+        }
+        events.add(fold.folded);
+        eventsCounter.increment(fold.folded);
+        return fold.state;
+    }
+
+    /**
+     * Applies one event with the current rules.
+     */
+    ScoreState apply(ScoreState state, long version, String reason, BigDecimal recordedChange) {
+        return state.next(version, reason, calculator.applyEvent(state.getScore(), reason, recordedChange));
+    }
+
+    private ScoreState replayAndStore(UUID organizationId, LongAdder events) {
+        return transactionTemplate.execute(status -> {
+            if (jdbcTemplate.queryForList(LOCK_SCORE_SQL, Long.class, organizationId).isEmpty()) {
+                throw new ResourceNotFoundException("Transparency score not found for organization "
+                        + organizationId);
+            }
+            ScoreState state = replay(organizationId, events);
+            OffsetDateTime now = OffsetDateTime.now();
+            jdbcTemplate.update(SCORE_UPDATE_SQL, state.getScore(), state.getCompletedCampaigns(),
+                    state.getApprovedEvidences(), state.getRejectedEvidences(), state.getOnTimeReports(),
+                    state.getLateReports(), state.getEventVersion(), TransparencyScoreCalculator.RULES_VERSION,
+                    LocalDateTime.now(), now, organizationId);
+            organizationsCounter.increment();
+            return state;
+        });
+    }
+
+    private static ScoreState snapshot(ResultSet rs) throws SQLException {
+        return new ScoreState(rs.getLong("event_version"), rs.getBigDecimal("current_score"),
+                rs.getInt("completed_campaigns"), rs.getInt("approved_evidences"), rs.getInt("rejected_evidences"),
+                rs.getInt("on_time_reports"), rs.getInt("late_reports"));
+    }
+
+    /**
+     * Streams an organization's events through {@link #apply}.
+     */
+    private final class Fold implements RowCallbackHandler {
+
+        private final int snapshotInterval;
+        private final List<ScoreState> snapshots = new ArrayList<>();
+        private ScoreState state;
+        private long folded;
+
+        Fold(ScoreState state, int snapshotInterval) {
+            this.state = state;
+            this.snapshotInterval = snapshotInterval;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long version = rs.getLong("event_version");
+            BigDecimal recordedChange = rs.getBigDecimal("change_amount");
+            if (recordedChange == null && rs.getBigDecimal("new_score") != null) {
+                BigDecimal previous = rs.getBigDecimal("previous_score");
+                recordedChange = rs.getBigDecimal("new_score")
+                        .subtract(previous != null ? previous : BigDecimal.ZERO);
+            }
+            state = apply(state, version, rs.getString("change_reason"), recordedChange);
+            folded++;
+            if (snapshotInterval > 0 && version % snapshotInterval == 0) {
+                snapshots.add(state);
+            }
+        }
+    }
+
+    /**
+     * Splits the organizations in halves until a slice is small enough to
+     * replay on one worker.
+     *
+     * @return number of organizations whose replay failed
+     */
+    private final class ReplayTask extends RecursiveTask<Integer> {
+
+        private final List<UUID> organizationIds;
+        private final int from;
+        private final int to;
+        private final LongAdder events;
+
+        ReplayTask(List<UUID> organizationIds, int from, int to, LongAdder events) {
+            this.organizationIds = organizationIds;
+            this.from = from;
+            this.to = to;
+            this.events = events;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from > ORGANIZATIONS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                ReplayTask left = new ReplayTask(organizationIds, from, middle, events);
+                left.fork();
+                int right = new ReplayTask(organizationIds, middle, to, events).compute();
+                return left.join() + right;
+            }
+            int failed = 0;
+            for (int i = from; i < to; i++) {
+                UUID organizationId = organizationIds.get(i);
+                try {
+                    replayAndStore(organizationId, events);
+                } catch (Exception e) {
+                    failed++;
+                    log.error("Could not replay transparency score of organization {}", organizationId, e);
+                }
+            }
+            return failed;
+        }
+    }
+}
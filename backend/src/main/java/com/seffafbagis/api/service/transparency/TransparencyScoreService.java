@@ -1,6 +1,7 @@
 package com.seffafbagis.api.service.transparency;
 
 import com.seffafbagis.api.dto.response.transparency.ScoreHistoryResponse;
+import com.seffafbagis.api.dto.response.transparency.ScoreReplayResponse;
 import com.seffafbagis.api.dto.response.transparency.ScoreHistoryListResponse;
 import com.seffafbagis.api.dto.response.transparency.TransparencyLeaderboardResponse;
 import com.seffafbagis.api.dto.response.transparency.TransparencyScoreResponse;
@@ -9,6 +10,9 @@ import com.seffafbagis.api.entity.evidence.Evidence;
 import com.seffafbagis.api.entity.organization.Organization;
 import com.seffafbagis.api.entity.transparency.TransparencyScore;
 import com.seffafbagis.api.entity.transparency.TransparencyScoreHistory;
+import com.seffafbagis.api.enums.CampaignStatus;
+import com.seffafbagis.api.enums.EvidenceStatus;
+import com.seffafbagis.api.event.TransparencyScoreChangedEvent;
 import com.seffafbagis.api.exception.ResourceNotFoundException;
 import com.seffafbagis.api.exception.BadRequestException;
 
@@ -17,23 +21,40 @@ import com.seffafbagis.api.repository.EvidenceRepository;
 import com.seffafbagis.api.repository.OrganizationRepository;
 import com.seffafbagis.api.repository.TransparencyScoreHistoryRepository;
 import com.seffafbagis.api.repository.TransparencyScoreRepository;
+import com.seffafbagis.api.repository.projection.CampaignTitleProjection;
+import com.seffafbagis.api.repository.projection.EvidenceDeadlineProjection;
+import com.seffafbagis.api.service.batch.BatchLoader;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class TransparencyScoreService {
 
+    static final String SCORE_UPDATE_SQL = "UPDATE transparency_scores SET current_score = ?, "
+            + "last_calculated_at = ?, updated_at = ?, event_version = ? WHERE id = ?";
+
+    static final String HISTORY_INSERT_SQL = "INSERT INTO transparency_score_history (id, organization_id, "
+            + "previous_score, new_score, change_amount, change_reason, related_entity_type, related_entity_id, "
+            + "created_at, updated_at, event_version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
     private final TransparencyScoreRepository scoreRepository;
     private final TransparencyScoreHistoryRepository historyRepository;
     private final TransparencyScoreCalculator calculator;
@@ -41,6 +62,9 @@ public class TransparencyScoreService {
     private final CampaignRepository campaignRepository;
     private final EvidenceRepository evidenceRepository;
     private final org.springframework.context.ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransparencyScoreEngine scoreEngine;
+    private final TransparencyLeaderboardService leaderboardService;
 
     @Transactional
     public void initializeScore(UUID organizationId) {
@@ -56,9 +80,8 @@ public class TransparencyScoreService {
                 .currentScore(new BigDecimal("50.00"))
                 .build();
 
+        recordHistory(score, null, new BigDecimal("50.00"), "INITIAL_SCORE", null, null);
         scoreRepository.save(score);
-
-        recordHistory(organization, null, new BigDecimal("50.00"), "INITIAL_SCORE", null, null);
     }
 
     public TransparencyScoreResponse getOrganizationScore(UUID organizationId) {
@@ -72,33 +95,24 @@ public class TransparencyScoreService {
         Page<TransparencyScoreHistory> historyPage = historyRepository
                 .findByOrganizationIdOrderByCreatedAtDesc(organizationId, pageable);
 
-        Page<ScoreHistoryResponse> responsePage = historyPage.map(this::mapToHistoryResponse);
+        BatchLoader<UUID, String> campaignTitles = BatchLoader.of(ids -> campaignRepository.findTitlesByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(CampaignTitleProjection::getId, CampaignTitleProjection::getTitle)));
+        historyPage.forEach(history -> campaignTitles.prime(relatedCampaignId(history)));
+
+        Page<ScoreHistoryResponse> responsePage = historyPage
+                .map(history -> mapToHistoryResponse(history, campaignTitles));
 
         return ScoreHistoryListResponse.from(responsePage);
     }
 
     public List<TransparencyLeaderboardResponse> getLeaderboard(Pageable pageable) {
-        Page<TransparencyScore> topScores = scoreRepository.findTopByOrderByCurrentScoreDesc(pageable);
-
-        // This ranking logic is simple and depends on the page size/number.
-        // For a true global rank, we would need a more complex query or update ranks
-        // periodically.
-        // For now, valid for the first page.
-        int startRank = pageable.getPageNumber() * pageable.getPageSize() + 1;
-
-        return topScores.getContent().stream()
-                .map(score -> {
-                    int index = topScores.getContent().indexOf(score);
-                    return TransparencyLeaderboardResponse.builder()
-                            .rank(startRank + index)
-                            .organizationId(score.getOrganization().getId())
-                            .organizationName(score.getOrganization().getLegalName())
-                            .logoUrl(score.getOrganization().getLogoUrl())
-                            .currentScore(score.getCurrentScore())
-                            .completedCampaigns(score.getCompletedCampaigns())
-                            .build();
-                })
-                .collect(Collectors.toList());
+        return leaderboardService.getPage(pageable);
+    }
+
+    public TransparencyLeaderboardResponse getLeaderboardEntry(UUID organizationId) {
+        return leaderboardService.getEntry(organizationId)
+                .orElseThrow(() -> new ResourceNotFoundException("Organization is not on the leaderboard yet"));
     }
 
     public boolean canCreateCampaign(UUID organizationId) {
@@ -133,7 +147,7 @@ public class TransparencyScoreService {
         score.setLastCalculatedAt(LocalDateTime.now());
 
         scoreRepository.save(score);
-        recordHistory(score.getOrganization(), oldScore, newScore, reason, evidence.getCampaign(), evidence);
+        recordHistory(score, oldScore, newScore, reason, evidence.getCampaign(), evidence);
     }
 
     @Transactional
@@ -154,7 +168,7 @@ public class TransparencyScoreService {
         score.setLastCalculatedAt(LocalDateTime.now());
 
         scoreRepository.save(score);
-        recordHistory(score.getOrganization(), oldScore, newScore, reason, evidence.getCampaign(), evidence);
+        recordHistory(score, oldScore, newScore, reason, evidence.getCampaign(), evidence);
     }
 
     @Transactional
@@ -175,7 +189,7 @@ public class TransparencyScoreService {
         score.setLastCalculatedAt(LocalDateTime.now());
 
         scoreRepository.save(score);
-        recordHistory(score.getOrganization(), oldScore, newScore, reason, campaign, null);
+        recordHistory(score, oldScore, newScore, reason, campaign, null);
     }
 
     @Transactional
@@ -195,7 +209,7 @@ public class TransparencyScoreService {
         score.setLastCalculatedAt(LocalDateTime.now());
 
         scoreRepository.save(score);
-        recordHistory(score.getOrganization(), oldScore, newScore, reason, campaign, null);
+        recordHistory(score, oldScore, newScore, reason, campaign, null);
     }
 
     @Transactional
@@ -215,7 +229,73 @@ public class TransparencyScoreService {
         score.setLastCalculatedAt(LocalDateTime.now());
 
         scoreRepository.save(score);
-        recordHistory(score.getOrganization(), oldScore, newScore, reason, campaign, null);
+        recordHistory(score, oldScore, newScore, reason, campaign, null);
+    }
+
+    /**
+     * Settles the evidence deadline of the next {@code limit} completed
+     * campaigns whose deadline has passed.
+     *
+     * Every settled campaign is stamped so it is never checked again; the ones
+     * whose approved evidence does not cover the collected amount cost their
+     * organization {@code EVIDENCE_DEADLINE_MISSED}. Scores are locked once per
+     * organization, and the score updates and history rows are each written as
+     * a single JDBC batch.
+     *
+     * @return number of campaigns settled; fewer than {@code limit} means none are left
+     */
+    @Transactional
+    public int penalizeMissedEvidenceDeadlines(OffsetDateTime now, int limit) {
+        List<EvidenceDeadlineProjection> due = campaignRepository.findEvidenceDeadlinesDueForUpdate(
+                CampaignStatus.COMPLETED.name(), EvidenceStatus.APPROVED.name(), now, limit);
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        List<UUID> campaignIds = new ArrayList<>(due.size());
+        Map<UUID, List<UUID>> missedByOrganization = new LinkedHashMap<>();
+        for (EvidenceDeadlineProjection campaign : due) {
+            campaignIds.add(campaign.getCampaignId());
+            if (Boolean.TRUE.equals(campaign.getMissed())) {
+                missedByOrganization.computeIfAbsent(campaign.getOrganizationId(), id -> new ArrayList<>())
+                        .add(campaign.getCampaignId());
+            }
+        }
+        campaignRepository.markEvidenceDeadlineChecked(campaignIds, now);
+        if (missedByOrganization.isEmpty()) {
+            return due.size();
+        }
+
+        String reason = "EVIDENCE_DEADLINE_MISSED";
+        BigDecimal change = calculator.calculateChange(reason);
+        LocalDateTime calculatedAt = LocalDateTime.now();
+        List<Object[]> scoreRows = new ArrayList<>();
+        List<Object[]> historyRows = new ArrayList<>();
+        List<TransparencyScoreChangedEvent> events = new ArrayList<>();
+
+        for (TransparencyScore score : scoreRepository.findByOrganizationIdIn(missedByOrganization.keySet())) {
+            UUID organizationId = score.getOrganizationId();
+            BigDecimal oldScore = score.getCurrentScore();
+            BigDecimal current = oldScore;
+            long version = score.getEventVersion();
+            for (UUID campaignId : missedByOrganization.remove(organizationId)) {
+                BigDecimal next = calculator.calculateNewScore(current, change);
+                historyRows.add(new Object[] { UUID.randomUUID(), organizationId, current, next,
+                        next.subtract(current), reason, "CAMPAIGN", campaignId, now, now, ++version });
+                current = next;
+            }
+            scoreRows.add(new Object[] { current, calculatedAt, now, version, score.getId() });
+            events.add(new TransparencyScoreChangedEvent(null, organizationId, oldScore, current, reason));
+        }
+        if (!missedByOrganization.isEmpty()) {
+            log.warn("Missed evidence deadlines not penalized, no transparency score for organizations {}",
+                    missedByOrganization.keySet());
+        }
+
+        jdbcTemplate.batchUpdate(SCORE_UPDATE_SQL, scoreRows);
+        jdbcTemplate.batchUpdate(HISTORY_INSERT_SQL, historyRows);
+        events.forEach(eventPublisher::publishEvent);
+        return due.size();
     }
 
     @Transactional
@@ -240,36 +320,44 @@ public class TransparencyScoreService {
         score.setLastCalculatedAt(LocalDateTime.now());
 
         scoreRepository.save(score);
-        recordHistory(score.getOrganization(), oldScore, newScore, reason, null, null);
+        recordHistory(score, oldScore, newScore, reason, null, null);
     }
 
+    /**
+     * Rebuilds an organization's score from its history with the current
+     * rules.
+     */
     @Transactional
     public void recalculateScore(UUID organizationId) {
         TransparencyScore score = getScoreEntity(organizationId);
-
-        // Recalculation logic: Start from base 50 and apply all historical changes
-        // For simplicity, we just update the lastCalculatedAt timestamp
-        // A full recalculation would involve re-processing all evidence and campaign
-        // data
-        BigDecimal baseScore = new BigDecimal("50.00");
-
-        // Calculate based on current stats
-        int positivePoints = (score.getApprovedEvidences() * 5) +
-                (score.getCompletedCampaigns() * 3);
-        int negativePoints = (score.getRejectedEvidences() * 5);
-
-        BigDecimal calculatedScore = baseScore
-                .add(new BigDecimal(positivePoints))
-                .subtract(new BigDecimal(negativePoints));
-
-        BigDecimal newScore = calculator.calculateNewScore(BigDecimal.ZERO, calculatedScore);
         BigDecimal oldScore = score.getCurrentScore();
 
-        score.setCurrentScore(newScore);
+        ScoreState state = scoreEngine.replay(organizationId);
+        score.setCurrentScore(state.getScore());
+        score.setCompletedCampaigns(state.getCompletedCampaigns());
+        score.setApprovedEvidences(state.getApprovedEvidences());
+        score.setRejectedEvidences(state.getRejectedEvidences());
+        score.setOnTimeReports(state.getOnTimeReports());
+        score.setLateReports(state.getLateReports());
+        score.setEventVersion(state.getEventVersion());
+        score.setRulesVersion(TransparencyScoreCalculator.RULES_VERSION);
         score.setLastCalculatedAt(LocalDateTime.now());
-
         scoreRepository.save(score);
-        recordHistory(score.getOrganization(), oldScore, newScore, "MANUAL_ADJUSTMENT", null, null);
+
+        if (oldScore == null || oldScore.compareTo(state.getScore()) != 0) {
+            eventPublisher.publishEvent(new TransparencyScoreChangedEvent(null, organizationId, oldScore,
+                    state.getScore(), "SCORE_REPLAYED"));
+        }
+    }
+
+    /**
+     * Replays every score computed with other rules, or every score when
+     * {@code force} is set.
+     */
+    public ScoreReplayResponse replayScores(boolean force) {
+        ScoreReplayResponse response = scoreEngine.replayAll(force);
+        leaderboardService.markStale();
+        return response;
     }
 
     public Page<TransparencyScoreResponse> getLowScoreOrganizations(Pageable pageable) {
@@ -283,14 +371,18 @@ public class TransparencyScoreService {
     }
 
     private TransparencyScore getScoreEntity(UUID organizationId) {
-        return scoreRepository.findByOrganizationId(organizationId)
+        return scoreRepository.findForUpdateByOrganizationId(organizationId)
                 .orElseThrow(
                         () -> new ResourceNotFoundException(
                                 "Transparency score not found for organization " + organizationId));
     }
 
-    private void recordHistory(Organization organization, BigDecimal prevScore, BigDecimal newScore, String reason,
+    private void recordHistory(TransparencyScore score, BigDecimal prevScore, BigDecimal newScore, String reason,
             Campaign campaign, Evidence evidence) {
+        Organization organization = score.getOrganization();
+        long version = score.getEventVersion() + 1;
+        score.setEventVersion(version);
+
         UUID relatedEntityId = null;
         String relatedEntityType = null;
 
@@ -309,6 +401,7 @@ public class TransparencyScoreService {
                 .changeReason(reason)
                 .relatedEntityId(relatedEntityId)
                 .relatedEntityType(relatedEntityType)
+                .eventVersion(version)
                 .build();
         historyRepository.save(history);
 
@@ -337,16 +430,12 @@ public class TransparencyScoreService {
                 .build();
     }
 
-    private ScoreHistoryResponse mapToHistoryResponse(TransparencyScoreHistory history) {
+    private ScoreHistoryResponse mapToHistoryResponse(TransparencyScoreHistory history,
+            BatchLoader<UUID, String> campaignTitles) {
         BigDecimal change = history.getNewScore().subtract(
                 history.getPreviousScore() != null ? history.getPreviousScore() : BigDecimal.ZERO);
 
-        String campaignTitle = null;
-        if ("CAMPAIGN".equals(history.getRelatedEntityType()) && history.getRelatedEntityId() != null) {
-            campaignTitle = campaignRepository.findById(history.getRelatedEntityId())
-                    .map(Campaign::getTitle)
-                    .orElse(null);
-        }
+        String campaignTitle = campaignTitles.get(relatedCampaignId(history));
 
         return ScoreHistoryResponse.builder()
                 .id(history.getId())
@@ -361,12 +450,16 @@ public class TransparencyScoreService {
                 .build();
     }
 
+    private static UUID relatedCampaignId(TransparencyScoreHistory history) {
+        return "CAMPAIGN".equals(history.getRelatedEntityType()) ? history.getRelatedEntityId() : null;
+    }
+
     @Transactional
     public void applyConsistencyBonus(UUID organizationId) {
         TransparencyScore score = getScoreEntity(organizationId);
 
         String reason = "CONSISTENCY_BONUS";
-        BigDecimal bonus = new BigDecimal("1.00");
+        BigDecimal bonus = calculator.calculateChange(reason);
         BigDecimal newScore = calculator.calculateNewScore(score.getCurrentScore(), bonus);
         BigDecimal oldScore = score.getCurrentScore();
 
@@ -374,6 +467,6 @@ public class TransparencyScoreService {
         score.setLastCalculatedAt(LocalDateTime.now());
 
         scoreRepository.save(score);
-        recordHistory(score.getOrganization(), oldScore, newScore, reason, null, null);
+        recordHistory(score, oldScore, newScore, reason, null, null);
     }
 }
@@ -10,6 +10,7 @@ import com.seffafbagis.api.exception.BadRequestException;
 import com.seffafbagis.api.exception.ResourceNotFoundException;
 import com.seffafbagis.api.repository.RefreshTokenRepository;
 import com.seffafbagis.api.repository.UserRepository;
+import com.seffafbagis.api.security.UserAuthCache;
 import jakarta.transaction.Transactional;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -26,15 +27,18 @@ public class UserService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserMapper userMapper;
+    private final UserAuthCache userAuthCache;
 
     public UserService(UserRepository userRepository,
             RefreshTokenRepository refreshTokenRepository,
             PasswordEncoder passwordEncoder,
-            UserMapper userMapper) {
+            UserMapper userMapper,
+            UserAuthCache userAuthCache) {
         this.userRepository = userRepository;
         this.refreshTokenRepository = refreshTokenRepository;
         this.passwordEncoder = passwordEncoder;
         this.userMapper = userMapper;
+        this.userAuthCache = userAuthCache;
     }
 
     /**
@@ -98,6 +102,7 @@ public class UserService {
 
         // Update user
         userRepository.save(user);
+        userAuthCache.evict(user.getId());
 
         // Audit log would ideally be created here via an AuditService/Event
     }
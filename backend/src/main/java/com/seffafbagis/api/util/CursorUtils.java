@@ -0,0 +1,127 @@
+package com.seffafbagis.api.util;
+
+import com.seffafbagis.api.entity.base.BaseEntity;
+import com.seffafbagis.api.exception.BadRequestException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keyset (seek) pagination helpers for feeds ordered by {@code (created_at DESC, id DESC)}.
+ * 
+ * A cursor is the position of the last row of the previous page, encoded as an
+ * opaque URL-safe token. The next page is read with
+ * {@code WHERE (created_at, id) < (:createdAt, :id)}, which is an index range
+ * scan regardless of how deep the client has paged and needs no COUNT query.
+ * 
+ * @author Furkan
+ * @version 1.0
+ */
+public final class CursorUtils {
+
+    /**
+     * Default and maximum page sizes for cursor feeds.
+     */
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private static final String SEPARATOR = "|";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorUtils() {
+        throw new AssertionError("Cannot instantiate CursorUtils");
+    }
+
+    /**
+     * Position of a row in a {@code (created_at, id)} ordered feed.
+     */
+    public static final class Position {
+
+        private final OffsetDateTime createdAt;
+        private final UUID id;
+
+        public Position(OffsetDateTime createdAt, UUID id) {
+            this.createdAt = createdAt;
+            this.id = id;
+        }
+
+        public OffsetDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        public UUID getId() {
+            return id;
+        }
+    }
+
+    /**
+     * Encodes a feed position as an opaque cursor token.
+     * 
+     * @param createdAt Creation time of the last returned row
+     * @param id        ID of the last returned row
+     * @return URL-safe cursor token
+     */
+    public static String encode(OffsetDateTime createdAt, UUID id) {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor token.
+     * 
+     * @param cursor Token previously returned as {@code nextCursor}; may be null or blank
+     * @return Decoded position, or null for the first page
+     * @throws BadRequestException if the token is malformed
+     */
+    public static Position decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return new Position(
+                    OffsetDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Builds the limit-only page request for a cursor query. Ordering is part of the query itself.
+     * 
+     * @param size Requested page size; clamped to [1, {@link #MAX_SIZE}]
+     * @return Unsorted page request for the first "page" of the seek range
+     */
+    public static Pageable limit(int size) {
+        return PageRequest.of(0, Math.max(1, Math.min(size, MAX_SIZE)));
+    }
+
+    /**
+     * Returns the cursor for the page after the given slice.
+     * 
+     * @param slice Slice returned by a seek query
+     * @return Cursor of the last row, or null if there are no more rows
+     */
+    public static String nextCursor(Slice<? extends BaseEntity> slice) {
+        if (!slice.hasNext() || slice.isEmpty()) {
+            return null;
+        }
+        List<? extends BaseEntity> content = slice.getContent();
+        BaseEntity last = content.get(content.size() - 1);
+        return encode(last.getCreatedAt(), last.getId());
+    }
+}
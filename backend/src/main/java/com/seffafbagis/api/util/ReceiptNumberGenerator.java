@@ -11,7 +11,7 @@ import java.util.regex.Pattern;
 public final class ReceiptNumberGenerator {
 
     private static final String PREFIX = "RCPT";
-    private static final Pattern RECEIPT_PATTERN = Pattern.compile("^RCPT-(\\d{4})-(\\d{6})$");
+    private static final Pattern RECEIPT_PATTERN = Pattern.compile("^RCPT-(\\d{4})-(\\d{6,})$");
 
     private ReceiptNumberGenerator() {
         throw new AssertionError("Cannot instantiate ReceiptNumberGenerator");
@@ -28,6 +28,16 @@ public final class ReceiptNumberGenerator {
         return String.format("%s-%d-%06d", PREFIX, year, sequenceNumber);
     }
 
+    /**
+     * Common prefix of all receipt numbers of a year.
+     *
+     * @param year Year (e.g., 2024)
+     * @return Prefix (e.g., RCPT-2024-)
+     */
+    public static String prefix(int year) {
+        return PREFIX + "-" + year + "-";
+    }
+
     /**
      * Generates a receipt number for the current year.
      *
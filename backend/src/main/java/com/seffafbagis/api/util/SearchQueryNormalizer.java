@@ -0,0 +1,117 @@
+package com.seffafbagis.api.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Turns free-text user input into a PostgreSQL {@code tsquery} for the
+ * full-text search indexes.
+ * 
+ * Input is lower-cased with the Turkish locale and folded to ASCII the same way
+ * the indexed documents are, split into words, and every word becomes a prefix
+ * term ({@code word:*}) joined with AND. Prefix terms give autocomplete for free
+ * and tolerate Turkish suffixes ("yardım" finds "yardımları"). Operator
+ * characters never reach the database, so the result is always a valid query.
+ * 
+ * @author Furkan
+ * @version 1.0
+ */
+public final class SearchQueryNormalizer {
+
+    /**
+     * Upper bound on the number of terms taken from a single query.
+     */
+    public static final int MAX_TERMS = 8;
+
+    /**
+     * Autocomplete limits: minimum typed characters and maximum suggestions returned.
+     */
+    public static final int MIN_SUGGEST_LENGTH = 2;
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final Locale TURKISH_LOCALE = Locale.forLanguageTag("tr-TR");
+    private static final Pattern NON_WORD = Pattern.compile("[^a-z0-9]+");
+    private static final int MAX_TERM_LENGTH = 64;
+
+    private SearchQueryNormalizer() {
+        throw new AssertionError("Cannot instantiate SearchQueryNormalizer");
+    }
+
+    /**
+     * Folds text the way search documents are folded: Turkish lower-case, then ASCII.
+     *
+     * @param text Text to fold
+     * @return Folded text, or an empty string for null input
+     */
+    public static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        return SlugGenerator.toAscii(text.toLowerCase(TURKISH_LOCALE));
+    }
+
+    /**
+     * Splits text into normalized search terms.
+     *
+     * @param text Raw user input
+     * @return Up to {@link #MAX_TERMS} terms, possibly empty
+     */
+    public static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String token : NON_WORD.split(fold(text))) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            terms.add(token.length() > MAX_TERM_LENGTH ? token.substring(0, MAX_TERM_LENGTH) : token);
+            if (terms.size() == MAX_TERMS) {
+                break;
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Builds a prefix AND query, e.g. {@code "Çocuk eğit"} becomes {@code "cocuk:* & egit:*"}.
+     *
+     * @param text Raw user input
+     * @return tsquery text, or null if the input has no searchable words
+     */
+    public static String toPrefixQuery(String text) {
+        List<String> terms = terms(text);
+        if (terms.isEmpty()) {
+            return null;
+        }
+        StringBuilder query = new StringBuilder();
+        for (String term : terms) {
+            if (query.length() > 0) {
+                query.append(" & ");
+            }
+            query.append(term).append(":*");
+        }
+        return query.toString();
+    }
+
+    /**
+     * Builds the query for autocomplete. Single-character prefixes match too much
+     * of the index to be useful, so they yield no query.
+     *
+     * @param text Partially typed input
+     * @return tsquery text, or null if fewer than {@link #MIN_SUGGEST_LENGTH} characters were typed
+     */
+    public static String toSuggestQuery(String text) {
+        int typed = terms(text).stream().mapToInt(String::length).sum();
+        return typed < MIN_SUGGEST_LENGTH ? null : toPrefixQuery(text);
+    }
+
+    /**
+     * Clamps a requested suggestion count to {@code 1..MAX_SUGGESTIONS}.
+     *
+     * @param requested Requested count
+     * @return Clamped count
+     */
+    public static int suggestionLimit(int requested) {
+        return Math.max(1, Math.min(requested, MAX_SUGGESTIONS));
+    }
+}
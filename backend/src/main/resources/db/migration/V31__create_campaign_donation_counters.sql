@@ -0,0 +1,14 @@
+-- Striped donation counters for campaigns
+-- Completed donations are accumulated in one of N shard rows per campaign and
+-- periodically rolled up into campaigns.collected_amount / donor_count.
+-- This keeps concurrent completions from serializing on the campaign row lock.
+
+CREATE TABLE IF NOT EXISTS campaign_donation_counters (
+    campaign_id UUID NOT NULL REFERENCES campaigns(id) ON DELETE CASCADE,
+    shard INTEGER NOT NULL,
+    amount NUMERIC(14,2) NOT NULL DEFAULT 0,
+    donor_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (campaign_id, shard)
+);
+
+COMMENT ON TABLE campaign_donation_counters IS 'Pending per-shard donation totals not yet rolled up into campaigns';
@@ -0,0 +1,24 @@
+-- Transactional outbox for donation lifecycle events
+-- Rows are written in the same transaction as the donation and delivered to
+-- in-process listeners by a background dispatcher after commit.
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    event_type VARCHAR(100) NOT NULL,
+    aggregate_id UUID,
+    payload JSONB NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING', -- PENDING, PROCESSING, PUBLISHED, FAILED
+    attempts INTEGER NOT NULL DEFAULT 0,
+    available_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    published_at TIMESTAMP WITH TIME ZONE,
+    last_error TEXT,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Dispatcher polls only undelivered rows
+CREATE INDEX idx_outbox_events_status_available ON outbox_events(status, available_at)
+    WHERE status IN ('PENDING', 'PROCESSING');
+CREATE INDEX idx_outbox_events_aggregate ON outbox_events(aggregate_id);
+
+COMMENT ON TABLE outbox_events IS 'Transactional outbox for domain events delivered after commit';
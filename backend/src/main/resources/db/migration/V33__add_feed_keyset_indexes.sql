@@ -0,0 +1,14 @@
+-- Composite indexes for keyset (cursor) feeds ordered by (created_at DESC, id DESC).
+-- A seek predicate (created_at, id) < (:created_at, :id) on these indexes is a
+-- bounded range scan, independent of how deep the client has paged.
+
+CREATE INDEX IF NOT EXISTS idx_donations_donor_feed ON donations(donor_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_donations_campaign_feed ON donations(campaign_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_notifications_user_feed ON notifications(user_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_audit_user_feed ON audit_logs(user_id, created_at DESC, id DESC);
+
+-- The single-column indexes are prefixes of the feed indexes above
+DROP INDEX IF EXISTS idx_donations_donor;
+DROP INDEX IF EXISTS idx_donations_campaign;
+DROP INDEX IF EXISTS idx_notifications_user;
+DROP INDEX IF EXISTS idx_audit_user;
@@ -0,0 +1,5 @@
+-- Organization campaign listing: WHERE organization_id = ? AND status = ? ORDER BY created_at DESC
+CREATE INDEX IF NOT EXISTS idx_campaigns_org_status_created ON campaigns(organization_id, status, created_at DESC);
+
+-- Prefix of the index above
+DROP INDEX IF EXISTS idx_campaigns_org_id;
@@ -0,0 +1,28 @@
+-- Full-text search for campaigns and organizations.
+-- The indexed expressions must stay identical to the ones in SearchSql.java:
+-- PostgreSQL only uses an expression index for a query containing the same expression.
+-- Text is folded to lower-case ASCII (Turkish letters mapped explicitly, independent of
+-- the database locale) and parsed with the 'simple' configuration.
+
+-- Weighted document: title (A), short description (B), description (C)
+CREATE INDEX IF NOT EXISTS idx_campaigns_search ON campaigns USING GIN ((
+    setweight(to_tsvector('simple', lower(translate(coalesce(title, ''), 'İIıŞşĞğÇçÖöÜü', 'iiissggccoouu'))), 'A')
+    || setweight(to_tsvector('simple', lower(translate(coalesce(short_description, ''), 'İIıŞşĞğÇçÖöÜü', 'iiissggccoouu'))), 'B')
+    || setweight(to_tsvector('simple', lower(translate(coalesce(description, ''), 'İIıŞşĞğÇçÖöÜü', 'iiissggccoouu'))), 'C')
+));
+
+-- Title only, for autocomplete
+CREATE INDEX IF NOT EXISTS idx_campaigns_title_search ON campaigns USING GIN (
+    to_tsvector('simple', lower(translate(coalesce(title, ''), 'İIıŞşĞğÇçÖöÜü', 'iiissggccoouu')))
+);
+
+-- Weighted document: legal and trade name (A), description (C)
+CREATE INDEX IF NOT EXISTS idx_organizations_search ON organizations USING GIN ((
+    setweight(to_tsvector('simple', lower(translate(coalesce(legal_name, '') || ' ' || coalesce(trade_name, ''), 'İIıŞşĞğÇçÖöÜü', 'iiissggccoouu'))), 'A')
+    || setweight(to_tsvector('simple', lower(translate(coalesce(description, ''), 'İIıŞşĞğÇçÖöÜü', 'iiissggccoouu'))), 'C')
+));
+
+-- Name only, for autocomplete
+CREATE INDEX IF NOT EXISTS idx_organizations_name_search ON organizations USING GIN (
+    to_tsvector('simple', lower(translate(coalesce(legal_name, '') || ' ' || coalesce(trade_name, ''), 'İIıŞşĞğÇçÖöÜü', 'iiissggccoouu')))
+);
@@ -0,0 +1,48 @@
+-- Campaign statistics read model
+-- Maintained incrementally from donation completion/refund events and rebuilt
+-- nightly from the donations table. donations.stats_state records whether a
+-- donation is currently counted, which makes redelivered events no-ops.
+
+ALTER TABLE donations ADD COLUMN IF NOT EXISTS stats_state VARCHAR(16);
+
+CREATE TABLE IF NOT EXISTS campaign_stats (
+    campaign_id UUID PRIMARY KEY REFERENCES campaigns(id) ON DELETE CASCADE,
+    donation_count BIGINT NOT NULL DEFAULT 0,
+    unique_donors BIGINT NOT NULL DEFAULT 0,
+    total_amount NUMERIC(14,2) NOT NULL DEFAULT 0,
+    min_amount NUMERIC(12,2),
+    max_amount NUMERIC(12,2),
+    last_donation_at TIMESTAMP WITH TIME ZONE,
+    rebuilt_at TIMESTAMP WITH TIME ZONE,
+    updated_at TIMESTAMP WITH TIME ZONE
+);
+
+CREATE TABLE IF NOT EXISTS campaign_stats_daily (
+    campaign_id UUID NOT NULL REFERENCES campaigns(id) ON DELETE CASCADE,
+    bucket_date DATE NOT NULL,
+    donation_count BIGINT NOT NULL DEFAULT 0,
+    total_amount NUMERIC(14,2) NOT NULL DEFAULT 0,
+    PRIMARY KEY (campaign_id, bucket_date)
+);
+
+COMMENT ON TABLE campaign_stats IS 'Per-campaign aggregates over counted donations';
+COMMENT ON TABLE campaign_stats_daily IS 'Per-campaign daily donation buckets (Europe/Istanbul dates)';
+
+-- Backfill from existing donations
+UPDATE donations SET stats_state = 'COUNTED' WHERE status = 'COMPLETED';
+
+INSERT INTO campaign_stats (campaign_id, donation_count, unique_donors, total_amount, min_amount, max_amount,
+                            last_donation_at, rebuilt_at, updated_at)
+SELECT campaign_id, COUNT(*), COUNT(DISTINCT donor_id), SUM(amount), MIN(amount), MAX(amount),
+       MAX(created_at), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+FROM donations
+WHERE stats_state = 'COUNTED'
+GROUP BY campaign_id
+ON CONFLICT (campaign_id) DO NOTHING;
+
+INSERT INTO campaign_stats_daily (campaign_id, bucket_date, donation_count, total_amount)
+SELECT campaign_id, (created_at AT TIME ZONE 'Europe/Istanbul')::date, COUNT(*), SUM(amount)
+FROM donations
+WHERE stats_state = 'COUNTED'
+GROUP BY campaign_id, (created_at AT TIME ZONE 'Europe/Istanbul')::date
+ON CONFLICT (campaign_id, bucket_date) DO NOTHING;
@@ -0,0 +1,113 @@
+-- Monthly range partitioning for append-mostly log tables
+-- audit_logs, login_history and email_logs are partitioned by created_at (UTC
+-- month boundaries). Retention drops whole partitions instead of running
+-- row-by-row DELETEs; LogPartitionService creates future partitions and
+-- retires expired ones. Each table keeps a DEFAULT partition as a safety net
+-- for rows outside the pre-created range; it is expected to stay empty.
+
+-- Creates the partition of p_parent covering the UTC month containing p_month.
+CREATE OR REPLACE FUNCTION create_monthly_partition(p_parent TEXT, p_month TIMESTAMPTZ)
+RETURNS TEXT AS $$
+DECLARE
+    v_start TIMESTAMP := date_trunc('month', p_month AT TIME ZONE 'UTC');
+    v_name TEXT := p_parent || '_p' || to_char(v_start, 'YYYYMM');
+BEGIN
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                   v_name, p_parent,
+                   v_start AT TIME ZONE 'UTC',
+                   (v_start + INTERVAL '1 month') AT TIME ZONE 'UTC');
+    RETURN v_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Creates every monthly partition of p_parent between p_from and p_to (inclusive months).
+CREATE OR REPLACE FUNCTION create_monthly_partitions(p_parent TEXT, p_from TIMESTAMPTZ, p_to TIMESTAMPTZ)
+RETURNS INTEGER AS $$
+DECLARE
+    v_month TIMESTAMPTZ := COALESCE(p_from, CURRENT_TIMESTAMP);
+    v_count INTEGER := 0;
+BEGIN
+    WHILE date_trunc('month', v_month AT TIME ZONE 'UTC') <= date_trunc('month', p_to AT TIME ZONE 'UTC') LOOP
+        PERFORM create_monthly_partition(p_parent, v_month);
+        v_count := v_count + 1;
+        v_month := v_month + INTERVAL '1 month';
+    END LOOP;
+    RETURN v_count;
+END;
+$$ LANGUAGE plpgsql;
+
+-- ============================================================================
+-- audit_logs
+-- ============================================================================
+
+ALTER TABLE audit_logs RENAME TO audit_logs_legacy;
+UPDATE audit_logs_legacy SET created_at = CURRENT_TIMESTAMP WHERE created_at IS NULL;
+
+CREATE TABLE audit_logs (LIKE audit_logs_legacy INCLUDING DEFAULTS) PARTITION BY RANGE (created_at);
+ALTER TABLE audit_logs ALTER COLUMN created_at SET NOT NULL;
+CREATE TABLE audit_logs_default PARTITION OF audit_logs DEFAULT;
+SELECT create_monthly_partitions('audit_logs',
+                                 (SELECT MIN(created_at) FROM audit_logs_legacy),
+                                 CURRENT_TIMESTAMP + INTERVAL '3 months');
+
+INSERT INTO audit_logs SELECT * FROM audit_logs_legacy;
+DROP TABLE audit_logs_legacy;
+
+-- The partition key has to be part of the primary key
+ALTER TABLE audit_logs ADD CONSTRAINT audit_logs_pkey PRIMARY KEY (id, created_at);
+ALTER TABLE audit_logs ADD CONSTRAINT audit_logs_user_id_fkey FOREIGN KEY (user_id) REFERENCES users(id);
+CREATE INDEX idx_audit_user_feed ON audit_logs(user_id, created_at DESC, id DESC);
+CREATE INDEX idx_audit_action ON audit_logs(action);
+CREATE INDEX idx_audit_entity ON audit_logs(entity_type, entity_id);
+CREATE INDEX idx_audit_created ON audit_logs(created_at);
+CREATE INDEX idx_audit_request ON audit_logs(request_id);
+
+-- ============================================================================
+-- login_history
+-- ============================================================================
+
+ALTER TABLE login_history RENAME TO login_history_legacy;
+UPDATE login_history_legacy SET created_at = CURRENT_TIMESTAMP WHERE created_at IS NULL;
+
+CREATE TABLE login_history (LIKE login_history_legacy INCLUDING DEFAULTS) PARTITION BY RANGE (created_at);
+ALTER TABLE login_history ALTER COLUMN created_at SET NOT NULL;
+CREATE TABLE login_history_default PARTITION OF login_history DEFAULT;
+SELECT create_monthly_partitions('login_history',
+                                 (SELECT MIN(created_at) FROM login_history_legacy),
+                                 CURRENT_TIMESTAMP + INTERVAL '3 months');
+
+INSERT INTO login_history SELECT * FROM login_history_legacy;
+DROP TABLE login_history_legacy;
+
+ALTER TABLE login_history ADD CONSTRAINT login_history_pkey PRIMARY KEY (id, created_at);
+ALTER TABLE login_history ADD CONSTRAINT login_history_user_id_fkey
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE;
+CREATE INDEX idx_login_history_user ON login_history(user_id);
+CREATE INDEX idx_login_history_status ON login_history(login_status);
+CREATE INDEX idx_login_history_created ON login_history(created_at);
+
+-- ============================================================================
+-- email_logs
+-- ============================================================================
+
+ALTER TABLE email_logs RENAME TO email_logs_legacy;
+UPDATE email_logs_legacy SET created_at = COALESCE(sent_at, CURRENT_TIMESTAMP) WHERE created_at IS NULL;
+
+CREATE TABLE email_logs (LIKE email_logs_legacy INCLUDING DEFAULTS) PARTITION BY RANGE (created_at);
+ALTER TABLE email_logs ALTER COLUMN created_at SET NOT NULL;
+CREATE TABLE email_logs_default PARTITION OF email_logs DEFAULT;
+SELECT create_monthly_partitions('email_logs',
+                                 (SELECT MIN(created_at) FROM email_logs_legacy),
+                                 CURRENT_TIMESTAMP + INTERVAL '3 months');
+
+INSERT INTO email_logs SELECT * FROM email_logs_legacy;
+DROP TABLE email_logs_legacy;
+
+ALTER TABLE email_logs ADD CONSTRAINT email_logs_pkey PRIMARY KEY (id, created_at);
+ALTER TABLE email_logs ADD CONSTRAINT email_logs_user_id_fkey FOREIGN KEY (user_id) REFERENCES users(id);
+CREATE INDEX idx_email_logs_user ON email_logs(user_id);
+CREATE INDEX idx_email_logs_type ON email_logs(email_type);
+
+COMMENT ON TABLE audit_logs IS 'Audit trail, partitioned by month on created_at';
+COMMENT ON TABLE login_history IS 'Login attempts, partitioned by month on created_at';
+COMMENT ON TABLE email_logs IS 'Sent email log, partitioned by month on created_at';
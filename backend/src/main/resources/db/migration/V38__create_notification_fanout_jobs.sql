@@ -0,0 +1,36 @@
+-- Notification fan-out jobs for campaign followers
+-- A campaign update or completion records one job row in the business
+-- transaction. NotificationFanoutScheduler then pages the followers by user_id
+-- and inserts their notifications in chunks; cursor_user_id is advanced in the
+-- same transaction as each chunk, so a job resumes where it stopped.
+
+CREATE TABLE IF NOT EXISTS notification_fanout_jobs (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    campaign_id UUID NOT NULL REFERENCES campaigns(id) ON DELETE CASCADE,
+    notification_type VARCHAR(50) NOT NULL, -- CAMPAIGN_UPDATE, CAMPAIGN_COMPLETED
+    title VARCHAR(200) NOT NULL,
+    message TEXT,
+    entity_type VARCHAR(50),
+    entity_id UUID,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING', -- PENDING, RUNNING, COMPLETED, FAILED
+    cursor_user_id UUID,
+    delivered_count BIGINT NOT NULL DEFAULT 0,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    available_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP WITH TIME ZONE,
+    completed_at TIMESTAMP WITH TIME ZONE,
+    last_error TEXT,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Worker polls only unfinished jobs
+CREATE INDEX idx_notification_fanout_jobs_status_available ON notification_fanout_jobs(status, available_at)
+    WHERE status IN ('PENDING', 'RUNNING');
+CREATE INDEX idx_notification_fanout_jobs_campaign ON notification_fanout_jobs(campaign_id);
+
+-- Keyset pages of a campaign's followers are read in user_id order
+CREATE INDEX idx_campaign_followers_campaign_user ON campaign_followers(campaign_id, user_id);
+DROP INDEX IF EXISTS idx_campaign_followers_campaign;
+
+COMMENT ON TABLE notification_fanout_jobs IS 'Resumable fan-out of campaign notifications to followers';
@@ -0,0 +1,16 @@
+-- email_logs doubles as the outgoing mail queue
+-- EmailService records a 'queued' row with the template variables in the
+-- caller's transaction. MailDispatchScheduler claims due rows through the
+-- partial index below (leased as 'sending'), sends them and writes the outcome
+-- back in one batch: 'sent', 'queued' again with a backed-off next_attempt_at,
+-- or 'failed' once the retries are used up. The index only covers unfinished
+-- rows, so it stays small however large the sent history grows.
+
+ALTER TABLE email_logs ADD COLUMN IF NOT EXISTS variables JSONB;
+ALTER TABLE email_logs ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP WITH TIME ZONE;
+
+CREATE INDEX IF NOT EXISTS idx_email_logs_due ON email_logs(next_attempt_at)
+    WHERE status IN ('queued', 'sending');
+
+COMMENT ON COLUMN email_logs.variables IS 'Template variables, kept so queued and failed emails can be rendered again';
+COMMENT ON COLUMN email_logs.next_attempt_at IS 'When a queued email is due, or when the lease of a sending one expires';
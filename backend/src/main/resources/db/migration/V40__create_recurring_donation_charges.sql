@@ -0,0 +1,28 @@
+-- Recurring donation charges, one row per subscription and billing period
+-- RecurringDonationScheduler claims due subscriptions in chunks with
+-- FOR UPDATE SKIP LOCKED and leases them through charge_lease_until, so
+-- several nodes can charge in parallel without picking the same row. The
+-- unique (recurring_donation_id, billing_period) key makes charging idempotent
+-- per period: a period that SUCCEEDED is never charged again, and one left
+-- PROCESSING by a crash during the gateway call is held for reconciliation
+-- instead of being charged twice.
+
+ALTER TABLE recurring_donations ADD COLUMN IF NOT EXISTS charge_lease_until TIMESTAMP WITH TIME ZONE;
+
+CREATE TABLE IF NOT EXISTS recurring_donation_charges (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    recurring_donation_id UUID NOT NULL REFERENCES recurring_donations(id) ON DELETE CASCADE,
+    billing_period DATE NOT NULL,
+    donation_id UUID REFERENCES donations(id),
+    status VARCHAR(20) NOT NULL DEFAULT 'PROCESSING', -- PROCESSING, SUCCEEDED, FAILED
+    attempts INTEGER NOT NULL DEFAULT 0,
+    provider_payment_id VARCHAR(255),
+    last_error TEXT,
+    charged_at TIMESTAMP WITH TIME ZONE,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_recurring_donation_charges_period UNIQUE (recurring_donation_id, billing_period)
+);
+
+CREATE INDEX IF NOT EXISTS idx_recurring_donation_charges_status ON recurring_donation_charges(status)
+    WHERE status = 'PROCESSING';
@@ -0,0 +1,19 @@
+-- Evidence deadline sweep
+-- The nightly transparency job settles each completed campaign's evidence
+-- deadline once: campaigns past completed_at + evidence_deadline_days are
+-- checked in one set-based query, the ones whose approved evidence does not
+-- cover collected_amount are penalized, and all of them are stamped with
+-- evidence_deadline_checked_at so later runs skip them. The partial index keeps
+-- the sweep proportional to campaigns still waiting on their deadline.
+
+ALTER TABLE campaigns ADD COLUMN IF NOT EXISTS evidence_deadline_checked_at TIMESTAMPTZ;
+
+-- Campaigns already past their deadline were penalized by earlier runs
+UPDATE campaigns
+SET evidence_deadline_checked_at = CURRENT_TIMESTAMP
+WHERE status = 'COMPLETED'
+  AND completed_at IS NOT NULL
+  AND completed_at + make_interval(days => COALESCE(evidence_deadline_days, 15)) < CURRENT_TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS idx_campaigns_evidence_deadline_pending ON campaigns(completed_at)
+    WHERE status = 'COMPLETED' AND evidence_deadline_checked_at IS NULL;
@@ -0,0 +1,61 @@
+-- Event-sourced transparency scores
+-- transparency_score_history becomes the append-only event log of each
+-- organization's score: every row gets a per-organization event_version, and
+-- transparency_scores is a projection folded from those events with the rules
+-- of TransparencyScoreCalculator. Snapshots of the fold every N events keep a
+-- replay short, and rules_version marks which rules a score and a snapshot
+-- were computed with, so a rule change can be replayed retroactively.
+
+ALTER TABLE transparency_score_history ADD COLUMN IF NOT EXISTS event_version BIGINT;
+
+UPDATE transparency_score_history h
+SET event_version = ordered.version
+FROM (
+    SELECT id, ROW_NUMBER() OVER (PARTITION BY organization_id ORDER BY created_at, id) AS version
+    FROM transparency_score_history
+) ordered
+WHERE h.id = ordered.id;
+
+ALTER TABLE transparency_score_history ALTER COLUMN event_version SET NOT NULL;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_transparency_history_org_version
+    ON transparency_score_history(organization_id, event_version);
+
+-- Events are facts; only removing an organization may remove them
+CREATE OR REPLACE FUNCTION reject_transparency_history_update()
+RETURNS TRIGGER AS $$
+BEGIN
+    RAISE EXCEPTION 'transparency_score_history is append-only';
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS transparency_history_append_only ON transparency_score_history;
+CREATE TRIGGER transparency_history_append_only BEFORE UPDATE ON transparency_score_history
+    FOR EACH ROW EXECUTE FUNCTION reject_transparency_history_update();
+
+ALTER TABLE transparency_scores ADD COLUMN IF NOT EXISTS event_version BIGINT NOT NULL DEFAULT 0;
+-- NULL until the first replay, which folds the existing history with the current rules
+ALTER TABLE transparency_scores ADD COLUMN IF NOT EXISTS rules_version INTEGER;
+
+UPDATE transparency_scores s
+SET event_version = latest.version
+FROM (
+    SELECT organization_id, MAX(event_version) AS version
+    FROM transparency_score_history
+    GROUP BY organization_id
+) latest
+WHERE s.organization_id = latest.organization_id;
+
+CREATE TABLE IF NOT EXISTS transparency_score_snapshots (
+    organization_id UUID NOT NULL REFERENCES organizations(id) ON DELETE CASCADE,
+    rules_version INTEGER NOT NULL,
+    event_version BIGINT NOT NULL,
+    current_score DECIMAL(5,2) NOT NULL,
+    completed_campaigns INTEGER NOT NULL DEFAULT 0,
+    approved_evidences INTEGER NOT NULL DEFAULT 0,
+    rejected_evidences INTEGER NOT NULL DEFAULT 0,
+    on_time_reports INTEGER NOT NULL DEFAULT 0,
+    late_reports INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (organization_id, rules_version, event_version)
+);
@@ -0,0 +1,23 @@
+-- Global transparency leaderboard with precomputed ranks.
+--
+-- rank is the dense rank by score (ties share a rank); position is a unique
+-- ordinal used to cut pages, so "top N", "page K" and "rank of organization X"
+-- are single index lookups. Organization name and logo are denormalized.
+-- Refreshed with REFRESH MATERIALIZED VIEW CONCURRENTLY after score changes,
+-- which needs the unique index on organization_id.
+CREATE MATERIALIZED VIEW IF NOT EXISTS transparency_leaderboard AS
+SELECT s.organization_id,
+       o.legal_name AS organization_name,
+       o.logo_url,
+       s.current_score,
+       s.completed_campaigns,
+       CAST(DENSE_RANK() OVER (ORDER BY s.current_score DESC) AS INTEGER) AS rank,
+       CAST(ROW_NUMBER() OVER (ORDER BY s.current_score DESC, s.organization_id) AS INTEGER) AS position
+FROM transparency_scores s
+JOIN organizations o ON o.id = s.organization_id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_transparency_leaderboard_org
+    ON transparency_leaderboard (organization_id);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_transparency_leaderboard_position
+    ON transparency_leaderboard (position);
@@ -0,0 +1,12 @@
+-- Indexes for the chunked expiry sweep (ExpirySweeper).
+-- Each chunk picks the oldest due pending rows in deadline order; these
+-- partial indexes cover only pending rows, so a sweep stays proportional to
+-- what is due rather than to the whole table.
+
+CREATE INDEX IF NOT EXISTS idx_bank_ref_pending_expires
+    ON bank_transfer_references (expires_at)
+    WHERE status = 'pending';
+
+CREATE INDEX IF NOT EXISTS idx_payment_sessions_pending_created
+    ON payment_sessions (created_at)
+    WHERE status = 'PENDING';
@@ -0,0 +1,13 @@
+-- Random verification code for receipts.
+-- barcode_data is a sequential number, so verifying a receipt by it alone
+-- lets anyone walk through every receipt. Public verification now needs
+-- the number and this code together; existing receipts get a random code
+-- here (gen_random_uuid is backed by a cryptographic random source).
+
+ALTER TABLE receipts ADD COLUMN IF NOT EXISTS verification_code VARCHAR(32);
+
+UPDATE receipts
+SET verification_code = UPPER(SUBSTRING(REPLACE(gen_random_uuid()::text, '-', '') FROM 1 FOR 16))
+WHERE verification_code IS NULL;
+
+ALTER TABLE receipts ALTER COLUMN verification_code SET NOT NULL;
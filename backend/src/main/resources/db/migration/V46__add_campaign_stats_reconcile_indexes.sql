@@ -0,0 +1,16 @@
+-- Indexes for the nightly campaign stats reconciliation
+-- (CampaignStatsRebuildScheduler). The job only visits campaigns with
+-- donations updated since their last rebuild, or with a stats_state marker
+-- that disagrees with the donation status, so both lookups need an index
+-- instead of a scan over every donation.
+
+CREATE INDEX IF NOT EXISTS idx_donations_updated_at
+    ON donations (updated_at);
+
+CREATE INDEX IF NOT EXISTS idx_donations_stats_unsynced
+    ON donations (campaign_id)
+    WHERE (status = 'COMPLETED' AND stats_state IS DISTINCT FROM 'COUNTED')
+       OR (status <> 'COMPLETED' AND stats_state = 'COUNTED');
+
+CREATE INDEX IF NOT EXISTS idx_campaign_stats_rebuilt_at
+    ON campaign_stats (rebuilt_at);
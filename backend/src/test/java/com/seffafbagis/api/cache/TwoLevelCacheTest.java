@@ -0,0 +1,115 @@
+package com.seffafbagis.api.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheTest {
+
+    private static final String CACHE_NAME = "test";
+
+    @Mock
+    private CacheInvalidationPublisher invalidationPublisher;
+
+    private com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private ConcurrentMapCache remote;
+    private SimpleMeterRegistry meterRegistry;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        local = Caffeine.newBuilder().maximumSize(100).build();
+        remote = new ConcurrentMapCache(CACHE_NAME, false);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TwoLevelCache(CACHE_NAME, local, remote, invalidationPublisher, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should load once and serve later reads from L1")
+    void get_WithLoader_ShouldLoadOnce() {
+        AtomicInteger loads = new AtomicInteger();
+
+        String first = cache.get("key", () -> "value-" + loads.incrementAndGet());
+        String second = cache.get("key", () -> "value-" + loads.incrementAndGet());
+
+        assertEquals("value-1", first);
+        assertEquals("value-1", second);
+        assertEquals(1, loads.get());
+        assertEquals("value-1", remote.get("key").get());
+    }
+
+    @Test
+    @DisplayName("Should promote L2 hits into L1")
+    void get_L2Hit_ShouldPromoteToL1() {
+        remote.put("key", "shared");
+
+        Cache.ValueWrapper wrapper = cache.get("key");
+
+        assertNotNull(wrapper);
+        assertEquals("shared", wrapper.get());
+        assertEquals("shared", local.getIfPresent("key"));
+        assertEquals(1.0, meterRegistry.get("cache.l2.gets").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should treat L2 failures as a miss")
+    void get_L2Failure_ShouldFallBackToLoader() {
+        Cache failingRemote = mock(Cache.class);
+        when(failingRemote.get(any())).thenThrow(new IllegalStateException("redis down"));
+        doThrow(new IllegalStateException("redis down")).when(failingRemote).put(any(), any());
+        TwoLevelCache degraded = new TwoLevelCache(CACHE_NAME, local, failingRemote, invalidationPublisher, meterRegistry);
+
+        String value = degraded.get("key", () -> "loaded");
+
+        assertEquals("loaded", value);
+        assertEquals("loaded", local.getIfPresent("key"));
+        assertEquals(2.0, meterRegistry.get("cache.l2.gets").tag("result", "error").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should not cache null values")
+    void put_Null_ShouldBeIgnored() {
+        cache.put("key", null);
+
+        assertNull(cache.get("key"));
+        assertNull(remote.get("key"));
+    }
+
+    @Test
+    @DisplayName("Should evict both tiers and broadcast the eviction")
+    void evict_ShouldClearBothTiersAndBroadcast() {
+        cache.put("key", "value");
+
+        cache.evict("key");
+
+        assertNull(local.getIfPresent("key"));
+        assertNull(remote.get("key"));
+        verify(invalidationPublisher).publishEvict(CACHE_NAME, "key");
+    }
+
+    @Test
+    @DisplayName("Remote invalidation should only drop the L1 entry")
+    void evictLocal_ShouldKeepL2() {
+        cache.put("key", "value");
+
+        cache.evictLocal("key");
+
+        assertNull(local.getIfPresent("key"));
+        assertEquals("value", remote.get("key").get());
+        verifyNoInteractions(invalidationPublisher);
+    }
+}
@@ -0,0 +1,165 @@
+package com.seffafbagis.api.controller;
+
+import com.seffafbagis.api.config.SecurityConfig;
+import com.seffafbagis.api.security.CustomUserDetailsService;
+import com.seffafbagis.api.security.JwtAuthenticationEntryPoint;
+import com.seffafbagis.api.security.JwtAuthenticationFilter;
+import com.seffafbagis.api.security.JwtTokenProvider;
+import com.seffafbagis.api.security.PublicRoutes;
+import com.seffafbagis.api.security.UserAuthCache;
+import com.seffafbagis.api.service.storage.FileStorageService;
+import com.seffafbagis.api.service.storage.StoredFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(FileController.class)
+@Import({ SecurityConfig.class, JwtAuthenticationFilter.class, PublicRoutes.class })
+@ActiveProfiles("test")
+public class FileControllerTest {
+
+    private static final String HASH = "6bc14bdc4517a7a682c6910de2e2946eb8e1ecd04090728fef6d092a7ceb62c5";
+    private static final String KEY = "documents/6b/" + HASH + ".pdf";
+    private static final String ETAG = "\"" + HASH + "\"";
+    private static final byte[] CONTENT = "0123456789abcdefghij".getBytes(StandardCharsets.US_ASCII);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private FileStorageService fileStorageService;
+
+    @MockBean
+    private CustomUserDetailsService userDetailsService;
+
+    @MockBean
+    private UserAuthCache userAuthCache;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+
+    private StoredFile file;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        file = new StoredFile(KEY, CONTENT.length, "application/pdf", ETAG, Instant.parse("2024-03-01T10:00:00Z"));
+        when(fileStorageService.findFile(KEY)).thenReturn(Optional.of(file));
+        doAnswer(invocation -> {
+            int offset = (int) (long) invocation.getArgument(1);
+            int length = (int) (long) invocation.getArgument(2);
+            OutputStream out = invocation.getArgument(3);
+            out.write(Arrays.copyOfRange(CONTENT, offset, offset + length));
+            return null;
+        }).when(fileStorageService).transfer(eq(file), anyLong(), anyLong(), any(OutputStream.class));
+    }
+
+    @Test
+    @WithMockUser
+    void getFile_ShouldStreamWholeFile() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/files/" + KEY))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, CONTENT.length))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PDF))
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    @WithMockUser
+    void getFile_WithRange_ShouldReturnPartialContent() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/files/" + KEY).header(HttpHeaders.RANGE, "bytes=5-9"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 5-9/20"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 5))
+                .andExpect(content().string("56789"));
+    }
+
+    @Test
+    @WithMockUser
+    void getFile_WithStaleIfRange_ShouldReturnWholeFile() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/files/" + KEY)
+                        .header(HttpHeaders.RANGE, "bytes=5-9")
+                        .header(HttpHeaders.IF_RANGE, "\"other\""))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    @WithMockUser
+    void getFile_WithUnsatisfiableRange_ShouldReturn416() throws Exception {
+        mockMvc.perform(get("/api/v1/files/" + KEY).header(HttpHeaders.RANGE, "bytes=50-60"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */20"));
+    }
+
+    @Test
+    @WithMockUser
+    void getFile_WithSuffixRangeLargerThanFile_ShouldReturnWholeFileAsRange() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/files/" + KEY).header(HttpHeaders.RANGE, "bytes=-50"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-19/20"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, CONTENT.length))
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    @WithMockUser
+    void getFile_WithMatchingEtag_ShouldReturnNotModified() throws Exception {
+        mockMvc.perform(get("/api/v1/files/" + KEY).header(HttpHeaders.IF_NONE_MATCH, "W/" + ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @WithMockUser
+    void getFile_Missing_ShouldReturnNotFound() throws Exception {
+        when(fileStorageService.findFile("documents/missing.pdf")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/v1/files/documents/missing.pdf"))
+                .andExpect(status().isNotFound());
+    }
+}
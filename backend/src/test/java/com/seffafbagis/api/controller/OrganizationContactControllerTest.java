@@ -10,6 +10,8 @@ import com.seffafbagis.api.security.CustomUserDetailsService;
 import com.seffafbagis.api.security.JwtAuthenticationEntryPoint;
 import com.seffafbagis.api.security.JwtAuthenticationFilter;
 import com.seffafbagis.api.security.JwtTokenProvider;
+import com.seffafbagis.api.security.PublicRoutes;
+import com.seffafbagis.api.security.UserAuthCache;
 import com.seffafbagis.api.service.organization.OrganizationContactService;
 import com.seffafbagis.api.service.organization.OrganizationService;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,7 +36,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(OrganizationContactController.class)
-@Import({ SecurityConfig.class, JwtAuthenticationFilter.class })
+@Import({ SecurityConfig.class, JwtAuthenticationFilter.class, PublicRoutes.class })
 @ActiveProfiles("test")
 public class OrganizationContactControllerTest {
 
@@ -53,6 +55,9 @@ public class OrganizationContactControllerTest {
     @MockBean
     private CustomUserDetailsService userDetailsService;
 
+    @MockBean
+    private UserAuthCache userAuthCache;
+
     @MockBean
     private JwtTokenProvider jwtTokenProvider;
 
@@ -38,12 +38,14 @@ import com.seffafbagis.api.security.CustomUserDetailsService;
 import com.seffafbagis.api.security.JwtAuthenticationEntryPoint;
 import com.seffafbagis.api.security.JwtAuthenticationFilter;
 import com.seffafbagis.api.security.JwtTokenProvider;
+import com.seffafbagis.api.security.PublicRoutes;
+import com.seffafbagis.api.security.UserAuthCache;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 @WebMvcTest(OrganizationController.class)
-@Import({ SecurityConfig.class, JwtAuthenticationFilter.class })
+@Import({ SecurityConfig.class, JwtAuthenticationFilter.class, PublicRoutes.class })
 @ActiveProfiles("test")
 class OrganizationControllerTest {
 
@@ -59,6 +61,9 @@ class OrganizationControllerTest {
     @MockBean
     private CustomUserDetailsService userDetailsService;
 
+    @MockBean
+    private UserAuthCache userAuthCache;
+
     @MockBean
     private JwtTokenProvider jwtTokenProvider;
 
@@ -9,6 +9,8 @@ import com.seffafbagis.api.security.CustomUserDetailsService;
 import com.seffafbagis.api.security.JwtAuthenticationEntryPoint;
 import com.seffafbagis.api.security.JwtAuthenticationFilter;
 import com.seffafbagis.api.security.JwtTokenProvider;
+import com.seffafbagis.api.security.PublicRoutes;
+import com.seffafbagis.api.security.UserAuthCache;
 import com.seffafbagis.api.service.organization.OrganizationDocumentService;
 import com.seffafbagis.api.service.organization.OrganizationService;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,7 +34,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(OrganizationDocumentController.class)
-@Import({ SecurityConfig.class, JwtAuthenticationFilter.class })
+@Import({ SecurityConfig.class, JwtAuthenticationFilter.class, PublicRoutes.class })
 @ActiveProfiles("test")
 public class OrganizationDocumentControllerTest {
 
@@ -51,6 +53,9 @@ public class OrganizationDocumentControllerTest {
     @MockBean
     private CustomUserDetailsService userDetailsService;
 
+    @MockBean
+    private UserAuthCache userAuthCache;
+
     @MockBean
     private JwtTokenProvider jwtTokenProvider;
 
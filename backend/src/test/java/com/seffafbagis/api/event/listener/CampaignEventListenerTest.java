@@ -1,6 +1,7 @@
 package com.seffafbagis.api.event.listener;
 
 import com.seffafbagis.api.entity.campaign.Campaign;
+import com.seffafbagis.api.enums.AuditDurability;
 import com.seffafbagis.api.event.CampaignApprovedEvent;
 import com.seffafbagis.api.event.CampaignRejectedEvent;
 import com.seffafbagis.api.repository.CampaignRepository;
@@ -64,7 +65,7 @@ class CampaignEventListenerTest {
         // Assert
         verify(notificationService).notifyCampaignApproved(campaign);
         verify(auditLogService).log(eq("campaign.approved"), eq(adminId), eq("campaign"), eq(campaignId), isNull(),
-                isNull());
+                isNull(), eq(AuditDurability.ASYNC));
     }
 
     @Test
@@ -88,6 +89,6 @@ class CampaignEventListenerTest {
         // Assert
         verify(notificationService).notifyCampaignRejected(campaign, reason);
         verify(auditLogService).log(eq("campaign.rejected"), eq(adminId), eq("campaign"), eq(campaignId), isNull(),
-                isNull());
+                isNull(), eq(AuditDurability.ASYNC));
     }
 }
@@ -1,6 +1,7 @@
 package com.seffafbagis.api.event.listener;
 
 import com.seffafbagis.api.entity.donation.Donation;
+import com.seffafbagis.api.enums.AuditDurability;
 import com.seffafbagis.api.enums.DonationStatus;
 import com.seffafbagis.api.event.DonationCompletedEvent;
 import com.seffafbagis.api.event.DonationFailedEvent;
@@ -64,7 +65,7 @@ class DonationEventListenerTest {
         // Assert
         verify(notificationService).notifyDonationReceived(donation);
         verify(auditLogService).log(eq("donation.completed"), eq(triggeredBy), eq("donation"), eq(donationId), isNull(),
-                isNull());
+                isNull(), eq(AuditDurability.ASYNC));
     }
 
     @Test
@@ -86,7 +87,7 @@ class DonationEventListenerTest {
         verify(notificationService).notifySystem(donorId, "Bağış Başarısız",
                 "Bağışınız işlenirken bir hata oluştu: " + failureReason);
         verify(auditLogService).log(eq("donation.failed"), eq(triggeredBy), eq("donation"), eq(donationId), isNull(),
-                isNull());
+                isNull(), eq(AuditDurability.ASYNC));
     }
 
     @Test
@@ -106,6 +107,6 @@ class DonationEventListenerTest {
         // Assert
         verify(notificationService, never()).notifySystem(any(), any(), any());
         verify(auditLogService).log(eq("donation.failed"), eq(triggeredBy), eq("donation"), eq(donationId), isNull(),
-                isNull());
+                isNull(), eq(AuditDurability.ASYNC));
     }
 }
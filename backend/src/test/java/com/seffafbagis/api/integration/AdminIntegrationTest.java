@@ -125,6 +125,26 @@ public class AdminIntegrationTest extends BaseIntegrationTest {
                 assertThat(delRes.getStatusCode()).isIn(HttpStatus.BAD_REQUEST, HttpStatus.FORBIDDEN);
         }
 
+        @Test
+        void testSuspendedUserTokenIsRejected() {
+                String userToken = loginAndGetToken("target@example.com", "UserPass123!");
+
+                ResponseEntity<String> meRes = restTemplate.exchange("/api/v1/users/me", HttpMethod.GET,
+                                new HttpEntity<>(authHeaders(userToken)), String.class);
+                assertThat(meRes.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+                Map<String, String> statusUpdate = Map.of("status", "SUSPENDED", "reason", "Abuse report");
+                ResponseEntity<String> statusRes = restTemplate.exchange(
+                                "/api/v1/admin/users/" + targetUser.getId() + "/status", HttpMethod.PUT,
+                                new HttpEntity<>(statusUpdate, authHeaders(adminToken)), String.class);
+                assertThat(statusRes.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+                // The access token is still valid, but the cached status was evicted
+                meRes = restTemplate.exchange("/api/v1/users/me", HttpMethod.GET,
+                                new HttpEntity<>(authHeaders(userToken)), String.class);
+                assertThat(meRes.getStatusCode()).isIn(HttpStatus.UNAUTHORIZED, HttpStatus.FORBIDDEN);
+        }
+
         @Test
         void testNonAdminCannotAccessAdminEndpoints() {
                 String userToken = loginAndGetToken("target@example.com", "UserPass123!");
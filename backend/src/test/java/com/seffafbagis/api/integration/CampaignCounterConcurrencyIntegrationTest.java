@@ -0,0 +1,118 @@
+package com.seffafbagis.api.integration;
+
+import com.seffafbagis.api.entity.campaign.Campaign;
+import com.seffafbagis.api.entity.donation.Donation;
+import com.seffafbagis.api.entity.organization.Organization;
+import com.seffafbagis.api.enums.CampaignStatus;
+import com.seffafbagis.api.enums.DonationStatus;
+import com.seffafbagis.api.repository.CampaignDonationCounterRepository;
+import com.seffafbagis.api.repository.CampaignRepository;
+import com.seffafbagis.api.repository.DonationRepository;
+import com.seffafbagis.api.service.campaign.CampaignDonationCounterService;
+import com.seffafbagis.api.service.donation.DonationService;
+import com.seffafbagis.api.util.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrency test for striped campaign donation counters.
+ * Completes thousands of donations against a single campaign in parallel and
+ * verifies that the rolled-up totals are exact.
+ */
+public class CampaignCounterConcurrencyIntegrationTest extends BaseIntegrationTest {
+
+    private static final int DONATION_COUNT = 2000;
+    private static final int THREADS = 32;
+    private static final BigDecimal AMOUNT = new BigDecimal("10.00");
+
+    @Autowired
+    private TestDataFactory testDataFactory;
+
+    @Autowired
+    private DonationService donationService;
+
+    @Autowired
+    private DonationRepository donationRepository;
+
+    @Autowired
+    private CampaignRepository campaignRepository;
+
+    @Autowired
+    private CampaignDonationCounterRepository counterRepository;
+
+    @Autowired
+    private CampaignDonationCounterService counterService;
+
+    private Campaign campaign;
+
+    @BeforeEach
+    void setUp() {
+        Organization organization = testDataFactory.createVerifiedOrganization();
+        campaign = testDataFactory.createApprovedCampaign(organization);
+        campaign.setTargetAmount(new BigDecimal("100000000.00"));
+        campaign = campaignRepository.save(campaign);
+    }
+
+    @Test
+    @DisplayName("Parallel completions against one campaign should produce exact totals")
+    void completeDonation_Parallel_ShouldProduceExactTotals() throws Exception {
+        List<UUID> donationIds = new ArrayList<>(DONATION_COUNT);
+        for (int i = 0; i < DONATION_COUNT; i++) {
+            Donation donation = new Donation();
+            donation.setCampaign(campaign);
+            donation.setAmount(AMOUNT);
+            donation.setCurrency("TRY");
+            donation.setStatus(DonationStatus.PENDING);
+            donationIds.add(donationRepository.save(donation).getId());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>(DONATION_COUNT);
+            for (UUID donationId : donationIds) {
+                futures.add(executor.submit(() -> donationService.completeDonation(donationId)));
+            }
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        counterService.rollUp();
+
+        Campaign reloaded = campaignRepository.findById(campaign.getId()).orElseThrow();
+        BigDecimal expected = AMOUNT.multiply(BigDecimal.valueOf(DONATION_COUNT));
+
+        assertThat(reloaded.getCollectedAmount()).isEqualByComparingTo(expected);
+        assertThat(reloaded.getDonorCount()).isEqualTo(DONATION_COUNT);
+        assertThat(reloaded.getStatus()).isEqualTo(CampaignStatus.ACTIVE);
+        assertThat(counterRepository.sumPendingAmountByCampaignId(campaign.getId())).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(donationRepository.sumCompletedAmountByCampaignId(campaign.getId())).isEqualByComparingTo(expected);
+    }
+
+    @Test
+    @DisplayName("Aggregated amount should include donations that are not rolled up yet")
+    void aggregatedAmount_ShouldIncludePendingShards() {
+        counterService.recordDonation(campaign.getId(), AMOUNT);
+        counterService.recordDonation(campaign.getId(), AMOUNT);
+
+        Campaign reloaded = campaignRepository.findById(campaign.getId()).orElseThrow();
+
+        assertThat(counterService.getAggregatedAmount(reloaded)).isEqualByComparingTo(new BigDecimal("20.00"));
+        assertThat(counterService.getAggregatedDonorCount(reloaded)).isEqualTo(2);
+    }
+}
@@ -0,0 +1,126 @@
+package com.seffafbagis.api.integration;
+
+import com.seffafbagis.api.enums.PartitionedTable;
+import com.seffafbagis.api.service.system.LogPartitionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the V37 partitioning migration against the pre-V37 shape of the log
+ * tables, then lets {@link LogPartitionService} create and retire
+ * partitions. Integration tests build their schema with Hibernate, so the
+ * migration gets a database of its own.
+ */
+@Testcontainers
+public class LogPartitionMigrationIntegrationTest {
+
+    private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String PRE_V37_SCHEMA = "CREATE TABLE users (id UUID PRIMARY KEY);"
+            + "CREATE TABLE audit_logs (id UUID PRIMARY KEY DEFAULT gen_random_uuid(), "
+            + "user_id UUID REFERENCES users(id), action VARCHAR(100) NOT NULL, entity_type VARCHAR(100), "
+            + "entity_id UUID, request_id VARCHAR(64), "
+            + "created_at TIMESTAMPTZ DEFAULT CURRENT_TIMESTAMP);"
+            + "CREATE TABLE login_history (id UUID PRIMARY KEY DEFAULT gen_random_uuid(), "
+            + "user_id UUID REFERENCES users(id), login_status VARCHAR(20), "
+            + "created_at TIMESTAMPTZ DEFAULT CURRENT_TIMESTAMP);"
+            + "CREATE TABLE email_logs (id UUID PRIMARY KEY DEFAULT gen_random_uuid(), "
+            + "user_id UUID REFERENCES users(id), email_type VARCHAR(50), sent_at TIMESTAMPTZ, "
+            + "created_at TIMESTAMPTZ DEFAULT CURRENT_TIMESTAMP);";
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15")
+            .withDatabaseName("partition_db")
+            .withUsername("test")
+            .withPassword("test");
+
+    private static JdbcTemplate jdbcTemplate;
+    private static final OffsetDateTime LEGACY_AT = OffsetDateTime.now(ZoneOffset.UTC).minusMonths(14);
+
+    @BeforeAll
+    static void migrate() throws IOException {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()));
+        jdbcTemplate.execute(PRE_V37_SCHEMA);
+        jdbcTemplate.update("INSERT INTO audit_logs (action, created_at) VALUES ('LEGACY', ?), ('LEGACY', NULL)",
+                LEGACY_AT);
+
+        String v37 = new ClassPathResource("db/migration/V37__partition_log_tables.sql")
+                .getContentAsString(StandardCharsets.UTF_8);
+        jdbcTemplate.execute(v37);
+    }
+
+    @Test
+    @DisplayName("V37 moves existing rows into monthly partitions from the oldest row onwards")
+    void migrationPartitionsExistingRows() {
+        assertThat(partitions("audit_logs"))
+                .contains("audit_logs_default", partitionName("audit_logs", YearMonth.from(LEGACY_AT)),
+                        partitionName("audit_logs", YearMonth.now(ZoneOffset.UTC).plusMonths(3)));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM audit_logs", Long.class)).isEqualTo(2);
+        // rows without created_at were stamped, none ended up in the DEFAULT partition
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM audit_logs_default", Long.class)).isZero();
+        assertThat(partitions("login_history")).contains("login_history_default");
+        assertThat(partitions("email_logs")).contains("email_logs_default");
+    }
+
+    @Test
+    @DisplayName("ensurePartitions creates the months ahead and purgeBefore drops only expired ones")
+    void partitionsAreCreatedAndDropped() {
+        LogPartitionService service = new LogPartitionService(jdbcTemplate, new SimpleMeterRegistry());
+        YearMonth thisMonth = YearMonth.now(ZoneOffset.UTC);
+
+        int months = service.ensurePartitions(PartitionedTable.EMAIL_LOGS, 6);
+
+        assertThat(months).isEqualTo(7);
+        assertThat(partitions("email_logs"))
+                .contains(partitionName("email_logs", thisMonth),
+                        partitionName("email_logs", thisMonth.plusMonths(6)));
+
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        jdbcTemplate.queryForObject("SELECT create_monthly_partition('email_logs', ?)", String.class,
+                now.minusMonths(3));
+        jdbcTemplate.update("INSERT INTO email_logs (email_type, created_at) VALUES ('OLD', ?), ('NEW', ?)",
+                now.minusMonths(3), now);
+        String expired = partitionName("email_logs", thisMonth.minusMonths(3));
+        assertThat(partitions("email_logs")).contains(expired);
+
+        long removed = service.purgeBefore(PartitionedTable.EMAIL_LOGS, now.minusMonths(1),
+                () -> {
+                    throw new AssertionError("partitioned tables must not fall back to DELETE");
+                });
+
+        assertThat(removed).isGreaterThanOrEqualTo(0);
+        assertThat(partitions("email_logs")).doesNotContain(expired)
+                .contains(partitionName("email_logs", thisMonth));
+        assertThat(jdbcTemplate.queryForList("SELECT email_type FROM email_logs", String.class))
+                .containsExactly("NEW");
+    }
+
+    private static List<String> partitions(String parent) {
+        return jdbcTemplate.queryForList("SELECT c.relname FROM pg_inherits i "
+                + "JOIN pg_class c ON c.oid = i.inhrelid JOIN pg_class p ON p.oid = i.inhparent "
+                + "WHERE p.relname = ?", String.class, parent);
+    }
+
+    private static String partitionName(String parent, YearMonth month) {
+        return parent + "_p" + month.format(PARTITION_MONTH);
+    }
+}
@@ -0,0 +1,138 @@
+package com.seffafbagis.api.integration;
+
+import com.seffafbagis.api.entity.campaign.Campaign;
+import com.seffafbagis.api.entity.donation.Donation;
+import com.seffafbagis.api.entity.organization.Organization;
+import com.seffafbagis.api.enums.DonationStatus;
+import com.seffafbagis.api.repository.CampaignRepository;
+import com.seffafbagis.api.repository.DonationRepository;
+import com.seffafbagis.api.service.donation.DonationService;
+import com.seffafbagis.api.service.receipt.ReceiptNumberAllocator;
+import com.seffafbagis.api.util.ReceiptNumberGenerator;
+import com.seffafbagis.api.util.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Stress test for receipt numbering: completes donations in parallel and
+ * allocates from several allocator instances standing in for separate nodes,
+ * all against the same per-year sequence.
+ */
+public class ReceiptNumberConcurrencyIntegrationTest extends BaseIntegrationTest {
+
+    private static final int DONATION_COUNT = 1000;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private TestDataFactory testDataFactory;
+
+    @Autowired
+    private DonationService donationService;
+
+    @Autowired
+    private DonationRepository donationRepository;
+
+    @Autowired
+    private CampaignRepository campaignRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Campaign campaign;
+
+    @BeforeEach
+    void setUp() {
+        Organization organization = testDataFactory.createVerifiedOrganization();
+        campaign = testDataFactory.createApprovedCampaign(organization);
+        campaign.setTargetAmount(new BigDecimal("100000000.00"));
+        campaign = campaignRepository.save(campaign);
+    }
+
+    @Test
+    @DisplayName("Parallel completions should issue distinct receipt numbers")
+    void completeDonation_Parallel_ShouldIssueDistinctReceiptNumbers() throws Exception {
+        List<UUID> donationIds = new ArrayList<>(DONATION_COUNT);
+        for (int i = 0; i < DONATION_COUNT; i++) {
+            Donation donation = new Donation();
+            donation.setCampaign(campaign);
+            donation.setAmount(new BigDecimal("10.00"));
+            donation.setCurrency("TRY");
+            donation.setStatus(DonationStatus.PENDING);
+            donationIds.add(donationRepository.save(donation).getId());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>(DONATION_COUNT);
+            for (UUID donationId : donationIds) {
+                futures.add(executor.submit(() -> donationService.completeDonation(donationId)));
+            }
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        List<String> barcodes = jdbcTemplate.queryForList(
+                "SELECT r.barcode_data FROM receipts r JOIN donations d ON d.id = r.donation_id "
+                        + "WHERE d.campaign_id = ?", String.class, campaign.getId());
+        assertThat(barcodes).hasSize(DONATION_COUNT);
+        assertThat(new HashSet<>(barcodes)).hasSize(DONATION_COUNT);
+        assertThat(barcodes).allMatch(ReceiptNumberGenerator::validateFormat);
+    }
+
+    @Test
+    @DisplayName("Allocators on several nodes sharing a sequence should never repeat a number")
+    void next_ParallelNodes_ShouldNeverRepeatANumber() throws Exception {
+        int year = LocalDate.now().getYear() + 1;
+        List<ReceiptNumberAllocator> nodes = List.of(
+                new ReceiptNumberAllocator(jdbcTemplate, transactionManager, 10),
+                new ReceiptNumberAllocator(jdbcTemplate, transactionManager, 10),
+                new ReceiptNumberAllocator(jdbcTemplate, transactionManager, 10));
+        int allocationsPerThread = 300;
+        ConcurrentLinkedQueue<String> issued = new ConcurrentLinkedQueue<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>(THREADS);
+            for (int t = 0; t < THREADS; t++) {
+                ReceiptNumberAllocator node = nodes.get(t % nodes.size());
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < allocationsPerThread; i++) {
+                        issued.add(node.next(year));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(issued).hasSize(THREADS * allocationsPerThread);
+        assertThat(new HashSet<>(issued)).hasSize(THREADS * allocationsPerThread);
+    }
+}
@@ -0,0 +1,162 @@
+package com.seffafbagis.api.performance;
+
+import com.seffafbagis.api.dto.response.donation.BankStatementReconciliationResponse;
+import com.seffafbagis.api.enums.ReconciliationExceptionReason;
+import com.seffafbagis.api.integration.BaseIntegrationTest;
+import com.seffafbagis.api.service.donation.BankStatementReconciliationService;
+import com.seffafbagis.api.service.donation.statement.StatementFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reconciles a statement against pending bank transfer references: four
+ * fifths of the reference lines carry a reference code in assorted
+ * spellings, one fifth are matched by amount and sender name, and as many
+ * lines again are unrelated credits and debits.
+ *
+ * The default suite checks match counts and exceptions on a 200-line
+ * statement. The 100k-line run against 50k references is tagged
+ * {@code benchmark} and only runs with {@code mvn -Pdb-benchmarks test}.
+ */
+public class BankStatementReconciliationBenchmarkTest extends BaseIntegrationTest {
+
+    private static final int SMALL_REFERENCES = 100;
+    private static final int REFERENCES = 50_000;
+    private static final int SENDER_MATCH_EVERY = 5;
+    /** Reference codes end in the hex row number; the small run numbers its rows above the large one. */
+    private static final int SMALL_FIRST_ROW = 0x80000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BankStatementReconciliationService reconciliationService;
+
+    private UUID campaignId;
+
+    @BeforeEach
+    void setUp() {
+        UUID userId = UUID.randomUUID();
+        UUID organizationId = UUID.randomUUID();
+        campaignId = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO users (id, email, password_hash, role, status, failed_login_attempts, created_at)
+                VALUES (?, ?, 'x', 'FOUNDATION', 'ACTIVE', 0, now())
+                """, userId, "reconciliation-" + userId + "@example.com");
+        jdbcTemplate.update("""
+                INSERT INTO organizations (id, user_id, organization_type, legal_name, verification_status,
+                                           is_featured, resubmission_count, created_at)
+                VALUES (?, ?, 'FOUNDATION', 'Havale Vakfı', 'APPROVED', false, 0, now())
+                """, organizationId, userId);
+        jdbcTemplate.update("""
+                INSERT INTO campaigns (id, organization_id, title, slug, short_description, description, status,
+                                       target_amount, collected_amount, donor_count, currency, created_at)
+                VALUES (?, ?, 'Havale kampanyası', ?, 'Havale', 'Havale ile bağış', 'ACTIVE',
+                        1000000000, 0, 0, 'TRY', now())
+                """, campaignId, organizationId, "reconciliation-" + campaignId);
+    }
+
+    @Test
+    void reconcile_ShouldMatchByReferenceAndSender() throws Exception {
+        seedReferences(SMALL_FIRST_ROW, SMALL_REFERENCES);
+
+        BankStatementReconciliationResponse response = reconciliationService.reconcile(
+                new ByteArrayInputStream(statement(SMALL_REFERENCES)), StatementFormat.CSV);
+
+        assertReconciled(response, SMALL_REFERENCES);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void reconcile_100kLineStatement() throws Exception {
+        seedReferences(0, REFERENCES);
+        byte[] statement = statement(REFERENCES);
+
+        BankStatementReconciliationResponse response = reconciliationService.reconcile(
+                new ByteArrayInputStream(statement), StatementFormat.CSV);
+
+        System.out.printf("Bank statement reconciliation (%d lines, %d pending references)%n",
+                response.getTotalLines(), REFERENCES);
+        System.out.printf("  %d ms, %.0f lines/s, %d by reference, %d by sender, %d exceptions%n",
+                response.getDurationMs(), response.getTotalLines() * 1000.0 / Math.max(1, response.getDurationMs()),
+                response.getMatchedByReference(), response.getMatchedBySender(), response.getExceptions().size());
+
+        assertReconciled(response, REFERENCES);
+        assertThat(response.getDurationMs()).isLessThan(30_000);
+    }
+
+    private void seedReferences(int firstRow, int count) {
+        jdbcTemplate.update("""
+                INSERT INTO bank_transfer_references (id, reference_code, campaign_id, expected_amount, sender_name,
+                                                      status, expires_at, created_at, updated_at)
+                SELECT gen_random_uuid(), 'SBP-' || to_char(now(), 'YYYYMMDD') || '-' || upper(lpad(to_hex(g), 5, '0')),
+                       ?, 100 + g % 400, translate(md5(g::text), '0123456789', 'GHIJKLMNOP'),
+                       'pending', now() + interval '7 days', now(), now()
+                FROM generate_series(?, ?) g
+                """, campaignId, firstRow + 1, firstRow + count);
+        jdbcTemplate.execute("ANALYZE bank_transfer_references");
+    }
+
+    private void assertReconciled(BankStatementReconciliationResponse response, int references) {
+        long expectedBySender = references / SENDER_MATCH_EVERY;
+        assertThat(response.getTotalLines()).isEqualTo(references * 2);
+        assertThat(response.getMatchedByReference()).isEqualTo(references - expectedBySender);
+        assertThat(response.getMatchedBySender()).isEqualTo(expectedBySender);
+        assertThat(response.getExceptions())
+                .allMatch(exception -> exception.getReason() == ReconciliationExceptionReason.NO_REFERENCE);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM bank_transfer_references WHERE campaign_id = ? AND status = 'pending'",
+                Long.class, campaignId)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM donations d JOIN receipts r ON r.donation_id = d.id WHERE d.campaign_id = ?",
+                Long.class, campaignId)).isEqualTo(references);
+    }
+
+    /**
+     * One line per pending reference of the campaign, then as many noise lines.
+     */
+    private byte[] statement(int noiseLines) {
+        List<Map<String, Object>> references = jdbcTemplate.queryForList(
+                "SELECT reference_code, expected_amount, sender_name FROM bank_transfer_references "
+                        + "WHERE campaign_id = ? ORDER BY reference_code", campaignId);
+        StringBuilder csv = new StringBuilder((references.size() + noiseLines) * 40);
+        csv.append("Tarih;Açıklama;Gönderen;Tutar\n");
+        for (int i = 0; i < references.size(); i++) {
+            Map<String, Object> reference = references.get(i);
+            String code = (String) reference.get("reference_code");
+            String amount = ((BigDecimal) reference.get("expected_amount")).toPlainString().replace('.', ',');
+            String sender = (String) reference.get("sender_name");
+            String description;
+            if (i % SENDER_MATCH_EVERY == 0) {
+                description = "Bağış";
+            } else if (i % 3 == 0) {
+                description = code.toLowerCase().replace('-', ' ') + " bagis";
+            } else if (i % 3 == 1) {
+                description = "\"EFT; ACIKLAMA:" + code.replace("-", "") + "\"";
+            } else {
+                description = "Havale " + code;
+            }
+            csv.append(LocalDate.now()).append(';').append(description).append(';')
+                    .append(sender).append(';').append(amount).append('\n');
+        }
+        for (int i = 0; i < noiseLines; i++) {
+            String amount = i % 2 == 0 ? "1.234,56" : "-87,10";
+            csv.append(LocalDate.now()).append(";Kira ödemesi ").append(i).append(";Mehmet Kaya;")
+                    .append(amount).append('\n');
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,141 @@
+package com.seffafbagis.api.performance;
+
+import com.seffafbagis.api.entity.notification.Notification;
+import com.seffafbagis.api.integration.BaseIntegrationTest;
+import com.seffafbagis.api.repository.NotificationRepository;
+import com.seffafbagis.api.util.CursorUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares offset pagination with keyset (cursor) pagination on a feed.
+ *
+ * The default suite checks on a small feed that both schemes return the same
+ * pages. The timing comparison reads page 1 and page 10,000 of a 200,000-row
+ * feed under both schemes; offset cost grows with the page number (and pays
+ * for a COUNT), keyset cost stays flat. It is tagged {@code benchmark} and
+ * only runs with {@code mvn -Pdb-benchmarks test}.
+ */
+public class FeedPaginationBenchmarkTest extends BaseIntegrationTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int SMALL_PAGES = 5;
+    private static final int DEEP_PAGE = 10_000;
+    private static final int ROWS = DEEP_PAGE * PAGE_SIZE;
+    private static final int RUNS = 5;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM notifications");
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    void keyset_ShouldReturnTheSamePagesAsOffset() {
+        seed(SMALL_PAGES * PAGE_SIZE);
+
+        Slice<Notification> keysetPage = notificationRepository.findFeedByUserId(userId, CursorUtils.limit(PAGE_SIZE));
+        for (int page = 0; page < SMALL_PAGES; page++) {
+            Page<Notification> offsetPage = notificationRepository
+                    .findByUserIdOrderByCreatedAtDesc(userId, PageRequest.of(page, PAGE_SIZE));
+            assertThat(ids(keysetPage.getContent())).isEqualTo(ids(offsetPage.getContent()));
+            assertThat(keysetPage.hasNext()).isEqualTo(offsetPage.hasNext());
+
+            Notification last = keysetPage.getContent().get(keysetPage.getNumberOfElements() - 1);
+            keysetPage = notificationRepository.findFeedByUserIdAfter(
+                    userId, last.getCreatedAt(), last.getId(), CursorUtils.limit(PAGE_SIZE));
+        }
+        assertThat(keysetPage.getContent()).isEmpty();
+    }
+
+    @Test
+    @Tag("benchmark")
+    void offsetVersusKeyset_FirstAndDeepPage() {
+        seed(ROWS);
+        jdbcTemplate.execute("ANALYZE notifications");
+        int deepPageIndex = DEEP_PAGE - 1;
+        String deepCursor = cursorAtOffset(deepPageIndex * PAGE_SIZE - 1);
+
+        long offsetFirst = medianNanos(() -> notificationRepository
+                .findByUserIdOrderByCreatedAtDesc(userId, PageRequest.of(0, PAGE_SIZE)));
+        long offsetDeep = medianNanos(() -> notificationRepository
+                .findByUserIdOrderByCreatedAtDesc(userId, PageRequest.of(deepPageIndex, PAGE_SIZE)));
+        long keysetFirst = medianNanos(() -> notificationRepository
+                .findFeedByUserId(userId, CursorUtils.limit(PAGE_SIZE)));
+        CursorUtils.Position position = CursorUtils.decode(deepCursor);
+        long keysetDeep = medianNanos(() -> notificationRepository.findFeedByUserIdAfter(
+                userId, position.getCreatedAt(), position.getId(), CursorUtils.limit(PAGE_SIZE)));
+
+        System.out.printf("Feed pagination (%d rows, page size %d)%n", ROWS, PAGE_SIZE);
+        System.out.printf("  offset  page 1: %8.2f ms   page %d: %8.2f ms%n", offsetFirst / 1e6, DEEP_PAGE, offsetDeep / 1e6);
+        System.out.printf("  keyset  page 1: %8.2f ms   page %d: %8.2f ms%n", keysetFirst / 1e6, DEEP_PAGE, keysetDeep / 1e6);
+
+        // Both schemes must return the same rows for the deep page
+        Page<Notification> offsetPage = notificationRepository
+                .findByUserIdOrderByCreatedAtDesc(userId, PageRequest.of(deepPageIndex, PAGE_SIZE));
+        Slice<Notification> keysetPage = notificationRepository.findFeedByUserIdAfter(
+                userId, position.getCreatedAt(), position.getId(), CursorUtils.limit(PAGE_SIZE));
+        assertThat(ids(keysetPage.getContent())).isEqualTo(ids(offsetPage.getContent()));
+
+        assertThat(keysetDeep).isLessThan(offsetDeep);
+    }
+
+    private void seed(int rows) {
+        jdbcTemplate.update("""
+                INSERT INTO notifications (id, user_id, type, title, is_read, created_at)
+                SELECT gen_random_uuid(), ?, 'SYSTEM', 'Benchmark', false, now() - g * interval '1 second'
+                FROM generate_series(1, ?) g
+                """, userId, rows);
+    }
+
+    private String cursorAtOffset(int offset) {
+        return jdbcTemplate.queryForObject("""
+                SELECT created_at, id FROM notifications
+                WHERE user_id = ?
+                ORDER BY created_at DESC, id DESC
+                OFFSET ? LIMIT 1
+                """,
+                (rs, rowNum) -> CursorUtils.encode(
+                        rs.getObject("created_at", OffsetDateTime.class),
+                        rs.getObject("id", UUID.class)),
+                userId, offset);
+    }
+
+    private static long medianNanos(Supplier<?> query) {
+        query.get(); // warm-up
+        long[] samples = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            query.get();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[RUNS / 2];
+    }
+
+    private static List<UUID> ids(List<Notification> notifications) {
+        return notifications.stream().map(Notification::getId).toList();
+    }
+}
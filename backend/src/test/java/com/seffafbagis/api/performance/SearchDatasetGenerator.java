@@ -0,0 +1,122 @@
+package com.seffafbagis.api.performance;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * Generates a deterministic Turkish-language search corpus directly in SQL:
+ * foundation users, approved organizations, categories and campaigns whose
+ * titles and descriptions are drawn from a fixed vocabulary.
+ * <p>
+ * Every {@value #RARE_TERM_EVERY}th campaign mentions {@value #RARE_TERM}, giving
+ * a selective term with a known match count.
+ */
+public class SearchDatasetGenerator {
+
+    public static final String RARE_TERM = "fidan";
+    public static final int RARE_TERM_EVERY = 100;
+
+    private static final String MARKER = "search-bench-";
+    private static final String SEARCH_INDEXES = "db/migration/V35__add_full_text_search_indexes.sql";
+
+    private static final String WORDS = "ARRAY['çocuk','eğitim','sağlık','gıda','barınma','deprem','su','kuyu',"
+            + "'burs','kitap','hayvan','ağaç','yardım','umut','kış','giysi','engelli','yaşlı','kadın','ışık']";
+    private static final int WORD_COUNT = 20;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SearchDatasetGenerator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts the corpus and builds the search indexes. Does nothing if a
+     * corpus of the same size already exists in this database; a corpus of
+     * another size is deleted first, so match counts stay predictable.
+     *
+     * @param organizations Number of approved organizations
+     * @param campaigns     Number of campaigns, spread over the organizations
+     */
+    public void generate(int organizations, int campaigns) {
+        Integer existingOrganizations = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE email LIKE ?", Integer.class, MARKER + "%");
+        Integer existingCampaigns = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM campaigns WHERE slug LIKE ?", Integer.class, MARKER + "%");
+        if (existingOrganizations != null && existingOrganizations == organizations
+                && existingCampaigns != null && existingCampaigns == campaigns) {
+            return;
+        }
+        delete();
+
+        jdbcTemplate.update("""
+                INSERT INTO users (id, email, password_hash, role, status, failed_login_attempts, created_at)
+                SELECT gen_random_uuid(), ? || g || '@example.com', 'x', 'FOUNDATION', 'ACTIVE', 0, now()
+                FROM generate_series(1, ?) g
+                """, MARKER, organizations);
+
+        jdbcTemplate.update("""
+                INSERT INTO organizations (id, user_id, organization_type, legal_name, description,
+                                           verification_status, is_featured, resubmission_count, created_at)
+                SELECT gen_random_uuid(), u.id, 'FOUNDATION',
+                       initcap(w[1 + n %% %2$d]) || ' ' || initcap(w[1 + (n / %2$d) %% %2$d]) || ' Vakfı ' || n,
+                       w[1 + (n * 7) %% %2$d] || ' ve ' || w[1 + (n * 13) %% %2$d] || ' alanında çalışır',
+                       'APPROVED', false, 0, now()
+                FROM (SELECT id, row_number() OVER (ORDER BY email)::int AS n FROM users WHERE email LIKE ?) u,
+                     (SELECT %1$s AS w) words
+                """.formatted(WORDS, WORD_COUNT), MARKER + "%");
+
+        jdbcTemplate.update("""
+                INSERT INTO categories (id, name, slug, is_active, display_order, created_at)
+                SELECT gen_random_uuid(), initcap(w[g]), ? || g, true, g, now()
+                FROM generate_series(1, 5) g, (SELECT %s AS w) words
+                """.formatted(WORDS), MARKER);
+
+        jdbcTemplate.update("""
+                INSERT INTO campaigns (id, organization_id, title, slug, short_description, description, status,
+                                       target_amount, collected_amount, donor_count, currency, created_at)
+                SELECT gen_random_uuid(), o.ids[1 + g %% array_length(o.ids, 1)],
+                       initcap(w[1 + g %% %2$d]) || ' ' || w[1 + (g / %2$d) %% %2$d] || ' kampanyası ' || g,
+                       ? || g,
+                       w[1 + (g * 3) %% %2$d] || ' için destek',
+                       'Bu kampanya ' || w[1 + (g * 7) %% %2$d] || ' ve ' || w[1 + (g * 11) %% %2$d]
+                           || ' ihtiyaçlarını karşılamak için düzenlenmektedir.'
+                           || CASE WHEN g %% %3$d = 0 THEN ' Fidan dikimi de yapılacaktır.' ELSE '' END,
+                       CASE WHEN g %% 5 = 1 THEN 'COMPLETED' ELSE 'ACTIVE' END,
+                       10000, g %% 10000, g %% 500, 'TRY', now() - g * interval '1 minute'
+                FROM generate_series(1, ?) g,
+                     (SELECT array_agg(id) AS ids FROM organizations
+                      WHERE user_id IN (SELECT id FROM users WHERE email LIKE ?)) o,
+                     (SELECT %1$s AS w) words
+                """.formatted(WORDS, WORD_COUNT, RARE_TERM_EVERY), MARKER, campaigns, MARKER + "%");
+
+        jdbcTemplate.update("""
+                INSERT INTO campaign_categories (id, campaign_id, category_id, is_primary, created_at)
+                SELECT gen_random_uuid(), c.id, cat.ids[1 + right(c.slug, 1)::int % 5], true, now()
+                FROM campaigns c, (SELECT array_agg(id ORDER BY display_order) AS ids FROM categories
+                                   WHERE slug LIKE ?) cat
+                WHERE c.slug LIKE ?
+                """, MARKER + "%", MARKER + "%");
+
+        // The test schema is built by Hibernate, so the migration's indexes are applied here
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(new ClassPathResource(SEARCH_INDEXES));
+        populator.setSqlScriptEncoding("UTF-8");
+        populator.execute(jdbcTemplate.getDataSource());
+
+        jdbcTemplate.execute("ANALYZE users");
+        jdbcTemplate.execute("ANALYZE organizations");
+        jdbcTemplate.execute("ANALYZE campaigns");
+        jdbcTemplate.execute("ANALYZE campaign_categories");
+    }
+
+    private void delete() {
+        String marker = MARKER + "%";
+        jdbcTemplate.update("DELETE FROM campaign_categories WHERE campaign_id IN "
+                + "(SELECT id FROM campaigns WHERE slug LIKE ?)", marker);
+        jdbcTemplate.update("DELETE FROM campaigns WHERE slug LIKE ?", marker);
+        jdbcTemplate.update("DELETE FROM categories WHERE slug LIKE ?", marker);
+        jdbcTemplate.update("DELETE FROM organizations WHERE user_id IN "
+                + "(SELECT id FROM users WHERE email LIKE ?)", marker);
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE ?", marker);
+    }
+}
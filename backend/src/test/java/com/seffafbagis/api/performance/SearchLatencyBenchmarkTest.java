@@ -0,0 +1,125 @@
+package com.seffafbagis.api.performance;
+
+import com.seffafbagis.api.entity.campaign.Campaign;
+import com.seffafbagis.api.entity.organization.Organization;
+import com.seffafbagis.api.enums.CampaignStatus;
+import com.seffafbagis.api.enums.VerificationStatus;
+import com.seffafbagis.api.integration.BaseIntegrationTest;
+import com.seffafbagis.api.repository.CampaignRepository;
+import com.seffafbagis.api.repository.OrganizationRepository;
+import com.seffafbagis.api.repository.projection.SearchFacetProjection;
+import com.seffafbagis.api.util.SearchQueryNormalizer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Search on a generated corpus: the previous {@code LOWER(col) LIKE '%kw%'}
+ * queries against the GIN-indexed full-text queries.
+ *
+ * The default suite checks match counts, facets and Turkish folding on a
+ * small corpus. The latency comparison for a selective term, a common term,
+ * autocomplete and facet counts runs on 100,000 campaigns; it is tagged
+ * {@code benchmark} and only runs with {@code mvn -Pdb-benchmarks test}.
+ */
+public class SearchLatencyBenchmarkTest extends BaseIntegrationTest {
+
+    private static final int SMALL_ORGANIZATIONS = 20;
+    private static final int SMALL_CAMPAIGNS = 1_000;
+    private static final int ORGANIZATIONS = 2_000;
+    private static final int CAMPAIGNS = 100_000;
+    private static final int RUNS = 5;
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+    private static final String ACTIVE = CampaignStatus.ACTIVE.name();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CampaignRepository campaignRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Test
+    void fullText_ShouldCountFacetAndFoldTurkish() {
+        new SearchDatasetGenerator(jdbcTemplate).generate(SMALL_ORGANIZATIONS, SMALL_CAMPAIGNS);
+        String rareQuery = SearchQueryNormalizer.toPrefixQuery(SearchDatasetGenerator.RARE_TERM.toUpperCase());
+        String organizationQuery = SearchQueryNormalizer.toPrefixQuery("umut");
+
+        // Every generated campaign with the rare term is ACTIVE
+        Page<Campaign> rareResults = campaignRepository.searchFullText(rareQuery, ACTIVE, FIRST_PAGE);
+        assertThat(rareResults.getTotalElements()).isEqualTo(SMALL_CAMPAIGNS / SearchDatasetGenerator.RARE_TERM_EVERY);
+
+        List<SearchFacetProjection> byStatus = campaignRepository.countSearchMatchesByStatus(
+                rareQuery, List.of(ACTIVE, CampaignStatus.COMPLETED.name()));
+        assertThat(byStatus).singleElement()
+                .satisfies(facet -> assertThat(facet.getTotal()).isEqualTo(rareResults.getTotalElements()));
+
+        // ASCII input finds Turkish text; the substring scan does not
+        Page<Campaign> folded = campaignRepository.searchFullText(
+                SearchQueryNormalizer.toPrefixQuery("isik"), ACTIVE, FIRST_PAGE);
+        Page<Campaign> unfolded = campaignRepository.searchByKeyword("isik", CampaignStatus.ACTIVE, FIRST_PAGE);
+        assertThat(folded.getTotalElements()).isPositive();
+        assertThat(unfolded.getTotalElements()).isZero();
+
+        Page<Organization> organizations = organizationRepository.searchFullText(
+                organizationQuery, VerificationStatus.APPROVED.name(), FIRST_PAGE);
+        assertThat(organizations.getTotalElements()).isPositive();
+    }
+
+    @Test
+    @Tag("benchmark")
+    void likeVersusFullText_Latency() {
+        new SearchDatasetGenerator(jdbcTemplate).generate(ORGANIZATIONS, CAMPAIGNS);
+        String rare = SearchDatasetGenerator.RARE_TERM;
+        String rareQuery = SearchQueryNormalizer.toPrefixQuery(rare.toUpperCase());
+        String commonQuery = SearchQueryNormalizer.toPrefixQuery("çocuk");
+        String suggestQuery = SearchQueryNormalizer.toSuggestQuery("Yar");
+        String organizationQuery = SearchQueryNormalizer.toPrefixQuery("umut");
+
+        long likeRare = medianNanos(() -> campaignRepository.searchByKeyword(rare, CampaignStatus.ACTIVE, FIRST_PAGE));
+        long ftsRare = medianNanos(() -> campaignRepository.searchFullText(rareQuery, ACTIVE, FIRST_PAGE));
+        long likeCommon = medianNanos(() -> campaignRepository.searchByKeyword("çocuk", CampaignStatus.ACTIVE, FIRST_PAGE));
+        long ftsCommon = medianNanos(() -> campaignRepository.searchFullText(commonQuery, ACTIVE, FIRST_PAGE));
+        long suggest = medianNanos(() -> campaignRepository.suggestByTitle(suggestQuery, ACTIVE, 8));
+        long facets = medianNanos(() -> List.of(
+                campaignRepository.countSearchMatchesByStatus(rareQuery, List.of(ACTIVE, CampaignStatus.COMPLETED.name())),
+                campaignRepository.countSearchMatchesByCategory(rareQuery, ACTIVE)));
+        long likeOrganization = medianNanos(() -> organizationRepository.searchByKeyword(
+                "umut", VerificationStatus.APPROVED, FIRST_PAGE));
+        long ftsOrganization = medianNanos(() -> organizationRepository.searchFullText(
+                organizationQuery, VerificationStatus.APPROVED.name(), FIRST_PAGE));
+
+        System.out.printf("Search latency (%d campaigns, %d organizations, first page of 20)%n", CAMPAIGNS, ORGANIZATIONS);
+        System.out.printf("  campaigns, selective term  LIKE: %8.2f ms   full-text: %8.2f ms%n", likeRare / 1e6, ftsRare / 1e6);
+        System.out.printf("  campaigns, common term     LIKE: %8.2f ms   full-text: %8.2f ms%n", likeCommon / 1e6, ftsCommon / 1e6);
+        System.out.printf("  organizations              LIKE: %8.2f ms   full-text: %8.2f ms%n",
+                likeOrganization / 1e6, ftsOrganization / 1e6);
+        System.out.printf("  autocomplete: %8.2f ms   facets: %8.2f ms%n", suggest / 1e6, facets / 1e6);
+
+        assertThat(ftsRare).isLessThan(likeRare);
+    }
+
+    private static long medianNanos(Supplier<?> query) {
+        query.get(); // warm-up
+        long[] samples = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            query.get();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[RUNS / 2];
+    }
+}
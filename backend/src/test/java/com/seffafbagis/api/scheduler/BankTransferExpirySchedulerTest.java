@@ -1,11 +1,7 @@
 package com.seffafbagis.api.scheduler;
 
-import com.seffafbagis.api.config.SchedulerProperties;
-import com.seffafbagis.api.entity.donation.BankTransferReference;
-import com.seffafbagis.api.entity.user.User;
-import com.seffafbagis.api.repository.BankTransferReferenceRepository;
-import com.seffafbagis.api.service.notification.NotificationService;
-import org.junit.jupiter.api.BeforeEach;
+import com.seffafbagis.api.enums.ExpiringResource;
+import com.seffafbagis.api.service.system.ExpirySweeper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -13,8 +9,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.OffsetDateTime;
-import java.util.List;
-import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -24,45 +18,22 @@ import static org.mockito.Mockito.*;
 class BankTransferExpirySchedulerTest {
 
     @Mock
-    private BankTransferReferenceRepository bankTransferReferenceRepository;
-
-    @Mock
-    private NotificationService notificationService;
-
-    @Mock
-    private SchedulerProperties schedulerProperties;
-
-    @Mock
-    private SchedulerProperties.BankTransferProperties bankTransferProperties;
+    private ExpirySweeper expirySweeper;
 
     @InjectMocks
     private BankTransferExpiryScheduler scheduler;
 
-    @BeforeEach
-    void setUp() {
-        lenient().when(schedulerProperties.getBankTransfer()).thenReturn(bankTransferProperties);
-        lenient().when(bankTransferProperties.isEnabled()).thenReturn(true);
-    }
-
     @Test
-    void expirePendingTransfers_ShouldExpireAndNotify() {
+    void expirePendingTransfers_ShouldSweepBankTransferReferences() {
         // Arrange
-        BankTransferReference ref = new BankTransferReference();
-        ref.setId(UUID.randomUUID());
-        ref.setReferenceCode("REF123");
-        User donor = new User();
-        donor.setId(UUID.randomUUID());
-        ref.setDonor(donor);
-
-        when(bankTransferReferenceRepository.findByStatusAndExpiresAtBefore(eq("Pending"), any(OffsetDateTime.class)))
-                .thenReturn(List.of(ref));
+        when(expirySweeper.sweep(eq(ExpiringResource.BANK_TRANSFER_REFERENCE), any(OffsetDateTime.class)))
+                .thenReturn(3L);
 
         // Act
         scheduler.expireBankTransfers();
 
         // Assert
-        verify(bankTransferReferenceRepository).save(ref);
-        assert "Expired".equals(ref.getStatus());
-        verify(notificationService).createNotification(eq(donor.getId()), any(), any(), any(), any());
+        verify(expirySweeper).sweep(eq(ExpiringResource.BANK_TRANSFER_REFERENCE), any(OffsetDateTime.class));
+        verifyNoMoreInteractions(expirySweeper);
     }
 }
@@ -3,6 +3,7 @@ package com.seffafbagis.api.scheduler;
 import com.seffafbagis.api.entity.campaign.Campaign;
 import com.seffafbagis.api.enums.CampaignStatus;
 import com.seffafbagis.api.repository.CampaignRepository;
+import com.seffafbagis.api.service.notification.NotificationFanoutService;
 import com.seffafbagis.api.service.notification.NotificationService;
 import com.seffafbagis.api.service.transparency.TransparencyScoreService;
 import org.junit.jupiter.api.Test;
@@ -14,6 +15,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -29,6 +31,8 @@ class CampaignStatusSchedulerTest {
     @Mock
     private NotificationService notificationService;
     @Mock
+    private NotificationFanoutService notificationFanoutService;
+    @Mock
     private TransparencyScoreService transparencyScoreService;
 
     @InjectMocks
@@ -43,11 +47,28 @@ class CampaignStatusSchedulerTest {
 
         when(campaignRepository.findByStatus(eq(CampaignStatus.ACTIVE), any(Pageable.class)))
                 .thenReturn(new PageImpl<>(List.of(campaign)));
+        when(campaignRepository.completeIfActive(eq(campaign.getId()), any(LocalDateTime.class))).thenReturn(1);
 
         scheduler.autoCompleteSuccessfulCampaigns();
 
-        verify(campaignRepository).save(campaign);
         assert campaign.getStatus() == CampaignStatus.COMPLETED;
         verify(notificationService).notifyCampaignCompleted(campaign);
+        verify(notificationFanoutService).enqueueCampaignCompleted(campaign);
+    }
+
+    @Test
+    void autoCompleteSuccessfulCampaigns_AlreadyCompleted_ShouldSkipSideEffects() {
+        Campaign campaign = new Campaign();
+        campaign.setId(UUID.randomUUID());
+        campaign.setTargetAmount(new BigDecimal("1000"));
+        campaign.setCollectedAmount(new BigDecimal("1000"));
+
+        when(campaignRepository.findByStatus(eq(CampaignStatus.ACTIVE), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(campaign)));
+        when(campaignRepository.completeIfActive(eq(campaign.getId()), any(LocalDateTime.class))).thenReturn(0);
+
+        scheduler.autoCompleteSuccessfulCampaigns();
+
+        verifyNoInteractions(notificationService, notificationFanoutService, transparencyScoreService);
     }
 }
@@ -1,10 +1,11 @@
 package com.seffafbagis.api.scheduler;
 
 import com.seffafbagis.api.config.SchedulerProperties;
-import com.seffafbagis.api.repository.EmailLogRepository;
 import com.seffafbagis.api.repository.NotificationRepository;
 import com.seffafbagis.api.repository.PasswordResetTokenRepository;
 import com.seffafbagis.api.repository.RefreshTokenRepository;
+import com.seffafbagis.api.service.notification.EmailLogService;
+import com.seffafbagis.api.service.system.LogPartitionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,10 +14,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
-import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.util.function.LongSupplier;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,7 +32,9 @@ class CleanupSchedulerTest {
     @Mock
     private NotificationRepository notificationRepository;
     @Mock
-    private EmailLogRepository emailLogRepository;
+    private EmailLogService emailLogService;
+    @Mock
+    private LogPartitionService logPartitionService;
     @Mock
     private SchedulerProperties schedulerProperties;
     @Mock
@@ -43,6 +48,9 @@ class CleanupSchedulerTest {
         lenient().when(schedulerProperties.getCleanup()).thenReturn(cleanupProperties);
         lenient().when(cleanupProperties.isEnabled()).thenReturn(true);
         lenient().when(cleanupProperties.getNotificationRetentionDays()).thenReturn(90);
+        lenient().when(cleanupProperties.getNotificationDeleteBatchSize()).thenReturn(1000);
+        lenient().when(logPartitionService.timed(anyString(), anyString(), any()))
+                .thenAnswer(invocation -> invocation.<LongSupplier>getArgument(2).getAsLong());
     }
 
     @Test
@@ -51,8 +59,18 @@ class CleanupSchedulerTest {
 
         verify(refreshTokenRepository).deleteExpiredTokens(any(OffsetDateTime.class));
         verify(passwordResetTokenRepository).deleteExpiredTokens(any(Instant.class));
-        verify(notificationRepository).deleteByIsReadTrueAndCreatedAtBefore(any(OffsetDateTime.class));
-        verify(emailLogRepository).deleteBySentAtBefore(any(LocalDateTime.class));
+        verify(notificationRepository).deleteReadBefore(any(OffsetDateTime.class), eq(1000));
+        verify(emailLogService).cleanupOldLogs(30);
+    }
+
+    @Test
+    void performCleanup_ShouldDeleteReadNotificationsInBatches() {
+        when(notificationRepository.deleteReadBefore(any(OffsetDateTime.class), eq(1000)))
+                .thenReturn(1000, 1000, 250);
+
+        scheduler.performCleanup();
+
+        verify(notificationRepository, times(3)).deleteReadBefore(any(OffsetDateTime.class), eq(1000));
     }
 
     @Test
@@ -2,26 +2,22 @@ package com.seffafbagis.api.scheduler;
 
 import com.seffafbagis.api.config.SchedulerProperties;
 import com.seffafbagis.api.entity.campaign.Campaign;
-import com.seffafbagis.api.enums.CampaignStatus;
 import com.seffafbagis.api.repository.CampaignRepository;
-import com.seffafbagis.api.repository.EvidenceRepository;
+import com.seffafbagis.api.repository.projection.EvidenceReminderProjection;
 import com.seffafbagis.api.service.notification.NotificationService;
-import com.seffafbagis.api.service.transparency.TransparencyScoreService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
 
-import java.math.BigDecimal;
-import java.time.LocalDateTime;
-import java.util.Collections;
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -31,12 +27,8 @@ class EvidenceReminderSchedulerTest {
     @Mock
     private CampaignRepository campaignRepository;
     @Mock
-    private EvidenceRepository evidenceRepository;
-    @Mock
     private NotificationService notificationService;
     @Mock
-    private TransparencyScoreService transparencyScoreService;
-    @Mock
     private SchedulerProperties schedulerProperties;
     @Mock
     private SchedulerProperties.EvidenceReminderProperties evidenceReminderProperties;
@@ -52,23 +44,51 @@ class EvidenceReminderSchedulerTest {
     }
 
     @Test
-    void checkEvidenceDeadlines_ShouldNotifyOnReminderDay() {
+    void sendEvidenceReminders_ShouldNotifyOnlyCampaignsOnReminderDay() {
         Campaign campaign = new Campaign();
         campaign.setId(UUID.randomUUID());
-        campaign.setStatus(CampaignStatus.COMPLETED);
-        campaign.setCompletedAt(LocalDateTime.now().minusDays(23).plusHours(1)); // Deadline in 7 days (default 30) +
-                                                                                 // buffer
-        campaign.setTargetAmount(new BigDecimal("1000"));
-        campaign.setCollectedAmount(new BigDecimal("1000"));
+        UUID notDue = UUID.randomUUID();
+
+        when(campaignRepository.findEvidenceDeadlinesApproaching(eq("COMPLETED"), eq("APPROVED"),
+                any(OffsetDateTime.class), any(OffsetDateTime.class)))
+                .thenReturn(List.of(reminder(campaign.getId(), 7), reminder(notDue, 5)));
+        when(campaignRepository.findWithOrganizationOwnerByIdIn(Set.of(campaign.getId())))
+                .thenReturn(List.of(campaign));
+
+        scheduler.sendEvidenceReminders();
 
-        when(campaignRepository.findByStatus(eq(CampaignStatus.COMPLETED), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(List.of(campaign)));
+        verify(notificationService).notifyEvidenceRequired(campaign, 7);
+        verifyNoMoreInteractions(notificationService);
+    }
 
-        when(evidenceRepository.sumAmountSpentByCampaignIdAndStatus(any(), any())).thenReturn(BigDecimal.ZERO);
+    @Test
+    void sendEvidenceReminders_ShouldLookAheadToLargestReminderDay() {
+        when(campaignRepository.findEvidenceDeadlinesApproaching(eq("COMPLETED"), eq("APPROVED"),
+                any(OffsetDateTime.class), any(OffsetDateTime.class)))
+                .thenAnswer(inv -> {
+                    OffsetDateTime now = inv.getArgument(2);
+                    OffsetDateTime until = inv.getArgument(3);
+                    assertEquals(now.plusDays(8), until);
+                    return List.of();
+                });
 
         scheduler.sendEvidenceReminders();
 
-        // 30 - 23 = 7 days remaining. 7 is in reminder list. Should notify.
-        verify(notificationService).notifyEvidenceRequired(eq(campaign), anyInt());
+        verify(campaignRepository, never()).findWithOrganizationOwnerByIdIn(any());
+        verifyNoInteractions(notificationService);
+    }
+
+    private static EvidenceReminderProjection reminder(UUID campaignId, int daysRemaining) {
+        return new EvidenceReminderProjection() {
+            @Override
+            public UUID getCampaignId() {
+                return campaignId;
+            }
+
+            @Override
+            public Integer getDaysRemaining() {
+                return daysRemaining;
+            }
+        };
     }
 }
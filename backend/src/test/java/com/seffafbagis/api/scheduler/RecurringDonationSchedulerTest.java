@@ -1,20 +1,25 @@
 package com.seffafbagis.api.scheduler;
 
 import com.seffafbagis.api.config.SchedulerProperties;
-import com.seffafbagis.api.entity.donation.RecurringDonation;
-import com.seffafbagis.api.repository.RecurringDonationRepository;
-import com.seffafbagis.api.service.payment.PaymentService;
+import com.seffafbagis.api.service.payment.ClaimedChunk;
+import com.seffafbagis.api.service.payment.RecurringCharge;
+import com.seffafbagis.api.service.payment.RecurringChargeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -22,69 +27,102 @@ import static org.mockito.Mockito.*;
 class RecurringDonationSchedulerTest {
 
     @Mock
-    private RecurringDonationRepository recurringDonationRepository;
+    private RecurringChargeService recurringChargeService;
 
-    @Mock
-    private PaymentService paymentService;
-
-    @Mock
     private SchedulerProperties schedulerProperties;
-
-    @Mock
-    private SchedulerProperties.RecurringDonationProperties recurringDonationProperties;
-
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
     private RecurringDonationScheduler scheduler;
 
     @BeforeEach
     void setUp() {
-        lenient().when(schedulerProperties.getRecurringDonation()).thenReturn(recurringDonationProperties);
-        lenient().when(recurringDonationProperties.isEnabled()).thenReturn(true);
-        lenient().when(recurringDonationProperties.getMaxRetries()).thenReturn(3);
+        schedulerProperties = new SchedulerProperties();
+        schedulerProperties.getRecurringDonation().setWorkerThreads(4);
+        schedulerProperties.getRecurringDonation().setMaxConcurrentPerMerchant(2);
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new RecurringDonationScheduler(recurringChargeService, schedulerProperties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
     }
 
     @Test
-    void processRecurringDonations_ShouldProcessEligibleDonations() {
-        // Arrange
-        RecurringDonation donation = new RecurringDonation();
-        donation.setId(java.util.UUID.randomUUID());
-        donation.setFrequency("monthly");
-        donation.setNextPaymentDate(LocalDate.now());
-        donation.setFailureCount(0);
+    void processRecurringDonations_ShouldChargeAndRecordEachChunk() {
+        List<RecurringCharge> first = charges(3, UUID.randomUUID());
+        List<RecurringCharge> second = charges(2, UUID.randomUUID());
+        when(recurringChargeService.claimChunk(any(LocalDate.class)))
+                .thenReturn(chunk(first), chunk(second), ClaimedChunk.none());
+
+        scheduler.processRecurringDonations();
 
-        when(recurringDonationRepository.findByStatusAndNextPaymentDateLessThanEqual("Active", LocalDate.now()))
-                .thenReturn(List.of(donation));
+        verify(recurringChargeService, times(5)).charge(any(RecurringCharge.class));
+        verify(recurringChargeService).recordResults(eq(first), any(LocalDate.class));
+        verify(recurringChargeService).recordResults(eq(second), any(LocalDate.class));
+        assertEquals(5.0, meterRegistry.get("recurring.charges").tag("result", "failed").counter().count());
+        assertEquals(1.0, meterRegistry.get("recurring.charge.failure.ratio").gauge().value());
+    }
 
-        when(paymentService.processRecurringPayment(donation)).thenReturn(true);
+    @Test
+    void processRecurringDonations_ShouldStopAtMaxChunksPerRun() {
+        schedulerProperties.getRecurringDonation().setMaxChunksPerRun(2);
+        when(recurringChargeService.claimChunk(any(LocalDate.class)))
+                .thenAnswer(inv -> chunk(charges(1, UUID.randomUUID())));
 
-        // Act
         scheduler.processRecurringDonations();
 
-        // Assert
-        verify(paymentService).processRecurringPayment(donation);
-        verify(recurringDonationRepository).save(donation);
+        verify(recurringChargeService, times(2)).claimChunk(any(LocalDate.class));
     }
 
     @Test
-    void processRecurringDonations_ShouldHandlePaymentFailure() {
-        // Arrange
-        RecurringDonation donation = new RecurringDonation();
-        donation.setId(java.util.UUID.randomUUID());
-        donation.setFrequency("monthly");
-        donation.setNextPaymentDate(LocalDate.now());
-        donation.setFailureCount(0);
+    void processRecurringDonations_SkippedChunk_ShouldKeepClaiming() {
+        List<RecurringCharge> due = charges(2, UUID.randomUUID());
+        when(recurringChargeService.claimChunk(any(LocalDate.class)))
+                .thenReturn(new ClaimedChunk(100, List.of()), chunk(due), ClaimedChunk.none());
 
-        when(recurringDonationRepository.findByStatusAndNextPaymentDateLessThanEqual("Active", LocalDate.now()))
-                .thenReturn(List.of(donation));
+        scheduler.processRecurringDonations();
 
-        when(paymentService.processRecurringPayment(donation)).thenReturn(false);
+        verify(recurringChargeService, times(3)).claimChunk(any(LocalDate.class));
+        verify(recurringChargeService, times(2)).charge(any(RecurringCharge.class));
+        verify(recurringChargeService).recordResults(eq(due), any(LocalDate.class));
+    }
 
-        // Act
-        scheduler.processRecurringDonations();
+    @Test
+    void processChunk_ShouldLimitConcurrentChargesPerMerchant() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        doAnswer(inv -> {
+            peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            inFlight.decrementAndGet();
+            return null;
+        }).when(recurringChargeService).charge(any(RecurringCharge.class));
+
+        scheduler.processChunk(charges(8, UUID.randomUUID()), LocalDate.now());
+
+        assertTrue(peak.get() <= 2, "peak concurrency per merchant was " + peak.get());
+        verify(recurringChargeService, times(8)).charge(any(RecurringCharge.class));
+    }
+
+    @Test
+    void processRecurringDonations_ClaimFailure_ShouldNotPropagate() {
+        when(recurringChargeService.claimChunk(any(LocalDate.class)))
+                .thenThrow(new IllegalStateException("connection refused"));
+
+        assertDoesNotThrow(() -> scheduler.processRecurringDonations());
+        verify(recurringChargeService, never()).recordResults(any(), any());
+    }
+
+    private static ClaimedChunk chunk(List<RecurringCharge> charges) {
+        return new ClaimedChunk(charges.size(), charges);
+    }
 
-        // Assert
-        verify(paymentService).processRecurringPayment(donation);
-        verify(recurringDonationRepository).save(donation);
-        assert donation.getFailureCount() == 1;
+    private static List<RecurringCharge> charges(int count, UUID merchantId) {
+        List<RecurringCharge> charges = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            charges.add(new RecurringCharge(UUID.randomUUID(), UUID.randomUUID(), LocalDate.now(), "monthly",
+                    BigDecimal.TEN, "tok", null, null, merchantId));
+        }
+        return charges;
     }
 }
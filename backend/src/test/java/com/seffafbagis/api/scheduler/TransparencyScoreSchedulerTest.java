@@ -1,27 +1,27 @@
 package com.seffafbagis.api.scheduler;
 
+import com.seffafbagis.api.config.SchedulerProperties;
 import com.seffafbagis.api.entity.organization.Organization;
-import com.seffafbagis.api.entity.campaign.Campaign;
 import com.seffafbagis.api.enums.CampaignStatus;
-import com.seffafbagis.api.enums.EvidenceStatus;
 import com.seffafbagis.api.repository.CampaignRepository;
-import com.seffafbagis.api.repository.EvidenceRepository;
 import com.seffafbagis.api.repository.OrganizationRepository;
+import com.seffafbagis.api.service.transparency.TransparencyScoreEngine;
 import com.seffafbagis.api.service.transparency.TransparencyScoreService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
-import java.math.BigDecimal;
-import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -33,9 +33,11 @@ class TransparencyScoreSchedulerTest {
     @Mock
     private OrganizationRepository organizationRepository;
     @Mock
-    private EvidenceRepository evidenceRepository;
-    @Mock
     private CampaignRepository campaignRepository;
+    @Spy
+    private SchedulerProperties schedulerProperties = new SchedulerProperties();
+    @Mock
+    private TransparencyScoreEngine scoreEngine;
 
     @InjectMocks
     private TransparencyScoreScheduler scheduler;
@@ -68,45 +70,43 @@ class TransparencyScoreSchedulerTest {
     }
 
     @Test
-    void penalizeMissedDeadlines_ShouldPenalizeWhenDeadlineMissedAndEvidenceInsufficient() {
-        Campaign campaign = new Campaign();
-        campaign.setId(UUID.randomUUID());
-        campaign.setStatus(CampaignStatus.COMPLETED);
-        // Completed 20 days ago, default deadline 15 days -> missed by 5 days
-        campaign.setCompletedAt(LocalDateTime.now().minusDays(20));
-        campaign.setTargetAmount(new BigDecimal("1000"));
-        campaign.setCollectedAmount(new BigDecimal("1000"));
+    void penalizeMissedDeadlines_ShouldSweepInBatchesUntilShortBatch() {
+        schedulerProperties.getTransparencyScore().setDeadlineBatchSize(2);
+        when(transparencyScoreService.penalizeMissedEvidenceDeadlines(any(OffsetDateTime.class), eq(2)))
+                .thenReturn(2, 2, 1);
 
-        when(campaignRepository.findByStatus(eq(CampaignStatus.COMPLETED), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(List.of(campaign)));
+        scheduler.penalizeMissedDeadlines();
 
-        // Spent 0
-        when(evidenceRepository.sumAmountSpentByCampaignIdAndStatus(campaign.getId(), EvidenceStatus.APPROVED))
-                .thenReturn(BigDecimal.ZERO);
+        verify(transparencyScoreService, times(3)).penalizeMissedEvidenceDeadlines(any(OffsetDateTime.class), eq(2));
+    }
+
+    @Test
+    void penalizeMissedDeadlines_NothingDue_ShouldRunSingleSweep() {
+        when(transparencyScoreService.penalizeMissedEvidenceDeadlines(any(OffsetDateTime.class), anyInt()))
+                .thenReturn(0);
 
         scheduler.penalizeMissedDeadlines();
 
-        verify(transparencyScoreService).onEvidenceMissedDeadline(campaign.getId());
+        verify(transparencyScoreService, times(1)).penalizeMissedEvidenceDeadlines(any(OffsetDateTime.class),
+                anyInt());
+        verify(transparencyScoreService, never()).onEvidenceMissedDeadline(any());
     }
 
     @Test
-    void penalizeMissedDeadlines_ShouldNotPenalizeWhenEvidenceSufficient() {
-        Campaign campaign = new Campaign();
-        campaign.setId(UUID.randomUUID());
-        campaign.setStatus(CampaignStatus.COMPLETED);
-        campaign.setCompletedAt(LocalDateTime.now().minusDays(20));
-        campaign.setTargetAmount(new BigDecimal("1000"));
-        campaign.setCollectedAmount(new BigDecimal("1000"));
+    void replayAfterRuleChange_ShouldReplayOnlyWhenScoresAreStale() {
+        when(scoreEngine.hasStaleScores()).thenReturn(true, false);
 
-        when(campaignRepository.findByStatus(eq(CampaignStatus.COMPLETED), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(List.of(campaign)));
+        scheduler.replayAfterRuleChange();
+        scheduler.replayAfterRuleChange();
 
-        // Spent 1000 (Full)
-        when(evidenceRepository.sumAmountSpentByCampaignIdAndStatus(campaign.getId(), EvidenceStatus.APPROVED))
-                .thenReturn(new BigDecimal("1000"));
+        verify(transparencyScoreService, times(1)).replayScores(false);
+    }
 
-        scheduler.penalizeMissedDeadlines();
+    @Test
+    void replayAfterRuleChange_Failure_ShouldNotPropagate() {
+        when(scoreEngine.hasStaleScores()).thenThrow(new IllegalStateException("connection refused"));
 
-        verify(transparencyScoreService, never()).onEvidenceMissedDeadline(any());
+        org.junit.jupiter.api.Assertions.assertDoesNotThrow(() -> scheduler.replayAfterRuleChange());
+        verify(transparencyScoreService, never()).replayScores(anyBoolean());
     }
 }
@@ -0,0 +1,153 @@
+package com.seffafbagis.api.security;
+
+import com.seffafbagis.api.enums.UserRole;
+import com.seffafbagis.api.enums.UserStatus;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private UserAuthCache userAuthCache;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    @Mock
+    private Claims claims;
+
+    private MeterRegistry meterRegistry;
+    private JwtAuthenticationFilter filter;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(meterRegistryProvider.getIfAvailable(any())).thenReturn(meterRegistry);
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, userAuthCache, new PublicRoutes(), meterRegistryProvider);
+        userId = UUID.randomUUID();
+        SecurityContextHolder.clearContext();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Valid token should authenticate from the cached snapshot with a single parse")
+    void doFilter_ValidToken_ShouldAuthenticateFromCache() throws Exception {
+        when(jwtTokenProvider.parseAccessToken(TOKEN)).thenReturn(claims);
+        when(claims.getSubject()).thenReturn(userId.toString());
+        when(userAuthCache.get(userId)).thenReturn(
+                new UserAuthSnapshot(userId, "donor@example.com", UserRole.FOUNDATION, UserStatus.ACTIVE, true));
+
+        filter.doFilter(authenticatedRequest(), new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        assertEquals(userId, principal.getId());
+        // Role comes from the cached state, so a role change applies before the token expires
+        assertEquals(UserRole.FOUNDATION, principal.getRole());
+        verify(jwtTokenProvider, times(1)).parseAccessToken(TOKEN);
+        verifyNoMoreInteractions(jwtTokenProvider);
+        assertEquals(1L, meterRegistry.get("security.jwt.filter").tag("outcome", "authenticated").timer().count());
+    }
+
+    @Test
+    @DisplayName("Suspended user should stay unauthenticated")
+    void doFilter_SuspendedUser_ShouldNotAuthenticate() throws Exception {
+        when(jwtTokenProvider.parseAccessToken(TOKEN)).thenReturn(claims);
+        when(claims.getSubject()).thenReturn(userId.toString());
+        when(userAuthCache.get(userId)).thenReturn(
+                new UserAuthSnapshot(userId, "donor@example.com", UserRole.DONOR, UserStatus.SUSPENDED, true));
+
+        filter.doFilter(authenticatedRequest(), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertEquals(1L, meterRegistry.get("security.jwt.filter").tag("outcome", "rejected").timer().count());
+    }
+
+    @Test
+    @DisplayName("Invalid or refresh token should not reach the cache")
+    void doFilter_InvalidToken_ShouldSkipCache() throws Exception {
+        when(jwtTokenProvider.parseAccessToken(TOKEN)).thenReturn(null);
+
+        filter.doFilter(authenticatedRequest(), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verifyNoInteractions(userAuthCache);
+    }
+
+    @Test
+    @DisplayName("Public route should skip token handling")
+    void doFilter_PublicRoute_ShouldSkipTokenHandling() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+        request.addHeader("Authorization", "Bearer " + TOKEN);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        verifyNoInteractions(jwtTokenProvider, userAuthCache);
+    }
+
+    @Test
+    @DisplayName("Notification stream should accept a stream token in the query string")
+    void doFilter_StreamTokenParameter_ShouldAuthenticateStream() throws Exception {
+        when(jwtTokenProvider.parseStreamToken(TOKEN)).thenReturn(claims);
+        when(claims.getSubject()).thenReturn(userId.toString());
+        when(userAuthCache.get(userId)).thenReturn(
+                new UserAuthSnapshot(userId, "donor@example.com", UserRole.DONOR, UserStatus.ACTIVE, true));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/notifications/stream");
+        request.setParameter("token", TOKEN);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(jwtTokenProvider, never()).parseAccessToken(any());
+    }
+
+    @Test
+    @DisplayName("Query string token should be ignored outside the notification stream")
+    void doFilter_TokenParameterElsewhere_ShouldBeIgnored() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/me");
+        request.setParameter("token", TOKEN);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verifyNoInteractions(jwtTokenProvider, userAuthCache);
+    }
+
+    private static MockHttpServletRequest authenticatedRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/me");
+        request.addHeader("Authorization", "Bearer " + TOKEN);
+        return request;
+    }
+}
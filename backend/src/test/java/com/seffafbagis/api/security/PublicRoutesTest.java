@@ -0,0 +1,83 @@
+package com.seffafbagis.api.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PublicRoutesTest {
+
+    private static final List<String> PATHS = List.of(
+            "/",
+            "/api/v1/auth/login",
+            "/api/v1/auth/login/",
+            "/api/v1/auth/logout",
+            "/api/v1/auth",
+            "/api/v1/settings/public",
+            "/api/v1/settings",
+            "/v3/api-docs",
+            "/v3/api-docs/",
+            "/v3/api-docs/swagger-config",
+            "/swagger-ui.html",
+            "/swagger-ui/index.html",
+            "/actuator/health",
+            "/actuator/health/liveness",
+            "/actuator/prometheus",
+            "/api/v1/campaigns",
+            "/api/v1/campaigns/",
+            "/api/v1/campaigns/yardim-kampanyasi/donations",
+            "/api/v1/campaignsx",
+            "/api/v1/organizations/123e4567-e89b-12d3-a456-426614174000",
+            "/api/v1/categories/egitim",
+            "/api/v1/receipts/guest/RCPT-2026-000042-9F3A1C0B7D2E4A61/download",
+            "/api/v1/receipts/42/download",
+            "/api/v1/admin/users",
+            "/api/v1/users/me",
+            ""
+    );
+
+    private final PublicRoutes publicRoutes = new PublicRoutes();
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+    @Test
+    @DisplayName("Should classify paths exactly like AntPathMatcher")
+    void isPublic_ShouldMatchAntPathMatcherSemantics() {
+        for (String method : List.of("GET", "POST", "DELETE")) {
+            for (String path : PATHS) {
+                assertEquals(antMatches(method, path), publicRoutes.isPublic(method, path),
+                        () -> method + " " + path);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Public GET paths should require authentication for writes")
+    void isPublic_PublicGetPath_ShouldOnlyAllowGet() {
+        assertTrue(publicRoutes.isPublic("GET", "/api/v1/campaigns/slug"));
+        assertFalse(publicRoutes.isPublic("POST", "/api/v1/campaigns/slug"));
+        assertTrue(publicRoutes.isPublic("POST", "/api/v1/auth/login"));
+    }
+
+    @Test
+    @DisplayName("Request matchers should strip the context path")
+    void matchers_ShouldUsePathWithinApplication() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api-root/api/v1/categories/egitim");
+        request.setContextPath("/api-root");
+
+        assertTrue(publicRoutes.publicGetMatcher().matches(request));
+        assertFalse(publicRoutes.alwaysPublicMatcher().matches(request));
+        assertTrue(publicRoutes.isPublic(request));
+    }
+
+    private boolean antMatches(String method, String path) {
+        if (PublicRoutes.ALWAYS_PUBLIC_PATHS.stream().anyMatch(pattern -> antPathMatcher.match(pattern, path))) {
+            return true;
+        }
+        return "GET".equals(method)
+                && PublicRoutes.PUBLIC_GET_PATHS.stream().anyMatch(pattern -> antPathMatcher.match(pattern, path));
+    }
+}
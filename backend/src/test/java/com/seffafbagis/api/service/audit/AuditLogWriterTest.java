@@ -0,0 +1,128 @@
+package com.seffafbagis.api.service.audit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditLogWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private MeterRegistry meterRegistry;
+    private AuditLogWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should write inline when the async writer is disabled")
+    void submit_AsyncDisabled_ShouldWriteInline() {
+        writer = new AuditLogWriter(jdbcTemplate, meterRegistry, false, 10, 10);
+        writer.start();
+
+        assertTrue(writer.submit(record("donation.completed")));
+
+        verify(jdbcTemplate).batchUpdate(eq(AuditLogWriter.INSERT_SQL),
+                argThat((Collection<AuditLogRecord> batch) -> batch.size() == 1), eq(1), anyBatchSetter());
+        assertEquals(1.0, meterRegistry.get("audit.log.written").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should flush queued entries from the worker thread")
+    void submit_Running_ShouldFlushInBackground() {
+        writer = new AuditLogWriter(jdbcTemplate, meterRegistry, true, 100, 50);
+        writer.start();
+
+        for (int i = 0; i < 20; i++) {
+            assertTrue(writer.submit(record("donation.completed")));
+        }
+
+        verify(jdbcTemplate, timeout(5000).atLeastOnce())
+                .batchUpdate(eq(AuditLogWriter.INSERT_SQL), anyCollection(), anyInt(), anyBatchSetter());
+        writer.stop();
+        assertEquals(20.0, meterRegistry.get("audit.log.enqueued").counter().count());
+        assertEquals(20.0, meterRegistry.get("audit.log.written").counter().count());
+        assertEquals(0.0, meterRegistry.get("audit.log.queue.depth").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should drop entries instead of blocking when the queue is full")
+    void submit_QueueFull_ShouldDrop() throws Exception {
+        CountDownLatch flushStarted = new CountDownLatch(1);
+        CountDownLatch releaseFlush = new CountDownLatch(1);
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), anyBatchSetter()))
+                .thenAnswer(invocation -> {
+                    flushStarted.countDown();
+                    releaseFlush.await(5, TimeUnit.SECONDS);
+                    return new int[0][];
+                });
+        writer = new AuditLogWriter(jdbcTemplate, meterRegistry, true, 1, 10);
+        writer.start();
+
+        assertTrue(writer.submit(record("first")));
+        assertTrue(flushStarted.await(5, TimeUnit.SECONDS));
+        assertTrue(writer.submit(record("queued")));
+        assertFalse(writer.submit(record("dropped")));
+
+        releaseFlush.countDown();
+        assertEquals(1.0, meterRegistry.get("audit.log.dropped").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should retry rows individually when a batch insert fails")
+    void flush_BatchFails_ShouldRetryRowByRow() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), anyBatchSetter()))
+                .thenThrow(new DataIntegrityViolationException("fk_audit_user"));
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+                .thenThrow(new DataIntegrityViolationException("fk_audit_user"))
+                .thenReturn(1);
+        writer = new AuditLogWriter(jdbcTemplate, meterRegistry, false, 10, 10);
+
+        writer.flush(List.of(record("bad"), record("good")));
+
+        verify(jdbcTemplate, times(2)).update(eq(AuditLogWriter.INSERT_SQL), any(PreparedStatementSetter.class));
+        assertEquals(1.0, meterRegistry.get("audit.log.written").counter().count());
+        assertEquals(1.0, meterRegistry.get("audit.log.failed").counter().count());
+    }
+
+    private static AuditLogRecord record(String action) {
+        return new AuditLogRecord(UUID.randomUUID(), action, "donation", UUID.randomUUID(), null, null,
+                AuditContext.EMPTY);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ParameterizedPreparedStatementSetter<AuditLogRecord> anyBatchSetter() {
+        return any(ParameterizedPreparedStatementSetter.class);
+    }
+}
@@ -0,0 +1,64 @@
+package com.seffafbagis.api.service.batch;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchLoaderTest {
+
+    private final List<Set<Integer>> batches = new ArrayList<>();
+
+    private final BatchLoader<Integer, String> loader = BatchLoader.of(this::load);
+
+    @Test
+    void get_ShouldLoadPrimedKeysInOneBatch() {
+        loader.primeAll(List.of(1, 2, 3)).prime(null);
+
+        assertEquals("#1", loader.get(1));
+        assertEquals("#2", loader.get(2));
+        assertEquals("#3", loader.get(3));
+
+        assertEquals(List.of(Set.of(1, 2, 3)), batches);
+    }
+
+    @Test
+    void get_ShouldCacheMissingValuesAndNotReloadThem() {
+        loader.primeAll(List.of(1, 404));
+
+        assertNull(loader.get(404));
+        assertNull(loader.get(404));
+        loader.prime(1);
+        assertEquals("#1", loader.get(1));
+
+        assertEquals(1, batches.size());
+    }
+
+    @Test
+    void get_UnprimedKey_ShouldLoadItWithPendingKeys() {
+        loader.prime(1);
+
+        assertEquals("#2", loader.get(2));
+        assertEquals("#1", loader.get(1));
+
+        assertEquals(List.of(Set.of(1, 2)), batches);
+        assertNull(loader.get(null));
+    }
+
+    private Map<Integer, String> load(Collection<Integer> keys) {
+        batches.add(Set.copyOf(keys));
+        Map<Integer, String> values = new HashMap<>();
+        for (Integer key : keys) {
+            if (key != 404) {
+                values.put(key, "#" + key);
+            }
+        }
+        return values;
+    }
+}
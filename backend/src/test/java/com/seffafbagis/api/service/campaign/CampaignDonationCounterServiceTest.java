@@ -0,0 +1,52 @@
+package com.seffafbagis.api.service.campaign;
+
+import com.seffafbagis.api.cache.PublicCacheInvalidator;
+import com.seffafbagis.api.config.SchedulerProperties;
+import com.seffafbagis.api.repository.CampaignDonationCounterRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CampaignDonationCounterServiceTest {
+
+    @Mock
+    private CampaignDonationCounterRepository counterRepository;
+    @Mock
+    private SchedulerProperties schedulerProperties;
+    @Mock
+    private PublicCacheInvalidator publicCacheInvalidator;
+
+    @InjectMocks
+    private CampaignDonationCounterService counterService;
+
+    @Test
+    void rollUp_ShouldEvictCachedViewsOfUpdatedCampaigns() {
+        when(counterRepository.rollUpAll()).thenReturn(List.of("su-kuyusu", "okul-kitaplari"));
+
+        int updated = counterService.rollUp();
+
+        assertEquals(2, updated);
+        verify(publicCacheInvalidator).evictCampaign("su-kuyusu");
+        verify(publicCacheInvalidator).evictCampaign("okul-kitaplari");
+    }
+
+    @Test
+    void rollUpCampaign_NothingPending_ShouldKeepCache() {
+        UUID campaignId = UUID.randomUUID();
+        when(counterRepository.rollUpByCampaignId(campaignId)).thenReturn(Optional.empty());
+
+        counterService.rollUp(campaignId);
+
+        verifyNoInteractions(publicCacheInvalidator);
+    }
+}
@@ -21,7 +21,6 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -118,95 +117,6 @@ class CampaignFollowerServiceTest {
         }
     }
 
-    @Nested
-    @DisplayName("Get Followers To Notify Tests")
-    class GetFollowersToNotifyTests {
-
-        @Test
-        @DisplayName("Should return users to notify for updates")
-        void getFollowersToNotify_ForUpdate_ReturnsCorrectUsers() {
-            UUID campaignId = UUID.randomUUID();
-
-            User user1 = new User();
-            ReflectionTestUtils.setField(user1, "id", UUID.randomUUID());
-
-            User user2 = new User();
-            ReflectionTestUtils.setField(user2, "id", UUID.randomUUID());
-
-            User user3 = new User();
-            ReflectionTestUtils.setField(user3, "id", UUID.randomUUID());
-
-            CampaignFollower follower1 = new CampaignFollower();
-            follower1.setUser(user1);
-            follower1.setNotifyOnUpdate(true);
-            follower1.setNotifyOnComplete(true);
-
-            CampaignFollower follower2 = new CampaignFollower();
-            follower2.setUser(user2);
-            follower2.setNotifyOnUpdate(true);
-            follower2.setNotifyOnComplete(false);
-
-            CampaignFollower follower3 = new CampaignFollower();
-            follower3.setUser(user3);
-            follower3.setNotifyOnUpdate(false);
-            follower3.setNotifyOnComplete(true);
-
-            when(campaignFollowerRepository.findByCampaignId(campaignId))
-                    .thenReturn(Arrays.asList(follower1, follower2, follower3));
-
-            List<UUID> userIds = followerService.getFollowersToNotify(campaignId, true);
-
-            assertEquals(2, userIds.size());
-            assertTrue(userIds.contains(user1.getId()));
-            assertTrue(userIds.contains(user2.getId()));
-            assertFalse(userIds.contains(user3.getId()));
-        }
-
-        @Test
-        @DisplayName("Should return users to notify for completion")
-        void getFollowersToNotify_ForComplete_ReturnsCorrectUsers() {
-            UUID campaignId = UUID.randomUUID();
-
-            User user1 = new User();
-            ReflectionTestUtils.setField(user1, "id", UUID.randomUUID());
-
-            User user2 = new User();
-            ReflectionTestUtils.setField(user2, "id", UUID.randomUUID());
-
-            CampaignFollower follower1 = new CampaignFollower();
-            follower1.setUser(user1);
-            follower1.setNotifyOnUpdate(true);
-            follower1.setNotifyOnComplete(true);
-
-            CampaignFollower follower2 = new CampaignFollower();
-            follower2.setUser(user2);
-            follower2.setNotifyOnUpdate(true);
-            follower2.setNotifyOnComplete(false);
-
-            when(campaignFollowerRepository.findByCampaignId(campaignId))
-                    .thenReturn(Arrays.asList(follower1, follower2));
-
-            List<UUID> userIds = followerService.getFollowersToNotify(campaignId, false);
-
-            assertEquals(1, userIds.size());
-            assertTrue(userIds.contains(user1.getId()));
-            assertFalse(userIds.contains(user2.getId()));
-        }
-
-        @Test
-        @DisplayName("Should return empty list when no followers")
-        void getFollowersToNotify_NoFollowers_ReturnsEmptyList() {
-            UUID campaignId = UUID.randomUUID();
-
-            when(campaignFollowerRepository.findByCampaignId(campaignId))
-                    .thenReturn(List.of());
-
-            List<UUID> userIds = followerService.getFollowersToNotify(campaignId, true);
-
-            assertTrue(userIds.isEmpty());
-        }
-    }
-
     @Nested
     @DisplayName("Is Following Tests")
     class IsFollowingTests {
@@ -1,17 +1,26 @@
 package com.seffafbagis.api.service.campaign;
 
+import com.seffafbagis.api.cache.PublicCacheInvalidator;
 import com.seffafbagis.api.dto.mapper.CampaignMapper;
 import com.seffafbagis.api.dto.request.campaign.CreateCampaignRequest;
+import com.seffafbagis.api.dto.response.campaign.CampaignDailyStatsResponse;
 import com.seffafbagis.api.dto.response.campaign.CampaignResponse;
+import com.seffafbagis.api.dto.response.campaign.CampaignStatsResponse;
 import com.seffafbagis.api.entity.campaign.Campaign;
+import com.seffafbagis.api.entity.campaign.CampaignStats;
+import com.seffafbagis.api.entity.campaign.CampaignStatsDaily;
+import com.seffafbagis.api.entity.campaign.CampaignStatsDailyId;
 import com.seffafbagis.api.enums.CampaignStatus;
 import com.seffafbagis.api.entity.organization.Organization;
 import com.seffafbagis.api.entity.user.User;
 import com.seffafbagis.api.enums.VerificationStatus;
+import com.seffafbagis.api.event.CampaignStatusChangedEvent;
 import com.seffafbagis.api.exception.BadRequestException;
 import com.seffafbagis.api.exception.ForbiddenException;
 import com.seffafbagis.api.repository.*;
+import com.seffafbagis.api.repository.projection.CampaignListProjection;
 import com.seffafbagis.api.security.SecurityUtils;
+import com.seffafbagis.api.service.notification.NotificationFanoutService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -23,10 +32,16 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.List;
@@ -58,6 +73,16 @@ class CampaignServiceTest {
     private UserRepository userRepository;
     @Mock
     private TransparencyScoreRepository transparencyScoreRepository;
+    @Mock
+    private NotificationFanoutService notificationFanoutService;
+    @Mock
+    private CampaignDonationCounterService campaignDonationCounterService;
+    @Mock
+    private CampaignStatsService campaignStatsService;
+    @Mock
+    private PublicCacheInvalidator publicCacheInvalidator;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private CampaignService campaignService;
@@ -218,6 +243,7 @@ class CampaignServiceTest {
                 campaignService.pauseCampaign(testCampaign.getId());
 
                 assertEquals(CampaignStatus.PAUSED, testCampaign.getStatus());
+                verify(eventPublisher).publishEvent(any(CampaignStatusChangedEvent.class));
             }
         }
 
@@ -249,12 +275,14 @@ class CampaignServiceTest {
 
                 when(campaignRepository.findById(testCampaign.getId())).thenReturn(Optional.of(testCampaign));
                 when(organizationRepository.findByUserId(testUser.getId())).thenReturn(Optional.of(testOrg));
-                when(campaignRepository.save(any(Campaign.class))).thenReturn(testCampaign);
+                when(campaignRepository.completeIfActive(eq(testCampaign.getId()), any(LocalDateTime.class)))
+                        .thenReturn(1);
 
                 campaignService.completeCampaign(testCampaign.getId());
 
                 assertEquals(CampaignStatus.COMPLETED, testCampaign.getStatus());
                 assertNotNull(testCampaign.getCompletedAt());
+                verify(notificationFanoutService).enqueueCampaignCompleted(testCampaign);
             }
         }
     }
@@ -317,7 +345,7 @@ class CampaignServiceTest {
     class DonationStatsTests {
 
         @Test
-        @DisplayName("Should increment donation stats correctly")
+        @DisplayName("Should record donation on striped counters without touching the campaign row")
         void incrementDonationStats_Success() {
             testCampaign.setStatus(CampaignStatus.ACTIVE);
             testCampaign.setCollectedAmount(BigDecimal.valueOf(100));
@@ -325,17 +353,18 @@ class CampaignServiceTest {
             testCampaign.setTargetAmount(BigDecimal.valueOf(1000));
 
             when(campaignRepository.findById(testCampaign.getId())).thenReturn(Optional.of(testCampaign));
-            when(campaignRepository.save(any(Campaign.class))).thenReturn(testCampaign);
+            when(campaignDonationCounterService.getAggregatedAmount(testCampaign)).thenReturn(BigDecimal.valueOf(150));
 
             campaignService.incrementDonationStats(testCampaign.getId(), BigDecimal.valueOf(50));
 
-            assertEquals(BigDecimal.valueOf(150), testCampaign.getCollectedAmount());
-            assertEquals(6, testCampaign.getDonorCount());
-            verify(campaignRepository, atLeast(1)).save(testCampaign);
+            verify(campaignDonationCounterService).recordDonation(testCampaign.getId(), BigDecimal.valueOf(50));
+            assertEquals(BigDecimal.valueOf(100), testCampaign.getCollectedAmount());
+            assertEquals(CampaignStatus.ACTIVE, testCampaign.getStatus());
+            verify(campaignRepository, never()).save(any(Campaign.class));
         }
 
         @Test
-        @DisplayName("Should auto-complete campaign when target is reached")
+        @DisplayName("Should auto-complete campaign when aggregated amount reaches target")
         void incrementDonationStats_AutoComplete_WhenTargetReached() {
             testCampaign.setStatus(CampaignStatus.ACTIVE);
             testCampaign.setCollectedAmount(BigDecimal.valueOf(900));
@@ -343,29 +372,122 @@ class CampaignServiceTest {
             testCampaign.setTargetAmount(BigDecimal.valueOf(1000));
 
             when(campaignRepository.findById(testCampaign.getId())).thenReturn(Optional.of(testCampaign));
-            when(campaignRepository.save(any(Campaign.class))).thenReturn(testCampaign);
+            when(campaignRepository.completeIfActive(eq(testCampaign.getId()), any(LocalDateTime.class)))
+                    .thenReturn(1);
+            when(campaignDonationCounterService.getAggregatedAmount(testCampaign)).thenReturn(BigDecimal.valueOf(1100));
 
             campaignService.incrementDonationStats(testCampaign.getId(), BigDecimal.valueOf(200));
 
             assertEquals(CampaignStatus.COMPLETED, testCampaign.getStatus());
             assertNotNull(testCampaign.getCompletedAt());
+            verify(campaignDonationCounterService).rollUp(testCampaign.getId());
+            verify(eventPublisher).publishEvent(any(CampaignStatusChangedEvent.class));
+            verify(notificationFanoutService).enqueueCampaignCompleted(testCampaign);
+        }
+
+        @Test
+        @DisplayName("Should skip completion side effects when a concurrent donation completed the campaign")
+        void incrementDonationStats_ConcurrentCompletion_RunsSideEffectsOnce() {
+            testCampaign.setStatus(CampaignStatus.ACTIVE);
+            testCampaign.setTargetAmount(BigDecimal.valueOf(1000));
+
+            when(campaignRepository.findById(testCampaign.getId())).thenReturn(Optional.of(testCampaign));
+            when(campaignDonationCounterService.getAggregatedAmount(testCampaign)).thenReturn(BigDecimal.valueOf(1100));
+            when(campaignRepository.completeIfActive(eq(testCampaign.getId()), any(LocalDateTime.class)))
+                    .thenReturn(0);
+
+            campaignService.incrementDonationStats(testCampaign.getId(), BigDecimal.valueOf(200));
+
+            assertEquals(CampaignStatus.ACTIVE, testCampaign.getStatus());
+            verify(campaignDonationCounterService, never()).rollUp(any(UUID.class));
+            verifyNoInteractions(eventPublisher, notificationFanoutService);
         }
 
         @Test
-        @DisplayName("Should initialize stats from null values")
-        void incrementDonationStats_Success_FromNull() {
+        @DisplayName("Should not complete campaign while aggregated amount is below target")
+        void incrementDonationStats_BelowTarget_StaysActive() {
             testCampaign.setStatus(CampaignStatus.ACTIVE);
             testCampaign.setCollectedAmount(null);
             testCampaign.setDonorCount(null);
             testCampaign.setTargetAmount(BigDecimal.valueOf(1000));
 
             when(campaignRepository.findById(testCampaign.getId())).thenReturn(Optional.of(testCampaign));
-            when(campaignRepository.save(any(Campaign.class))).thenReturn(testCampaign);
+            when(campaignDonationCounterService.getAggregatedAmount(testCampaign)).thenReturn(BigDecimal.valueOf(50));
 
             campaignService.incrementDonationStats(testCampaign.getId(), BigDecimal.valueOf(50));
 
-            assertEquals(BigDecimal.valueOf(50), testCampaign.getCollectedAmount());
-            assertEquals(1, testCampaign.getDonorCount());
+            assertEquals(CampaignStatus.ACTIVE, testCampaign.getStatus());
+            verify(campaignDonationCounterService, never()).rollUp(any(UUID.class));
+            verifyNoInteractions(notificationFanoutService);
+        }
+    }
+
+    @Nested
+    @DisplayName("Organization Listing Tests")
+    class OrganizationListingTests {
+
+        @Test
+        @DisplayName("Should page organization campaigns in the database using the list projection")
+        void getByOrganizationId_UsesPagedProjection() {
+            Pageable pageable = PageRequest.of(2, 10);
+            CampaignListProjection row = mock(CampaignListProjection.class);
+            CampaignResponse response = new CampaignResponse();
+            when(campaignRepository.findListByOrganizationIdAndStatus(testOrg.getId(), CampaignStatus.ACTIVE, pageable))
+                    .thenReturn(new PageImpl<>(List.of(row), pageable, 21));
+            when(campaignMapper.toResponse(row)).thenReturn(response);
+
+            Page<CampaignResponse> result = campaignService.getByOrganizationId(testOrg.getId(), pageable);
+
+            assertEquals(List.of(response), result.getContent());
+            assertEquals(21, result.getTotalElements());
+            verify(campaignRepository, never()).findByOrganizationIdAndStatus(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Campaign Statistics Tests")
+    class CampaignStatisticsTests {
+
+        @Test
+        @DisplayName("Should serve statistics from the read model")
+        void getCampaignStats_ReadsProjection() {
+            CampaignStats stats = new CampaignStats();
+            stats.setCampaignId(testCampaign.getId());
+            stats.setDonationCount(4L);
+            stats.setUniqueDonors(3L);
+            stats.setTotalAmount(new BigDecimal("250.00"));
+            stats.setMinAmount(new BigDecimal("25.00"));
+            stats.setMaxAmount(new BigDecimal("100.00"));
+            when(campaignRepository.existsById(testCampaign.getId())).thenReturn(true);
+            when(campaignStatsService.getStats(testCampaign.getId())).thenReturn(Optional.of(stats));
+
+            CampaignStatsResponse response = campaignService.getCampaignStats(testCampaign.getId());
+
+            assertEquals(4L, response.getTotalDonations());
+            assertEquals(3L, response.getTotalDonors());
+            assertEquals(0, new BigDecimal("62.50").compareTo(response.getAverageDonation()));
+            assertEquals(0, new BigDecimal("25.00").compareTo(response.getMinDonation()));
+            verify(campaignRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("Should fill days without donations in the daily series")
+        void getCampaignDailyStats_FillsEmptyDays() {
+            LocalDate today = LocalDate.now(CampaignStatsService.BUCKET_ZONE);
+            CampaignStatsDaily bucket = new CampaignStatsDaily();
+            bucket.setId(new CampaignStatsDailyId(testCampaign.getId(), today.minusDays(1)));
+            bucket.setDonationCount(2L);
+            bucket.setTotalAmount(new BigDecimal("40.00"));
+            when(campaignRepository.existsById(testCampaign.getId())).thenReturn(true);
+            when(campaignStatsService.getDailySeries(testCampaign.getId(), today.minusDays(6), today))
+                    .thenReturn(List.of(bucket));
+
+            List<CampaignDailyStatsResponse> series = campaignService.getCampaignDailyStats(testCampaign.getId(), 7);
+
+            assertEquals(7, series.size());
+            assertEquals(today.minusDays(6), series.get(0).getDate());
+            assertEquals(2L, series.get(5).getDonationCount());
+            assertEquals(0L, series.get(6).getDonationCount());
         }
     }
 }
@@ -0,0 +1,167 @@
+package com.seffafbagis.api.service.campaign;
+
+import com.seffafbagis.api.entity.campaign.Campaign;
+import com.seffafbagis.api.entity.campaign.CampaignStats;
+import com.seffafbagis.api.entity.donation.Donation;
+import com.seffafbagis.api.entity.user.User;
+import com.seffafbagis.api.enums.DonationStatus;
+import com.seffafbagis.api.repository.CampaignStatsDailyRepository;
+import com.seffafbagis.api.repository.CampaignStatsRepository;
+import com.seffafbagis.api.repository.DonationRepository;
+import com.seffafbagis.api.repository.projection.CampaignStatsAggregate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CampaignStatsServiceTest {
+
+    @Mock
+    private CampaignStatsRepository statsRepository;
+
+    @Mock
+    private CampaignStatsDailyRepository dailyRepository;
+
+    @Mock
+    private DonationRepository donationRepository;
+
+    @InjectMocks
+    private CampaignStatsService campaignStatsService;
+
+    private UUID campaignId;
+    private UUID donorId;
+    private Donation donation;
+    private CampaignStats stats;
+
+    @BeforeEach
+    void setUp() {
+        campaignId = UUID.randomUUID();
+        donorId = UUID.randomUUID();
+
+        Campaign campaign = new Campaign();
+        ReflectionTestUtils.setField(campaign, "id", campaignId);
+        User donor = new User();
+        ReflectionTestUtils.setField(donor, "id", donorId);
+
+        donation = new Donation();
+        ReflectionTestUtils.setField(donation, "id", UUID.randomUUID());
+        ReflectionTestUtils.setField(donation, "createdAt", OffsetDateTime.parse("2024-03-10T22:30:00Z"));
+        donation.setCampaign(campaign);
+        donation.setDonor(donor);
+        donation.setAmount(new BigDecimal("50.00"));
+        donation.setStatus(DonationStatus.COMPLETED);
+
+        stats = new CampaignStats();
+        stats.setCampaignId(campaignId);
+
+        lenient().when(donationRepository.findById(donation.getId())).thenReturn(Optional.of(donation));
+        lenient().when(statsRepository.findByIdForUpdate(campaignId)).thenReturn(Optional.of(stats));
+    }
+
+    @Test
+    @DisplayName("Completed donation should add to totals, extremes, donors and its day bucket")
+    void applyCompleted_ShouldAddDonation() {
+        when(donationRepository.markCountedInStats(donation.getId())).thenReturn(1);
+        when(donationRepository.existsOtherCountedDonation(campaignId, donorId, donation.getId())).thenReturn(false);
+
+        campaignStatsService.applyCompleted(donation.getId());
+
+        assertEquals(1L, stats.getDonationCount());
+        assertEquals(1L, stats.getUniqueDonors());
+        assertEquals(0, new BigDecimal("50.00").compareTo(stats.getTotalAmount()));
+        assertEquals(0, new BigDecimal("50.00").compareTo(stats.getMinAmount()));
+        assertEquals(0, new BigDecimal("50.00").compareTo(stats.getMaxAmount()));
+        // 22:30 UTC is the next day in Istanbul
+        verify(dailyRepository).addToBucket(campaignId, LocalDate.of(2024, 3, 11), 1, donation.getAmount());
+    }
+
+    @Test
+    @DisplayName("Repeat donor should not be counted twice")
+    void applyCompleted_ShouldNotCountRepeatDonor() {
+        stats.setDonationCount(1L);
+        stats.setUniqueDonors(1L);
+        when(donationRepository.markCountedInStats(donation.getId())).thenReturn(1);
+        when(donationRepository.existsOtherCountedDonation(campaignId, donorId, donation.getId())).thenReturn(true);
+
+        campaignStatsService.applyCompleted(donation.getId());
+
+        assertEquals(2L, stats.getDonationCount());
+        assertEquals(1L, stats.getUniqueDonors());
+    }
+
+    @Test
+    @DisplayName("Redelivered completion should be a no-op")
+    void applyCompleted_ShouldIgnoreRedelivery() {
+        when(donationRepository.markCountedInStats(donation.getId())).thenReturn(0);
+
+        campaignStatsService.applyCompleted(donation.getId());
+
+        assertEquals(0L, stats.getDonationCount());
+        verify(statsRepository, never()).save(any());
+        verify(dailyRepository, never()).addToBucket(any(), any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Refund of the largest donation should re-read the extremes")
+    void applyRefunded_ShouldRemoveDonationAndRecomputeExtremes() {
+        donation.setStatus(DonationStatus.REFUNDED);
+        stats.setDonationCount(2L);
+        stats.setUniqueDonors(2L);
+        stats.setTotalAmount(new BigDecimal("60.00"));
+        stats.setMinAmount(new BigDecimal("10.00"));
+        stats.setMaxAmount(new BigDecimal("50.00"));
+        CampaignStatsAggregate remaining = mock(CampaignStatsAggregate.class);
+        when(remaining.getMinAmount()).thenReturn(new BigDecimal("10.00"));
+        when(remaining.getMaxAmount()).thenReturn(new BigDecimal("10.00"));
+        when(donationRepository.markReversedInStats(donation.getId())).thenReturn(1);
+        when(donationRepository.existsOtherCountedDonation(campaignId, donorId, donation.getId())).thenReturn(false);
+        when(donationRepository.aggregateCountedByCampaignId(campaignId)).thenReturn(remaining);
+
+        campaignStatsService.applyRefunded(donation.getId());
+
+        assertEquals(1L, stats.getDonationCount());
+        assertEquals(1L, stats.getUniqueDonors());
+        assertEquals(0, new BigDecimal("10.00").compareTo(stats.getTotalAmount()));
+        assertEquals(0, new BigDecimal("10.00").compareTo(stats.getMaxAmount()));
+        verify(dailyRepository).addToBucket(eq(campaignId), any(), eq(-1L), eq(new BigDecimal("-50.00")));
+    }
+
+    @Test
+    @DisplayName("Rebuild should replace drifted values with the recomputed aggregates")
+    void rebuild_ShouldReportDrift() {
+        stats.setDonationCount(5L);
+        stats.setTotalAmount(new BigDecimal("500.00"));
+        CampaignStatsAggregate aggregate = mock(CampaignStatsAggregate.class);
+        when(aggregate.getDonationCount()).thenReturn(4L);
+        when(aggregate.getUniqueDonors()).thenReturn(3L);
+        when(aggregate.getTotalAmount()).thenReturn(new BigDecimal("450.00"));
+        when(donationRepository.aggregateCountedByCampaignId(campaignId)).thenReturn(aggregate);
+
+        boolean drifted = campaignStatsService.rebuild(campaignId);
+
+        assertTrue(drifted);
+        assertEquals(4L, stats.getDonationCount());
+        assertEquals(3L, stats.getUniqueDonors());
+        assertNotNull(stats.getRebuiltAt());
+        verify(donationRepository).reconcileStatsStates(campaignId);
+        verify(dailyRepository).deleteByCampaignId(campaignId);
+        verify(dailyRepository).rebuildForCampaign(campaignId);
+    }
+}
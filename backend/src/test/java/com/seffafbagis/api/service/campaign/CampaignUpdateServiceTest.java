@@ -0,0 +1,100 @@
+package com.seffafbagis.api.service.campaign;
+
+import com.seffafbagis.api.dto.mapper.CampaignMapper;
+import com.seffafbagis.api.dto.request.campaign.AddCampaignUpdateRequest;
+import com.seffafbagis.api.entity.campaign.Campaign;
+import com.seffafbagis.api.entity.campaign.CampaignUpdate;
+import com.seffafbagis.api.entity.organization.Organization;
+import com.seffafbagis.api.entity.user.User;
+import com.seffafbagis.api.exception.ForbiddenException;
+import com.seffafbagis.api.repository.CampaignRepository;
+import com.seffafbagis.api.repository.CampaignUpdateRepository;
+import com.seffafbagis.api.repository.OrganizationRepository;
+import com.seffafbagis.api.repository.UserRepository;
+import com.seffafbagis.api.security.SecurityUtils;
+import com.seffafbagis.api.service.notification.NotificationFanoutService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CampaignUpdateServiceTest {
+
+    @Mock
+    private CampaignUpdateRepository campaignUpdateRepository;
+    @Mock
+    private CampaignRepository campaignRepository;
+    @Mock
+    private OrganizationRepository organizationRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private CampaignMapper campaignMapper;
+    @Mock
+    private NotificationFanoutService notificationFanoutService;
+
+    @InjectMocks
+    private CampaignUpdateService campaignUpdateService;
+
+    private UUID userId;
+    private Organization organization;
+    private Campaign campaign;
+    private AddCampaignUpdateRequest request;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        organization = new Organization();
+        ReflectionTestUtils.setField(organization, "id", UUID.randomUUID());
+        campaign = new Campaign();
+        ReflectionTestUtils.setField(campaign, "id", UUID.randomUUID());
+        campaign.setOrganization(organization);
+        request = new AddCampaignUpdateRequest();
+        request.setTitle("Teslimat yapıldı");
+        request.setContent("İlk koliler dağıtıldı.");
+    }
+
+    @Test
+    void addUpdate_ShouldFanOutToFollowers() {
+        try (MockedStatic<SecurityUtils> utilities = Mockito.mockStatic(SecurityUtils.class)) {
+            utilities.when(SecurityUtils::getCurrentUserId).thenReturn(Optional.of(userId));
+            when(campaignRepository.findById(campaign.getId())).thenReturn(Optional.of(campaign));
+            when(organizationRepository.findByUserId(userId)).thenReturn(Optional.of(organization));
+            when(userRepository.getReferenceById(userId)).thenReturn(new User());
+            when(campaignUpdateRepository.save(any(CampaignUpdate.class))).thenAnswer(inv -> inv.getArgument(0));
+
+            campaignUpdateService.addUpdate(campaign.getId(), request);
+
+            verify(notificationFanoutService).enqueueCampaignUpdate(argThat(update ->
+                    update.getCampaign() == campaign && "Teslimat yapıldı".equals(update.getTitle())));
+        }
+    }
+
+    @Test
+    void addUpdate_NotOwner_ShouldNotFanOut() {
+        try (MockedStatic<SecurityUtils> utilities = Mockito.mockStatic(SecurityUtils.class)) {
+            utilities.when(SecurityUtils::getCurrentUserId).thenReturn(Optional.of(userId));
+            Organization other = new Organization();
+            ReflectionTestUtils.setField(other, "id", UUID.randomUUID());
+            when(campaignRepository.findById(campaign.getId())).thenReturn(Optional.of(campaign));
+            when(organizationRepository.findByUserId(userId)).thenReturn(Optional.of(other));
+
+            assertThrows(ForbiddenException.class, () -> campaignUpdateService.addUpdate(campaign.getId(), request));
+
+            verifyNoInteractions(notificationFanoutService, campaignUpdateRepository);
+        }
+    }
+}
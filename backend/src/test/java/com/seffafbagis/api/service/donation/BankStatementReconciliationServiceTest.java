@@ -0,0 +1,165 @@
+package com.seffafbagis.api.service.donation;
+
+import com.seffafbagis.api.dto.response.donation.BankStatementReconciliationResponse;
+import com.seffafbagis.api.dto.response.donation.ReconciliationExceptionResponse;
+import com.seffafbagis.api.enums.ReconciliationExceptionReason;
+import com.seffafbagis.api.repository.BankTransferReferenceRepository;
+import com.seffafbagis.api.service.campaign.CampaignService;
+import com.seffafbagis.api.service.donation.statement.StatementFormat;
+import com.seffafbagis.api.service.outbox.OutboxService;
+import com.seffafbagis.api.service.receipt.ReceiptService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BankStatementReconciliationServiceTest {
+
+    private static final String HEADER = "date;description;sender;amount\n";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private BankTransferReferenceRepository bankTransferReferenceRepository;
+    @Mock
+    private CampaignService campaignService;
+    @Mock
+    private ReceiptService receiptService;
+    @Mock
+    private OutboxService outboxService;
+
+    private BankStatementReconciliationService reconciliationService;
+
+    private final UUID campaignId = UUID.randomUUID();
+    private final UUID firstId = UUID.randomUUID();
+    private final UUID secondId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        reconciliationService = new BankStatementReconciliationService(jdbcTemplate, transactionManager,
+                bankTransferReferenceRepository, campaignService, receiptService, outboxService, 1000, 0.85);
+
+        ResultSet first = reference(firstId, "SBP-20260115-AB3XZ", "100.00", "Ayşe Yılmaz");
+        ResultSet second = reference(secondId, "SBP-20260115-K9M2P", "250.00", "Mehmet Kaya");
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(first);
+            handler.processRow(second);
+            return null;
+        }).when(jdbcTemplate).query(eq(BankStatementReconciliationService.PENDING_REFERENCES_SQL),
+                any(RowCallbackHandler.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reconcile_ShouldMatchByReferenceAndBySenderInOneBatch() throws IOException {
+        when(bankTransferReferenceRepository.lockPendingByIdIn(anyCollection()))
+                .thenAnswer(invocation -> List.copyOf((Collection<UUID>) invocation.getArgument(0)));
+
+        BankStatementReconciliationResponse response = reconcile(HEADER
+                + "15.01.2026;Bağış sbp 20260115 ab3xz;AYSE YILMAZ;100,00\n"
+                + "15.01.2026;Bağış;KAYA MEHMET;250,00\n"
+                + "15.01.2026;Kira;ALİ VELİ;-500,00\n");
+
+        assertEquals(3, response.getTotalLines());
+        assertEquals(2, response.getCreditLines());
+        assertEquals(1, response.getMatchedByReference());
+        assertEquals(1, response.getMatchedBySender());
+        assertEquals(0, new BigDecimal("350").compareTo(response.getMatchedAmount()));
+        assertTrue(response.getExceptions().isEmpty());
+
+        ArgumentCaptor<List<Object[]>> donations = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(BankStatementReconciliationService.INSERT_DONATION_SQL),
+                donations.capture());
+        assertEquals(2, donations.getValue().size());
+        verify(jdbcTemplate).batchUpdate(eq(BankStatementReconciliationService.MATCH_REFERENCE_SQL), anyList());
+        verify(bankTransferReferenceRepository, times(1)).lockPendingByIdIn(anyCollection());
+        verify(receiptService).createReceipts(anyCollection(), any(OffsetDateTime.class));
+        verify(outboxService).enqueueAll(anyCollection());
+        verify(campaignService).incrementDonationStats(eq(campaignId), eq(new BigDecimal("350.00")), eq(2));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reconcile_ShouldReportLinesThatCannotBeMatched() throws IOException {
+        when(bankTransferReferenceRepository.lockPendingByIdIn(anyCollection()))
+                .thenAnswer(invocation -> List.copyOf((Collection<UUID>) invocation.getArgument(0)));
+
+        BankStatementReconciliationResponse response = reconcile(HEADER
+                + "15.01.2026;SBP-20260115-AB3XZ;Ayşe Yılmaz;90,00\n"
+                + "15.01.2026;SBP-20260115-K9M2P;Mehmet Kaya;250,00\n"
+                + "15.01.2026;SBP-20260115-K9M2P tekrar;Mehmet Kaya;250,00\n"
+                + "15.01.2026;SBP-20260115-ZZZZZ;Ali Veli;10,00\n"
+                + "15.01.2026;Bağış;Ali Veli;100,00\n");
+
+        assertEquals(1, response.getMatchedByReference());
+        assertEquals(List.of(ReconciliationExceptionReason.AMOUNT_MISMATCH,
+                ReconciliationExceptionReason.ALREADY_MATCHED,
+                ReconciliationExceptionReason.UNKNOWN_REFERENCE,
+                ReconciliationExceptionReason.NO_REFERENCE),
+                response.getExceptions().stream().map(ReconciliationExceptionResponse::getReason).toList());
+        assertEquals("SBP-20260115-ZZZZZ", response.getExceptions().get(2).getReferenceCode());
+        verify(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq("SBP-20260115-ZZZZZ"));
+        assertEquals(0, new BigDecimal("100").compareTo(response.getExceptions().get(0).getExpectedAmount()));
+    }
+
+    @Test
+    void reconcile_ReferenceMatchedConcurrently_ShouldReportAlreadyMatched() throws IOException {
+        when(bankTransferReferenceRepository.lockPendingByIdIn(anyCollection())).thenReturn(List.of());
+
+        BankStatementReconciliationResponse response = reconcile(HEADER
+                + "15.01.2026;SBP-20260115-AB3XZ;Ayşe Yılmaz;100,00\n");
+
+        assertEquals(0, response.getMatchedByReference());
+        assertEquals(ReconciliationExceptionReason.ALREADY_MATCHED, response.getExceptions().get(0).getReason());
+        verify(jdbcTemplate, never()).batchUpdate(eq(BankStatementReconciliationService.INSERT_DONATION_SQL),
+                anyList());
+        verifyNoInteractions(receiptService, outboxService, campaignService);
+    }
+
+    private BankStatementReconciliationResponse reconcile(String csv) throws IOException {
+        return reconciliationService.reconcile(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+                StatementFormat.CSV);
+    }
+
+    private ResultSet reference(UUID id, String code, String expectedAmount, String senderName) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getObject("id", UUID.class)).thenReturn(id);
+        when(rs.getString("reference_code")).thenReturn(code);
+        when(rs.getObject("campaign_id", UUID.class)).thenReturn(campaignId);
+        when(rs.getObject("organization_id", UUID.class)).thenReturn(UUID.randomUUID());
+        when(rs.getObject("donor_id", UUID.class)).thenReturn(UUID.randomUUID());
+        when(rs.getObject("donation_type_id", UUID.class)).thenReturn(null);
+        when(rs.getBigDecimal("expected_amount")).thenReturn(new BigDecimal(expectedAmount));
+        when(rs.getString("sender_name")).thenReturn(senderName);
+        when(rs.getObject("expires_at", OffsetDateTime.class)).thenReturn(OffsetDateTime.now().plusDays(7));
+        return rs;
+    }
+}
@@ -3,6 +3,7 @@ package com.seffafbagis.api.service.donation;
 import com.seffafbagis.api.entity.donation.Donation;
 import com.seffafbagis.api.entity.donation.DonationReceipt;
 import com.seffafbagis.api.repository.DonationReceiptRepository;
+import com.seffafbagis.api.service.receipt.ReceiptNumberAllocator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -24,16 +25,19 @@ public class DonationReceiptServiceTest {
     @Mock
     private DonationReceiptRepository donationReceiptRepository;
 
+    @Mock
+    private ReceiptNumberAllocator receiptNumberAllocator;
+
     @InjectMocks
     private DonationReceiptService donationReceiptService;
 
     @Test
-    void generateReceipt_ShouldGenerateSequentialNumber() {
+    void generateReceipt_ShouldUseAllocatedNumber() {
         Donation donation = new Donation();
-        String year = String.valueOf(LocalDate.now().getYear());
+        int year = LocalDate.now().getYear();
         String prefix = "RCPT-" + year + "-";
 
-        when(donationReceiptRepository.findMaxReceiptNumberByYear(any())).thenReturn(5);
+        when(receiptNumberAllocator.next(year)).thenReturn(prefix + "000006");
         when(donationReceiptRepository.save(any(DonationReceipt.class))).thenAnswer(i -> i.getArguments()[0]);
 
         DonationReceipt receipt = donationReceiptService.generateReceipt(donation);
@@ -63,6 +63,8 @@ public class DonationServiceTest {
     private org.springframework.context.ApplicationEventPublisher eventPublisher;
     @Mock
     private SystemSettingService systemSettingService;
+    @Mock
+    private com.seffafbagis.api.service.outbox.OutboxService outboxService;
 
     @InjectMocks
     private DonationService donationService;
@@ -111,7 +113,7 @@ public class DonationServiceTest {
 
         assertNotNull(donationId);
         verify(donationRepository).save(any(Donation.class));
-        verify(eventPublisher).publishEvent(any(com.seffafbagis.api.event.DonationCreatedEvent.class));
+        verify(outboxService).enqueue(any(com.seffafbagis.api.event.DonationCreatedEvent.class));
     }
 
     @Test
@@ -148,7 +150,7 @@ public class DonationServiceTest {
         assertEquals(DonationStatus.COMPLETED, donation.getStatus());
         verify(campaignService).incrementDonationStats(campaign.getId(), donation.getAmount());
         verify(receiptService).createReceipt(donation);
-        verify(eventPublisher).publishEvent(any(com.seffafbagis.api.event.DonationCompletedEvent.class));
+        verify(outboxService).enqueue(any(com.seffafbagis.api.event.DonationCompletedEvent.class));
     }
 
     // Helper to mock security context
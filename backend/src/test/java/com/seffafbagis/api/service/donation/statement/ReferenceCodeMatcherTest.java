@@ -0,0 +1,45 @@
+package com.seffafbagis.api.service.donation.statement;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReferenceCodeMatcherTest {
+
+    private final ReferenceCodeMatcher<String> matcher = ReferenceCodeMatcher.of(Map.of(
+            "SBP-20260115-AB3XZ", "first",
+            "SBP-20260116-K9M2P", "second"));
+
+    @Test
+    void find_ShouldTolerateCaseAndSeparators() {
+        assertEquals(List.of("first"), matcher.find("Bağış SBP-20260115-AB3XZ"));
+        assertEquals(List.of("first"), matcher.find("sbp 20260115 ab3xz iyi günler"));
+        assertEquals(List.of("first"), matcher.find("REF:SBP20260115/AB3XZ"));
+        assertEquals(List.of("first"), matcher.find("ODEMESBP-20260115-AB3XZBAGIS"));
+    }
+
+    @Test
+    void find_ShouldReturnEveryDistinctCode() {
+        assertEquals(List.of("second", "first"),
+                matcher.find("SBP-20260116-K9M2P ve SBP-20260115-AB3XZ, SBP 20260116 K9M2P"));
+        assertEquals(List.of(), matcher.find("Kira ödemesi 20260115"));
+        assertEquals(List.of(), matcher.find(null));
+    }
+
+    @Test
+    void findUnknown_ShouldReturnCodeShapedTokensThatAreNotKnown() {
+        assertEquals(List.of("SBP-20260115-ZZZZZ"), List.copyOf(matcher.findUnknown("sbp-20260115-zzzzz")));
+        assertTrue(matcher.findUnknown("SBP-20260115-AB3XZ").isEmpty());
+    }
+
+    @Test
+    void similarity_ShouldIgnoreWordOrderCaseAndTurkishLetters() {
+        assertEquals(1.0, SenderNameSimilarity.similarity("Yılmaz, Ayşe", "AYSE YILMAZ"));
+        assertTrue(SenderNameSimilarity.similarity("AYSE YILMAZ", "AYSE YILMA") >= 0.85);
+        assertTrue(SenderNameSimilarity.similarity("AYSE YILMAZ", "MEHMET KAYA") < 0.5);
+        assertEquals(0.0, SenderNameSimilarity.similarity(null, "MEHMET KAYA"));
+    }
+}
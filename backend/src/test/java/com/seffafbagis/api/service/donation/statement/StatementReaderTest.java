@@ -0,0 +1,146 @@
+package com.seffafbagis.api.service.donation.statement;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementReaderTest {
+
+    @Test
+    void csv_ShouldReadTurkishHeadersAndQuotedFields() throws IOException {
+        String csv = "\uFEFFTarih;Açıklama;Gönderen;IBAN;Borç;Alacak\n"
+                + "15.01.2026;\"Bağış SBP-20260115-AB3XZ; teşekkürler\";Ayşe Yılmaz;TR12 0006 1000;;1.250,50\n"
+                + "\n"
+                + "16.01.2026;\"Çok satırlı\n\"\"açıklama\"\"\";Ali Veli;;75,00;\n";
+
+        List<StatementLine> lines = read(StatementFormat.CSV, csv);
+
+        assertEquals(2, lines.size());
+        StatementLine credit = lines.get(0);
+        assertEquals(2, credit.getLineNumber());
+        assertEquals(LocalDate.of(2026, 1, 15), credit.getBookingDate());
+        assertEquals(new BigDecimal("1250.50"), credit.getAmount());
+        assertEquals("Bağış SBP-20260115-AB3XZ; teşekkürler", credit.getDescription());
+        assertEquals("Ayşe Yılmaz", credit.getSenderName());
+        assertTrue(credit.isCredit());
+
+        StatementLine debit = lines.get(1);
+        assertEquals(4, debit.getLineNumber());
+        assertEquals("Çok satırlı\n\"açıklama\"", debit.getDescription());
+        assertEquals(new BigDecimal("-75.00"), debit.getAmount());
+        assertFalse(debit.isCredit());
+    }
+
+    @Test
+    void csv_WithoutAmountColumn_ShouldBeRejected() {
+        assertThrows(StatementFormatException.class,
+                () -> read(StatementFormat.CSV, "date,description\n2026-01-15,x\n"));
+    }
+
+    @Test
+    void mt940_ShouldReadStatementLinesAndStructuredInformation() throws IOException {
+        String mt940 = ":20:STMT1\n"
+                + ":25:TR330006100519786457841326\n"
+                + ":60F:C260114TRY10000,00\n"
+                + ":61:2601150115C1500,00NTRFNONREF//BANK-1\n"
+                + ":86:051?20SBP 20260115 AB3XZ?21bagis?32AYSE YILMAZ?31TR120006100\n"
+                + "0519786457841326\n"
+                + ":61:260116D200,NTRFNONREF\n"
+                + ":86:/NAME/ALI VELI/REMI/kira/ocak/\n"
+                + ":62F:C260116TRY11300,00\n"
+                + "-\n";
+
+        List<StatementLine> lines = read(StatementFormat.MT940, mt940);
+
+        assertEquals(2, lines.size());
+        StatementLine credit = lines.get(0);
+        assertEquals(LocalDate.of(2026, 1, 15), credit.getBookingDate());
+        assertEquals(new BigDecimal("1500.00"), credit.getAmount());
+        assertEquals("TRY", credit.getCurrency());
+        assertEquals("SBP 20260115 AB3XZbagis", credit.getDescription());
+        assertEquals("AYSE YILMAZ", credit.getSenderName());
+        assertEquals("TR1200061000519786457841326", credit.getSenderIban());
+        assertEquals("BANK-1", credit.getBankReference());
+
+        StatementLine debit = lines.get(1);
+        assertEquals(0, new BigDecimal("-200").compareTo(debit.getAmount()));
+        assertEquals("ALI VELI", debit.getSenderName());
+        assertEquals("kira/ocak", debit.getDescription());
+    }
+
+    @Test
+    void camt053_ShouldEmitOneLinePerTransactionDetail() throws IOException {
+        String xml = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <Document xmlns="urn:iso:std:iso:20022:tech:xsd:camt.053.001.02">
+                  <BkToCstmrStmt><Stmt>
+                    <Ntry>
+                      <Amt Ccy="TRY">300.00</Amt>
+                      <CdtDbtInd>CRDT</CdtDbtInd>
+                      <BookgDt><Dt>2026-01-15</Dt></BookgDt>
+                      <AcctSvcrRef>ENTRY-1</AcctSvcrRef>
+                      <NtryDtls><TxDtls>
+                        <AmtDtls><TxAmt><Amt Ccy="TRY">100.00</Amt></TxAmt></AmtDtls>
+                        <RltdPties><Dbtr><Nm>Ayşe Yılmaz</Nm></Dbtr>
+                          <DbtrAcct><Id><IBAN>TR120006100519786457841326</IBAN></Id></DbtrAcct></RltdPties>
+                        <RmtInf><Ustrd>SBP-20260115-AB3XZ</Ustrd><Ustrd>bağış</Ustrd></RmtInf>
+                      </TxDtls><TxDtls>
+                        <AmtDtls><TxAmt><Amt Ccy="TRY">200.00</Amt></TxAmt></AmtDtls>
+                        <RltdPties><Dbtr><Nm>Ali Veli</Nm></Dbtr></RltdPties>
+                      </TxDtls></NtryDtls>
+                    </Ntry>
+                    <Ntry>
+                      <Amt Ccy="TRY">50.00</Amt>
+                      <CdtDbtInd>DBIT</CdtDbtInd>
+                      <BookgDt><DtTm>2026-01-16T10:00:00</DtTm></BookgDt>
+                      <AddtlNtryInf>Masraf</AddtlNtryInf>
+                    </Ntry>
+                  </Stmt></BkToCstmrStmt>
+                </Document>
+                """;
+
+        List<StatementLine> lines = read(StatementFormat.CAMT053, xml);
+
+        assertEquals(3, lines.size());
+        assertEquals(new BigDecimal("100.00"), lines.get(0).getAmount());
+        assertEquals("Ayşe Yılmaz", lines.get(0).getSenderName());
+        assertEquals("TR120006100519786457841326", lines.get(0).getSenderIban());
+        assertEquals("SBP-20260115-AB3XZ bağış", lines.get(0).getDescription());
+        assertEquals("ENTRY-1", lines.get(0).getBankReference());
+        assertEquals(LocalDate.of(2026, 1, 15), lines.get(1).getBookingDate());
+        assertEquals(new BigDecimal("200.00"), lines.get(1).getAmount());
+        assertEquals(new BigDecimal("-50.00"), lines.get(2).getAmount());
+        assertEquals(LocalDate.of(2026, 1, 16), lines.get(2).getBookingDate());
+        assertEquals("Masraf", lines.get(2).getDescription());
+    }
+
+    @Test
+    void camt053_WithDoctype_ShouldBeRejected() {
+        String xml = "<?xml version=\"1.0\"?><!DOCTYPE d [<!ENTITY x SYSTEM \"file:///etc/passwd\">]>"
+                + "<Document><Ntry><Amt>&x;</Amt></Ntry></Document>";
+
+        assertThrows(StatementFormatException.class, () -> read(StatementFormat.CAMT053, xml));
+    }
+
+    @Test
+    void fromFileName_ShouldGuessFormat() {
+        assertEquals(StatementFormat.CAMT053, StatementFormat.fromFileName("camt053_20260115.xml"));
+        assertEquals(StatementFormat.MT940, StatementFormat.fromFileName("EKSTRE.STA"));
+        assertEquals(StatementFormat.CSV, StatementFormat.fromFileName("hesap-hareketleri.csv"));
+        assertEquals(StatementFormat.CSV, StatementFormat.fromFileName(null));
+    }
+
+    private static List<StatementLine> read(StatementFormat format, String content) throws IOException {
+        List<StatementLine> lines = new ArrayList<>();
+        format.reader().read(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), lines::add);
+        return lines;
+    }
+}
@@ -2,61 +2,50 @@ package com.seffafbagis.api.service.notification;
 
 import com.seffafbagis.api.entity.campaign.Campaign;
 import com.seffafbagis.api.entity.donation.Donation;
+import com.seffafbagis.api.entity.notification.EmailLog;
 import com.seffafbagis.api.entity.organization.Organization;
 import com.seffafbagis.api.entity.user.User;
-import com.seffafbagis.api.entity.donation.DonationReceipt;
 import com.seffafbagis.api.entity.user.UserProfile;
 import com.seffafbagis.api.repository.EmailLogRepository;
+import com.seffafbagis.api.service.encryption.EncryptionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.context.i18n.LocaleContextHolder;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring6.SpringTemplateEngine;
-
-import jakarta.mail.Session;
-import jakarta.mail.internet.MimeMessage;
-import java.util.Properties;
-import java.math.BigDecimal;
-import java.util.UUID;
 import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
 import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class EmailServiceTest {
 
     @Mock
-    private JavaMailSender mailSender;
+    private EmailLogRepository emailLogRepository;
 
     @Mock
-    private SpringTemplateEngine templateEngine;
+    private MailDispatchService mailDispatchService;
 
     @Mock
-    private EmailLogRepository emailLogRepository;
+    private EncryptionService encryptionService;
 
-    @InjectMocks
     private EmailService emailService;
 
     @BeforeEach
     void setUp() {
-        when(mailSender.createMimeMessage())
-                .thenAnswer(invocation -> new MimeMessage(Session.getDefaultInstance(new Properties())));
+        emailService = new EmailService(emailLogRepository, mailDispatchService, encryptionService, "smtp");
     }
 
     @Test
-    void sendWelcomeEmail_ShouldSendEmail() {
-        // No need to mock mimeMessage here, setup handles it
-        when(templateEngine.process(anyString(), any(Context.class))).thenReturn("<html>Body</html>");
-
+    void sendWelcomeEmail_ShouldQueueEmail() {
         User user = new User();
         user.setEmail("test@example.com");
         UserProfile profile = new UserProfile(user);
@@ -66,15 +55,17 @@ class EmailServiceTest {
 
         emailService.sendWelcomeEmail(user);
 
-        verify(mailSender).send(any(MimeMessage.class));
-        verify(emailLogRepository).save(any());
+        EmailLog queued = captureQueued();
+        assertEquals("test@example.com", queued.getEmailTo());
+        assertEquals("welcome", queued.getTemplateName());
+        assertEquals(MailDispatchService.STATUS_QUEUED, queued.getStatus());
+        assertEquals("smtp", queued.getProvider());
+        assertNotNull(queued.getNextAttemptAt());
+        assertEquals(user.getFullName(), queued.getVariables().get("name"));
     }
 
     @Test
-    void sendDonationReceiptEmail_ShouldSendEmail() {
-        // MimeMessage handled by setUp
-        when(templateEngine.process(anyString(), any(Context.class))).thenReturn("<html>Body</html>");
-
+    void sendDonationReceiptEmail_ShouldQueueEmailWithStorableVariables() {
         User donor = new User();
         donor.setEmail("donor@example.com");
 
@@ -88,19 +79,20 @@ class EmailServiceTest {
         receipt.setBarcodeData("12345");
         donation.setReceipt(receipt);
         donation.setAmount(BigDecimal.TEN);
-        ReflectionTestUtils.setField(donation, "createdAt", OffsetDateTime.now());
+        OffsetDateTime createdAt = OffsetDateTime.now();
+        ReflectionTestUtils.setField(donation, "createdAt", createdAt);
 
         emailService.sendDonationReceiptEmail(donation);
 
-        verify(mailSender).send(any(MimeMessage.class));
-        verify(emailLogRepository).save(any());
+        EmailLog queued = captureQueued();
+        assertEquals("donation-receipt", queued.getTemplateName());
+        assertEquals("10", queued.getVariables().get("amount"));
+        assertEquals(createdAt.toString(), queued.getVariables().get("date"));
+        assertEquals("Help", queued.getVariables().get("campaignTitle"));
     }
 
     @Test
-    void sendCampaignApprovalEmail_ShouldSendEmail() {
-        // MimeMessage handled by setUp
-        when(templateEngine.process(anyString(), any(Context.class))).thenReturn("<html>Body</html>");
-
+    void sendCampaignApprovalEmail_ShouldQueueEmail() {
         User orgUser = new User();
         orgUser.setEmail("org@example.com");
 
@@ -112,7 +104,46 @@ class EmailServiceTest {
 
         emailService.sendCampaignApprovalEmail(organization, campaign, true, null);
 
-        verify(mailSender).send(any(MimeMessage.class));
-        verify(emailLogRepository).save(any());
+        assertEquals("org@example.com", captureQueued().getEmailTo());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sendPasswordResetEmail_ShouldStoreResetLinkEncrypted() {
+        User user = new User();
+        user.setEmail("user@example.com");
+        byte[] cipherText = { 4, 5, 6 };
+        when(encryptionService.encrypt("https://seffafbagis.org/reset?token=abc")).thenReturn(cipherText);
+
+        emailService.sendPasswordResetEmail("user@example.com", "https://seffafbagis.org/reset?token=abc", user);
+
+        Map<String, Object> variables = captureQueued().getVariables();
+        assertFalse(variables.containsKey("resetLink"));
+        Map<String, Object> sealed = (Map<String, Object>) variables.get(EmailService.SEALED_VARIABLES);
+        assertEquals(Base64.getEncoder().encodeToString(cipherText), sealed.get("resetLink"));
+        assertFalse(variables.toString().contains("token=abc"));
+    }
+
+    @Test
+    void sendEmail_QueueFailure_ShouldNotPropagate() {
+        when(emailLogRepository.save(any(EmailLog.class))).thenThrow(new IllegalStateException("db down"));
+
+        assertDoesNotThrow(() -> emailService.sendEmail("a@example.com", "Konu", "welcome",
+                Map.of("name", "A"), null));
+    }
+
+    @Test
+    void retryFailedEmails_ShouldRequeueThroughDispatcher() {
+        when(mailDispatchService.requeueFailed()).thenReturn(3);
+
+        emailService.retryFailedEmails();
+
+        verify(mailDispatchService).requeueFailed();
+    }
+
+    private EmailLog captureQueued() {
+        ArgumentCaptor<EmailLog> captor = ArgumentCaptor.forClass(EmailLog.class);
+        verify(emailLogRepository).save(captor.capture());
+        return captor.getValue();
     }
 }
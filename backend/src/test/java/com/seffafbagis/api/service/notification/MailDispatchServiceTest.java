@@ -0,0 +1,190 @@
+package com.seffafbagis.api.service.notification;
+
+import com.seffafbagis.api.config.SchedulerProperties;
+import com.seffafbagis.api.entity.notification.EmailLog;
+import com.seffafbagis.api.repository.EmailLogRepository;
+import com.seffafbagis.api.service.encryption.EncryptionService;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.thymeleaf.exceptions.TemplateInputException;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MailDispatchServiceTest {
+
+    @Mock
+    private EmailLogRepository emailLogRepository;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private JavaMailSender javaMailSender;
+    @Mock
+    private MailTemplateRenderer templateRenderer;
+    @Mock
+    private EncryptionService encryptionService;
+
+    private SchedulerProperties schedulerProperties;
+    private MailDispatchService dispatchService;
+    private final List<MimeMessage> created = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        schedulerProperties = new SchedulerProperties();
+        schedulerProperties.getMailDispatch().setMaxAttempts(3);
+        schedulerProperties.getMailDispatch().setDefaultRatePerSecond(0);
+        dispatchService = new MailDispatchService(emailLogRepository, jdbcTemplate, javaMailSender,
+                templateRenderer, new MailRateLimiter(schedulerProperties), schedulerProperties, encryptionService,
+                "noreply@seffafbagis.org", "smtp");
+    }
+
+    @Test
+    void claimBatch_ShouldLeaseDueEmails() {
+        EmailLog email = queued(0);
+        when(emailLogRepository.findDueForUpdate(any(OffsetDateTime.class), eq(50))).thenReturn(List.of(email));
+        when(emailLogRepository.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+        List<EmailLog> claimed = dispatchService.claimBatch();
+
+        assertEquals(1, claimed.size());
+        assertEquals(MailDispatchService.STATUS_SENDING, email.getStatus());
+        assertTrue(email.getNextAttemptAt().isAfter(OffsetDateTime.now().plusSeconds(60)));
+    }
+
+    @Test
+    void deliver_ShouldSendWholeBatchInOneCallAndRecordWithOneBatchUpdate() throws Exception {
+        stubMessages();
+        List<EmailLog> batch = List.of(queued(0), queued(0), queued(1));
+
+        int sent = dispatchService.deliver(batch);
+
+        assertEquals(3, sent);
+        verify(javaMailSender, times(1)).send(any(MimeMessage[].class));
+        List<Object[]> rows = captureOutcomes();
+        assertEquals(3, rows.size());
+        rows.forEach(row -> assertEquals(MailDispatchService.STATUS_SENT, row[0]));
+        // the status is bound a second time to decide whether the variables are cleared
+        rows.forEach(row -> assertEquals(MailDispatchService.STATUS_SENT, row[7]));
+        assertEquals(batch.get(2).getId(), rows.get(2)[8]);
+        assertEquals(batch.get(2).getCreatedAt(), rows.get(2)[9]);
+    }
+
+    @Test
+    void deliver_RejectedMessage_ShouldBackOffOnlyThatEmail() throws Exception {
+        stubMessages();
+        doAnswer(inv -> {
+            throw new MailSendException(Map.of(created.get(1), new MessagingException("550 mailbox unavailable")));
+        }).when(javaMailSender).send(any(MimeMessage[].class));
+
+        int sent = dispatchService.deliver(List.of(queued(0), queued(0)));
+
+        assertEquals(1, sent);
+        List<Object[]> rows = captureOutcomes();
+        assertEquals(MailDispatchService.STATUS_SENT, rows.get(0)[0]);
+        assertEquals(MailDispatchService.STATUS_QUEUED, rows.get(1)[0]);
+        assertEquals(1, rows.get(1)[1]);
+        assertTrue(((OffsetDateTime) rows.get(1)[2]).isAfter(OffsetDateTime.now()));
+        assertTrue(((String) rows.get(1)[5]).contains("550 mailbox unavailable"));
+    }
+
+    @Test
+    void deliver_ConnectionFailure_ShouldFailWholeBatchPermanentlyAtMaxAttempts() throws Exception {
+        stubMessages();
+        doThrow(new MailAuthenticationException("bad credentials")).when(javaMailSender).send(any(MimeMessage[].class));
+
+        int sent = dispatchService.deliver(List.of(queued(0), queued(2)));
+
+        assertEquals(0, sent);
+        List<Object[]> rows = captureOutcomes();
+        assertEquals(MailDispatchService.STATUS_QUEUED, rows.get(0)[0]);
+        assertEquals(MailDispatchService.STATUS_FAILED, rows.get(1)[0]);
+        assertEquals(3, rows.get(1)[1]);
+        assertNull(rows.get(1)[2]);
+    }
+
+    @Test
+    void deliver_MissingTemplate_ShouldFailWithoutSending() throws Exception {
+        when(templateRenderer.render(eq("campaign-rejected"), any()))
+                .thenThrow(new TemplateInputException("Error resolving template"));
+
+        EmailLog email = queued(0);
+        email.setTemplateName("campaign-rejected");
+        int sent = dispatchService.deliver(List.of(email));
+
+        assertEquals(0, sent);
+        verify(javaMailSender, never()).send(any(MimeMessage[].class));
+        assertEquals(MailDispatchService.STATUS_FAILED, captureOutcomes().get(0)[0]);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deliver_SealedSecrets_ShouldRenderDecryptedValues() throws Exception {
+        stubMessages();
+        byte[] cipherText = { 1, 2, 3 };
+        when(encryptionService.decrypt(cipherText)).thenReturn("https://seffafbagis.org/reset?token=abc");
+        EmailLog email = queued(0);
+        email.setTemplateName("password-reset");
+        email.setVariables(Map.of("name", "Ayşe",
+                EmailService.SEALED_VARIABLES, Map.of("resetLink", Base64.getEncoder().encodeToString(cipherText))));
+
+        dispatchService.deliver(List.of(email));
+
+        ArgumentCaptor<Map<String, Object>> variables = ArgumentCaptor.forClass(Map.class);
+        verify(templateRenderer).render(eq("password-reset"), variables.capture());
+        assertEquals("https://seffafbagis.org/reset?token=abc", variables.getValue().get("resetLink"));
+        assertFalse(variables.getValue().containsKey(EmailService.SEALED_VARIABLES));
+    }
+
+    private void stubMessages() {
+        when(templateRenderer.render(anyString(), any())).thenReturn("<html>Body</html>");
+        when(javaMailSender.createMimeMessage()).thenAnswer(inv -> {
+            MimeMessage message = new MimeMessage(Session.getDefaultInstance(new Properties()));
+            created.add(message);
+            return message;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> captureOutcomes() {
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(MailDispatchService.UPDATE_SQL), rows.capture());
+        return rows.getValue();
+    }
+
+    private static EmailLog queued(int retryCount) {
+        EmailLog email = new EmailLog();
+        email.setId(UUID.randomUUID());
+        email.setEmailTo("user@example.com");
+        email.setSubject("Hoş Geldiniz");
+        email.setTemplateName("welcome");
+        email.setVariables(Map.of("name", "Ayşe"));
+        email.setProvider("smtp");
+        email.setStatus(MailDispatchService.STATUS_SENDING);
+        email.setRetryCount(retryCount);
+        email.setNextAttemptAt(OffsetDateTime.now());
+        ReflectionTestUtils.setField(email, "createdAt", OffsetDateTime.now());
+        return email;
+    }
+}
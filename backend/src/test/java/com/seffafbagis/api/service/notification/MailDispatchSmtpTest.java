@@ -0,0 +1,113 @@
+package com.seffafbagis.api.service.notification;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.seffafbagis.api.config.SchedulerProperties;
+import com.seffafbagis.api.entity.notification.EmailLog;
+import com.seffafbagis.api.repository.EmailLogRepository;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Sends through a real SMTP conversation with GreenMail standing in for the
+ * mail provider.
+ */
+@ExtendWith(MockitoExtension.class)
+class MailDispatchSmtpTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Mock
+    private EmailLogRepository emailLogRepository;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private MailDispatchService dispatchService;
+
+    @BeforeEach
+    void setUp() {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+        mailSender.setDefaultEncoding("UTF-8");
+
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+
+        SchedulerProperties schedulerProperties = new SchedulerProperties();
+        dispatchService = new MailDispatchService(emailLogRepository, jdbcTemplate, mailSender,
+                new MailTemplateRenderer(templateEngine), new MailRateLimiter(schedulerProperties),
+                schedulerProperties, null, "noreply@seffafbagis.org", "smtp");
+    }
+
+    @Test
+    void deliver_ShouldSendRenderedBatchAndRecordMessageIds() throws Exception {
+        List<EmailLog> batch = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            batch.add(queued("user" + i + "@example.com"));
+        }
+
+        int sent = dispatchService.deliver(batch);
+
+        assertEquals(3, sent);
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(3, received.length);
+        assertEquals("Hoş Geldiniz - Şeffaf Bağış", received[0].getSubject());
+        assertEquals("noreply@seffafbagis.org", received[0].getFrom()[0].toString());
+
+        List<Object[]> rows = captureOutcomes();
+        for (Object[] row : rows) {
+            assertEquals(MailDispatchService.STATUS_SENT, row[0]);
+            assertNotNull(row[4], "provider message id");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> captureOutcomes() {
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(MailDispatchService.UPDATE_SQL), rows.capture());
+        return rows.getValue();
+    }
+
+    private static EmailLog queued(String to) {
+        EmailLog email = new EmailLog();
+        email.setId(UUID.randomUUID());
+        email.setEmailTo(to);
+        email.setSubject("Hoş Geldiniz - Şeffaf Bağış");
+        email.setTemplateName("welcome");
+        email.setVariables(Map.of("userName", "Ayşe"));
+        email.setProvider("smtp");
+        email.setStatus(MailDispatchService.STATUS_SENDING);
+        email.setNextAttemptAt(OffsetDateTime.now());
+        ReflectionTestUtils.setField(email, "createdAt", OffsetDateTime.now());
+        return email;
+    }
+}
@@ -0,0 +1,51 @@
+package com.seffafbagis.api.service.notification;
+
+import com.seffafbagis.api.config.SchedulerProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MailRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private SchedulerProperties schedulerProperties;
+    private MailRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        schedulerProperties = new SchedulerProperties();
+        schedulerProperties.getMailDispatch().setDefaultRatePerSecond(10);
+        rateLimiter = new MailRateLimiter(schedulerProperties);
+    }
+
+    @Test
+    void reserve_ShouldPaceBatchesAtConfiguredRate() {
+        assertEquals(0, rateLimiter.reserve("smtp", 20, 0));
+        // 20 emails at 10/s are paid off after two seconds
+        assertEquals(2 * SECOND, rateLimiter.reserve("smtp", 5, 0));
+        assertEquals(SECOND, rateLimiter.reserve("smtp", 1, SECOND + SECOND / 2));
+    }
+
+    @Test
+    void reserve_ShouldKeepProvidersIndependent() {
+        schedulerProperties.getMailDispatch().getProviderRatePerSecond().put("ses", 100.0);
+
+        rateLimiter.reserve("smtp", 10, 0);
+        rateLimiter.reserve("ses", 10, 0);
+
+        assertEquals(SECOND, rateLimiter.reserve("smtp", 1, 0));
+        assertEquals(SECOND / 10, rateLimiter.reserve("ses", 1, 0));
+    }
+
+    @Test
+    void reserve_NonPositiveRate_ShouldNotLimit() {
+        schedulerProperties.getMailDispatch().getProviderRatePerSecond().put("smtp", 0.0);
+
+        assertEquals(0, rateLimiter.reserve("smtp", 1000, 0));
+        assertEquals(0, rateLimiter.reserve("smtp", 1000, 0));
+    }
+}
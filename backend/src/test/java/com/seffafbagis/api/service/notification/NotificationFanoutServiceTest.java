@@ -0,0 +1,168 @@
+package com.seffafbagis.api.service.notification;
+
+import com.seffafbagis.api.config.SchedulerProperties;
+import com.seffafbagis.api.entity.campaign.Campaign;
+import com.seffafbagis.api.entity.notification.NotificationFanoutJob;
+import com.seffafbagis.api.enums.NotificationFanoutStatus;
+import com.seffafbagis.api.enums.NotificationType;
+import com.seffafbagis.api.repository.NotificationFanoutJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationFanoutServiceTest {
+
+    @Mock
+    private NotificationFanoutJobRepository jobRepository;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private NotificationCounterService notificationCounterService;
+
+    private SchedulerProperties schedulerProperties;
+    private NotificationFanoutService fanoutService;
+
+    @BeforeEach
+    void setUp() {
+        schedulerProperties = new SchedulerProperties();
+        schedulerProperties.getNotificationFanout().setChunkSize(2);
+        schedulerProperties.getNotificationFanout().setMaxAttempts(3);
+        fanoutService = new NotificationFanoutService(jobRepository, jdbcTemplate, schedulerProperties,
+                notificationCounterService);
+    }
+
+    @Test
+    void enqueueCampaignCompleted_ShouldRecordPendingJob() {
+        when(jobRepository.save(any(NotificationFanoutJob.class))).thenAnswer(inv -> inv.getArgument(0));
+        Campaign campaign = new Campaign();
+        campaign.setId(UUID.randomUUID());
+        campaign.setTitle("Su Kuyusu");
+
+        NotificationFanoutJob job = fanoutService.enqueueCampaignCompleted(campaign);
+
+        assertEquals(campaign.getId(), job.getCampaignId());
+        assertEquals(NotificationType.CAMPAIGN_COMPLETED, job.getNotificationType());
+        assertEquals(NotificationFanoutStatus.PENDING, job.getStatus());
+        assertNull(job.getCursorUserId());
+        assertTrue(job.getMessage().contains("Su Kuyusu"));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void deliverChunk_FullPage_ShouldInsertOneStatementAndAdvanceCursor() {
+        NotificationFanoutJob job = runningJob(null);
+        UUID first = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID second = UUID.fromString("00000000-0000-0000-0000-000000000002");
+        when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+        when(jdbcTemplate.queryForList(anyString(), eq(UUID.class), eq(job.getCampaignId()), eq(2)))
+                .thenReturn(List.of(first, second));
+
+        int delivered = fanoutService.deliverChunk(job.getId());
+
+        assertEquals(2, delivered);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, times(1)).update(sql.capture(), any(PreparedStatementSetter.class));
+        assertTrue(sql.getValue().startsWith(NotificationFanoutService.INSERT_PREFIX));
+        assertEquals(2, sql.getValue().split("\\), \\(").length);
+        verify(notificationCounterService).incrementAll(List.of(first, second));
+        assertEquals(second, job.getCursorUserId());
+        assertEquals(2L, job.getDeliveredCount());
+        assertEquals(NotificationFanoutStatus.RUNNING, job.getStatus());
+    }
+
+    @Test
+    void deliverChunk_ShortPage_ShouldResumeFromCursorAndComplete() {
+        UUID cursor = UUID.randomUUID();
+        NotificationFanoutJob job = runningJob(cursor);
+        job.setDeliveredCount(2L);
+        UUID last = UUID.randomUUID();
+        when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+        when(jdbcTemplate.queryForList(anyString(), eq(UUID.class), eq(job.getCampaignId()), eq(cursor), eq(2)))
+                .thenReturn(List.of(last));
+
+        int delivered = fanoutService.deliverChunk(job.getId());
+
+        assertEquals(1, delivered);
+        assertEquals(3L, job.getDeliveredCount());
+        assertEquals(NotificationFanoutStatus.COMPLETED, job.getStatus());
+        assertNotNull(job.getCompletedAt());
+    }
+
+    @Test
+    void deliverChunk_NoRecipients_ShouldCompleteWithoutInsert() {
+        NotificationFanoutJob job = runningJob(null);
+        when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+        when(jdbcTemplate.queryForList(anyString(), eq(UUID.class), any(), any())).thenReturn(List.of());
+
+        assertEquals(0, fanoutService.deliverChunk(job.getId()));
+
+        verify(jdbcTemplate, never()).update(anyString(), any(PreparedStatementSetter.class));
+        assertEquals(NotificationFanoutStatus.COMPLETED, job.getStatus());
+    }
+
+    @Test
+    void recipientsSql_ShouldApplyFollowerAndPreferenceOptOuts() {
+        String update = NotificationFanoutService.recipientsSql(NotificationType.CAMPAIGN_UPDATE, true);
+        assertTrue(update.contains("cf.notify_on_update"));
+        assertTrue(update.contains("up.notify_on_campaign_update"));
+        assertTrue(update.contains("cf.user_id > ?"));
+
+        String completed = NotificationFanoutService.recipientsSql(NotificationType.CAMPAIGN_COMPLETED, false);
+        assertTrue(completed.contains("cf.notify_on_complete"));
+        assertTrue(completed.contains("up.notify_on_campaign_complete"));
+        assertFalse(completed.contains("cf.user_id > ?"));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> NotificationFanoutService.recipientsSql(NotificationType.SYSTEM, false));
+    }
+
+    @Test
+    void markFailed_ShouldKeepCursorAndRetry_UntilMaxAttempts() {
+        UUID cursor = UUID.randomUUID();
+        NotificationFanoutJob job = runningJob(cursor);
+        job.setAttempts(1);
+        when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+
+        fanoutService.markFailed(job.getId(), new IllegalStateException("boom"));
+
+        assertEquals(NotificationFanoutStatus.PENDING, job.getStatus());
+        assertEquals(cursor, job.getCursorUserId());
+        assertTrue(job.getAvailableAt().isAfter(OffsetDateTime.now()));
+
+        job.setAttempts(3);
+        fanoutService.markFailed(job.getId(), new IllegalStateException("boom"));
+
+        assertEquals(NotificationFanoutStatus.FAILED, job.getStatus());
+        assertEquals("IllegalStateException: boom", job.getLastError());
+    }
+
+    private static NotificationFanoutJob runningJob(UUID cursor) {
+        NotificationFanoutJob job = new NotificationFanoutJob();
+        job.setId(UUID.randomUUID());
+        job.setCampaignId(UUID.randomUUID());
+        job.setNotificationType(NotificationType.CAMPAIGN_UPDATE);
+        job.setTitle("Kampanya Güncellemesi");
+        job.setMessage("Yeni bir güncelleme var");
+        job.setEntityType("CAMPAIGN");
+        job.setStatus(NotificationFanoutStatus.RUNNING);
+        job.setCursorUserId(cursor);
+        job.setAvailableAt(OffsetDateTime.now());
+        job.setStartedAt(OffsetDateTime.now());
+        return job;
+    }
+}
@@ -1,5 +1,6 @@
 package com.seffafbagis.api.service.notification;
 
+import com.seffafbagis.api.dto.response.notification.NotificationCountResponse;
 import com.seffafbagis.api.dto.response.notification.NotificationListResponse;
 import com.seffafbagis.api.entity.campaign.Campaign;
 import com.seffafbagis.api.entity.donation.Donation;
@@ -56,6 +57,9 @@ class NotificationServiceTest {
     @Mock
     private EmailService emailService;
 
+    @Mock
+    private NotificationCounterService notificationCounterService;
+
     @InjectMocks
     private NotificationService notificationService;
 
@@ -85,7 +89,7 @@ class NotificationServiceTest {
             Page<Notification> page = new PageImpl<>(List.of(notification));
             when(notificationRepository.findByUserIdOrderByCreatedAtDesc(any(UUID.class), any(Pageable.class)))
                     .thenReturn(page);
-            when(notificationRepository.countByUserIdAndIsReadFalse(userId)).thenReturn(1L);
+            when(notificationCounterService.getUnreadCount(userId)).thenReturn(1L);
 
             NotificationListResponse response = notificationService.getMyNotifications(Pageable.unpaged());
 
@@ -187,4 +191,43 @@ class NotificationServiceTest {
             verify(notificationRepository).markAsRead(notificationId, userId);
         }
     }
+
+    @Test
+    void markAsRead_WhenUnread_ShouldDecrementCounter() {
+        try (MockedStatic<SecurityUtils> securityUtils = mockStatic(SecurityUtils.class)) {
+            securityUtils.when(SecurityUtils::getCurrentUserId).thenReturn(Optional.of(userId));
+            UUID notificationId = UUID.randomUUID();
+            when(notificationRepository.markAsRead(notificationId, userId)).thenReturn(1);
+
+            notificationService.markAsRead(notificationId);
+            verify(notificationCounterService).decrement(userId);
+
+            when(notificationRepository.markAsRead(notificationId, userId)).thenReturn(0);
+            notificationService.markAsRead(notificationId);
+            verifyNoMoreInteractions(notificationCounterService);
+        }
+    }
+
+    @Test
+    void getUnreadCount_ShouldUseCounterAndCountOnlyOwnNotifications() {
+        try (MockedStatic<SecurityUtils> securityUtils = mockStatic(SecurityUtils.class)) {
+            securityUtils.when(SecurityUtils::getCurrentUserId).thenReturn(Optional.of(userId));
+            when(notificationCounterService.getUnreadCount(userId)).thenReturn(3L);
+            when(notificationRepository.countByUserId(userId)).thenReturn(10L);
+
+            NotificationCountResponse response = notificationService.getUnreadCount();
+
+            assertEquals(3L, response.getUnread());
+            assertEquals(10L, response.getTotal());
+            verify(notificationRepository, never()).count();
+            verify(notificationRepository, never()).countByUserIdAndIsReadFalse(any());
+        }
+    }
+
+    @Test
+    void createNotification_ShouldIncrementCounter() {
+        notificationService.createNotification(userId, NotificationType.SYSTEM, "Title", "Message", null);
+
+        verify(notificationCounterService).increment(userId);
+    }
 }
@@ -0,0 +1,109 @@
+package com.seffafbagis.api.service.notification;
+
+import com.seffafbagis.api.dto.response.notification.NotificationStreamTokenResponse;
+import com.seffafbagis.api.repository.NotificationRepository;
+import com.seffafbagis.api.security.JwtTokenProvider;
+import com.seffafbagis.api.security.SecurityUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationStreamServiceTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+    @Mock
+    private RedisConnectionFactory connectionFactory;
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    private MeterRegistry meterRegistry;
+    private NotificationCounterService counterService;
+    private NotificationStreamService streamService;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // Without Redis the counter reads the database and notifies local listeners directly
+        counterService = new NotificationCounterService(notificationRepository, connectionFactory, meterRegistry,
+                "simple", 60);
+        streamService = new NotificationStreamService(counterService, jwtTokenProvider, meterRegistry,
+                60_000, 30_000, 2);
+    }
+
+    @Test
+    void subscribe_ShouldRegisterStreamAndSendInitialCount() {
+        when(notificationRepository.countByUserIdAndIsReadFalse(userId)).thenReturn(4L);
+
+        SseEmitter emitter = subscribe();
+
+        assertNotNull(emitter);
+        assertEquals(1, streamService.getConnectionCount());
+        assertEquals(1.0, meterRegistry.get("notification.stream.connections").gauge().value());
+        verify(notificationRepository).countByUserIdAndIsReadFalse(userId);
+        verifyNoInteractions(connectionFactory);
+    }
+
+    @Test
+    void subscribe_OverLimit_ShouldCloseOldestStream() {
+        when(notificationRepository.countByUserIdAndIsReadFalse(userId)).thenReturn(0L);
+
+        subscribe();
+        subscribe();
+        subscribe();
+
+        assertEquals(2, streamService.getConnectionCount());
+    }
+
+    @Test
+    void counterChange_ShouldPushOnlyToConnectedUsers() {
+        when(notificationRepository.countByUserIdAndIsReadFalse(userId)).thenReturn(1L, 2L);
+        subscribe();
+        UUID offline = UUID.randomUUID();
+
+        counterService.increment(userId);
+        counterService.incrementAll(List.of(offline));
+
+        // One count on connect, one for the pushed change; nothing for the offline user
+        verify(notificationRepository, times(2)).countByUserIdAndIsReadFalse(userId);
+        verify(notificationRepository, never()).countByUserIdAndIsReadFalse(offline);
+    }
+
+    @Test
+    void issueStreamToken_ShouldUseConfiguredLifetime() {
+        when(jwtTokenProvider.generateStreamToken(userId, 30_000)).thenReturn("stream-token");
+
+        NotificationStreamTokenResponse response;
+        try (MockedStatic<SecurityUtils> securityUtils = mockStatic(SecurityUtils.class)) {
+            securityUtils.when(SecurityUtils::getCurrentUserId).thenReturn(Optional.of(userId));
+            response = streamService.issueStreamToken();
+        }
+
+        assertEquals("stream-token", response.getToken());
+        assertEquals(30, response.getExpiresInSeconds());
+    }
+
+    private SseEmitter subscribe() {
+        try (MockedStatic<SecurityUtils> securityUtils = mockStatic(SecurityUtils.class)) {
+            securityUtils.when(SecurityUtils::getCurrentUserId).thenReturn(Optional.of(userId));
+            return streamService.subscribe();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.seffafbagis.api.service.outbox;
+
+import com.seffafbagis.api.config.SchedulerProperties;
+import com.seffafbagis.api.entity.event.OutboxEvent;
+import com.seffafbagis.api.enums.ExpiringResource;
+import com.seffafbagis.api.enums.OutboxEventStatus;
+import com.seffafbagis.api.event.BaseEvent;
+import com.seffafbagis.api.event.DonationCompletedEvent;
+import com.seffafbagis.api.event.DonationFailedEvent;
+import com.seffafbagis.api.event.DonationRefundedEvent;
+import com.seffafbagis.api.event.ResourcesExpiredEvent;
+import com.seffafbagis.api.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    private SchedulerProperties schedulerProperties;
+    private OutboxService outboxService;
+
+    @BeforeEach
+    void setUp() {
+        schedulerProperties = new SchedulerProperties();
+        schedulerProperties.getOutbox().setMaxAttempts(3);
+        outboxService = new OutboxService(outboxEventRepository, schedulerProperties);
+    }
+
+    @Test
+    void enqueue_ShouldRoundTripDonationCompletedEvent() {
+        when(outboxEventRepository.save(any(OutboxEvent.class))).thenAnswer(inv -> inv.getArgument(0));
+        DonationCompletedEvent event = new DonationCompletedEvent(
+                UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), null,
+                new BigDecimal("125.50"), null);
+
+        OutboxEvent record = outboxService.enqueue(event);
+
+        assertEquals("DonationCompletedEvent", record.getEventType());
+        assertEquals(event.getDonationId(), record.getAggregateId());
+        assertEquals(OutboxEventStatus.PENDING, record.getStatus());
+
+        BaseEvent decoded = outboxService.decode(record);
+        DonationCompletedEvent copy = assertInstanceOf(DonationCompletedEvent.class, decoded);
+        assertEquals(event.getDonationId(), copy.getDonationId());
+        assertEquals(event.getCampaignId(), copy.getCampaignId());
+        assertEquals(event.getOrganizationId(), copy.getOrganizationId());
+        assertNull(copy.getDonorId());
+        assertEquals(0, event.getAmount().compareTo(copy.getAmount()));
+        assertEquals(event.getTriggeredBy(), copy.getTriggeredBy());
+        assertEquals(event.getEventId(), copy.getEventId());
+        assertEquals(event.getOccurredAt(), copy.getOccurredAt());
+    }
+
+    @Test
+    void enqueue_ShouldRoundTripDonationFailedEvent() {
+        when(outboxEventRepository.save(any(OutboxEvent.class))).thenAnswer(inv -> inv.getArgument(0));
+        DonationFailedEvent event = new DonationFailedEvent(null, UUID.randomUUID(), UUID.randomUUID(),
+                UUID.randomUUID(), "card declined");
+
+        DonationFailedEvent copy = assertInstanceOf(DonationFailedEvent.class,
+                outboxService.decode(outboxService.enqueue(event)));
+
+        assertEquals("card declined", copy.getFailureReason());
+        assertEquals(event.getDonorId(), copy.getDonorId());
+    }
+
+    @Test
+    void enqueue_ShouldRoundTripDonationRefundedEvent() {
+        when(outboxEventRepository.save(any(OutboxEvent.class))).thenAnswer(inv -> inv.getArgument(0));
+        DonationRefundedEvent event = new DonationRefundedEvent(UUID.randomUUID(), UUID.randomUUID(),
+                UUID.randomUUID(), new BigDecimal("150.00"), "duplicate payment");
+
+        OutboxEvent record = outboxService.enqueue(event);
+        DonationRefundedEvent copy = assertInstanceOf(DonationRefundedEvent.class, outboxService.decode(record));
+
+        assertEquals(event.getDonationId(), record.getAggregateId());
+        assertEquals(event.getCampaignId(), copy.getCampaignId());
+        assertEquals(0, event.getRefundAmount().compareTo(copy.getRefundAmount()));
+        assertEquals("duplicate payment", copy.getRefundReason());
+    }
+
+    @Test
+    void enqueue_ShouldRoundTripResourcesExpiredEvent() {
+        when(outboxEventRepository.save(any(OutboxEvent.class))).thenAnswer(inv -> inv.getArgument(0));
+        ResourcesExpiredEvent event = new ResourcesExpiredEvent(null, ExpiringResource.BANK_TRANSFER_REFERENCE,
+                List.of(UUID.randomUUID(), UUID.randomUUID()), List.of(UUID.randomUUID()));
+
+        OutboxEvent record = outboxService.enqueue(event);
+        ResourcesExpiredEvent copy = assertInstanceOf(ResourcesExpiredEvent.class, outboxService.decode(record));
+
+        assertNull(record.getAggregateId());
+        assertEquals(ExpiringResource.BANK_TRANSFER_REFERENCE, copy.getResource());
+        assertEquals(event.getResourceIds(), copy.getResourceIds());
+        assertEquals(event.getOwnerIds(), copy.getOwnerIds());
+        assertEquals(event.getEventId(), copy.getEventId());
+        assertEquals(event.getOccurredAt(), copy.getOccurredAt());
+    }
+
+    @Test
+    void markFailed_ShouldRescheduleWithBackoff_WhenAttemptsLeft() {
+        OutboxEvent record = new OutboxEvent();
+        record.setId(UUID.randomUUID());
+        record.setStatus(OutboxEventStatus.PROCESSING);
+        record.setAttempts(1);
+        record.setAvailableAt(OffsetDateTime.now());
+        when(outboxEventRepository.findById(record.getId())).thenReturn(Optional.of(record));
+
+        outboxService.markFailed(record.getId(), new IllegalStateException("smtp down"));
+
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(captor.capture());
+        assertEquals(OutboxEventStatus.PENDING, captor.getValue().getStatus());
+        assertTrue(captor.getValue().getAvailableAt().isAfter(OffsetDateTime.now()));
+        assertTrue(captor.getValue().getLastError().contains("smtp down"));
+    }
+
+    @Test
+    void markFailed_ShouldGiveUp_WhenMaxAttemptsReached() {
+        OutboxEvent record = new OutboxEvent();
+        record.setId(UUID.randomUUID());
+        record.setStatus(OutboxEventStatus.PROCESSING);
+        record.setAttempts(3);
+        when(outboxEventRepository.findById(record.getId())).thenReturn(Optional.of(record));
+
+        outboxService.markFailed(record.getId(), new RuntimeException("boom"));
+
+        assertEquals(OutboxEventStatus.FAILED, record.getStatus());
+    }
+}
@@ -15,6 +15,7 @@ import com.seffafbagis.api.repository.DonationRepository;
 import com.seffafbagis.api.repository.UserRepository;
 import com.seffafbagis.api.security.CustomUserDetails;
 import com.seffafbagis.api.security.SecurityUtils;
+import com.seffafbagis.api.service.donation.DonationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -47,6 +48,9 @@ class PaymentServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private DonationService donationService;
+
     @InjectMocks
     private PaymentService paymentService;
 
@@ -124,8 +128,8 @@ class PaymentServiceTest {
 
         assertTrue(response.isSuccess());
         assertEquals("COMPLETED", response.getStatus());
-        assertEquals(DonationStatus.COMPLETED, donation.getStatus());
-        verify(donationRepository).save(donation);
+        verify(donationService).completeDonation(donation.getId());
+        verify(donationRepository, never()).save(donation);
     }
 
     @Test
@@ -0,0 +1,265 @@
+package com.seffafbagis.api.service.payment;
+
+import com.iyzipay.Options;
+import com.iyzipay.model.Payment;
+import com.seffafbagis.api.config.SchedulerProperties;
+import com.seffafbagis.api.entity.campaign.Campaign;
+import com.seffafbagis.api.entity.donation.Donation;
+import com.seffafbagis.api.entity.donation.RecurringDonation;
+import com.seffafbagis.api.entity.donation.RecurringDonationCharge;
+import com.seffafbagis.api.entity.donation.Transaction;
+import com.seffafbagis.api.entity.organization.Organization;
+import com.seffafbagis.api.entity.user.User;
+import com.seffafbagis.api.enums.DonationStatus;
+import com.seffafbagis.api.enums.RecurringChargeStatus;
+import com.seffafbagis.api.event.DonationCompletedEvent;
+import com.seffafbagis.api.repository.DonationRepository;
+import com.seffafbagis.api.repository.RecurringDonationChargeRepository;
+import com.seffafbagis.api.repository.RecurringDonationRepository;
+import com.seffafbagis.api.repository.TransactionRepository;
+import com.seffafbagis.api.service.campaign.CampaignService;
+import com.seffafbagis.api.service.outbox.OutboxService;
+import com.seffafbagis.api.service.receipt.ReceiptService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecurringChargeServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 15);
+
+    @Mock
+    private RecurringDonationRepository recurringDonationRepository;
+    @Mock
+    private RecurringDonationChargeRepository chargeRepository;
+    @Mock
+    private DonationRepository donationRepository;
+    @Mock
+    private TransactionRepository transactionRepository;
+    @Mock
+    private TransactionService transactionService;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private CampaignService campaignService;
+    @Mock
+    private ReceiptService receiptService;
+    @Mock
+    private OutboxService outboxService;
+
+    private StubIyzicoService iyzicoService;
+    private RecurringChargeService chargeService;
+
+    @BeforeEach
+    void setUp() {
+        SchedulerProperties schedulerProperties = new SchedulerProperties();
+        schedulerProperties.getRecurringDonation().setMaxRetries(3);
+        iyzicoService = new StubIyzicoService();
+        chargeService = new RecurringChargeService(recurringDonationRepository, chargeRepository, donationRepository,
+                transactionRepository, transactionService, iyzicoService, jdbcTemplate, schedulerProperties,
+                campaignService, receiptService, outboxService);
+    }
+
+    @Test
+    void claimChunk_ShouldLeaseDueSubscriptionsAndCreatePendingDonations() {
+        RecurringDonation subscription = subscription();
+        when(recurringDonationRepository.findDueForUpdate(eq(TODAY), any(OffsetDateTime.class), eq(100)))
+                .thenReturn(List.of(subscription));
+        when(chargeRepository.findByRecurringDonationIdInAndBillingPeriodIn(anyCollection(), anyCollection()))
+                .thenReturn(List.of());
+        when(donationRepository.saveAll(anyList())).thenAnswer(inv -> {
+            List<Donation> donations = inv.getArgument(0);
+            donations.forEach(donation -> donation.setId(UUID.randomUUID()));
+            return donations;
+        });
+        when(chargeRepository.saveAll(anyList())).thenAnswer(inv -> {
+            List<RecurringDonationCharge> charges = inv.getArgument(0);
+            charges.forEach(charge -> charge.setId(UUID.randomUUID()));
+            return charges;
+        });
+
+        ClaimedChunk claimed = chargeService.claimChunk(TODAY);
+
+        assertEquals(1, claimed.getLockedCount());
+        assertEquals(1, claimed.getCharges().size());
+        RecurringCharge charge = claimed.getCharges().get(0);
+        assertNotNull(charge.getChargeId());
+        assertEquals(TODAY, charge.getBillingPeriod());
+        assertEquals(DonationStatus.PENDING, charge.getDonation().getStatus());
+        assertEquals(subscription.getCampaign().getOrganization().getId(), charge.getMerchantId());
+        verify(recurringDonationRepository).leaseForCharging(anyCollection(), any(OffsetDateTime.class));
+    }
+
+    @Test
+    void claimChunk_AlreadyChargedPeriod_ShouldOnlyMoveScheduleOn() {
+        RecurringDonation subscription = subscription();
+        RecurringDonationCharge succeeded = new RecurringDonationCharge();
+        succeeded.setRecurringDonationId(subscription.getId());
+        succeeded.setBillingPeriod(TODAY);
+        succeeded.setStatus(RecurringChargeStatus.SUCCEEDED);
+        when(recurringDonationRepository.findDueForUpdate(eq(TODAY), any(OffsetDateTime.class), anyInt()))
+                .thenReturn(List.of(subscription));
+        when(chargeRepository.findByRecurringDonationIdInAndBillingPeriodIn(anyCollection(), anyCollection()))
+                .thenReturn(List.of(succeeded));
+
+        ClaimedChunk claimed = chargeService.claimChunk(TODAY);
+
+        // the row was locked, so the caller must keep claiming even though nothing is charged
+        assertTrue(claimed.getCharges().isEmpty());
+        assertFalse(claimed.isExhausted());
+        verify(jdbcTemplate).update(eq(RecurringChargeService.ADVANCE_SQL), eq(TODAY.plusMonths(1)),
+                any(OffsetDateTime.class), eq(subscription.getId()), eq(TODAY));
+        verify(donationRepository).saveAll(eq(List.of()));
+    }
+
+    @Test
+    void claimChunk_NothingDue_ShouldBeExhausted() {
+        when(recurringDonationRepository.findDueForUpdate(eq(TODAY), any(OffsetDateTime.class), anyInt()))
+                .thenReturn(List.of());
+
+        assertTrue(chargeService.claimChunk(TODAY).isExhausted());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void chargeAndRecord_Success_ShouldCompleteDonationAndAdvanceSchedule() {
+        when(transactionService.buildTransaction(any(), isNull(), any(), eq(false))).thenReturn(new Transaction());
+        RecurringCharge charge = claimed("tok_ok");
+
+        chargeService.charge(charge);
+        chargeService.recordResults(List.of(charge), TODAY);
+
+        assertTrue(charge.isSucceeded());
+        verify(transactionRepository).saveAll(anyList());
+        verify(donationRepository).updateStatus(eq(List.of(charge.getDonation().getId())),
+                eq(DonationStatus.COMPLETED), any(OffsetDateTime.class));
+        Object[] charged = captureRows(RecurringChargeService.CHARGE_UPDATE_SQL).get(0);
+        assertEquals(RecurringChargeStatus.SUCCEEDED.name(), charged[0]);
+        assertEquals("pay-1", charged[1]);
+        Object[] schedule = captureRows(RecurringChargeService.SUCCESS_UPDATE_SQL).get(0);
+        assertEquals(TODAY.plusMonths(1), schedule[0]);
+        assertEquals(TODAY, schedule[5]);
+        verify(jdbcTemplate, never()).batchUpdate(eq(RecurringChargeService.FAILURE_UPDATE_SQL), anyList());
+
+        Donation donation = charge.getDonation();
+        verify(receiptService).createReceipts(eq(List.of(donation.getId())), any(OffsetDateTime.class));
+        verify(campaignService).incrementDonationStats(donation.getCampaign().getId(), donation.getAmount(), 1);
+        ArgumentCaptor<List<DonationCompletedEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(outboxService).enqueueAll(events.capture());
+        DonationCompletedEvent event = events.getValue().get(0);
+        assertEquals(donation.getId(), event.getDonationId());
+        assertEquals(donation.getCampaign().getOrganization().getId(), event.getOrganizationId());
+    }
+
+    @Test
+    void chargeAndRecord_Declined_ShouldFailDonationAndCountFailure() {
+        when(transactionService.buildTransaction(any(), isNull(), any(), eq(false))).thenReturn(new Transaction());
+        RecurringCharge charge = claimed("tok_declined");
+
+        chargeService.charge(charge);
+        chargeService.recordResults(List.of(charge), TODAY);
+
+        assertFalse(charge.isSucceeded());
+        assertEquals("Insufficient funds", charge.getError());
+        verify(donationRepository).updateStatus(eq(List.of(charge.getDonation().getId())),
+                eq(DonationStatus.FAILED), any(OffsetDateTime.class));
+        verifyNoInteractions(receiptService, campaignService, outboxService);
+        Object[] failure = captureRows(RecurringChargeService.FAILURE_UPDATE_SQL).get(0);
+        assertEquals("Insufficient funds", failure[0]);
+        assertEquals(3, failure[1]);
+        assertEquals(charge.getRecurringDonationId(), failure[4]);
+    }
+
+    @Test
+    void charge_GatewayException_ShouldRecordErrorInsteadOfThrowing() {
+        RecurringCharge charge = claimed("tok_timeout");
+
+        chargeService.charge(charge);
+
+        assertNull(charge.getPayment());
+        assertTrue(charge.getError().contains("Read timed out"));
+    }
+
+    @Test
+    void nextPaymentDate_ShouldFollowFrequencyAndSkipMissedPeriods() {
+        assertEquals(TODAY.plusWeeks(1), RecurringChargeService.nextPaymentDate(TODAY, "weekly", TODAY));
+        assertEquals(TODAY.plusYears(1), RecurringChargeService.nextPaymentDate(TODAY, "yearly", TODAY));
+        assertEquals(TODAY.plusMonths(1),
+                RecurringChargeService.nextPaymentDate(TODAY.minusMonths(3), "monthly", TODAY));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> captureRows(String sql) {
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(sql), rows.capture());
+        return rows.getValue();
+    }
+
+    private static RecurringDonation subscription() {
+        Organization organization = new Organization();
+        organization.setId(UUID.randomUUID());
+        Campaign campaign = new Campaign();
+        campaign.setId(UUID.randomUUID());
+        campaign.setOrganization(organization);
+
+        RecurringDonation subscription = new RecurringDonation();
+        subscription.setId(UUID.randomUUID());
+        subscription.setDonor(new User());
+        subscription.setCampaign(campaign);
+        subscription.setAmount(new BigDecimal("100.00"));
+        subscription.setFrequency("monthly");
+        subscription.setNextPaymentDate(TODAY);
+        subscription.setCardToken("tok_ok");
+        return subscription;
+    }
+
+    private static RecurringCharge claimed(String cardToken) {
+        Donation donation = new Donation();
+        donation.setId(UUID.randomUUID());
+        donation.setCampaign(subscription().getCampaign());
+        donation.setAmount(new BigDecimal("100.00"));
+        return new RecurringCharge(UUID.randomUUID(), UUID.randomUUID(), TODAY, "monthly",
+                new BigDecimal("100.00"), cardToken, donation, new User(), UUID.randomUUID());
+    }
+
+    /**
+     * Gateway stand-in keyed on the card token.
+     */
+    private static class StubIyzicoService extends IyzicoService {
+
+        StubIyzicoService() {
+            super(new Options(), "http://localhost/callback");
+        }
+
+        @Override
+        public Payment chargeWithToken(String cardToken, BigDecimal amount, Donation donation, User user) {
+            if ("tok_timeout".equals(cardToken)) {
+                throw new IllegalStateException("Read timed out");
+            }
+            Payment payment = new Payment();
+            if ("tok_ok".equals(cardToken)) {
+                payment.setStatus("success");
+                payment.setPaymentId("pay-1");
+            } else {
+                payment.setStatus("failure");
+                payment.setErrorMessage("Insufficient funds");
+            }
+            return payment;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.seffafbagis.api.service.receipt;
+
+import com.seffafbagis.api.util.ReceiptNumberGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReceiptNumberAllocatorTest {
+
+    private static final int YEAR = 2025;
+    private static final String SEQUENCE = "receipt_number_seq_2025";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void next_ShouldCreateSequenceAfterHighestIssuedNumber() {
+        when(jdbcTemplate.queryForList(ReceiptNumberAllocator.SEQUENCE_INCREMENT_SQL, Long.class, SEQUENCE))
+                .thenReturn(List.of(), List.of(1L));
+        when(jdbcTemplate.queryForObject(eq(ReceiptNumberAllocator.MAX_ISSUED_SQL), eq(Long.class),
+                eq(11), eq("^RCPT-2025-[0-9]+$"), eq(11), eq("^RCPT-2025-[0-9]+$"))).thenReturn(41L);
+        AtomicLong sequence = stubSequence(42, 1);
+        ReceiptNumberAllocator allocator = new ReceiptNumberAllocator(jdbcTemplate, transactionManager, 1);
+
+        assertEquals("RCPT-2025-000042", allocator.next(YEAR));
+        assertEquals("RCPT-2025-000043", allocator.next(YEAR));
+
+        verify(jdbcTemplate).execute("CREATE SEQUENCE IF NOT EXISTS " + SEQUENCE + " INCREMENT BY 1 START WITH 42");
+        assertEquals(44, sequence.get());
+    }
+
+    @Test
+    void next_ShouldHandOutReservedBlocksFromMemory() {
+        when(jdbcTemplate.queryForList(ReceiptNumberAllocator.SEQUENCE_INCREMENT_SQL, Long.class, SEQUENCE))
+                .thenReturn(List.of(10L));
+        stubSequence(1, 10);
+        ReceiptNumberAllocator allocator = new ReceiptNumberAllocator(jdbcTemplate, transactionManager, 1);
+
+        List<String> batch = allocator.next(YEAR, 25);
+        String single = allocator.next(YEAR);
+
+        assertEquals(25, batch.size());
+        assertEquals("RCPT-2025-000001", batch.get(0));
+        assertEquals("RCPT-2025-000025", batch.get(24));
+        assertEquals("RCPT-2025-000026", single);
+        // three blocks of ten in one round trip, the fourth number came from the third block
+        verify(jdbcTemplate, times(1)).queryForList(startsWith("SELECT nextval"), eq(Long.class), eq(3));
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void next_ParallelAllocationsOnTwoNodes_ShouldNeverRepeatANumber() throws Exception {
+        when(jdbcTemplate.queryForList(ReceiptNumberAllocator.SEQUENCE_INCREMENT_SQL, Long.class, SEQUENCE))
+                .thenReturn(List.of(7L));
+        stubSequence(1, 7);
+        // two nodes sharing one sequence
+        List<ReceiptNumberAllocator> nodes = List.of(
+                new ReceiptNumberAllocator(jdbcTemplate, transactionManager, 7),
+                new ReceiptNumberAllocator(jdbcTemplate, transactionManager, 7));
+
+        int threads = 16;
+        int allocationsPerThread = 500;
+        ConcurrentLinkedQueue<String> issued = new ConcurrentLinkedQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>(threads);
+            for (int t = 0; t < threads; t++) {
+                ReceiptNumberAllocator node = nodes.get(t % 2);
+                int batch = t % 4 == 0 ? 5 : 1;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < allocationsPerThread; i += batch) {
+                        issued.addAll(node.next(YEAR, batch));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Set<String> unique = new HashSet<>(issued);
+        assertEquals(threads * allocationsPerThread, issued.size());
+        assertEquals(issued.size(), unique.size());
+        assertTrue(unique.stream().allMatch(ReceiptNumberGenerator::validateFormat));
+    }
+
+    /**
+     * Answers {@code nextval} like a PostgreSQL sequence with the given
+     * start and increment.
+     */
+    private AtomicLong stubSequence(long start, long increment) {
+        AtomicLong sequence = new AtomicLong(start);
+        when(jdbcTemplate.queryForList(startsWith("SELECT nextval('" + SEQUENCE + "')"), eq(Long.class), anyInt()))
+                .thenAnswer(invocation -> {
+                    int count = invocation.getArgument(2);
+                    List<Long> values = new ArrayList<>(count);
+                    for (int i = 0; i < count; i++) {
+                        values.add(sequence.getAndAdd(increment));
+                    }
+                    return values;
+                });
+        return sequence;
+    }
+}
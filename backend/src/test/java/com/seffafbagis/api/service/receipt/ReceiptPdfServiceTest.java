@@ -0,0 +1,132 @@
+package com.seffafbagis.api.service.receipt;
+
+import com.seffafbagis.api.exception.ResourceNotFoundException;
+import com.seffafbagis.api.service.receipt.pdf.ReceiptDocument;
+import com.seffafbagis.api.service.receipt.pdf.ReceiptPdfRenderer;
+import com.seffafbagis.api.service.storage.FileStorageService;
+import com.seffafbagis.api.service.storage.LocalStorageBackend;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReceiptPdfServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path uploadDir;
+
+    private ReceiptPdfRenderer renderer;
+    private MeterRegistry meterRegistry;
+    private ReceiptPdfService receiptPdfService;
+
+    @BeforeEach
+    void setUp() {
+        FileStorageService fileStorageService = new FileStorageService(
+                new LocalStorageBackend(uploadDir.toString()), uploadDir.toString(), "/api/v1/files");
+        renderer = spy(new ReceiptPdfRenderer());
+        meterRegistry = new SimpleMeterRegistry();
+        receiptPdfService = new ReceiptPdfService(jdbcTemplate, renderer, fileStorageService, meterRegistry);
+    }
+
+    @Test
+    void writeReceipt_ShouldRenderOnceAndServeRepeatsFromStorage() throws IOException {
+        ReceiptDocument receipt = receipt(1L, "SB-2025-00000001");
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+
+        long firstBytes = receiptPdfService.writeReceipt(receipt, first);
+        long secondBytes = receiptPdfService.writeReceipt(receipt, second);
+
+        assertEquals(firstBytes, secondBytes);
+        assertArrayEquals(first.toByteArray(), second.toByteArray());
+        verify(renderer, times(1)).render(any(), any());
+
+        String key = renderer.contentKey(receipt);
+        Path stored = uploadDir.resolve(ReceiptPdfService.CACHE_FOLDER).resolve(key.substring(0, 2))
+                .resolve(key + ".pdf");
+        assertArrayEquals(first.toByteArray(), Files.readAllBytes(stored));
+        try (Stream<Path> files = Files.list(stored.getParent())) {
+            assertEquals(1, files.count());
+        }
+
+        assertEquals(1, meterRegistry.get("receipt.pdf.render").tag("cache", "miss").timer().count());
+        assertEquals(1, meterRegistry.get("receipt.pdf.render").tag("cache", "hit").timer().count());
+        assertEquals(2, meterRegistry.get("receipt.pdf.bytes").summary().count());
+    }
+
+    @Test
+    void getGuestReceipt_ShouldRequireTheFullVerificationKey() {
+        ReceiptDocument receipt = receipt(1L, "SB-2025-00000001");
+        when(jdbcTemplate.query(eq(ReceiptPdfService.GUEST_RECEIPT_SQL),
+                ArgumentMatchers.<RowMapper<ReceiptDocument>>any(), eq("SB-2025-00000001")))
+                .thenReturn(List.of(receipt));
+
+        assertSame(receipt, receiptPdfService.getGuestReceipt("SB-2025-00000001-0c9d8e7f6a5b4c3d"));
+        assertThrows(ResourceNotFoundException.class,
+                () -> receiptPdfService.getGuestReceipt("SB-2025-00000001-0000000000000000"));
+    }
+
+    @Test
+    void writeBundle_ShouldZipOneEntryPerReceipt() throws IOException {
+        List<ReceiptDocument> receipts = List.of(receipt(1L, "SB-2025-00000001"), receipt(2L, "SB-2025-00000002"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        receiptPdfService.writeBundle(receipts, out);
+
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry entry = zip.getNextEntry();
+            assertEquals("SB-2025-00000001.pdf", entry.getName());
+            assertTrue(new String(zip.readAllBytes(), 0, 8).startsWith("%PDF-1.4"));
+            assertEquals("SB-2025-00000002.pdf", zip.getNextEntry().getName());
+            assertNull(zip.getNextEntry());
+        }
+        assertEquals(1, meterRegistry.get("receipt.pdf.bundle").timer().count());
+    }
+
+    @Test
+    void donorName_ShouldPreferDisplayNameThenProfileName() {
+        assertEquals("Ayşe Y.", ReceiptPdfService.donorName("Ayşe Y.", "Ayşe", "Yılmaz"));
+        assertEquals("Ayşe Yılmaz", ReceiptPdfService.donorName(null, "Ayşe", "Yılmaz"));
+        assertEquals("Ayşe", ReceiptPdfService.donorName(" ", "Ayşe", null));
+        assertNull(ReceiptPdfService.donorName(null, null, null));
+    }
+
+    private static ReceiptDocument receipt(long id, String number) {
+        return new ReceiptDocument(id, number, number + "-0C9D8E7F6A5B4C3D",
+                OffsetDateTime.parse("2025-03-01T10:00:00Z"), OffsetDateTime.parse("2025-03-01T09:58:00Z"),
+                UUID.randomUUID(), "Ayşe Yılmaz", "ayse@example.com", "Su Kuyusu Projesi", "Umut Vakfı",
+                new BigDecimal("250.00"), "TRY", "BANK_TRANSFER", null, "COMPLETED");
+    }
+}
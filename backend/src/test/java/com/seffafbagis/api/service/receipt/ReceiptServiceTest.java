@@ -0,0 +1,70 @@
+package com.seffafbagis.api.service.receipt;
+
+import com.seffafbagis.api.entity.Receipt;
+import com.seffafbagis.api.repository.ReceiptRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReceiptServiceTest {
+
+    private static final String NUMBER = "RCPT-2026-000042";
+
+    @Mock
+    private ReceiptRepository receiptRepository;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private ReceiptNumberAllocator receiptNumberAllocator;
+
+    @InjectMocks
+    private ReceiptService receiptService;
+
+    @Test
+    void verifyReceipt_ShouldRequireTheVerificationCode() {
+        Receipt receipt = Receipt.builder().barcodeData(NUMBER).verificationCode("9F3A1C0B7D2E4A61").build();
+        when(receiptRepository.findByBarcodeData(NUMBER)).thenReturn(Optional.of(receipt));
+
+        assertEquals(Optional.of(receipt), receiptService.verifyReceipt(NUMBER + "-9F3A1C0B7D2E4A61"));
+        assertEquals(Optional.of(receipt), receiptService.verifyReceipt(NUMBER + "-9f3a1c0b7d2e4a61"));
+        assertTrue(receiptService.verifyReceipt(NUMBER + "-0000000000000000").isEmpty());
+    }
+
+    @Test
+    void verifyReceipt_SequentialNumberAlone_ShouldNotMatch() {
+        // "RCPT-2026-000042" splits into number "RCPT-2026" and code "000042"
+        assertTrue(receiptService.verifyReceipt(NUMBER).isEmpty());
+        assertTrue(receiptService.verifyReceipt("000042").isEmpty());
+        verify(receiptRepository, never()).findByBarcodeData(NUMBER);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void createReceipts_ShouldStoreARandomCodePerReceipt() {
+        OffsetDateTime createdAt = OffsetDateTime.parse("2026-03-01T10:00:00Z");
+        when(receiptNumberAllocator.next(2026, 2)).thenReturn(List.of(NUMBER, "RCPT-2026-000043"));
+
+        receiptService.createReceipts(List.of(UUID.randomUUID(), UUID.randomUUID()), createdAt);
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(ReceiptService.INSERT_RECEIPT_SQL), rows.capture());
+        String first = (String) rows.getValue().get(0)[2];
+        String second = (String) rows.getValue().get(1)[2];
+        assertTrue(first.matches("[0-9A-F]{16}"));
+        assertNotEquals(first, second);
+    }
+}
@@ -0,0 +1,115 @@
+package com.seffafbagis.api.service.receipt.pdf;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReceiptPdfRendererTest {
+
+    private final ReceiptPdfRenderer renderer = new ReceiptPdfRenderer();
+
+    @Test
+    void render_ShouldWriteWellFormedPdf() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long bytes = renderer.render(receipt("Ayşe Yılmaz"), out);
+
+        byte[] pdf = out.toByteArray();
+        String text = new String(pdf, StandardCharsets.ISO_8859_1);
+        assertEquals(pdf.length, bytes);
+        assertTrue(text.startsWith("%PDF-1.4\n"));
+        assertTrue(text.endsWith("%%EOF\n"));
+
+        Matcher startXref = Pattern.compile("startxref\n(\\d+)\n").matcher(text);
+        assertTrue(startXref.find());
+        int xref = Integer.parseInt(startXref.group(1));
+        assertTrue(text.startsWith("xref\n0 ", xref));
+
+        Matcher entries = Pattern.compile("(\\d{10}) 00000 n \n").matcher(text.substring(xref));
+        int object = 1;
+        while (entries.find()) {
+            assertTrue(text.startsWith(object + " 0 obj\n", Integer.parseInt(entries.group(1))),
+                    "xref entry of object " + object);
+            object++;
+        }
+        assertTrue(text.contains("/Size " + object + " "));
+    }
+
+    @Test
+    void render_ShouldDrawDonationDetailsInWinAnsi() throws IOException, DataFormatException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        renderer.render(receipt("Ayşe Yılmaz"), out);
+
+        String content = pageContent(out.toByteArray());
+        assertTrue(content.contains("(SB-2025-4F2A9C1E) Tj"));
+        assertTrue(content.contains("(Doðrulama Kodu: SB-2025-4F2A9C1E-0C9D8E7F6A5B4C3D) Tj"));
+        assertTrue(content.contains("(Ayþe Yýlmaz) Tj"));
+        assertTrue(content.contains("(1.750,00 TRY) Tj"));
+        assertTrue(content.contains("(Kredi Kartý) Tj"));
+        assertTrue(content.contains("(25 Aralýk 2025) Tj"));
+    }
+
+    @Test
+    void render_ShouldBeDeterministic() throws IOException {
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+
+        renderer.render(receipt("Ayşe Yılmaz"), first);
+        renderer.render(receipt("Ayşe Yılmaz"), second);
+
+        assertArrayEquals(first.toByteArray(), second.toByteArray());
+    }
+
+    @Test
+    void contentKey_ShouldChangeWithPrintedFields() {
+        assertEquals(renderer.contentKey(receipt("Ayşe Yılmaz")), renderer.contentKey(receipt("Ayşe Yılmaz")));
+        assertNotEquals(renderer.contentKey(receipt("Ayşe Yılmaz")), renderer.contentKey(receipt("Ayşe Kaya")));
+        assertEquals(64, renderer.contentKey(receipt("Ayşe Yılmaz")).length());
+    }
+
+    @Test
+    void fit_ShouldShortenTextWithEllipsis() {
+        String email = "a.very.long.email.address.for.a.donor@example.com";
+
+        String fitted = ReceiptPdfRenderer.fit(PdfFont.HELVETICA_BOLD, 9, email, 100);
+
+        assertTrue(fitted.endsWith("…"));
+        assertTrue(PdfFont.HELVETICA_BOLD.width(fitted, 9) <= 100);
+        assertEquals("short", ReceiptPdfRenderer.fit(PdfFont.HELVETICA_BOLD, 9, "short", 100));
+    }
+
+    private static String pageContent(byte[] pdf) throws DataFormatException {
+        String text = new String(pdf, StandardCharsets.ISO_8859_1);
+        Matcher stream = Pattern.compile("/Length (\\d+) /Filter /FlateDecode >>\nstream\n").matcher(text);
+        assertTrue(stream.find());
+        Inflater inflater = new Inflater();
+        inflater.setInput(pdf, stream.end(), Integer.parseInt(stream.group(1)));
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        while (!inflater.finished()) {
+            content.write(buffer, 0, inflater.inflate(buffer));
+        }
+        inflater.end();
+        return content.toString(StandardCharsets.ISO_8859_1);
+    }
+
+    private static ReceiptDocument receipt(String donorName) {
+        return new ReceiptDocument(42L, "SB-2025-4F2A9C1E", "SB-2025-4F2A9C1E-0C9D8E7F6A5B4C3D",
+                OffsetDateTime.parse("2025-12-25T17:45:00Z"), OffsetDateTime.parse("2025-12-25T17:43:00Z"),
+                UUID.fromString("00000000-0000-0000-0000-000000000001"), donorName, "ayse@example.com",
+                "Deprem Bölgesi Eğitim Desteği", "Umut Vakfı", new BigDecimal("1750.00"), "TRY",
+                "CREDIT_CARD", "TXN-123", "COMPLETED");
+    }
+}
@@ -16,6 +16,7 @@ import com.seffafbagis.api.repository.OrganizationRepository;
 import com.seffafbagis.api.repository.ReportRepository;
 import com.seffafbagis.api.repository.UserRepository;
 import com.seffafbagis.api.security.SecurityUtils;
+import com.seffafbagis.api.security.UserAuthCache;
 import com.seffafbagis.api.service.notification.NotificationService;
 import com.seffafbagis.api.service.transparency.TransparencyScoreService;
 import org.junit.jupiter.api.BeforeEach;
@@ -54,6 +55,8 @@ class ReportServiceTest {
     private TransparencyScoreService transparencyScoreService;
     @Mock
     private NotificationService notificationService;
+    @Mock
+    private UserAuthCache userAuthCache;
 
     @InjectMocks
     private ReportService reportService;
@@ -0,0 +1,119 @@
+package com.seffafbagis.api.service.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileStorageServiceTest {
+
+    private static final byte[] CONTENT = "0123456789abcdefghij".getBytes(StandardCharsets.US_ASCII);
+
+    private static final String HASH = "6bc14bdc4517a7a682c6910de2e2946eb8e1ecd04090728fef6d092a7ceb62c5";
+
+    @TempDir
+    Path uploadDir;
+
+    private FileStorageService fileStorageService;
+
+    @BeforeEach
+    void setUp() {
+        fileStorageService = new FileStorageService(new LocalStorageBackend(uploadDir.toString()),
+                uploadDir.toString(), "/api/v1/files");
+    }
+
+    @Test
+    void store_ShouldNameFileAfterContentHash() throws IOException {
+        StoredFile stored = fileStorageService.store(upload("Report.PDF"), "documents");
+
+        assertEquals("documents/6b/" + HASH + ".pdf", stored.getKey());
+        assertEquals("\"" + HASH + "\"", stored.getEtag());
+        assertEquals(CONTENT.length, stored.getSize());
+        assertEquals("application/pdf", stored.getContentType());
+    }
+
+    @Test
+    void store_SameContentTwice_ShouldStoreOnce() throws IOException {
+        String first = fileStorageService.storeFile(upload("a.pdf"), "documents");
+        String second = fileStorageService.storeFile(upload("b.pdf"), "documents");
+
+        assertEquals(first, second);
+        assertTrue(first.startsWith("/api/v1/files/documents/"));
+        try (Stream<Path> files = Files.walk(uploadDir.resolve("documents"))) {
+            assertEquals(1, files.filter(Files::isRegularFile).count());
+        }
+        try (Stream<Path> staged = Files.list(uploadDir.resolve(".staging"))) {
+            assertEquals(0, staged.count());
+        }
+    }
+
+    @Test
+    void transfer_ShouldWriteRequestedRangeOnly() throws IOException {
+        StoredFile stored = fileStorageService.store(upload("a.txt"), "documents");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        fileStorageService.transfer(stored, 5, 10, out);
+
+        assertEquals("56789abcde", out.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void transfer_PastEndOfFile_ShouldFail() throws IOException {
+        StoredFile stored = fileStorageService.store(upload("a.txt"), "documents");
+
+        assertThrows(IOException.class,
+                () -> fileStorageService.transfer(stored, 15, 10, new ByteArrayOutputStream()));
+    }
+
+    @Test
+    void findFile_ShouldRejectKeysOutsideStorage() {
+        assertThrows(IllegalArgumentException.class, () -> fileStorageService.findFile("../etc/passwd"));
+        assertThrows(IllegalArgumentException.class, () -> fileStorageService.findFile("documents/../../x"));
+        assertThrows(IllegalArgumentException.class, () -> fileStorageService.findFile("/etc/passwd"));
+        assertThrows(IllegalArgumentException.class, () -> fileStorageService.findFile(".staging/upload.tmp"));
+    }
+
+    @Test
+    void findFile_FileWithoutHashName_ShouldHaveWeakEtag() throws IOException {
+        Files.createDirectories(uploadDir.resolve("legacy"));
+        Files.write(uploadDir.resolve("legacy/old-name.pdf"), CONTENT);
+
+        StoredFile stored = fileStorageService.findFile("legacy/old-name.pdf").orElseThrow();
+
+        assertTrue(stored.getEtag().startsWith("W/\""));
+        assertTrue(fileStorageService.findFile("legacy/missing.pdf").isEmpty());
+    }
+
+    @Test
+    void deleteFile_SharedContent_ShouldKeepFileForOtherUploads() throws IOException {
+        String url = fileStorageService.storeFile(upload("a.pdf"), "documents");
+        String sameContent = fileStorageService.storeFile(upload("b.pdf"), "documents");
+
+        fileStorageService.deleteFile(url);
+
+        assertTrue(fileStorageService.findFile(sameContent.substring("/api/v1/files/".length())).isPresent());
+    }
+
+    @Test
+    void deleteFile_FileWithoutHashName_ShouldRemoveIt() throws IOException {
+        Files.createDirectories(uploadDir.resolve("legacy"));
+        Files.write(uploadDir.resolve("legacy/old-name.pdf"), CONTENT);
+
+        fileStorageService.deleteFile("/api/v1/files/legacy/old-name.pdf");
+
+        assertTrue(fileStorageService.findFile("legacy/old-name.pdf").isEmpty());
+    }
+
+    private static MockMultipartFile upload(String name) {
+        return new MockMultipartFile("file", name, "application/octet-stream", CONTENT);
+    }
+}
@@ -0,0 +1,123 @@
+package com.seffafbagis.api.service.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class S3StorageBackendTest {
+
+    @Mock
+    private S3Client s3Client;
+
+    @TempDir
+    Path tempDir;
+
+    private S3StorageBackend backend;
+
+    @BeforeEach
+    void setUp() {
+        backend = new S3StorageBackend(s3Client, "receipts-bucket");
+    }
+
+    @Test
+    void stat_ShouldMapObjectMetadata() throws IOException {
+        Instant modified = Instant.parse("2024-03-01T10:00:00Z");
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(HeadObjectResponse.builder()
+                .contentLength(42L)
+                .contentType("application/pdf")
+                .eTag("\"abc\"")
+                .lastModified(modified)
+                .build());
+
+        StoredFile file = backend.stat("receipts/pdf/ab/abc.pdf").orElseThrow();
+
+        assertEquals(42L, file.getSize());
+        assertEquals("application/pdf", file.getContentType());
+        assertEquals("\"abc\"", file.getEtag());
+        assertEquals(modified, file.getLastModified());
+    }
+
+    @Test
+    void stat_MissingObject_ShouldBeEmpty() throws IOException {
+        when(s3Client.headObject(any(HeadObjectRequest.class)))
+                .thenThrow(S3Exception.builder().statusCode(404).build());
+
+        assertEquals(Optional.empty(), backend.stat("documents/missing.pdf"));
+    }
+
+    @Test
+    void stat_OtherError_ShouldThrow() {
+        when(s3Client.headObject(any(HeadObjectRequest.class)))
+                .thenThrow(S3Exception.builder().statusCode(403).build());
+
+        assertThrows(IOException.class, () -> backend.stat("documents/secret.pdf"));
+    }
+
+    @Test
+    void read_ShouldRequestOnlyTheRange() throws IOException {
+        byte[] range = "56789".getBytes(StandardCharsets.US_ASCII);
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(new ResponseInputStream<>(
+                GetObjectResponse.builder().build(),
+                AbortableInputStream.create(new ByteArrayInputStream(range))));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        backend.read("documents/a.txt", 5, 5, out);
+
+        ArgumentCaptor<GetObjectRequest> request = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3Client).getObject(request.capture());
+        assertEquals("receipts-bucket", request.getValue().bucket());
+        assertEquals("bytes=5-9", request.getValue().range());
+        assertEquals("56789", out.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void read_EmptyRange_ShouldNotCallS3() throws IOException {
+        backend.read("documents/a.txt", 0, 0, new ByteArrayOutputStream());
+
+        verify(s3Client, never()).getObject(any(GetObjectRequest.class));
+    }
+
+    @Test
+    void put_ShouldUploadAndConsumeSource() throws IOException {
+        Path source = Files.write(tempDir.resolve("upload.tmp"), new byte[] { 1, 2, 3 });
+
+        backend.put("documents/ab/abc.pdf", source, "application/pdf");
+
+        ArgumentCaptor<PutObjectRequest> request = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3Client).putObject(request.capture(), any(RequestBody.class));
+        assertEquals("documents/ab/abc.pdf", request.getValue().key());
+        assertEquals("application/pdf", request.getValue().contentType());
+        assertEquals(3L, request.getValue().contentLength());
+        assertFalse(Files.exists(source));
+    }
+}
@@ -0,0 +1,130 @@
+package com.seffafbagis.api.service.system;
+
+import com.seffafbagis.api.config.SchedulerProperties;
+import com.seffafbagis.api.enums.ExpiringResource;
+import com.seffafbagis.api.event.ResourcesExpiredEvent;
+import com.seffafbagis.api.service.outbox.OutboxService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.ResultSet;
+import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExpirySweeperTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private OutboxService outboxService;
+
+    private MeterRegistry meterRegistry;
+    private SchedulerProperties schedulerProperties;
+    private ExpirySweeper expirySweeper;
+
+    private final Deque<List<UUID[]>> chunks = new ArrayDeque<>();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        schedulerProperties = new SchedulerProperties();
+        schedulerProperties.getExpiry().setChunkSize(2);
+        schedulerProperties.getExpiry().setMaxChunksPerRun(3);
+        expirySweeper = new ExpirySweeper(jdbcTemplate, transactionManager, outboxService, schedulerProperties,
+                meterRegistry);
+    }
+
+    @Test
+    void sweep_ShouldExpireInChunksAndPublishOneEventPerChunk() {
+        UUID donor = UUID.randomUUID();
+        chunks.add(List.of(row(donor), row(donor)));
+        chunks.add(List.<UUID[]>of(row(null)));
+        stubChunks(ExpiringResource.BANK_TRANSFER_REFERENCE);
+
+        long expired = expirySweeper.sweep(ExpiringResource.BANK_TRANSFER_REFERENCE, OffsetDateTime.now());
+
+        assertEquals(3, expired);
+        ArgumentCaptor<ResourcesExpiredEvent> events = ArgumentCaptor.forClass(ResourcesExpiredEvent.class);
+        verify(outboxService, times(2)).enqueue(events.capture());
+        assertEquals(2, events.getAllValues().get(0).getResourceIds().size());
+        assertEquals(List.of(donor), events.getAllValues().get(0).getOwnerIds());
+        assertEquals(1, events.getAllValues().get(1).getResourceIds().size());
+        assertTrue(events.getAllValues().get(1).getOwnerIds().isEmpty());
+        assertEquals(3.0, meterRegistry.get("expiry.sweep.expired")
+                .tag("resource", "BANK_TRANSFER_REFERENCE").counter().count());
+        assertEquals(1, meterRegistry.get("expiry.sweep").timer().count());
+    }
+
+    @Test
+    void sweep_ShouldStopAfterMaxChunksPerRun() {
+        for (int i = 0; i < 4; i++) {
+            chunks.add(List.of(row(UUID.randomUUID()), row(UUID.randomUUID())));
+        }
+        stubChunks(ExpiringResource.PAYMENT_SESSION);
+
+        long expired = expirySweeper.sweep(ExpiringResource.PAYMENT_SESSION, OffsetDateTime.now());
+
+        assertEquals(6, expired);
+        verify(outboxService, times(3)).enqueue(any(ResourcesExpiredEvent.class));
+        assertEquals(1, chunks.size());
+    }
+
+    @Test
+    void sweep_NothingDue_ShouldNotPublish() {
+        stubChunks(ExpiringResource.BANK_TRANSFER_REFERENCE);
+
+        assertEquals(0, expirySweeper.sweep(ExpiringResource.BANK_TRANSFER_REFERENCE, OffsetDateTime.now()));
+
+        verifyNoInteractions(outboxService);
+    }
+
+    @Test
+    void sweepSql_ShouldClaimDueRowsWithSkipLockedAndReturnOwners() {
+        String sql = ExpirySweeper.sweepSql(ExpiringResource.PAYMENT_SESSION);
+
+        assertTrue(sql.startsWith("UPDATE payment_sessions SET status = ?, cart_items = '[]'::jsonb, "));
+        assertTrue(sql.contains("created_at < ? ORDER BY created_at LIMIT ? FOR UPDATE SKIP LOCKED"));
+        assertTrue(sql.endsWith("RETURNING id, user_id AS owner_id"));
+    }
+
+    private void stubChunks(ExpiringResource resource) {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            List<UUID[]> rows = chunks.isEmpty() ? List.of() : chunks.poll();
+            for (UUID[] row : rows) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getObject("id", UUID.class)).thenReturn(row[0]);
+                when(rs.getObject("owner_id", UUID.class)).thenReturn(row[1]);
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(eq(ExpirySweeper.sweepSql(resource)), any(RowCallbackHandler.class),
+                eq(resource.getExpiredStatus()), eq(resource.getPendingStatus()), any(OffsetDateTime.class),
+                anyInt());
+    }
+
+    private static UUID[] row(UUID owner) {
+        return new UUID[] { UUID.randomUUID(), owner };
+    }
+}
@@ -0,0 +1,63 @@
+package com.seffafbagis.api.service.transparency;
+
+import com.seffafbagis.api.config.SchedulerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransparencyLeaderboardServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private TransparencyLeaderboardService leaderboardService;
+
+    @BeforeEach
+    void setUp() {
+        leaderboardService = new TransparencyLeaderboardService(jdbcTemplate, new SchedulerProperties(),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getPage_ShouldReadPositionRangeOfPage() {
+        leaderboardService.getPage(PageRequest.of(2, 10));
+
+        verify(jdbcTemplate).query(eq(TransparencyLeaderboardService.PAGE_SQL), any(RowMapper.class), eq(20L),
+                eq(30L));
+    }
+
+    @Test
+    void refreshIfStale_ShouldRefreshOnlyAfterScoreChange() {
+        assertFalse(leaderboardService.refreshIfStale());
+
+        leaderboardService.markStale();
+        assertTrue(leaderboardService.refreshIfStale());
+        assertFalse(leaderboardService.refreshIfStale());
+
+        verify(jdbcTemplate, times(1)).execute(TransparencyLeaderboardService.REFRESH_SQL);
+    }
+
+    @Test
+    void refreshIfStale_Failure_ShouldStayStale() {
+        doThrow(new QueryTimeoutException("timeout")).doNothing()
+                .when(jdbcTemplate).execute(TransparencyLeaderboardService.REFRESH_SQL);
+        leaderboardService.markStale();
+
+        assertThrows(QueryTimeoutException.class, () -> leaderboardService.refreshIfStale());
+        assertTrue(leaderboardService.refreshIfStale());
+    }
+}
@@ -68,4 +68,13 @@ class TransparencyScoreCalculatorTest {
         assertEquals("Düşük", calculator.getScoreLevel(new BigDecimal("35")));
         assertEquals("Çok Düşük", calculator.getScoreLevel(new BigDecimal("10")));
     }
+
+    @Test
+    void applyEvent_ShouldFollowRulesAndKeepManualAdjustments() {
+        assertEquals(new BigDecimal("50.00"), calculator.applyEvent(new BigDecimal("80.00"), "INITIAL_SCORE", null));
+        assertEquals(new BigDecimal("45.00"), calculator.applyEvent(new BigDecimal("40.00"),
+                "EVIDENCE_APPROVED_ON_TIME", new BigDecimal("99.00")));
+        assertEquals(new BigDecimal("37.50"), calculator.applyEvent(new BigDecimal("40.00"),
+                "MANUAL_ADJUSTMENT", new BigDecimal("-2.50")));
+    }
 }
@@ -0,0 +1,131 @@
+package com.seffafbagis.api.service.transparency;
+
+import com.seffafbagis.api.config.SchedulerProperties;
+import com.seffafbagis.api.dto.response.transparency.ScoreReplayResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransparencyScoreEngineTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SchedulerProperties schedulerProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private TransparencyScoreEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        schedulerProperties = new SchedulerProperties();
+        schedulerProperties.getTransparencyScore().setSnapshotInterval(2);
+        schedulerProperties.getTransparencyScore().setReplayParallelism(2);
+        meterRegistry = new SimpleMeterRegistry();
+        engine = new TransparencyScoreEngine(new TransparencyScoreCalculator(), jdbcTemplate, transactionManager,
+                schedulerProperties, meterRegistry);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void replay_ShouldFoldEventsInOrderAndSnapshotEveryInterval() throws SQLException {
+        UUID orgId = UUID.randomUUID();
+        when(jdbcTemplate.query(eq(TransparencyScoreEngine.LATEST_SNAPSHOT_SQL), any(RowMapper.class), any(), any()))
+                .thenReturn(List.of());
+        doAnswer(inv -> {
+            RowCallbackHandler handler = inv.getArgument(1);
+            handler.processRow(event(1, "INITIAL_SCORE", null, "50.00", null));
+            handler.processRow(event(2, "EVIDENCE_APPROVED_ON_TIME", "50.00", "55.00", "5.00"));
+            handler.processRow(event(3, "MANUAL_ADJUSTMENT", "55.00", "57.50", null));
+            handler.processRow(event(4, "EVIDENCE_REJECTED", "57.50", "52.50", "-5.00"));
+            return null;
+        }).when(jdbcTemplate).query(eq(TransparencyScoreEngine.EVENTS_SQL), any(RowCallbackHandler.class),
+                eq(orgId), eq(0L));
+
+        LongAdder events = new LongAdder();
+        ScoreState state = engine.replay(orgId, events);
+
+        assertEquals(4L, state.getEventVersion());
+        assertEquals(new BigDecimal("52.50"), state.getScore());
+        assertEquals(1, state.getApprovedEvidences());
+        assertEquals(1, state.getOnTimeReports());
+        assertEquals(1, state.getRejectedEvidences());
+        assertEquals(4L, events.sum());
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(TransparencyScoreEngine.SNAPSHOT_INSERT_SQL), rows.capture());
+        assertEquals(2, rows.getValue().size());
+        assertEquals(2L, rows.getValue().get(0)[2]);
+        assertEquals(new BigDecimal("55.00"), rows.getValue().get(0)[3]);
+        assertEquals(4L, rows.getValue().get(1)[2]);
+    }
+
+    @Test
+    void apply_ShouldUseCurrentRulesRatherThanRecordedChange() {
+        ScoreState state = engine.apply(ScoreState.INITIAL, 1, "CAMPAIGN_COMPLETED", new BigDecimal("10.00"));
+
+        assertEquals(new BigDecimal("53.00"), state.getScore());
+        assertEquals(1, state.getCompletedCampaigns());
+        assertEquals(state.getScore(), engine.apply(ScoreState.INITIAL, 1, "CAMPAIGN_COMPLETED", null).getScore());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void replayAll_ShouldReplayEachOrganizationAndCountFailures() {
+        UUID replayed = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        when(jdbcTemplate.queryForList(TransparencyScoreEngine.ALL_ORGANIZATIONS_SQL, UUID.class))
+                .thenReturn(List.of(replayed, missing));
+        when(jdbcTemplate.queryForList(TransparencyScoreEngine.LOCK_SCORE_SQL, Long.class, replayed))
+                .thenReturn(List.of(3L));
+        when(jdbcTemplate.queryForList(TransparencyScoreEngine.LOCK_SCORE_SQL, Long.class, missing))
+                .thenReturn(List.of());
+        when(jdbcTemplate.query(eq(TransparencyScoreEngine.LATEST_SNAPSHOT_SQL), any(RowMapper.class), any(), any()))
+                .thenReturn(List.of());
+
+        ScoreReplayResponse response = engine.replayAll(true);
+
+        assertEquals(TransparencyScoreCalculator.RULES_VERSION, response.getRulesVersion());
+        assertEquals(2, response.getOrganizations());
+        assertEquals(1, response.getFailedOrganizations());
+        verify(jdbcTemplate).update(TransparencyScoreEngine.DELETE_STALE_SNAPSHOTS_SQL,
+                TransparencyScoreCalculator.RULES_VERSION);
+        verify(jdbcTemplate).update(eq(TransparencyScoreEngine.SCORE_UPDATE_SQL), any(), any(), any(), any(), any(),
+                any(), eq(0L), eq(TransparencyScoreCalculator.RULES_VERSION), any(), any(), eq(replayed));
+        assertEquals(1.0, meterRegistry.get("transparency.replay.organizations").counter().count());
+    }
+
+    private static ResultSet event(long version, String reason, String previous, String next, String change)
+            throws SQLException {
+        ResultSet rs = mock(ResultSet.class, withSettings().strictness(Strictness.LENIENT));
+        when(rs.getLong("event_version")).thenReturn(version);
+        when(rs.getString("change_reason")).thenReturn(reason);
+        when(rs.getBigDecimal("previous_score")).thenReturn(previous != null ? new BigDecimal(previous) : null);
+        when(rs.getBigDecimal("new_score")).thenReturn(new BigDecimal(next));
+        when(rs.getBigDecimal("change_amount")).thenReturn(change != null ? new BigDecimal(change) : null);
+        return rs;
+    }
+}
@@ -1,5 +1,6 @@
 package com.seffafbagis.api.service.transparency;
 
+import com.seffafbagis.api.dto.response.transparency.ScoreHistoryListResponse;
 import com.seffafbagis.api.dto.response.transparency.TransparencyScoreResponse;
 import com.seffafbagis.api.entity.campaign.Campaign;
 import com.seffafbagis.api.entity.evidence.Evidence;
@@ -11,19 +12,32 @@ import com.seffafbagis.api.repository.EvidenceRepository;
 import com.seffafbagis.api.repository.OrganizationRepository;
 import com.seffafbagis.api.repository.TransparencyScoreHistoryRepository;
 import com.seffafbagis.api.repository.TransparencyScoreRepository;
+import com.seffafbagis.api.repository.projection.CampaignTitleProjection;
+import com.seffafbagis.api.repository.projection.EvidenceDeadlineProjection;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +55,12 @@ class TransparencyScoreServiceTest {
     private CampaignRepository campaignRepository;
     @Mock
     private EvidenceRepository evidenceRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private TransparencyScoreEngine scoreEngine;
 
     @InjectMocks
     private TransparencyScoreService transparencyScoreService;
@@ -126,7 +146,7 @@ class TransparencyScoreServiceTest {
         score.setId(UUID.randomUUID());
 
         when(evidenceRepository.findById(evidenceId)).thenReturn(Optional.of(evidence));
-        when(scoreRepository.findByOrganizationId(orgId)).thenReturn(Optional.of(score));
+        when(scoreRepository.findForUpdateByOrganizationId(orgId)).thenReturn(Optional.of(score));
         when(calculator.calculateChange(anyString())).thenReturn(new BigDecimal("5.00"));
         when(calculator.calculateNewScore(any(), any())).thenReturn(new BigDecimal("55.00"));
 
@@ -137,5 +157,157 @@ class TransparencyScoreServiceTest {
         assertEquals(new BigDecimal("55.00"), score.getCurrentScore());
         assertEquals(1, score.getApprovedEvidences());
         assertEquals(1, score.getOnTimeReports());
+        assertEquals(1L, score.getEventVersion());
+    }
+
+    @Test
+    void recalculateScore_ShouldStoreReplayedStateWithoutAppendingHistory() {
+        UUID orgId = UUID.randomUUID();
+        TransparencyScore score = TransparencyScore.builder()
+                .organizationId(orgId)
+                .currentScore(new BigDecimal("42.00"))
+                .eventVersion(7L)
+                .build();
+
+        when(scoreRepository.findForUpdateByOrganizationId(orgId)).thenReturn(Optional.of(score));
+        when(scoreEngine.replay(orgId)).thenReturn(new ScoreState(7L, new BigDecimal("47.00"), 1, 2, 0, 1, 1));
+
+        transparencyScoreService.recalculateScore(orgId);
+
+        verify(scoreRepository).save(score);
+        verify(historyRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(any(Object.class));
+        assertEquals(new BigDecimal("47.00"), score.getCurrentScore());
+        assertEquals(2, score.getApprovedEvidences());
+        assertEquals(TransparencyScoreCalculator.RULES_VERSION, score.getRulesVersion());
+    }
+
+    @Test
+    void getScoreHistory_ShouldResolveCampaignTitlesOfPageInOneQuery() {
+        UUID orgId = UUID.randomUUID();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        List<TransparencyScoreHistory> rows = List.of(
+                history("CAMPAIGN", first), history("CAMPAIGN", second), history("CAMPAIGN", first),
+                history("EVIDENCE", UUID.randomUUID()), history(null, null));
+
+        when(historyRepository.findByOrganizationIdOrderByCreatedAtDesc(eq(orgId), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(rows));
+        when(campaignRepository.findTitlesByIdIn(anyCollection()))
+                .thenReturn(List.of(title(first, "Su Kuyusu"), title(second, "Kışlık Mont")));
+
+        ScoreHistoryListResponse response = transparencyScoreService.getScoreHistory(orgId, PageRequest.of(0, 20));
+
+        verify(campaignRepository, times(1)).findTitlesByIdIn(anyCollection());
+        verify(campaignRepository, never()).findById(any());
+        assertEquals("Su Kuyusu", response.getHistory().get(0).getCampaignTitle());
+        assertEquals("Kışlık Mont", response.getHistory().get(1).getCampaignTitle());
+        assertEquals("Su Kuyusu", response.getHistory().get(2).getCampaignTitle());
+        assertNull(response.getHistory().get(3).getCampaignTitle());
+    }
+
+    @Test
+    void penalizeMissedEvidenceDeadlines_ShouldPenalizeEachMissedCampaignInOneBatch() {
+        UUID orgId = UUID.randomUUID();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID covered = UUID.randomUUID();
+        OffsetDateTime now = OffsetDateTime.now();
+
+        TransparencyScore score = TransparencyScore.builder()
+                .organizationId(orgId)
+                .currentScore(new BigDecimal("50.00"))
+                .eventVersion(4L)
+                .build();
+        score.setId(UUID.randomUUID());
+
+        when(campaignRepository.findEvidenceDeadlinesDueForUpdate("COMPLETED", "APPROVED", now, 500))
+                .thenReturn(List.of(deadline(first, orgId, true), deadline(second, orgId, true),
+                        deadline(covered, UUID.randomUUID(), false)));
+        when(scoreRepository.findByOrganizationIdIn(anyCollection())).thenReturn(List.of(score));
+        when(calculator.calculateChange("EVIDENCE_DEADLINE_MISSED")).thenReturn(new BigDecimal("-10.00"));
+        when(calculator.calculateNewScore(any(), any()))
+                .thenAnswer(inv -> ((BigDecimal) inv.getArgument(0)).add(inv.getArgument(1)));
+
+        int settled = transparencyScoreService.penalizeMissedEvidenceDeadlines(now, 500);
+
+        assertEquals(3, settled);
+        verify(campaignRepository).markEvidenceDeadlineChecked(List.of(first, second, covered), now);
+
+        List<Object[]> scores = captureBatch(TransparencyScoreService.SCORE_UPDATE_SQL);
+        assertEquals(1, scores.size());
+        assertEquals(new BigDecimal("30.00"), scores.get(0)[0]);
+        assertEquals(6L, scores.get(0)[3]);
+
+        List<Object[]> history = captureBatch(TransparencyScoreService.HISTORY_INSERT_SQL);
+        assertEquals(2, history.size());
+        assertEquals(new BigDecimal("50.00"), history.get(0)[2]);
+        assertEquals(new BigDecimal("40.00"), history.get(1)[2]);
+        assertEquals(second, history.get(1)[7]);
+        assertEquals(5L, history.get(0)[10]);
+        assertEquals(6L, history.get(1)[10]);
+        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+        verify(historyRepository, never()).save(any());
+    }
+
+    @Test
+    void penalizeMissedEvidenceDeadlines_NothingDue_ShouldNotTouchScores() {
+        when(campaignRepository.findEvidenceDeadlinesDueForUpdate(anyString(), anyString(), any(), anyInt()))
+                .thenReturn(List.of());
+
+        assertEquals(0, transparencyScoreService.penalizeMissedEvidenceDeadlines(OffsetDateTime.now(), 500));
+
+        verify(campaignRepository, never()).markEvidenceDeadlineChecked(anyCollection(), any());
+        verifyNoInteractions(scoreRepository, jdbcTemplate);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> captureBatch(String sql) {
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(sql), rows.capture());
+        return rows.getValue();
+    }
+
+    private static TransparencyScoreHistory history(String relatedEntityType, UUID relatedEntityId) {
+        return TransparencyScoreHistory.builder()
+                .previousScore(new BigDecimal("50.00"))
+                .newScore(new BigDecimal("53.00"))
+                .changeReason("CAMPAIGN_COMPLETED")
+                .relatedEntityType(relatedEntityType)
+                .relatedEntityId(relatedEntityId)
+                .build();
+    }
+
+    private static CampaignTitleProjection title(UUID id, String title) {
+        return new CampaignTitleProjection() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public String getTitle() {
+                return title;
+            }
+        };
+    }
+
+    private static EvidenceDeadlineProjection deadline(UUID campaignId, UUID organizationId, boolean missed) {
+        return new EvidenceDeadlineProjection() {
+            @Override
+            public UUID getCampaignId() {
+                return campaignId;
+            }
+
+            @Override
+            public UUID getOrganizationId() {
+                return organizationId;
+            }
+
+            @Override
+            public Boolean getMissed() {
+                return missed;
+            }
+        };
     }
 }
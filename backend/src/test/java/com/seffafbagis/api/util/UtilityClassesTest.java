@@ -1,10 +1,13 @@
 package com.seffafbagis.api.util;
 
+import com.seffafbagis.api.exception.BadRequestException;
 import org.junit.jupiter.api.Test;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -128,4 +131,62 @@ class UtilityClassesTest {
         assertEquals("1,5 Milyon", NumberUtils.formatCompact(1500000));
         assertEquals("15 Bin", NumberUtils.formatCompact(15000).trim());
     }
+
+    // --- CursorUtils Tests ---
+
+    @Test
+    void testCursorUtilsRoundTrip() {
+        OffsetDateTime createdAt = OffsetDateTime.parse("2024-01-15T10:30:00.123456+03:00");
+        UUID id = UUID.randomUUID();
+
+        CursorUtils.Position position = CursorUtils.decode(CursorUtils.encode(createdAt, id));
+
+        assertEquals(createdAt, position.getCreatedAt());
+        assertEquals(id, position.getId());
+    }
+
+    @Test
+    void testCursorUtilsFirstPage() {
+        assertNull(CursorUtils.decode(null));
+        assertNull(CursorUtils.decode(" "));
+    }
+
+    @Test
+    void testCursorUtilsInvalidCursor() {
+        assertThrows(BadRequestException.class, () -> CursorUtils.decode("not-a-cursor"));
+    }
+
+    @Test
+    void testCursorUtilsLimitClamped() {
+        assertEquals(CursorUtils.MAX_SIZE, CursorUtils.limit(10_000).getPageSize());
+        assertEquals(1, CursorUtils.limit(0).getPageSize());
+    }
+
+    // --- SearchQueryNormalizer Tests ---
+
+    @Test
+    void testSearchQueryNormalizerFoldsTurkish() {
+        assertEquals("cocuk:* & egitim:*", SearchQueryNormalizer.toPrefixQuery("Çocuk EĞİTİM"));
+        assertEquals("isik:*", SearchQueryNormalizer.toPrefixQuery("IŞIK"));
+    }
+
+    @Test
+    void testSearchQueryNormalizerStripsOperators() {
+        assertEquals("su:* & kuyu:*", SearchQueryNormalizer.toPrefixQuery("su & !kuyu:* |"));
+        assertNull(SearchQueryNormalizer.toPrefixQuery("  &|!() "));
+        assertNull(SearchQueryNormalizer.toPrefixQuery(null));
+    }
+
+    @Test
+    void testSearchQueryNormalizerLimitsTerms() {
+        String query = SearchQueryNormalizer.toPrefixQuery("a b c d e f g h i j k");
+        assertEquals(SearchQueryNormalizer.MAX_TERMS, query.split(" & ").length);
+    }
+
+    @Test
+    void testSearchQueryNormalizerSuggestNeedsTwoCharacters() {
+        assertNull(SearchQueryNormalizer.toSuggestQuery("ç"));
+        assertEquals("co:*", SearchQueryNormalizer.toSuggestQuery("Ço"));
+        assertEquals(SearchQueryNormalizer.MAX_SUGGESTIONS, SearchQueryNormalizer.suggestionLimit(500));
+    }
 }
@@ -0,0 +1,83 @@
+package com.seffafbagis.api.service.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seffafbagis.api.dto.request.auth.LoginRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sensitive-field masking applied to the old/new values of every audit log
+ * entry. Lives in the service's package because
+ * {@link AuditLogService#maskSensitiveData(Object)} is package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuditLogMaskingBenchmark {
+
+    private AuditLogService auditLogService;
+    private Map<String, Object> flatValues;
+    private Map<String, Object> nestedValues;
+    private LoginRequest dtoValues;
+
+    @Setup
+    public void setUp() {
+        auditLogService = new AuditLogService(null, new ObjectMapper().findAndRegisterModules(), null, null);
+
+        flatValues = new HashMap<>();
+        flatValues.put("email", "donor@example.com");
+        flatValues.put("firstName", "Ayşe");
+        flatValues.put("lastName", "Yılmaz");
+        flatValues.put("phoneNumber", "+905321234567");
+        flatValues.put("passwordHash", "$2a$10$abcdefghijklmnopqrstuv");
+        flatValues.put("status", "ACTIVE");
+        flatValues.put("emailVerified", Boolean.TRUE);
+        flatValues.put("loginCount", 42);
+
+        Map<String, Object> bankAccount = new HashMap<>();
+        bankAccount.put("iban", "TR330006100519786457841326");
+        bankAccount.put("bankName", "Ziraat Bankası");
+        bankAccount.put("secretKey", "sk_live_123");
+        nestedValues = new HashMap<>(flatValues);
+        nestedValues.put("bankAccount", bankAccount);
+        nestedValues.put("tags", List.of("kvkk", "export"));
+
+        dtoValues = new LoginRequest();
+        dtoValues.setEmail("donor@example.com");
+        dtoValues.setPassword("PerfPass1!");
+    }
+
+    @Benchmark
+    public Object maskFlatMap() {
+        return auditLogService.maskSensitiveData(flatValues);
+    }
+
+    @Benchmark
+    public Object maskNestedMap() {
+        return auditLogService.maskSensitiveData(nestedValues);
+    }
+
+    /**
+     * DTOs are first converted to a map through the ObjectMapper.
+     */
+    @Benchmark
+    public Object maskDto() {
+        return auditLogService.maskSensitiveData(dtoValues);
+    }
+}
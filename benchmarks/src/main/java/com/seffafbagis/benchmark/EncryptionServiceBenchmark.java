@@ -0,0 +1,57 @@
+package com.seffafbagis.benchmark;
+
+import com.seffafbagis.api.service.encryption.EncryptionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AES-256-GCM round trips for the sensitive-data fields (TC Kimlik, phone,
+ * address) that are encrypted on write and decrypted on every profile read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EncryptionServiceBenchmark {
+
+    /**
+     * TC Kimlik sized value and a typical postal address.
+     */
+    @Param({"10000000146", "Atatürk Mahallesi Cumhuriyet Caddesi No: 12 Daire: 4 Kadıköy İstanbul"})
+    public String plainText;
+
+    private EncryptionService encryptionService;
+    private byte[] cipherText;
+
+    @Setup
+    public void setUp() {
+        encryptionService = new EncryptionService();
+        ReflectionTestUtils.setField(encryptionService, "secretKey", "0123456789abcdef0123456789abcdef");
+        encryptionService.init();
+        cipherText = encryptionService.encrypt(plainText);
+    }
+
+    @Benchmark
+    public byte[] encrypt() {
+        return encryptionService.encrypt(plainText);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return encryptionService.decrypt(cipherText);
+    }
+}
@@ -0,0 +1,78 @@
+package com.seffafbagis.benchmark;
+
+import com.seffafbagis.api.config.JwtConfig;
+import com.seffafbagis.api.enums.UserRole;
+import com.seffafbagis.api.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token generation and validation as done on login and on every
+ * authenticated request by {@code JwtAuthenticationFilter}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private UUID userId;
+    private String accessToken;
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() {
+        String secret = Base64.getEncoder()
+                .encodeToString("benchmark-secret-".repeat(4).getBytes(StandardCharsets.UTF_8));
+        JwtConfig jwtConfig = new JwtConfig(secret, 900_000L, 604_800_000L, "Bearer ", "Authorization",
+                "seffaf-bagis-platform", "seffaf-bagis-clients");
+        jwtTokenProvider = new JwtTokenProvider(jwtConfig);
+
+        userId = UUID.randomUUID();
+        accessToken = jwtTokenProvider.generateAccessToken(userId, "donor@example.com", UserRole.DONOR.name());
+        // Flip one signature character: same parsing work, rejected at verification
+        char last = accessToken.charAt(accessToken.length() - 1);
+        tamperedToken = accessToken.substring(0, accessToken.length() - 1) + (last == 'A' ? 'B' : 'A');
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtTokenProvider.generateAccessToken(userId, "donor@example.com", UserRole.DONOR.name());
+    }
+
+    @Benchmark
+    public String generateRefreshToken() {
+        return jwtTokenProvider.generateRefreshToken(userId, "donor@example.com");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public boolean validateTamperedToken() {
+        return jwtTokenProvider.validateToken(tamperedToken);
+    }
+
+    @Benchmark
+    public UUID getUserIdFromToken() {
+        return jwtTokenProvider.getUserIdFromToken(accessToken);
+    }
+}
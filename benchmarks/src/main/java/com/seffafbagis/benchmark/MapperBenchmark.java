@@ -0,0 +1,168 @@
+package com.seffafbagis.benchmark;
+
+import com.seffafbagis.api.dto.mapper.CampaignMapper;
+import com.seffafbagis.api.dto.mapper.CategoryMapper;
+import com.seffafbagis.api.dto.mapper.OrganizationMapper;
+import com.seffafbagis.api.dto.response.campaign.CampaignDetailResponse;
+import com.seffafbagis.api.dto.response.campaign.CampaignListResponse;
+import com.seffafbagis.api.dto.response.campaign.CampaignResponse;
+import com.seffafbagis.api.dto.response.organization.OrganizationDetailResponse;
+import com.seffafbagis.api.dto.response.organization.OrganizationListResponse;
+import com.seffafbagis.api.dto.response.organization.OrganizationResponse;
+import com.seffafbagis.api.entity.campaign.Campaign;
+import com.seffafbagis.api.entity.campaign.CampaignCategory;
+import com.seffafbagis.api.entity.category.Category;
+import com.seffafbagis.api.entity.organization.Organization;
+import com.seffafbagis.api.entity.user.User;
+import com.seffafbagis.api.enums.CampaignStatus;
+import com.seffafbagis.api.enums.OrganizationType;
+import com.seffafbagis.api.enums.VerificationStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping for the public campaign and organization endpoints.
+ * {@link #campaignListPage()} maps a 20-item page, the default page size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private CampaignMapper campaignMapper;
+    private OrganizationMapper organizationMapper;
+    private Organization organization;
+    private Campaign campaign;
+    private List<Campaign> campaignPage;
+
+    @Setup
+    public void setUp() {
+        CategoryMapper categoryMapper = new CategoryMapper();
+        organizationMapper = new OrganizationMapper();
+        campaignMapper = new CampaignMapper(categoryMapper, organizationMapper);
+
+        organization = newOrganization();
+        campaign = newCampaign(organization, 0);
+        campaignPage = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            campaignPage.add(newCampaign(organization, i));
+        }
+    }
+
+    @Benchmark
+    public CampaignResponse campaignToResponse() {
+        return campaignMapper.toResponse(campaign);
+    }
+
+    @Benchmark
+    public CampaignListResponse campaignToListResponse() {
+        return campaignMapper.toListResponse(campaign);
+    }
+
+    @Benchmark
+    public CampaignDetailResponse campaignToDetailResponse() {
+        return campaignMapper.toDetailResponse(campaign);
+    }
+
+    @Benchmark
+    public List<CampaignResponse> campaignListPage() {
+        List<CampaignResponse> page = new ArrayList<>(campaignPage.size());
+        for (Campaign item : campaignPage) {
+            page.add(campaignMapper.toResponse(item));
+        }
+        return page;
+    }
+
+    @Benchmark
+    public OrganizationResponse organizationToResponse() {
+        return organizationMapper.toResponse(organization);
+    }
+
+    @Benchmark
+    public OrganizationListResponse organizationToListResponse() {
+        return organizationMapper.toListResponse(organization);
+    }
+
+    @Benchmark
+    public OrganizationDetailResponse organizationToDetailResponse() {
+        return organizationMapper.toDetailResponse(organization);
+    }
+
+    private static Organization newOrganization() {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setEmail("vakif@example.com");
+
+        Organization organization = new Organization();
+        organization.setId(UUID.randomUUID());
+        organization.setUser(user);
+        organization.setOrganizationType(OrganizationType.FOUNDATION);
+        organization.setLegalName("Anadolu Eğitim ve Dayanışma Vakfı");
+        organization.setTradeName("Anadolu Vakfı");
+        organization.setTaxNumber("1234567890");
+        organization.setDescription("Kırsal bölgelerdeki okullara eğitim materyali ve burs desteği sağlar.");
+        organization.setLogoUrl("https://cdn.example.com/logos/anadolu.png");
+        organization.setVerificationStatus(VerificationStatus.APPROVED);
+        organization.setFeatured(Boolean.TRUE);
+        ReflectionTestUtils.setField(organization, "createdAt", OffsetDateTime.now().minusYears(2));
+        ReflectionTestUtils.setField(organization, "updatedAt", OffsetDateTime.now().minusDays(3));
+        return organization;
+    }
+
+    private static Campaign newCampaign(Organization organization, int index) {
+        Campaign campaign = new Campaign();
+        campaign.setId(UUID.randomUUID());
+        campaign.setOrganization(organization);
+        campaign.setTitle("Köy Okullarına Kışlık Yardım " + index);
+        campaign.setSlug("koy-okullarina-kislik-yardim-" + index);
+        campaign.setSummary("Doğu Anadolu'daki 40 köy okuluna mont, bot ve ısıtıcı gönderiyoruz.");
+        campaign.setDescription("Kampanya kapsamında toplanan bağışlar ile öğrencilere kışlık giysi alınacaktır.");
+        campaign.setCoverImageUrl("https://cdn.example.com/campaigns/" + index + ".jpg");
+        campaign.setTargetAmount(new BigDecimal("250000.00"));
+        campaign.setCollectedAmount(new BigDecimal("87350.50"));
+        campaign.setDonorCount(1240 + index);
+        campaign.setStatus(CampaignStatus.ACTIVE);
+        campaign.setStartDate(LocalDateTime.now().minusDays(20));
+        campaign.setEndDate(LocalDateTime.now().plusDays(40));
+        campaign.setLocationCity("Van");
+        campaign.setBeneficiaryCount(3200);
+        ReflectionTestUtils.setField(campaign, "createdAt", OffsetDateTime.now().minusDays(21));
+
+        List<CampaignCategory> categories = new ArrayList<>(2);
+        for (String name : new String[] {"Eğitim", "Acil Yardım"}) {
+            Category category = new Category();
+            category.setId(UUID.randomUUID());
+            category.setName(name);
+            category.setSlug(name.toLowerCase());
+            category.setActive(Boolean.TRUE);
+            CampaignCategory link = new CampaignCategory();
+            link.setCampaign(campaign);
+            link.setCategory(category);
+            categories.add(link);
+        }
+        campaign.setCategories(categories);
+        return campaign;
+    }
+}
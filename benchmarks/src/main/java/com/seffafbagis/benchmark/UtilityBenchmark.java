@@ -0,0 +1,62 @@
+package com.seffafbagis.benchmark;
+
+import com.seffafbagis.api.util.ReferenceCodeGenerator;
+import com.seffafbagis.api.util.SlugGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reference code and slug generation. Reference codes are created for every
+ * donation and bank transfer, slugs for every campaign and organization write.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UtilityBenchmark {
+
+    private String campaignTitle = "Deprem Bölgesindeki Çocuklar İçin Kışlık Giysi ve Isıtıcı Yardımı";
+    private String longTitle = "Şırnak, Hakkâri ve Van'daki Köy Okullarına Kütüphane, Bilgisayar Laboratuvarı "
+            + "ve Öğretmen Lojmanı Kurulması İçin Üç Yıllık Eğitim Destek Kampanyası — 2024/2025 Dönemi";
+
+    @Benchmark
+    public String referenceCodeGenerate() {
+        return ReferenceCodeGenerator.generate();
+    }
+
+    /**
+     * Same call from 8 threads: the generator shares a single SecureRandom.
+     */
+    @Benchmark
+    @Threads(8)
+    public String referenceCodeGenerateContended() {
+        return ReferenceCodeGenerator.generate();
+    }
+
+    @Benchmark
+    public String generateSlug() {
+        return SlugGenerator.generateSlug(campaignTitle);
+    }
+
+    @Benchmark
+    public String generateSlugTruncated() {
+        return SlugGenerator.generateSlug(longTitle);
+    }
+
+    @Benchmark
+    public String toAscii() {
+        return SlugGenerator.toAscii(campaignTitle);
+    }
+}
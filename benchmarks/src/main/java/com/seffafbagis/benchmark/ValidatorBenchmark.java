@@ -0,0 +1,77 @@
+package com.seffafbagis.benchmark;
+
+import com.seffafbagis.api.validator.IbanValidator;
+import com.seffafbagis.api.validator.PasswordValidator;
+import com.seffafbagis.api.validator.PhoneValidator;
+import com.seffafbagis.api.validator.TcKimlikValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request validators run on registration, profile and bank account updates.
+ * Inputs are the shapes users actually submit (spaces in IBANs, national
+ * phone format), so normalization is part of the measured work.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+
+    private String iban = "TR33 0006 1005 1978 6457 8413 26";
+    private String tcKimlik = "10000000146";
+    private String invalidTcKimlik = "10000000147";
+    private String phone = "0532 123 45 67";
+    private String password = "Str0ng!Passw0rd";
+
+    @Benchmark
+    public IbanValidator.ValidationResult ibanValidate() {
+        return new IbanValidator(iban).validate();
+    }
+
+    @Benchmark
+    public String ibanFormat() {
+        return new IbanValidator(iban).format();
+    }
+
+    @Benchmark
+    public TcKimlikValidator.ValidationResult tcKimlikValidate() {
+        return new TcKimlikValidator(tcKimlik).validate();
+    }
+
+    @Benchmark
+    public TcKimlikValidator.ValidationResult tcKimlikValidateInvalidChecksum() {
+        return new TcKimlikValidator(invalidTcKimlik).validate();
+    }
+
+    @Benchmark
+    public PhoneValidator.ValidationResult phoneValidate() {
+        return new PhoneValidator(phone).validate();
+    }
+
+    @Benchmark
+    public String phoneNormalize() {
+        return new PhoneValidator(phone).normalize();
+    }
+
+    @Benchmark
+    public PasswordValidator.ValidationResult passwordValidate() {
+        return new PasswordValidator(password).validate();
+    }
+
+    @Benchmark
+    public PasswordValidator.PasswordStrength passwordStrength() {
+        return new PasswordValidator(password).getStrength();
+    }
+}